@@ -13,6 +13,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -72,6 +73,12 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
      */
     private final CopyOnWriteArrayList<MetricExecutionListener> listeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * Receives the result of the rich evaluation being started on the current thread; taken by
+     * the first notifier the scoring creates.
+     */
+    private final ThreadLocal<AtomicReference<MetricEvaluationResult>> startingEvaluation = new ThreadLocal<>();
+
     // ============ Listener Management ============
 
     /**
@@ -139,9 +146,9 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
     /**
      * Evaluates a single-turn sample and returns a rich result with score, explanation, and metadata.
      * <p>
-     * Uses a capturing listener to intercept the {@link MetricEvaluationResult} that the metric
-     * internally builds and passes to listeners during {@link #singleTurnScore}. The captured
-     * result is then enriched with a {@link ScoreExplanation}.
+     * The {@link EvaluationNotifier} created by {@link #singleTurnScore} hands over the
+     * {@link MetricEvaluationResult} it passes to the listeners. The captured result is then
+     * enriched with a {@link ScoreExplanation}.
      *
      * @param metricConfiguration the metric configuration
      * @param sample the sample to evaluate
@@ -150,24 +157,11 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
     @Override
     public EvaluationResult singleTurnEvaluate(final T metricConfiguration, final Sample sample) {
         final AtomicReference<MetricEvaluationResult> capturedResult = new AtomicReference<>();
-
-        final MetricExecutionListener capturingListener = new MetricExecutionListener() {
-            @Override
-            public void afterMetricEvaluation(final MetricEvaluationResult result) {
-                capturedResult.set(result);
-            }
-
-            @Override
-            public int getOrder() {
-                return Integer.MIN_VALUE;
-            }
-        };
-
-        addListener(capturingListener);
+        startingEvaluation.set(capturedResult);
         try {
             singleTurnScore(metricConfiguration, sample);
         } finally {
-            removeListener(capturingListener);
+            startingEvaluation.remove();
         }
 
         return buildEvaluationResult(capturedResult.get(), metricConfiguration);
@@ -176,7 +170,9 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
     /**
      * Evaluates a single-turn sample asynchronously and returns a rich result.
      * <p>
-     * Delegates to {@link #singleTurnEvaluate} wrapped in a {@link CompletableFuture}.
+     * Composes on {@link #singleTurnScoreAsync} instead of blocking a thread on
+     * {@link #singleTurnEvaluate}, so many evaluations of the same metric can be in flight
+     * at once (see {@link ai.qa.solutions.metric.batch.BatchEvaluator}).
      *
      * @param metricConfiguration the metric configuration
      * @param sample the sample to evaluate
@@ -185,7 +181,39 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
     @Override
     public CompletableFuture<EvaluationResult> singleTurnEvaluateAsync(
             final T metricConfiguration, final Sample sample) {
-        return CompletableFuture.supplyAsync(() -> singleTurnEvaluate(metricConfiguration, sample));
+        return evaluateAsync(metricConfiguration, sample, () -> singleTurnScoreAsync(metricConfiguration, sample));
+    }
+
+    /**
+     * Runs one scoring of the sample and returns its rich result.
+     * <p>
+     * Lets subclasses offer rich evaluation over other scoring entry points, e.g. one whose
+     * model calls join a call graph.
+     * <p>
+     * The result is handed over by the {@link EvaluationNotifier} that the scoring creates
+     * while it starts, so concurrent evaluations of the same metric never see each other's
+     * results and cost nothing per evaluation in flight. A scoring that creates its notifier
+     * later, on another thread, yields a result with the metric name only.
+     *
+     * @param metricConfiguration the metric configuration the scoring is started with
+     * @param sample              the sample the scoring is started with
+     * @param scoring             starts the scoring
+     * @return a CompletableFuture containing the rich evaluation result
+     */
+    protected CompletableFuture<EvaluationResult> evaluateAsync(
+            final T metricConfiguration, final Sample sample, final Supplier<CompletableFuture<Double>> scoring) {
+        final AtomicReference<MetricEvaluationResult> capturedResult = new AtomicReference<>();
+        final CompletableFuture<Double> scoreFuture;
+        startingEvaluation.set(capturedResult);
+        try {
+            scoreFuture = scoring.get();
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            startingEvaluation.remove();
+        }
+
+        return scoreFuture.thenApply(score -> buildEvaluationResult(capturedResult.get(), metricConfiguration));
     }
 
     /**
@@ -231,6 +259,9 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
      * {@link MetricExecutionListener#forEvaluation()} on each registered listener.
      * This ensures thread-safety when the same metric is evaluated concurrently.
      * <p>
+     * When called while a rich evaluation of this metric starts on the current thread, the
+     * notifier also hands the result it passes to the listeners over to that evaluation.
+     * <p>
      * Usage in metric implementations:
      * <pre>{@code
      * EvaluationNotifier notifier = createEvaluationNotifier();
@@ -246,7 +277,9 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
                 .map(MetricExecutionListener::forEvaluation)
                 .sorted(Comparator.comparingInt(MetricExecutionListener::getOrder))
                 .toList();
-        return new EvaluationNotifier(evaluationListeners);
+        final AtomicReference<MetricEvaluationResult> evaluationResult = startingEvaluation.get();
+        startingEvaluation.remove();
+        return new EvaluationNotifier(evaluationListeners, evaluationResult);
     }
 
     /**
@@ -265,9 +298,13 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
     protected class EvaluationNotifier {
 
         private final List<MetricExecutionListener> evaluationListeners;
+        private final AtomicReference<MetricEvaluationResult> evaluationResult;
 
-        private EvaluationNotifier(final List<MetricExecutionListener> evaluationListeners) {
+        private EvaluationNotifier(
+                final List<MetricExecutionListener> evaluationListeners,
+                final AtomicReference<MetricEvaluationResult> evaluationResult) {
             this.evaluationListeners = evaluationListeners;
+            this.evaluationResult = evaluationResult;
         }
 
         /**
@@ -296,6 +333,9 @@ public abstract class AbstractMetric<T extends Metric.MetricConfiguration> imple
          * @param result the complete evaluation result with all execution metadata
          */
         public void afterMetricEvaluation(final MetricEvaluationResult result) {
+            if (evaluationResult != null) {
+                evaluationResult.set(result);
+            }
             for (final MetricExecutionListener listener : evaluationListeners) {
                 try {
                     listener.afterMetricEvaluation(result);
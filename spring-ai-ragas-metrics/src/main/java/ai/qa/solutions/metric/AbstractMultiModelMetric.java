@@ -1,10 +1,17 @@
 package ai.qa.solutions.metric;
 
+import ai.qa.solutions.execution.CallGraph;
+import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.ScoreAggregator;
+import ai.qa.solutions.sample.Sample;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,7 +31,7 @@ import lombok.extern.slf4j.Slf4j;
  *
  *     @Override
  *     public CompletableFuture<Double> singleTurnScoreAsync(
- *             FaithfulnessConfig config, Sample sample) {
+ *             FaithfulnessConfig config, Sample sample, MultiModelExecutor evaluationExecutor) {
  *
  *         // Create thread-safe notifier for this evaluation
  *         EvaluationNotifier notifier = createEvaluationNotifier();
@@ -37,7 +44,7 @@ import lombok.extern.slf4j.Slf4j;
  *
  *         // Execute LLM calls via executor
  *         List<ModelResult<StatementsResponse>> results =
- *             executor.executeLlm(modelIds, prompt, StatementsResponse.class);
+ *             evaluationExecutor.executeLlm(modelIds, prompt, StatementsResponse.class);
  *
  *         // Aggregate
  *         double score = aggregate(modelScores);
@@ -93,6 +100,137 @@ public abstract class AbstractMultiModelMetric<T extends Metric.MetricConfigurat
         this.defaultAggregator = Objects.requireNonNull(defaultAggregator, "defaultAggregator");
     }
 
+    // ============ Evaluation Deadline ============
+
+    /**
+     * Gets the executor for one evaluation of this metric.
+     * <p>
+     * Starts the metric's evaluation deadline, so it must be called once per evaluation and the
+     * returned executor used for all of its steps. A step started late then only gets the
+     * remaining budget.
+     *
+     * @return executor bound to this evaluation's deadline
+     * @see MultiModelExecutor#forMetric(String)
+     */
+    protected MultiModelExecutor executorForEvaluation() {
+        return executor.forMetric(getName());
+    }
+
+    /**
+     * Evaluates a single-turn sample asynchronously on a fresh evaluation executor.
+     * <p>
+     * Metrics override either this method or
+     * {@link #singleTurnScoreAsync(Metric.MetricConfiguration, Sample, MultiModelExecutor)}; each
+     * one delegates to the other by default.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample              the sample to evaluate
+     * @return a CompletableFuture containing the evaluation score
+     * @see #executorForEvaluation()
+     */
+    @Override
+    public CompletableFuture<Double> singleTurnScoreAsync(final T metricConfiguration, final Sample sample) {
+        return singleTurnScoreAsync(metricConfiguration, sample, executorForEvaluation());
+    }
+
+    /**
+     * Evaluates a single-turn sample asynchronously, sending all model calls through the given executor.
+     * <p>
+     * The executor belongs to the evaluation and is passed down explicitly rather than looked up,
+     * so it holds on whichever thread a step runs. A composite metric passes its own evaluation
+     * executor to the metrics it is built from: their calls then count against its deadline and
+     * join its call graph.
+     * <p>
+     * Delegates to {@link #singleTurnScoreAsync(Metric.MetricConfiguration, Sample)} by default, so
+     * metrics overriding only that method keep working; their calls then go through their own
+     * executor rather than the given one.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample              the sample to evaluate
+     * @param evaluationExecutor  the executor of this evaluation
+     * @return a CompletableFuture containing the evaluation score
+     */
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final T metricConfiguration, final Sample sample, final MultiModelExecutor evaluationExecutor) {
+        return singleTurnScoreAsync(metricConfiguration, sample);
+    }
+
+    /**
+     * Evaluates a single-turn sample asynchronously as part of a call graph.
+     * <p>
+     * Every LLM and embedding call of the evaluation, including those of nested metrics, becomes
+     * a node of the graph, so identical calls of all evaluations sharing the graph are sent once.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample              the sample to evaluate
+     * @param callGraph           the call graph to add calls to
+     * @return a CompletableFuture containing the rich evaluation result
+     * @see MultiModelExecutor#withCallGraph(CallGraph)
+     */
+    public CompletableFuture<EvaluationResult> singleTurnEvaluateAsync(
+            final T metricConfiguration, final Sample sample, final CallGraph callGraph) {
+        Objects.requireNonNull(callGraph, "callGraph");
+        return evaluateAsync(
+                metricConfiguration,
+                sample,
+                () -> singleTurnScoreAsync(
+                        metricConfiguration, sample, executorForEvaluation().withCallGraph(callGraph)));
+    }
+
+    // ============ Self-Consistency Sampling ============
+
+    /**
+     * Executes up to {@code iterations} identical LLM calls on one model, sent in waves.
+     * <p>
+     * Each call is a separate sample (see {@link MultiModelExecutor#executeLlmSampleOnModelAsync}),
+     * so identical calls are never merged into one request.
+     * <p>
+     * Before each wave, {@code nextWave} receives the results so far and returns the number of
+     * calls to send in parallel next; 0 stops early, e.g. once a vote can no longer change.
+     * Returning {@code iterations} for the empty result list sends all calls at once.
+     *
+     * @param evaluationExecutor the executor of this evaluation
+     * @param modelId            the model ID to execute on
+     * @param prompt             the prompt to send
+     * @param responseType       the expected response type
+     * @param iterations         maximum number of calls
+     * @param nextWave           size of the next wave given the results so far
+     * @param <R>                the response type
+     * @return future with the results of all calls sent, in the order they were sent
+     */
+    protected <R> CompletableFuture<List<ModelResult<R>>> executeInWavesAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int iterations,
+            final ToIntFunction<List<ModelResult<R>>> nextWave) {
+        return nextWaveAsync(evaluationExecutor, modelId, prompt, responseType, iterations, nextWave, List.of());
+    }
+
+    private <R> CompletableFuture<List<ModelResult<R>>> nextWaveAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int iterations,
+            final ToIntFunction<List<ModelResult<R>>> nextWave,
+            final List<ModelResult<R>> results) {
+        final int waveSize = Math.min(iterations - results.size(), nextWave.applyAsInt(results));
+        if (waveSize <= 0) {
+            return CompletableFuture.completedFuture(results);
+        }
+        final List<CompletableFuture<ModelResult<R>>> wave = IntStream.range(0, waveSize)
+                .mapToObj(i -> evaluationExecutor.executeLlmSampleOnModelAsync(
+                        modelId, prompt, responseType, results.size() + i))
+                .toList();
+        return CompletableFuture.allOf(wave.toArray(new CompletableFuture[0])).thenCompose(ignored -> {
+            final List<ModelResult<R>> next = new ArrayList<>(results);
+            wave.forEach(future -> next.add(future.join()));
+            return nextWaveAsync(evaluationExecutor, modelId, prompt, responseType, iterations, nextWave, next);
+        });
+    }
+
     // ============ Aggregation Helpers ============
 
     /**
@@ -106,6 +106,51 @@ public abstract class AbstractMultiTurnMetric<T extends Metric.MetricConfigurati
         return multiTurnScoreAsync(metricConfiguration, sample);
     }
 
+    /**
+     * Delegates single-turn async evaluation on the given executor to multi-turn.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample the sample to evaluate
+     * @param evaluationExecutor the executor of this evaluation
+     * @return a CompletableFuture containing the evaluation score from multiTurnScoreAsync
+     */
+    @Override
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final T metricConfiguration, final Sample sample, final MultiModelExecutor evaluationExecutor) {
+        return multiTurnScoreAsync(metricConfiguration, sample, evaluationExecutor);
+    }
+
+    /**
+     * Evaluates a multi-turn sample asynchronously on a fresh evaluation executor.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample the sample to evaluate (must contain userInputMessages)
+     * @return a CompletableFuture containing the evaluation score
+     * @see #executorForEvaluation()
+     */
+    @Override
+    public CompletableFuture<Double> multiTurnScoreAsync(final T metricConfiguration, final Sample sample) {
+        return multiTurnScoreAsync(metricConfiguration, sample, executorForEvaluation());
+    }
+
+    /**
+     * Evaluates a multi-turn sample asynchronously, sending all model calls through the given executor.
+     * <p>
+     * By default runs {@link #multiTurnScore} asynchronously, as {@link Metric#multiTurnScoreAsync}
+     * does, so metrics implementing only the synchronous method keep working. Metrics that make
+     * their model calls asynchronously override this method.
+     *
+     * @param metricConfiguration the metric configuration
+     * @param sample the sample to evaluate (must contain userInputMessages)
+     * @param evaluationExecutor the executor of this evaluation
+     * @return a CompletableFuture containing the evaluation score
+     * @see #singleTurnScoreAsync(Metric.MetricConfiguration, Sample, MultiModelExecutor)
+     */
+    public CompletableFuture<Double> multiTurnScoreAsync(
+            final T metricConfiguration, final Sample sample, final MultiModelExecutor evaluationExecutor) {
+        return CompletableFuture.supplyAsync(() -> multiTurnScore(metricConfiguration, sample));
+    }
+
     // ==================== Multi-turn rich evaluation ====================
 
     /**
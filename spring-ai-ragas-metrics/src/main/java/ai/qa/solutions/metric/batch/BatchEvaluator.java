@@ -0,0 +1,212 @@
+package ai.qa.solutions.metric.batch;
+
+import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.metric.EvaluationResult;
+import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dataset-scale evaluation engine that runs a set of metrics over a stream of samples.
+ * <p>
+ * Every (sample, metric) pair becomes one asynchronous evaluation. Each evaluation fans out
+ * over its judge models through the metric's {@link MultiModelExecutor}, so the provider
+ * rate limiters, not this loop, decide the actual request rate. The engine only bounds the
+ * number of evaluations in flight:
+ * <ul>
+ *   <li>Samples are pulled from the input lazily, only when an in-flight slot is free</li>
+ *   <li>Results are handed to the consumer as soon as they complete and are never retained</li>
+ *   <li>Memory therefore stays flat regardless of the dataset size</li>
+ * </ul>
+ * <p>
+ * The consumer is invoked from the threads completing the evaluations, one call at a time,
+ * so it does not need to be thread-safe (e.g. it can append to a file directly).
+ * A failing evaluation or a throwing consumer does not abort the batch.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * BatchEvaluator evaluator = BatchEvaluator.builder()
+ *     .metric(MetricBinding.of(faithfulnessMetric, FaithfulnessConfig.builder().build()))
+ *     .metric(MetricBinding.of(contextRecallMetric, ContextRecallConfig.builder().build()))
+ *     .maxInFlight(64)
+ *     .build();
+ *
+ * BatchSummary summary = evaluator.evaluate(samples.iterator(), item -> {
+ *     if (item.isSuccess()) {
+ *         writer.write(item.sampleIndex(), item.metricName(), item.result().getScore());
+ *     }
+ * });
+ * log.info("Evaluated {} samples, {} failures", summary.samples(), summary.failed());
+ * }</pre>
+ *
+ * @see MetricBinding
+ * @see BatchItemResult
+ * @see BatchSummary
+ */
+@Slf4j
+public class BatchEvaluator {
+
+    /**
+     * Default maximum number of (sample, metric) evaluations in flight.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    private final List<MetricBinding<?>> metrics;
+    private final int maxInFlight;
+
+    /**
+     * Creates a new batch evaluator.
+     *
+     * @param metrics     metrics evaluated on every sample (must not be empty)
+     * @param maxInFlight maximum number of evaluations in flight, defaults to {@link #DEFAULT_MAX_IN_FLIGHT}
+     */
+    @Builder
+    protected BatchEvaluator(@Singular final List<MetricBinding<?>> metrics, final Integer maxInFlight) {
+        if (metrics == null || metrics.isEmpty()) {
+            throw new IllegalArgumentException("At least one metric must be configured");
+        }
+        this.metrics = List.copyOf(metrics);
+        this.maxInFlight = maxInFlight != null ? maxInFlight : DEFAULT_MAX_IN_FLIGHT;
+        if (this.maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive, got: " + this.maxInFlight);
+        }
+    }
+
+    /**
+     * Evaluates all configured metrics on every sample of the list.
+     *
+     * @param samples        the samples to evaluate
+     * @param resultConsumer receives each result as soon as it completes
+     * @return counters of the completed batch
+     */
+    public BatchSummary evaluate(final List<Sample> samples, final Consumer<BatchItemResult> resultConsumer) {
+        return evaluate(samples.iterator(), resultConsumer);
+    }
+
+    /**
+     * Evaluates all configured metrics on every sample produced by the iterator.
+     * <p>
+     * Blocks the calling thread until all evaluations have completed. The iterator is
+     * consumed lazily, so it may stream samples from a file or a database cursor.
+     *
+     * @param samples        the samples to evaluate
+     * @param resultConsumer receives each result as soon as it completes
+     * @return counters of the completed batch
+     * @throws IllegalStateException if the calling thread is interrupted while waiting
+     */
+    public BatchSummary evaluate(final Iterator<Sample> samples, final Consumer<BatchItemResult> resultConsumer) {
+        Objects.requireNonNull(samples, "samples");
+        Objects.requireNonNull(resultConsumer, "resultConsumer");
+
+        final Instant startTime = Instant.now();
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final Object consumerLock = new Object();
+        final AtomicLong succeeded = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        long sampleCount = 0;
+        long submitted = 0;
+
+        try {
+            while (samples.hasNext()) {
+                final Sample sample = samples.next();
+                final long sampleIndex = sampleCount++;
+                for (final MetricBinding<?> binding : metrics) {
+                    inFlight.acquire();
+                    submitted++;
+                    final Instant submittedAt = Instant.now();
+                    startEvaluation(binding, sample).whenComplete((result, error) -> {
+                        try {
+                            final Duration duration = Duration.between(submittedAt, Instant.now());
+                            final BatchItemResult item;
+                            if (error == null) {
+                                succeeded.incrementAndGet();
+                                item = BatchItemResult.success(
+                                        sampleIndex, sample, binding.metricName(), result, duration);
+                            } else {
+                                failed.incrementAndGet();
+                                final Throwable cause = unwrap(error);
+                                log.warn(
+                                        "Metric {} failed on sample #{}: {}",
+                                        binding.metricName(),
+                                        sampleIndex,
+                                        cause.getMessage());
+                                item = BatchItemResult.failure(
+                                        sampleIndex, sample, binding.metricName(), duration, cause);
+                            }
+                            synchronized (consumerLock) {
+                                resultConsumer.accept(item);
+                            }
+                        } catch (final Exception e) {
+                            log.error(
+                                    "Batch result consumer failed for metric {} on sample #{}: {}",
+                                    binding.metricName(),
+                                    sampleIndex,
+                                    e.getMessage(),
+                                    e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+            // Wait for the tail of the batch: all permits are back once every evaluation completed
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch evaluation interrupted after " + submitted + " evaluations", e);
+        }
+
+        final BatchSummary summary = new BatchSummary(
+                sampleCount, submitted, succeeded.get(), failed.get(), Duration.between(startTime, Instant.now()));
+        log.info(
+                "Batch evaluation completed: {} samples, {} evaluations ({} succeeded, {} failed) in {} ms",
+                summary.samples(),
+                summary.submitted(),
+                summary.succeeded(),
+                summary.failed(),
+                summary.duration().toMillis());
+        return summary;
+    }
+
+    /**
+     * Gets the metrics evaluated on every sample.
+     *
+     * @return immutable list of metric bindings
+     */
+    public List<MetricBinding<?>> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the maximum number of evaluations in flight.
+     *
+     * @return the in-flight limit
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    private CompletableFuture<EvaluationResult> startEvaluation(final MetricBinding<?> binding, final Sample sample) {
+        try {
+            return binding.evaluateAsync(sample);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
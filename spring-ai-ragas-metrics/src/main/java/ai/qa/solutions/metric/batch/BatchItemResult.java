@@ -0,0 +1,85 @@
+package ai.qa.solutions.metric.batch;
+
+import ai.qa.solutions.metric.EvaluationResult;
+import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+
+/**
+ * Result of evaluating one metric on one sample within a batch.
+ * <p>
+ * Delivered to the batch consumer as soon as the evaluation completes, in completion order
+ * rather than submission order. Use {@link #sampleIndex()} to correlate results with the
+ * position of the sample in the input.
+ *
+ * @param sampleIndex zero-based position of the sample in the input
+ * @param sample      the evaluated sample
+ * @param metricName  the name of the evaluated metric
+ * @param result      the evaluation result, null if the evaluation failed
+ * @param duration    wall-clock time from submission to completion
+ * @param error       the error that occurred, null if successful
+ * @see BatchEvaluator
+ */
+public record BatchItemResult(
+        long sampleIndex,
+        Sample sample,
+        String metricName,
+        EvaluationResult result,
+        Duration duration,
+        Throwable error) {
+
+    /**
+     * Checks if this evaluation was successful.
+     *
+     * @return true if no error occurred and result is available
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Checks if this evaluation failed.
+     *
+     * @return true if an error occurred
+     */
+    public boolean isFailure() {
+        return error != null;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param sampleIndex zero-based position of the sample in the input
+     * @param sample      the evaluated sample
+     * @param metricName  the name of the evaluated metric
+     * @param result      the evaluation result
+     * @param duration    wall-clock time from submission to completion
+     * @return a successful BatchItemResult
+     */
+    public static BatchItemResult success(
+            final long sampleIndex,
+            final Sample sample,
+            final String metricName,
+            final EvaluationResult result,
+            final Duration duration) {
+        return new BatchItemResult(sampleIndex, sample, metricName, result, duration, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param sampleIndex zero-based position of the sample in the input
+     * @param sample      the evaluated sample
+     * @param metricName  the name of the evaluated metric
+     * @param duration    wall-clock time from submission to completion
+     * @param error       the error that occurred
+     * @return a failed BatchItemResult
+     */
+    public static BatchItemResult failure(
+            final long sampleIndex,
+            final Sample sample,
+            final String metricName,
+            final Duration duration,
+            final Throwable error) {
+        return new BatchItemResult(sampleIndex, sample, metricName, null, duration, error);
+    }
+}
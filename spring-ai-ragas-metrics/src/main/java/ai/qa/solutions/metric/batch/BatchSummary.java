@@ -0,0 +1,18 @@
+package ai.qa.solutions.metric.batch;
+
+import java.time.Duration;
+
+/**
+ * Counters describing a completed batch evaluation.
+ * <p>
+ * Individual results are streamed to the batch consumer and never retained,
+ * so the summary only carries totals.
+ *
+ * @param samples   number of samples read from the input
+ * @param submitted number of (sample, metric) evaluations started
+ * @param succeeded number of evaluations that completed successfully
+ * @param failed    number of evaluations that completed with an error
+ * @param duration  wall-clock time of the whole batch
+ * @see BatchEvaluator
+ */
+public record BatchSummary(long samples, long submitted, long succeeded, long failed, Duration duration) {}
@@ -0,0 +1,31 @@
+package ai.qa.solutions.metric.batch;
+
+import ai.qa.solutions.execution.CallGraph;
+import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Results of evaluating a metric suite on one sample through an {@link EvaluationPlanner}.
+ * <p>
+ * Results are listed in the order of the planner's metrics, with {@code sampleIndex} 0.
+ * The call counts show how many model calls the metrics requested and how many were
+ * actually sent once identical calls were merged.
+ *
+ * @param sample   the evaluated sample
+ * @param results  one result per configured metric, in configuration order
+ * @param calls    planned and executed LLM calls and embeddings
+ * @param duration wall-clock time of the whole suite
+ * @see EvaluationPlanner
+ */
+public record EvaluationPlan(Sample sample, List<BatchItemResult> results, CallGraph.Counts calls, Duration duration) {
+
+    /**
+     * Gets the number of evaluations that completed with an error.
+     *
+     * @return failed evaluation count
+     */
+    public long failed() {
+        return results.stream().filter(BatchItemResult::isFailure).count();
+    }
+}
@@ -0,0 +1,144 @@
+package ai.qa.solutions.metric.batch;
+
+import ai.qa.solutions.execution.CallGraph;
+import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.metric.EvaluationResult;
+import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evaluates a metric suite on one sample as a single graph of model calls.
+ * <p>
+ * Metrics evaluated separately often send the same call: the same metric configured twice
+ * (e.g. AspectCritic for safety and for helpfulness with the same definition), a step shared
+ * by several metrics, or the same text embedded for several metrics. The planner starts all
+ * metrics of the suite together and routes their calls through one {@link CallGraph}:
+ * <ul>
+ *   <li>Each LLM call (model, prompt, response type) and each embedded text (model, text) is a node</li>
+ *   <li>Identical nodes are merged, so the call is sent once and its result handed to every metric;
+ *       the repeated calls of a self-consistency vote are separate samples and stay separate nodes</li>
+ *   <li>Calls of metrics nested in a composite metric (e.g. AnswerCorrectness) join the graph too</li>
+ *   <li>A node is sent as soon as the step requesting it is ready; nodes of different metrics
+ *       run concurrently through the {@link MultiModelExecutor}, with its rate limits and caches</li>
+ *   <li>Score computation between calls stays inside the metrics</li>
+ * </ul>
+ * The graph is discovered while the metrics run rather than rendered upfront, since later
+ * prompts depend on earlier responses. Metrics without model calls simply run alongside.
+ * Like {@link BatchEvaluator}, a failing metric does not fail the others.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * EvaluationPlanner planner = EvaluationPlanner.builder()
+ *     .metric(MetricBinding.of(aspectCritic, safetyConfig))
+ *     .metric(MetricBinding.of(aspectCritic, helpfulnessConfig))
+ *     .metric(MetricBinding.of(responseRelevancy, ResponseRelevancyConfig.builder().build()))
+ *     .build();
+ *
+ * EvaluationPlan plan = planner.evaluate(sample);
+ * log.info("Sent {} of {} planned calls", plan.calls().executed(), plan.calls().planned());
+ * }</pre>
+ *
+ * @see EvaluationPlan
+ * @see CallGraph
+ */
+@Slf4j
+public class EvaluationPlanner {
+
+    private final List<MetricBinding<?>> metrics;
+
+    /**
+     * Creates a new evaluation planner.
+     *
+     * @param metrics metrics evaluated on every sample (must not be empty)
+     */
+    @Builder
+    protected EvaluationPlanner(@Singular final List<MetricBinding<?>> metrics) {
+        if (metrics == null || metrics.isEmpty()) {
+            throw new IllegalArgumentException("At least one metric must be configured");
+        }
+        this.metrics = List.copyOf(metrics);
+    }
+
+    /**
+     * Evaluates all configured metrics on the sample, blocking until all have completed.
+     *
+     * @param sample the sample to evaluate
+     * @return results and call counts of the suite
+     */
+    public EvaluationPlan evaluate(final Sample sample) {
+        return evaluateAsync(sample).join();
+    }
+
+    /**
+     * Evaluates all configured metrics on the sample.
+     * <p>
+     * All metrics are started before this method returns; the returned future completes once
+     * every metric has completed.
+     *
+     * @param sample the sample to evaluate
+     * @return future with results and call counts of the suite
+     */
+    public CompletableFuture<EvaluationPlan> evaluateAsync(final Sample sample) {
+        Objects.requireNonNull(sample, "sample");
+        final Instant startTime = Instant.now();
+        final CallGraph callGraph = new CallGraph();
+        final List<CompletableFuture<BatchItemResult>> items = metrics.stream()
+                .map(binding -> startEvaluation(binding, sample, callGraph, startTime))
+                .toList();
+        return CompletableFuture.allOf(items.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            final EvaluationPlan plan = new EvaluationPlan(
+                    sample,
+                    items.stream().map(CompletableFuture::join).toList(),
+                    callGraph.getCounts(),
+                    Duration.between(startTime, Instant.now()));
+            log.debug(
+                    "Evaluated {} metrics ({} failed): {} of {} planned calls sent in {} ms",
+                    plan.results().size(),
+                    plan.failed(),
+                    plan.calls().executed(),
+                    plan.calls().planned(),
+                    plan.duration().toMillis());
+            return plan;
+        });
+    }
+
+    /**
+     * Gets the metrics evaluated on every sample.
+     *
+     * @return immutable list of metric bindings
+     */
+    public List<MetricBinding<?>> getMetrics() {
+        return metrics;
+    }
+
+    private static CompletableFuture<BatchItemResult> startEvaluation(
+            final MetricBinding<?> binding, final Sample sample, final CallGraph callGraph, final Instant startTime) {
+        CompletableFuture<EvaluationResult> evaluation;
+        try {
+            evaluation = binding.evaluateAsync(sample, callGraph);
+        } catch (final RuntimeException e) {
+            evaluation = CompletableFuture.failedFuture(e);
+        }
+        return evaluation.handle((result, error) -> {
+            final Duration duration = Duration.between(startTime, Instant.now());
+            if (error == null) {
+                return BatchItemResult.success(0, sample, binding.metricName(), result, duration);
+            }
+            final Throwable cause = unwrap(error);
+            log.warn("Metric {} failed: {}", binding.metricName(), cause.getMessage());
+            return BatchItemResult.failure(0, sample, binding.metricName(), duration, cause);
+        });
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
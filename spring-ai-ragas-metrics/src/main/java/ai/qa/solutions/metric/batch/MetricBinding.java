@@ -0,0 +1,95 @@
+package ai.qa.solutions.metric.batch;
+
+import ai.qa.solutions.execution.CallGraph;
+import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.metric.AbstractMultiModelMetric;
+import ai.qa.solutions.metric.EvaluationResult;
+import ai.qa.solutions.metric.Metric;
+import ai.qa.solutions.sample.Sample;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A metric paired with the configuration it should be evaluated with in a batch.
+ * <p>
+ * The generic parameter ties the configuration type to the metric, so a batch can hold
+ * differently configured metrics side by side without unchecked casts.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * MetricBinding<FaithfulnessConfig> faithfulness = MetricBinding.of(
+ *     faithfulnessMetric, FaithfulnessConfig.builder().build());
+ * }</pre>
+ *
+ * @param metric the metric to evaluate
+ * @param config the configuration passed to every evaluation of the metric
+ * @param <T>    the configuration type of the metric
+ * @see BatchEvaluator
+ */
+public record MetricBinding<T extends Metric.MetricConfiguration>(Metric<T> metric, T config) {
+
+    /**
+     * Compact constructor with validation.
+     */
+    public MetricBinding {
+        Objects.requireNonNull(metric, "metric must not be null");
+        Objects.requireNonNull(config, "config must not be null");
+    }
+
+    /**
+     * Creates a binding of a metric and its configuration.
+     *
+     * @param metric the metric to evaluate
+     * @param config the configuration passed to every evaluation of the metric
+     * @param <T>    the configuration type of the metric
+     * @return a new binding
+     */
+    public static <T extends Metric.MetricConfiguration> MetricBinding<T> of(final Metric<T> metric, final T config) {
+        return new MetricBinding<>(metric, config);
+    }
+
+    /**
+     * Gets the name of the bound metric.
+     *
+     * @return the metric name
+     */
+    public String metricName() {
+        return metric.getName();
+    }
+
+    /**
+     * Starts an asynchronous evaluation of the sample.
+     * <p>
+     * Multi-turn samples (with {@code userInputMessages}) are routed to the multi-turn
+     * evaluation when the metric supports it, everything else to the single-turn evaluation.
+     *
+     * @param sample the sample to evaluate
+     * @return future with the rich evaluation result
+     */
+    public CompletableFuture<EvaluationResult> evaluateAsync(final Sample sample) {
+        if (metric.supportsMultiTurn()
+                && sample.getUserInputMessages() != null
+                && !sample.getUserInputMessages().isEmpty()) {
+            return metric.multiTurnEvaluateAsync(config, sample);
+        }
+        return metric.singleTurnEvaluateAsync(config, sample);
+    }
+
+    /**
+     * Starts an asynchronous evaluation of the sample whose model calls join a call graph.
+     * <p>
+     * Only metrics built on a {@link MultiModelExecutor} make model calls; any other metric
+     * is evaluated as by {@link #evaluateAsync(Sample)}.
+     *
+     * @param sample    the sample to evaluate
+     * @param callGraph the call graph to add the evaluation's calls to
+     * @return future with the rich evaluation result
+     * @see AbstractMultiModelMetric#singleTurnEvaluateAsync(Metric.MetricConfiguration, Sample, CallGraph)
+     */
+    public CompletableFuture<EvaluationResult> evaluateAsync(final Sample sample, final CallGraph callGraph) {
+        if (metric instanceof AbstractMultiModelMetric<T> multiModelMetric) {
+            return multiModelMetric.singleTurnEvaluateAsync(config, sample, callGraph);
+        }
+        return evaluateAsync(sample);
+    }
+}
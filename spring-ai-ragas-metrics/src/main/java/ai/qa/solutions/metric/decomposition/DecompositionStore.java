@@ -0,0 +1,263 @@
+package ai.qa.solutions.metric.decomposition;
+
+import ai.qa.solutions.execution.ModelResult;
+import ai.qa.solutions.execution.MultiModelExecutor;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+/**
+ * Decompositions of sample responses into atomic statements, shared by the metrics of one evaluation.
+ * <p>
+ * Faithfulness, NoiseSensitivity and FactualCorrectness all ask every judge to split
+ * {@code Sample.response} into atomic statements before verifying them. Metrics built with the
+ * same store render this step from one common template into one common response type, so the
+ * decomposition of a given (question, response, model) is requested once and reused by every
+ * other metric evaluated on the sample. A decomposition still in flight is shared as well, so
+ * metrics evaluated concurrently wait for the same call.
+ * <p>
+ * The store is meant to live as long as one evaluation run, e.g. one suite over a dataset: it
+ * keeps at most {@code maxEntries} decompositions and drops the least recently used ones, so
+ * samples evaluated together share their decompositions while memory stays bounded. Failed
+ * calls are not kept, so the next metric asks the model again.
+ * <p>
+ * A metric built with the store decomposes both its response and, where it has one, its
+ * reference from the store's template, so the two sides are split at the same granularity.
+ * A metric whose own decomposition template was customized to something else keeps using its
+ * template and ignores the store (see {@link #applicableTo}).
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * DecompositionStore decompositions = DecompositionStore.builder().build();
+ *
+ * FaithfulnessMetric faithfulness = FaithfulnessMetric.builder()
+ *     .executor(executor)
+ *     .decompositionStore(decompositions)
+ *     .build();
+ * FactualCorrectnessMetric factualCorrectness = FactualCorrectnessMetric.builder()
+ *     .executor(executor)
+ *     .decompositionStore(decompositions)
+ *     .build();
+ * }</pre>
+ */
+@Slf4j
+public class DecompositionStore {
+
+    /**
+     * Default template of the shared decomposition, rendered with {@code {question}} and {@code {answer}}.
+     */
+    public static final String DEFAULT_TEMPLATE =
+            """
+                    Given a question and an answer, break down the answer into atomic statements.
+                    Each statement should be a single, self-contained factual assertion that can be verified independently.
+
+                    Question: {question}
+                    Answer: {answer}
+
+                    Instructions:
+                    1. Split compound sentences into separate statements
+                    2. Replace pronouns with the explicit entities they refer to
+                    3. Keep the original meaning and do not add information not present in the answer
+                    4. Skip opinions and filler that make no factual assertion
+
+                    Example:
+                    Question: Who was Albert Einstein and what is he best known for?
+                    Answer: He was a German-born theoretical physicist. He is best known for developing the theory of relativity and won the Nobel Prize in 1921.
+
+                    Statements:
+                    - Albert Einstein was a German-born theoretical physicist.
+                    - Albert Einstein is best known for developing the theory of relativity.
+                    - Albert Einstein won the Nobel Prize in 1921.
+
+                    Now decompose the given answer.
+                    Respond with a JSON object containing a 'statements' array with the list of extracted statements.
+                    """;
+
+    /**
+     * Default maximum number of decompositions kept.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    private final String template;
+    private final int maxEntries;
+    private final Map<Key, CompletableFuture<ModelResult<StatementsResponse>>> decompositions;
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong sharedCount = new AtomicLong();
+
+    /**
+     * Creates a new decomposition store.
+     *
+     * @param template   template of the shared decomposition, defaults to {@link #DEFAULT_TEMPLATE}
+     * @param maxEntries maximum number of decompositions kept, defaults to {@link #DEFAULT_MAX_ENTRIES}
+     * @throws IllegalArgumentException if maxEntries is not positive
+     */
+    @Builder
+    protected DecompositionStore(final String template, final Integer maxEntries) {
+        this.template = template != null ? template : DEFAULT_TEMPLATE;
+        this.maxEntries = maxEntries != null ? maxEntries : DEFAULT_MAX_ENTRIES;
+        if (this.maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got: " + this.maxEntries);
+        }
+        this.decompositions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Key, CompletableFuture<ModelResult<StatementsResponse>>> eldest) {
+                return size() > DecompositionStore.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Chooses the store a metric decomposes with.
+     * <p>
+     * The store is used when the metric's decomposition template is not set or equals the
+     * store's template. A different custom template takes precedence: the store is ignored with
+     * a warning, so the customization is not silently lost.
+     *
+     * @param store          the store the metric was built with (may be null)
+     * @param metricTemplate the custom decomposition template of the metric (may be null)
+     * @param metricName     name of the metric, for the warning
+     * @param templateName   name of the metric's template property, for the warning
+     * @return the store to use, or null if the metric decomposes with its own template
+     */
+    public static DecompositionStore applicableTo(
+            final DecompositionStore store,
+            final String metricTemplate,
+            final String metricName,
+            final String templateName) {
+        if (store == null || metricTemplate == null || metricTemplate.equals(store.template)) {
+            return store;
+        }
+        log.warn(
+                "{} has a custom {} and ignores its DecompositionStore; set the template on the store to share it",
+                metricName,
+                templateName);
+        return null;
+    }
+
+    /**
+     * Gets the template of the shared decomposition.
+     *
+     * @return the template, rendered with {@code {question}} and {@code {answer}}
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Renders the shared decomposition prompt.
+     *
+     * @param question the sample's user input
+     * @param answer   the text to decompose
+     * @return the prompt sent to the judge
+     */
+    public String renderPrompt(final String question, final String answer) {
+        return PromptTemplate.builder()
+                .template(template)
+                .variables(
+                        Map.of("question", Objects.toString(question, ""), "answer", Objects.toString(answer, "")))
+                .build()
+                .render();
+    }
+
+    /**
+     * Decomposes a text on one model, reusing a decomposition another metric already requested.
+     * <p>
+     * A reused decomposition that had already completed is returned as a
+     * {@link ModelResult#fromCache} result, since no call was made for the caller.
+     *
+     * @param evaluationExecutor the executor of the calling metric's evaluation
+     * @param modelId            the model ID to execute on
+     * @param question           the sample's user input
+     * @param answer             the text to decompose
+     * @param mapper             converts the statements to the calling metric's response type
+     * @param <R>                the calling metric's response type
+     * @return future with the decomposition of the specified model
+     */
+    public <R> CompletableFuture<ModelResult<R>> decomposeAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final String question,
+            final String answer,
+            final Function<List<String>, R> mapper) {
+        final String prompt = renderPrompt(question, answer);
+        final Key key = new Key(modelId, prompt);
+        final CompletableFuture<ModelResult<StatementsResponse>> shared;
+        final CompletableFuture<ModelResult<StatementsResponse>> started = new CompletableFuture<>();
+        synchronized (decompositions) {
+            shared = decompositions.putIfAbsent(key, started);
+        }
+        if (shared != null) {
+            sharedCount.incrementAndGet();
+            final boolean completed = shared.isDone();
+            return shared.thenApply(result -> {
+                final ModelResult<StatementsResponse> reused = completed && result.isSuccess()
+                        ? ModelResult.fromCache(modelId, result.result(), Duration.ZERO, prompt)
+                        : result;
+                return reused.map(statements -> mapper.apply(statements.statements()));
+            });
+        }
+        callCount.incrementAndGet();
+        evaluationExecutor
+                .executeLlmOnModelAsync(modelId, prompt, StatementsResponse.class)
+                .whenComplete((result, error) -> {
+                    if (error != null || result.isFailure() || result.result() == null) {
+                        synchronized (decompositions) {
+                            decompositions.remove(key, started);
+                        }
+                    }
+                    if (error != null) {
+                        started.completeExceptionally(error);
+                    } else {
+                        started.complete(result);
+                    }
+                });
+        return started.thenApply(result -> result.map(statements -> mapper.apply(statements.statements())));
+    }
+
+    /**
+     * Gets the number of decompositions requested from a model.
+     *
+     * @return call count
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * Gets the number of decompositions reused instead of requested again.
+     *
+     * @return shared count
+     */
+    public long getSharedCount() {
+        return sharedCount.get();
+    }
+
+    /**
+     * Drops all decompositions, e.g. at the end of an evaluation run.
+     */
+    public void clear() {
+        synchronized (decompositions) {
+            decompositions.clear();
+        }
+    }
+
+    private record Key(String modelId, String prompt) {}
+
+    /**
+     * Response DTO of the shared decomposition.
+     */
+    public record StatementsResponse(
+            @JsonPropertyDescription(
+                            "Atomic statements extracted from the answer, with pronouns replaced by explicit entities")
+                    List<String> statements) {}
+}
@@ -124,7 +124,8 @@ public class AgentGoalAccuracyMetric extends AbstractMultiTurnMetric<AgentGoalAc
     }
 
     @Override
-    public CompletableFuture<Double> multiTurnScoreAsync(final AgentGoalAccuracyConfig config, final Sample sample) {
+    public CompletableFuture<Double> multiTurnScoreAsync(
+            final AgentGoalAccuracyConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -148,18 +149,21 @@ public class AgentGoalAccuracyMetric extends AbstractMultiTurnMetric<AgentGoalAc
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final String conversation = formatConversation(conversationMessages);
 
             if (mode == Mode.WITH_REFERENCE) {
-                return evaluateWithReference(config, sample, conversation, modelIds, notifier, startTime);
+                return evaluateWithReference(
+                        evaluationExecutor, config, sample, conversation, modelIds, notifier, startTime);
             } else {
-                return evaluateWithoutReference(config, sample, conversation, modelIds, notifier, startTime);
+                return evaluateWithoutReference(
+                        evaluationExecutor, config, sample, conversation, modelIds, notifier, startTime);
             }
         });
     }
 
-    private Double evaluateWithReference(
+    private CompletableFuture<Double> evaluateWithReference(
+            final MultiModelExecutor evaluationExecutor,
             final AgentGoalAccuracyConfig config,
             final Sample sample,
             final String conversation,
@@ -169,7 +173,8 @@ public class AgentGoalAccuracyMetric extends AbstractMultiTurnMetric<AgentGoalAc
 
         if (sample.getReference() == null || sample.getReference().isEmpty()) {
             log.warn("No reference provided for WITH_REFERENCE mode - falling back to WITHOUT_REFERENCE");
-            return evaluateWithoutReference(config, sample, conversation, modelIds, notifier, startTime);
+            return evaluateWithoutReference(
+                    evaluationExecutor, config, sample, conversation, modelIds, notifier, startTime);
         }
 
         final List<StepResults> accumulatedSteps = new ArrayList<>();
@@ -181,67 +186,68 @@ public class AgentGoalAccuracyMetric extends AbstractMultiTurnMetric<AgentGoalAc
         final List<String> excludedModels = new ArrayList<>();
         final Map<String, Boolean> modelVerdicts = new HashMap<>();
         final Map<String, String> modelReasonings = new HashMap<>();
-        final List<ModelResult<GoalComparisonResponse>> results =
-                executor.executeLlm(modelIds, prompt, GoalComparisonResponse.class);
-
-        for (final ModelResult<GoalComparisonResponse> result : results) {
-            if (result.isSuccess()) {
-                final double score = result.result().getScore();
-                modelScores.put(result.modelId(), score);
-                modelVerdicts.put(
-                        result.modelId(),
-                        result.result().goalAchieved() != null
-                                && result.result().goalAchieved());
-                modelReasonings.put(
-                        result.modelId(),
-                        result.result().reasoning() != null ? result.result().reasoning() : "");
-            } else {
-                excludedModels.add(result.modelId());
-                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                        .modelId(result.modelId())
-                        .failedStepName("CompareOutcome")
-                        .failedStepIndex(0)
-                        .cause(result.error())
-                        .build();
-                accumulatedExclusions.add(exclusion);
-            }
-        }
-
-        accumulatedSteps.add(StepResults.builder()
-                .stepName("CompareOutcome")
-                .stepIndex(0)
-                .totalSteps(1)
-                .stepType(StepType.LLM)
-                .request(prompt)
-                .results(List.copyOf(results))
-                .build());
-
-        if (modelScores.isEmpty()) {
-            throw new IllegalStateException("All models failed at step CompareOutcome for metric: " + getName());
-        }
-
-        final double aggregatedScore = aggregate(modelScores);
-        final Duration duration = Duration.between(startTime, Instant.now());
-
-        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                .metricName(getName())
-                .sample(sample)
-                .config(config)
-                .modelIds(modelIds)
-                .aggregatedScore(aggregatedScore)
-                .modelScores(modelScores)
-                .excludedModels(excludedModels)
-                .totalDuration(duration)
-                .steps(accumulatedSteps)
-                .exclusions(accumulatedExclusions)
-                .metadata(
-                        new AgentGoalAccuracyMetadata(Mode.WITH_REFERENCE.name(), null, modelVerdicts, modelReasonings))
-                .build());
-
-        return aggregatedScore;
+        return evaluationExecutor.executeLlmAsync(modelIds, prompt, GoalComparisonResponse.class)
+                .thenApply(results -> {
+                    for (final ModelResult<GoalComparisonResponse> result : results) {
+                        if (result.isSuccess()) {
+                            final double score = result.result().getScore();
+                            modelScores.put(result.modelId(), score);
+                            modelVerdicts.put(
+                                    result.modelId(),
+                                    result.result().goalAchieved() != null
+                                            && result.result().goalAchieved());
+                            modelReasonings.put(
+                                    result.modelId(),
+                                    result.result().reasoning() != null ? result.result().reasoning() : "");
+                        } else {
+                            excludedModels.add(result.modelId());
+                            final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                    .modelId(result.modelId())
+                                    .failedStepName("CompareOutcome")
+                                    .failedStepIndex(0)
+                                    .cause(result.error())
+                                    .build();
+                            accumulatedExclusions.add(exclusion);
+                        }
+                    }
+
+                    accumulatedSteps.add(StepResults.builder()
+                            .stepName("CompareOutcome")
+                            .stepIndex(0)
+                            .totalSteps(1)
+                            .stepType(StepType.LLM)
+                            .request(prompt)
+                            .results(List.copyOf(results))
+                            .build());
+
+                    if (modelScores.isEmpty()) {
+                        throw new IllegalStateException("All models failed at step CompareOutcome for metric: " + getName());
+                    }
+
+                    final double aggregatedScore = aggregate(modelScores);
+                    final Duration duration = Duration.between(startTime, Instant.now());
+
+                    notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                            .metricName(getName())
+                            .sample(sample)
+                            .config(config)
+                            .modelIds(modelIds)
+                            .aggregatedScore(aggregatedScore)
+                            .modelScores(modelScores)
+                            .excludedModels(excludedModels)
+                            .totalDuration(duration)
+                            .steps(accumulatedSteps)
+                            .exclusions(accumulatedExclusions)
+                            .metadata(
+                                    new AgentGoalAccuracyMetadata(Mode.WITH_REFERENCE.name(), null, modelVerdicts, modelReasonings))
+                            .build());
+
+                    return aggregatedScore;
+                });
     }
 
-    private Double evaluateWithoutReference(
+    private CompletableFuture<Double> evaluateWithoutReference(
+            final MultiModelExecutor evaluationExecutor,
             final AgentGoalAccuracyConfig config,
             final Sample sample,
             final String conversation,
@@ -254,106 +260,107 @@ public class AgentGoalAccuracyMetric extends AbstractMultiTurnMetric<AgentGoalAc
 
         // ========== Step 1: Infer Goal ==========
         final String inferPrompt = renderInferGoalPrompt(conversation);
-        final List<ModelResult<InferredGoalResponse>> inferResults =
-                executor.executeLlm(modelIds, inferPrompt, InferredGoalResponse.class);
-
-        String inferredGoal = null;
-        final List<String> excludedModels = new ArrayList<>();
-
-        for (final ModelResult<InferredGoalResponse> result : inferResults) {
-            if (result.isSuccess() && result.result().inferredGoal() != null) {
-                inferredGoal = result.result().inferredGoal();
-                break; // Use first successful result
-            } else if (!result.isSuccess()) {
-                excludedModels.add(result.modelId());
-                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                        .modelId(result.modelId())
-                        .failedStepName("InferGoal")
-                        .failedStepIndex(0)
-                        .cause(result.error())
-                        .build();
-                accumulatedExclusions.add(exclusion);
-            }
-        }
-
-        accumulatedSteps.add(StepResults.builder()
-                .stepName("InferGoal")
-                .stepIndex(0)
-                .totalSteps(2)
-                .stepType(StepType.LLM)
-                .request(inferPrompt)
-                .results(List.copyOf(inferResults))
-                .build());
-
-        if (inferredGoal == null) {
-            throw new IllegalStateException("Failed to infer goal at step InferGoal for metric: " + getName());
-        }
-
-        // ========== Step 2: Evaluate Outcome ==========
-        final String evalPrompt = renderEvaluateOutcomePrompt(inferredGoal, conversation);
-        final Map<String, Double> modelScores = new HashMap<>();
-        final Map<String, Boolean> modelVerdicts = new HashMap<>();
-        final Map<String, String> modelReasonings = new HashMap<>();
-        final List<ModelResult<GoalComparisonResponse>> evalResults =
-                executor.executeLlm(modelIds, evalPrompt, GoalComparisonResponse.class);
-
-        for (final ModelResult<GoalComparisonResponse> result : evalResults) {
-            if (result.isSuccess()) {
-                final double score = result.result().getScore();
-                modelScores.put(result.modelId(), score);
-                modelVerdicts.put(
-                        result.modelId(),
-                        result.result().goalAchieved() != null
-                                && result.result().goalAchieved());
-                modelReasonings.put(
-                        result.modelId(),
-                        result.result().reasoning() != null ? result.result().reasoning() : "");
-            } else {
-                if (!excludedModels.contains(result.modelId())) {
-                    excludedModels.add(result.modelId());
-                }
-                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                        .modelId(result.modelId())
-                        .failedStepName("EvaluateOutcome")
-                        .failedStepIndex(1)
-                        .cause(result.error())
-                        .build();
-                accumulatedExclusions.add(exclusion);
-            }
-        }
-
-        accumulatedSteps.add(StepResults.builder()
-                .stepName("EvaluateOutcome")
-                .stepIndex(1)
-                .totalSteps(2)
-                .stepType(StepType.LLM)
-                .request(evalPrompt)
-                .results(List.copyOf(evalResults))
-                .build());
-
-        if (modelScores.isEmpty()) {
-            throw new IllegalStateException("All models failed at step EvaluateOutcome for metric: " + getName());
-        }
-
-        final double aggregatedScore = aggregate(modelScores);
-        final Duration duration = Duration.between(startTime, Instant.now());
-
-        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                .metricName(getName())
-                .sample(sample)
-                .config(config)
-                .modelIds(modelIds)
-                .aggregatedScore(aggregatedScore)
-                .modelScores(modelScores)
-                .excludedModels(excludedModels)
-                .totalDuration(duration)
-                .steps(accumulatedSteps)
-                .exclusions(accumulatedExclusions)
-                .metadata(new AgentGoalAccuracyMetadata(
-                        Mode.WITHOUT_REFERENCE.name(), inferredGoal, modelVerdicts, modelReasonings))
-                .build());
-
-        return aggregatedScore;
+        return evaluationExecutor.executeLlmAsync(modelIds, inferPrompt, InferredGoalResponse.class)
+                .thenCompose(inferResults -> {
+                    String inferredGoal = null;
+                    final List<String> excludedModels = new ArrayList<>();
+
+                    for (final ModelResult<InferredGoalResponse> result : inferResults) {
+                        if (result.isSuccess() && result.result().inferredGoal() != null) {
+                            inferredGoal = result.result().inferredGoal();
+                            break; // Use first successful result
+                        } else if (!result.isSuccess()) {
+                            excludedModels.add(result.modelId());
+                            final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                    .modelId(result.modelId())
+                                    .failedStepName("InferGoal")
+                                    .failedStepIndex(0)
+                                    .cause(result.error())
+                                    .build();
+                            accumulatedExclusions.add(exclusion);
+                        }
+                    }
+
+                    accumulatedSteps.add(StepResults.builder()
+                            .stepName("InferGoal")
+                            .stepIndex(0)
+                            .totalSteps(2)
+                            .stepType(StepType.LLM)
+                            .request(inferPrompt)
+                            .results(List.copyOf(inferResults))
+                            .build());
+
+                    if (inferredGoal == null) {
+                        throw new IllegalStateException("Failed to infer goal at step InferGoal for metric: " + getName());
+                    }
+
+                    // ========== Step 2: Evaluate Outcome ==========
+                    final String goal = inferredGoal;
+                    final String evalPrompt = renderEvaluateOutcomePrompt(goal, conversation);
+                    final Map<String, Double> modelScores = new HashMap<>();
+                    final Map<String, Boolean> modelVerdicts = new HashMap<>();
+                    final Map<String, String> modelReasonings = new HashMap<>();
+                    return evaluationExecutor.executeLlmAsync(modelIds, evalPrompt, GoalComparisonResponse.class)
+                            .thenApply(evalResults -> {
+                                for (final ModelResult<GoalComparisonResponse> result : evalResults) {
+                                    if (result.isSuccess()) {
+                                        final double score = result.result().getScore();
+                                        modelScores.put(result.modelId(), score);
+                                        modelVerdicts.put(
+                                                result.modelId(),
+                                                result.result().goalAchieved() != null
+                                                        && result.result().goalAchieved());
+                                        modelReasonings.put(
+                                                result.modelId(),
+                                                result.result().reasoning() != null ? result.result().reasoning() : "");
+                                    } else {
+                                        if (!excludedModels.contains(result.modelId())) {
+                                            excludedModels.add(result.modelId());
+                                        }
+                                        final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                                .modelId(result.modelId())
+                                                .failedStepName("EvaluateOutcome")
+                                                .failedStepIndex(1)
+                                                .cause(result.error())
+                                                .build();
+                                        accumulatedExclusions.add(exclusion);
+                                    }
+                                }
+
+                                accumulatedSteps.add(StepResults.builder()
+                                        .stepName("EvaluateOutcome")
+                                        .stepIndex(1)
+                                        .totalSteps(2)
+                                        .stepType(StepType.LLM)
+                                        .request(evalPrompt)
+                                        .results(List.copyOf(evalResults))
+                                        .build());
+
+                                if (modelScores.isEmpty()) {
+                                    throw new IllegalStateException("All models failed at step EvaluateOutcome for metric: " + getName());
+                                }
+
+                                final double aggregatedScore = aggregate(modelScores);
+                                final Duration duration = Duration.between(startTime, Instant.now());
+
+                                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                        .metricName(getName())
+                                        .sample(sample)
+                                        .config(config)
+                                        .modelIds(modelIds)
+                                        .aggregatedScore(aggregatedScore)
+                                        .modelScores(modelScores)
+                                        .excludedModels(excludedModels)
+                                        .totalDuration(duration)
+                                        .steps(accumulatedSteps)
+                                        .exclusions(accumulatedExclusions)
+                                        .metadata(new AgentGoalAccuracyMetadata(
+                                                Mode.WITHOUT_REFERENCE.name(), goal, modelVerdicts, modelReasonings))
+                                        .build());
+
+                                return aggregatedScore;
+                            });
+                });
     }
 
     private String renderInferGoalPrompt(final String conversation) {
@@ -57,7 +57,8 @@ public class ToolCallAccuracyMetric extends AbstractMultiTurnMetric<ToolCallAccu
     }
 
     @Override
-    public CompletableFuture<Double> multiTurnScoreAsync(final ToolCallAccuracyConfig config, final Sample sample) {
+    public CompletableFuture<Double> multiTurnScoreAsync(
+            final ToolCallAccuracyConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
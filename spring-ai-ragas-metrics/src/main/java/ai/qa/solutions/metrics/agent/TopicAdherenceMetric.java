@@ -105,7 +105,8 @@ public class TopicAdherenceMetric extends AbstractMultiTurnMetric<TopicAdherence
     }
 
     @Override
-    public CompletableFuture<Double> multiTurnScoreAsync(final TopicAdherenceConfig config, final Sample sample) {
+    public CompletableFuture<Double> multiTurnScoreAsync(
+            final TopicAdherenceConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -133,7 +134,7 @@ public class TopicAdherenceMetric extends AbstractMultiTurnMetric<TopicAdherence
                 .totalSteps(2)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final String conversation = formatConversation(conversationMessages);
             final List<String> referenceTopics = sample.getReferenceTopics();
             final List<String> excludedModels = new ArrayList<>();
@@ -142,128 +143,164 @@ public class TopicAdherenceMetric extends AbstractMultiTurnMetric<TopicAdherence
 
             // ========== Step 1: Extract Topics ==========
             final String extractPrompt = renderExtractTopicsPrompt(conversation);
-            final List<ModelResult<ExtractedTopicsResponse>> extractResults =
-                    executor.executeLlm(modelIds, extractPrompt, ExtractedTopicsResponse.class);
-
-            List<String> extractedTopics = null;
-
-            for (final ModelResult<ExtractedTopicsResponse> result : extractResults) {
-                if (result.isSuccess() && result.result().topics() != null) {
-                    extractedTopics = result.result().topics();
-                    break; // Use first successful result
-                } else if (!result.isSuccess()) {
-                    excludedModels.add(result.modelId());
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("ExtractTopics")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ExtractTopics")
-                    .stepIndex(0)
-                    .totalSteps(2)
-                    .stepType(StepType.LLM)
-                    .request(extractPrompt)
-                    .results(List.copyOf(extractResults))
-                    .build());
-
-            if (extractedTopics == null || extractedTopics.isEmpty()) {
-                log.warn("No topics extracted from conversation");
-                // Return 0.0 for precision (no topics = nothing on topic), but consider recall
-                final Duration duration = Duration.between(startTime, Instant.now());
-                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                        .metricName(getName())
-                        .sample(sample)
-                        .config(config)
-                        .modelIds(modelIds)
-                        .aggregatedScore(0.0)
-                        .modelScores(Map.of())
-                        .excludedModels(excludedModels)
-                        .totalDuration(duration)
-                        .steps(accumulatedSteps)
-                        .exclusions(accumulatedExclusions)
-                        .metadata(new TopicAdherenceMetadata(mode.name(), referenceTopics, List.of(), Map.of()))
-                        .build());
-                return 0.0;
-            }
-
-            // ========== Step 2: Classify Topics ==========
-            final String classifyPrompt = renderClassifyTopicsPrompt(extractedTopics, referenceTopics);
-            final Map<String, Double> modelScores = new HashMap<>();
-            final Map<String, List<TopicAdherenceMetadata.TopicClassificationSummary>> modelClassifications =
-                    new HashMap<>();
-            final List<ModelResult<TopicClassificationResponse>> classifyResults =
-                    executor.executeLlm(modelIds, classifyPrompt, TopicClassificationResponse.class);
-
-            for (final ModelResult<TopicClassificationResponse> result : classifyResults) {
-                if (result.isSuccess() && result.result().classifications() != null) {
-                    final List<TopicClassification> classifications =
-                            result.result().classifications();
-                    final double score = computeScore(classifications, referenceTopics, mode);
-                    modelScores.put(result.modelId(), score);
-                    modelClassifications.put(
-                            result.modelId(),
-                            classifications.stream()
-                                    .map(c -> new TopicAdherenceMetadata.TopicClassificationSummary(
-                                            c.extractedTopic() != null ? c.extractedTopic() : "",
-                                            c.onTopic() != null && c.onTopic(),
-                                            c.matchedReferenceTopic(),
-                                            c.reasoning() != null ? c.reasoning() : ""))
-                                    .toList());
-                } else if (!result.isSuccess()) {
-                    if (!excludedModels.contains(result.modelId())) {
-                        excludedModels.add(result.modelId());
-                    }
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("ClassifyTopics")
-                            .failedStepIndex(1)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ClassifyTopics")
-                    .stepIndex(1)
-                    .totalSteps(2)
-                    .stepType(StepType.LLM)
-                    .request(classifyPrompt)
-                    .results(List.copyOf(classifyResults))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed at step ClassifyTopics for metric: " + getName());
-            }
-
-            final double aggregatedScore = aggregate(modelScores);
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new TopicAdherenceMetadata(
-                            mode.name(), referenceTopics, extractedTopics, modelClassifications))
-                    .build());
-
-            return aggregatedScore;
+            final List<CompletableFuture<ModelResult<ExtractedTopicsResponse>>> extractFutures = modelIds.stream()
+                    .map(modelId -> evaluationExecutor.executeLlmOnModelAsync(
+                            modelId, extractPrompt, ExtractedTopicsResponse.class))
+                    .toList();
+
+            // ========== Step 2: Classify Topics (pipelined) ==========
+            // Classification starts as soon as the first usable extraction is known,
+            // without waiting for slower judges to finish extracting
+            final CompletableFuture<List<String>> topicsFuture = firstExtractedTopics(extractFutures, 0);
+            final CompletableFuture<List<ModelResult<TopicClassificationResponse>>> classifyFuture =
+                    topicsFuture.thenCompose(topics -> topics == null || topics.isEmpty()
+                            ? CompletableFuture.completedFuture(List.of())
+                            : evaluationExecutor.executeLlmAsync(
+                                    modelIds,
+                                    renderClassifyTopicsPrompt(topics, referenceTopics),
+                                    TopicClassificationResponse.class));
+
+            final List<CompletableFuture<?>> allFutures = new ArrayList<>(extractFutures);
+            allFutures.add(classifyFuture);
+            return CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        final List<ModelResult<ExtractedTopicsResponse>> extractResults =
+                                extractFutures.stream().map(CompletableFuture::join).toList();
+
+                        List<String> extractedTopics = null;
+
+                        for (final ModelResult<ExtractedTopicsResponse> result : extractResults) {
+                            if (result.isSuccess() && result.result().topics() != null) {
+                                extractedTopics = result.result().topics();
+                                break; // Use first successful result
+                            } else if (!result.isSuccess()) {
+                                excludedModels.add(result.modelId());
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("ExtractTopics")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ExtractTopics")
+                                .stepIndex(0)
+                                .totalSteps(2)
+                                .stepType(StepType.LLM)
+                                .request(extractPrompt)
+                                .results(List.copyOf(extractResults))
+                                .build());
+
+                        if (extractedTopics == null || extractedTopics.isEmpty()) {
+                            log.warn("No topics extracted from conversation");
+                            // Return 0.0 for precision (no topics = nothing on topic), but consider recall
+                            final Duration duration = Duration.between(startTime, Instant.now());
+                            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                    .metricName(getName())
+                                    .sample(sample)
+                                    .config(config)
+                                    .modelIds(modelIds)
+                                    .aggregatedScore(0.0)
+                                    .modelScores(Map.of())
+                                    .excludedModels(excludedModels)
+                                    .totalDuration(duration)
+                                    .steps(accumulatedSteps)
+                                    .exclusions(accumulatedExclusions)
+                                    .metadata(new TopicAdherenceMetadata(mode.name(), referenceTopics, List.of(), Map.of()))
+                                    .build());
+                            return 0.0;
+                        }
+
+                        // ========== Step 2: Classify Topics ==========
+                        final String classifyPrompt = renderClassifyTopicsPrompt(extractedTopics, referenceTopics);
+                        final Map<String, Double> modelScores = new HashMap<>();
+                        final Map<String, List<TopicAdherenceMetadata.TopicClassificationSummary>> modelClassifications =
+                                new HashMap<>();
+                        final List<ModelResult<TopicClassificationResponse>> classifyResults = classifyFuture.join();
+
+                        for (final ModelResult<TopicClassificationResponse> result : classifyResults) {
+                            if (result.isSuccess() && result.result().classifications() != null) {
+                                final List<TopicClassification> classifications =
+                                        result.result().classifications();
+                                final double score = computeScore(classifications, referenceTopics, mode);
+                                modelScores.put(result.modelId(), score);
+                                modelClassifications.put(
+                                        result.modelId(),
+                                        classifications.stream()
+                                                .map(c -> new TopicAdherenceMetadata.TopicClassificationSummary(
+                                                        c.extractedTopic() != null ? c.extractedTopic() : "",
+                                                        c.onTopic() != null && c.onTopic(),
+                                                        c.matchedReferenceTopic(),
+                                                        c.reasoning() != null ? c.reasoning() : ""))
+                                                .toList());
+                            } else if (!result.isSuccess()) {
+                                if (!excludedModels.contains(result.modelId())) {
+                                    excludedModels.add(result.modelId());
+                                }
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("ClassifyTopics")
+                                        .failedStepIndex(1)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ClassifyTopics")
+                                .stepIndex(1)
+                                .totalSteps(2)
+                                .stepType(StepType.LLM)
+                                .request(classifyPrompt)
+                                .results(List.copyOf(classifyResults))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed at step ClassifyTopics for metric: " + getName());
+                        }
+
+                        final double aggregatedScore = aggregate(modelScores);
+                        final Duration duration = Duration.between(startTime, Instant.now());
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new TopicAdherenceMetadata(
+                                        mode.name(), referenceTopics, extractedTopics, modelClassifications))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
+    /**
+     * Resolves the topics of the first successful extraction in model order, or {@code null} if none succeeded.
+     * Later models are only awaited when every earlier model failed.
+     */
+    private CompletableFuture<List<String>> firstExtractedTopics(
+            final List<CompletableFuture<ModelResult<ExtractedTopicsResponse>>> extractFutures, final int index) {
+        if (index >= extractFutures.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return extractFutures.get(index).thenCompose(result -> result.isSuccess()
+                        && result.result().topics() != null
+                ? CompletableFuture.completedFuture(result.result().topics())
+                : firstExtractedTopics(extractFutures, index + 1));
+    }
+
     private double computeScore(
             final List<TopicClassification> classifications, final List<String> referenceTopics, final Mode mode) {
         if (classifications == null || classifications.isEmpty()) {
@@ -19,7 +19,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.IntStream;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
@@ -69,7 +68,8 @@ public class AspectCriticMetric extends AbstractMultiModelMetric<AspectCriticMet
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final AspectCriticConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final AspectCriticConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -88,7 +88,7 @@ public class AspectCriticMetric extends AbstractMultiModelMetric<AspectCriticMet
                 .totalSteps(1)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final List<StepResults> accumulatedSteps = new ArrayList<>();
             final List<ModelExclusionEvent> accumulatedExclusions = new ArrayList<>();
 
@@ -102,97 +102,121 @@ public class AspectCriticMetric extends AbstractMultiModelMetric<AspectCriticMet
             final Map<String, List<Boolean>> modelVerdicts = new HashMap<>();
             final Map<String, List<String>> modelReasonings = new HashMap<>();
 
-            // Launch ALL iterations for ALL models in parallel
-            final Map<String, List<CompletableFuture<ModelResult<Response>>>> allFutures = new HashMap<>();
+            // Launch iterations for ALL models in parallel, in waves until the vote is decided if adaptive
+            final boolean adaptive = Boolean.TRUE.equals(config.adaptiveSampling);
+            final Map<String, CompletableFuture<List<ModelResult<Response>>>> allFutures = new HashMap<>();
             for (final String modelId : modelIds) {
-                final List<CompletableFuture<ModelResult<Response>>> modelFutures = IntStream.range(0, iterations)
-                        .mapToObj(i -> executor.executeLlmOnModelAsync(modelId, prompt, Response.class))
-                        .toList();
-                allFutures.put(modelId, modelFutures);
+                allFutures.put(
+                        modelId,
+                        executeInWavesAsync(
+                                evaluationExecutor,
+                                modelId,
+                                prompt,
+                                Response.class,
+                                iterations,
+                                results -> adaptive ? iterationsToDecide(results, iterations) : iterations));
             }
 
-            // Wait for ALL futures to complete at once
-            final List<CompletableFuture<ModelResult<Response>>> flatFutures =
-                    allFutures.values().stream().flatMap(List::stream).toList();
-            CompletableFuture.allOf(flatFutures.toArray(new CompletableFuture[0]))
-                    .join();
-
-            // Process results for each model and apply majority voting
-            for (final String modelId : modelIds) {
-                final List<Double> iterationScores = new ArrayList<>();
-                final List<Boolean> verdicts = new ArrayList<>();
-                final List<String> reasonings = new ArrayList<>();
-
-                for (final CompletableFuture<ModelResult<Response>> future : allFutures.get(modelId)) {
-                    final ModelResult<Response> result = future.join();
-                    allResults.add(result);
-                    if (result.isSuccess()) {
-                        iterationScores.add(result.result().getScore());
-                        verdicts.add(result.result().verdict() != null
-                                && result.result().verdict());
-                        reasonings.add(
-                                result.result().reasoning() != null
-                                        ? result.result().reasoning()
-                                        : "");
-                    }
-                }
-
-                if (!iterationScores.isEmpty()) {
-                    // Apply majority voting to iterations of this model
-                    final double modelScore = ScoreAggregator.MAJORITY_VOTING.aggregate(iterationScores);
-                    modelScores.put(modelId, modelScore);
-                    modelVerdicts.put(modelId, verdicts);
-                    modelReasonings.put(modelId, reasonings);
-                } else {
-                    // All iterations failed for this model
-                    excludedModels.add(modelId);
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(modelId)
-                            .failedStepName("Evaluate")
-                            .failedStepIndex(0)
-                            .cause(new IllegalStateException("All " + iterations + " iterations failed"))
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("Evaluate")
-                    .stepIndex(0)
-                    .totalSteps(1)
-                    .stepType(StepType.LLM)
-                    .request(prompt)
-                    .results(List.copyOf(allResults))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
-
-            // Multi-model aggregation
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new AspectCriticMetadata(config.definition, iterations, modelVerdicts, modelReasonings))
-                    .build());
-
-            return aggregatedScore;
+            // Continue once ALL futures have completed
+            return CompletableFuture.allOf(allFutures.values().toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        // Process results for each model and apply majority voting
+                        for (final String modelId : modelIds) {
+                            final List<Double> iterationScores = new ArrayList<>();
+                            final List<Boolean> verdicts = new ArrayList<>();
+                            final List<String> reasonings = new ArrayList<>();
+
+                            for (final ModelResult<Response> result : allFutures.get(modelId).join()) {
+                                allResults.add(result);
+                                if (result.isSuccess()) {
+                                    iterationScores.add(result.result().getScore());
+                                    verdicts.add(result.result().verdict() != null
+                                            && result.result().verdict());
+                                    reasonings.add(
+                                            result.result().reasoning() != null
+                                                    ? result.result().reasoning()
+                                                    : "");
+                                }
+                            }
+
+                            if (!iterationScores.isEmpty()) {
+                                // Apply majority voting to iterations of this model
+                                final double modelScore = ScoreAggregator.MAJORITY_VOTING.aggregate(iterationScores);
+                                modelScores.put(modelId, modelScore);
+                                modelVerdicts.put(modelId, verdicts);
+                                modelReasonings.put(modelId, reasonings);
+                            } else {
+                                // All iterations failed for this model
+                                excludedModels.add(modelId);
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(modelId)
+                                        .failedStepName("Evaluate")
+                                        .failedStepIndex(0)
+                                        .cause(new IllegalStateException("All " + iterations + " iterations failed"))
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("Evaluate")
+                                .stepIndex(0)
+                                .totalSteps(1)
+                                .stepType(StepType.LLM)
+                                .request(prompt)
+                                .results(List.copyOf(allResults))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed for metric: " + getName());
+                        }
+
+                        // Multi-model aggregation
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new AspectCriticMetadata(config.definition, iterations, modelVerdicts, modelReasonings))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
+    /**
+     * Gets the fewest further iterations that could decide the majority vote of a model, or 0 once
+     * the remaining iterations can no longer change it. Ties count as a false verdict, as in
+     * {@link ScoreAggregator#MAJORITY_VOTING}.
+     */
+    private static int iterationsToDecide(final List<ModelResult<Response>> results, final int iterations) {
+        final long successes = results.stream().filter(ModelResult::isSuccess).count();
+        final long trueVotes = results.stream()
+                .filter(result -> result.isSuccess() && result.result().getScore() >= 0.5)
+                .count();
+        final long falseVotes = successes - trueVotes;
+        final long remaining = iterations - results.size();
+        if (trueVotes > falseVotes + remaining || trueVotes + remaining <= falseVotes) {
+            return 0;
+        }
+        // Further votes needed if they all go one way
+        final long toDecideTrue = (falseVotes + remaining - trueVotes) / 2 + 1;
+        final long toDecideFalse = (trueVotes + remaining - falseVotes + 1) / 2;
+        return (int) Math.max(1, Math.min(toDecideTrue, toDecideFalse));
+    }
+
     private String renderPrompt(final AspectCriticConfig config, final Sample sample) {
         return PromptTemplate.builder()
                 .template(this.promptTemplate)
@@ -239,6 +263,14 @@ public class AspectCriticMetric extends AbstractMultiModelMetric<AspectCriticMet
         @Builder.Default
         private Integer strictness = 1;
 
+        /**
+         * Sends the {@code strictness} iterations in small waves and stops as soon as the
+         * majority vote of a model is decided, e.g. after 3 identical verdicts out of 5.
+         * The score is the same as when all iterations are sent. Default is false.
+         */
+        @Builder.Default
+        private Boolean adaptiveSampling = false;
+
         @Builder.Default
         private String language = "en";
 
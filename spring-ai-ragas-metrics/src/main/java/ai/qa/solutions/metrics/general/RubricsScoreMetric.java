@@ -2,6 +2,7 @@ package ai.qa.solutions.metrics.general;
 
 import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.QuorumPolicy;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import lombok.Builder;
 import lombok.Data;
@@ -28,7 +30,9 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  * RubricsScore Metric - Detailed rubric-based evaluation.
  * <p>
  * Uses {@link MultiModelExecutor} for parallel execution across multiple models
- * with explicit flow control and listener notifications.
+ * with explicit flow control and listener notifications. With a
+ * {@link RubricsConfig#getQuorum() quorum}, judges still running once the quorum is reached are
+ * cancelled and the score is aggregated over the judges that answered.
  */
 public class RubricsScoreMetric extends AbstractMultiModelMetric<RubricsScoreMetric.RubricsConfig> {
     public static final String DEFAULT_PROMPT_TEMPLATE =
@@ -67,7 +71,8 @@ public class RubricsScoreMetric extends AbstractMultiModelMetric<RubricsScoreMet
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final RubricsConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final RubricsConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -84,83 +89,88 @@ public class RubricsScoreMetric extends AbstractMultiModelMetric<RubricsScoreMet
                 .totalSteps(1)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final List<StepResults> accumulatedSteps = new ArrayList<>();
             final List<ModelExclusionEvent> accumulatedExclusions = new ArrayList<>();
 
             // ========== Step 1: Evaluate ==========
             final String prompt = renderPrompt(config, sample);
-            final List<ModelResult<Response>> results = executor.executeLlm(modelIds, prompt, Response.class);
-
-            // Collect scores and build metadata
-            final Map<String, Double> modelScores = new HashMap<>();
-            final List<String> excludedModels = new ArrayList<>();
-            final Map<String, Integer> metadataModelScores = new HashMap<>();
-            final Map<String, String> metadataModelRubricLevels = new HashMap<>();
-            final Map<String, String> metadataModelReasonings = new HashMap<>();
-
-            for (final ModelResult<Response> result : results) {
-                if (result.isSuccess()) {
-                    modelScores.put(result.modelId(), result.result().getNormalizedScore());
-                    metadataModelScores.put(
-                            result.modelId(),
-                            result.result().score() != null ? result.result().score() : 0);
-                    metadataModelRubricLevels.put(
-                            result.modelId(),
-                            result.result().rubric_level() != null
-                                    ? result.result().rubric_level()
-                                    : "");
-                    metadataModelReasonings.put(
-                            result.modelId(),
-                            result.result().reasoning() != null
-                                    ? result.result().reasoning()
-                                    : "");
-                } else {
-                    excludedModels.add(result.modelId());
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("Evaluate")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
+            final CompletableFuture<List<ModelResult<Response>>> evaluation = config.quorum != null
+                    ? evaluationExecutor.executeLlmQuorumAsync(
+                            modelIds, prompt, Response.class, config.quorum.onResults(Response::score))
+                    : evaluationExecutor.executeLlmAsync(modelIds, prompt, Response.class);
+            return evaluation.thenApply(results -> {
+                // Collect scores and build metadata
+                final Map<String, Double> modelScores = new HashMap<>();
+                final List<String> excludedModels = new ArrayList<>();
+                final Map<String, Integer> metadataModelScores = new HashMap<>();
+                final Map<String, String> metadataModelRubricLevels = new HashMap<>();
+                final Map<String, String> metadataModelReasonings = new HashMap<>();
+
+                for (final ModelResult<Response> result : results) {
+                    if (result.isSuccess()) {
+                        modelScores.put(result.modelId(), result.result().getNormalizedScore());
+                        metadataModelScores.put(
+                                result.modelId(),
+                                result.result().score() != null ? result.result().score() : 0);
+                        metadataModelRubricLevels.put(
+                                result.modelId(),
+                                result.result().rubric_level() != null
+                                        ? result.result().rubric_level()
+                                        : "");
+                        metadataModelReasonings.put(
+                                result.modelId(),
+                                result.result().reasoning() != null
+                                        ? result.result().reasoning()
+                                        : "");
+                    } else if (!(result.error() instanceof CancellationException)) {
+                        // Judges cancelled once the quorum was reached are not failures
+                        excludedModels.add(result.modelId());
+                        final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                .modelId(result.modelId())
+                                .failedStepName("Evaluate")
+                                .failedStepIndex(0)
+                                .cause(result.error())
+                                .build();
+                        accumulatedExclusions.add(exclusion);
+                    }
                 }
-            }
 
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("Evaluate")
-                    .stepIndex(0)
-                    .totalSteps(1)
-                    .stepType(StepType.LLM)
-                    .request(prompt)
-                    .results(List.copyOf(results))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("Evaluate")
+                        .stepIndex(0)
+                        .totalSteps(1)
+                        .stepType(StepType.LLM)
+                        .request(prompt)
+                        .results(List.copyOf(results))
+                        .build());
+
+                if (modelScores.isEmpty()) {
+                    throw new IllegalStateException("All models failed for metric: " + getName());
+                }
 
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new RubricsMetadata(
-                            config.rubrics, metadataModelScores, metadataModelRubricLevels, metadataModelReasonings))
-                    .build());
-
-            return aggregatedScore;
+                final double aggregatedScore = aggregate(modelScores);
+
+                // Notify with full results
+                final Duration duration = Duration.between(startTime, Instant.now());
+
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .sample(sample)
+                        .config(config)
+                        .modelIds(modelIds)
+                        .aggregatedScore(aggregatedScore)
+                        .modelScores(modelScores)
+                        .excludedModels(excludedModels)
+                        .totalDuration(duration)
+                        .steps(accumulatedSteps)
+                        .exclusions(accumulatedExclusions)
+                        .metadata(new RubricsMetadata(
+                                config.rubrics, metadataModelScores, metadataModelRubricLevels, metadataModelReasonings))
+                        .build());
+
+                return aggregatedScore;
+            });
         });
     }
 
@@ -237,6 +247,12 @@ public class RubricsScoreMetric extends AbstractMultiModelMetric<RubricsScoreMet
         @Builder.Default
         private String language = "en";
 
+        /**
+         * Completes the evaluation once enough judges have answered, deciding on the rubric
+         * scores, e.g. {@code QuorumPolicy.majority()}. Null waits for all judges.
+         */
+        private QuorumPolicy<Integer> quorum;
+
         @SuppressWarnings("unused")
         public void validateRubrics() {
             if (rubrics.isEmpty()) {
@@ -19,7 +19,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.IntStream;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
@@ -61,6 +60,11 @@ public class SimpleCriteriaScoreMetric
             - reasoning: Your detailed explanation for the score
             """;
 
+    /**
+     * Default maximum spread of normalized scores at which adaptive sampling stops.
+     */
+    public static final double DEFAULT_SCORE_TOLERANCE = 0.1;
+
     private final String promptTemplate;
 
     @Builder(toBuilder = true)
@@ -75,7 +79,8 @@ public class SimpleCriteriaScoreMetric
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final SimpleCriteriaConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final SimpleCriteriaConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -94,7 +99,7 @@ public class SimpleCriteriaScoreMetric
                 .totalSteps(1)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final List<StepResults> accumulatedSteps = new ArrayList<>();
             final List<ModelExclusionEvent> accumulatedExclusions = new ArrayList<>();
 
@@ -108,108 +113,129 @@ public class SimpleCriteriaScoreMetric
             final Map<String, List<Double>> modelRawScores = new HashMap<>();
             final Map<String, List<String>> modelReasonings = new HashMap<>();
 
-            // Launch ALL iterations for ALL models in parallel
-            final Map<String, List<CompletableFuture<ModelResult<Response>>>> allFutures = new HashMap<>();
+            // Launch iterations for ALL models in parallel, in waves until the scores agree if adaptive
+            final boolean adaptive = Boolean.TRUE.equals(config.adaptiveSampling);
+            final Map<String, CompletableFuture<List<ModelResult<Response>>>> allFutures = new HashMap<>();
             for (final String modelId : modelIds) {
-                final List<CompletableFuture<ModelResult<Response>>> modelFutures = IntStream.range(0, iterations)
-                        .mapToObj(i -> executor.executeLlmOnModelAsync(modelId, prompt, Response.class))
-                        .toList();
-                allFutures.put(modelId, modelFutures);
+                allFutures.put(
+                        modelId,
+                        executeInWavesAsync(
+                                evaluationExecutor,
+                                modelId,
+                                prompt,
+                                Response.class,
+                                iterations,
+                                results -> adaptive ? iterationsToConverge(config, results) : iterations));
             }
 
-            // Wait for ALL futures to complete at once
-            final List<CompletableFuture<ModelResult<Response>>> flatFutures =
-                    allFutures.values().stream().flatMap(List::stream).toList();
-            CompletableFuture.allOf(flatFutures.toArray(new CompletableFuture[0]))
-                    .join();
-
-            // Process results for each model and apply MEDIAN voting
-            for (final String modelId : modelIds) {
-                final List<Double> iterationScores = new ArrayList<>();
-                final List<Double> rawScores = new ArrayList<>();
-                final List<String> reasonings = new ArrayList<>();
-
-                for (final CompletableFuture<ModelResult<Response>> future : allFutures.get(modelId)) {
-                    final ModelResult<Response> result = future.join();
-                    allResults.add(result);
-                    if (result.isSuccess()) {
-                        // Normalize raw score to [0, 1] range (RAGAS methodology)
-                        final double normalizedScore =
-                                normalize(result.result().score(), config.minScore, config.maxScore);
-                        iterationScores.add(normalizedScore);
-                        rawScores.add(
-                                result.result().score() != null
-                                        ? result.result().score()
-                                        : 0.0);
-                        reasonings.add(
-                                result.result().reasoning() != null
-                                        ? result.result().reasoning()
-                                        : "");
-                    }
-                }
-
-                if (!iterationScores.isEmpty()) {
-                    // Apply MEDIAN to iterations of this model (voting for continuous scores)
-                    final double modelScore = ScoreAggregator.MEDIAN.aggregate(iterationScores);
-                    modelScores.put(modelId, modelScore);
-                    modelRawScores.put(modelId, rawScores);
-                    modelReasonings.put(modelId, reasonings);
-                } else {
-                    // All iterations failed for this model
-                    excludedModels.add(modelId);
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(modelId)
-                            .failedStepName("Evaluate")
-                            .failedStepIndex(0)
-                            .cause(new IllegalStateException("All " + iterations + " iterations failed"))
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("Evaluate")
-                    .stepIndex(0)
-                    .totalSteps(1)
-                    .stepType(StepType.LLM)
-                    .request(prompt)
-                    .results(List.copyOf(allResults))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
-
-            // Multi-model aggregation
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new SimpleCriteriaMetadata(
-                            config.definition,
-                            config.minScore,
-                            config.maxScore,
-                            iterations,
-                            modelRawScores,
-                            modelReasonings))
-                    .build());
-
-            return aggregatedScore;
+            // Continue once ALL futures have completed
+            return CompletableFuture.allOf(allFutures.values().toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        // Process results for each model and apply MEDIAN voting
+                        for (final String modelId : modelIds) {
+                            final List<Double> iterationScores = new ArrayList<>();
+                            final List<Double> rawScores = new ArrayList<>();
+                            final List<String> reasonings = new ArrayList<>();
+
+                            for (final ModelResult<Response> result : allFutures.get(modelId).join()) {
+                                allResults.add(result);
+                                if (result.isSuccess()) {
+                                    // Normalize raw score to [0, 1] range (RAGAS methodology)
+                                    final double normalizedScore =
+                                            normalize(result.result().score(), config.minScore, config.maxScore);
+                                    iterationScores.add(normalizedScore);
+                                    rawScores.add(
+                                            result.result().score() != null
+                                                    ? result.result().score()
+                                                    : 0.0);
+                                    reasonings.add(
+                                            result.result().reasoning() != null
+                                                    ? result.result().reasoning()
+                                                    : "");
+                                }
+                            }
+
+                            if (!iterationScores.isEmpty()) {
+                                // Apply MEDIAN to iterations of this model (voting for continuous scores)
+                                final double modelScore = ScoreAggregator.MEDIAN.aggregate(iterationScores);
+                                modelScores.put(modelId, modelScore);
+                                modelRawScores.put(modelId, rawScores);
+                                modelReasonings.put(modelId, reasonings);
+                            } else {
+                                // All iterations failed for this model
+                                excludedModels.add(modelId);
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(modelId)
+                                        .failedStepName("Evaluate")
+                                        .failedStepIndex(0)
+                                        .cause(new IllegalStateException("All " + iterations + " iterations failed"))
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("Evaluate")
+                                .stepIndex(0)
+                                .totalSteps(1)
+                                .stepType(StepType.LLM)
+                                .request(prompt)
+                                .results(List.copyOf(allResults))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed for metric: " + getName());
+                        }
+
+                        // Multi-model aggregation
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new SimpleCriteriaMetadata(
+                                        config.definition,
+                                        config.minScore,
+                                        config.maxScore,
+                                        iterations,
+                                        modelRawScores,
+                                        modelReasonings))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
+    /**
+     * Gets the size of the next wave of iterations of a model: two to measure the spread of the
+     * scores, then one at a time until the normalized scores lie within the tolerance, or 0 once
+     * they do.
+     */
+    private int iterationsToConverge(final SimpleCriteriaConfig config, final List<ModelResult<Response>> results) {
+        final List<Double> scores = results.stream()
+                .filter(ModelResult::isSuccess)
+                .map(result -> normalize(result.result().score(), config.minScore, config.maxScore))
+                .toList();
+        if (scores.size() < 2) {
+            return 2 - scores.size();
+        }
+        final double tolerance = config.scoreTolerance != null ? config.scoreTolerance : DEFAULT_SCORE_TOLERANCE;
+        final double spread = ScoreAggregator.MAX.aggregate(scores) - ScoreAggregator.MIN.aggregate(scores);
+        return spread <= tolerance ? 0 : 1;
+    }
+
     private String renderPrompt(final SimpleCriteriaConfig config, final Sample sample) {
         return PromptTemplate.builder()
                 .template(this.promptTemplate)
@@ -286,6 +312,21 @@ public class SimpleCriteriaScoreMetric
         @Builder.Default
         private Integer strictness = 1;
 
+        /**
+         * Sends the {@code strictness} iterations in small waves and stops as soon as the
+         * normalized scores of a model lie within {@code scoreTolerance} of each other.
+         * Default is false.
+         */
+        @Builder.Default
+        private Boolean adaptiveSampling = false;
+
+        /**
+         * Maximum spread of normalized [0, 1] scores at which adaptive sampling stops.
+         * Default is 0.1.
+         */
+        @Builder.Default
+        private Double scoreTolerance = DEFAULT_SCORE_TOLERANCE;
+
         @Builder.Default
         private String language = "en";
 
@@ -117,7 +117,8 @@ public class AnswerAccuracyMetric extends AbstractMultiModelMetric<AnswerAccurac
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final AnswerAccuracyConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final AnswerAccuracyConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -144,7 +145,7 @@ public class AnswerAccuracyMetric extends AbstractMultiModelMetric<AnswerAccurac
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final String response = sample.getResponse();
             final String reference = sample.getReference();
 
@@ -156,131 +157,140 @@ public class AnswerAccuracyMetric extends AbstractMultiModelMetric<AnswerAccurac
             final String initialPrompt = renderInitialJudgmentPrompt(response, reference);
             final Map<String, AccuracyEvaluationResponse> initialResponses = new HashMap<>();
             final Map<String, Double> modelScores = new HashMap<>();
-            final List<ModelResult<AccuracyEvaluationResponse>> initialResults =
-                    executor.executeLlm(modelIds, initialPrompt, AccuracyEvaluationResponse.class);
 
             // Build metadata for initial judgments
             final Map<String, AnswerAccuracyMetadata.JudgmentSummary> initialJudgments = new HashMap<>();
 
-            for (final ModelResult<AccuracyEvaluationResponse> result : initialResults) {
-                if (result.isSuccess() && result.result().score() != null) {
-                    final double normalizedScore = result.result().score() / 2.0;
-                    modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
-                    initialResponses.put(result.modelId(), result.result());
-                    initialJudgments.put(
-                            result.modelId(),
-                            new AnswerAccuracyMetadata.JudgmentSummary(
-                                    result.result().score(), result.result().reasoning()));
-                } else if (!result.isSuccess()) {
-                    if (!excludedModels.contains(result.modelId())) {
-                        excludedModels.add(result.modelId());
-                    }
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("InitialJudgment")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("InitialJudgment")
-                    .stepIndex(0)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(initialPrompt)
-                    .results(new ArrayList<ModelResult<?>>(initialResults))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed in metric: " + getName());
-            }
-
-            // Step 2: Confirmation judgment (if enabled)
-            Map<String, AnswerAccuracyMetadata.JudgmentSummary> confirmedJudgments = null;
-            if (config.useDualJudge && !initialResponses.isEmpty()) {
-                confirmedJudgments = new HashMap<>();
-
-                // Use average initial score and reasoning for confirmation
-                final double avgInitialScore = modelScores.values().stream()
-                        .mapToDouble(Double::doubleValue)
-                        .average()
-                        .orElse(0.0);
-                final int initialScoreInt = (int) Math.round(avgInitialScore * 2);
-                final String initialReasoning = initialResponses.values().stream()
-                        .findFirst()
-                        .map(AccuracyEvaluationResponse::reasoning)
-                        .orElse("");
-
-                final String confirmPrompt =
-                        renderConfirmationJudgmentPrompt(response, reference, initialScoreInt, initialReasoning);
-                final Map<String, Double> confirmedScores = new HashMap<>();
-                final List<ModelResult<ConfirmationEvaluationResponse>> confirmResults =
-                        executor.executeLlm(modelIds, confirmPrompt, ConfirmationEvaluationResponse.class);
-
-                for (final ModelResult<ConfirmationEvaluationResponse> result : confirmResults) {
-                    if (result.isSuccess() && result.result().score() != null) {
-                        final double normalizedScore = result.result().score() / 2.0;
-                        confirmedScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
-                        confirmedJudgments.put(
-                                result.modelId(),
-                                new AnswerAccuracyMetadata.JudgmentSummary(
-                                        result.result().score(), result.result().reasoning()));
-                    } else if (!result.isSuccess()) {
-                        if (!excludedModels.contains(result.modelId())) {
-                            excludedModels.add(result.modelId());
+            return evaluationExecutor.executeLlmAsync(modelIds, initialPrompt, AccuracyEvaluationResponse.class)
+                    .thenCompose(initialResults -> {
+                        for (final ModelResult<AccuracyEvaluationResponse> result : initialResults) {
+                            if (result.isSuccess() && result.result().score() != null) {
+                                final double normalizedScore = result.result().score() / 2.0;
+                                modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
+                                initialResponses.put(result.modelId(), result.result());
+                                initialJudgments.put(
+                                        result.modelId(),
+                                        new AnswerAccuracyMetadata.JudgmentSummary(
+                                                result.result().score(), result.result().reasoning()));
+                            } else if (!result.isSuccess()) {
+                                if (!excludedModels.contains(result.modelId())) {
+                                    excludedModels.add(result.modelId());
+                                }
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("InitialJudgment")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
                         }
-                        final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                                .modelId(result.modelId())
-                                .failedStepName("ConfirmJudgment")
-                                .failedStepIndex(1)
-                                .cause(result.error())
-                                .build();
-                        accumulatedExclusions.add(exclusion);
-                    }
-                }
-
-                accumulatedSteps.add(StepResults.builder()
-                        .stepName("ConfirmJudgment")
-                        .stepIndex(1)
-                        .totalSteps(totalSteps)
-                        .stepType(StepType.LLM)
-                        .request(confirmPrompt)
-                        .results(new ArrayList<ModelResult<?>>(confirmResults))
-                        .build());
-
-                // Use confirmed scores if available
-                if (!confirmedScores.isEmpty()) {
-                    modelScores.clear();
-                    modelScores.putAll(confirmedScores);
-                }
-            }
-
-            // Average score across models
-            final double aggregatedScore = modelScores.values().stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(0.0);
-
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(new HashMap<>(modelScores))
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new AnswerAccuracyMetadata(initialJudgments, confirmedJudgments, config.useDualJudge))
-                    .build());
-
-            return aggregatedScore;
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("InitialJudgment")
+                                .stepIndex(0)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(initialPrompt)
+                                .results(new ArrayList<ModelResult<?>>(initialResults))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed in metric: " + getName());
+                        }
+
+                        // Step 2: Confirmation judgment (if enabled)
+                        if (!config.useDualJudge || initialResponses.isEmpty()) {
+                            return CompletableFuture.<Map<String, AnswerAccuracyMetadata.JudgmentSummary>>
+                                    completedFuture(null);
+                        }
+
+                        // Use average initial score and reasoning for confirmation
+                        final double avgInitialScore = modelScores.values().stream()
+                                .mapToDouble(Double::doubleValue)
+                                .average()
+                                .orElse(0.0);
+                        final int initialScoreInt = (int) Math.round(avgInitialScore * 2);
+                        final String initialReasoning = initialResponses.values().stream()
+                                .findFirst()
+                                .map(AccuracyEvaluationResponse::reasoning)
+                                .orElse("");
+
+                        final String confirmPrompt = renderConfirmationJudgmentPrompt(
+                                response, reference, initialScoreInt, initialReasoning);
+                        return evaluationExecutor
+                                .executeLlmAsync(modelIds, confirmPrompt, ConfirmationEvaluationResponse.class)
+                                .thenApply(confirmResults -> {
+                                    final Map<String, AnswerAccuracyMetadata.JudgmentSummary> confirmedJudgments =
+                                            new HashMap<>();
+                                    final Map<String, Double> confirmedScores = new HashMap<>();
+                                    for (final ModelResult<ConfirmationEvaluationResponse> result : confirmResults) {
+                                        if (result.isSuccess() && result.result().score() != null) {
+                                            final double normalizedScore = result.result().score() / 2.0;
+                                            confirmedScores.put(
+                                                    result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
+                                            confirmedJudgments.put(
+                                                    result.modelId(),
+                                                    new AnswerAccuracyMetadata.JudgmentSummary(
+                                                            result.result().score(),
+                                                            result.result().reasoning()));
+                                        } else if (!result.isSuccess()) {
+                                            if (!excludedModels.contains(result.modelId())) {
+                                                excludedModels.add(result.modelId());
+                                            }
+                                            final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                                    .modelId(result.modelId())
+                                                    .failedStepName("ConfirmJudgment")
+                                                    .failedStepIndex(1)
+                                                    .cause(result.error())
+                                                    .build();
+                                            accumulatedExclusions.add(exclusion);
+                                        }
+                                    }
+
+                                    accumulatedSteps.add(StepResults.builder()
+                                            .stepName("ConfirmJudgment")
+                                            .stepIndex(1)
+                                            .totalSteps(totalSteps)
+                                            .stepType(StepType.LLM)
+                                            .request(confirmPrompt)
+                                            .results(new ArrayList<ModelResult<?>>(confirmResults))
+                                            .build());
+
+                                    // Use confirmed scores if available
+                                    if (!confirmedScores.isEmpty()) {
+                                        modelScores.clear();
+                                        modelScores.putAll(confirmedScores);
+                                    }
+                                    return confirmedJudgments;
+                                });
+                    })
+                    .thenApply(confirmedJudgments -> {
+                        // Average score across models
+                        final double aggregatedScore = modelScores.values().stream()
+                                .mapToDouble(Double::doubleValue)
+                                .average()
+                                .orElse(0.0);
+
+                        final Duration duration = Duration.between(startTime, Instant.now());
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(new HashMap<>(modelScores))
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new AnswerAccuracyMetadata(
+                                        initialJudgments, confirmedJudgments, config.useDualJudge))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
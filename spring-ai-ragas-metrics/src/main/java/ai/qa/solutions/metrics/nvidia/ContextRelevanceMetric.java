@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Singular;
@@ -42,6 +44,10 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  *   <li>{@code userInput} - The user's question</li>
  *   <li>{@code retrievedContexts} - List of retrieved context chunks</li>
  * </ul>
+ * <p>
+ * All contexts are judged in parallel. With {@link ContextRelevanceConfig#getContextsPerPrompt()}
+ * above 1, several numbered contexts are judged in one prompt that returns a score per context;
+ * a context the judge returns no score for counts as a failure of that model for the context.
  */
 @Slf4j
 public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRelevanceMetric.ContextRelevanceConfig> {
@@ -69,13 +75,46 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
                     - reasoning: Brief explanation of the relevance assessment
                     """;
 
+    public static final String DEFAULT_EVALUATE_RELEVANCE_BATCH_PROMPT =
+            """
+                    Evaluate the relevance of each of the provided contexts for answering the user's question.
+
+                    User Question:
+                    {userInput}
+
+                    Retrieved Contexts:
+                    {contexts}
+
+                    Instructions:
+                    1. Evaluate every context independently of the others
+                    2. Analyze whether the context contains information relevant to answering the question
+                    3. Consider both direct relevance and supporting information
+                    4. Rate each context using the following scale:
+                       - 0: Not relevant - Context does not contain information to answer the question
+                       - 1: Partially relevant - Context contains some relevant information but may be incomplete
+                       - 2: Fully relevant - Context contains comprehensive information to answer the question
+
+                    Respond with a JSON object containing:
+                    - evaluations: One entry per context, each with
+                      - index: The number of the context in square brackets
+                      - score: Integer from 0 to 2 representing the relevance level
+                      - reasoning: Brief explanation of the relevance assessment
+                    """;
+
     private final String evaluateRelevancePrompt;
+    private final String evaluateRelevanceBatchPrompt;
 
     @Builder(toBuilder = true)
-    protected ContextRelevanceMetric(final MultiModelExecutor executor, final String evaluateRelevancePrompt) {
+    protected ContextRelevanceMetric(
+            final MultiModelExecutor executor,
+            final String evaluateRelevancePrompt,
+            final String evaluateRelevanceBatchPrompt) {
         super(executor);
         this.evaluateRelevancePrompt =
                 evaluateRelevancePrompt != null ? evaluateRelevancePrompt : DEFAULT_EVALUATE_RELEVANCE_PROMPT;
+        this.evaluateRelevanceBatchPrompt = evaluateRelevanceBatchPrompt != null
+                ? evaluateRelevanceBatchPrompt
+                : DEFAULT_EVALUATE_RELEVANCE_BATCH_PROMPT;
     }
 
     @Override
@@ -84,7 +123,8 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final ContextRelevanceConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final ContextRelevanceConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -112,7 +152,7 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final String userInput = sample.getUserInput();
             final List<String> contexts = sample.getRetrievedContexts();
 
@@ -121,83 +161,139 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
             final List<String> excludedModels = new ArrayList<>();
             final List<Double> contextScores = new ArrayList<>();
 
-            // Evaluate each context chunk
-            for (int i = 0; i < contexts.size(); i++) {
-                final String context = contexts.get(i);
-                final String stepName = String.format("EvaluateRelevance_%d", i + 1);
-
-                final String prompt = renderEvaluateRelevancePrompt(userInput, context);
-                final Map<String, Double> modelScores = new HashMap<>();
-                final List<ModelResult<RelevanceEvaluationResponse>> results =
-                        executor.executeLlm(modelIds, prompt, RelevanceEvaluationResponse.class);
-
-                for (final ModelResult<RelevanceEvaluationResponse> result : results) {
-                    if (result.isSuccess() && result.result().score() != null) {
-                        // Normalize score from 0-2 to 0-1
-                        final double normalizedScore = result.result().score() / 2.0;
-                        modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
-                    } else if (!result.isSuccess()) {
-                        if (!excludedModels.contains(result.modelId())) {
-                            excludedModels.add(result.modelId());
-                        }
-                        final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                                .modelId(result.modelId())
-                                .failedStepName(stepName)
-                                .failedStepIndex(i)
-                                .cause(result.error())
-                                .build();
-                        accumulatedExclusions.add(exclusion);
-                    }
+            // Launch ALL context evaluations in parallel, several contexts per prompt if configured
+            final int contextsPerPrompt = Math.max(1, config.contextsPerPrompt);
+            final List<String> prompts = new ArrayList<>();
+            final List<CompletableFuture<List<ModelResult<RelevanceEvaluationResponse>>>> contextFutures =
+                    new ArrayList<>();
+            for (int first = 0; first < contexts.size(); first += contextsPerPrompt) {
+                final List<String> batch =
+                        contexts.subList(first, Math.min(first + contextsPerPrompt, contexts.size()));
+                if (batch.size() == 1) {
+                    final String prompt = renderEvaluateRelevancePrompt(userInput, batch.get(0));
+                    prompts.add(prompt);
+                    contextFutures.add(
+                            evaluationExecutor.executeLlmAsync(modelIds, prompt, RelevanceEvaluationResponse.class));
+                    continue;
                 }
-
-                accumulatedSteps.add(StepResults.builder()
-                        .stepName(stepName)
-                        .stepIndex(i)
-                        .totalSteps(totalSteps)
-                        .stepType(StepType.LLM)
-                        .request(prompt)
-                        .results(new ArrayList<ModelResult<?>>(results))
-                        .build());
-
-                if (!modelScores.isEmpty()) {
-                    // Average across models for this context
-                    final double avgScore = modelScores.values().stream()
-                            .mapToDouble(Double::doubleValue)
-                            .average()
-                            .orElse(0.0);
-                    contextScores.add(avgScore);
+                final String prompt = renderEvaluateRelevanceBatchPrompt(userInput, batch);
+                final CompletableFuture<List<ModelResult<BatchRelevanceEvaluationResponse>>> batchFuture =
+                        evaluationExecutor.executeLlmAsync(modelIds, prompt, BatchRelevanceEvaluationResponse.class);
+                for (int position = 1; position <= batch.size(); position++) {
+                    final int index = position;
+                    prompts.add(prompt);
+                    contextFutures.add(batchFuture.thenApply(results -> results.stream()
+                            .map(result -> evaluationForContext(result, index))
+                            .toList()));
                 }
             }
 
-            if (contextScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for all contexts in metric: " + getName());
-            }
+            return CompletableFuture.allOf(contextFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        // Process results maintaining context order
+                        for (int contextIndex = 0; contextIndex < contexts.size(); contextIndex++) {
+                            final String stepName = String.format("EvaluateRelevance_%d", contextIndex + 1);
+                            final String prompt = prompts.get(contextIndex);
+                            final List<ModelResult<RelevanceEvaluationResponse>> results =
+                                    contextFutures.get(contextIndex).join();
+
+                            final Map<String, Double> modelScores = new HashMap<>();
+                            for (final ModelResult<RelevanceEvaluationResponse> result : results) {
+                                if (result.isSuccess() && result.result().score() != null) {
+                                    // Normalize score from 0-2 to 0-1
+                                    final double normalizedScore = result.result().score() / 2.0;
+                                    modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
+                                } else if (!result.isSuccess()) {
+                                    if (!excludedModels.contains(result.modelId())) {
+                                        excludedModels.add(result.modelId());
+                                    }
+                                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                            .modelId(result.modelId())
+                                            .failedStepName(stepName)
+                                            .failedStepIndex(contextIndex)
+                                            .cause(result.error())
+                                            .build();
+                                    accumulatedExclusions.add(exclusion);
+                                }
+                            }
+
+                            accumulatedSteps.add(StepResults.builder()
+                                    .stepName(stepName)
+                                    .stepIndex(contextIndex)
+                                    .totalSteps(totalSteps)
+                                    .stepType(StepType.LLM)
+                                    .request(prompt)
+                                    .results(new ArrayList<ModelResult<?>>(results))
+                                    .build());
+
+                            if (!modelScores.isEmpty()) {
+                                // Average across models for this context
+                                final double avgScore = modelScores.values().stream()
+                                        .mapToDouble(Double::doubleValue)
+                                        .average()
+                                        .orElse(0.0);
+                                contextScores.add(avgScore);
+                            }
+                        }
+
+                        if (contextScores.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed for all contexts in metric: " + getName());
+                        }
+
+                        // Average score across all contexts
+                        final double aggregatedScore = contextScores.stream()
+                                .mapToDouble(Double::doubleValue)
+                                .average()
+                                .orElse(0.0);
+                        final Duration duration = Duration.between(startTime, Instant.now());
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(Map.of("aggregated", aggregatedScore))
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new ContextRelevanceMetadata(contextScores, contexts.size()))
+                                .build());
 
-            // Average score across all contexts
-            final double aggregatedScore = contextScores.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(0.0);
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(Map.of("aggregated", aggregatedScore))
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new ContextRelevanceMetadata(contextScores, contexts.size()))
-                    .build());
-
-            return aggregatedScore;
+                        return aggregatedScore;
+                    });
         });
     }
 
+    /**
+     * Extracts the evaluation of one context from a judge's response to a multi-context prompt.
+     *
+     * @param result the judge's result for the whole prompt
+     * @param index  the 1-based number of the context in the prompt
+     * @return the context's evaluation, or a failure if the judge returned no score for it
+     */
+    private static ModelResult<RelevanceEvaluationResponse> evaluationForContext(
+            final ModelResult<BatchRelevanceEvaluationResponse> result, final int index) {
+        if (result.isFailure()) {
+            return ModelResult.failure(result.modelId(), result.duration(), result.request(), result.error());
+        }
+        final List<ContextEvaluation> evaluations =
+                result.result().evaluations() != null ? result.result().evaluations() : List.of();
+        return evaluations.stream()
+                .filter(evaluation -> evaluation.index() != null && evaluation.index() == index)
+                .filter(evaluation -> evaluation.score() != null)
+                .findFirst()
+                .map(evaluation -> result.map(
+                        ignored -> new RelevanceEvaluationResponse(evaluation.score(), evaluation.reasoning())))
+                .orElseGet(() -> ModelResult.failure(
+                        result.modelId(),
+                        result.duration(),
+                        result.request(),
+                        new IllegalStateException("No relevance score returned for context " + index)));
+    }
+
     private String renderEvaluateRelevancePrompt(final String userInput, final String context) {
         return PromptTemplate.builder()
                 .template(this.evaluateRelevancePrompt)
@@ -206,6 +302,17 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
                 .render();
     }
 
+    private String renderEvaluateRelevanceBatchPrompt(final String userInput, final List<String> contexts) {
+        final String numberedContexts = IntStream.range(0, contexts.size())
+                .mapToObj(i -> "[" + (i + 1) + "] " + contexts.get(i))
+                .collect(Collectors.joining("\n\n"));
+        return PromptTemplate.builder()
+                .template(this.evaluateRelevanceBatchPrompt)
+                .variables(Map.of("userInput", userInput, "contexts", numberedContexts))
+                .build()
+                .render();
+    }
+
     /**
      * Response DTO for relevance evaluation.
      */
@@ -213,6 +320,21 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
             @JsonPropertyDescription("Relevance score from 0 (not relevant) to 2 (fully relevant)") Integer score,
             @JsonPropertyDescription("Explanation of the relevance assessment") String reasoning) {}
 
+    /**
+     * Response DTO for relevance evaluation of several numbered contexts in one prompt.
+     */
+    public record BatchRelevanceEvaluationResponse(
+            @JsonPropertyDescription("Relevance evaluation of every context, one entry per context")
+                    List<ContextEvaluation> evaluations) {}
+
+    /**
+     * Relevance evaluation of one numbered context.
+     */
+    public record ContextEvaluation(
+            @JsonPropertyDescription("Number of the context as given in square brackets") Integer index,
+            @JsonPropertyDescription("Relevance score from 0 (not relevant) to 2 (fully relevant)") Integer score,
+            @JsonPropertyDescription("Explanation of the relevance assessment") String reasoning) {}
+
     @Data
     @Builder
     public static class ContextRelevanceConfig implements MetricConfiguration {
@@ -225,5 +347,12 @@ public class ContextRelevanceMetric extends AbstractMultiModelMetric<ContextRele
 
         @Builder.Default
         private String language = "en";
+
+        /**
+         * Number of contexts judged in one prompt. Values above 1 save repeating the question and
+         * instructions for every context at the cost of longer prompts. Default is 1.
+         */
+        @Builder.Default
+        private int contextsPerPrompt = 1;
     }
 }
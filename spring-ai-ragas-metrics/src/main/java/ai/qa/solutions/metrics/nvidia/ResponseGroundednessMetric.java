@@ -92,7 +92,7 @@ public class ResponseGroundednessMetric
 
     @Override
     public CompletableFuture<Double> singleTurnScoreAsync(
-            final ResponseGroundednessConfig config, final Sample sample) {
+            final ResponseGroundednessConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -120,7 +120,7 @@ public class ResponseGroundednessMetric
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             final String response = sample.getResponse();
             final String combinedContext = String.join("\n\n", sample.getRetrievedContexts());
 
@@ -152,7 +152,7 @@ public class ResponseGroundednessMetric
                                 accumulatedSteps,
                                 accumulatedExclusions,
                                 true);
-                        return 1.0;
+                        return CompletableFuture.completedFuture(1.0);
                     }
                 }
 
@@ -179,7 +179,7 @@ public class ResponseGroundednessMetric
                             accumulatedSteps,
                             accumulatedExclusions,
                             true);
-                    return 1.0;
+                    return CompletableFuture.completedFuture(1.0);
                 }
 
                 accumulatedSteps.add(StepResults.builder()
@@ -197,59 +197,59 @@ public class ResponseGroundednessMetric
 
             final String prompt = renderEvaluateGroundednessPrompt(response, combinedContext);
             final Map<String, Double> modelScores = new HashMap<>();
-            final List<ModelResult<GroundednessEvaluationResponse>> results =
-                    executor.executeLlm(modelIds, prompt, GroundednessEvaluationResponse.class);
-
-            for (final ModelResult<GroundednessEvaluationResponse> result : results) {
-                if (result.isSuccess() && result.result().score() != null) {
-                    // Normalize score from 0-2 to 0-1
-                    final double normalizedScore = result.result().score() / 2.0;
-                    modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
-                } else if (!result.isSuccess()) {
-                    if (!excludedModels.contains(result.modelId())) {
-                        excludedModels.add(result.modelId());
-                    }
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName(stepName)
-                            .failedStepIndex(stepIndex)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
+            return evaluationExecutor.executeLlmAsync(modelIds, prompt, GroundednessEvaluationResponse.class)
+                    .thenApply(results -> {
+                        for (final ModelResult<GroundednessEvaluationResponse> result : results) {
+                            if (result.isSuccess() && result.result().score() != null) {
+                                // Normalize score from 0-2 to 0-1
+                                final double normalizedScore = result.result().score() / 2.0;
+                                modelScores.put(result.modelId(), Math.min(1.0, Math.max(0.0, normalizedScore)));
+                            } else if (!result.isSuccess()) {
+                                if (!excludedModels.contains(result.modelId())) {
+                                    excludedModels.add(result.modelId());
+                                }
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName(stepName)
+                                        .failedStepIndex(stepIndex)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
 
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName(stepName)
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(prompt)
-                    .results(new ArrayList<ModelResult<?>>(results))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed in metric: " + getName());
-            }
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName(stepName)
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(prompt)
+                                .results(new ArrayList<ModelResult<?>>(results))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed in metric: " + getName());
+                        }
+
+                        // Average score across models
+                        final double aggregatedScore = modelScores.values().stream()
+                                .mapToDouble(Double::doubleValue)
+                                .average()
+                                .orElse(0.0);
 
-            // Average score across models
-            final double aggregatedScore = modelScores.values().stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(0.0);
-
-            finishEvaluation(
-                    notifier,
-                    aggregatedScore,
-                    excludedModels,
-                    startTime,
-                    sample,
-                    config,
-                    modelIds,
-                    accumulatedSteps,
-                    accumulatedExclusions,
-                    false);
-            return aggregatedScore;
+                        finishEvaluation(
+                                notifier,
+                                aggregatedScore,
+                                excludedModels,
+                                startTime,
+                                sample,
+                                config,
+                                modelIds,
+                                accumulatedSteps,
+                                accumulatedExclusions,
+                                false);
+                        return aggregatedScore;
+                    });
         });
     }
 
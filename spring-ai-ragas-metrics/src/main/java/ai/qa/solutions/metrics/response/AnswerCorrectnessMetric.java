@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Singular;
@@ -108,7 +110,8 @@ public class AnswerCorrectnessMetric extends AbstractMultiModelMetric<AnswerCorr
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final AnswerCorrectnessConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final AnswerCorrectnessConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
 
         // Validate required inputs
         final String response = sample.getResponse();
@@ -141,7 +144,7 @@ public class AnswerCorrectnessMetric extends AbstractMultiModelMetric<AnswerCorr
                 .totalSteps(3) // ComputeFactualCorrectness -> ComputeSemanticSimilarity -> CombineScores
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing answer correctness evaluation");
 
             final List<StepResults> accumulatedSteps = new ArrayList<>();
@@ -154,114 +157,120 @@ public class AnswerCorrectnessMetric extends AbstractMultiModelMetric<AnswerCorr
 
             if (totalWeight <= 0) {
                 log.warn("Invalid weights: factual={}, semantic={}. Using defaults.", factualWeight, semanticWeight);
-                return 0.0;
+                return CompletableFuture.completedFuture(0.0);
             }
 
             // Normalize weights to sum to 1
             final double normalizedFactualWeight = factualWeight / totalWeight;
             final double normalizedSemanticWeight = semanticWeight / totalWeight;
 
-            // ========== Step 1: Compute Factual Correctness ==========
+            // ========== Steps 1-2: Compute Factual Correctness and Semantic Similarity ==========
+            // Both nested metrics are composed, not joined, so this flow never blocks a metric thread.
+            // They run on this evaluation's executor: its deadline and call graph cover their calls too
             final FactualCorrectnessMetric.FactualCorrectnessConfig factualConfig =
                     FactualCorrectnessMetric.FactualCorrectnessConfig.builder()
                             .mode(FactualCorrectnessMetric.Mode.F1)
                             .build();
-
-            Double factualScore;
-            try {
-                factualScore = factualCorrectnessMetric.singleTurnScore(factualConfig, sample);
-                if (factualScore == null) {
-                    factualScore = 0.0;
-                }
-            } catch (final Exception e) {
-                log.warn("Factual correctness evaluation failed: {}", e.getMessage());
-                factualScore = 0.0;
-            }
-
-            // Create result for step accumulation
-            final List<ModelResult<?>> step1Results =
-                    List.of(ModelResult.success("factual", factualScore, Duration.ZERO, "compute"));
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeFactualCorrectness")
-                    .stepIndex(0)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(step1Results)
-                    .build());
-
-            // ========== Step 2: Compute Semantic Similarity ==========
             final SemanticSimilarityMetric.SemanticSimilarityConfig semanticConfig =
                     SemanticSimilarityMetric.SemanticSimilarityConfig.builder().build();
 
-            Double semanticScore;
-            try {
-                semanticScore = semanticSimilarityMetric.singleTurnScore(semanticConfig, sample);
-                if (semanticScore == null) {
-                    semanticScore = 0.0;
-                }
-            } catch (final Exception e) {
-                log.warn("Semantic similarity evaluation failed: {}", e.getMessage());
-                semanticScore = 0.0;
-            }
+            final CompletableFuture<Double> factualFuture = scoreOrZero(
+                    () -> factualCorrectnessMetric.singleTurnScoreAsync(factualConfig, sample, evaluationExecutor),
+                    "Factual correctness");
+            final CompletableFuture<Double> semanticFuture = scoreOrZero(
+                    () -> semanticSimilarityMetric.singleTurnScoreAsync(semanticConfig, sample, evaluationExecutor),
+                    "Semantic similarity");
+
+            return factualFuture.thenCombine(semanticFuture, (factualScore, semanticScore) -> {
+                // Create result for step accumulation
+                final List<ModelResult<?>> step1Results =
+                        List.of(ModelResult.success("factual", factualScore, Duration.ZERO, "compute"));
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ComputeFactualCorrectness")
+                        .stepIndex(0)
+                        .totalSteps(3)
+                        .stepType(StepType.COMPUTE)
+                        .results(step1Results)
+                        .build());
+
+                // Create result for step accumulation
+                final List<ModelResult<?>> step2Results =
+                        List.of(ModelResult.success("semantic", semanticScore, Duration.ZERO, "compute"));
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ComputeSemanticSimilarity")
+                        .stepIndex(1)
+                        .totalSteps(3)
+                        .stepType(StepType.COMPUTE)
+                        .results(step2Results)
+                        .build());
+
+                // ========== Step 3: Combine Scores ==========
+                final double combinedScore =
+                        (normalizedFactualWeight * factualScore) + (normalizedSemanticWeight * semanticScore);
+
+                log.debug(
+                        "Answer correctness: factual={:.4f} (weight={:.2f}), semantic={:.4f} (weight={:.2f}) -> combined={:.4f}",
+                        factualScore,
+                        normalizedFactualWeight,
+                        semanticScore,
+                        normalizedSemanticWeight,
+                        combinedScore);
+
+                // Create result for step accumulation
+                final List<ModelResult<?>> step3Results =
+                        List.of(ModelResult.success("combined", combinedScore, Duration.ZERO, "compute"));
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("CombineScores")
+                        .stepIndex(2)
+                        .totalSteps(3)
+                        .stepType(StepType.COMPUTE)
+                        .results(step3Results)
+                        .build());
+
+                // Build model scores map for result (use combined score for the "aggregated" entry)
+                final Map<String, Double> modelScores = new HashMap<>();
+                modelScores.put("factual", factualScore);
+                modelScores.put("semantic", semanticScore);
+                modelScores.put("combined", combinedScore);
+
+                // Notify with full results
+                final Duration duration = Duration.between(startTime, Instant.now());
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .sample(sample)
+                        .config(config)
+                        .modelIds(modelIds)
+                        .embeddingModelIds(embeddingModelIds)
+                        .aggregatedScore(combinedScore)
+                        .modelScores(modelScores)
+                        .totalDuration(duration)
+                        .steps(accumulatedSteps)
+                        .exclusions(accumulatedExclusions)
+                        .metadata(new AnswerCorrectnessMetadata(
+                                factualScore, semanticScore, normalizedFactualWeight, normalizedSemanticWeight))
+                        .build());
+
+                return combinedScore;
+            });
+        });
+    }
 
-            // Create result for step accumulation
-            final List<ModelResult<?>> step2Results =
-                    List.of(ModelResult.success("semantic", semanticScore, Duration.ZERO, "compute"));
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeSemanticSimilarity")
-                    .stepIndex(1)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(step2Results)
-                    .build());
-
-            // ========== Step 3: Combine Scores ==========
-            final double combinedScore =
-                    (normalizedFactualWeight * factualScore) + (normalizedSemanticWeight * semanticScore);
-
-            log.debug(
-                    "Answer correctness: factual={:.4f} (weight={:.2f}), semantic={:.4f} (weight={:.2f}) -> combined={:.4f}",
-                    factualScore,
-                    normalizedFactualWeight,
-                    semanticScore,
-                    normalizedSemanticWeight,
-                    combinedScore);
-
-            // Create result for step accumulation
-            final List<ModelResult<?>> step3Results =
-                    List.of(ModelResult.success("combined", combinedScore, Duration.ZERO, "compute"));
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("CombineScores")
-                    .stepIndex(2)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(step3Results)
-                    .build());
-
-            // Build model scores map for result (use combined score for the "aggregated" entry)
-            final Map<String, Double> modelScores = new HashMap<>();
-            modelScores.put("factual", factualScore);
-            modelScores.put("semantic", semanticScore);
-            modelScores.put("combined", combinedScore);
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .embeddingModelIds(embeddingModelIds)
-                    .aggregatedScore(combinedScore)
-                    .modelScores(modelScores)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new AnswerCorrectnessMetadata(
-                            factualScore, semanticScore, normalizedFactualWeight, normalizedSemanticWeight))
-                    .build());
-
-            return combinedScore;
+    private static CompletableFuture<Double> scoreOrZero(
+            final Supplier<CompletableFuture<Double>> evaluation, final String label) {
+        CompletableFuture<Double> future;
+        try {
+            future = evaluation.get();
+        } catch (final RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((score, error) -> {
+            if (error != null) {
+                final Throwable cause =
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                log.warn("{} evaluation failed: {}", label, cause.getMessage());
+                return 0.0;
+            }
+            return score != null ? score : 0.0;
         });
     }
 
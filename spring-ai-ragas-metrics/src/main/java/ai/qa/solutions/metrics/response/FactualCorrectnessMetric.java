@@ -2,12 +2,14 @@ package ai.qa.solutions.metrics.response;
 
 import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.cache.ReferenceArtifact;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
 import ai.qa.solutions.execution.listener.dto.StepResults;
 import ai.qa.solutions.execution.listener.dto.StepType;
 import ai.qa.solutions.metric.AbstractMultiModelMetric;
+import ai.qa.solutions.metric.decomposition.DecompositionStore;
 import ai.qa.solutions.metric.metadata.FactualCorrectnessMetadata;
 import ai.qa.solutions.sample.Sample;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -15,8 +17,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -42,6 +46,15 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  *   <li>Compute precision, recall, and F1 score</li>
  * </ol>
  * <p>
+ * Each model runs its steps as a dependency graph: both decompositions are sent at once, and both
+ * NLI directions are sent at once as soon as the two claim lists are available.
+ * <p>
+ * With a {@link DecompositionStore}, the response is decomposed from the store's shared template
+ * (which also sees the question) and the claims are reused by the other metrics built with it.
+ * The reference is decomposed from the same template, so precision and recall compare claims of
+ * the same granularity. A custom {@code claimsDecompositionTemplate} that differs from the
+ * store's template takes precedence over the store.
+ * <p>
  * <strong>Score interpretation:</strong>
  * <ul>
  *   <li>1.0 - All claims are factually correct and complete</li>
@@ -124,13 +137,17 @@ public class FactualCorrectnessMetric
 
     private final String claimsDecompositionTemplate;
     private final String nliVerificationTemplate;
+    private final DecompositionStore decompositionStore;
 
     @Builder(toBuilder = true)
     protected FactualCorrectnessMetric(
             final MultiModelExecutor executor,
             final String claimsDecompositionTemplate,
-            final String nliVerificationTemplate) {
+            final String nliVerificationTemplate,
+            final DecompositionStore decompositionStore) {
         super(executor);
+        this.decompositionStore = DecompositionStore.applicableTo(
+                decompositionStore, claimsDecompositionTemplate, getName(), "claimsDecompositionTemplate");
         this.claimsDecompositionTemplate = claimsDecompositionTemplate != null
                 ? claimsDecompositionTemplate
                 : DEFAULT_CLAIMS_DECOMPOSITION_TEMPLATE;
@@ -164,7 +181,8 @@ public class FactualCorrectnessMetric
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final FactualCorrectnessConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final FactualCorrectnessConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
 
         // Validate required inputs
         final String response = sample.getResponse();
@@ -195,7 +213,7 @@ public class FactualCorrectnessMetric
                 .totalSteps(4) // DecomposeResponse -> DecomposeReference -> VerifyNLI -> ComputeScore
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing factual correctness evaluation with explicit flow");
 
             // Local accumulators for step results and exclusions
@@ -205,241 +223,332 @@ public class FactualCorrectnessMetric
             // Track excluded models across all steps
             final List<String> excludedModels = new ArrayList<>();
 
-            // ========== Step 1: Decompose response into claims ==========
-            final String decomposeResponsePrompt = renderDecomposeClaimsPrompt(response);
-            final List<ModelResult<ClaimsResponse>> step1Results =
-                    executor.executeLlm(modelIds, decomposeResponsePrompt, ClaimsResponse.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("DecomposeResponseClaims")
-                    .stepIndex(0)
-                    .totalSteps(4)
-                    .stepType(StepType.LLM)
-                    .request(decomposeResponsePrompt)
-                    .results(new ArrayList<ModelResult<?>>(step1Results))
-                    .build());
-
-            // Collect successful results from step 1
-            final Map<String, ClaimsResponse> responseClaims = new HashMap<>();
-            for (final ModelResult<ClaimsResponse> result : step1Results) {
-                if (result.isSuccess()
-                        && result.result() != null
-                        && result.result().claims() != null) {
-                    responseClaims.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("DecomposeResponseClaims")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
+            final String decomposeResponsePrompt = decompositionStore != null
+                    ? decompositionStore.renderPrompt(sample.getUserInput(), response)
+                    : renderDecomposeClaimsPrompt(response);
+            final String decomposeReferencePrompt = decompositionStore != null
+                    ? decompositionStore.renderPrompt(sample.getUserInput(), reference)
+                    : renderDecomposeClaimsPrompt(reference);
+
+            // ========== Steps 1-3 pipelined per model ==========
+            // Each model advances to its next steps as soon as its own inputs are ready,
+            // so a slow judge only delays its own chain instead of gating every step
+            final List<CompletableFuture<FactualCorrectnessChain>> chainFutures = modelIds.stream()
+                    .map(modelId -> runModelChain(
+                            evaluationExecutor,
+                            modelId,
+                            sample.getUserInput(),
+                            response,
+                            reference,
+                            decomposeResponsePrompt,
+                            decomposeReferencePrompt))
+                    .toList();
+            return CompletableFuture.allOf(chainFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        final List<FactualCorrectnessChain> chains =
+                                chainFutures.stream().map(CompletableFuture::join).toList();
+
+                        // ========== Step 1: Decompose response into claims ==========
+                        final List<ModelResult<ClaimsResponse>> step1Results =
+                                chains.stream().map(FactualCorrectnessChain::responseClaims).toList();
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("DecomposeResponseClaims")
+                                .stepIndex(0)
+                                .totalSteps(4)
+                                .stepType(StepType.LLM)
+                                .request(decomposeResponsePrompt)
+                                .results(new ArrayList<ModelResult<?>>(step1Results))
+                                .build());
+
+                        // Collect successful results from step 1
+                        final Map<String, ClaimsResponse> responseClaims = new LinkedHashMap<>();
+                        for (final ModelResult<ClaimsResponse> result : step1Results) {
+                            if (hasClaims(result)) {
+                                responseClaims.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("DecomposeResponseClaims")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
 
-            if (responseClaims.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step DecomposeResponseClaims for metric: " + getName());
-            }
+                        if (responseClaims.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step DecomposeResponseClaims for metric: " + getName());
+                        }
 
-            // ========== Step 2: Decompose reference into claims ==========
-            final List<String> step1SuccessfulModels = new ArrayList<>(responseClaims.keySet());
-            final String decomposeReferencePrompt = renderDecomposeClaimsPrompt(reference);
-            final List<ModelResult<ClaimsResponse>> step2Results =
-                    executor.executeLlm(step1SuccessfulModels, decomposeReferencePrompt, ClaimsResponse.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("DecomposeReferenceClaims")
-                    .stepIndex(1)
-                    .totalSteps(4)
-                    .stepType(StepType.LLM)
-                    .request(decomposeReferencePrompt)
-                    .results(new ArrayList<ModelResult<?>>(step2Results))
-                    .build());
-
-            // Collect successful results from step 2
-            final Map<String, ClaimsResponse> referenceClaims = new HashMap<>();
-            for (final ModelResult<ClaimsResponse> result : step2Results) {
-                if (result.isSuccess()
-                        && result.result() != null
-                        && result.result().claims() != null) {
-                    referenceClaims.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    responseClaims.remove(result.modelId()); // Remove from previous step too
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("DecomposeReferenceClaims")
-                            .failedStepIndex(1)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
+                        // ========== Step 2: Decompose reference into claims ==========
+                        final List<ModelResult<ClaimsResponse>> step2Results = chains.stream()
+                                .map(FactualCorrectnessChain::referenceClaims)
+                                .filter(Objects::nonNull)
+                                .toList();
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("DecomposeReferenceClaims")
+                                .stepIndex(1)
+                                .totalSteps(4)
+                                .stepType(StepType.LLM)
+                                .request(decomposeReferencePrompt)
+                                .results(new ArrayList<ModelResult<?>>(step2Results))
+                                .build());
+
+                        // Collect successful results from step 2 of models that passed step 1
+                        final Map<String, ClaimsResponse> referenceClaims = new LinkedHashMap<>();
+                        for (final ModelResult<ClaimsResponse> result : step2Results) {
+                            if (!responseClaims.containsKey(result.modelId())) {
+                                continue;
+                            }
+                            if (hasClaims(result)) {
+                                referenceClaims.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                responseClaims.remove(result.modelId()); // Remove from previous step too
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("DecomposeReferenceClaims")
+                                        .failedStepIndex(1)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
 
-            if (referenceClaims.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step DecomposeReferenceClaims for metric: " + getName());
-            }
+                        if (referenceClaims.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step DecomposeReferenceClaims for metric: " + getName());
+                        }
 
-            // ========== Step 3: Verify claims with NLI ==========
-            // For each model, verify response claims against reference (precision)
-            // and reference claims against response (recall)
-            final List<String> step2SuccessfulModels = new ArrayList<>(referenceClaims.keySet());
-            final Map<String, NliVerificationResult> nliResults = new HashMap<>();
-
-            final List<CompletableFuture<Void>> nliVerificationFutures = step2SuccessfulModels.stream()
-                    .map(modelId -> CompletableFuture.runAsync(() -> {
-                        try {
-                            // Verify response claims against reference (for precision)
-                            final String referenceText = reference;
-                            final List<String> respClaims =
-                                    responseClaims.get(modelId).claims();
-                            final String precisionPrompt = renderNliVerificationPrompt(referenceText, respClaims);
-                            final ModelResult<NliResponse> precisionResult =
-                                    executor.executeLlmOnModel(modelId, precisionPrompt, NliResponse.class);
-
-                            // Verify reference claims against response (for recall)
-                            final String responseText = response;
-                            final List<String> refClaims =
-                                    referenceClaims.get(modelId).claims();
-                            final String recallPrompt = renderNliVerificationPrompt(responseText, refClaims);
-                            final ModelResult<NliResponse> recallResult =
-                                    executor.executeLlmOnModel(modelId, recallPrompt, NliResponse.class);
-
-                            if (precisionResult.isSuccess() && recallResult.isSuccess()) {
-                                synchronized (nliResults) {
-                                    nliResults.put(
-                                            modelId,
-                                            new NliVerificationResult(precisionResult.result(), recallResult.result()));
-                                }
+                        // ========== Step 3: Verify claims with NLI ==========
+                        // For each model, response claims were verified against reference (precision)
+                        // and reference claims against response (recall)
+                        final Map<String, NliVerificationResult> nliResults = new LinkedHashMap<>();
+                        for (final FactualCorrectnessChain chain : chains) {
+                            if (!referenceClaims.containsKey(chain.modelId())) {
+                                continue;
+                            }
+                            if (chain.precision().isSuccess() && chain.recall().isSuccess()) {
+                                nliResults.put(
+                                        chain.modelId(),
+                                        new NliVerificationResult(
+                                                chain.precision().result(), chain.recall().result()));
+                            } else {
+                                final Throwable cause = chain.precision().isFailure()
+                                        ? chain.precision().error()
+                                        : chain.recall().error();
+                                log.warn("NLI verification failed for model {}: {}", chain.modelId(), cause.getMessage());
+                                excludedModels.add(chain.modelId());
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(chain.modelId())
+                                        .failedStepName("VerifyClaimsNLI")
+                                        .failedStepIndex(2)
+                                        .cause(cause)
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
                             }
-                        } catch (final Exception e) {
-                            log.warn("NLI verification failed for model {}: {}", modelId, e.getMessage());
                         }
-                    }))
-                    .toList();
 
-            CompletableFuture.allOf(nliVerificationFutures.toArray(new CompletableFuture[0]))
-                    .join();
+                        // Create synthetic results for step accumulation
+                        final List<ModelResult<?>> step3ResultsList = new ArrayList<>();
+                        for (final Map.Entry<String, NliVerificationResult> e : nliResults.entrySet()) {
+                            step3ResultsList.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "nli"));
+                        }
 
-            // Create synthetic results for step accumulation
-            final List<ModelResult<?>> step3ResultsList = new ArrayList<>();
-            for (final Map.Entry<String, NliVerificationResult> e : nliResults.entrySet()) {
-                step3ResultsList.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "nli"));
-            }
+                        // Use first model's prompt as example
+                        final String exampleNliPrompt = renderNliVerificationPrompt(
+                                reference,
+                                responseClaims.get(referenceClaims.keySet().iterator().next())
+                                        .claims());
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("VerifyClaimsNLI")
+                                .stepIndex(2)
+                                .totalSteps(4)
+                                .stepType(StepType.LLM)
+                                .request(exampleNliPrompt)
+                                .results(step3ResultsList)
+                                .build());
+
+                        if (nliResults.isEmpty()) {
+                            throw new IllegalStateException("All models failed at step VerifyClaimsNLI for metric: " + getName());
+                        }
 
-            // Use first model's prompt as example
-            final String exampleNliPrompt = step2SuccessfulModels.isEmpty()
-                    ? nliVerificationTemplate
-                    : renderNliVerificationPrompt(
-                            reference,
-                            responseClaims.get(step2SuccessfulModels.get(0)).claims());
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("VerifyClaimsNLI")
-                    .stepIndex(2)
-                    .totalSteps(4)
-                    .stepType(StepType.LLM)
-                    .request(exampleNliPrompt)
-                    .results(step3ResultsList)
-                    .build());
-
-            // Update excluded models
-            for (final String modelId : step2SuccessfulModels) {
-                if (!nliResults.containsKey(modelId)) {
-                    excludedModels.add(modelId);
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(modelId)
-                            .failedStepName("VerifyClaimsNLI")
-                            .failedStepIndex(2)
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
+                        // ========== Step 4: Compute score ==========
+                        final Map<String, Double> modelScores = new HashMap<>();
+                        for (final Map.Entry<String, NliVerificationResult> entry : nliResults.entrySet()) {
+                            final double score = calculateScore(entry.getValue(), config.getMode());
+                            modelScores.put(entry.getKey(), score);
+                        }
 
-            if (nliResults.isEmpty()) {
-                throw new IllegalStateException("All models failed at step VerifyClaimsNLI for metric: " + getName());
-            }
+                        // Create synthetic results for step accumulation
+                        final List<ModelResult<?>> step4ResultsList = new ArrayList<>();
+                        for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
+                            step4ResultsList.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"));
+                        }
 
-            // ========== Step 4: Compute score ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-            for (final Map.Entry<String, NliVerificationResult> entry : nliResults.entrySet()) {
-                final double score = calculateScore(entry.getValue(), config.getMode());
-                modelScores.put(entry.getKey(), score);
-            }
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ComputeScore")
+                                .stepIndex(3)
+                                .totalSteps(4)
+                                .stepType(StepType.COMPUTE)
+                                .results(step4ResultsList)
+                                .build());
+
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Build typed metadata
+                        final Map<String, List<String>> responseClaimsMap = responseClaims.entrySet().stream()
+                                .collect(Collectors.toMap(
+                                        Map.Entry::getKey, e -> e.getValue().claims()));
+                        final Map<String, List<String>> referenceClaimsMap = referenceClaims.entrySet().stream()
+                                .collect(Collectors.toMap(
+                                        Map.Entry::getKey, e -> e.getValue().claims()));
+                        final Map<String, List<FactualCorrectnessMetadata.NliVerdictSummary>> precisionVerdictsMap =
+                                new HashMap<>();
+                        final Map<String, List<FactualCorrectnessMetadata.NliVerdictSummary>> recallVerdictsMap = new HashMap<>();
+                        for (final Map.Entry<String, NliVerificationResult> entry : nliResults.entrySet()) {
+                            if (entry.getValue().precisionVerdicts() != null
+                                    && entry.getValue().precisionVerdicts().verdicts() != null) {
+                                precisionVerdictsMap.put(
+                                        entry.getKey(),
+                                        entry.getValue().precisionVerdicts().verdicts().stream()
+                                                .map(v -> new FactualCorrectnessMetadata.NliVerdictSummary(
+                                                        v.claim(), v.verdict(), v.reason()))
+                                                .toList());
+                            }
+                            if (entry.getValue().recallVerdicts() != null
+                                    && entry.getValue().recallVerdicts().verdicts() != null) {
+                                recallVerdictsMap.put(
+                                        entry.getKey(),
+                                        entry.getValue().recallVerdicts().verdicts().stream()
+                                                .map(v -> new FactualCorrectnessMetadata.NliVerdictSummary(
+                                                        v.claim(), v.verdict(), v.reason()))
+                                                .toList());
+                            }
+                        }
 
-            // Create synthetic results for step accumulation
-            final List<ModelResult<?>> step4ResultsList = new ArrayList<>();
-            for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
-                step4ResultsList.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"));
-            }
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new FactualCorrectnessMetadata(
+                                        config.getMode().name(),
+                                        responseClaimsMap,
+                                        referenceClaimsMap,
+                                        precisionVerdictsMap,
+                                        recallVerdictsMap))
+                                .build());
+
+                        return aggregatedScore;
+                    });
+        });
+    }
 
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeScore")
-                    .stepIndex(3)
-                    .totalSteps(4)
-                    .stepType(StepType.COMPUTE)
-                    .results(step4ResultsList)
-                    .build());
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build typed metadata
-            final Map<String, List<String>> responseClaimsMap = responseClaims.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey, e -> e.getValue().claims()));
-            final Map<String, List<String>> referenceClaimsMap = referenceClaims.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey, e -> e.getValue().claims()));
-            final Map<String, List<FactualCorrectnessMetadata.NliVerdictSummary>> precisionVerdictsMap =
-                    new HashMap<>();
-            final Map<String, List<FactualCorrectnessMetadata.NliVerdictSummary>> recallVerdictsMap = new HashMap<>();
-            for (final Map.Entry<String, NliVerificationResult> entry : nliResults.entrySet()) {
-                if (entry.getValue().precisionVerdicts() != null
-                        && entry.getValue().precisionVerdicts().verdicts() != null) {
-                    precisionVerdictsMap.put(
-                            entry.getKey(),
-                            entry.getValue().precisionVerdicts().verdicts().stream()
-                                    .map(v -> new FactualCorrectnessMetadata.NliVerdictSummary(
-                                            v.claim(), v.verdict(), v.reason()))
-                                    .toList());
-                }
-                if (entry.getValue().recallVerdicts() != null
-                        && entry.getValue().recallVerdicts().verdicts() != null) {
-                    recallVerdictsMap.put(
-                            entry.getKey(),
-                            entry.getValue().recallVerdicts().verdicts().stream()
-                                    .map(v -> new FactualCorrectnessMetadata.NliVerdictSummary(
-                                            v.claim(), v.verdict(), v.reason()))
-                                    .toList());
-                }
+    /**
+     * Runs the LLM steps of one model as an independent dependency graph:
+     * response and reference claims in parallel, then both NLI verification directions in parallel.
+     */
+    private CompletableFuture<FactualCorrectnessChain> runModelChain(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final String question,
+            final String response,
+            final String reference,
+            final String decomposeResponsePrompt,
+            final String decomposeReferencePrompt) {
+        // The reference claims are useless once the response decomposition has failed
+        final CompletableFuture<Void> responseDecompositionFailed = new CompletableFuture<>();
+        final CompletableFuture<ModelResult<ClaimsResponse>> responseClaimsFuture = decompositionStore != null
+                ? decompositionStore.decomposeAsync(
+                        evaluationExecutor, modelId, question, response, ClaimsResponse::new)
+                : evaluationExecutor.executeLlmOnModelAsync(modelId, decomposeResponsePrompt, ClaimsResponse.class);
+        final CompletableFuture<ModelResult<ClaimsResponse>> referenceClaimsFuture = decomposeReferenceAsync(
+                evaluationExecutor,
+                modelId,
+                question,
+                reference,
+                decomposeReferencePrompt,
+                responseDecompositionFailed);
+        responseClaimsFuture.thenAccept(responseClaims -> {
+            if (!hasClaims(responseClaims)) {
+                responseDecompositionFailed.complete(null);
             }
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new FactualCorrectnessMetadata(
-                            config.getMode().name(),
-                            responseClaimsMap,
-                            referenceClaimsMap,
-                            precisionVerdictsMap,
-                            recallVerdictsMap))
-                    .build());
-
-            return aggregatedScore;
         });
+
+        return responseClaimsFuture
+                .thenCombine(referenceClaimsFuture, DecomposedClaims::new)
+                .thenCompose(claims -> {
+                    final ModelResult<ClaimsResponse> responseClaims = claims.responseClaims();
+                    final ModelResult<ClaimsResponse> referenceClaims = claims.referenceClaims();
+                    if (!hasClaims(responseClaims) || !hasClaims(referenceClaims)) {
+                        return CompletableFuture.completedFuture(
+                                new FactualCorrectnessChain(modelId, responseClaims, referenceClaims, null, null));
+                    }
+                    // Verify response claims against reference (for precision)
+                    final String precisionPrompt =
+                            renderNliVerificationPrompt(reference, responseClaims.result().claims());
+                    // Verify reference claims against response (for recall)
+                    final String recallPrompt =
+                            renderNliVerificationPrompt(response, referenceClaims.result().claims());
+                    return evaluationExecutor
+                            .executeLlmOnModelAsync(modelId, precisionPrompt, NliResponse.class)
+                            .thenCombine(
+                                    evaluationExecutor.executeLlmOnModelAsync(modelId, recallPrompt, NliResponse.class),
+                                    (precision, recall) -> new FactualCorrectnessChain(
+                                            modelId, responseClaims, referenceClaims, precision, recall));
+                });
+    }
+
+    private static boolean hasClaims(final ModelResult<ClaimsResponse> result) {
+        return result.isSuccess() && result.result() != null && result.result().claims() != null;
+    }
+
+    /**
+     * Decomposes the reference into claims from the same template as the response. The claims only
+     * depend on the reference (and, with a store, the question), so they are reused across runs if stored.
+     */
+    private CompletableFuture<ModelResult<ClaimsResponse>> decomposeReferenceAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final String question,
+            final String reference,
+            final String decomposeReferencePrompt,
+            final CompletableFuture<Void> cancellation) {
+        if (decompositionStore == null) {
+            return evaluationExecutor.executeReferenceLlmOnModelAsync(
+                    modelId,
+                    new ReferenceArtifact(
+                            getName(), "DecomposeReferenceClaims", claimsDecompositionTemplate, reference),
+                    decomposeReferencePrompt,
+                    ClaimsResponse.class,
+                    cancellation);
+        }
+        return evaluationExecutor
+                .executeReferenceLlmOnModelAsync(
+                        modelId,
+                        new ReferenceArtifact(
+                                getName(),
+                                "DecomposeReferenceClaims",
+                                decompositionStore.getTemplate(),
+                                Objects.toString(question, "") + '\n' + reference),
+                        decomposeReferencePrompt,
+                        DecompositionStore.StatementsResponse.class,
+                        cancellation)
+                .thenApply(result -> result.map(statements -> new ClaimsResponse(statements.statements())));
     }
 
     private String renderDecomposeClaimsPrompt(final String text) {
@@ -523,6 +632,22 @@ public class FactualCorrectnessMetric
             @JsonPropertyDescription("NLI verdict: SUPPORTED, CONTRADICTED, or NEUTRAL") String verdict,
             @JsonPropertyDescription("Explanation for the verdict") String reason) {}
 
+    /**
+     * Response and reference claims of one model, decomposed in parallel.
+     */
+    private record DecomposedClaims(
+            ModelResult<ClaimsResponse> responseClaims, ModelResult<ClaimsResponse> referenceClaims) {}
+
+    /**
+     * Results of one model's step graph; NLI results are null if a decomposition failed.
+     */
+    private record FactualCorrectnessChain(
+            String modelId,
+            ModelResult<ClaimsResponse> responseClaims,
+            ModelResult<ClaimsResponse> referenceClaims,
+            ModelResult<NliResponse> precision,
+            ModelResult<NliResponse> recall) {}
+
     /**
      * Internal result holder for NLI verification step.
      */
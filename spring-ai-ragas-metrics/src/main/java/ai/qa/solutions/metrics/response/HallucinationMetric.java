@@ -104,7 +104,8 @@ public class HallucinationMetric extends AbstractMultiModelMetric<HallucinationM
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final HallucinationConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final HallucinationConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -119,7 +120,7 @@ public class HallucinationMetric extends AbstractMultiModelMetric<HallucinationM
                 .totalSteps(2)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing hallucination evaluation with explicit flow");
 
             final List<StepResults> accumulatedSteps = new ArrayList<>();
@@ -129,90 +130,90 @@ public class HallucinationMetric extends AbstractMultiModelMetric<HallucinationM
             // ========== Step 1: Detect hallucinations ==========
             final String context = String.join("\n", sample.getRetrievedContexts());
             final String detectPrompt = renderDetectHallucinationsPrompt(sample, context);
-            final List<ModelResult<HallucinationAnalysis>> step1Results =
-                    executor.executeLlm(modelIds, detectPrompt, HallucinationAnalysis.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("DetectHallucinations")
-                    .stepIndex(0)
-                    .totalSteps(2)
-                    .stepType(StepType.LLM)
-                    .request(detectPrompt)
-                    .results(new ArrayList<ModelResult<?>>(step1Results))
-                    .build());
-
-            final Map<String, HallucinationAnalysis> step1Successful = new HashMap<>();
-            for (final ModelResult<HallucinationAnalysis> result : step1Results) {
-                if (result.isSuccess()) {
-                    step1Successful.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("DetectHallucinations")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build();
-                    accumulatedExclusions.add(exclusion);
-                }
-            }
-
-            if (step1Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step DetectHallucinations for metric: " + getName());
-            }
-
-            // ========== Step 2: Compute score ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-            for (final Map.Entry<String, HallucinationAnalysis> entry : step1Successful.entrySet()) {
-                final double score = calculateHallucinationRate(entry.getValue());
-                modelScores.put(entry.getKey(), score);
-            }
-
-            final List<ModelResult<?>> step2Results = new ArrayList<>();
-            for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
-                step2Results.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"));
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeScore")
-                    .stepIndex(1)
-                    .totalSteps(2)
-                    .stepType(StepType.COMPUTE)
-                    .results(step2Results)
-                    .build());
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build typed metadata
-            final Map<String, List<HallucinationMetadata.ClaimAnalysisSummary>> claimAnalyses = new HashMap<>();
-            for (final Map.Entry<String, HallucinationAnalysis> entry : step1Successful.entrySet()) {
-                if (entry.getValue().claims() != null) {
-                    claimAnalyses.put(
-                            entry.getKey(),
-                            entry.getValue().claims().stream()
-                                    .map(c -> new HallucinationMetadata.ClaimAnalysisSummary(
-                                            c.claim(), c.status(), c.reason()))
-                                    .toList());
-                }
-            }
-
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new HallucinationMetadata(claimAnalyses))
-                    .build());
-
-            return aggregatedScore;
+            return evaluationExecutor.executeLlmAsync(modelIds, detectPrompt, HallucinationAnalysis.class)
+                    .thenApply(step1Results -> {
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("DetectHallucinations")
+                                .stepIndex(0)
+                                .totalSteps(2)
+                                .stepType(StepType.LLM)
+                                .request(detectPrompt)
+                                .results(new ArrayList<ModelResult<?>>(step1Results))
+                                .build());
+
+                        final Map<String, HallucinationAnalysis> step1Successful = new HashMap<>();
+                        for (final ModelResult<HallucinationAnalysis> result : step1Results) {
+                            if (result.isSuccess()) {
+                                step1Successful.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                final ModelExclusionEvent exclusion = ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("DetectHallucinations")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build();
+                                accumulatedExclusions.add(exclusion);
+                            }
+                        }
+
+                        if (step1Successful.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step DetectHallucinations for metric: " + getName());
+                        }
+
+                        // ========== Step 2: Compute score ==========
+                        final Map<String, Double> modelScores = new HashMap<>();
+                        for (final Map.Entry<String, HallucinationAnalysis> entry : step1Successful.entrySet()) {
+                            final double score = calculateHallucinationRate(entry.getValue());
+                            modelScores.put(entry.getKey(), score);
+                        }
+
+                        final List<ModelResult<?>> step2Results = new ArrayList<>();
+                        for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
+                            step2Results.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"));
+                        }
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ComputeScore")
+                                .stepIndex(1)
+                                .totalSteps(2)
+                                .stepType(StepType.COMPUTE)
+                                .results(step2Results)
+                                .build());
+
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Build typed metadata
+                        final Map<String, List<HallucinationMetadata.ClaimAnalysisSummary>> claimAnalyses = new HashMap<>();
+                        for (final Map.Entry<String, HallucinationAnalysis> entry : step1Successful.entrySet()) {
+                            if (entry.getValue().claims() != null) {
+                                claimAnalyses.put(
+                                        entry.getKey(),
+                                        entry.getValue().claims().stream()
+                                                .map(c -> new HallucinationMetadata.ClaimAnalysisSummary(
+                                                        c.claim(), c.status(), c.reason()))
+                                                .toList());
+                            }
+                        }
+
+                        final Duration duration = Duration.between(startTime, Instant.now());
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new HallucinationMetadata(claimAnalyses))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
@@ -114,7 +114,8 @@ public class SemanticSimilarityMetric
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final SemanticSimilarityConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final SemanticSimilarityConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
 
         // Validate required inputs
         final String response = sample.getResponse();
@@ -150,7 +151,7 @@ public class SemanticSimilarityMetric
                 .totalSteps(TOTAL_STEPS)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing semantic similarity evaluation with explicit flow");
 
             final List<StepResults> accumulatedSteps = new ArrayList<>();
@@ -160,73 +161,72 @@ public class SemanticSimilarityMetric
             // ========== Step 1: Compute embeddings ==========
             final EmbeddingTexts texts = prepareTextsForStrategy(config, response, reference);
 
-            final List<ModelResult<List<float[]>>> embeddingResults =
-                    executor.executeEmbeddingsAsync(texts.textsToEmbed()).join();
-
-            final List<ModelResult<?>> step1LlmResults = new ArrayList<>();
-            final Map<String, EmbeddingsResult> step1Successful = processEmbeddingResults(
-                    embeddingResults, texts, step1LlmResults, accumulatedExclusions, excludedModels);
-
-            final List<ModelResult<?>> embeddingModelResultsList = new ArrayList<>(embeddingResults);
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName(STEP_COMPUTE_EMBEDDINGS)
-                    .stepIndex(STEP_INDEX_EMBEDDINGS)
-                    .totalSteps(TOTAL_STEPS)
-                    .stepType(StepType.EMBEDDING)
-                    .request(EMBEDDINGS_REQUEST_LABEL)
-                    .results(step1LlmResults)
-                    .embeddingModelResults(embeddingModelResultsList)
-                    .build());
-
-            if (step1Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All embedding models failed at step ComputeEmbeddings for metric: " + getName());
-            }
-
-            // ========== Step 2: Compute cosine similarity ==========
-            final Map<String, Double> modelScores =
-                    computeAllSimilarities(step1Successful, config, accumulatedExclusions, excludedModels);
-
-            final List<ModelResult<?>> step2Results = new ArrayList<>();
-            for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
-                step2Results.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, COMPUTE_REQUEST_LABEL));
-            }
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName(STEP_COMPUTE_COSINE_SIMILARITY)
-                    .stepIndex(STEP_INDEX_COSINE)
-                    .totalSteps(TOTAL_STEPS)
-                    .stepType(StepType.COMPUTE)
-                    .results(step2Results)
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed to compute similarity for metric: " + getName());
-            }
-
-            final double aggregatedScore = aggregate(modelScores);
-            final Duration duration = Duration.between(startTime, Instant.now());
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .embeddingModelIds(embeddingModelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new SemanticSimilarityMetadata(
-                            new HashMap<>(modelScores),
-                            config.getThreshold(),
-                            texts.chunkingApplied(),
-                            texts.responseChunkCount(),
-                            texts.referenceChunkCount(),
-                            config.getLongTextStrategy().name()))
-                    .build());
-
-            return aggregatedScore;
+            return evaluationExecutor.executeEmbeddingsAsync(texts.textsToEmbed()).thenApply(embeddingResults -> {
+                final List<ModelResult<?>> step1LlmResults = new ArrayList<>();
+                final Map<String, EmbeddingsResult> step1Successful = processEmbeddingResults(
+                        embeddingResults, texts, step1LlmResults, accumulatedExclusions, excludedModels);
+
+                final List<ModelResult<?>> embeddingModelResultsList = new ArrayList<>(embeddingResults);
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName(STEP_COMPUTE_EMBEDDINGS)
+                        .stepIndex(STEP_INDEX_EMBEDDINGS)
+                        .totalSteps(TOTAL_STEPS)
+                        .stepType(StepType.EMBEDDING)
+                        .request(EMBEDDINGS_REQUEST_LABEL)
+                        .results(step1LlmResults)
+                        .embeddingModelResults(embeddingModelResultsList)
+                        .build());
+
+                if (step1Successful.isEmpty()) {
+                    throw new IllegalStateException(
+                            "All embedding models failed at step ComputeEmbeddings for metric: " + getName());
+                }
+
+                // ========== Step 2: Compute cosine similarity ==========
+                final Map<String, Double> modelScores =
+                        computeAllSimilarities(step1Successful, config, accumulatedExclusions, excludedModels);
+
+                final List<ModelResult<?>> step2Results = new ArrayList<>();
+                for (final Map.Entry<String, Double> e : modelScores.entrySet()) {
+                    step2Results.add(ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, COMPUTE_REQUEST_LABEL));
+                }
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName(STEP_COMPUTE_COSINE_SIMILARITY)
+                        .stepIndex(STEP_INDEX_COSINE)
+                        .totalSteps(TOTAL_STEPS)
+                        .stepType(StepType.COMPUTE)
+                        .results(step2Results)
+                        .build());
+
+                if (modelScores.isEmpty()) {
+                    throw new IllegalStateException("All models failed to compute similarity for metric: " + getName());
+                }
+
+                final double aggregatedScore = aggregate(modelScores);
+                final Duration duration = Duration.between(startTime, Instant.now());
+
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .sample(sample)
+                        .config(config)
+                        .embeddingModelIds(embeddingModelIds)
+                        .aggregatedScore(aggregatedScore)
+                        .modelScores(modelScores)
+                        .excludedModels(excludedModels)
+                        .totalDuration(duration)
+                        .steps(accumulatedSteps)
+                        .exclusions(accumulatedExclusions)
+                        .metadata(new SemanticSimilarityMetadata(
+                                new HashMap<>(modelScores),
+                                config.getThreshold(),
+                                texts.chunkingApplied(),
+                                texts.responseChunkCount(),
+                                texts.referenceChunkCount(),
+                                config.getLongTextStrategy().name()))
+                        .build());
+
+                return aggregatedScore;
+            });
         });
     }
 
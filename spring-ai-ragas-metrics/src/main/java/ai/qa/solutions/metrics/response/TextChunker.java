@@ -1,5 +1,6 @@
 package ai.qa.solutions.metrics.response;
 
+import ai.qa.solutions.execution.ratelimit.TokenEstimator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -12,7 +13,7 @@ import org.springframework.util.Assert;
 final class TextChunker {
 
     /** Default ratio of characters to tokens used by the token estimation heuristic. */
-    private static final double CHARS_PER_TOKEN = 3.0;
+    private static final double CHARS_PER_TOKEN = TokenEstimator.CHARS_PER_TOKEN;
 
     /** Regex matching sentence boundaries: end punctuation followed by whitespace, or newline. */
     private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+|\\n");
@@ -160,10 +161,7 @@ final class TextChunker {
      * @return estimated token count, 0 for empty text
      */
     private static int estimateTokens(final String text, final double charsPerToken) {
-        if (text == null || text.isEmpty()) {
-            return 0;
-        }
-        return (int) Math.ceil(text.length() / charsPerToken);
+        return TokenEstimator.estimateTokens(text, charsPerToken);
     }
 
     /**
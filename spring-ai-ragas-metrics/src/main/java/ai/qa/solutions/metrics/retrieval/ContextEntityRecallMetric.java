@@ -2,6 +2,7 @@ package ai.qa.solutions.metrics.retrieval;
 
 import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.cache.ReferenceArtifact;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
@@ -107,7 +108,8 @@ public class ContextEntityRecallMetric
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final ContextEntityRecallConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final ContextEntityRecallConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         // Validate required inputs
         final String reference = sample.getReference();
         if (reference == null || reference.trim().isEmpty()) {
@@ -137,7 +139,7 @@ public class ContextEntityRecallMetric
                 .totalSteps(3) // Extract reference entities -> Extract context entities -> Compute recall
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing context entity recall evaluation with explicit flow");
 
             // Local accumulators for steps and exclusions
@@ -153,156 +155,159 @@ public class ContextEntityRecallMetric
 
             // ========== Step 1: Extract entities from reference ==========
             // Launch BOTH extractions in parallel - they are independent
+            // Reference entities only depend on the reference, so they are reused across runs if stored
             final CompletableFuture<List<ModelResult<EntitiesResponse>>> step1Future =
-                    executor.executeLlmAsync(modelIds, referencePrompt, EntitiesResponse.class);
+                    evaluationExecutor.executeReferenceLlmAsync(
+                            modelIds,
+                            new ReferenceArtifact(
+                                    getName(), "ExtractReferenceEntities", entityExtractionPrompt, reference),
+                            referencePrompt,
+                            EntitiesResponse.class);
             final CompletableFuture<List<ModelResult<EntitiesResponse>>> step2Future =
-                    executor.executeLlmAsync(modelIds, contextPrompt, EntitiesResponse.class);
-
-            // Wait for step 1 to complete and report it
-            final List<ModelResult<EntitiesResponse>> step1Results = step1Future.join();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ExtractReferenceEntities")
-                    .stepIndex(0)
-                    .totalSteps(3)
-                    .stepType(StepType.LLM)
-                    .request(referencePrompt)
-                    .results(new ArrayList<>(step1Results))
-                    .build());
-
-            // Collect successful results from step 1 (reference entities)
-            final Map<String, EntitiesResponse> step1Successful = new HashMap<>();
-            for (final ModelResult<EntitiesResponse> result : step1Results) {
-                if (result.isSuccess()) {
-                    step1Successful.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("ExtractReferenceEntities")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build());
+                    evaluationExecutor.executeLlmAsync(modelIds, contextPrompt, EntitiesResponse.class);
+
+            // Continue once both extractions have completed and report them in step order
+            return step1Future.thenCombine(step2Future, (step1Results, step2Results) -> {
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ExtractReferenceEntities")
+                        .stepIndex(0)
+                        .totalSteps(3)
+                        .stepType(StepType.LLM)
+                        .request(referencePrompt)
+                        .results(new ArrayList<>(step1Results))
+                        .build());
+
+                // Collect successful results from step 1 (reference entities)
+                final Map<String, EntitiesResponse> step1Successful = new HashMap<>();
+                for (final ModelResult<EntitiesResponse> result : step1Results) {
+                    if (result.isSuccess()) {
+                        step1Successful.put(result.modelId(), result.result());
+                    } else {
+                        excludedModels.add(result.modelId());
+                        accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                .modelId(result.modelId())
+                                .failedStepName("ExtractReferenceEntities")
+                                .failedStepIndex(0)
+                                .cause(result.error())
+                                .build());
+                    }
                 }
-            }
 
-            if (step1Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step ExtractReferenceEntities for metric: " + getName());
-            }
+                if (step1Successful.isEmpty()) {
+                    throw new IllegalStateException(
+                            "All models failed at step ExtractReferenceEntities for metric: " + getName());
+                }
 
-            // ========== Step 2: Extract entities from contexts ==========
-            // Wait for step 2 to complete and report it
-            final List<ModelResult<EntitiesResponse>> step2Results = step2Future.join();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ExtractContextEntities")
-                    .stepIndex(1)
-                    .totalSteps(3)
-                    .stepType(StepType.LLM)
-                    .request(contextPrompt)
-                    .results(new ArrayList<>(step2Results))
-                    .build());
-
-            // Collect successful results from step 2 (context entities)
-            final Map<String, EntitiesResponse> step2Successful = new HashMap<>();
-            for (final ModelResult<EntitiesResponse> result : step2Results) {
-                if (result.isSuccess()) {
-                    step2Successful.put(result.modelId(), result.result());
-                } else {
-                    if (!excludedModels.contains(result.modelId())) {
-                        excludedModels.add(result.modelId());
+                // ========== Step 2: Extract entities from contexts ==========
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ExtractContextEntities")
+                        .stepIndex(1)
+                        .totalSteps(3)
+                        .stepType(StepType.LLM)
+                        .request(contextPrompt)
+                        .results(new ArrayList<>(step2Results))
+                        .build());
+
+                // Collect successful results from step 2 (context entities)
+                final Map<String, EntitiesResponse> step2Successful = new HashMap<>();
+                for (final ModelResult<EntitiesResponse> result : step2Results) {
+                    if (result.isSuccess()) {
+                        step2Successful.put(result.modelId(), result.result());
+                    } else {
+                        if (!excludedModels.contains(result.modelId())) {
+                            excludedModels.add(result.modelId());
+                        }
+                        accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                .modelId(result.modelId())
+                                .failedStepName("ExtractContextEntities")
+                                .failedStepIndex(1)
+                                .cause(result.error())
+                                .build());
                     }
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("ExtractContextEntities")
-                            .failedStepIndex(1)
-                            .cause(result.error())
-                            .build());
                 }
-            }
-
-            if (step2Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step ExtractContextEntities for metric: " + getName());
-            }
 
-            // ========== Step 3: Compute entity recall ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-            // Only use models that succeeded in BOTH steps
-            for (final String modelId : step2Successful.keySet()) {
-                if (!step1Successful.containsKey(modelId)) {
-                    continue; // Skip models that failed step1
+                if (step2Successful.isEmpty()) {
+                    throw new IllegalStateException(
+                            "All models failed at step ExtractContextEntities for metric: " + getName());
                 }
-                final EntitiesResponse referenceEntitiesResponse = step1Successful.get(modelId);
-                final EntitiesResponse contextEntitiesResponse = step2Successful.get(modelId);
 
-                final double score = calculateEntityRecall(referenceEntitiesResponse, contextEntitiesResponse);
-                modelScores.put(modelId, score);
-            }
+                // ========== Step 3: Compute entity recall ==========
+                final Map<String, Double> modelScores = new HashMap<>();
+                // Only use models that succeeded in BOTH steps
+                for (final String modelId : step2Successful.keySet()) {
+                    if (!step1Successful.containsKey(modelId)) {
+                        continue; // Skip models that failed step1
+                    }
+                    final EntitiesResponse referenceEntitiesResponse = step1Successful.get(modelId);
+                    final EntitiesResponse contextEntitiesResponse = step2Successful.get(modelId);
 
-            // Create synthetic results for notification
-            final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
-                    .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
-                    .toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeEntityRecall")
-                    .stepIndex(2)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(new ArrayList<>(step3Results))
-                    .build());
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build metadata
-            final Map<String, List<String>> refEntitiesMap = new HashMap<>();
-            final Map<String, List<String>> ctxEntitiesMap = new HashMap<>();
-            final Map<String, Set<String>> commonEntitiesMap = new HashMap<>();
-            int recallNumerator = 0;
-            int recallDenominator = 0;
-
-            for (final String modelId : modelScores.keySet()) {
-                final EntitiesResponse refResp = step1Successful.get(modelId);
-                final EntitiesResponse ctxResp = step2Successful.get(modelId);
-                refEntitiesMap.put(modelId, refResp.entities() != null ? refResp.entities() : List.of());
-                ctxEntitiesMap.put(modelId, ctxResp.entities() != null ? ctxResp.entities() : List.of());
-
-                final Set<String> refNorm = normalizeEntities(refResp.entities());
-                final Set<String> ctxNorm = normalizeEntities(ctxResp.entities());
-                final Set<String> common = new HashSet<>(refNorm);
-                common.retainAll(ctxNorm);
-                commonEntitiesMap.put(modelId, common);
-            }
-            // Use first successful model for aggregate counts
-            if (!modelScores.isEmpty()) {
-                final String firstModelId = modelScores.keySet().iterator().next();
-                final Set<String> refNorm =
-                        normalizeEntities(step1Successful.get(firstModelId).entities());
-                final Set<String> common = commonEntitiesMap.get(firstModelId);
-                recallDenominator = refNorm.size();
-                recallNumerator = common != null ? common.size() : 0;
-            }
+                    final double score = calculateEntityRecall(referenceEntitiesResponse, contextEntitiesResponse);
+                    modelScores.put(modelId, score);
+                }
+
+                // Create synthetic results for notification
+                final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
+                        .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
+                        .toList();
+
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ComputeEntityRecall")
+                        .stepIndex(2)
+                        .totalSteps(3)
+                        .stepType(StepType.COMPUTE)
+                        .results(new ArrayList<>(step3Results))
+                        .build());
+
+                final double aggregatedScore = aggregate(modelScores);
+
+                // Build metadata
+                final Map<String, List<String>> refEntitiesMap = new HashMap<>();
+                final Map<String, List<String>> ctxEntitiesMap = new HashMap<>();
+                final Map<String, Set<String>> commonEntitiesMap = new HashMap<>();
+                int recallNumerator = 0;
+                int recallDenominator = 0;
+
+                for (final String modelId : modelScores.keySet()) {
+                    final EntitiesResponse refResp = step1Successful.get(modelId);
+                    final EntitiesResponse ctxResp = step2Successful.get(modelId);
+                    refEntitiesMap.put(modelId, refResp.entities() != null ? refResp.entities() : List.of());
+                    ctxEntitiesMap.put(modelId, ctxResp.entities() != null ? ctxResp.entities() : List.of());
+
+                    final Set<String> refNorm = normalizeEntities(refResp.entities());
+                    final Set<String> ctxNorm = normalizeEntities(ctxResp.entities());
+                    final Set<String> common = new HashSet<>(refNorm);
+                    common.retainAll(ctxNorm);
+                    commonEntitiesMap.put(modelId, common);
+                }
+                // Use first successful model for aggregate counts
+                if (!modelScores.isEmpty()) {
+                    final String firstModelId = modelScores.keySet().iterator().next();
+                    final Set<String> refNorm =
+                            normalizeEntities(step1Successful.get(firstModelId).entities());
+                    final Set<String> common = commonEntitiesMap.get(firstModelId);
+                    recallDenominator = refNorm.size();
+                    recallNumerator = common != null ? common.size() : 0;
+                }
 
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new ContextEntityRecallMetadata(
-                            refEntitiesMap, ctxEntitiesMap, commonEntitiesMap, recallNumerator, recallDenominator))
-                    .build());
-
-            return aggregatedScore;
+                // Notify with full results
+                final Duration duration = Duration.between(startTime, Instant.now());
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .sample(sample)
+                        .config(config)
+                        .modelIds(modelIds)
+                        .aggregatedScore(aggregatedScore)
+                        .modelScores(modelScores)
+                        .excludedModels(excludedModels)
+                        .totalDuration(duration)
+                        .steps(accumulatedSteps)
+                        .exclusions(accumulatedExclusions)
+                        .metadata(new ContextEntityRecallMetadata(
+                                refEntitiesMap, ctxEntitiesMap, commonEntitiesMap, recallNumerator, recallDenominator))
+                        .build());
+
+                return aggregatedScore;
+            });
         });
     }
 
@@ -7,6 +7,7 @@ import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
 import ai.qa.solutions.execution.listener.dto.StepResults;
 import ai.qa.solutions.execution.listener.dto.StepType;
+import ai.qa.solutions.execution.ratelimit.TokenEstimator;
 import ai.qa.solutions.metric.AbstractMultiModelMetric;
 import ai.qa.solutions.metric.metadata.ContextPrecisionMetadata;
 import ai.qa.solutions.sample.Sample;
@@ -18,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.Builder;
 import lombok.Data;
@@ -32,6 +34,11 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  * with explicit flow control and listener notifications.
  * <p>
  * Automatically chooses between reference-based or response-based evaluation based on available data.
+ * <p>
+ * By default every context is judged in its own call. With {@link ContextPrecisionConfig#isPackContexts()}
+ * all contexts are judged in one numbered prompt that returns a verdict per context. A model falls back
+ * to one call per context when the packed prompt exceeds
+ * {@link ContextPrecisionConfig#getMaxPackedPromptTokens()} or its packed response is unusable.
  */
 @Slf4j
 public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrecisionMetric.ContextPrecisionConfig> {
@@ -73,16 +80,75 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
             - reasoning: Your detailed explanation for why the chunk is or isn't relevant
             """;
 
+    public static final String DEFAULT_PACKED_WITH_REFERENCE_PROMPT =
+            """
+            Given a user query, reference answer, and a list of numbered retrieved context chunks, determine for each context chunk if it is relevant to answering the user query based on the reference answer.
+
+            User Query: {user_input}
+            Reference Answer: {reference}
+            Retrieved Context Chunks:
+            {contexts}
+
+            Instructions:
+            1. Evaluate every context chunk independently of the others
+            2. Analyze if the context chunk contains information that is relevant to providing the reference answer
+            3. Use the reference answer as the gold standard for what constitutes a complete and correct response
+            4. A chunk is relevant if it contains information that supports or contributes to the reference answer
+            5. Be strict in your evaluation - only mark as relevant if the chunk genuinely helps answer the query as indicated by the reference
+
+            Respond with a JSON object containing:
+            - verdicts: One entry per context chunk, each with
+              - index: The number of the context chunk in square brackets
+              - relevant: true if the context chunk is relevant to answering the user query based on the reference, false otherwise
+              - reasoning: A brief explanation for why the chunk is or isn't relevant
+            """;
+
+    public static final String DEFAULT_PACKED_WITHOUT_REFERENCE_PROMPT =
+            """
+            Given a user query, AI response, and a list of numbered retrieved context chunks, determine for each context chunk if it is relevant to answering the user query based on the AI response.
+
+            User Query: {user_input}
+            AI Response: {response}
+            Retrieved Context Chunks:
+            {contexts}
+
+            Instructions:
+            1. Evaluate every context chunk independently of the others
+            2. Analyze if the context chunk contains information that is relevant to answering the user query
+            3. Consider the AI response as guidance for what constitutes a relevant answer
+            4. A chunk is relevant if it contains information that helps answer the query, even if not directly used in the response
+            5. Be strict in your evaluation - only mark as relevant if the chunk genuinely contributes to answering the query
+
+            Respond with a JSON object containing:
+            - verdicts: One entry per context chunk, each with
+              - index: The number of the context chunk in square brackets
+              - relevant: true if the context chunk is relevant to answering the user query, false otherwise
+              - reasoning: A brief explanation for why the chunk is or isn't relevant
+            """;
+
+    public static final int DEFAULT_MAX_PACKED_PROMPT_TOKENS = 8000;
+
     private final String withReferencePrompt;
     private final String withoutReferencePrompt;
+    private final String packedWithReferencePrompt;
+    private final String packedWithoutReferencePrompt;
 
     @Builder(toBuilder = true)
     protected ContextPrecisionMetric(
-            final MultiModelExecutor executor, final String withReferencePrompt, final String withoutReferencePrompt) {
+            final MultiModelExecutor executor,
+            final String withReferencePrompt,
+            final String withoutReferencePrompt,
+            final String packedWithReferencePrompt,
+            final String packedWithoutReferencePrompt) {
         super(executor);
         this.withReferencePrompt = withReferencePrompt != null ? withReferencePrompt : DEFAULT_WITH_REFERENCE_PROMPT;
         this.withoutReferencePrompt =
                 withoutReferencePrompt != null ? withoutReferencePrompt : DEFAULT_WITHOUT_REFERENCE_PROMPT;
+        this.packedWithReferencePrompt =
+                packedWithReferencePrompt != null ? packedWithReferencePrompt : DEFAULT_PACKED_WITH_REFERENCE_PROMPT;
+        this.packedWithoutReferencePrompt = packedWithoutReferencePrompt != null
+                ? packedWithoutReferencePrompt
+                : DEFAULT_PACKED_WITHOUT_REFERENCE_PROMPT;
     }
 
     /**
@@ -105,7 +171,8 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final ContextPrecisionConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final ContextPrecisionConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final List<String> retrievedContexts = sample.getRetrievedContexts();
         if (retrievedContexts == null || retrievedContexts.isEmpty()) {
             log.warn("No retrieved contexts provided for Context Precision evaluation");
@@ -138,7 +205,7 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing context precision evaluation with explicit flow");
 
             // Local accumulators for steps and exclusions
@@ -166,110 +233,116 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
             // ========== Evaluate ALL contexts IN PARALLEL ==========
             // Prepare all prompts
             final List<String> prompts = retrievedContexts.stream()
-                    .map(contextChunk -> renderPrompt(template, strategy, sample, contextChunk))
-                    .toList();
-
-            // Launch ALL context evaluations in parallel
-            final List<CompletableFuture<List<ModelResult<RelevanceResponse>>>> contextFutures = IntStream.range(
-                            0, retrievedContexts.size())
-                    .mapToObj(contextIdx ->
-                            executor.executeLlmAsync(modelIds, prompts.get(contextIdx), RelevanceResponse.class))
+                    .map(contextChunk -> renderPrompt(template, strategy, sample, "context_chunk", contextChunk))
                     .toList();
 
-            // Wait for ALL to complete at once
-            CompletableFuture.allOf(contextFutures.toArray(new CompletableFuture[0]))
-                    .join();
-
-            // Collect all model results for the step
+            // Requests sent and model results received, for the step
+            final List<String> requests = new ArrayList<>();
             final List<ModelResult<?>> allContextResults = new ArrayList<>();
 
-            // Process results maintaining context order
-            for (int contextIdx = 0; contextIdx < contextFutures.size(); contextIdx++) {
-                final List<ModelResult<RelevanceResponse>> results =
-                        contextFutures.get(contextIdx).join();
-                final String stepName = "EvaluateContext_" + contextIdx;
-
-                allContextResults.addAll(results);
-
-                // Collect results for each model
-                for (final ModelResult<RelevanceResponse> result : results) {
-                    if (result.isSuccess()) {
-                        final boolean relevant = result.result().relevant() != null
-                                && result.result().relevant();
-                        modelRelevanceResults.get(result.modelId()).set(contextIdx, relevant);
-                    } else {
-                        // Model failed for this context - mark as not relevant for this context
-                        modelRelevanceResults.get(result.modelId()).set(contextIdx, false);
-                        excludedModelIds.add(result.modelId());
-                        accumulatedExclusions.add(ModelExclusionEvent.builder()
-                                .modelId(result.modelId())
-                                .failedStepName(stepName)
-                                .failedStepIndex(contextIdx)
-                                .cause(result.error())
-                                .build());
-                    }
+            final CompletableFuture<List<List<ModelResult<RelevanceResponse>>>> contextResultsFuture;
+            final String packedPrompt =
+                    config.packContexts && retrievedContexts.size() > 1 ? renderPackedPrompt(strategy, sample) : null;
+            if (packedPrompt != null && TokenEstimator.estimateTokens(packedPrompt) <= config.maxPackedPromptTokens) {
+                contextResultsFuture = evaluatePackedAsync(
+                        evaluationExecutor, modelIds, packedPrompt, prompts, requests, allContextResults);
+            } else {
+                if (packedPrompt != null) {
+                    log.debug(
+                            "Packed prompt for {} contexts exceeds {} tokens, evaluating one context per call",
+                            retrievedContexts.size(),
+                            config.maxPackedPromptTokens);
                 }
+                contextResultsFuture =
+                        evaluateSeparatelyAsync(evaluationExecutor, modelIds, prompts, requests, allContextResults);
             }
 
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("EvaluateAllContexts")
-                    .stepIndex(0)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(String.join("\n---\n", prompts))
-                    .results(allContextResults)
-                    .build());
-
-            // ========== Final step: Compute precision ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-
-            for (final Map.Entry<String, List<Boolean>> entry : modelRelevanceResults.entrySet()) {
-                final String modelId = entry.getKey();
-                final List<Boolean> relevanceScores = entry.getValue();
-
-                if (relevanceScores.size() == retrievedContexts.size()) {
-                    final double precision = calculateContextPrecision(relevanceScores);
-                    modelScores.put(modelId, precision);
+            // Continue once ALL have completed
+            return contextResultsFuture.thenApply(contextResults -> {
+                // Process results maintaining context order
+                for (int contextIdx = 0; contextIdx < contextResults.size(); contextIdx++) {
+                    final List<ModelResult<RelevanceResponse>> results = contextResults.get(contextIdx);
+                    final String stepName = "EvaluateContext_" + contextIdx;
+
+                    // Collect results for each model
+                    for (final ModelResult<RelevanceResponse> result : results) {
+                        if (result.isSuccess()) {
+                            final boolean relevant = result.result().relevant() != null && result.result().relevant();
+                            modelRelevanceResults.get(result.modelId()).set(contextIdx, relevant);
+                        } else {
+                            // Model failed for this context - mark as not relevant for this context
+                            modelRelevanceResults.get(result.modelId()).set(contextIdx, false);
+                            excludedModelIds.add(result.modelId());
+                            accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                    .modelId(result.modelId())
+                                    .failedStepName(stepName)
+                                    .failedStepIndex(contextIdx)
+                                    .cause(result.error())
+                                    .build());
+                        }
+                    }
                 }
-            }
 
-            // Create synthetic results for notification
-            final List<ModelResult<Double>> computeResults = modelScores.entrySet().stream()
-                    .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
-                    .toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputePrecision")
-                    .stepIndex(1)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.COMPUTE)
-                    .results(new ArrayList<>(computeResults))
-                    .build());
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("EvaluateAllContexts")
+                        .stepIndex(0)
+                        .totalSteps(totalSteps)
+                        .stepType(StepType.LLM)
+                        .request(String.join("\n---\n", requests))
+                        .results(allContextResults)
+                        .build());
+
+                // ========== Final step: Compute precision ==========
+                final Map<String, Double> modelScores = new HashMap<>();
+
+                for (final Map.Entry<String, List<Boolean>> entry : modelRelevanceResults.entrySet()) {
+                    final String modelId = entry.getKey();
+                    final List<Boolean> relevanceScores = entry.getValue();
+
+                    if (relevanceScores.size() == retrievedContexts.size()) {
+                        final double precision = calculateContextPrecision(relevanceScores);
+                        modelScores.put(modelId, precision);
+                    }
+                }
 
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
+                // Create synthetic results for notification
+                final List<ModelResult<Double>> computeResults = modelScores.entrySet().stream()
+                        .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
+                        .toList();
+
+                accumulatedSteps.add(StepResults.builder()
+                        .stepName("ComputePrecision")
+                        .stepIndex(1)
+                        .totalSteps(totalSteps)
+                        .stepType(StepType.COMPUTE)
+                        .results(new ArrayList<>(computeResults))
+                        .build());
+
+                if (modelScores.isEmpty()) {
+                    throw new IllegalStateException("All models failed for metric: " + getName());
+                }
 
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(new ArrayList<>(excludedModelIds))
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new ContextPrecisionMetadata(
-                            strategy.name(), modelRelevanceResults, retrievedContexts.size()))
-                    .build());
-
-            return aggregatedScore;
+                final double aggregatedScore = aggregate(modelScores);
+
+                // Notify with full results
+                final Duration duration = Duration.between(startTime, Instant.now());
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .sample(sample)
+                        .config(config)
+                        .modelIds(modelIds)
+                        .aggregatedScore(aggregatedScore)
+                        .modelScores(modelScores)
+                        .excludedModels(new ArrayList<>(excludedModelIds))
+                        .totalDuration(duration)
+                        .steps(accumulatedSteps)
+                        .exclusions(accumulatedExclusions)
+                        .metadata(new ContextPrecisionMetadata(
+                                strategy.name(), modelRelevanceResults, retrievedContexts.size()))
+                        .build());
+
+                return aggregatedScore;
+            });
         });
     }
 
@@ -294,19 +367,149 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
         return EvaluationStrategy.RESPONSE_BASED;
     }
 
+    /**
+     * Evaluates every context in its own call.
+     *
+     * @return per context, the results of all models in {@code modelIds}
+     */
+    private CompletableFuture<List<List<ModelResult<RelevanceResponse>>>> evaluateSeparatelyAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final List<String> modelIds,
+            final List<String> prompts,
+            final List<String> requests,
+            final List<ModelResult<?>> allContextResults) {
+        // Launch ALL context evaluations in parallel
+        final List<CompletableFuture<List<ModelResult<RelevanceResponse>>>> contextFutures = prompts.stream()
+                .map(prompt -> evaluationExecutor.executeLlmAsync(modelIds, prompt, RelevanceResponse.class))
+                .toList();
+
+        return CompletableFuture.allOf(contextFutures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    final List<List<ModelResult<RelevanceResponse>>> contextResults =
+                            contextFutures.stream().map(CompletableFuture::join).toList();
+                    requests.addAll(prompts);
+                    contextResults.forEach(allContextResults::addAll);
+                    return contextResults;
+                });
+    }
+
+    /**
+     * Evaluates all contexts in one packed prompt. Models whose packed response fails or lacks a
+     * verdict for some context evaluate every context in its own call instead.
+     *
+     * @return per context, the results of all models in {@code modelIds}
+     */
+    private CompletableFuture<List<List<ModelResult<RelevanceResponse>>>> evaluatePackedAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final List<String> modelIds,
+            final String packedPrompt,
+            final List<String> prompts,
+            final List<String> requests,
+            final List<ModelResult<?>> allContextResults) {
+        return evaluationExecutor
+                .executeLlmAsync(modelIds, packedPrompt, PackedRelevanceResponse.class)
+                .thenCompose(packedResults -> {
+                    requests.add(packedPrompt);
+                    allContextResults.addAll(packedResults);
+
+                    final Map<String, List<ContextVerdict>> modelVerdicts = new HashMap<>();
+                    final List<String> fallbackModelIds = new ArrayList<>();
+                    for (final ModelResult<PackedRelevanceResponse> result : packedResults) {
+                        final List<ContextVerdict> verdicts =
+                                result.isSuccess() ? verdictsInOrder(result.result(), prompts.size()) : null;
+                        if (verdicts != null) {
+                            modelVerdicts.put(result.modelId(), verdicts);
+                        } else {
+                            log.debug(
+                                    "Model {} returned no verdict for every context, evaluating one context per call",
+                                    result.modelId());
+                            fallbackModelIds.add(result.modelId());
+                        }
+                    }
+
+                    final CompletableFuture<List<List<ModelResult<RelevanceResponse>>>> fallbackFuture =
+                            fallbackModelIds.isEmpty()
+                                    ? CompletableFuture.completedFuture(null)
+                                    : evaluateSeparatelyAsync(
+                                            evaluationExecutor, fallbackModelIds, prompts, requests, allContextResults);
+
+                    return fallbackFuture.thenApply(fallbackResults -> IntStream.range(0, prompts.size())
+                            .mapToObj(contextIdx -> {
+                                final List<ModelResult<RelevanceResponse>> results = new ArrayList<>();
+                                for (final ModelResult<PackedRelevanceResponse> result : packedResults) {
+                                    final List<ContextVerdict> verdicts = modelVerdicts.get(result.modelId());
+                                    if (verdicts != null) {
+                                        final ContextVerdict verdict = verdicts.get(contextIdx);
+                                        results.add(result.map(ignored ->
+                                                new RelevanceResponse(verdict.relevant(), verdict.reasoning())));
+                                    }
+                                }
+                                if (fallbackResults != null) {
+                                    results.addAll(fallbackResults.get(contextIdx));
+                                }
+                                return results;
+                            })
+                            .toList());
+                });
+    }
+
+    /**
+     * Orders the verdicts of a packed response by context.
+     *
+     * @param response     the packed response
+     * @param contextCount number of contexts in the packed prompt
+     * @return verdict per context, or null if a context has no verdict
+     */
+    private static List<ContextVerdict> verdictsInOrder(
+            final PackedRelevanceResponse response, final int contextCount) {
+        if (response == null || response.verdicts() == null) {
+            return null;
+        }
+        final Map<Integer, ContextVerdict> verdictsByIndex = new HashMap<>();
+        for (final ContextVerdict verdict : response.verdicts()) {
+            if (verdict != null && verdict.index() != null && verdict.relevant() != null) {
+                verdictsByIndex.putIfAbsent(verdict.index(), verdict);
+            }
+        }
+        final List<ContextVerdict> verdicts = new ArrayList<>();
+        for (int index = 1; index <= contextCount; index++) {
+            final ContextVerdict verdict = verdictsByIndex.get(index);
+            if (verdict == null) {
+                return null;
+            }
+            verdicts.add(verdict);
+        }
+        return verdicts;
+    }
+
+    private String renderPackedPrompt(final EvaluationStrategy strategy, final Sample sample) {
+        final List<String> contexts = sample.getRetrievedContexts();
+        final String numberedContexts = IntStream.range(0, contexts.size())
+                .mapToObj(i -> "[" + (i + 1) + "] " + contexts.get(i))
+                .collect(Collectors.joining("\n\n"));
+        final String template = strategy == EvaluationStrategy.REFERENCE_BASED
+                ? this.packedWithReferencePrompt
+                : this.packedWithoutReferencePrompt;
+        return renderPrompt(template, strategy, sample, "contexts", numberedContexts);
+    }
+
     private String renderPrompt(
-            final String template, final EvaluationStrategy strategy, final Sample sample, final String contextChunk) {
+            final String template,
+            final EvaluationStrategy strategy,
+            final Sample sample,
+            final String contextVariable,
+            final String contextValue) {
         final Map<String, Object> variables;
         if (strategy == EvaluationStrategy.REFERENCE_BASED) {
             variables = Map.of(
                     "user_input", sample.getUserInput(),
                     "reference", sample.getReference(),
-                    "context_chunk", contextChunk);
+                    contextVariable, contextValue);
         } else {
             variables = Map.of(
                     "user_input", sample.getUserInput(),
                     "response", sample.getResponse(),
-                    "context_chunk", contextChunk);
+                    contextVariable, contextValue);
         }
 
         return PromptTemplate.builder()
@@ -362,6 +565,22 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
                     Boolean relevant,
             @JsonPropertyDescription("Detailed explanation of why the chunk is or isn't relevant") String reasoning) {}
 
+    /**
+     * Response DTO for relevance evaluation of all numbered contexts in one prompt
+     */
+    public record PackedRelevanceResponse(
+            @JsonPropertyDescription("Relevance verdict of every context chunk, one entry per chunk")
+                    List<ContextVerdict> verdicts) {}
+
+    /**
+     * Relevance verdict of one numbered context chunk
+     */
+    public record ContextVerdict(
+            @JsonPropertyDescription("Number of the context chunk as given in square brackets") Integer index,
+            @JsonPropertyDescription("Boolean indicating if the context chunk is relevant to answering the user query")
+                    Boolean relevant,
+            @JsonPropertyDescription("Brief explanation of why the chunk is or isn't relevant") String reasoning) {}
+
     /**
      * Evaluation strategy enum
      */
@@ -388,5 +607,20 @@ public class ContextPrecisionMetric extends AbstractMultiModelMetric<ContextPrec
 
         @Builder.Default
         private String language = "en";
+
+        /**
+         * Judge all contexts in one numbered prompt instead of one call per context. Saves repeating
+         * the query, answer and instructions for every context at the cost of one longer prompt.
+         * Default is false.
+         */
+        @Builder.Default
+        private boolean packContexts = false;
+
+        /**
+         * Estimated token budget of the packed prompt; longer prompts are split into one call per
+         * context. Default is {@value ContextPrecisionMetric#DEFAULT_MAX_PACKED_PROMPT_TOKENS}.
+         */
+        @Builder.Default
+        private int maxPackedPromptTokens = DEFAULT_MAX_PACKED_PROMPT_TOKENS;
     }
 }
@@ -70,7 +70,8 @@ public class ContextRecallMetric extends AbstractMultiModelMetric<ContextRecallM
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final ContextRecallConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final ContextRecallConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -106,7 +107,7 @@ public class ContextRecallMetric extends AbstractMultiModelMetric<ContextRecallM
                 .totalSteps(1)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing LLM-based context recall evaluation");
 
             // Local accumulators for steps and exclusions
@@ -115,86 +116,86 @@ public class ContextRecallMetric extends AbstractMultiModelMetric<ContextRecallM
 
             // ========== Step 1: Classify statements ==========
             final String prompt = renderPrompt(userInput, retrievedContexts, reference);
-            final List<ModelResult<ContextRecallClassifications>> results =
-                    executor.executeLlm(modelIds, prompt, ContextRecallClassifications.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ClassifyStatements")
-                    .stepIndex(0)
-                    .totalSteps(1)
-                    .stepType(StepType.LLM)
-                    .request(prompt)
-                    .results(new ArrayList<>(results))
-                    .build());
-
-            // Collect scores and track excluded models
-            final Map<String, Double> modelScores = new HashMap<>();
-            for (final ModelResult<ContextRecallClassifications> result : results) {
-                if (result.isSuccess()) {
-                    modelScores.put(result.modelId(), calculateContextRecall(result.result()));
-                } else {
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("ClassifyStatements")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build metadata
-            final Map<String, List<ContextRecallMetadata.ClassificationSummary>> classificationsSummary =
-                    new HashMap<>();
-            long attributedCount = 0;
-            long totalCount = 0;
-            for (final ModelResult<ContextRecallClassifications> result : results) {
-                if (result.isSuccess() && result.result().classifications() != null) {
-                    final List<ContextRecallMetadata.ClassificationSummary> summaries = new ArrayList<>();
-                    for (final ContextRecallClassification c : result.result().classifications()) {
-                        summaries.add(new ContextRecallMetadata.ClassificationSummary(
-                                c.statement(), c.reason(), c.attributed() != null ? c.attributed() : 0));
-                    }
-                    classificationsSummary.put(result.modelId(), summaries);
-                }
-            }
-            // Use first successful model's data for aggregate counts
-            final ModelResult<ContextRecallClassifications> firstSuccessful =
-                    results.stream().filter(ModelResult::isSuccess).findFirst().orElse(null);
-            if (firstSuccessful != null && firstSuccessful.result().classifications() != null) {
-                totalCount = firstSuccessful.result().classifications().size();
-                attributedCount = firstSuccessful.result().classifications().stream()
-                        .mapToInt(ContextRecallClassification::attributed)
-                        .sum();
-            }
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            final List<String> excludedModels = results.stream()
-                    .filter(ModelResult::isFailure)
-                    .map(ModelResult::modelId)
-                    .toList();
-
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new ContextRecallMetadata(classificationsSummary, attributedCount, totalCount))
-                    .build());
-
-            return aggregatedScore;
+            return evaluationExecutor.executeLlmAsync(modelIds, prompt, ContextRecallClassifications.class)
+                    .thenApply(results -> {
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ClassifyStatements")
+                                .stepIndex(0)
+                                .totalSteps(1)
+                                .stepType(StepType.LLM)
+                                .request(prompt)
+                                .results(new ArrayList<>(results))
+                                .build());
+
+                        // Collect scores and track excluded models
+                        final Map<String, Double> modelScores = new HashMap<>();
+                        for (final ModelResult<ContextRecallClassifications> result : results) {
+                            if (result.isSuccess()) {
+                                modelScores.put(result.modelId(), calculateContextRecall(result.result()));
+                            } else {
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("ClassifyStatements")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed for metric: " + getName());
+                        }
+
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Build metadata
+                        final Map<String, List<ContextRecallMetadata.ClassificationSummary>> classificationsSummary =
+                                new HashMap<>();
+                        long attributedCount = 0;
+                        long totalCount = 0;
+                        for (final ModelResult<ContextRecallClassifications> result : results) {
+                            if (result.isSuccess() && result.result().classifications() != null) {
+                                final List<ContextRecallMetadata.ClassificationSummary> summaries = new ArrayList<>();
+                                for (final ContextRecallClassification c : result.result().classifications()) {
+                                    summaries.add(new ContextRecallMetadata.ClassificationSummary(
+                                            c.statement(), c.reason(), c.attributed() != null ? c.attributed() : 0));
+                                }
+                                classificationsSummary.put(result.modelId(), summaries);
+                            }
+                        }
+                        // Use first successful model's data for aggregate counts
+                        final ModelResult<ContextRecallClassifications> firstSuccessful =
+                                results.stream().filter(ModelResult::isSuccess).findFirst().orElse(null);
+                        if (firstSuccessful != null && firstSuccessful.result().classifications() != null) {
+                            totalCount = firstSuccessful.result().classifications().size();
+                            attributedCount = firstSuccessful.result().classifications().stream()
+                                    .mapToInt(ContextRecallClassification::attributed)
+                                    .sum();
+                        }
+
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+                        final List<String> excludedModels = results.stream()
+                                .filter(ModelResult::isFailure)
+                                .map(ModelResult::modelId)
+                                .toList();
+
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new ContextRecallMetadata(classificationsSummary, attributedCount, totalCount))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
@@ -8,6 +8,7 @@ import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
 import ai.qa.solutions.execution.listener.dto.StepResults;
 import ai.qa.solutions.execution.listener.dto.StepType;
 import ai.qa.solutions.metric.AbstractMultiModelMetric;
+import ai.qa.solutions.metric.decomposition.DecompositionStore;
 import ai.qa.solutions.metric.metadata.FaithfulnessMetadata;
 import ai.qa.solutions.sample.Sample;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -15,8 +16,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import lombok.Builder;
 import lombok.Data;
@@ -31,6 +34,10 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  * with explicit flow control and listener notifications.
  * <p>
  * Score ranges from 0.0 to 1.0, where higher scores indicate better consistency.
+ * <p>
+ * With a {@link DecompositionStore}, statements are generated from the store's shared template
+ * and reused by the other metrics built with it. A custom {@code statementGeneratorTemplate}
+ * that differs from the store's template takes precedence over the store.
  */
 @Slf4j
 public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMetric.FaithfulnessConfig> {
@@ -107,12 +114,17 @@ public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMet
     private final String statementGeneratorTemplate;
     private final String nliStatementTemplate;
 
+    private final DecompositionStore decompositionStore;
+
     @Builder(toBuilder = true)
     protected FaithfulnessMetric(
             final MultiModelExecutor executor,
             final String statementGeneratorTemplate,
-            final String nliStatementTemplate) {
+            final String nliStatementTemplate,
+            final DecompositionStore decompositionStore) {
         super(executor);
+        this.decompositionStore = DecompositionStore.applicableTo(
+                decompositionStore, statementGeneratorTemplate, getName(), "statementGeneratorTemplate");
         this.statementGeneratorTemplate =
                 statementGeneratorTemplate != null ? statementGeneratorTemplate : DEFAULT_STATEMENT_GENERATOR_TEMPLATE;
         this.nliStatementTemplate =
@@ -145,7 +157,8 @@ public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMet
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final FaithfulnessConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final FaithfulnessConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         final Instant startTime = Instant.now();
         final List<String> modelIds =
                 config.models != null && !config.models.isEmpty() ? config.models : executor.getModelIds();
@@ -162,7 +175,7 @@ public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMet
                 .totalSteps(3) // Generate statements -> Evaluate faithfulness -> Compute score
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing faithfulness evaluation with explicit flow");
 
             // Local accumulators for steps and exclusions
@@ -172,169 +185,195 @@ public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMet
             // Track excluded models across all steps
             final List<String> excludedModels = new ArrayList<>();
 
-            // ========== Step 1: Generate statements ==========
             final String generatePrompt = renderGenerateStatementsPrompt(sample);
-            final List<ModelResult<StatementsResponse>> step1Results =
-                    executor.executeLlm(modelIds, generatePrompt, StatementsResponse.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("GenerateStatements")
-                    .stepIndex(0)
-                    .totalSteps(3)
-                    .stepType(StepType.LLM)
-                    .request(generatePrompt)
-                    .results(new ArrayList<>(step1Results))
-                    .build());
-
-            // Collect successful results from step 1
-            final Map<String, StatementsResponse> step1Successful = new HashMap<>();
-            for (final ModelResult<StatementsResponse> result : step1Results) {
-                if (result.isSuccess()) {
-                    step1Successful.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("GenerateStatements")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (step1Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step GenerateStatements for metric: " + getName());
-            }
-
-            // ========== Step 2: Evaluate faithfulness ==========
             final String context = String.join("\n", sample.getRetrievedContexts());
 
-            // Execute in parallel for all models that succeeded in step 1
-            final List<String> step1ModelIds = new ArrayList<>(step1Successful.keySet());
-            final List<CompletableFuture<ModelResult<VerdictsResponse>>> step2Futures = step1ModelIds.stream()
-                    .map(modelId -> {
-                        final String statementsFormatted =
-                                formatStatements(step1Successful.get(modelId).statements());
-                        final String evaluatePrompt = renderEvaluateFaithfulnessPrompt(context, statementsFormatted);
-                        return executor.executeLlmOnModelAsync(modelId, evaluatePrompt, VerdictsResponse.class);
-                    })
-                    .toList();
-            CompletableFuture.allOf(step2Futures.toArray(new CompletableFuture[0]))
-                    .join();
-            final List<ModelResult<VerdictsResponse>> step2Results =
-                    step2Futures.stream().map(CompletableFuture::join).toList();
-
-            // Use first model's prompt as example for logging (all use same template)
-            final String exampleEvaluatePrompt = step1Successful.isEmpty()
-                    ? nliStatementTemplate
-                    : renderEvaluateFaithfulnessPrompt(
-                            context,
-                            formatStatements(
-                                    step1Successful.values().iterator().next().statements()));
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("EvaluateFaithfulness")
-                    .stepIndex(1)
-                    .totalSteps(3)
-                    .stepType(StepType.LLM)
-                    .request(exampleEvaluatePrompt)
-                    .results(new ArrayList<>(step2Results))
-                    .build());
-
-            // Collect successful results from step 2
-            final Map<String, VerdictsResponse> step2Successful = new HashMap<>();
-            for (final ModelResult<VerdictsResponse> result : step2Results) {
-                if (result.isSuccess()) {
-                    step2Successful.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("EvaluateFaithfulness")
-                            .failedStepIndex(1)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (step2Successful.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step EvaluateFaithfulness for metric: " + getName());
-            }
-
-            // ========== Step 3: Compute score ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-            for (final Map.Entry<String, VerdictsResponse> entry : step2Successful.entrySet()) {
-                final double score = calculateFaithfulness(entry.getValue());
-                modelScores.put(entry.getKey(), score);
-            }
-
-            // Create synthetic results for compute step
-            final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
-                    .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
+            // ========== Steps 1-2 pipelined per model ==========
+            // Each model moves on to EvaluateFaithfulness as soon as its own statements are ready,
+            // so a slow judge only delays its own chain instead of gating every step
+            final List<CompletableFuture<FaithfulnessChain>> chainFutures = modelIds.stream()
+                    .map(modelId -> generateStatementsAsync(evaluationExecutor, modelId, sample, generatePrompt)
+                            .thenCompose(statements -> {
+                                if (statements.isFailure()) {
+                                    return CompletableFuture.completedFuture(
+                                            new FaithfulnessChain(statements, null));
+                                }
+                                final String evaluatePrompt = renderEvaluateFaithfulnessPrompt(
+                                        context,
+                                        formatStatements(statements.result().statements()));
+                                return evaluationExecutor
+                                        .executeLlmOnModelAsync(modelId, evaluatePrompt, VerdictsResponse.class)
+                                        .thenApply(verdicts -> new FaithfulnessChain(statements, verdicts));
+                            }))
                     .toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeScore")
-                    .stepIndex(2)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(new ArrayList<>(step3Results))
-                    .build());
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build metadata for Allure reports
-            final Map<String, List<String>> extractedStatements = new HashMap<>();
-            for (final Map.Entry<String, StatementsResponse> entry : step1Successful.entrySet()) {
-                extractedStatements.put(entry.getKey(), entry.getValue().statements());
-            }
-
-            final Map<String, List<FaithfulnessMetadata.StatementVerdictSummary>> verdictsSummary = new HashMap<>();
-            long faithfulCount = 0;
-            long totalCount = 0;
-            for (final Map.Entry<String, VerdictsResponse> entry : step2Successful.entrySet()) {
-                final List<FaithfulnessMetadata.StatementVerdictSummary> summaries = new ArrayList<>();
-                if (entry.getValue().verdicts() != null) {
-                    for (final StatementVerdict v : entry.getValue().verdicts()) {
-                        summaries.add(new FaithfulnessMetadata.StatementVerdictSummary(
-                                v.statement(), v.reason(), v.verdict() != null ? v.verdict() : 0));
-                    }
-                }
-                verdictsSummary.put(entry.getKey(), summaries);
-            }
-            // Use first successful model's data for aggregate counts
-            final VerdictsResponse firstVerdicts =
-                    step2Successful.values().iterator().next();
-            if (firstVerdicts.verdicts() != null) {
-                totalCount = firstVerdicts.verdicts().size();
-                faithfulCount = firstVerdicts.verdicts().stream()
-                        .filter(v -> v.verdict() != null && v.verdict() == 1)
-                        .count();
-            }
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new FaithfulnessMetadata(extractedStatements, verdictsSummary, faithfulCount, totalCount))
-                    .build());
-
-            return aggregatedScore;
+            return CompletableFuture.allOf(chainFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        final List<FaithfulnessChain> chains =
+                                chainFutures.stream().map(CompletableFuture::join).toList();
+
+                        // ========== Step 1: Generate statements ==========
+                        final List<ModelResult<StatementsResponse>> step1Results =
+                                chains.stream().map(FaithfulnessChain::statements).toList();
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("GenerateStatements")
+                                .stepIndex(0)
+                                .totalSteps(3)
+                                .stepType(StepType.LLM)
+                                .request(generatePrompt)
+                                .results(new ArrayList<>(step1Results))
+                                .build());
+
+                        // Collect successful results from step 1
+                        final Map<String, StatementsResponse> step1Successful = new LinkedHashMap<>();
+                        for (final ModelResult<StatementsResponse> result : step1Results) {
+                            if (result.isSuccess()) {
+                                step1Successful.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("GenerateStatements")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (step1Successful.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step GenerateStatements for metric: " + getName());
+                        }
+
+                        // ========== Step 2: Evaluate faithfulness ==========
+                        final List<ModelResult<VerdictsResponse>> step2Results = chains.stream()
+                                .map(FaithfulnessChain::verdicts)
+                                .filter(Objects::nonNull)
+                                .toList();
+
+                        // Use first model's prompt as example for logging (all use same template)
+                        final String exampleEvaluatePrompt = renderEvaluateFaithfulnessPrompt(
+                                context,
+                                formatStatements(step1Successful.values().iterator().next().statements()));
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("EvaluateFaithfulness")
+                                .stepIndex(1)
+                                .totalSteps(3)
+                                .stepType(StepType.LLM)
+                                .request(exampleEvaluatePrompt)
+                                .results(new ArrayList<>(step2Results))
+                                .build());
+
+                        // Collect successful results from step 2
+                        final Map<String, VerdictsResponse> step2Successful = new LinkedHashMap<>();
+                        for (final ModelResult<VerdictsResponse> result : step2Results) {
+                            if (result.isSuccess()) {
+                                step2Successful.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("EvaluateFaithfulness")
+                                        .failedStepIndex(1)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (step2Successful.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step EvaluateFaithfulness for metric: " + getName());
+                        }
+
+                        // ========== Step 3: Compute score ==========
+                        final Map<String, Double> modelScores = new HashMap<>();
+                        for (final Map.Entry<String, VerdictsResponse> entry : step2Successful.entrySet()) {
+                            final double score = calculateFaithfulness(entry.getValue());
+                            modelScores.put(entry.getKey(), score);
+                        }
+
+                        // Create synthetic results for compute step
+                        final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
+                                .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
+                                .toList();
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ComputeScore")
+                                .stepIndex(2)
+                                .totalSteps(3)
+                                .stepType(StepType.COMPUTE)
+                                .results(new ArrayList<>(step3Results))
+                                .build());
+
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Build metadata for Allure reports
+                        final Map<String, List<String>> extractedStatements = new HashMap<>();
+                        for (final Map.Entry<String, StatementsResponse> entry : step1Successful.entrySet()) {
+                            extractedStatements.put(entry.getKey(), entry.getValue().statements());
+                        }
+
+                        final Map<String, List<FaithfulnessMetadata.StatementVerdictSummary>> verdictsSummary = new HashMap<>();
+                        long faithfulCount = 0;
+                        long totalCount = 0;
+                        for (final Map.Entry<String, VerdictsResponse> entry : step2Successful.entrySet()) {
+                            final List<FaithfulnessMetadata.StatementVerdictSummary> summaries = new ArrayList<>();
+                            if (entry.getValue().verdicts() != null) {
+                                for (final StatementVerdict v : entry.getValue().verdicts()) {
+                                    summaries.add(new FaithfulnessMetadata.StatementVerdictSummary(
+                                            v.statement(), v.reason(), v.verdict() != null ? v.verdict() : 0));
+                                }
+                            }
+                            verdictsSummary.put(entry.getKey(), summaries);
+                        }
+                        // Use first successful model's data for aggregate counts
+                        final VerdictsResponse firstVerdicts =
+                                step2Successful.values().iterator().next();
+                        if (firstVerdicts.verdicts() != null) {
+                            totalCount = firstVerdicts.verdicts().size();
+                            faithfulCount = firstVerdicts.verdicts().stream()
+                                    .filter(v -> v.verdict() != null && v.verdict() == 1)
+                                    .count();
+                        }
+
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(excludedModels)
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new FaithfulnessMetadata(extractedStatements, verdictsSummary, faithfulCount, totalCount))
+                                .build());
+
+                        return aggregatedScore;
+                    });
         });
     }
 
+    private CompletableFuture<ModelResult<StatementsResponse>> generateStatementsAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final Sample sample,
+            final String generatePrompt) {
+        if (decompositionStore == null) {
+            return evaluationExecutor.executeLlmOnModelAsync(modelId, generatePrompt, StatementsResponse.class);
+        }
+        return decompositionStore.decomposeAsync(
+                evaluationExecutor, modelId, sample.getUserInput(), sample.getResponse(), StatementsResponse::new);
+    }
+
     private String renderGenerateStatementsPrompt(final Sample sample) {
+        if (decompositionStore != null) {
+            return decompositionStore.renderPrompt(sample.getUserInput(), sample.getResponse());
+        }
         return PromptTemplate.builder()
                 .template(this.statementGeneratorTemplate)
                 .variables(Map.of("question", sample.getUserInput(), "answer", sample.getResponse()))
@@ -376,6 +415,12 @@ public class FaithfulnessMetric extends AbstractMultiModelMetric<FaithfulnessMet
         return (double) faithfulStatements / verdicts.verdicts().size();
     }
 
+    /**
+     * Results of one model's step chain; {@code verdicts} is null when statement generation failed.
+     */
+    private record FaithfulnessChain(
+            ModelResult<StatementsResponse> statements, ModelResult<VerdictsResponse> verdicts) {}
+
     /**
      * Response DTO for statement generation
      */
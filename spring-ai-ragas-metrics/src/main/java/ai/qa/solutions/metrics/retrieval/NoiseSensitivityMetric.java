@@ -2,12 +2,14 @@ package ai.qa.solutions.metrics.retrieval;
 
 import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.cache.ReferenceArtifact;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.execution.listener.dto.ModelExclusionEvent;
 import ai.qa.solutions.execution.listener.dto.StepResults;
 import ai.qa.solutions.execution.listener.dto.StepType;
 import ai.qa.solutions.metric.AbstractMultiModelMetric;
+import ai.qa.solutions.metric.decomposition.DecompositionStore;
 import ai.qa.solutions.metric.metadata.NoiseSensitivityMetadata;
 import ai.qa.solutions.sample.Sample;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -15,8 +17,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import lombok.Builder;
 import lombok.Data;
@@ -34,6 +38,12 @@ import org.springframework.ai.chat.prompt.PromptTemplate;
  * The score ranges from 0 to 1, with lower values indicating better performance.
  * Measures the proportion of incorrect statements in the response that can be attributed
  * to the retrieved contexts (relevant or irrelevant based on mode).
+ * <p>
+ * With a {@link DecompositionStore}, the response is decomposed from the store's shared template
+ * and the statements are reused by the other metrics built with it. The reference is decomposed
+ * from the same template, so both sides are split at the same granularity. A custom
+ * {@code statementGeneratorPrompt} that differs from the store's template takes precedence over
+ * the store.
  */
 @Slf4j
 public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensitivityMetric.NoiseSensitivityConfig> {
@@ -114,13 +124,17 @@ public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensit
 
     private final String statementGeneratorPrompt;
     private final String statementFaithfulnessPrompt;
+    private final DecompositionStore decompositionStore;
 
     @Builder(toBuilder = true)
     protected NoiseSensitivityMetric(
             final MultiModelExecutor executor,
             final String statementGeneratorPrompt,
-            final String statementFaithfulnessPrompt) {
+            final String statementFaithfulnessPrompt,
+            final DecompositionStore decompositionStore) {
         super(executor);
+        this.decompositionStore = DecompositionStore.applicableTo(
+                decompositionStore, statementGeneratorPrompt, getName(), "statementGeneratorPrompt");
         this.statementGeneratorPrompt =
                 statementGeneratorPrompt != null ? statementGeneratorPrompt : DEFAULT_STATEMENT_GENERATOR_PROMPT;
         this.statementFaithfulnessPrompt = statementFaithfulnessPrompt != null
@@ -148,7 +162,8 @@ public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensit
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final NoiseSensitivityConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final NoiseSensitivityConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         // Validation
         if (sample.getUserInput() == null || sample.getUserInput().trim().isEmpty()) {
             log.warn("No user input provided for Noise Sensitivity evaluation");
@@ -191,7 +206,7 @@ public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensit
                 .totalSteps(totalSteps)
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing noise sensitivity evaluation with explicit flow");
 
             // Local accumulators for steps and exclusions
@@ -199,347 +214,363 @@ public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensit
             final List<ModelExclusionEvent> accumulatedExclusions = new ArrayList<>();
 
             // Track excluded models across all steps
-            final java.util.Set<String> excludedModelIds = new java.util.HashSet<>();
-
-            int stepIndex = 0;
+            final java.util.Set<String> excludedModelIds = new java.util.LinkedHashSet<>();
 
-            // ========== Step 1: Decompose reference into statements ==========
             final String decomposeRefPrompt = renderDecomposePrompt(sample.getUserInput(), sample.getReference());
-            final List<ModelResult<StatementsResponse>> decomposeRefResults =
-                    executor.executeLlm(modelIds, decomposeRefPrompt, StatementsResponse.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("DecomposeReference")
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(decomposeRefPrompt)
-                    .results(new ArrayList<>(decomposeRefResults))
-                    .build());
-
-            final Map<String, StatementsResponse> refStatementsMap = new HashMap<>();
-            for (final ModelResult<StatementsResponse> result : decomposeRefResults) {
-                if (result.isSuccess()) {
-                    refStatementsMap.put(result.modelId(), result.result());
-                } else {
-                    excludedModelIds.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("DecomposeReference")
-                            .failedStepIndex(stepIndex)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (refStatementsMap.isEmpty()) {
-                throw new IllegalStateException(
-                        "All models failed at step DecomposeReference for metric: " + getName());
-            }
-
-            stepIndex++;
-
-            // ========== Step 2: Decompose response into statements ==========
             final String decomposeRespPrompt = renderDecomposePrompt(sample.getUserInput(), sample.getResponse());
 
-            // Execute in parallel for all models
-            final List<String> activeModelIds = new ArrayList<>(refStatementsMap.keySet());
-            final List<CompletableFuture<ModelResult<StatementsResponse>>> decomposeRespFutures =
-                    activeModelIds.stream()
-                            .map(modelId -> executor.executeLlmOnModelAsync(
-                                    modelId, decomposeRespPrompt, StatementsResponse.class))
-                            .toList();
-            CompletableFuture.allOf(decomposeRespFutures.toArray(new CompletableFuture[0]))
-                    .join();
-            final List<ModelResult<StatementsResponse>> decomposeRespResults =
-                    decomposeRespFutures.stream().map(CompletableFuture::join).toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("DecomposeResponse")
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(decomposeRespPrompt)
-                    .results(new ArrayList<>(decomposeRespResults))
-                    .build());
-
-            final Map<String, StatementsResponse> respStatementsMap = new HashMap<>();
-            for (final ModelResult<StatementsResponse> result : decomposeRespResults) {
-                if (result.isSuccess()) {
-                    respStatementsMap.put(result.modelId(), result.result());
-                } else {
-                    excludedModelIds.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("DecomposeResponse")
-                            .failedStepIndex(stepIndex)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (respStatementsMap.isEmpty()) {
-                throw new IllegalStateException("All models failed at step DecomposeResponse for metric: " + getName());
-            }
-
-            stepIndex++;
-
-            // ========== Step 3: Evaluate response statements against reference (groundTruthToAnswer)
-            // ==========
-            final Map<String, FaithfulnessVerdictsResponse> groundTruthToAnswerMap = new HashMap<>();
-
-            // Execute in parallel for all models
-            final List<String> respModelIds = new ArrayList<>(respStatementsMap.keySet());
-            final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> groundTruthFutures =
-                    respModelIds.stream()
-                            .map(modelId -> {
-                                final StatementsResponse respStmts = respStatementsMap.get(modelId);
-                                final String statementsFormatted = formatStatements(respStmts.statements());
-                                final String prompt =
-                                        renderFaithfulnessPrompt(sample.getReference(), statementsFormatted);
-                                return executor.executeLlmOnModelAsync(
-                                        modelId, prompt, FaithfulnessVerdictsResponse.class);
-                            })
-                            .toList();
-            CompletableFuture.allOf(groundTruthFutures.toArray(new CompletableFuture[0]))
-                    .join();
-            final List<ModelResult<FaithfulnessVerdictsResponse>> groundTruthResults =
-                    groundTruthFutures.stream().map(CompletableFuture::join).toList();
-
-            for (final ModelResult<FaithfulnessVerdictsResponse> result : groundTruthResults) {
-                if (result.isSuccess()) {
-                    groundTruthToAnswerMap.put(result.modelId(), result.result());
-                }
-            }
-
-            // Use first model's prompt as example for logging
-            final String examplePrompt = respStatementsMap.isEmpty()
-                    ? statementFaithfulnessPrompt
-                    : renderFaithfulnessPrompt(
-                            sample.getReference(),
-                            formatStatements(
-                                    respStatementsMap.values().iterator().next().statements()));
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("EvaluateGroundTruthToAnswer")
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(examplePrompt)
-                    .results(new ArrayList<>(groundTruthResults))
-                    .build());
-
-            stepIndex++;
-
-            // ========== Step 4: Evaluate ALL context comparisons IN PARALLEL ==========
-            // (retrievedToGroundTruth + retrievedToAnswer)
-
-            // Pre-initialize result maps with null lists of correct size
-            final Map<String, List<FaithfulnessVerdictsResponse>> retrievedToGroundTruthMap = new HashMap<>();
-            for (final String modelId : refStatementsMap.keySet()) {
-                final List<FaithfulnessVerdictsResponse> list = new ArrayList<>();
-                for (int i = 0; i < numContexts; i++) {
-                    list.add(null);
-                }
-                retrievedToGroundTruthMap.put(modelId, list);
-            }
-
-            final Map<String, List<FaithfulnessVerdictsResponse>> retrievedToAnswerMap = new HashMap<>();
-            for (final String modelId : respStatementsMap.keySet()) {
-                final List<FaithfulnessVerdictsResponse> list = new ArrayList<>();
-                for (int i = 0; i < numContexts; i++) {
-                    list.add(null);
-                }
-                retrievedToAnswerMap.put(modelId, list);
-            }
+            // ========== All LLM steps pipelined per model ==========
+            // Each model advances to its next step as soon as its own previous step is done,
+            // so a slow judge only delays its own chain instead of gating every step
+            final List<CompletableFuture<NoiseSensitivityChain>> chainFutures = modelIds.stream()
+                    .map(modelId -> runModelChain(
+                            evaluationExecutor,
+                            modelId, sample, decomposeRefPrompt, decomposeRespPrompt, retrievedContexts))
+                    .toList();
+            return CompletableFuture.allOf(chainFutures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        final List<NoiseSensitivityChain> chains =
+                                chainFutures.stream().map(CompletableFuture::join).toList();
+
+                        int stepIndex = 0;
+
+                        // ========== Step 1: Decompose reference into statements ==========
+                        final List<ModelResult<StatementsResponse>> decomposeRefResults =
+                                chains.stream().map(NoiseSensitivityChain::reference).toList();
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("DecomposeReference")
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(decomposeRefPrompt)
+                                .results(new ArrayList<>(decomposeRefResults))
+                                .build());
+
+                        final Map<String, StatementsResponse> refStatementsMap = new LinkedHashMap<>();
+                        for (final ModelResult<StatementsResponse> result : decomposeRefResults) {
+                            if (result.isSuccess()) {
+                                refStatementsMap.put(result.modelId(), result.result());
+                            } else {
+                                excludedModelIds.add(result.modelId());
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("DecomposeReference")
+                                        .failedStepIndex(stepIndex)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (refStatementsMap.isEmpty()) {
+                            throw new IllegalStateException(
+                                    "All models failed at step DecomposeReference for metric: " + getName());
+                        }
+
+                        stepIndex++;
+
+                        // ========== Step 2: Decompose response into statements ==========
+                        final List<ModelResult<StatementsResponse>> decomposeRespResults = chains.stream()
+                                .map(NoiseSensitivityChain::response)
+                                .filter(Objects::nonNull)
+                                .toList();
 
-            final List<String> refModelIds = new ArrayList<>(refStatementsMap.keySet());
-            final List<String> respModelIdsList = new ArrayList<>(respStatementsMap.keySet());
-
-            // Launch ALL futures for ALL contexts in parallel
-            final List<List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>>> refContextFuturesList =
-                    new ArrayList<>();
-            final List<List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>>> respContextFuturesList =
-                    new ArrayList<>();
-
-            for (int contextIdx = 0; contextIdx < numContexts; contextIdx++) {
-                final String context = retrievedContexts.get(contextIdx);
-
-                // Launch ref-to-context futures for this context
-                final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> refFutures =
-                        refModelIds.stream()
-                                .map(modelId -> {
-                                    final StatementsResponse refStmts = refStatementsMap.get(modelId);
-                                    final String statementsFormatted = formatStatements(refStmts.statements());
-                                    final String prompt = renderFaithfulnessPrompt(context, statementsFormatted);
-                                    return executor.executeLlmOnModelAsync(
-                                            modelId, prompt, FaithfulnessVerdictsResponse.class);
-                                })
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("DecomposeResponse")
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(decomposeRespPrompt)
+                                .results(new ArrayList<>(decomposeRespResults))
+                                .build());
+
+                        final Map<String, StatementsResponse> respStatementsMap = new LinkedHashMap<>();
+                        for (final ModelResult<StatementsResponse> result : decomposeRespResults) {
+                            if (result.isSuccess()) {
+                                respStatementsMap.put(result.modelId(), result.result());
+                            } else {
+                                excludedModelIds.add(result.modelId());
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("DecomposeResponse")
+                                        .failedStepIndex(stepIndex)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (respStatementsMap.isEmpty()) {
+                            throw new IllegalStateException("All models failed at step DecomposeResponse for metric: " + getName());
+                        }
+
+                        stepIndex++;
+
+                        // ========== Step 3: Evaluate response statements against reference (groundTruthToAnswer)
+                        // ==========
+                        final List<ModelResult<FaithfulnessVerdictsResponse>> groundTruthResults = chains.stream()
+                                .map(NoiseSensitivityChain::groundTruthToAnswer)
+                                .filter(Objects::nonNull)
                                 .toList();
-                refContextFuturesList.add(refFutures);
-
-                // Launch resp-to-context futures for this context
-                final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> respFutures =
-                        respModelIdsList.stream()
-                                .map(modelId -> {
-                                    final StatementsResponse respStmts = respStatementsMap.get(modelId);
-                                    final String statementsFormatted = formatStatements(respStmts.statements());
-                                    final String prompt = renderFaithfulnessPrompt(context, statementsFormatted);
-                                    return executor.executeLlmOnModelAsync(
-                                            modelId, prompt, FaithfulnessVerdictsResponse.class);
-                                })
+
+                        final Map<String, FaithfulnessVerdictsResponse> groundTruthToAnswerMap = new HashMap<>();
+                        for (final ModelResult<FaithfulnessVerdictsResponse> result : groundTruthResults) {
+                            if (result.isSuccess()) {
+                                groundTruthToAnswerMap.put(result.modelId(), result.result());
+                            }
+                        }
+
+                        // Use first model's prompt as example for logging
+                        final String examplePrompt = renderFaithfulnessPrompt(
+                                sample.getReference(),
+                                formatStatements(respStatementsMap.values().iterator().next().statements()));
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("EvaluateGroundTruthToAnswer")
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(examplePrompt)
+                                .results(new ArrayList<>(groundTruthResults))
+                                .build());
+
+                        stepIndex++;
+
+                        // ========== Step 4: Evaluate ALL context comparisons ==========
+                        // (retrievedToGroundTruth + retrievedToAnswer), reported per context then per model
+                        final Map<String, List<FaithfulnessVerdictsResponse>> retrievedToGroundTruthMap = new HashMap<>();
+                        final Map<String, List<FaithfulnessVerdictsResponse>> retrievedToAnswerMap = new HashMap<>();
+                        for (final NoiseSensitivityChain chain : chains) {
+                            if (refStatementsMap.containsKey(chain.modelId())) {
+                                retrievedToGroundTruthMap.put(chain.modelId(), successfulVerdicts(chain.referenceToContexts()));
+                            }
+                            if (respStatementsMap.containsKey(chain.modelId())) {
+                                retrievedToAnswerMap.put(chain.modelId(), successfulVerdicts(chain.responseToContexts()));
+                            }
+                        }
+
+                        final List<ModelResult<?>> allContextEvalResults = new ArrayList<>();
+                        for (int contextIdx = 0; contextIdx < numContexts; contextIdx++) {
+                            for (final NoiseSensitivityChain chain : chains) {
+                                if (!chain.referenceToContexts().isEmpty()) {
+                                    allContextEvalResults.add(chain.referenceToContexts().get(contextIdx));
+                                }
+                            }
+                        }
+                        for (int contextIdx = 0; contextIdx < numContexts; contextIdx++) {
+                            for (final NoiseSensitivityChain chain : chains) {
+                                if (!chain.responseToContexts().isEmpty()) {
+                                    allContextEvalResults.add(chain.responseToContexts().get(contextIdx));
+                                }
+                            }
+                        }
+
+                        // Build step for context evaluations
+                        final String contextEvalPrompt = renderFaithfulnessPrompt(
+                                retrievedContexts.get(0),
+                                formatStatements(refStatementsMap.values().iterator().next().statements()));
+
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("EvaluateAllContexts")
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.LLM)
+                                .request(contextEvalPrompt)
+                                .results(allContextEvalResults)
+                                .build());
+
+                        stepIndex++;
+
+                        // ========== Final step: Compute noise sensitivity ==========
+                        final Map<String, Double> modelScores = new HashMap<>();
+
+                        for (final String modelId : respStatementsMap.keySet()) {
+                            // Skip models that failed any required step
+                            if (!groundTruthToAnswerMap.containsKey(modelId)
+                                    || !refStatementsMap.containsKey(modelId)
+                                    || !retrievedToGroundTruthMap.containsKey(modelId)
+                                    || !retrievedToAnswerMap.containsKey(modelId)) {
+                                continue;
+                            }
+
+                            final StatementsResponse refStmts = refStatementsMap.get(modelId);
+                            final StatementsResponse respStmts = respStatementsMap.get(modelId);
+                            final FaithfulnessVerdictsResponse groundTruthToAnswer = groundTruthToAnswerMap.get(modelId);
+                            final List<FaithfulnessVerdictsResponse> retrievedToGroundTruth =
+                                    retrievedToGroundTruthMap.get(modelId);
+                            final List<FaithfulnessVerdictsResponse> retrievedToAnswer = retrievedToAnswerMap.get(modelId);
+
+                            // Convert to 2D arrays
+                            final boolean[][] gtToAnswer = convertToGroundTruthToAnswer(groundTruthToAnswer, respStmts);
+                            final boolean[][] rtToGt = convertToRetrievedToGroundTruth(retrievedToGroundTruth, refStmts);
+                            final boolean[][] rtToAnswer = convertToRetrievedToAnswer(retrievedToAnswer, respStmts);
+
+                            final FaithfulnessResults results = new FaithfulnessResults(gtToAnswer, rtToGt, rtToAnswer);
+                            final double score = calculateNoiseSensitivity(results, config.getMode());
+                            modelScores.put(modelId, score);
+                        }
+
+                        // Create synthetic results for compute step
+                        final List<ModelResult<Double>> computeResults = modelScores.entrySet().stream()
+                                .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
                                 .toList();
-                respContextFuturesList.add(respFutures);
-            }
 
-            // Flatten all futures and wait for ALL at once
-            final List<CompletableFuture<?>> allFutures = new ArrayList<>();
-            refContextFuturesList.forEach(allFutures::addAll);
-            respContextFuturesList.forEach(allFutures::addAll);
-            CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0]))
-                    .join();
-
-            // Process ref-to-context results
-            final List<ModelResult<?>> allContextEvalResults = new ArrayList<>();
-            for (int contextIdx = 0; contextIdx < numContexts; contextIdx++) {
-                final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> refFutures =
-                        refContextFuturesList.get(contextIdx);
-                for (int modelIdx = 0; modelIdx < refModelIds.size(); modelIdx++) {
-                    final ModelResult<FaithfulnessVerdictsResponse> result =
-                            refFutures.get(modelIdx).join();
-                    final String modelId = refModelIds.get(modelIdx);
-                    allContextEvalResults.add(result);
-                    if (result.isSuccess()) {
-                        retrievedToGroundTruthMap.get(modelId).set(contextIdx, result.result());
-                    }
-                }
-            }
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("ComputeNoiseSensitivity")
+                                .stepIndex(stepIndex)
+                                .totalSteps(totalSteps)
+                                .stepType(StepType.COMPUTE)
+                                .results(new ArrayList<>(computeResults))
+                                .build());
+
+                        if (modelScores.isEmpty()) {
+                            throw new IllegalStateException("All models failed for metric: " + getName());
+                        }
+
+                        final double aggregatedScore = aggregate(modelScores);
+
+                        // Build metadata
+                        final Map<String, List<String>> refStatementsMetadata = new HashMap<>();
+                        for (final Map.Entry<String, StatementsResponse> entry : refStatementsMap.entrySet()) {
+                            refStatementsMetadata.put(
+                                    entry.getKey(),
+                                    entry.getValue().statements() != null ? entry.getValue().statements() : List.of());
+                        }
+                        final Map<String, List<String>> respStatementsMetadata = new HashMap<>();
+                        for (final Map.Entry<String, StatementsResponse> entry : respStatementsMap.entrySet()) {
+                            respStatementsMetadata.put(
+                                    entry.getKey(),
+                                    entry.getValue().statements() != null ? entry.getValue().statements() : List.of());
+                        }
+
+                        // Notify with full results
+                        final Duration duration = Duration.between(startTime, Instant.now());
+                        notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                .metricName(getName())
+                                .sample(sample)
+                                .config(config)
+                                .modelIds(modelIds)
+                                .aggregatedScore(aggregatedScore)
+                                .modelScores(modelScores)
+                                .excludedModels(new ArrayList<>(excludedModelIds))
+                                .totalDuration(duration)
+                                .steps(accumulatedSteps)
+                                .exclusions(accumulatedExclusions)
+                                .metadata(new NoiseSensitivityMetadata(
+                                        config.getMode().name(), refStatementsMetadata, respStatementsMetadata, numContexts))
+                                .build());
+
+                        return aggregatedScore;
+                    });
+        });
+    }
 
-            // Process resp-to-context results
-            for (int contextIdx = 0; contextIdx < numContexts; contextIdx++) {
-                final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> respFutures =
-                        respContextFuturesList.get(contextIdx);
-                for (int modelIdx = 0; modelIdx < respModelIdsList.size(); modelIdx++) {
-                    final ModelResult<FaithfulnessVerdictsResponse> result =
-                            respFutures.get(modelIdx).join();
-                    final String modelId = respModelIdsList.get(modelIdx);
-                    allContextEvalResults.add(result);
-                    if (result.isSuccess()) {
-                        retrievedToAnswerMap.get(modelId).set(contextIdx, result.result());
+    /**
+     * Runs every LLM call of one model as an independent pipeline.
+     * <p>
+     * Reference-to-context checks start as soon as the reference is decomposed, concurrently with the
+     * response decomposition; ground-truth and response-to-context checks follow the response decomposition.
+     */
+    private CompletableFuture<NoiseSensitivityChain> runModelChain(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final Sample sample,
+            final String decomposeRefPrompt,
+            final String decomposeRespPrompt,
+            final List<String> retrievedContexts) {
+        // The reference statements only depend on the question and the reference, so they are reused across runs
+        final ReferenceArtifact referenceStatements = new ReferenceArtifact(
+                getName(),
+                "DecomposeReference",
+                decompositionTemplate(),
+                sample.getUserInput() + '\n' + sample.getReference());
+        return evaluationExecutor
+                .executeReferenceLlmOnModelAsync(
+                        modelId, referenceStatements, decomposeRefPrompt, StatementsResponse.class, null)
+                .thenCompose(reference -> {
+                    if (reference.isFailure()) {
+                        return CompletableFuture.completedFuture(
+                                new NoiseSensitivityChain(modelId, reference, null, null, List.of(), List.of()));
                     }
-                }
-            }
-
-            // Build step for context evaluations
-            final String contextEvalPrompt = !refStatementsMap.isEmpty() && !retrievedContexts.isEmpty()
-                    ? renderFaithfulnessPrompt(
-                            retrievedContexts.get(0),
-                            formatStatements(
-                                    refStatementsMap.values().iterator().next().statements()))
-                    : statementFaithfulnessPrompt;
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("EvaluateAllContexts")
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.LLM)
-                    .request(contextEvalPrompt)
-                    .results(allContextEvalResults)
-                    .build());
-
-            stepIndex++;
-
-            // ========== Final step: Compute noise sensitivity ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-
-            for (final String modelId : respStatementsMap.keySet()) {
-                // Skip models that failed any required step
-                if (!groundTruthToAnswerMap.containsKey(modelId)
-                        || !refStatementsMap.containsKey(modelId)
-                        || !retrievedToGroundTruthMap.containsKey(modelId)
-                        || !retrievedToAnswerMap.containsKey(modelId)) {
-                    continue;
-                }
-
-                final StatementsResponse refStmts = refStatementsMap.get(modelId);
-                final StatementsResponse respStmts = respStatementsMap.get(modelId);
-                final FaithfulnessVerdictsResponse groundTruthToAnswer = groundTruthToAnswerMap.get(modelId);
-                final List<FaithfulnessVerdictsResponse> retrievedToGroundTruth =
-                        retrievedToGroundTruthMap.get(modelId);
-                final List<FaithfulnessVerdictsResponse> retrievedToAnswer = retrievedToAnswerMap.get(modelId);
-
-                // Convert to 2D arrays
-                final boolean[][] gtToAnswer = convertToGroundTruthToAnswer(groundTruthToAnswer, respStmts);
-                final boolean[][] rtToGt = convertToRetrievedToGroundTruth(retrievedToGroundTruth, refStmts);
-                final boolean[][] rtToAnswer = convertToRetrievedToAnswer(retrievedToAnswer, respStmts);
-
-                final FaithfulnessResults results = new FaithfulnessResults(gtToAnswer, rtToGt, rtToAnswer);
-                final double score = calculateNoiseSensitivity(results, config.getMode());
-                modelScores.put(modelId, score);
-            }
-
-            // Create synthetic results for compute step
-            final List<ModelResult<Double>> computeResults = modelScores.entrySet().stream()
-                    .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
-                    .toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeNoiseSensitivity")
-                    .stepIndex(stepIndex)
-                    .totalSteps(totalSteps)
-                    .stepType(StepType.COMPUTE)
-                    .results(new ArrayList<>(computeResults))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed for metric: " + getName());
-            }
+                    final CompletableFuture<List<ModelResult<FaithfulnessVerdictsResponse>>> referenceToContexts =
+                            evaluateAgainstContexts(evaluationExecutor, modelId, reference.result(), retrievedContexts);
+                    final CompletableFuture<NoiseSensitivityChain> responseBranch = decomposeResponseAsync(
+                                    evaluationExecutor, modelId, sample, decomposeRespPrompt)
+                            .thenCompose(response -> {
+                                if (response.isFailure()) {
+                                    return CompletableFuture.completedFuture(new NoiseSensitivityChain(
+                                            modelId, reference, response, null, List.of(), List.of()));
+                                }
+                                final String statementsFormatted =
+                                        formatStatements(response.result().statements());
+                                final CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>> groundTruth =
+                                        evaluationExecutor.executeLlmOnModelAsync(
+                                                modelId,
+                                                renderFaithfulnessPrompt(sample.getReference(), statementsFormatted),
+                                                FaithfulnessVerdictsResponse.class);
+                                return groundTruth.thenCombine(
+                                        evaluateAgainstContexts(
+                                                evaluationExecutor, modelId, response.result(), retrievedContexts),
+                                        (groundTruthResult, responseToContexts) -> new NoiseSensitivityChain(
+                                                modelId,
+                                                reference,
+                                                response,
+                                                groundTruthResult,
+                                                List.of(),
+                                                responseToContexts));
+                            });
+                    return responseBranch.thenCombine(
+                            referenceToContexts, (chain, refResults) -> chain.withReferenceToContexts(refResults));
+                });
+    }
 
-            final double aggregatedScore = aggregate(modelScores);
+    private CompletableFuture<ModelResult<StatementsResponse>> decomposeResponseAsync(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId,
+            final Sample sample,
+            final String decomposeRespPrompt) {
+        if (decompositionStore == null) {
+            return evaluationExecutor.executeLlmOnModelAsync(modelId, decomposeRespPrompt, StatementsResponse.class);
+        }
+        return decompositionStore.decomposeAsync(
+                evaluationExecutor, modelId, sample.getUserInput(), sample.getResponse(), StatementsResponse::new);
+    }
 
-            // Build metadata
-            final Map<String, List<String>> refStatementsMetadata = new HashMap<>();
-            for (final Map.Entry<String, StatementsResponse> entry : refStatementsMap.entrySet()) {
-                refStatementsMetadata.put(
-                        entry.getKey(),
-                        entry.getValue().statements() != null ? entry.getValue().statements() : List.of());
-            }
-            final Map<String, List<String>> respStatementsMetadata = new HashMap<>();
-            for (final Map.Entry<String, StatementsResponse> entry : respStatementsMap.entrySet()) {
-                respStatementsMetadata.put(
-                        entry.getKey(),
-                        entry.getValue().statements() != null ? entry.getValue().statements() : List.of());
-            }
+    private CompletableFuture<List<ModelResult<FaithfulnessVerdictsResponse>>> evaluateAgainstContexts(
+            final MultiModelExecutor evaluationExecutor,
+            final String modelId, final StatementsResponse statements, final List<String> retrievedContexts) {
+        final String statementsFormatted = formatStatements(statements.statements());
+        final List<CompletableFuture<ModelResult<FaithfulnessVerdictsResponse>>> futures = retrievedContexts.stream()
+                .map(context -> evaluationExecutor.executeLlmOnModelAsync(
+                        modelId,
+                        renderFaithfulnessPrompt(context, statementsFormatted),
+                        FaithfulnessVerdictsResponse.class))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored ->
+                        futures.stream().map(CompletableFuture::join).toList());
+    }
 
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(new ArrayList<>(excludedModelIds))
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new NoiseSensitivityMetadata(
-                            config.getMode().name(), refStatementsMetadata, respStatementsMetadata, numContexts))
-                    .build());
-
-            return aggregatedScore;
-        });
+    private List<FaithfulnessVerdictsResponse> successfulVerdicts(
+            final List<ModelResult<FaithfulnessVerdictsResponse>> results) {
+        final List<FaithfulnessVerdictsResponse> verdicts = new ArrayList<>();
+        for (final ModelResult<FaithfulnessVerdictsResponse> result : results) {
+            verdicts.add(result.isSuccess() ? result.result() : null);
+        }
+        return verdicts;
     }
 
     private String renderDecomposePrompt(final String question, final String answer) {
         return PromptTemplate.builder()
-                .template(this.statementGeneratorPrompt)
+                .template(decompositionTemplate())
                 .variables(Map.of("question", question, "answer", answer))
                 .build()
                 .render();
     }
 
+    private String decompositionTemplate() {
+        return decompositionStore != null ? decompositionStore.getTemplate() : statementGeneratorPrompt;
+    }
+
     private String renderFaithfulnessPrompt(final String context, final String statementsFormatted) {
         return PromptTemplate.builder()
                 .template(this.statementFaithfulnessPrompt)
@@ -721,6 +752,24 @@ public class NoiseSensitivityMetric extends AbstractMultiModelMetric<NoiseSensit
             boolean[][] retrievedToAnswer // Shape: (num_response_statements, num_contexts)
             ) {}
 
+    /**
+     * Results of one model's step chain; steps after a failed step are null (or empty for context lists).
+     */
+    private record NoiseSensitivityChain(
+            String modelId,
+            ModelResult<StatementsResponse> reference,
+            ModelResult<StatementsResponse> response,
+            ModelResult<FaithfulnessVerdictsResponse> groundTruthToAnswer,
+            List<ModelResult<FaithfulnessVerdictsResponse>> referenceToContexts,
+            List<ModelResult<FaithfulnessVerdictsResponse>> responseToContexts) {
+
+        NoiseSensitivityChain withReferenceToContexts(
+                final List<ModelResult<FaithfulnessVerdictsResponse>> results) {
+            return new NoiseSensitivityChain(
+                    modelId, reference, response, groundTruthToAnswer, results, responseToContexts);
+        }
+    }
+
     /**
      * Response DTO for statement decomposition
      */
@@ -197,7 +197,8 @@ public class ResponseRelevancyMetric extends AbstractMultiModelMetric<ResponseRe
     }
 
     @Override
-    public CompletableFuture<Double> singleTurnScoreAsync(final ResponseRelevancyConfig config, final Sample sample) {
+    public CompletableFuture<Double> singleTurnScoreAsync(
+            final ResponseRelevancyConfig config, final Sample sample, final MultiModelExecutor evaluationExecutor) {
         // Validate required inputs
         final String userInput = sample.getUserInput();
         if (userInput == null || userInput.trim().isEmpty()) {
@@ -229,7 +230,7 @@ public class ResponseRelevancyMetric extends AbstractMultiModelMetric<ResponseRe
                 .totalSteps(3) // Generate questions -> Compute embeddings -> Compute similarity
                 .build());
 
-        return executor.runAsync(() -> {
+        return evaluationExecutor.composeAsync(() -> {
             log.debug("Computing response relevancy evaluation with explicit flow");
 
             // Local accumulators for steps and exclusions
@@ -241,251 +242,250 @@ public class ResponseRelevancyMetric extends AbstractMultiModelMetric<ResponseRe
 
             // ========== Step 1: Generate questions ==========
             final String generatePrompt = renderQuestionGenerationPrompt(config, sample);
-            final List<ModelResult<GeneratedQuestionsResponse>> step1Results =
-                    executor.executeLlm(modelIds, generatePrompt, GeneratedQuestionsResponse.class);
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("GenerateQuestions")
-                    .stepIndex(0)
-                    .totalSteps(3)
-                    .stepType(StepType.LLM)
-                    .request(generatePrompt)
-                    .results(new ArrayList<>(step1Results))
-                    .build());
-
-            // Collect successful results from step 1
-            final Map<String, GeneratedQuestionsResponse> step1Successful = new HashMap<>();
-            for (final ModelResult<GeneratedQuestionsResponse> result : step1Results) {
-                if (result.isSuccess()) {
-                    step1Successful.put(result.modelId(), result.result());
-                } else {
-                    excludedModels.add(result.modelId());
-                    accumulatedExclusions.add(ModelExclusionEvent.builder()
-                            .modelId(result.modelId())
-                            .failedStepName("GenerateQuestions")
-                            .failedStepIndex(0)
-                            .cause(result.error())
-                            .build());
-                }
-            }
-
-            if (step1Successful.isEmpty()) {
-                throw new IllegalStateException("All models failed at step GenerateQuestions for metric: " + getName());
-            }
-
-            // ========== Step 2: Compute embeddings ==========
-            final Map<String, EmbeddingsResult> step2Successful = new HashMap<>();
-            final List<ModelResult<EmbeddingsResult>> step2Results = new ArrayList<>();
-            final List<ModelResult<?>> embeddingModelResults = new ArrayList<>();
-
-            // Prepare embedding tasks for parallel execution
-            final Map<String, List<String>> modelTexts = new HashMap<>();
-            for (final Map.Entry<String, GeneratedQuestionsResponse> entry : step1Successful.entrySet()) {
-                final String modelId = entry.getKey();
-                final GeneratedQuestionsResponse questionsResponse = entry.getValue();
-
-                // Check for noncommittal questions early
-                if (questionsResponse == null
-                        || questionsResponse.questions() == null
-                        || questionsResponse.questions().isEmpty()) {
-                    log.warn("No questions generated from response for model {}", modelId);
-                    step2Results.add(ModelResult.success(
-                            modelId, new EmbeddingsResult(null, List.of()), Duration.ZERO, "no questions"));
-                    continue;
-                }
-
-                // Check if all answers are noncommittal
-                // Per Python RAGAS: score = cosine_sim.mean() * int(not all_noncommittal)
-                // If all questions are noncommittal, the model contributes 0.0 to aggregation
-                final boolean allNoncommittal =
-                        questionsResponse.questions().stream().allMatch(q -> q.noncommittal() == 1);
-
-                if (allNoncommittal) {
-                    log.debug("All generated questions indicate noncommittal response for model {}", modelId);
-                    // Add to step2Successful with empty embeddings so it gets score 0.0 in step 3
-                    // This ensures noncommittal responses contribute 0.0 to the aggregated score
-                    final EmbeddingsResult noncommittalResult = new EmbeddingsResult(null, List.of());
-                    step2Successful.put(modelId, noncommittalResult);
-                    step2Results.add(ModelResult.success(modelId, noncommittalResult, Duration.ZERO, "noncommittal"));
-                    continue;
-                }
-
-                // Prepare texts for embedding: user input + generated questions
-                final List<String> texts = new ArrayList<>();
-                texts.add(sample.getUserInput());
-
-                for (final GeneratedQuestion q : questionsResponse.questions()) {
-                    if (q.question() != null && !q.question().trim().isEmpty()) {
-                        texts.add(q.question());
-                    }
-                }
-
-                modelTexts.put(modelId, texts);
-            }
-
-            // Execute all embeddings in parallel
-            if (!modelTexts.isEmpty()) {
-                final Map<String, CompletableFuture<List<ModelResult<List<float[]>>>>> embeddingFutures =
-                        new HashMap<>();
-
-                for (final Map.Entry<String, List<String>> entry : modelTexts.entrySet()) {
-                    embeddingFutures.put(entry.getKey(), executor.executeEmbeddingsAsync(entry.getValue()));
-                }
-
-                // Wait for all embedding tasks to complete
-                CompletableFuture.allOf(embeddingFutures.values().toArray(new CompletableFuture[0]))
-                        .join();
-
-                // Process embedding results
-                for (final Map.Entry<String, CompletableFuture<List<ModelResult<List<float[]>>>>> entry :
-                        embeddingFutures.entrySet()) {
-                    final String modelId = entry.getKey();
-                    final List<ModelResult<List<float[]>>> embeddingResults =
-                            entry.getValue().join();
-
-                    // Collect all embedding model results for timeline
-                    embeddingModelResults.addAll(embeddingResults);
-
-                    // Take first successful embedding result
-                    for (final ModelResult<List<float[]>> embResult : embeddingResults) {
-                        if (embResult.isSuccess()) {
-                            final List<float[]> embeddings = embResult.result();
-                            if (embeddings != null && !embeddings.isEmpty()) {
-                                // First embedding is for user input
-                                final double[] userInputEmbedding = convertToDoubleArray(embeddings.get(0));
-
-                                // Rest are for generated questions
-                                final List<double[]> questionEmbeddings = new ArrayList<>();
-                                for (int i = 1; i < embeddings.size(); i++) {
-                                    questionEmbeddings.add(convertToDoubleArray(embeddings.get(i)));
-                                }
+            return evaluationExecutor.executeLlmAsync(modelIds, generatePrompt, GeneratedQuestionsResponse.class)
+                    .thenCompose(step1Results -> {
+                        accumulatedSteps.add(StepResults.builder()
+                                .stepName("GenerateQuestions")
+                                .stepIndex(0)
+                                .totalSteps(3)
+                                .stepType(StepType.LLM)
+                                .request(generatePrompt)
+                                .results(new ArrayList<>(step1Results))
+                                .build());
+
+                        // Collect successful results from step 1
+                        final Map<String, GeneratedQuestionsResponse> step1Successful = new HashMap<>();
+                        for (final ModelResult<GeneratedQuestionsResponse> result : step1Results) {
+                            if (result.isSuccess()) {
+                                step1Successful.put(result.modelId(), result.result());
+                            } else {
+                                excludedModels.add(result.modelId());
+                                accumulatedExclusions.add(ModelExclusionEvent.builder()
+                                        .modelId(result.modelId())
+                                        .failedStepName("GenerateQuestions")
+                                        .failedStepIndex(0)
+                                        .cause(result.error())
+                                        .build());
+                            }
+                        }
+
+                        if (step1Successful.isEmpty()) {
+                            throw new IllegalStateException("All models failed at step GenerateQuestions for metric: " + getName());
+                        }
 
-                                final EmbeddingsResult embeddingsResult =
-                                        new EmbeddingsResult(userInputEmbedding, questionEmbeddings);
-                                step2Successful.put(modelId, embeddingsResult);
+                        // ========== Step 2: Compute embeddings ==========
+                        final Map<String, EmbeddingsResult> step2Successful = new HashMap<>();
+                        final List<ModelResult<EmbeddingsResult>> step2Results = new ArrayList<>();
+                        final List<ModelResult<?>> embeddingModelResults = new ArrayList<>();
+
+                        // Prepare embedding tasks for parallel execution
+                        final Map<String, List<String>> modelTexts = new HashMap<>();
+                        for (final Map.Entry<String, GeneratedQuestionsResponse> entry : step1Successful.entrySet()) {
+                            final String modelId = entry.getKey();
+                            final GeneratedQuestionsResponse questionsResponse = entry.getValue();
+
+                            // Check for noncommittal questions early
+                            if (questionsResponse == null
+                                    || questionsResponse.questions() == null
+                                    || questionsResponse.questions().isEmpty()) {
+                                log.warn("No questions generated from response for model {}", modelId);
                                 step2Results.add(ModelResult.success(
-                                        modelId, embeddingsResult, embResult.duration(), embResult.request()));
+                                        modelId, new EmbeddingsResult(null, List.of()), Duration.ZERO, "no questions"));
+                                continue;
+                            }
+
+                            // Check if all answers are noncommittal
+                            // Per Python RAGAS: score = cosine_sim.mean() * int(not all_noncommittal)
+                            // If all questions are noncommittal, the model contributes 0.0 to aggregation
+                            final boolean allNoncommittal =
+                                    questionsResponse.questions().stream().allMatch(q -> q.noncommittal() == 1);
+
+                            if (allNoncommittal) {
+                                log.debug("All generated questions indicate noncommittal response for model {}", modelId);
+                                // Add to step2Successful with empty embeddings so it gets score 0.0 in step 3
+                                // This ensures noncommittal responses contribute 0.0 to the aggregated score
+                                final EmbeddingsResult noncommittalResult = new EmbeddingsResult(null, List.of());
+                                step2Successful.put(modelId, noncommittalResult);
+                                step2Results.add(ModelResult.success(modelId, noncommittalResult, Duration.ZERO, "noncommittal"));
+                                continue;
+                            }
+
+                            // Prepare texts for embedding: user input + generated questions
+                            final List<String> texts = new ArrayList<>();
+                            texts.add(sample.getUserInput());
+
+                            for (final GeneratedQuestion q : questionsResponse.questions()) {
+                                if (q.question() != null && !q.question().trim().isEmpty()) {
+                                    texts.add(q.question());
+                                }
                             }
-                            break; // Use first successful embedding
+
+                            modelTexts.put(modelId, texts);
                         }
-                    }
-                }
-            }
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeEmbeddings")
-                    .stepIndex(1)
-                    .totalSteps(3)
-                    .stepType(StepType.EMBEDDING)
-                    .request(sample.getUserInput() + " + generated questions")
-                    .results(new ArrayList<>(step2Results))
-                    .embeddingModelResults(new ArrayList<>(embeddingModelResults))
-                    .build());
-
-            // ========== Step 3: Compute cosine similarity ==========
-            final Map<String, Double> modelScores = new HashMap<>();
-
-            for (final Map.Entry<String, EmbeddingsResult> entry : step2Successful.entrySet()) {
-                final String modelId = entry.getKey();
-                final EmbeddingsResult embeddingsResult = entry.getValue();
-
-                if (embeddingsResult == null
-                        || embeddingsResult.userInputEmbedding() == null
-                        || embeddingsResult.questionEmbeddings().isEmpty()) {
-                    // Noncommittal or no embeddings
-                    modelScores.put(modelId, 0.0);
-                    continue;
-                }
-
-                // Calculate cosine similarity for each generated question
-                double totalSimilarity = 0.0;
-                int validQuestions = 0;
-
-                for (final double[] questionEmbedding : embeddingsResult.questionEmbeddings()) {
-                    try {
-                        final double similarity =
-                                cosineSimilarity(embeddingsResult.userInputEmbedding(), questionEmbedding);
-                        totalSimilarity += similarity;
-                        validQuestions++;
-
-                        log.debug("Question embedding similarity: {}", similarity);
-                    } catch (final Exception e) {
-                        log.warn("Failed to calculate similarity for question embedding", e);
-                    }
-                }
-
-                if (validQuestions == 0) {
-                    log.warn("No valid questions for similarity calculation for model {}", modelId);
-                    modelScores.put(modelId, 0.0);
-                } else {
-                    final double relevancyScore = totalSimilarity / validQuestions;
-                    log.debug(
-                            "Final relevancy score for model {}: {} (from {} questions)",
-                            modelId,
-                            relevancyScore,
-                            validQuestions);
-                    modelScores.put(modelId, relevancyScore);
-                }
-            }
-
-            // Create synthetic results for compute step
-            final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
-                    .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
-                    .toList();
-
-            accumulatedSteps.add(StepResults.builder()
-                    .stepName("ComputeCosineSimilarity")
-                    .stepIndex(2)
-                    .totalSteps(3)
-                    .stepType(StepType.COMPUTE)
-                    .results(new ArrayList<>(step3Results))
-                    .build());
-
-            if (modelScores.isEmpty()) {
-                throw new IllegalStateException("All models failed to compute similarity for metric: " + getName());
-            }
-
-            final double aggregatedScore = aggregate(modelScores);
-
-            // Build metadata
-            final Map<String, List<String>> generatedQuestionsMap = new HashMap<>();
-            final Map<String, List<Boolean>> noncommittalFlagsMap = new HashMap<>();
-            for (final Map.Entry<String, GeneratedQuestionsResponse> entry : step1Successful.entrySet()) {
-                final String modelId = entry.getKey();
-                final GeneratedQuestionsResponse qr = entry.getValue();
-                if (qr.questions() != null) {
-                    generatedQuestionsMap.put(
-                            modelId,
-                            qr.questions().stream()
-                                    .map(q -> q.question() != null ? q.question() : "")
-                                    .toList());
-                    noncommittalFlagsMap.put(
-                            modelId,
-                            qr.questions().stream()
-                                    .map(q -> q.noncommittal() != null && q.noncommittal() == 1)
-                                    .toList());
-                }
-            }
-
-            // Notify with full results
-            final Duration duration = Duration.between(startTime, Instant.now());
-            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
-                    .metricName(getName())
-                    .sample(sample)
-                    .config(config)
-                    .modelIds(modelIds)
-                    .embeddingModelIds(embeddingModelIds)
-                    .aggregatedScore(aggregatedScore)
-                    .modelScores(modelScores)
-                    .excludedModels(excludedModels)
-                    .totalDuration(duration)
-                    .steps(accumulatedSteps)
-                    .exclusions(accumulatedExclusions)
-                    .metadata(new ResponseRelevancyMetadata(
-                            generatedQuestionsMap, noncommittalFlagsMap, modelScores, config.getNumberOfQuestions()))
-                    .build());
-
-            return aggregatedScore;
+
+                        // Execute all embeddings in parallel
+                        final Map<String, CompletableFuture<List<ModelResult<List<float[]>>>>> embeddingFutures =
+                                new HashMap<>();
+
+                        for (final Map.Entry<String, List<String>> entry : modelTexts.entrySet()) {
+                            embeddingFutures.put(
+                                    entry.getKey(), evaluationExecutor.executeEmbeddingsAsync(entry.getValue()));
+                        }
+
+                        // Continue once all embedding tasks have completed
+                        return CompletableFuture.allOf(embeddingFutures.values().toArray(new CompletableFuture[0]))
+                                .thenApply(ignored -> {
+                                    // Process embedding results
+                                    for (final Map.Entry<String, CompletableFuture<List<ModelResult<List<float[]>>>>> entry :
+                                            embeddingFutures.entrySet()) {
+                                        final String modelId = entry.getKey();
+                                        final List<ModelResult<List<float[]>>> embeddingResults =
+                                                entry.getValue().join();
+
+                                        // Collect all embedding model results for timeline
+                                        embeddingModelResults.addAll(embeddingResults);
+
+                                        // Take first successful embedding result
+                                        for (final ModelResult<List<float[]>> embResult : embeddingResults) {
+                                            if (embResult.isSuccess()) {
+                                                final List<float[]> embeddings = embResult.result();
+                                                if (embeddings != null && !embeddings.isEmpty()) {
+                                                    // First embedding is for user input
+                                                    final double[] userInputEmbedding = convertToDoubleArray(embeddings.get(0));
+
+                                                    // Rest are for generated questions
+                                                    final List<double[]> questionEmbeddings = new ArrayList<>();
+                                                    for (int i = 1; i < embeddings.size(); i++) {
+                                                        questionEmbeddings.add(convertToDoubleArray(embeddings.get(i)));
+                                                    }
+
+                                                    final EmbeddingsResult embeddingsResult =
+                                                            new EmbeddingsResult(userInputEmbedding, questionEmbeddings);
+                                                    step2Successful.put(modelId, embeddingsResult);
+                                                    step2Results.add(ModelResult.success(
+                                                            modelId, embeddingsResult, embResult.duration(), embResult.request()));
+                                                }
+                                                break; // Use first successful embedding
+                                            }
+                                        }
+                                    }
+
+                                    accumulatedSteps.add(StepResults.builder()
+                                            .stepName("ComputeEmbeddings")
+                                            .stepIndex(1)
+                                            .totalSteps(3)
+                                            .stepType(StepType.EMBEDDING)
+                                            .request(sample.getUserInput() + " + generated questions")
+                                            .results(new ArrayList<>(step2Results))
+                                            .embeddingModelResults(new ArrayList<>(embeddingModelResults))
+                                            .build());
+
+                                    // ========== Step 3: Compute cosine similarity ==========
+                                    final Map<String, Double> modelScores = new HashMap<>();
+
+                                    for (final Map.Entry<String, EmbeddingsResult> entry : step2Successful.entrySet()) {
+                                        final String modelId = entry.getKey();
+                                        final EmbeddingsResult embeddingsResult = entry.getValue();
+
+                                        if (embeddingsResult == null
+                                                || embeddingsResult.userInputEmbedding() == null
+                                                || embeddingsResult.questionEmbeddings().isEmpty()) {
+                                            // Noncommittal or no embeddings
+                                            modelScores.put(modelId, 0.0);
+                                            continue;
+                                        }
+
+                                        // Calculate cosine similarity for each generated question
+                                        double totalSimilarity = 0.0;
+                                        int validQuestions = 0;
+
+                                        for (final double[] questionEmbedding : embeddingsResult.questionEmbeddings()) {
+                                            try {
+                                                final double similarity =
+                                                        cosineSimilarity(embeddingsResult.userInputEmbedding(), questionEmbedding);
+                                                totalSimilarity += similarity;
+                                                validQuestions++;
+
+                                                log.debug("Question embedding similarity: {}", similarity);
+                                            } catch (final Exception e) {
+                                                log.warn("Failed to calculate similarity for question embedding", e);
+                                            }
+                                        }
+
+                                        if (validQuestions == 0) {
+                                            log.warn("No valid questions for similarity calculation for model {}", modelId);
+                                            modelScores.put(modelId, 0.0);
+                                        } else {
+                                            final double relevancyScore = totalSimilarity / validQuestions;
+                                            log.debug(
+                                                    "Final relevancy score for model {}: {} (from {} questions)",
+                                                    modelId,
+                                                    relevancyScore,
+                                                    validQuestions);
+                                            modelScores.put(modelId, relevancyScore);
+                                        }
+                                    }
+
+                                    // Create synthetic results for compute step
+                                    final List<ModelResult<Double>> step3Results = modelScores.entrySet().stream()
+                                            .map(e -> ModelResult.success(e.getKey(), e.getValue(), Duration.ZERO, "compute"))
+                                            .toList();
+
+                                    accumulatedSteps.add(StepResults.builder()
+                                            .stepName("ComputeCosineSimilarity")
+                                            .stepIndex(2)
+                                            .totalSteps(3)
+                                            .stepType(StepType.COMPUTE)
+                                            .results(new ArrayList<>(step3Results))
+                                            .build());
+
+                                    if (modelScores.isEmpty()) {
+                                        throw new IllegalStateException("All models failed to compute similarity for metric: " + getName());
+                                    }
+
+                                    final double aggregatedScore = aggregate(modelScores);
+
+                                    // Build metadata
+                                    final Map<String, List<String>> generatedQuestionsMap = new HashMap<>();
+                                    final Map<String, List<Boolean>> noncommittalFlagsMap = new HashMap<>();
+                                    for (final Map.Entry<String, GeneratedQuestionsResponse> entry : step1Successful.entrySet()) {
+                                        final String modelId = entry.getKey();
+                                        final GeneratedQuestionsResponse qr = entry.getValue();
+                                        if (qr.questions() != null) {
+                                            generatedQuestionsMap.put(
+                                                    modelId,
+                                                    qr.questions().stream()
+                                                            .map(q -> q.question() != null ? q.question() : "")
+                                                            .toList());
+                                            noncommittalFlagsMap.put(
+                                                    modelId,
+                                                    qr.questions().stream()
+                                                            .map(q -> q.noncommittal() != null && q.noncommittal() == 1)
+                                                            .toList());
+                                        }
+                                    }
+
+                                    // Notify with full results
+                                    final Duration duration = Duration.between(startTime, Instant.now());
+                                    notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                            .metricName(getName())
+                                            .sample(sample)
+                                            .config(config)
+                                            .modelIds(modelIds)
+                                            .embeddingModelIds(embeddingModelIds)
+                                            .aggregatedScore(aggregatedScore)
+                                            .modelScores(modelScores)
+                                            .excludedModels(excludedModels)
+                                            .totalDuration(duration)
+                                            .steps(accumulatedSteps)
+                                            .exclusions(accumulatedExclusions)
+                                            .metadata(new ResponseRelevancyMetadata(
+                                                    generatedQuestionsMap, noncommittalFlagsMap, modelScores, config.getNumberOfQuestions()))
+                                            .build());
+
+                                    return aggregatedScore;
+                                });
+                    });
         });
     }
 
@@ -23,14 +23,20 @@ public class StubMultiModelExecutor extends MultiModelExecutor {
     private final List<String> embeddingModelIds;
 
     // Response providers by response type class
-    private final Map<Class<?>, Function<String, ?>> responseProviders = new HashMap<>();
+    private final Map<Class<?>, Function<String, ?>> responseProviders;
 
     // Embedding providers
     private Function<String, float[]> embeddingProvider;
     private Function<List<String>, List<float[]>> embeddingsProvider;
 
     // Error simulation
-    private final Map<String, Exception> modelErrors = new HashMap<>();
+    private final Map<String, Exception> modelErrors;
+
+    // Call graph of a planned evaluation, null outside of one
+    private final CallGraph callGraph;
+
+    // Executor of metric flows, null if they run synchronously
+    private final AsyncTaskExecutor metricExecutor;
 
     public StubMultiModelExecutor(List<String> modelIds) {
         this(modelIds, List.of());
@@ -43,6 +49,48 @@ public class StubMultiModelExecutor extends MultiModelExecutor {
                 createSyncTaskExecutor());
         this.modelIds = new ArrayList<>(modelIds);
         this.embeddingModelIds = new ArrayList<>(embeddingModelIds);
+        this.responseProviders = new HashMap<>();
+        this.modelErrors = new HashMap<>();
+        this.callGraph = null;
+        this.metricExecutor = null;
+    }
+
+    /**
+     * Creates a stub running metric flows on the given executor while model calls stay synchronous.
+     * Useful to reproduce thread starvation with a bounded metric pool.
+     */
+    public StubMultiModelExecutor(
+            List<String> modelIds, List<String> embeddingModelIds, AsyncTaskExecutor metricExecutor) {
+        super(
+                createMinimalChatClientStore(modelIds),
+                createMinimalEmbeddingModelStore(embeddingModelIds),
+                metricExecutor,
+                createSyncTaskExecutor());
+        this.modelIds = new ArrayList<>(modelIds);
+        this.embeddingModelIds = new ArrayList<>(embeddingModelIds);
+        this.responseProviders = new HashMap<>();
+        this.modelErrors = new HashMap<>();
+        this.callGraph = null;
+        this.metricExecutor = metricExecutor;
+    }
+
+    /**
+     * Creates a view of a stub sharing its responses, whose calls become nodes of the call graph.
+     */
+    private StubMultiModelExecutor(StubMultiModelExecutor parent, CallGraph callGraph) {
+        super(
+                createMinimalChatClientStore(parent.modelIds),
+                createMinimalEmbeddingModelStore(parent.embeddingModelIds),
+                parent.metricExecutor != null ? parent.metricExecutor : createSyncTaskExecutor(),
+                createSyncTaskExecutor());
+        this.modelIds = parent.modelIds;
+        this.embeddingModelIds = parent.embeddingModelIds;
+        this.responseProviders = parent.responseProviders;
+        this.modelErrors = parent.modelErrors;
+        this.embeddingProvider = parent.embeddingProvider;
+        this.embeddingsProvider = parent.embeddingsProvider;
+        this.callGraph = callGraph;
+        this.metricExecutor = parent.metricExecutor;
     }
 
     private static ChatClientStore createMinimalChatClientStore(List<String> modelIds) {
@@ -154,9 +202,26 @@ public class StubMultiModelExecutor extends MultiModelExecutor {
         return embeddingModelIds;
     }
 
+    @Override
+    public MultiModelExecutor withCallGraph(CallGraph callGraph) {
+        return new StubMultiModelExecutor(this, callGraph);
+    }
+
+    @Override
+    public CallGraph getCallGraph() {
+        return callGraph;
+    }
+
     @Override
     public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
             String modelId, String prompt, Class<R> responseType) {
+        if (callGraph != null) {
+            return callGraph.llmNode(modelId, prompt, responseType, () -> respond(modelId, prompt, responseType));
+        }
+        return respond(modelId, prompt, responseType);
+    }
+
+    private <R> CompletableFuture<ModelResult<R>> respond(String modelId, String prompt, Class<R> responseType) {
         // Synchronous execution for predictable test behavior
         // Check for simulated error
         if (modelErrors.containsKey(modelId)) {
@@ -177,8 +242,31 @@ public class StubMultiModelExecutor extends MultiModelExecutor {
                 ModelResult.success(modelId, response, Duration.ofMillis(100), prompt));
     }
 
+    @Override
+    public <R> CompletableFuture<ModelResult<R>> executeLlmSampleOnModelAsync(
+            String modelId, String prompt, Class<R> responseType, int sample) {
+        if (callGraph != null) {
+            return callGraph.llmNode(
+                    modelId, prompt, responseType, sample, () -> respond(modelId, prompt, responseType));
+        }
+        return respond(modelId, prompt, responseType);
+    }
+
+    @Override
+    public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
+            String modelId, String prompt, Class<R> responseType, CompletableFuture<Void> cancellation) {
+        return executeLlmOnModelAsync(modelId, prompt, responseType);
+    }
+
     @Override
     public CompletableFuture<ModelResult<float[]>> executeEmbeddingOnModelAsync(String modelId, String text) {
+        if (callGraph != null) {
+            return callGraph.embeddingNode(modelId, text, () -> embed(modelId, text));
+        }
+        return embed(modelId, text);
+    }
+
+    private CompletableFuture<ModelResult<float[]>> embed(String modelId, String text) {
         // Synchronous execution for predictable test behavior
         if (modelErrors.containsKey(modelId)) {
             return CompletableFuture.completedFuture(
@@ -196,6 +284,13 @@ public class StubMultiModelExecutor extends MultiModelExecutor {
     @Override
     public CompletableFuture<ModelResult<List<float[]>>> executeEmbeddingsOnModelAsync(
             String modelId, List<String> texts) {
+        if (callGraph != null) {
+            return callGraph.embeddingsNode(modelId, texts, missing -> embedAll(modelId, missing));
+        }
+        return embedAll(modelId, texts);
+    }
+
+    private CompletableFuture<ModelResult<List<float[]>>> embedAll(String modelId, List<String> texts) {
         // Synchronous execution for predictable test behavior
         if (modelErrors.containsKey(modelId)) {
             return CompletableFuture.completedFuture(
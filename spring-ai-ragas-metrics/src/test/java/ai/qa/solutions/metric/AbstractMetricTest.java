@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -448,6 +449,46 @@ class AbstractMetricTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rich Evaluation")
+    class RichEvaluation {
+
+        @Test
+        @DisplayName("Should return each concurrent evaluation its own result without registering listeners")
+        void shouldReturnOwnResultWithoutRegisteringListeners() {
+            final DeferredMetric deferred = new DeferredMetric();
+            final List<CompletableFuture<EvaluationResult>> evaluations = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final Sample sample = Sample.builder().response(String.valueOf(i / 100.0)).build();
+                evaluations.add(deferred.singleTurnEvaluateAsync(new TestConfig(), sample));
+            }
+
+            // All evaluations are in flight and none of them added a listener
+            assertThat(deferred.getListeners()).isEmpty();
+
+            // Complete them in reverse order
+            for (int i = deferred.pending.size() - 1; i >= 0; i--) {
+                deferred.pending.get(i).complete(null);
+            }
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(evaluations.get(i).join().getScore()).isEqualTo(i / 100.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail the evaluation when its scoring cannot start")
+        void shouldFailWhenScoringCannotStart() {
+            final CompletableFuture<EvaluationResult> evaluation =
+                    metric.evaluateAsync(new TestConfig(), Sample.builder().build(), () -> {
+                        throw new IllegalStateException("No models configured");
+                    });
+
+            assertThat(evaluation).isCompletedExceptionally();
+            assertThat(metric.getListeners()).isEmpty();
+        }
+    }
+
     // ==================== Test implementations ====================
 
     static class TestConfig implements Metric.MetricConfiguration {}
@@ -465,6 +506,36 @@ class AbstractMetricTest {
         }
     }
 
+    /**
+     * Creates its notifier when scoring starts and scores the sample's response once released.
+     */
+    static class DeferredMetric extends AbstractMetric<TestConfig> {
+
+        final List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Double singleTurnScore(final TestConfig config, final Sample sample) {
+            return singleTurnScoreAsync(config, sample).join();
+        }
+
+        @Override
+        public CompletableFuture<Double> singleTurnScoreAsync(final TestConfig config, final Sample sample) {
+            final EvaluationNotifier notifier = createEvaluationNotifier();
+            final CompletableFuture<Void> release = new CompletableFuture<>();
+            pending.add(release);
+            return release.thenApplyAsync(ignored -> {
+                final double score = Double.parseDouble(sample.getResponse());
+                notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                        .metricName(getName())
+                        .aggregatedScore(score)
+                        .sample(sample)
+                        .config(config)
+                        .build());
+                return score;
+            });
+        }
+    }
+
     static class RecordingListener implements MetricExecutionListener {
 
         final int order;
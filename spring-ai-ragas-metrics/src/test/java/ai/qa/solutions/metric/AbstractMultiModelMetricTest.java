@@ -311,6 +311,36 @@ class AbstractMultiModelMetricTest {
         }
     }
 
+    @Nested
+    @DisplayName("Legacy Subclasses")
+    class LegacySubclassTests {
+
+        @Test
+        @DisplayName("Should delegate executor overload to overridden single-turn method")
+        void shouldDelegateToSingleTurnScoreAsync() {
+            LegacyMetric legacy = new LegacyMetric(executor);
+
+            CompletableFuture<Double> score =
+                    legacy.singleTurnScoreAsync(new TestConfig(), Sample.builder().build(), executor);
+
+            assertThat(score).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(0.4);
+        }
+
+        @Test
+        @DisplayName("Should delegate executor overload to overridden multi-turn method")
+        void shouldDelegateToMultiTurnScore() {
+            LegacyMultiTurnMetric legacy = new LegacyMultiTurnMetric(executor);
+
+            CompletableFuture<Double> score =
+                    legacy.multiTurnScoreAsync(new TestConfig(), Sample.builder().build(), executor);
+
+            assertThat(score).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(0.6);
+            assertThat(legacy.singleTurnScoreAsync(new TestConfig(), Sample.builder().build()))
+                    .succeedsWithin(Duration.ofSeconds(5))
+                    .isEqualTo(0.6);
+        }
+    }
+
     // Test implementations
 
     static class TestConfig implements Metric.MetricConfiguration {}
@@ -330,7 +360,8 @@ class AbstractMultiModelMetricTest {
         }
 
         @Override
-        public CompletableFuture<Double> singleTurnScoreAsync(TestConfig config, Sample sample) {
+        public CompletableFuture<Double> singleTurnScoreAsync(
+                TestConfig config, Sample sample, MultiModelExecutor evaluationExecutor) {
             return CompletableFuture.completedFuture(0.0);
         }
 
@@ -347,6 +378,39 @@ class AbstractMultiModelMetricTest {
         }
     }
 
+    /**
+     * Metric written before the executor overload existed.
+     */
+    static class LegacyMetric extends AbstractMultiModelMetric<TestConfig> {
+        LegacyMetric(MultiModelExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        public Double singleTurnScore(TestConfig config, Sample sample) {
+            return singleTurnScoreAsync(config, sample).join();
+        }
+
+        @Override
+        public CompletableFuture<Double> singleTurnScoreAsync(TestConfig config, Sample sample) {
+            return CompletableFuture.completedFuture(0.4);
+        }
+    }
+
+    /**
+     * Multi-turn metric implementing only the synchronous method.
+     */
+    static class LegacyMultiTurnMetric extends AbstractMultiTurnMetric<TestConfig> {
+        LegacyMultiTurnMetric(MultiModelExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        public Double multiTurnScore(TestConfig config, Sample sample) {
+            return 0.6;
+        }
+    }
+
     static class RecordingListener implements MetricExecutionListener {
         boolean beforeMetricCalled = false;
         boolean afterMetricCalled = false;
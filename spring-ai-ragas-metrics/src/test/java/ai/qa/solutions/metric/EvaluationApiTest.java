@@ -142,13 +142,13 @@ class EvaluationApiTest {
         }
 
         @Test
-        @DisplayName("Should remove capturing listener after evaluation")
-        void shouldRemoveCapturingListenerAfterEvaluation() {
+        @DisplayName("Should leave the registered listeners unchanged")
+        void shouldLeaveListenersUnchanged() {
             final int listenerCountBefore = metric.getListeners().size();
 
             metric.singleTurnEvaluate(config, sample);
 
-            // The capturing listener should be removed after evaluation
+            // The result is handed over by the notifier, no listener is registered for it
             assertThat(metric.getListeners()).hasSize(listenerCountBefore);
         }
     }
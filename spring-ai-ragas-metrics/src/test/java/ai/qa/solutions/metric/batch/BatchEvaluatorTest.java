@@ -0,0 +1,258 @@
+package ai.qa.solutions.metric.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
+import ai.qa.solutions.metric.AbstractMetric;
+import ai.qa.solutions.metric.Metric;
+import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BatchEvaluator Tests")
+class BatchEvaluatorTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should reject empty metric list")
+        void shouldRejectEmptyMetricList() {
+            assertThatThrownBy(() -> BatchEvaluator.builder().build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("metric");
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive maxInFlight")
+        void shouldRejectNonPositiveMaxInFlight() {
+            final LengthMetric metric = new LengthMetric(pool, Duration.ZERO);
+
+            assertThatThrownBy(() -> BatchEvaluator.builder()
+                            .metric(MetricBinding.of(metric, new TestConfig()))
+                            .maxInFlight(0)
+                            .build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should use default maxInFlight")
+        void shouldUseDefaultMaxInFlight() {
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(new LengthMetric(pool, Duration.ZERO), new TestConfig()))
+                    .build();
+
+            assertThat(evaluator.getMaxInFlight()).isEqualTo(BatchEvaluator.DEFAULT_MAX_IN_FLIGHT);
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluation")
+    class EvaluationTests {
+
+        @Test
+        @DisplayName("Should stream one result per sample and metric")
+        void shouldStreamOneResultPerSampleAndMetric() {
+            final LengthMetric first = new LengthMetric(pool, Duration.ofMillis(5));
+            final LengthMetric second = new LengthMetric(pool, Duration.ofMillis(1));
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(first, new TestConfig()))
+                    .metric(MetricBinding.of(second, new TestConfig()))
+                    .maxInFlight(4)
+                    .build();
+            final List<BatchItemResult> received = new ArrayList<>();
+
+            final BatchSummary summary = evaluator.evaluate(samples(20), received::add);
+
+            assertThat(summary.samples()).isEqualTo(20);
+            assertThat(summary.submitted()).isEqualTo(40);
+            assertThat(summary.succeeded()).isEqualTo(40);
+            assertThat(summary.failed()).isZero();
+            assertThat(received).hasSize(40).allMatch(BatchItemResult::isSuccess);
+            assertThat(received)
+                    .allSatisfy(item -> assertThat(item.result().getScore())
+                            .isEqualTo((double) item.sample().getResponse().length()));
+        }
+
+        @Test
+        @DisplayName("Should never exceed maxInFlight evaluations")
+        void shouldNeverExceedMaxInFlight() {
+            final LengthMetric metric = new LengthMetric(pool, Duration.ofMillis(10));
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(metric, new TestConfig()))
+                    .maxInFlight(3)
+                    .build();
+
+            final BatchSummary summary = evaluator.evaluate(samples(30), item -> {});
+
+            assertThat(summary.succeeded()).isEqualTo(30);
+            assertThat(metric.maxConcurrent.get()).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should pull samples lazily from the iterator")
+        void shouldPullSamplesLazily() {
+            final LengthMetric metric = new LengthMetric(pool, Duration.ofMillis(20));
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(metric, new TestConfig()))
+                    .maxInFlight(2)
+                    .build();
+            final AtomicInteger pulled = new AtomicInteger();
+            final Iterator<Sample> source = samples(10).iterator();
+            final Iterator<Sample> counting = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override
+                public Sample next() {
+                    pulled.incrementAndGet();
+                    return source.next();
+                }
+            };
+            final List<Integer> pulledAtFirstResult = new ArrayList<>();
+
+            evaluator.evaluate(counting, item -> {
+                if (pulledAtFirstResult.isEmpty()) {
+                    pulledAtFirstResult.add(pulled.get());
+                }
+            });
+
+            // Slots: 2 in flight + the sample blocked on acquiring the next slot
+            assertThat(pulledAtFirstResult.get(0)).isLessThanOrEqualTo(3);
+            assertThat(pulled.get()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should report failed evaluations without aborting the batch")
+        void shouldReportFailuresWithoutAborting() {
+            final LengthMetric metric = new LengthMetric(pool, Duration.ZERO);
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(metric, new TestConfig()))
+                    .maxInFlight(2)
+                    .build();
+            final List<Sample> input = new ArrayList<>(samples(4));
+            input.add(2, Sample.builder().userInput("q").response(null).build());
+            final List<BatchItemResult> received = new ArrayList<>();
+
+            final BatchSummary summary = evaluator.evaluate(input, received::add);
+
+            assertThat(summary.succeeded()).isEqualTo(4);
+            assertThat(summary.failed()).isEqualTo(1);
+            final BatchItemResult failure =
+                    received.stream().filter(BatchItemResult::isFailure).findFirst().orElseThrow();
+            assertThat(failure.sampleIndex()).isEqualTo(2);
+            assertThat(failure.error()).isInstanceOf(IllegalArgumentException.class);
+            assertThat(failure.result()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should continue when the consumer throws")
+        void shouldContinueWhenConsumerThrows() {
+            final LengthMetric metric = new LengthMetric(pool, Duration.ZERO);
+            final BatchEvaluator evaluator = BatchEvaluator.builder()
+                    .metric(MetricBinding.of(metric, new TestConfig()))
+                    .maxInFlight(2)
+                    .build();
+
+            final BatchSummary summary = evaluator.evaluate(samples(5), item -> {
+                throw new IllegalStateException("consumer failure");
+            });
+
+            assertThat(summary.succeeded()).isEqualTo(5);
+        }
+    }
+
+    // ==================== Test helpers ====================
+
+    private static List<Sample> samples(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Sample.builder()
+                        .userInput("question " + i)
+                        .response("answer".repeat(i + 1))
+                        .build())
+                .toList();
+    }
+
+    static class TestConfig implements Metric.MetricConfiguration {}
+
+    /**
+     * Scores a sample by its response length after a delay, tracking concurrency.
+     */
+    static class LengthMetric extends AbstractMetric<TestConfig> {
+
+        private final ExecutorService pool;
+        private final Duration delay;
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        LengthMetric(final ExecutorService pool, final Duration delay) {
+            this.pool = pool;
+            this.delay = delay;
+        }
+
+        @Override
+        public Double singleTurnScore(final TestConfig config, final Sample sample) {
+            return singleTurnScoreAsync(config, sample).join();
+        }
+
+        @Override
+        public CompletableFuture<Double> singleTurnScoreAsync(final TestConfig config, final Sample sample) {
+            final EvaluationNotifier notifier = createEvaluationNotifier();
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        maxConcurrent.accumulateAndGet(current.incrementAndGet(), Math::max);
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+                            if (sample.getResponse() == null) {
+                                throw new IllegalArgumentException("response is required");
+                            }
+                            final double score = sample.getResponse().length();
+                            notifier.afterMetricEvaluation(MetricEvaluationResult.builder()
+                                    .metricName(getName())
+                                    .sample(sample)
+                                    .config(config)
+                                    .aggregatedScore(score)
+                                    .modelScores(Map.of("length", score))
+                                    .build());
+                            return score;
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        } finally {
+                            current.decrementAndGet();
+                        }
+                    },
+                    pool);
+        }
+    }
+}
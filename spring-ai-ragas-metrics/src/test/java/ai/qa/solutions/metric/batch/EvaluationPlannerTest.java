@@ -0,0 +1,218 @@
+package ai.qa.solutions.metric.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.CallGraph;
+import ai.qa.solutions.execution.StubMultiModelExecutor;
+import ai.qa.solutions.metrics.general.AspectCriticMetric;
+import ai.qa.solutions.metrics.response.AnswerCorrectnessMetric;
+import ai.qa.solutions.metrics.response.FactualCorrectnessMetric;
+import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.ClaimsResponse;
+import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.NliResponse;
+import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.NliVerdict;
+import ai.qa.solutions.sample.Sample;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@DisplayName("EvaluationPlanner Tests")
+class EvaluationPlannerTest {
+
+    private static final List<String> MODELS = List.of("model-1", "model-2");
+
+    private static final Sample SAMPLE = Sample.builder()
+            .userInput("How do I reset my password?")
+            .response("Open the settings page and choose 'Reset password'.")
+            .build();
+
+    private final AtomicInteger verdicts = new AtomicInteger();
+
+    private final StubMultiModelExecutor executor = new StubMultiModelExecutor(MODELS)
+            .withResponseProvider(AspectCriticMetric.Response.class, prompt -> {
+                verdicts.incrementAndGet();
+                return new AspectCriticMetric.Response("criteria", true, "Meets the criteria");
+            });
+
+    private final AspectCriticMetric aspectCritic =
+            AspectCriticMetric.builder().executor(executor).build();
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should reject empty metric list")
+        void shouldRejectEmptyMetricList() {
+            assertThatThrownBy(() -> EvaluationPlanner.builder().build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("metric");
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluation")
+    class EvaluationTests {
+
+        @Test
+        @DisplayName("Should send identical calls of different metrics once")
+        void shouldMergeIdenticalCalls() {
+            // Given - the safety check is configured twice, e.g. by two suites merged into one
+            final EvaluationPlanner planner = EvaluationPlanner.builder()
+                    .metric(MetricBinding.of(aspectCritic, config("Is the response safe?")))
+                    .metric(MetricBinding.of(aspectCritic, config("Is the response helpful?")))
+                    .metric(MetricBinding.of(aspectCritic, config("Is the response safe?")))
+                    .build();
+
+            // When
+            final EvaluationPlan plan = planner.evaluate(SAMPLE);
+
+            // Then
+            assertThat(plan.results()).hasSize(3).allMatch(BatchItemResult::isSuccess);
+            assertThat(plan.results())
+                    .extracting(item -> item.result().getScore())
+                    .containsExactly(1.0, 1.0, 1.0);
+            assertThat(plan.calls()).isEqualTo(new CallGraph.Counts(3L * MODELS.size(), 2L * MODELS.size(), 0, 0));
+            assertThat(plan.calls().saved()).isEqualTo(MODELS.size());
+            assertThat(verdicts).hasValue(2 * MODELS.size());
+        }
+
+        @Test
+        @DisplayName("Should send every self-consistency iteration of a metric")
+        void shouldNotMergeIterations() {
+            // Given - the same check twice, each voting over 3 iterations per model
+            final AspectCriticMetric.AspectCriticConfig strictConfig =
+                    AspectCriticMetric.AspectCriticConfig.builder()
+                            .definition("Is the response safe?")
+                            .strictness(3)
+                            .build();
+            final EvaluationPlanner planner = EvaluationPlanner.builder()
+                    .metric(MetricBinding.of(aspectCritic, strictConfig))
+                    .metric(MetricBinding.of(aspectCritic, strictConfig))
+                    .build();
+
+            // When
+            final EvaluationPlan plan = planner.evaluate(SAMPLE);
+
+            // Then - iterations of one vote stay apart, the second vote reuses the first one's
+            assertThat(plan.results()).hasSize(2).allMatch(BatchItemResult::isSuccess);
+            assertThat(plan.calls()).isEqualTo(new CallGraph.Counts(6L * MODELS.size(), 3L * MODELS.size(), 0, 0));
+            assertThat(verdicts).hasValue(3 * MODELS.size());
+        }
+
+        @Test
+        @DisplayName("Should merge calls of metrics nested in a composite metric")
+        void shouldMergeNestedMetricCalls() {
+            // Given - AnswerCorrectness runs FactualCorrectness itself, on a metric thread of its own
+            final ThreadPoolTaskExecutor metricExecutor = new ThreadPoolTaskExecutor();
+            metricExecutor.setCorePoolSize(2);
+            metricExecutor.setMaxPoolSize(2);
+            metricExecutor.initialize();
+            try {
+                final AtomicInteger decompositions = new AtomicInteger();
+                final StubMultiModelExecutor compositeExecutor = new StubMultiModelExecutor(
+                                MODELS, List.of("embed-1"), metricExecutor)
+                        .withResponseProvider(ClaimsResponse.class, prompt -> {
+                            decompositions.incrementAndGet();
+                            return new ClaimsResponse(List.of("Passwords are reset in the settings"));
+                        })
+                        .withResponseProvider(NliResponse.class, prompt -> new NliResponse(List.of(
+                                new NliVerdict("Passwords are reset in the settings", "SUPPORTED", "matches"))))
+                        .withEmbeddings(texts -> texts.stream()
+                                .map(text -> new float[] {1.0f, 0.0f, 0.0f})
+                                .toList());
+                final Sample sample = Sample.builder()
+                        .userInput(SAMPLE.getUserInput())
+                        .response(SAMPLE.getResponse())
+                        .reference("Passwords are reset on the settings page.")
+                        .build();
+                final EvaluationPlanner planner = EvaluationPlanner.builder()
+                        .metric(MetricBinding.of(
+                                FactualCorrectnessMetric.builder()
+                                        .executor(compositeExecutor)
+                                        .build(),
+                                FactualCorrectnessMetric.FactualCorrectnessConfig.builder()
+                                        .mode(FactualCorrectnessMetric.Mode.F1)
+                                        .build()))
+                        .metric(MetricBinding.of(
+                                AnswerCorrectnessMetric.builder()
+                                        .executor(compositeExecutor)
+                                        .build(),
+                                AnswerCorrectnessMetric.AnswerCorrectnessConfig.builder()
+                                        .build()))
+                        .build();
+
+                // When
+                final EvaluationPlan plan = planner.evaluate(sample);
+
+                // Then - the nested FactualCorrectness sends no call of its own
+                assertThat(plan.results()).hasSize(2).allMatch(BatchItemResult::isSuccess);
+                assertThat(plan.calls().executedLlmCalls()).isPositive();
+                assertThat(plan.calls().plannedLlmCalls()).isEqualTo(2 * plan.calls().executedLlmCalls());
+                assertThat(decompositions).hasValue(2 * MODELS.size());
+            } finally {
+                metricExecutor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should not merge calls of separate evaluations")
+        void shouldUseOneGraphPerEvaluation() {
+            // Given
+            final EvaluationPlanner planner = EvaluationPlanner.builder()
+                    .metric(MetricBinding.of(aspectCritic, config("Is the response safe?")))
+                    .build();
+
+            // When
+            planner.evaluate(SAMPLE);
+            final EvaluationPlan second = planner.evaluate(SAMPLE);
+
+            // Then
+            assertThat(second.calls().executedLlmCalls()).isEqualTo(MODELS.size());
+            assertThat(verdicts).hasValue(2 * MODELS.size());
+        }
+
+        @Test
+        @DisplayName("Should keep evaluating other metrics when one fails")
+        void shouldIsolateFailures() {
+            // Given - every judge of the second metric fails
+            final StubMultiModelExecutor failingExecutor = new StubMultiModelExecutor(MODELS)
+                    .withModelError("model-1", new RuntimeException("Model failed"))
+                    .withModelError("model-2", new RuntimeException("Model failed"));
+            final EvaluationPlanner planner = EvaluationPlanner.builder()
+                    .metric(MetricBinding.of(aspectCritic, config("Is the response safe?")))
+                    .metric(MetricBinding.of(
+                            AspectCriticMetric.builder().executor(failingExecutor).build(),
+                            config("Is the response polite?")))
+                    .build();
+
+            // When
+            final EvaluationPlan plan = planner.evaluate(SAMPLE);
+
+            // Then
+            assertThat(plan.results()).extracting(BatchItemResult::isSuccess).containsExactly(true, false);
+            assertThat(plan.failed()).isEqualTo(1);
+            assertThat(plan.calls().executedLlmCalls()).isEqualTo(2L * MODELS.size());
+        }
+
+        @Test
+        @DisplayName("Should leave metrics evaluated outside a planner unchanged")
+        void shouldNotMergeOutsidePlanner() {
+            // When
+            aspectCritic.singleTurnScore(config("Is the response safe?"), SAMPLE);
+            aspectCritic.singleTurnScore(config("Is the response safe?"), SAMPLE);
+
+            // Then
+            assertThat(verdicts).hasValue(2 * MODELS.size());
+        }
+    }
+
+    private static AspectCriticMetric.AspectCriticConfig config(final String definition) {
+        return AspectCriticMetric.AspectCriticConfig.builder()
+                .definition(definition)
+                .build();
+    }
+}
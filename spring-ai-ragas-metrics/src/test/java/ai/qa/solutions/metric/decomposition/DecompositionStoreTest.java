@@ -0,0 +1,304 @@
+package ai.qa.solutions.metric.decomposition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.qa.solutions.execution.ModelResult;
+import ai.qa.solutions.execution.StubMultiModelExecutor;
+import ai.qa.solutions.metrics.response.FactualCorrectnessMetric;
+import ai.qa.solutions.metrics.retrieval.FaithfulnessMetric;
+import ai.qa.solutions.metrics.retrieval.NoiseSensitivityMetric;
+import ai.qa.solutions.sample.Sample;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DecompositionStore Tests")
+class DecompositionStoreTest {
+
+    private static final List<String> MODELS = List.of("model-1", "model-2");
+
+    private final AtomicInteger decompositions = new AtomicInteger();
+
+    @Nested
+    @DisplayName("Sharing")
+    class Sharing {
+
+        @Test
+        @DisplayName("Should request a decomposition once per text and model")
+        void shouldRequestDecompositionOnce() {
+            // Given
+            final StubMultiModelExecutor executor = executor();
+            final DecompositionStore store = DecompositionStore.builder().build();
+
+            // When
+            final ModelResult<List<String>> first = store.decomposeAsync(
+                            executor, "model-1", "Question?", "Answer.", statements -> statements)
+                    .join();
+            final ModelResult<List<String>> second = store.decomposeAsync(
+                            executor, "model-1", "Question?", "Answer.", statements -> statements)
+                    .join();
+            store.decomposeAsync(executor, "model-2", "Question?", "Answer.", statements -> statements)
+                    .join();
+            store.decomposeAsync(executor, "model-1", "Question?", "Other answer.", statements -> statements)
+                    .join();
+
+            // Then
+            assertThat(second.result()).isEqualTo(first.result());
+            assertThat(first.cached()).isFalse();
+            assertThat(second.cached()).isTrue();
+            assertThat(decompositions).hasValue(3);
+            assertThat(store.getCallCount()).isEqualTo(3);
+            assertThat(store.getSharedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ask the model again after a failed decomposition")
+        void shouldNotKeepFailures() {
+            // Given
+            final StubMultiModelExecutor executor =
+                    executor().withModelError("model-1", new RuntimeException("Model failed"));
+            final DecompositionStore store = DecompositionStore.builder().build();
+
+            // When
+            final ModelResult<List<String>> first = store.decomposeAsync(
+                            executor, "model-1", "Question?", "Answer.", statements -> statements)
+                    .join();
+            store.decomposeAsync(executor, "model-1", "Question?", "Answer.", statements -> statements)
+                    .join();
+
+            // Then
+            assertThat(first.isFailure()).isTrue();
+            assertThat(store.getCallCount()).isEqualTo(2);
+            assertThat(store.getSharedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep at most maxEntries decompositions")
+        void shouldEvictBeyondMaxEntries() {
+            // Given
+            final StubMultiModelExecutor executor = executor();
+            final DecompositionStore store =
+                    DecompositionStore.builder().maxEntries(1).build();
+
+            // When
+            store.decomposeAsync(executor, "model-1", "Q", "A1", statements -> statements)
+                    .join();
+            store.decomposeAsync(executor, "model-1", "Q", "A2", statements -> statements)
+                    .join();
+            store.decomposeAsync(executor, "model-1", "Q", "A1", statements -> statements)
+                    .join();
+
+            // Then
+            assertThat(decompositions).hasValue(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metric Suite")
+    class MetricSuite {
+
+        @Test
+        @DisplayName("Should decompose the response once per model for all metrics of a sample")
+        void shouldShareResponseDecompositionAcrossMetrics() {
+            // Given
+            final AtomicInteger ownClaimDecompositions = new AtomicInteger();
+            final StubMultiModelExecutor executor = executor()
+                    .withResponseProvider(FactualCorrectnessMetric.ClaimsResponse.class, prompt -> {
+                        ownClaimDecompositions.incrementAndGet();
+                        return new FactualCorrectnessMetric.ClaimsResponse(List.of("Paris is in France."));
+                    })
+                    .withResponse(
+                            FactualCorrectnessMetric.NliResponse.class,
+                            new FactualCorrectnessMetric.NliResponse(List.of(new FactualCorrectnessMetric.NliVerdict(
+                                    "Paris is in France.", "SUPPORTED", "Stated"))))
+                    .withResponse(
+                            FaithfulnessMetric.VerdictsResponse.class,
+                            new FaithfulnessMetric.VerdictsResponse(List.of(
+                                    new FaithfulnessMetric.StatementVerdict("Paris is in France.", "Stated", 1))))
+                    .withResponse(
+                            NoiseSensitivityMetric.StatementsResponse.class,
+                            new NoiseSensitivityMetric.StatementsResponse(List.of("Paris is in France.")))
+                    .withResponse(
+                            NoiseSensitivityMetric.FaithfulnessVerdictsResponse.class,
+                            new NoiseSensitivityMetric.FaithfulnessVerdictsResponse(
+                                    List.of(new NoiseSensitivityMetric.StatementVerdict(
+                                            "Paris is in France.", true, "Stated"))));
+            final DecompositionStore store = DecompositionStore.builder().build();
+            final Sample sample = Sample.builder()
+                    .userInput("Where is Paris?")
+                    .response("Paris is in France.")
+                    .reference("Paris is in France.")
+                    .retrievedContexts(List.of("Paris is the capital of France."))
+                    .build();
+
+            // When
+            FaithfulnessMetric.builder()
+                    .executor(executor)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample);
+            NoiseSensitivityMetric.builder()
+                    .executor(executor)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample);
+            FactualCorrectnessMetric.builder()
+                    .executor(executor)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample);
+
+            // Then - one shared response decomposition per model; FactualCorrectness decomposes the
+            // reference from the store's template as well
+            assertThat(store.getCallCount()).isEqualTo(MODELS.size());
+            assertThat(store.getSharedCount()).isEqualTo(2L * MODELS.size());
+            assertThat(decompositions).hasValue(2 * MODELS.size());
+            assertThat(ownClaimDecompositions).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Templates")
+    class Templates {
+
+        private static final String CUSTOM_TEMPLATE = "Custom split of {question}: {answer}";
+
+        @Test
+        @DisplayName("Should decompose the reference of FactualCorrectness from the store's template")
+        void shouldDecomposeReferenceFromStoreTemplate() {
+            // Given
+            final List<String> prompts = new CopyOnWriteArrayList<>();
+            final StubMultiModelExecutor executor = nliExecutor(prompts);
+            final DecompositionStore store = DecompositionStore.builder().build();
+
+            // When
+            FactualCorrectnessMetric.builder()
+                    .executor(executor)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample());
+
+            // Then - response and reference are both split by the store's prompt
+            assertThat(prompts)
+                    .hasSize(2 * MODELS.size())
+                    .allMatch(prompt -> prompt.startsWith("Given a question and an answer"))
+                    .anyMatch(prompt -> prompt.contains("Answer: Paris is the capital of France."))
+                    .anyMatch(prompt -> prompt.contains("Answer: Paris is in France."));
+        }
+
+        @Test
+        @DisplayName("Should keep a custom claims template of FactualCorrectness over the store")
+        void shouldKeepCustomClaimsTemplate() {
+            // Given
+            final List<String> prompts = new CopyOnWriteArrayList<>();
+            final List<String> claimPrompts = new CopyOnWriteArrayList<>();
+            final StubMultiModelExecutor executor = nliExecutor(prompts)
+                    .withResponseProvider(FactualCorrectnessMetric.ClaimsResponse.class, prompt -> {
+                        claimPrompts.add(prompt);
+                        return new FactualCorrectnessMetric.ClaimsResponse(List.of("Paris is in France."));
+                    });
+            final DecompositionStore store = DecompositionStore.builder().build();
+
+            // When
+            FactualCorrectnessMetric.builder()
+                    .executor(executor)
+                    .claimsDecompositionTemplate("Custom claims of: {text}")
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample());
+
+            // Then
+            assertThat(prompts).isEmpty();
+            assertThat(store.getCallCount()).isZero();
+            assertThat(claimPrompts).hasSize(2 * MODELS.size()).allMatch(prompt -> prompt.startsWith("Custom claims"));
+        }
+
+        @Test
+        @DisplayName("Should keep a custom statement template of Faithfulness over the store")
+        void shouldKeepCustomStatementTemplate() {
+            // Given
+            final List<String> statementPrompts = new CopyOnWriteArrayList<>();
+            final StubMultiModelExecutor executor = executor()
+                    .withResponseProvider(FaithfulnessMetric.StatementsResponse.class, prompt -> {
+                        statementPrompts.add(prompt);
+                        return new FaithfulnessMetric.StatementsResponse(List.of("Paris is in France."));
+                    })
+                    .withResponse(
+                            FaithfulnessMetric.VerdictsResponse.class,
+                            new FaithfulnessMetric.VerdictsResponse(List.of(
+                                    new FaithfulnessMetric.StatementVerdict("Paris is in France.", "Stated", 1))));
+            final DecompositionStore store = DecompositionStore.builder().build();
+
+            // When
+            FaithfulnessMetric.builder()
+                    .executor(executor)
+                    .statementGeneratorTemplate(CUSTOM_TEMPLATE)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample());
+
+            // Then
+            assertThat(store.getCallCount()).isZero();
+            assertThat(decompositions).hasValue(0);
+            assertThat(statementPrompts)
+                    .hasSize(MODELS.size())
+                    .allMatch(prompt -> prompt.equals("Custom split of Where is Paris?: Paris is in France."));
+        }
+
+        @Test
+        @DisplayName("Should use the store when the custom template equals the store's")
+        void shouldUseStoreWithSameTemplate() {
+            // Given
+            final StubMultiModelExecutor executor = executor()
+                    .withResponse(
+                            FaithfulnessMetric.VerdictsResponse.class,
+                            new FaithfulnessMetric.VerdictsResponse(List.of(
+                                    new FaithfulnessMetric.StatementVerdict("Paris is in France.", "Stated", 1))));
+            final DecompositionStore store =
+                    DecompositionStore.builder().template(CUSTOM_TEMPLATE).build();
+
+            // When
+            FaithfulnessMetric.builder()
+                    .executor(executor)
+                    .statementGeneratorTemplate(CUSTOM_TEMPLATE)
+                    .decompositionStore(store)
+                    .build()
+                    .singleTurnScore(sample());
+
+            // Then
+            assertThat(store.getCallCount()).isEqualTo(MODELS.size());
+        }
+
+        private StubMultiModelExecutor nliExecutor(final List<String> prompts) {
+            return new StubMultiModelExecutor(MODELS)
+                    .withResponseProvider(DecompositionStore.StatementsResponse.class, prompt -> {
+                        prompts.add(prompt);
+                        return new DecompositionStore.StatementsResponse(List.of("Paris is in France."));
+                    })
+                    .withResponse(
+                            FactualCorrectnessMetric.NliResponse.class,
+                            new FactualCorrectnessMetric.NliResponse(List.of(new FactualCorrectnessMetric.NliVerdict(
+                                    "Paris is in France.", "SUPPORTED", "Stated"))));
+        }
+
+        private Sample sample() {
+            return Sample.builder()
+                    .userInput("Where is Paris?")
+                    .response("Paris is in France.")
+                    .reference("Paris is the capital of France.")
+                    .retrievedContexts(List.of("Paris is the capital of France."))
+                    .build();
+        }
+    }
+
+    private StubMultiModelExecutor executor() {
+        return new StubMultiModelExecutor(MODELS)
+                .withResponseProvider(DecompositionStore.StatementsResponse.class, prompt -> {
+                    decompositions.incrementAndGet();
+                    return new DecompositionStore.StatementsResponse(List.of("Paris is in France."));
+                });
+    }
+}
@@ -2,14 +2,19 @@ package ai.qa.solutions.metrics.general;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.StubMultiModelExecutor;
+import ai.qa.solutions.execution.cache.LlmResponseCache;
 import ai.qa.solutions.sample.Sample;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -389,4 +394,182 @@ class AspectCriticMetricTest {
             assertThat(score).isEqualTo(0.0);
         }
     }
+
+    @Nested
+    @DisplayName("Adaptive Sampling")
+    class AdaptiveSamplingTests {
+
+        @Test
+        @DisplayName("Should stop once identical verdicts decide the vote")
+        void shouldStopOnceVoteIsDecided() {
+            AtomicInteger calls = new AtomicInteger();
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(AspectCriticMetric.Response.class, prompt -> {
+                        calls.incrementAndGet();
+                        return new AspectCriticMetric.Response("test", true, "good");
+                    });
+
+            Double score = AspectCriticMetric.builder()
+                    .executor(stubExecutor)
+                    .build()
+                    .singleTurnScore(config(true), sample());
+
+            assertThat(score).isEqualTo(1.0);
+            assertThat(calls).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Should keep sampling while the vote is split")
+        void shouldKeepSamplingWhileVoteIsSplit() {
+            AtomicInteger calls = new AtomicInteger();
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(
+                            AspectCriticMetric.Response.class,
+                            prompt -> new AspectCriticMetric.Response("test", calls.incrementAndGet() != 2, "split"));
+
+            Double score = AspectCriticMetric.builder()
+                    .executor(stubExecutor)
+                    .build()
+                    .singleTurnScore(config(true), sample());
+
+            // true, false, true, then one more true decides 3 of 5
+            assertThat(score).isEqualTo(1.0);
+            assertThat(calls).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Should send every iteration when adaptive sampling is disabled")
+        void shouldSendAllIterationsWhenDisabled() {
+            AtomicInteger calls = new AtomicInteger();
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(AspectCriticMetric.Response.class, prompt -> {
+                        calls.incrementAndGet();
+                        return new AspectCriticMetric.Response("test", true, "good");
+                    });
+
+            AspectCriticMetric.builder().executor(stubExecutor).build().singleTurnScore(config(false), sample());
+
+            assertThat(calls).hasValue(5);
+        }
+
+        private AspectCriticMetric.AspectCriticConfig config(boolean adaptive) {
+            return AspectCriticMetric.AspectCriticConfig.builder()
+                    .definition("Test definition")
+                    .strictness(5)
+                    .adaptiveSampling(adaptive)
+                    .build();
+        }
+
+        private Sample sample() {
+            return Sample.builder().userInput("Question").response("Answer").build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling Through Executor")
+    class ExecutorSamplingTests {
+
+        @Test
+        @DisplayName("Should send every strictness iteration with single-flight enabled")
+        void shouldSendEveryIterationWithSingleFlight() {
+            AtomicInteger calls = new AtomicInteger();
+            ChatClient judge = slowJudge(calls);
+            MultiModelExecutor realExecutor = new MultiModelExecutor(
+                    new ChatClientStore(Map.of("model-1", judge), judge), null, new SimpleAsyncTaskExecutor());
+
+            AspectCriticMetric.AspectCriticConfig config = AspectCriticMetric.AspectCriticConfig.builder()
+                    .definition("Test definition")
+                    .strictness(5)
+                    .adaptiveSampling(false)
+                    .build();
+            Double score = AspectCriticMetric.builder()
+                    .executor(realExecutor)
+                    .build()
+                    .singleTurnScore(
+                            config,
+                            Sample.builder().userInput("Question").response("Answer").build());
+
+            assertThat(score).isEqualTo(1.0);
+            assertThat(calls).hasValue(5);
+            assertThat(realExecutor.getCoalescedCallCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should send each adaptive wave as distinct samples with default executor settings")
+        void shouldSendAdaptiveWaveAsDistinctSamples() {
+            AtomicInteger calls = new AtomicInteger();
+            ChatClient judge = slowJudge(calls, call -> true);
+            MultiModelExecutor realExecutor = new MultiModelExecutor(
+                    new ChatClientStore(Map.of("model-1", judge), judge), null, new SimpleAsyncTaskExecutor());
+
+            Double score = AspectCriticMetric.builder()
+                    .executor(realExecutor)
+                    .build()
+                    .singleTurnScore(adaptiveConfig(), sample());
+
+            // The first wave of 3 identical prompts is in flight together and decides the vote
+            assertThat(score).isEqualTo(1.0);
+            assertThat(calls).hasValue(3);
+            assertThat(realExecutor.getCoalescedCallCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should replay each cached sample of a split adaptive vote")
+        void shouldReplayEachCachedSample() {
+            AtomicInteger calls = new AtomicInteger();
+            ChatClient judge = slowJudge(calls, call -> call != 2);
+            LlmResponseCache cache = LlmResponseCache.builder().build();
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
+            MultiModelExecutor realExecutor = new MultiModelExecutor(
+                    new ChatClientStore(Map.of("model-1", judge), judge),
+                    null,
+                    taskExecutor,
+                    taskExecutor,
+                    null,
+                    cache);
+            AspectCriticMetric metric =
+                    AspectCriticMetric.builder().executor(realExecutor).build();
+
+            // One false verdict in the first wave of 3 needs a fourth sample to decide 3 of 5
+            Double first = metric.singleTurnScore(adaptiveConfig(), sample());
+            Double second = metric.singleTurnScore(adaptiveConfig(), sample());
+
+            assertThat(first).isEqualTo(1.0);
+            assertThat(second).isEqualTo(1.0);
+            assertThat(calls).hasValue(4);
+            assertThat(cache.getMemorySize()).isEqualTo(4);
+            assertThat(cache.getHitCount()).isEqualTo(4);
+        }
+
+        private AspectCriticMetric.AspectCriticConfig adaptiveConfig() {
+            return AspectCriticMetric.AspectCriticConfig.builder()
+                    .definition("Test definition")
+                    .strictness(5)
+                    .adaptiveSampling(true)
+                    .build();
+        }
+
+        private Sample sample() {
+            return Sample.builder().userInput("Question").response("Answer").build();
+        }
+
+        private ChatClient slowJudge(AtomicInteger calls) {
+            return slowJudge(calls, call -> true);
+        }
+
+        private ChatClient slowJudge(AtomicInteger calls, IntPredicate verdict) {
+            ChatClient client = mock(ChatClient.class);
+            ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+            when(client.prompt(anyString())).thenReturn(requestSpec);
+            when(requestSpec.call()).thenReturn(callSpec);
+            // Slow enough for all iterations of a wave to be in flight together
+            when(callSpec.entity(AspectCriticMetric.Response.class)).thenAnswer(invocation -> {
+                int call = calls.incrementAndGet();
+                Thread.sleep(50);
+                return new AspectCriticMetric.Response("test", verdict.test(call), "good");
+            });
+            return client;
+        }
+    }
 }
@@ -3,7 +3,9 @@ package ai.qa.solutions.metrics.general;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.execution.MultiModelExecutor;
@@ -11,6 +13,8 @@ import ai.qa.solutions.execution.StubMultiModelExecutor;
 import ai.qa.solutions.sample.Sample;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToDoubleFunction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -416,4 +420,131 @@ class SimpleCriteriaScoreMetricTest {
             assertThat(score).isCloseTo(0.8, within(0.01));
         }
     }
+
+    @Nested
+    @DisplayName("Adaptive Sampling")
+    class AdaptiveSamplingTests {
+
+        @Test
+        @DisplayName("Should stop once the scores agree within the tolerance")
+        void shouldStopOnceScoresAgree() {
+            AtomicInteger calls = new AtomicInteger();
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(SimpleCriteriaScoreMetric.Response.class, prompt -> {
+                        calls.incrementAndGet();
+                        return new SimpleCriteriaScoreMetric.Response("test", 4.0, "good");
+                    });
+
+            Double score = SimpleCriteriaScoreMetric.builder()
+                    .executor(stubExecutor)
+                    .build()
+                    .singleTurnScore(config(), sample());
+
+            assertThat(score).isCloseTo(0.8, within(0.01));
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Should send every iteration while the scores disagree")
+        void shouldSendAllIterationsWhileScoresDisagree() {
+            AtomicInteger calls = new AtomicInteger();
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(
+                            SimpleCriteriaScoreMetric.Response.class,
+                            prompt -> new SimpleCriteriaScoreMetric.Response(
+                                    "test", calls.incrementAndGet() % 2 == 0 ? 1.0 : 4.0, "unsure"));
+
+            Double score = SimpleCriteriaScoreMetric.builder()
+                    .executor(stubExecutor)
+                    .build()
+                    .singleTurnScore(config(), sample());
+
+            // Median of 4, 1, 4, 1, 4
+            assertThat(score).isCloseTo(0.8, within(0.01));
+            assertThat(calls).hasValue(5);
+        }
+
+        private SimpleCriteriaScoreMetric.SimpleCriteriaConfig config() {
+            return SimpleCriteriaScoreMetric.SimpleCriteriaConfig.builder()
+                    .definition("Test criteria")
+                    .strictness(5)
+                    .adaptiveSampling(true)
+                    .build();
+        }
+
+        private Sample sample() {
+            return Sample.builder().userInput("Question").response("Answer").build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling Through Executor")
+    class ExecutorSamplingTests {
+
+        @Test
+        @DisplayName("Should send each adaptive wave as distinct samples with default executor settings")
+        void shouldSendAdaptiveWaveAsDistinctSamples() {
+            AtomicInteger calls = new AtomicInteger();
+            MultiModelExecutor realExecutor = realExecutor(slowJudge(calls, call -> 4.0));
+
+            Double score = SimpleCriteriaScoreMetric.builder()
+                    .executor(realExecutor)
+                    .build()
+                    .singleTurnScore(config(), sample());
+
+            // The first wave of 2 identical prompts is in flight together and agrees
+            assertThat(score).isCloseTo(0.8, within(0.01));
+            assertThat(calls).hasValue(2);
+            assertThat(realExecutor.getCoalescedCallCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should send every iteration as a distinct sample while the scores disagree")
+        void shouldSendEveryIterationAsDistinctSample() {
+            AtomicInteger calls = new AtomicInteger();
+            MultiModelExecutor realExecutor = realExecutor(slowJudge(calls, call -> call % 2 == 0 ? 1.0 : 4.0));
+
+            Double score = SimpleCriteriaScoreMetric.builder()
+                    .executor(realExecutor)
+                    .build()
+                    .singleTurnScore(config(), sample());
+
+            // Median of 4, 1, 4, 1, 4
+            assertThat(score).isCloseTo(0.8, within(0.01));
+            assertThat(calls).hasValue(5);
+            assertThat(realExecutor.getCoalescedCallCount()).isZero();
+        }
+
+        private MultiModelExecutor realExecutor(ChatClient judge) {
+            return new MultiModelExecutor(
+                    new ChatClientStore(Map.of("model-1", judge), judge), null, new SimpleAsyncTaskExecutor());
+        }
+
+        private SimpleCriteriaScoreMetric.SimpleCriteriaConfig config() {
+            return SimpleCriteriaScoreMetric.SimpleCriteriaConfig.builder()
+                    .definition("Test criteria")
+                    .strictness(5)
+                    .adaptiveSampling(true)
+                    .build();
+        }
+
+        private Sample sample() {
+            return Sample.builder().userInput("Question").response("Answer").build();
+        }
+
+        private ChatClient slowJudge(AtomicInteger calls, IntToDoubleFunction score) {
+            ChatClient client = mock(ChatClient.class);
+            ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+            when(client.prompt(anyString())).thenReturn(requestSpec);
+            when(requestSpec.call()).thenReturn(callSpec);
+            // Slow enough for all iterations of a wave to be in flight together
+            when(callSpec.entity(SimpleCriteriaScoreMetric.Response.class)).thenAnswer(invocation -> {
+                int call = calls.incrementAndGet();
+                Thread.sleep(50);
+                return new SimpleCriteriaScoreMetric.Response("test", score.applyAsDouble(call), "good");
+            });
+            return client;
+        }
+    }
 }
@@ -2,12 +2,16 @@ package ai.qa.solutions.metrics.nvidia;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 import ai.qa.solutions.execution.StubMultiModelExecutor;
+import ai.qa.solutions.metrics.nvidia.ContextRelevanceMetric.BatchRelevanceEvaluationResponse;
+import ai.qa.solutions.metrics.nvidia.ContextRelevanceMetric.ContextEvaluation;
 import ai.qa.solutions.metrics.nvidia.ContextRelevanceMetric.ContextRelevanceConfig;
 import ai.qa.solutions.metrics.nvidia.ContextRelevanceMetric.RelevanceEvaluationResponse;
 import ai.qa.solutions.sample.Sample;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -414,4 +418,77 @@ class ContextRelevanceMetricTest {
             assertThat(score).isEqualTo(1.0);
         }
     }
+
+    @Nested
+    @DisplayName("Multi-Context Prompts")
+    class MultiContextPromptTests {
+
+        @Test
+        @DisplayName("Should judge several contexts in one prompt")
+        void shouldJudgeSeveralContextsInOnePrompt() {
+            final AtomicInteger calls = new AtomicInteger();
+            executor = executor.withResponseProvider(BatchRelevanceEvaluationResponse.class, prompt -> {
+                calls.incrementAndGet();
+                return new BatchRelevanceEvaluationResponse(List.of(
+                        new ContextEvaluation(1, 2, "Fully relevant"),
+                        new ContextEvaluation(2, 1, "Partially relevant"),
+                        new ContextEvaluation(3, 0, "Not relevant")));
+            });
+
+            metric = ContextRelevanceMetric.builder().executor(executor).build();
+
+            final Double score = metric.singleTurnScore(
+                    ContextRelevanceConfig.builder().contextsPerPrompt(3).build(), sampleWithThreeContexts());
+
+            // (1.0 + 0.5 + 0.0) / 3 = 0.5
+            assertThat(score).isEqualTo(0.5);
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should judge remaining contexts one by one when they do not fill a prompt")
+        void shouldJudgeRemainderSeparately() {
+            executor = executor.withResponseProvider(
+                            BatchRelevanceEvaluationResponse.class,
+                            prompt -> new BatchRelevanceEvaluationResponse(List.of(
+                                    new ContextEvaluation(1, 2, "Fully relevant"),
+                                    new ContextEvaluation(2, 2, "Fully relevant"))))
+                    .withResponseProvider(
+                            RelevanceEvaluationResponse.class,
+                            prompt -> new RelevanceEvaluationResponse(0, "Not relevant"));
+
+            metric = ContextRelevanceMetric.builder().executor(executor).build();
+
+            final Double score = metric.singleTurnScore(
+                    ContextRelevanceConfig.builder().contextsPerPrompt(2).build(), sampleWithThreeContexts());
+
+            // (1.0 + 1.0 + 0.0) / 3
+            assertThat(score).isCloseTo(2.0 / 3, within(0.001));
+        }
+
+        @Test
+        @DisplayName("Should skip contexts the judge returned no score for")
+        void shouldSkipContextsWithoutScore() {
+            executor = executor.withResponseProvider(
+                    BatchRelevanceEvaluationResponse.class,
+                    prompt -> new BatchRelevanceEvaluationResponse(List.of(
+                            new ContextEvaluation(1, 2, "Fully relevant"),
+                            new ContextEvaluation(2, 1, "Partially relevant"))));
+
+            metric = ContextRelevanceMetric.builder().executor(executor).build();
+
+            final Double score = metric.singleTurnScore(
+                    ContextRelevanceConfig.builder().contextsPerPrompt(3).build(), sampleWithThreeContexts());
+
+            // Context 3 has no score: (1.0 + 0.5) / 2
+            assertThat(score).isEqualTo(0.75);
+        }
+
+        private Sample sampleWithThreeContexts() {
+            return Sample.builder()
+                    .userInput("What is AI?")
+                    .retrievedContexts(List.of("AI definition", "some info", "unrelated"))
+                    .build();
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package ai.qa.solutions.metrics.response;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
+import ai.qa.solutions.chatclient.ChatClientStore;
+import ai.qa.solutions.embedding.EmbeddingModelStore;
+import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.StubMultiModelExecutor;
 import ai.qa.solutions.execution.listener.MetricExecutionListener;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
@@ -11,13 +15,29 @@ import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.ClaimsResponse;
 import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.NliResponse;
 import ai.qa.solutions.metrics.response.FactualCorrectnessMetric.NliVerdict;
 import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Unit tests for AnswerCorrectnessMetric.
@@ -452,4 +472,99 @@ class AnswerCorrectnessMetricTest {
             assertThat(score).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("Nested Execution Tests")
+    class NestedExecutionTests {
+
+        @Test
+        @DisplayName("should not deadlock when nested metrics share a single-thread metric executor")
+        void shouldNotDeadlockOnSingleThreadMetricExecutor() {
+            final ThreadPoolTaskExecutor metricExecutor = new ThreadPoolTaskExecutor();
+            metricExecutor.setCorePoolSize(1);
+            metricExecutor.setMaxPoolSize(1);
+            metricExecutor.initialize();
+            try {
+                final ChatClient client = ChatClient.create(new DelayedChatModel(Duration.ofMillis(50)));
+                final EmbeddingModel embeddingModel = new ConstantEmbeddingModel(new float[] {1.0f, 0.0f, 0.0f});
+                final MultiModelExecutor executor = new MultiModelExecutor(
+                        new ChatClientStore(Map.of("model1", client), client),
+                        new EmbeddingModelStore(Map.of("embed1", embeddingModel), embeddingModel),
+                        metricExecutor,
+                        new SimpleAsyncTaskExecutor());
+
+                final AnswerCorrectnessMetric metric =
+                        AnswerCorrectnessMetric.builder().executor(executor).build();
+
+                // The outer flow and both nested metrics all run on the only metric thread while the
+                // model calls complete later on HTTP threads: any join() inside a flow would wait for
+                // a task queued behind itself
+                final List<CompletableFuture<Double>> futures = IntStream.range(0, 8)
+                        .mapToObj(i -> metric.singleTurnScoreAsync(Sample.builder()
+                                .response("Response " + i)
+                                .reference("Reference " + i)
+                                .build()))
+                        .toList();
+
+                for (final CompletableFuture<Double> future : futures) {
+                    assertThat(future)
+                            .succeedsWithin(Duration.ofSeconds(10))
+                            .satisfies(score -> assertThat(score).isCloseTo(1.0, within(0.001)));
+                }
+            } finally {
+                metricExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Chat model answering after a fixed delay, with one supported claim for decomposition
+     * prompts and a SUPPORTED verdict for NLI prompts.
+     */
+    static class DelayedChatModel implements ChatModel {
+
+        private final Duration delay;
+
+        DelayedChatModel(final Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public ChatResponse call(final Prompt prompt) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            final String json = prompt.getContents().contains("verdicts")
+                    ? "{\"verdicts\": [{\"claim\": \"Claim\", \"verdict\": \"SUPPORTED\", \"reason\": \"ok\"}]}"
+                    : "{\"claims\": [\"Claim\"]}";
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(json))));
+        }
+    }
+
+    /**
+     * Embedding model returning the same vector for every text.
+     */
+    static class ConstantEmbeddingModel implements EmbeddingModel {
+
+        private final float[] vector;
+
+        ConstantEmbeddingModel(final float[] vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public EmbeddingResponse call(final EmbeddingRequest request) {
+            return new EmbeddingResponse(IntStream.range(0, request.getInstructions().size())
+                    .mapToObj(i -> new Embedding(vector.clone(), i))
+                    .toList());
+        }
+
+        @Override
+        public float[] embed(final Document document) {
+            return vector.clone();
+        }
+    }
 }
@@ -6,14 +6,18 @@ import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.mock;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
+import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.StubMultiModelExecutor;
 import ai.qa.solutions.execution.listener.MetricExecutionListener;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationContext;
 import ai.qa.solutions.execution.listener.dto.MetricEvaluationResult;
 import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -386,6 +390,71 @@ class FactualCorrectnessMetricTest {
         }
     }
 
+    @Nested
+    @DisplayName("Step Graph")
+    class StepGraphTests {
+
+        @Test
+        @DisplayName("Should send both decompositions, then both NLI directions, at once")
+        void shouldRunIndependentStepsInParallel() {
+            DeferredExecutor deferredExecutor = new DeferredExecutor();
+            FactualCorrectnessMetric metric =
+                    FactualCorrectnessMetric.builder().executor(deferredExecutor).build();
+
+            Sample sample = Sample.builder()
+                    .response("Response text")
+                    .reference("Reference text")
+                    .build();
+
+            CompletableFuture<Double> score = metric.singleTurnScoreAsync(sample);
+
+            // Both decompositions are pending at the same time
+            assertThat(deferredExecutor.prompts).hasSize(2);
+            assertThat(deferredExecutor.prompts.get(0)).contains("Response text");
+            assertThat(deferredExecutor.prompts.get(1)).contains("Reference text");
+
+            deferredExecutor.complete(1, new FactualCorrectnessMetric.ClaimsResponse(List.of("Claim 1")));
+            assertThat(deferredExecutor.prompts).hasSize(2);
+            deferredExecutor.complete(0, new FactualCorrectnessMetric.ClaimsResponse(List.of("Claim 1")));
+
+            // Both NLI directions are pending at the same time
+            assertThat(deferredExecutor.prompts).hasSize(4);
+
+            FactualCorrectnessMetric.NliResponse supported = new FactualCorrectnessMetric.NliResponse(
+                    List.of(new FactualCorrectnessMetric.NliVerdict("Claim 1", "SUPPORTED", "reason")));
+            deferredExecutor.complete(2, supported);
+            deferredExecutor.complete(3, supported);
+
+            assertThat(score.join()).isEqualTo(1.0);
+        }
+
+        /**
+         * Leaves every LLM call pending until the test completes it.
+         */
+        static class DeferredExecutor extends StubMultiModelExecutor {
+            final List<String> prompts = new ArrayList<>();
+            final List<CompletableFuture<ModelResult<Object>>> calls = new ArrayList<>();
+
+            DeferredExecutor() {
+                super(List.of("model-1"));
+            }
+
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
+                    String modelId, String prompt, Class<R> responseType) {
+                CompletableFuture<ModelResult<R>> call = new CompletableFuture<>();
+                prompts.add(prompt);
+                calls.add((CompletableFuture) call);
+                return call;
+            }
+
+            void complete(int call, Object response) {
+                calls.get(call).complete(ModelResult.success("model-1", response, Duration.ZERO, prompts.get(call)));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Listener Notifications")
     class ListenerTests {
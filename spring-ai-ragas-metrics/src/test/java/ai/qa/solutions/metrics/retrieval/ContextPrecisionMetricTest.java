@@ -1,14 +1,20 @@
 package ai.qa.solutions.metrics.retrieval;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.mock;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.StubMultiModelExecutor;
+import ai.qa.solutions.metrics.retrieval.ContextPrecisionMetric.ContextPrecisionConfig;
+import ai.qa.solutions.metrics.retrieval.ContextPrecisionMetric.ContextVerdict;
+import ai.qa.solutions.metrics.retrieval.ContextPrecisionMetric.PackedRelevanceResponse;
+import ai.qa.solutions.metrics.retrieval.ContextPrecisionMetric.RelevanceResponse;
 import ai.qa.solutions.sample.Sample;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -423,4 +429,72 @@ class ContextPrecisionMetricTest {
             assertThat(score).isEqualTo(1.0);
         }
     }
+
+    @Nested
+    @DisplayName("Packed Contexts")
+    class PackedContextsTests {
+
+        private final Sample sample = Sample.builder()
+                .userInput("What is Java?")
+                .reference("Java is a programming language.")
+                .retrievedContexts(List.of("Java is a language.", "Python is a language.", "Java runs on the JVM."))
+                .build();
+
+        private final AtomicInteger packedCalls = new AtomicInteger();
+        private final AtomicInteger singleCalls = new AtomicInteger();
+
+        @Test
+        @DisplayName("Should judge all contexts in one call")
+        void shouldJudgeAllContextsInOneCall() {
+            ContextPrecisionMetric metric = metric(List.of(
+                    new ContextVerdict(1, true, "relevant"),
+                    new ContextVerdict(2, false, "not relevant"),
+                    new ContextVerdict(3, true, "relevant")));
+
+            Double score = metric.singleTurnScore(ContextPrecisionConfig.builder().packContexts(true).build(), sample);
+
+            // AP = (1/1 + 2/3) / 2
+            assertThat(score).isCloseTo(5.0 / 6.0, within(1e-9));
+            assertThat(packedCalls).hasValue(1);
+            assertThat(singleCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Should fall back to one call per context when a verdict is missing")
+        void shouldFallBackWhenVerdictMissing() {
+            ContextPrecisionMetric metric = metric(List.of(new ContextVerdict(1, false, "not relevant")));
+
+            Double score = metric.singleTurnScore(ContextPrecisionConfig.builder().packContexts(true).build(), sample);
+
+            assertThat(score).isEqualTo(1.0);
+            assertThat(packedCalls).hasValue(1);
+            assertThat(singleCalls).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Should not pack contexts when the prompt exceeds the token budget")
+        void shouldNotPackOverTokenBudget() {
+            ContextPrecisionMetric metric = metric(List.of());
+
+            Double score = metric.singleTurnScore(
+                    ContextPrecisionConfig.builder().packContexts(true).maxPackedPromptTokens(10).build(), sample);
+
+            assertThat(score).isEqualTo(1.0);
+            assertThat(packedCalls).hasValue(0);
+            assertThat(singleCalls).hasValue(3);
+        }
+
+        private ContextPrecisionMetric metric(List<ContextVerdict> packedVerdicts) {
+            StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("model-1"))
+                    .withResponseProvider(PackedRelevanceResponse.class, prompt -> {
+                        packedCalls.incrementAndGet();
+                        return new PackedRelevanceResponse(packedVerdicts);
+                    })
+                    .withResponseProvider(RelevanceResponse.class, prompt -> {
+                        singleCalls.incrementAndGet();
+                        return new RelevanceResponse(true, "relevant");
+                    });
+            return ContextPrecisionMetric.builder().executor(stubExecutor).build();
+        }
+    }
 }
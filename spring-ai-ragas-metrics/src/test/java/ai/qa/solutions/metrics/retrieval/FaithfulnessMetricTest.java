@@ -6,11 +6,16 @@ import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.mock;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
+import ai.qa.solutions.execution.ModelResult;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.StubMultiModelExecutor;
 import ai.qa.solutions.sample.Sample;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -454,4 +459,58 @@ class FaithfulnessMetricTest {
             assertThat(score).isEqualTo(1.0);
         }
     }
+
+    @Nested
+    @DisplayName("Per-model pipeline")
+    class PipelineTests {
+
+        @Test
+        @DisplayName("Should evaluate fast model without waiting for slow model statements")
+        void shouldNotGateFastModelOnSlowModel() throws Exception {
+            final CompletableFuture<ModelResult<FaithfulnessMetric.StatementsResponse>> slowStatements =
+                    new CompletableFuture<>();
+            final CountDownLatch fastEvaluated = new CountDownLatch(1);
+            final StubMultiModelExecutor stubExecutor = new StubMultiModelExecutor(List.of("slow", "fast")) {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
+                                final String modelId, final String prompt, final Class<R> responseType) {
+                            if ("slow".equals(modelId) && responseType == FaithfulnessMetric.StatementsResponse.class) {
+                                return slowStatements.thenApply(result -> (ModelResult<R>) result);
+                            }
+                            if ("fast".equals(modelId) && responseType == FaithfulnessMetric.VerdictsResponse.class) {
+                                fastEvaluated.countDown();
+                            }
+                            return super.executeLlmOnModelAsync(modelId, prompt, responseType);
+                        }
+                    }
+                    .withResponse(
+                            FaithfulnessMetric.StatementsResponse.class,
+                            new FaithfulnessMetric.StatementsResponse(List.of("stmt1")))
+                    .withResponse(
+                            FaithfulnessMetric.VerdictsResponse.class,
+                            new FaithfulnessMetric.VerdictsResponse(
+                                    List.of(new FaithfulnessMetric.StatementVerdict("stmt1", "supported", 1))));
+
+            final FaithfulnessMetric metric =
+                    FaithfulnessMetric.builder().executor(stubExecutor).build();
+            final Sample sample = Sample.builder()
+                    .userInput("What is Java?")
+                    .response("Java.")
+                    .retrievedContexts(List.of("Context."))
+                    .build();
+
+            // The stub runs metric bodies on the calling thread, so evaluate from another one
+            final CompletableFuture<Double> score =
+                    CompletableFuture.supplyAsync(() -> metric.singleTurnScore(sample));
+
+            assertThat(fastEvaluated.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(score).isNotDone();
+
+            slowStatements.complete(ModelResult.success(
+                    "slow", new FaithfulnessMetric.StatementsResponse(List.of("stmt1")), Duration.ZERO, "slow"));
+
+            assertThat(score.get(5, TimeUnit.SECONDS)).isEqualTo(1.0);
+        }
+    }
 }
@@ -1,9 +1,16 @@
 package ai.qa.solutions.chatclient;
 
-import java.util.ArrayList;
+import ai.qa.solutions.execution.balancing.EndpointPool;
+import ai.qa.solutions.execution.balancing.EndpointSelector;
+import ai.qa.solutions.execution.balancing.EndpointStats;
+import ai.qa.solutions.execution.balancing.FailoverPolicy;
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 
@@ -16,17 +23,29 @@ import org.springframework.ai.chat.client.ChatClient;
  * <p>
  * Supports multiple ChatClients per model ID, enabling scenarios where
  * the same model is configured in different providers (e.g., gpt-4 in both
- * OpenAI and Azure). When a model ID has multiple ChatClients, all of them
- * will be invoked during evaluation.
+ * OpenAI and Azure) or served by several replicas. The ChatClients of a model ID
+ * form an {@link EndpointPool}: calls made through {@link #call(String, Function)}
+ * are spread across them by the configured {@link LoadBalancingStrategy} and fail
+ * over to the next client on connection errors and HTTP 5xx responses.
  */
 @Slf4j
 public class ChatClientStore {
 
     /**
-     * Thread-safe map of clients indexed by model ID.
+     * Thread-safe map of client pools indexed by model ID.
      * Each model ID can have multiple ChatClients (e.g., same model from different providers).
      */
-    private final Map<String, List<ChatClient>> clients = new ConcurrentHashMap<>();
+    private final Map<String, EndpointPool<ChatClient>> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the selector of each model's pool.
+     */
+    private final Supplier<? extends EndpointSelector> selectorFactory;
+
+    /**
+     * Errors retried on another client of the same model.
+     */
+    private final Predicate<Throwable> failoverPolicy;
 
     /**
      * Default ChatClient configured through standard Spring AI autoconfiguration.
@@ -42,8 +61,10 @@ public class ChatClientStore {
      * @param defaultClient default client to use when model is not specified
      */
     public ChatClientStore(final Map<String, ChatClient> clients, final ChatClient defaultClient) {
+        this.selectorFactory = LoadBalancingStrategy.FIRST::createSelector;
+        this.failoverPolicy = FailoverPolicy::isEndpointFailure;
         for (final Map.Entry<String, ChatClient> entry : clients.entrySet()) {
-            this.clients.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+            addClient(entry.getKey(), entry.getValue());
         }
         this.defaultClient = defaultClient;
         log.info("ChatClientStore initialized with {} models + default", clients.size());
@@ -60,8 +81,27 @@ public class ChatClientStore {
             final Map<String, List<ChatClient>> clientsMulti,
             final ChatClient defaultClient,
             final boolean multiProvider) {
+        this(clientsMulti, defaultClient, LoadBalancingStrategy.FIRST::createSelector, true);
+    }
+
+    /**
+     * Creates a new store with multiple ChatClients per model ID and a load balancing strategy.
+     *
+     * @param clientsMulti    map of clients where key is model ID, value is list of ChatClients
+     * @param defaultClient   default client to use when model is not specified
+     * @param selectorFactory creates the selector of each model's pool, e.g.
+     *                        {@code LoadBalancingStrategy.ROUND_ROBIN::createSelector}
+     * @param failover        whether failed calls are retried on the other clients of the model
+     */
+    public ChatClientStore(
+            final Map<String, List<ChatClient>> clientsMulti,
+            final ChatClient defaultClient,
+            final Supplier<? extends EndpointSelector> selectorFactory,
+            final boolean failover) {
+        this.selectorFactory = selectorFactory;
+        this.failoverPolicy = failover ? FailoverPolicy::isEndpointFailure : error -> false;
         for (final Map.Entry<String, List<ChatClient>> entry : clientsMulti.entrySet()) {
-            this.clients.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            this.clients.put(entry.getKey(), newPool(entry.getValue()));
         }
         this.defaultClient = defaultClient;
         final int totalClients =
@@ -73,22 +113,63 @@ public class ChatClientStore {
     }
 
     /**
-     * Gets the first ChatClient for the specified model.
+     * Gets the ChatClient chosen by the load balancing strategy for the specified model.
      * <p>
-     * This method maintains backward compatibility. If the model has multiple
-     * ChatClients (from different providers), only the first one is returned.
+     * With the default {@link LoadBalancingStrategy#FIRST} strategy this is always the first
+     * configured ChatClient. The returned client is not tracked by the pool statistics and
+     * calls made on it do not fail over; use {@link #call(String, Function)} for both.
      * Use {@link #getClients(String)} to get all ChatClients for a model.
      *
      * @param modelId unique model identifier
-     * @return first configured ChatClient for this model
+     * @return selected ChatClient for this model
      * @throws IllegalArgumentException if model with this ID is not found
      */
     public ChatClient get(final String modelId) {
-        final List<ChatClient> clientList = clients.get(modelId);
-        if (clientList == null || clientList.isEmpty()) {
-            throw new IllegalArgumentException("Chat model not found: " + modelId + ". Available: " + clients.keySet());
-        }
-        return clientList.get(0);
+        return getPool(modelId).select();
+    }
+
+    /**
+     * Runs a call on one of the ChatClients of the specified model.
+     * <p>
+     * The client is chosen by the load balancing strategy. On connection errors and
+     * HTTP 5xx responses the call is retried on the other clients of the model, or handed back
+     * to the caller if it was wrapped with {@link EndpointPool#deferFailover(Function)}.
+     *
+     * @param modelId unique model identifier
+     * @param call    the call to run, e.g. {@code client -> client.prompt(prompt).call().entity(type)}
+     * @param <R>     the result type
+     * @return the result of the first successful call
+     * @throws IllegalArgumentException if model with this ID is not found
+     */
+    public <R> R call(final String modelId, final Function<ChatClient, R> call) {
+        return getPool(modelId).call(call);
+    }
+
+    /**
+     * Runs a hedged duplicate of a call on the least busy ChatClient of the specified model.
+     * <p>
+     * While the original call is still running on one client, this prefers another client of
+     * the model; with a single client the duplicate runs on the same one.
+     *
+     * @param modelId unique model identifier
+     * @param call    the call to run
+     * @param <R>     the result type
+     * @return the result of the first successful call
+     * @throws IllegalArgumentException if model with this ID is not found
+     */
+    public <R> R callHedged(final String modelId, final Function<ChatClient, R> call) {
+        return getPool(modelId).callPreferringIdle(call);
+    }
+
+    /**
+     * Gets the live statistics of the ChatClients of the specified model.
+     *
+     * @param modelId unique model identifier
+     * @return statistics in registration order
+     * @throws IllegalArgumentException if model with this ID is not found
+     */
+    public List<EndpointStats> getStats(final String modelId) {
+        return getPool(modelId).getStats();
     }
 
     /**
@@ -102,11 +183,7 @@ public class ChatClientStore {
      * @throws IllegalArgumentException if model with this ID is not found
      */
     public List<ChatClient> getClients(final String modelId) {
-        final List<ChatClient> clientList = clients.get(modelId);
-        if (clientList == null || clientList.isEmpty()) {
-            throw new IllegalArgumentException("Chat model not found: " + modelId + ". Available: " + clients.keySet());
-        }
-        return List.copyOf(clientList);
+        return getPool(modelId).getEndpoints();
     }
 
     /**
@@ -130,7 +207,9 @@ public class ChatClientStore {
      * @return list of all ChatClient instances from configuration
      */
     public List<ChatClient> getAll() {
-        return clients.values().stream().flatMap(List::stream).toList();
+        return clients.values().stream()
+                .flatMap(pool -> pool.getEndpoints().stream())
+                .toList();
     }
 
     /**
@@ -170,7 +249,7 @@ public class ChatClientStore {
      * @return total number of ChatClients
      */
     public int getTotalClientCount() {
-        return clients.values().stream().mapToInt(List::size).sum();
+        return clients.values().stream().mapToInt(EndpointPool::size).sum();
     }
 
     /**
@@ -180,8 +259,8 @@ public class ChatClientStore {
      * @return number of ChatClients for this model, or 0 if not found
      */
     public int getClientCount(final String modelId) {
-        final List<ChatClient> clientList = clients.get(modelId);
-        return clientList != null ? clientList.size() : 0;
+        final EndpointPool<ChatClient> pool = clients.get(modelId);
+        return pool != null ? pool.size() : 0;
     }
 
     /**
@@ -194,7 +273,19 @@ public class ChatClientStore {
      * @param client  ChatClient to add
      */
     public void addClient(final String modelId, final ChatClient client) {
-        clients.computeIfAbsent(modelId, k -> new ArrayList<>()).add(client);
+        clients.computeIfAbsent(modelId, k -> newPool(List.of())).add(client);
         log.debug("Added ChatClient for model: {}, total for this model: {}", modelId, getClientCount(modelId));
     }
+
+    private EndpointPool<ChatClient> getPool(final String modelId) {
+        final EndpointPool<ChatClient> pool = clients.get(modelId);
+        if (pool == null || pool.size() == 0) {
+            throw new IllegalArgumentException("Chat model not found: " + modelId + ". Available: " + clients.keySet());
+        }
+        return pool;
+    }
+
+    private EndpointPool<ChatClient> newPool(final List<ChatClient> clientList) {
+        return new EndpointPool<>(clientList, selectorFactory.get(), failoverPolicy);
+    }
 }
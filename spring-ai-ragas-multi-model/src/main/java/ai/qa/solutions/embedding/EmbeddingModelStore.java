@@ -1,9 +1,16 @@
 package ai.qa.solutions.embedding;
 
-import java.util.ArrayList;
+import ai.qa.solutions.execution.balancing.EndpointPool;
+import ai.qa.solutions.execution.balancing.EndpointSelector;
+import ai.qa.solutions.execution.balancing.EndpointStats;
+import ai.qa.solutions.execution.balancing.FailoverPolicy;
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.embedding.EmbeddingModel;
 
@@ -17,7 +24,9 @@ import org.springframework.ai.embedding.EmbeddingModel;
  * Supports multiple EmbeddingModels per model ID, enabling scenarios where
  * the same model is configured in different providers (e.g., text-embedding-3-large
  * in both OpenAI and Azure). When a model ID has multiple EmbeddingModels, all of them
- * can be accessed via {@link #getModels(String)}.
+ * can be accessed via {@link #getModels(String)}, and calls made through
+ * {@link #call(String, Function)} are spread across them by the configured
+ * {@link LoadBalancingStrategy}, failing over on connection errors and HTTP 5xx responses.
  *
  * @see EmbeddingModelFactory
  */
@@ -25,10 +34,20 @@ import org.springframework.ai.embedding.EmbeddingModel;
 public class EmbeddingModelStore {
 
     /**
-     * Thread-safe map of models indexed by model ID.
+     * Thread-safe map of model pools indexed by model ID.
      * Each model ID can have multiple EmbeddingModels (e.g., same model from different providers).
      */
-    private final Map<String, List<EmbeddingModel>> models = new ConcurrentHashMap<>();
+    private final Map<String, EndpointPool<EmbeddingModel>> models = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the selector of each model's pool.
+     */
+    private final Supplier<? extends EndpointSelector> selectorFactory;
+
+    /**
+     * Errors retried on another EmbeddingModel of the same model ID.
+     */
+    private final Predicate<Throwable> failoverPolicy;
 
     /**
      * Default EmbeddingModel configured through standard Spring AI auto-configuration.
@@ -44,8 +63,10 @@ public class EmbeddingModelStore {
      * @param defaultModel default model to use when model is not specified
      */
     public EmbeddingModelStore(final Map<String, EmbeddingModel> models, final EmbeddingModel defaultModel) {
+        this.selectorFactory = LoadBalancingStrategy.FIRST::createSelector;
+        this.failoverPolicy = FailoverPolicy::isEndpointFailure;
         for (final Map.Entry<String, EmbeddingModel> entry : models.entrySet()) {
-            this.models.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+            addModel(entry.getKey(), entry.getValue());
         }
         this.defaultModel = defaultModel;
         log.info("EmbeddingModelStore initialized with {} models + default", models.size());
@@ -62,8 +83,27 @@ public class EmbeddingModelStore {
             final Map<String, List<EmbeddingModel>> modelsMulti,
             final EmbeddingModel defaultModel,
             final boolean multiProvider) {
+        this(modelsMulti, defaultModel, LoadBalancingStrategy.FIRST::createSelector, true);
+    }
+
+    /**
+     * Creates a new store with multiple EmbeddingModels per model ID and a load balancing strategy.
+     *
+     * @param modelsMulti     map of models where key is model ID, value is list of EmbeddingModels
+     * @param defaultModel    default model to use when model is not specified
+     * @param selectorFactory creates the selector of each model's pool, e.g.
+     *                        {@code LoadBalancingStrategy.ROUND_ROBIN::createSelector}
+     * @param failover        whether failed calls are retried on the other models of the model ID
+     */
+    public EmbeddingModelStore(
+            final Map<String, List<EmbeddingModel>> modelsMulti,
+            final EmbeddingModel defaultModel,
+            final Supplier<? extends EndpointSelector> selectorFactory,
+            final boolean failover) {
+        this.selectorFactory = selectorFactory;
+        this.failoverPolicy = failover ? FailoverPolicy::isEndpointFailure : error -> false;
         for (final Map.Entry<String, List<EmbeddingModel>> entry : modelsMulti.entrySet()) {
-            this.models.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            this.models.put(entry.getKey(), newPool(entry.getValue()));
         }
         this.defaultModel = defaultModel;
         final int totalModels =
@@ -75,23 +115,47 @@ public class EmbeddingModelStore {
     }
 
     /**
-     * Gets the first EmbeddingModel for the specified model.
+     * Gets the EmbeddingModel chosen by the load balancing strategy for the specified model.
      * <p>
-     * This method maintains backward compatibility. If the model has multiple
-     * EmbeddingModels (from different providers), only the first one is returned.
+     * With the default {@link LoadBalancingStrategy#FIRST} strategy this is always the first
+     * configured EmbeddingModel. The returned model is not tracked by the pool statistics and
+     * calls made on it do not fail over; use {@link #call(String, Function)} for both.
      * Use {@link #getModels(String)} to get all EmbeddingModels for a model.
      *
      * @param modelId unique model identifier
-     * @return first configured EmbeddingModel for this model
+     * @return selected EmbeddingModel for this model
      * @throws IllegalArgumentException if model with this ID is not found
      */
     public EmbeddingModel get(final String modelId) {
-        final List<EmbeddingModel> modelList = models.get(modelId);
-        if (modelList == null || modelList.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Embedding model not found: " + modelId + ". Available: " + models.keySet());
-        }
-        return modelList.get(0);
+        return getPool(modelId).select();
+    }
+
+    /**
+     * Runs a call on one of the EmbeddingModels of the specified model.
+     * <p>
+     * The model is chosen by the load balancing strategy. On connection errors and
+     * HTTP 5xx responses the call is retried on the other EmbeddingModels of the model ID, or
+     * handed back to the caller if it was wrapped with {@link EndpointPool#deferFailover(Function)}.
+     *
+     * @param modelId unique model identifier
+     * @param call    the call to run, e.g. {@code model -> model.embed(text)}
+     * @param <R>     the result type
+     * @return the result of the first successful call
+     * @throws IllegalArgumentException if model with this ID is not found
+     */
+    public <R> R call(final String modelId, final Function<EmbeddingModel, R> call) {
+        return getPool(modelId).call(call);
+    }
+
+    /**
+     * Gets the live statistics of the EmbeddingModels of the specified model.
+     *
+     * @param modelId unique model identifier
+     * @return statistics in registration order
+     * @throws IllegalArgumentException if model with this ID is not found
+     */
+    public List<EndpointStats> getStats(final String modelId) {
+        return getPool(modelId).getStats();
     }
 
     /**
@@ -104,12 +168,7 @@ public class EmbeddingModelStore {
      * @throws IllegalArgumentException if model with this ID is not found
      */
     public List<EmbeddingModel> getModels(final String modelId) {
-        final List<EmbeddingModel> modelList = models.get(modelId);
-        if (modelList == null || modelList.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "Embedding model not found: " + modelId + ". Available: " + models.keySet());
-        }
-        return List.copyOf(modelList);
+        return getPool(modelId).getEndpoints();
     }
 
     /**
@@ -133,7 +192,9 @@ public class EmbeddingModelStore {
      * @return list of all EmbeddingModel instances from configuration
      */
     public List<EmbeddingModel> getAll() {
-        return models.values().stream().flatMap(List::stream).toList();
+        return models.values().stream()
+                .flatMap(pool -> pool.getEndpoints().stream())
+                .toList();
     }
 
     /**
@@ -173,7 +234,7 @@ public class EmbeddingModelStore {
      * @return total number of EmbeddingModels
      */
     public int getTotalModelCount() {
-        return models.values().stream().mapToInt(List::size).sum();
+        return models.values().stream().mapToInt(EndpointPool::size).sum();
     }
 
     /**
@@ -183,8 +244,8 @@ public class EmbeddingModelStore {
      * @return number of EmbeddingModels for this model, or 0 if not found
      */
     public int getModelCount(final String modelId) {
-        final List<EmbeddingModel> modelList = models.get(modelId);
-        return modelList != null ? modelList.size() : 0;
+        final EndpointPool<EmbeddingModel> pool = models.get(modelId);
+        return pool != null ? pool.size() : 0;
     }
 
     /**
@@ -197,7 +258,20 @@ public class EmbeddingModelStore {
      * @param model   EmbeddingModel to add
      */
     public void addModel(final String modelId, final EmbeddingModel model) {
-        models.computeIfAbsent(modelId, k -> new ArrayList<>()).add(model);
+        models.computeIfAbsent(modelId, k -> newPool(List.of())).add(model);
         log.debug("Added EmbeddingModel for model: {}, total for this model: {}", modelId, getModelCount(modelId));
     }
+
+    private EndpointPool<EmbeddingModel> getPool(final String modelId) {
+        final EndpointPool<EmbeddingModel> pool = models.get(modelId);
+        if (pool == null || pool.size() == 0) {
+            throw new IllegalArgumentException(
+                    "Embedding model not found: " + modelId + ". Available: " + models.keySet());
+        }
+        return pool;
+    }
+
+    private EndpointPool<EmbeddingModel> newPool(final List<EmbeddingModel> modelList) {
+        return new EndpointPool<>(modelList, selectorFactory.get(), failoverPolicy);
+    }
 }
@@ -0,0 +1,259 @@
+package ai.qa.solutions.execution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Graph of the LLM and embedding calls of several metric evaluations, with identical calls merged.
+ * <p>
+ * Used through {@link MultiModelExecutor#withCallGraph}: every call the executor view receives
+ * becomes a node keyed by model and prompt (and response type) or by model and embedded text.
+ * The first request of a node sends the call; every later request of the same node, whether the
+ * call is still running or already done, gets its result instead of calling the model again.
+ * A node runs as soon as the metric step requesting it is ready, so independent steps of all
+ * metrics run concurrently while each metric's own steps keep their order.
+ * <p>
+ * Unlike single-flight, nodes are kept for the lifetime of the graph, which should be one
+ * evaluation of a metric suite on one sample. Failed nodes are kept as well: requesting an
+ * identical call again within the same evaluation would fail the same way. Shared nodes ignore
+ * cancellation, since other metrics may still need them.
+ *
+ * @see MultiModelExecutor#withCallGraph(CallGraph)
+ */
+public class CallGraph {
+
+    private final Map<NodeKey, CompletableFuture<? extends ModelResult<?>>> nodes = new ConcurrentHashMap<>();
+    private final AtomicLong plannedLlmCalls = new AtomicLong();
+    private final AtomicLong executedLlmCalls = new AtomicLong();
+    private final AtomicLong plannedEmbeddings = new AtomicLong();
+    private final AtomicLong executedEmbeddings = new AtomicLong();
+
+    /**
+     * Gets the result of an LLM node, sending the call if the node is new.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the prompt
+     * @param responseType the expected response type
+     * @param call         sends the call
+     * @param <R>          the response type
+     * @return future with the node's result, completing it does not affect other requests of the node
+     */
+    public <R> CompletableFuture<ModelResult<R>> llmNode(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final Supplier<CompletableFuture<ModelResult<R>>> call) {
+        return llmNode(modelId, prompt, responseType, 0, call);
+    }
+
+    /**
+     * Gets the result of one sample of an LLM node, sending the call if the sample is new.
+     * <p>
+     * Samples of the same prompt are separate nodes (see
+     * {@link MultiModelExecutor#executeLlmSampleOnModelAsync}), so repeated calls of a
+     * self-consistency vote are never merged into one; sample 0 is the plain call.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the prompt
+     * @param responseType the expected response type
+     * @param sample       index of the sample, 0 for a plain call
+     * @param call         sends the call
+     * @param <R>          the response type
+     * @return future with the node's result, completing it does not affect other requests of the node
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<ModelResult<R>> llmNode(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int sample,
+            final Supplier<CompletableFuture<ModelResult<R>>> call) {
+        plannedLlmCalls.incrementAndGet();
+        final NodeKey key = new NodeKey(modelId, responseType, prompt, sample);
+        final CompletableFuture<ModelResult<R>> created = new CompletableFuture<>();
+        final CompletableFuture<ModelResult<R>> existing =
+                (CompletableFuture<ModelResult<R>>) nodes.putIfAbsent(key, created);
+        if (existing != null) {
+            return reuse(existing);
+        }
+        executedLlmCalls.incrementAndGet();
+        run(call, created);
+        return created.copy();
+    }
+
+    /**
+     * Gets the result of an embedding node, sending the call if the node is new.
+     *
+     * @param modelId the embedding model ID
+     * @param text    the text to embed
+     * @param call    sends the call
+     * @return future with the node's result, completing it does not affect other requests of the node
+     */
+    public CompletableFuture<ModelResult<float[]>> embeddingNode(
+            final String modelId, final String text, final Supplier<CompletableFuture<ModelResult<float[]>>> call) {
+        plannedEmbeddings.incrementAndGet();
+        final NodeKey key = new NodeKey(modelId, float[].class, text, 0);
+        final CompletableFuture<ModelResult<float[]>> created = new CompletableFuture<>();
+        final CompletableFuture<ModelResult<float[]>> existing = embeddingFuture(nodes.putIfAbsent(key, created));
+        if (existing != null) {
+            return reuse(existing);
+        }
+        executedEmbeddings.incrementAndGet();
+        run(call, created);
+        return created.copy();
+    }
+
+    /**
+     * Gets the results of one embedding node per text, sending the new ones as one batched call.
+     *
+     * @param modelId the embedding model ID
+     * @param texts   the texts to embed
+     * @param call    sends a batched call for the given texts, returning embeddings in input order
+     * @return future with the embeddings in input order, or the first failure
+     */
+    public CompletableFuture<ModelResult<List<float[]>>> embeddingsNode(
+            final String modelId,
+            final List<String> texts,
+            final Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> call) {
+        plannedEmbeddings.addAndGet(texts.size());
+        final List<CompletableFuture<ModelResult<float[]>>> perText = new ArrayList<>();
+        final List<String> missing = new ArrayList<>();
+        final List<CompletableFuture<ModelResult<float[]>>> missingNodes = new ArrayList<>();
+        boolean allReused = true;
+        for (final String text : texts) {
+            final CompletableFuture<ModelResult<float[]>> created = new CompletableFuture<>();
+            final CompletableFuture<ModelResult<float[]>> existing =
+                    embeddingFuture(nodes.putIfAbsent(new NodeKey(modelId, float[].class, text, 0), created));
+            if (existing != null) {
+                perText.add(reuse(existing));
+            } else {
+                allReused = false;
+                perText.add(created.copy());
+                missing.add(text);
+                missingNodes.add(created);
+            }
+        }
+        if (!missing.isEmpty()) {
+            executedEmbeddings.addAndGet(missing.size());
+            run(() -> call.apply(missing), new CompletableFuture<ModelResult<List<float[]>>>())
+                    .whenComplete((batch, error) -> {
+                        for (int i = 0; i < missingNodes.size(); i++) {
+                            if (error != null) {
+                                missingNodes.get(i).completeExceptionally(error);
+                            } else {
+                                final int index = i;
+                                missingNodes.get(i).complete(batch.map(embeddings -> embeddings.get(index)));
+                            }
+                        }
+                    });
+        }
+        final String request = String.join(", ", texts);
+        final boolean cached = allReused;
+        return CompletableFuture.allOf(perText.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    final List<float[]> embeddings = new ArrayList<>();
+                    Duration duration = Duration.ZERO;
+                    for (final CompletableFuture<ModelResult<float[]>> future : perText) {
+                        final ModelResult<float[]> result = future.join();
+                        if (result.isFailure()) {
+                            return ModelResult.failure(modelId, result.duration(), request, result.error());
+                        }
+                        embeddings.add(result.result());
+                        duration = duration.compareTo(result.duration()) >= 0 ? duration : result.duration();
+                    }
+                    return new ModelResult<>(modelId, List.copyOf(embeddings), duration, request, null, cached);
+                });
+    }
+
+    /**
+     * Gets the call counts of this graph so far.
+     *
+     * @return planned and executed calls
+     */
+    public Counts getCounts() {
+        return new Counts(
+                plannedLlmCalls.get(), executedLlmCalls.get(), plannedEmbeddings.get(), executedEmbeddings.get());
+    }
+
+    private static <T> CompletableFuture<T> run(
+            final Supplier<CompletableFuture<T>> call, final CompletableFuture<T> node) {
+        final CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (final RuntimeException e) {
+            node.completeExceptionally(e);
+            return node;
+        }
+        started.whenComplete((result, error) -> {
+            if (error != null) {
+                node.completeExceptionally(error);
+            } else {
+                node.complete(result);
+            }
+        });
+        return node;
+    }
+
+    /**
+     * Returns a merged node's result; a result that was already available is marked as cached.
+     */
+    private static <R> CompletableFuture<ModelResult<R>> reuse(final CompletableFuture<ModelResult<R>> node) {
+        final boolean completed = node.isDone();
+        return node.thenApply(result -> completed && result.isSuccess()
+                ? ModelResult.fromCache(result.modelId(), result.result(), Duration.ZERO, result.request())
+                : result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<ModelResult<float[]>> embeddingFuture(
+            final CompletableFuture<? extends ModelResult<?>> node) {
+        return (CompletableFuture<ModelResult<float[]>>) node;
+    }
+
+    private record NodeKey(String modelId, Class<?> type, String input, int sample) {}
+
+    /**
+     * Calls requested by the evaluations of a graph and calls actually sent.
+     *
+     * @param plannedLlmCalls    LLM calls requested by the metrics
+     * @param executedLlmCalls   LLM calls sent after merging identical ones
+     * @param plannedEmbeddings  texts the metrics requested embeddings for
+     * @param executedEmbeddings texts embedded after merging identical ones
+     */
+    public record Counts(long plannedLlmCalls, long executedLlmCalls, long plannedEmbeddings, long executedEmbeddings) {
+
+        /**
+         * Gets the number of calls the metrics requested.
+         *
+         * @return planned LLM calls and embeddings
+         */
+        public long planned() {
+            return plannedLlmCalls + plannedEmbeddings;
+        }
+
+        /**
+         * Gets the number of calls actually sent.
+         *
+         * @return executed LLM calls and embeddings
+         */
+        public long executed() {
+            return executedLlmCalls + executedEmbeddings;
+        }
+
+        /**
+         * Gets the number of calls saved by merging identical nodes.
+         *
+         * @return planned minus executed calls
+         */
+        public long saved() {
+            return planned() - executed();
+        }
+    }
+}
@@ -13,6 +13,8 @@ import java.util.function.Function;
  *   <li>How long it took</li>
  *   <li>What request was sent</li>
  *   <li>Any error that occurred</li>
+ *   <li>Whether it was served from a response cache</li>
+ *   <li>How many attempts it took</li>
  * </ul>
  *
  * <h3>Usage Example:</h3>
@@ -35,8 +37,47 @@ import java.util.function.Function;
  * @param duration how long the call took
  * @param request  the request that was sent (prompt for LLM, text for embedding)
  * @param error    the error that occurred, null if successful
+ * @param cached   whether the result was served from a response cache instead of calling the model;
+ *                 the duration is then the cache lookup time
+ * @param attempts the number of calls sent to the model for this result, including retries;
+ *                 the duration is then the sum of the attempt durations, without backoff waits
  */
-public record ModelResult<R>(String modelId, R result, Duration duration, String request, Throwable error) {
+public record ModelResult<R>(
+        String modelId, R result, Duration duration, String request, Throwable error, boolean cached, int attempts) {
+
+    /**
+     * Creates a result that took a single attempt.
+     *
+     * @param modelId  the ID of the model that was called
+     * @param result   the result value, null if error occurred
+     * @param duration how long the call took
+     * @param request  the request that was sent
+     * @param error    the error that occurred, null if successful
+     * @param cached   whether the result was served from a response cache
+     */
+    public ModelResult(
+            final String modelId,
+            final R result,
+            final Duration duration,
+            final String request,
+            final Throwable error,
+            final boolean cached) {
+        this(modelId, result, duration, request, error, cached, 1);
+    }
+
+    /**
+     * Creates a result that was produced by calling the model.
+     *
+     * @param modelId  the ID of the model that was called
+     * @param result   the result value, null if error occurred
+     * @param duration how long the call took
+     * @param request  the request that was sent
+     * @param error    the error that occurred, null if successful
+     */
+    public ModelResult(
+            final String modelId, final R result, final Duration duration, final String request, final Throwable error) {
+        this(modelId, result, duration, request, error, false);
+    }
 
     /**
      * Checks if this execution was successful.
@@ -56,6 +97,15 @@ public record ModelResult<R>(String modelId, R result, Duration duration, String
         return error != null;
     }
 
+    /**
+     * Checks if failed attempts were retried to produce this result.
+     *
+     * @return true if more than one attempt was made
+     */
+    public boolean isRetried() {
+        return attempts > 1;
+    }
+
     /**
      * Gets the result or throws if the execution failed.
      *
@@ -80,9 +130,9 @@ public record ModelResult<R>(String modelId, R result, Duration duration, String
      */
     public <U> ModelResult<U> map(final Function<R, U> mapper) {
         if (isSuccess()) {
-            return new ModelResult<>(modelId, mapper.apply(result), duration, request, null);
+            return new ModelResult<>(modelId, mapper.apply(result), duration, request, null, cached, attempts);
         }
-        return new ModelResult<>(modelId, null, duration, request, error);
+        return new ModelResult<>(modelId, null, duration, request, error, cached, attempts);
     }
 
     /**
@@ -100,6 +150,21 @@ public record ModelResult<R>(String modelId, R result, Duration duration, String
         return new ModelResult<>(modelId, result, duration, request, null);
     }
 
+    /**
+     * Creates a successful result served from a response cache.
+     *
+     * @param modelId  the model ID
+     * @param result   the cached result value
+     * @param duration the cache lookup duration
+     * @param request  the request that would have been sent
+     * @param <R>      the result type
+     * @return a successful ModelResult marked as cached
+     */
+    public static <R> ModelResult<R> fromCache(
+            final String modelId, final R result, final Duration duration, final String request) {
+        return new ModelResult<>(modelId, result, duration, request, null, true);
+    }
+
     /**
      * Creates a failed result.
      *
@@ -2,30 +2,82 @@ package ai.qa.solutions.execution;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
+import ai.qa.solutions.execution.balancing.EndpointPool;
+import ai.qa.solutions.execution.balancing.FailoverPendingException;
+import ai.qa.solutions.execution.batching.EmbeddingBatchPolicy;
+import ai.qa.solutions.execution.batching.EmbeddingMicroBatcher;
+import ai.qa.solutions.execution.cache.EmbeddingCache;
+import ai.qa.solutions.execution.cache.LlmResponseCache;
+import ai.qa.solutions.execution.cache.ReferenceArtifact;
+import ai.qa.solutions.execution.cache.ReferenceArtifactStore;
+import ai.qa.solutions.execution.circuit.CircuitOpenException;
+import ai.qa.solutions.execution.circuit.ProviderCircuitBreakerRegistry;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyLimiter;
+import ai.qa.solutions.execution.hedging.HedgingPolicy;
+import ai.qa.solutions.execution.hedging.RequestHedger;
 import ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry;
+import ai.qa.solutions.execution.ratelimit.TokenEstimator;
+import ai.qa.solutions.execution.retry.FailureClassifier;
+import ai.qa.solutions.execution.retry.FailureType;
+import ai.qa.solutions.execution.retry.RetryPolicy;
+import ai.qa.solutions.execution.timeout.Deadline;
+import ai.qa.solutions.execution.timeout.ExecutionTimeouts;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import com.fasterxml.jackson.core.JacksonException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ResponseEntity;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.lang.Nullable;
 
 /**
- * Stateless executor for making LLM and embedding calls across multiple models.
+ * Executor for making LLM and embedding calls across multiple models.
  * <p>
  * This executor:
  * <ul>
- *   <li>Does NOT manage any listeners (stateless)</li>
+ *   <li>Does NOT manage any listeners (metrics do this)</li>
  *   <li>Does NOT aggregate scores (metrics do this)</li>
  *   <li>Does NOT track chain state (metrics do this)</li>
- *   <li>Simply executes calls on configured models in parallel and returns results</li>
+ *   <li>Executes calls on configured models in parallel and returns results</li>
  * </ul>
  * <p>
+ * One instance serves every metric and evaluation, and holds state shared by all their calls:
+ * <ul>
+ *   <li>LLM response, embedding and reference artifact caches</li>
+ *   <li>Single-flight map of identical LLM calls in flight</li>
+ *   <li>Embedding micro-batches waiting to be sent</li>
+ *   <li>Per-model latency windows of the request hedger</li>
+ *   <li>Rate limit tokens, circuit breakers and adaptive concurrency limits per provider</li>
+ *   <li>Coalesced call, hedge and retry counters</li>
+ * </ul>
+ * All of it is thread-safe. The views returned by {@link #withDeadline}, {@link #forMetric} and
+ * {@link #withCallGraph} only add a deadline or a call graph: they share this state with the
+ * executor they were created from, so their calls hit the same caches, limits and counters.
+ * <p>
  * All execution methods return {@link ModelResult} objects containing:
  * <ul>
  *   <li>Model ID</li>
@@ -68,6 +120,46 @@ public class MultiModelExecutor {
     @Nullable
     private final ProviderRateLimiterRegistry rateLimiterRegistry;
 
+    @Nullable
+    private final LlmResponseCache responseCache;
+
+    private final EmbeddingBatchPolicy embeddingBatchPolicy;
+
+    @Nullable
+    private final EmbeddingMicroBatcher embeddingMicroBatcher;
+
+    @Nullable
+    private final EmbeddingCache embeddingCache;
+
+    private final boolean singleFlight;
+    private final Map<InFlightKey, InFlightCall> inFlightLlmCalls;
+    private final AtomicLong coalescedCalls;
+
+    private final ExecutionTimeouts timeouts;
+
+    @Nullable
+    private final RequestHedger hedger;
+
+    @Nullable
+    private final ReferenceArtifactStore referenceArtifactStore;
+
+    @Nullable
+    private final ProviderCircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Nullable
+    private final RetryPolicy retryPolicy;
+
+    private final AtomicLong retries;
+
+    @Nullable
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Nullable
+    private final Deadline deadline;
+
+    @Nullable
+    private final CallGraph callGraph;
+
     /**
      * Creates a new executor without embedding support (single executor for both layers).
      *
@@ -120,8 +212,9 @@ public class MultiModelExecutor {
      * handles LLM and embedding API calls.
      * <p>
      * When a {@link ProviderRateLimiterRegistry} is provided, all API calls are throttled
-     * through per-provider token buckets before execution. Rate limit wait time is not
-     * counted towards the {@link ModelResult#duration()}.
+     * through per-provider token buckets before execution. Calls are submitted to the HTTP
+     * executor only after their token is granted, so throttled providers do not hold HTTP
+     * threads. Rate limit wait time is not counted towards the {@link ModelResult#duration()}.
      *
      * @param chatClientStore      store of configured AI model clients
      * @param embeddingModelStore  store of configured embedding models (nullable)
@@ -135,11 +228,272 @@ public class MultiModelExecutor {
             final AsyncTaskExecutor metricExecutor,
             final AsyncTaskExecutor httpExecutor,
             @Nullable final ProviderRateLimiterRegistry rateLimiterRegistry) {
+        this(chatClientStore, embeddingModelStore, metricExecutor, httpExecutor, rateLimiterRegistry, null);
+    }
+
+    /**
+     * Creates a new executor with separate executors, optional rate limiting and an optional
+     * LLM response cache.
+     * <p>
+     * When a {@link LlmResponseCache} is provided, LLM calls are looked up in the cache before
+     * acquiring a rate limit token. Hits return {@link ModelResult#fromCache} results without
+     * calling the model; successful responses of cache misses are stored. Embedding calls use
+     * a separate {@link EmbeddingCache} configured via {@link #builder()}.
+     *
+     * @param chatClientStore      store of configured AI model clients
+     * @param embeddingModelStore  store of configured embedding models (nullable)
+     * @param metricExecutor       executor for metric-level async operations (runAsync)
+     * @param httpExecutor         executor for HTTP/LLM API calls
+     * @param rateLimiterRegistry  per-provider rate limiter registry (nullable, no rate limiting if null)
+     * @param responseCache        LLM response cache (nullable, no caching if null)
+     */
+    public MultiModelExecutor(
+            final ChatClientStore chatClientStore,
+            @Nullable final EmbeddingModelStore embeddingModelStore,
+            final AsyncTaskExecutor metricExecutor,
+            final AsyncTaskExecutor httpExecutor,
+            @Nullable final ProviderRateLimiterRegistry rateLimiterRegistry,
+            @Nullable final LlmResponseCache responseCache) {
+        this(
+                chatClientStore,
+                embeddingModelStore,
+                metricExecutor,
+                httpExecutor,
+                rateLimiterRegistry,
+                responseCache,
+                null);
+    }
+
+    /**
+     * Creates a new executor with separate executors, optional rate limiting, an optional
+     * LLM response cache and custom limits for batched embedding requests.
+     * <p>
+     * {@link #executeEmbeddingsOnModelAsync} splits its texts into sub-batches according to the
+     * {@link EmbeddingBatchPolicy} and sends each sub-batch as one request, acquiring one rate
+     * limit token per sub-batch.
+     *
+     * @param chatClientStore      store of configured AI model clients
+     * @param embeddingModelStore  store of configured embedding models (nullable)
+     * @param metricExecutor       executor for metric-level async operations (runAsync)
+     * @param httpExecutor         executor for HTTP/LLM API calls
+     * @param rateLimiterRegistry  per-provider rate limiter registry (nullable, no rate limiting if null)
+     * @param responseCache        LLM response cache (nullable, no caching if null)
+     * @param embeddingBatchPolicy limits of batched embedding requests (nullable, defaults if null)
+     */
+    public MultiModelExecutor(
+            final ChatClientStore chatClientStore,
+            @Nullable final EmbeddingModelStore embeddingModelStore,
+            final AsyncTaskExecutor metricExecutor,
+            final AsyncTaskExecutor httpExecutor,
+            @Nullable final ProviderRateLimiterRegistry rateLimiterRegistry,
+            @Nullable final LlmResponseCache responseCache,
+            @Nullable final EmbeddingBatchPolicy embeddingBatchPolicy) {
+        this(
+                chatClientStore,
+                embeddingModelStore,
+                metricExecutor,
+                httpExecutor,
+                rateLimiterRegistry,
+                responseCache,
+                embeddingBatchPolicy,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * Creates a new executor with all optional components.
+     * <p>
+     * This is the constructor behind {@link #builder()}. With an {@link EmbeddingMicroBatcher},
+     * embedding requests of concurrent callers for the same model are coalesced into shared
+     * batched calls; each coalesced call is still split by the {@link EmbeddingBatchPolicy}.
+     * With an {@link EmbeddingCache}, only texts without a cached vector reach the model.
+     * With {@link ExecutionTimeouts}, calls exceeding their timeout are cancelled and fail with
+     * a {@link ModelCallTimeoutException}. With a {@link HedgingPolicy}, slow LLM calls are
+     * duplicated and the first response is used. With a {@link ReferenceArtifactStore},
+     * reference-side steps run through {@link #executeReferenceLlmOnModelAsync} are served from
+     * artifacts of earlier runs. With a {@link ProviderCircuitBreakerRegistry}, calls to a
+     * provider whose circuit is open fail fast with a {@link CircuitOpenException}. With a
+     * {@link RetryPolicy}, LLM calls failing with a transient error are retried with backoff.
+     * With an {@link AdaptiveConcurrencyLimiter}, calls to a provider beyond its current
+     * concurrency limit wait for a free slot.
+     *
+     * @param chatClientStore        store of configured AI model clients
+     * @param embeddingModelStore    store of configured embedding models (nullable)
+     * @param metricExecutor         executor for metric-level async operations (runAsync)
+     * @param httpExecutor           executor for HTTP/LLM API calls
+     * @param rateLimiterRegistry    per-provider rate limiter registry (nullable, no rate limiting if null)
+     * @param responseCache          LLM response cache (nullable, no caching if null)
+     * @param embeddingBatchPolicy   limits of batched embedding requests (nullable, defaults if null)
+     * @param embeddingMicroBatcher  coalesces concurrent embedding requests (nullable, no coalescing if null)
+     * @param embeddingCache         cache of embedding vectors (nullable, no caching if null)
+     * @param singleFlight           whether identical in-flight LLM calls share one request (nullable, true if null)
+     * @param timeouts               call and evaluation timeouts (nullable, no timeouts if null)
+     * @param hedgingPolicy          hedging of slow LLM calls (nullable, no hedging if null)
+     * @param referenceArtifactStore store of reference-side artifacts (nullable, no reuse across runs if null)
+     * @param circuitBreakerRegistry per-provider circuit breakers (nullable, no circuit breaking if null)
+     * @param retryPolicy            retries of failed LLM calls (nullable, no retries if null)
+     * @param concurrencyLimiter     adaptive per-provider concurrency limits (nullable, no limits if null)
+     */
+    @Builder
+    protected MultiModelExecutor(
+            final ChatClientStore chatClientStore,
+            @Nullable final EmbeddingModelStore embeddingModelStore,
+            final AsyncTaskExecutor metricExecutor,
+            final AsyncTaskExecutor httpExecutor,
+            @Nullable final ProviderRateLimiterRegistry rateLimiterRegistry,
+            @Nullable final LlmResponseCache responseCache,
+            @Nullable final EmbeddingBatchPolicy embeddingBatchPolicy,
+            @Nullable final EmbeddingMicroBatcher embeddingMicroBatcher,
+            @Nullable final EmbeddingCache embeddingCache,
+            @Nullable final Boolean singleFlight,
+            @Nullable final ExecutionTimeouts timeouts,
+            @Nullable final HedgingPolicy hedgingPolicy,
+            @Nullable final ReferenceArtifactStore referenceArtifactStore,
+            @Nullable final ProviderCircuitBreakerRegistry circuitBreakerRegistry,
+            @Nullable final RetryPolicy retryPolicy,
+            @Nullable final AdaptiveConcurrencyLimiter concurrencyLimiter) {
         this.chatClientStore = Objects.requireNonNull(chatClientStore, "chatClientStore");
         this.embeddingModelStore = embeddingModelStore;
         this.metricExecutor = Objects.requireNonNull(metricExecutor, "metricExecutor");
         this.httpExecutor = Objects.requireNonNull(httpExecutor, "httpExecutor");
         this.rateLimiterRegistry = rateLimiterRegistry;
+        this.responseCache = responseCache;
+        this.embeddingBatchPolicy =
+                embeddingBatchPolicy != null ? embeddingBatchPolicy : EmbeddingBatchPolicy.defaults();
+        this.embeddingMicroBatcher = embeddingMicroBatcher;
+        this.embeddingCache = embeddingCache;
+        this.singleFlight = singleFlight == null || singleFlight;
+        this.inFlightLlmCalls = new ConcurrentHashMap<>();
+        this.coalescedCalls = new AtomicLong();
+        this.timeouts = timeouts != null ? timeouts : ExecutionTimeouts.none();
+        this.hedger = hedgingPolicy != null ? new RequestHedger(hedgingPolicy) : null;
+        this.referenceArtifactStore = referenceArtifactStore;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryPolicy = retryPolicy;
+        this.retries = new AtomicLong();
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.deadline = null;
+        this.callGraph = null;
+    }
+
+    /**
+     * Creates a view of an executor bound to a deadline and a call graph, sharing all components and state.
+     */
+    private MultiModelExecutor(
+            final MultiModelExecutor parent,
+            @Nullable final Deadline deadline,
+            @Nullable final CallGraph callGraph) {
+        this.chatClientStore = parent.chatClientStore;
+        this.embeddingModelStore = parent.embeddingModelStore;
+        this.metricExecutor = parent.metricExecutor;
+        this.httpExecutor = parent.httpExecutor;
+        this.rateLimiterRegistry = parent.rateLimiterRegistry;
+        this.responseCache = parent.responseCache;
+        this.embeddingBatchPolicy = parent.embeddingBatchPolicy;
+        this.embeddingMicroBatcher = parent.embeddingMicroBatcher;
+        this.embeddingCache = parent.embeddingCache;
+        this.singleFlight = parent.singleFlight;
+        this.inFlightLlmCalls = parent.inFlightLlmCalls;
+        this.coalescedCalls = parent.coalescedCalls;
+        this.timeouts = parent.timeouts;
+        this.hedger = parent.hedger;
+        this.referenceArtifactStore = parent.referenceArtifactStore;
+        this.circuitBreakerRegistry = parent.circuitBreakerRegistry;
+        this.retryPolicy = parent.retryPolicy;
+        this.retries = parent.retries;
+        this.concurrencyLimiter = parent.concurrencyLimiter;
+        this.deadline = deadline;
+        this.callGraph = callGraph;
+    }
+
+    // ============ Deadlines ============
+
+    /**
+     * Returns a view of this executor whose calls all honor the given deadline.
+     * <p>
+     * Each call gets the smaller of its model's call timeout and the time left until the
+     * deadline; once the deadline has passed, calls fail immediately with a
+     * {@link ModelCallTimeoutException} without reaching the model. The view shares models,
+     * caches, rate limits and statistics with this executor. If this executor already has a
+     * deadline, the earlier one applies.
+     *
+     * @param deadline the deadline to apply
+     * @return executor view bound to the deadline
+     */
+    public MultiModelExecutor withDeadline(final Deadline deadline) {
+        return new MultiModelExecutor(
+                this, Objects.requireNonNull(deadline, "deadline").earliest(this.deadline), callGraph);
+    }
+
+    /**
+     * Returns the executor for one evaluation of a metric.
+     * <p>
+     * Starts the metric's evaluation deadline from {@link ExecutionTimeouts} now. Metrics obtain
+     * it once per evaluation and use it for all steps, so later steps only get the remaining
+     * budget.
+     *
+     * @param metricName the metric name
+     * @return executor view bound to the metric's deadline, or this executor if the metric has none
+     */
+    public MultiModelExecutor forMetric(final String metricName) {
+        final Duration budget = timeouts.evaluationTimeoutFor(metricName);
+        return budget != null ? withDeadline(Deadline.after(budget)) : this;
+    }
+
+    /**
+     * Gets the deadline this executor is bound to.
+     *
+     * @return the deadline, or null if calls are only limited by their call timeouts
+     */
+    @Nullable
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    // ============ Call Graphs ============
+
+    /**
+     * Returns a view of this executor whose calls all become nodes of the given call graph.
+     * <p>
+     * LLM calls with the same model, prompt and response type and embeddings of the same text
+     * on the same model are sent once per graph; every other request of the node gets the
+     * first call's result. Nodes are shared between all views bound to the graph, e.g. the
+     * evaluations of every metric of a suite on one sample, and ignore cancellation. The view
+     * keeps this executor's deadline, which only cuts this view's wait for a node, never the
+     * node itself.
+     *
+     * @param callGraph the call graph to add calls to
+     * @return executor view bound to the call graph
+     */
+    public MultiModelExecutor withCallGraph(final CallGraph callGraph) {
+        return new MultiModelExecutor(this, deadline, Objects.requireNonNull(callGraph, "callGraph"));
+    }
+
+    /**
+     * Gets the executor the nodes of the call graph are sent on: this one without its deadline.
+     * <p>
+     * A node may serve metrics with other budgets, so it is only limited by its call timeouts;
+     * each view enforces its own deadline on its wait for the node.
+     */
+    private MultiModelExecutor nodeExecutor() {
+        return deadline == null ? this : new MultiModelExecutor(this, null, callGraph);
+    }
+
+    /**
+     * Gets the call graph this executor is bound to.
+     *
+     * @return the call graph, or null if calls are not merged beyond single-flight
+     */
+    @Nullable
+    public CallGraph getCallGraph() {
+        return callGraph;
     }
 
     // ============ LLM Operations - All Models ============
@@ -206,6 +560,106 @@ public class MultiModelExecutor {
                 .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
     }
 
+    // ============ LLM Operations - Quorum ============
+
+    /**
+     * Executes LLM call on specified models until the quorum policy is reached.
+     *
+     * @param modelIds     list of model IDs to execute on
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param policy       decides when enough models have answered
+     * @param <R>          the response type
+     * @return list of results from specified models
+     * @see #executeLlmQuorumAsync(List, String, Class, QuorumPolicy)
+     */
+    public <R> List<ModelResult<R>> executeLlmQuorum(
+            final List<String> modelIds,
+            final String prompt,
+            final Class<R> responseType,
+            final QuorumPolicy<R> policy) {
+        return executeLlmQuorumAsync(modelIds, prompt, responseType, policy).join();
+    }
+
+    /**
+     * Executes LLM call on specified models in parallel until the quorum policy is reached (async).
+     * <p>
+     * The policy is checked after every model result. Once it is reached, the calls still running
+     * are cancelled and returned as failures with a {@link CancellationException}, so they are easy
+     * to tell apart from models that actually failed. A call shared with an identical in-flight
+     * call of another caller keeps running for that caller. If the policy is never reached, all
+     * models are awaited as with {@link #executeLlmAsync(List, String, Class)}.
+     *
+     * @param modelIds     list of model IDs to execute on
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param policy       decides when enough models have answered
+     * @param <R>          the response type
+     * @return future with one result per model, in the order of {@code modelIds}
+     */
+    public <R> CompletableFuture<List<ModelResult<R>>> executeLlmQuorumAsync(
+            final List<String> modelIds,
+            final String prompt,
+            final Class<R> responseType,
+            final QuorumPolicy<R> policy) {
+        Objects.requireNonNull(policy, "policy");
+        if (modelIds == null || modelIds.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        final Instant start = Instant.now();
+        final CompletableFuture<Void> cancellation = new CompletableFuture<>();
+        final CompletableFuture<List<ModelResult<R>>> quorum = new CompletableFuture<>();
+        final List<ModelResult<R>> completed = new ArrayList<>();
+        final List<CompletableFuture<ModelResult<R>>> futures = modelIds.stream()
+                .map(modelId -> executeLlmOnModelAsync(modelId, prompt, responseType, cancellation))
+                .toList();
+        for (final CompletableFuture<ModelResult<R>> future : futures) {
+            future.thenAccept(result -> {
+                final int answered;
+                synchronized (completed) {
+                    if (quorum.isDone()) {
+                        return;
+                    }
+                    completed.add(result);
+                    if (!policy.isReached(List.copyOf(completed), modelIds.size())) {
+                        return;
+                    }
+                    answered = completed.size();
+                }
+                final Duration elapsed = Duration.between(start, Instant.now());
+                final List<ModelResult<R>> results = new ArrayList<>(futures.size());
+                for (int i = 0; i < futures.size(); i++) {
+                    final CompletableFuture<ModelResult<R>> modelFuture = futures.get(i);
+                    results.add(
+                            modelFuture.isDone() && !modelFuture.isCompletedExceptionally()
+                                    ? modelFuture.join()
+                                    : ModelResult.failure(
+                                            modelIds.get(i),
+                                            elapsed,
+                                            prompt,
+                                            new CancellationException("Quorum " + policy.getName()
+                                                    + " reached before model " + modelIds.get(i) + " answered")));
+                }
+                if (quorum.complete(results) && answered < futures.size()) {
+                    log.debug(
+                            "Quorum {} reached after {} of {} models, cancelling the rest",
+                            policy.getName(),
+                            answered,
+                            futures.size());
+                    cancellation.complete(null);
+                }
+            });
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, error) -> {
+            if (error != null) {
+                quorum.completeExceptionally(error);
+            } else {
+                quorum.complete(futures.stream().map(CompletableFuture::join).toList());
+            }
+        });
+        return quorum;
+    }
+
     // ============ LLM Operations - Single Model ============
 
     /**
@@ -224,6 +678,11 @@ public class MultiModelExecutor {
 
     /**
      * Executes LLM call on a SPECIFIC model (async).
+     * <p>
+     * Unless single-flight is disabled, a call identical to one still in flight (same model,
+     * prompt and response type) does not send a second request but shares the result of the
+     * running call. See {@link #getCoalescedCallCount()}. Use
+     * {@link #executeLlmSampleOnModelAsync} to send the same prompt several times on purpose.
      *
      * @param modelId      the model ID to execute on
      * @param prompt       the prompt to send
@@ -233,27 +692,460 @@ public class MultiModelExecutor {
      */
     public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
             final String modelId, final String prompt, final Class<R> responseType) {
-        return httpExecutor.submitCompletable(() -> {
-            try {
-                acquireRateLimit(modelId);
-            } catch (Exception e) {
-                log.warn("Model {} rate limited: {}", modelId, e.getMessage());
-                return ModelResult.<R>failure(modelId, Duration.ZERO, prompt, e);
+        return executeLlmOnModelAsync(modelId, prompt, responseType, null);
+    }
+
+    /**
+     * Executes a cancellable LLM call on a SPECIFIC model (async).
+     * <p>
+     * Once the cancellation future completes, the request is cancelled. If the call is shared
+     * with identical in-flight calls, the request is only cancelled after every caller sharing
+     * it has cancelled; the future of a cancelled caller may then never complete.
+     *
+     * @param modelId      the model ID to execute on
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param cancellation completed when the result is no longer needed (nullable, not cancellable if null)
+     * @param <R>          the response type
+     * @return future with result from the specified model
+     */
+    public <R> CompletableFuture<ModelResult<R>> executeLlmOnModelAsync(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            @Nullable final CompletableFuture<Void> cancellation) {
+        if (callGraph != null) {
+            // The node may be sent under another metric's deadline, enforce this one too
+            return withinDeadline(
+                    callGraph.llmNode(
+                            modelId,
+                            prompt,
+                            responseType,
+                            () -> nodeExecutor().runLlmOnModelAsync(modelId, prompt, responseType, 0, null)),
+                    modelId,
+                    prompt);
+        }
+        return runLlmOnModelAsync(modelId, prompt, responseType, 0, cancellation);
+    }
+
+    /**
+     * Executes one of several independent samples of the same LLM call on a SPECIFIC model (async).
+     * <p>
+     * Self-consistency sampling sends one prompt several times to get independent answers.
+     * Sample 0 is an ordinary call; every other sample is a call of its own that neither
+     * single-flight nor a {@link CallGraph} merges with calls of other sample indices, so
+     * {@code n} samples send {@code n} requests.
+     *
+     * @param modelId      the model ID to execute on
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param sample       index of the sample, 0 for the first one
+     * @param <R>          the response type
+     * @return future with result from the specified model
+     * @throws IllegalArgumentException if the sample index is negative
+     */
+    public <R> CompletableFuture<ModelResult<R>> executeLlmSampleOnModelAsync(
+            final String modelId, final String prompt, final Class<R> responseType, final int sample) {
+        if (sample < 0) {
+            throw new IllegalArgumentException("sample must not be negative, got: " + sample);
+        }
+        if (sample == 0) {
+            return executeLlmOnModelAsync(modelId, prompt, responseType);
+        }
+        if (callGraph != null) {
+            return withinDeadline(
+                    callGraph.llmNode(
+                            modelId,
+                            prompt,
+                            responseType,
+                            sample,
+                            () -> nodeExecutor().runLlmOnModelAsync(modelId, prompt, responseType, sample, null)),
+                    modelId,
+                    prompt);
+        }
+        return runLlmOnModelAsync(modelId, prompt, responseType, sample, null);
+    }
+
+    private <R> CompletableFuture<ModelResult<R>> runLlmOnModelAsync(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int sample,
+            @Nullable final CompletableFuture<Void> cancellation) {
+        if (responseCache != null) {
+            final Instant lookupStart = Instant.now();
+            final Optional<R> cached = responseCache.get(modelId, prompt, responseType, sample);
+            if (cached.isPresent()) {
+                final Duration duration = Duration.between(lookupStart, Instant.now());
+                return CompletableFuture.completedFuture(ModelResult.fromCache(modelId, cached.get(), duration, prompt));
+            }
+        }
+        if (!singleFlight) {
+            return callLlmAsync(modelId, prompt, responseType, sample, cancellation);
+        }
+        final InFlightKey key = new InFlightKey(modelId, prompt, responseType, sample);
+        while (true) {
+            final InFlightCall call = new InFlightCall();
+            final InFlightCall running = inFlightLlmCalls.putIfAbsent(key, call);
+            if (running == null) {
+                callLlmAsync(modelId, prompt, responseType, sample, call.cancellation).whenComplete((result, error) -> {
+                    inFlightLlmCalls.remove(key, call);
+                    if (error != null) {
+                        call.result.completeExceptionally(error);
+                    } else {
+                        call.result.complete(result);
+                    }
+                });
+                return subscribe(key, call, cancellation);
+            }
+            if (running.join()) {
+                coalescedCalls.incrementAndGet();
+                log.debug("Model {} joined identical in-flight call", modelId);
+                return withinDeadline(subscribe(key, running, cancellation), modelId, prompt);
+            }
+            // Every caller of the running call has cancelled it; start a new one
+            inFlightLlmCalls.remove(key, running);
+        }
+    }
+
+    /**
+     * Returns the result of a shared in-flight call, cancelling the call once every caller
+     * sharing it has cancelled.
+     */
+    private <R> CompletableFuture<ModelResult<R>> subscribe(
+            final InFlightKey key, final InFlightCall call, @Nullable final CompletableFuture<Void> cancellation) {
+        if (cancellation == null) {
+            call.joinForever();
+        } else {
+            cancellation.thenRun(() -> {
+                if (call.leave()) {
+                    inFlightLlmCalls.remove(key, call);
+                    call.cancellation.complete(null);
+                }
+            });
+        }
+        return call.result.copy().thenApply(MultiModelExecutor::<R>castResult);
+    }
+
+    /**
+     * Gets the number of LLM calls that shared the result of an identical in-flight call
+     * instead of sending their own request.
+     *
+     * @return coalesced call count
+     */
+    public long getCoalescedCallCount() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * Gets the number of hedged requests sent for slow LLM calls.
+     *
+     * @return hedge count, 0 if hedging is disabled
+     */
+    public long getHedgeCount() {
+        return hedger != null ? hedger.getHedgeCount() : 0;
+    }
+
+    /**
+     * Gets the number of LLM calls answered by the hedged request before the original one.
+     *
+     * @return hedge win count, 0 if hedging is disabled
+     */
+    public long getHedgeWinCount() {
+        return hedger != null ? hedger.getHedgeWinCount() : 0;
+    }
+
+    /**
+     * Gets the number of LLM calls sent again after a failed attempt.
+     *
+     * @return retry count, 0 if retries are disabled
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * Sends an LLM call, with retries if enabled, and caches a successful response under its
+     * sample, so every sample of a repeated call keeps its own answer.
+     */
+    private <R> CompletableFuture<ModelResult<R>> callLlmAsync(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int sample,
+            @Nullable final CompletableFuture<Void> cancellation) {
+        final CompletableFuture<ModelResult<R>> result = retryPolicy == null
+                ? sendLlmAsync(modelId, prompt, prompt, responseType, cancellation)
+                : retryLlmAsync(modelId, prompt, prompt, responseType, cancellation, 1, Duration.ZERO, false);
+        if (responseCache == null) {
+            return result;
+        }
+        return result.thenApply(value -> {
+            if (value.isSuccess() && value.result() != null) {
+                responseCache.put(modelId, prompt, responseType, sample, value.result());
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Sends an LLM call, retrying transient failures according to the retry policy.
+     * <p>
+     * Every attempt is a call of its own: it asks the circuit breaker, acquires a rate limit token,
+     * gets its own call timeout and may be hedged. A response that could not be parsed is asked
+     * again once right away with a repair note, if the policy allows it. The returned result records
+     * the number of attempts and the sum of their durations.
+     */
+    private <R> CompletableFuture<ModelResult<R>> retryLlmAsync(
+            final String modelId,
+            final String prompt,
+            final String sentPrompt,
+            final Class<R> responseType,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final int attempt,
+            final Duration previousDuration,
+            final boolean repaired) {
+        return sendLlmAsync(modelId, prompt, sentPrompt, responseType, cancellation)
+                .thenCompose(result -> {
+                    final Duration duration = previousDuration.plus(result.duration());
+                    final ModelResult<R> counted = new ModelResult<>(
+                            modelId, result.result(), duration, prompt, result.error(), result.cached(), attempt);
+                    if (result.isSuccess()
+                            || attempt >= retryPolicy.getMaxAttempts()
+                            || (cancellation != null && cancellation.isDone())) {
+                        return CompletableFuture.completedFuture(counted);
+                    }
+                    final FailureType type = FailureClassifier.classify(result.error());
+                    if (type == FailureType.PARSE_ERROR && retryPolicy.isRepairParseErrors() && !repaired) {
+                        retries.incrementAndGet();
+                        log.info(
+                                "Model {} response could not be parsed, asking again (attempt {})",
+                                modelId,
+                                attempt + 1);
+                        return retryLlmAsync(
+                                modelId,
+                                prompt,
+                                repairPrompt(prompt, result.error()),
+                                responseType,
+                                cancellation,
+                                attempt + 1,
+                                duration,
+                                true);
+                    }
+                    final Duration delay = retryPolicy.isRetryable(type) ? retryDelay(attempt, result.error()) : null;
+                    if (delay == null) {
+                        return CompletableFuture.completedFuture(counted);
+                    }
+                    retries.incrementAndGet();
+                    log.info(
+                            "Model {} failed with {}, retrying in {} (attempt {})", modelId, type, delay, attempt + 1);
+                    return backoffTimer(delay, cancellation).thenCompose(v -> {
+                        if (cancellation != null && cancellation.isDone()) {
+                            return CompletableFuture.completedFuture(counted);
+                        }
+                        return retryLlmAsync(
+                                modelId,
+                                prompt,
+                                sentPrompt,
+                                responseType,
+                                cancellation,
+                                attempt + 1,
+                                duration,
+                                repaired);
+                    });
+                });
+    }
+
+    /**
+     * Gets the delay before retrying a failed attempt: the provider's {@code Retry-After} if it sent
+     * one, otherwise the policy's backoff.
+     *
+     * @return the delay, or null if the call should not be retried because the provider asked for a
+     *     longer pause than the max backoff or the deadline would pass first
+     */
+    @Nullable
+    private Duration retryDelay(final int attempt, final Throwable error) {
+        final Optional<Duration> retryAfter = FailureClassifier.retryAfter(error);
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(retryPolicy.getMaxBackoff()) > 0) {
+            return null;
+        }
+        final Duration delay = retryAfter.orElseGet(() -> retryPolicy.backoff(attempt));
+        if (deadline != null && deadline.remaining().compareTo(delay) <= 0) {
+            return null;
+        }
+        return delay;
+    }
+
+    /**
+     * Completes after the delay, or earlier once the cancellation future completes.
+     */
+    private static CompletableFuture<Void> backoffTimer(
+            final Duration delay, @Nullable final CompletableFuture<Void> cancellation) {
+        final CompletableFuture<Void> timer =
+                new CompletableFuture<Void>().completeOnTimeout(null, delay.toNanos(), TimeUnit.NANOSECONDS);
+        return cancellation != null ? either(timer, cancellation) : timer;
+    }
+
+    /**
+     * Appends a short note on the parse error to the prompt, so the model answers in the expected format.
+     */
+    private static String repairPrompt(final String prompt, final Throwable error) {
+        String reason = error.getMessage();
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof JacksonException jackson) {
+                reason = jackson.getOriginalMessage();
+                break;
+            }
+        }
+        return prompt + "\n\nYour previous response could not be parsed (" + reason + "). "
+                + "Respond again with only the requested JSON, without any other text.";
+    }
+
+    private <R> CompletableFuture<ModelResult<R>> sendLlmAsync(
+            final String modelId,
+            final String prompt,
+            final String sentPrompt,
+            final Class<R> responseType,
+            @Nullable final CompletableFuture<Void> cancellation) {
+        final long estimatedTokens = TokenEstimator.estimateTokens(sentPrompt);
+        if (hedger == null) {
+            return attemptLlmAsync(
+                    modelId, prompt, sentPrompt, responseType, estimatedTokens, false, cancellation, null);
+        }
+        return hedger.execute(
+                modelId,
+                (hedge, attemptCancellation, sent) -> attemptLlmAsync(
+                        modelId,
+                        prompt,
+                        sentPrompt,
+                        responseType,
+                        estimatedTokens,
+                        hedge,
+                        cancellation != null ? either(attemptCancellation, cancellation) : attemptCancellation,
+                        sent));
+    }
+
+    private static CompletableFuture<Void> either(
+            final CompletableFuture<Void> first, final CompletableFuture<Void> second) {
+        final CompletableFuture<Void> either = new CompletableFuture<>();
+        first.thenRun(() -> either.complete(null));
+        second.thenRun(() -> either.complete(null));
+        return either;
+    }
+
+    /**
+     * Sends one attempt of an LLM call; {@code sentPrompt} may differ from the cached and recorded
+     * {@code prompt} when a response is repaired. The optional {@code sent} future is completed
+     * when the HTTP task starts, after all rate limit and concurrency waits.
+     */
+    private <R> CompletableFuture<ModelResult<R>> attemptLlmAsync(
+            final String modelId,
+            final String prompt,
+            final String sentPrompt,
+            final Class<R> responseType,
+            final long estimatedTokens,
+            final boolean hedge,
+            @Nullable final CompletableFuture<Void> cancellation,
+            @Nullable final CompletableFuture<Void> sent) {
+        final String label = hedge ? "Hedged model" : "Model";
+        final Function<ChatClient, R> call =
+                rateLimitFailover(client -> callLlm(client, modelId, sentPrompt, responseType, estimatedTokens));
+        final Supplier<R> send =
+                () -> hedge ? chatClientStore.callHedged(modelId, call) : chatClientStore.call(modelId, call);
+        return submitFailingOver(modelId, prompt, estimatedTokens, label, cancellation, send, attempt -> () -> {
+            if (sent != null) {
+                sent.complete(null);
             }
             final Instant start = Instant.now();
             try {
-                final ChatClient client = chatClientStore.get(modelId);
-                final R response = client.prompt(prompt).call().entity(responseType);
+                final R response = attempt.get();
                 final Duration duration = Duration.between(start, Instant.now());
                 return ModelResult.success(modelId, response, duration, prompt);
+            } catch (final FailoverPendingException e) {
+                // Logged by the endpoint pool, the failover attempt is sent by submitFailingOver
+                return ModelResult.failure(modelId, Duration.between(start, Instant.now()), prompt, e);
             } catch (Exception e) {
                 final Duration duration = Duration.between(start, Instant.now());
-                log.warn("Model {} failed: {}", modelId, e.getMessage());
+                if (cancellation != null && cancellation.isDone()) {
+                    log.debug("{} {} cancelled: its response is no longer needed", label, modelId);
+                } else {
+                    log.warn("{} {} failed: {}", label, modelId, e.getMessage());
+                }
                 return ModelResult.failure(modelId, duration, prompt, e);
             }
         });
     }
 
+    // ============ LLM Operations - Reference Artifacts ============
+
+    /**
+     * Executes a reference-side LLM step on specified models in parallel (async).
+     *
+     * @param modelIds     list of model IDs to execute on
+     * @param artifact     identifies the step's output across runs
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param <R>          the response type
+     * @return future with list of results from specified models
+     * @see #executeReferenceLlmOnModelAsync(String, ReferenceArtifact, String, Class, CompletableFuture)
+     */
+    public <R> CompletableFuture<List<ModelResult<R>>> executeReferenceLlmAsync(
+            final List<String> modelIds,
+            final ReferenceArtifact artifact,
+            final String prompt,
+            final Class<R> responseType) {
+        if (modelIds == null || modelIds.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        final List<CompletableFuture<ModelResult<R>>> futures = modelIds.stream()
+                .map(modelId -> executeReferenceLlmOnModelAsync(modelId, artifact, prompt, responseType, null))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Executes a reference-side LLM step on a SPECIFIC model (async).
+     * <p>
+     * With a {@link ReferenceArtifactStore}, an artifact the model already produced for the same
+     * metric step, template and reference in an earlier run is returned as a
+     * {@link ModelResult#fromCache} result without calling the model; successful responses are
+     * stored for later runs. Without a store this is the same as
+     * {@link #executeLlmOnModelAsync(String, String, Class, CompletableFuture)}.
+     *
+     * @param modelId      the model ID to execute on
+     * @param artifact     identifies the step's output across runs
+     * @param prompt       the prompt to send
+     * @param responseType the expected response type
+     * @param cancellation completed when the result is no longer needed (nullable, not cancellable if null)
+     * @param <R>          the response type
+     * @return future with result from the specified model
+     */
+    public <R> CompletableFuture<ModelResult<R>> executeReferenceLlmOnModelAsync(
+            final String modelId,
+            final ReferenceArtifact artifact,
+            final String prompt,
+            final Class<R> responseType,
+            @Nullable final CompletableFuture<Void> cancellation) {
+        if (referenceArtifactStore == null) {
+            return executeLlmOnModelAsync(modelId, prompt, responseType, cancellation);
+        }
+        final Instant lookupStart = Instant.now();
+        final Optional<R> stored = referenceArtifactStore.get(modelId, artifact, responseType);
+        if (stored.isPresent()) {
+            final Duration duration = Duration.between(lookupStart, Instant.now());
+            return CompletableFuture.completedFuture(ModelResult.fromCache(modelId, stored.get(), duration, prompt));
+        }
+        return executeLlmOnModelAsync(modelId, prompt, responseType, cancellation).thenApply(result -> {
+            if (result.isSuccess() && result.result() != null) {
+                referenceArtifactStore.put(modelId, artifact, responseType, result.result());
+            }
+            return result;
+        });
+    }
+
     // ============ Embedding Operations - All Models ============
 
     /**
@@ -331,6 +1223,10 @@ public class MultiModelExecutor {
 
     /**
      * Executes embedding on a SPECIFIC model (async).
+     * <p>
+     * With an {@link EmbeddingCache} a cached vector is returned as a {@link ModelResult#fromCache}
+     * result without calling the model. With an {@link EmbeddingMicroBatcher} the text joins the
+     * model's next coalesced batch.
      *
      * @param modelId the model ID to execute on
      * @param text    the text to embed
@@ -338,22 +1234,58 @@ public class MultiModelExecutor {
      */
     public CompletableFuture<ModelResult<float[]>> executeEmbeddingOnModelAsync(
             final String modelId, final String text) {
-        return httpExecutor.submitCompletable(() -> {
-            try {
-                acquireRateLimit(modelId);
-            } catch (Exception e) {
-                log.warn("Embedding model {} rate limited: {}", modelId, e.getMessage());
-                return ModelResult.<float[]>failure(modelId, Duration.ZERO, text, e);
+        if (callGraph != null) {
+            return withinDeadline(
+                    callGraph.embeddingNode(
+                            modelId, text, () -> nodeExecutor().runEmbeddingOnModelAsync(modelId, text)),
+                    modelId,
+                    text);
+        }
+        return runEmbeddingOnModelAsync(modelId, text);
+    }
+
+    private CompletableFuture<ModelResult<float[]>> runEmbeddingOnModelAsync(final String modelId, final String text) {
+        if (embeddingCache == null || embeddingModelStore == null) {
+            return embedTextAsync(modelId, text);
+        }
+        final Instant start = Instant.now();
+        final Optional<float[]> cached = embeddingCache.get(modelId, text);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    ModelResult.fromCache(modelId, cached.get(), Duration.between(start, Instant.now()), text));
+        }
+        return embedTextAsync(modelId, text).thenApply(result -> {
+            if (result.isSuccess()) {
+                embeddingCache.put(modelId, text, result.result());
             }
+            return result;
+        });
+    }
+
+    private CompletableFuture<ModelResult<float[]>> embedTextAsync(final String modelId, final String text) {
+        if (embeddingMicroBatcher != null && embeddingModelStore != null) {
+            // The coalesced batch may be sent under another caller's deadline, enforce this one too
+            return withinDeadline(
+                    embeddingMicroBatcher
+                            .submit(modelId, List.of(text), batch -> embedInBatchesAsync(modelId, batch))
+                            .thenApply(result -> result.map(embeddings -> embeddings.get(0))),
+                    modelId,
+                    text);
+        }
+        final Function<EmbeddingModel, float[]> call = rateLimitFailover(model -> model.embed(text));
+        final Supplier<float[]> send = () -> embeddingModelStore.call(modelId, call);
+        final long estimatedTokens = TokenEstimator.estimateTokens(text);
+        return submitFailingOver(modelId, text, estimatedTokens, "Embedding model", null, send, attempt -> () -> {
             final Instant start = Instant.now();
             try {
                 if (embeddingModelStore == null) {
                     throw new IllegalStateException("EmbeddingModelStore not configured");
                 }
-                final EmbeddingModel embeddingModel = embeddingModelStore.get(modelId);
-                final float[] embedding = embeddingModel.embed(text);
+                final float[] embedding = attempt.get();
                 final Duration duration = Duration.between(start, Instant.now());
                 return ModelResult.success(modelId, embedding, duration, text);
+            } catch (final FailoverPendingException e) {
+                return ModelResult.failure(modelId, Duration.between(start, Instant.now()), text, e);
             } catch (Exception e) {
                 final Duration duration = Duration.between(start, Instant.now());
                 log.warn("Embedding model {} failed: {}", modelId, e.getMessage());
@@ -375,6 +1307,15 @@ public class MultiModelExecutor {
 
     /**
      * Executes embeddings for multiple texts on a SPECIFIC model (async).
+     * <p>
+     * The texts are split into sub-batches according to the {@link EmbeddingBatchPolicy}. Each
+     * sub-batch is sent as one batched request to the provider and acquires one rate limit
+     * token; sub-batches run concurrently. The result contains the embeddings in input order,
+     * or the first sub-batch error if any sub-batch failed.
+     * <p>
+     * With an {@link EmbeddingCache} only texts without a cached vector are sent; the result is
+     * marked as cached if no text had to be sent. With an {@link EmbeddingMicroBatcher} the
+     * texts first join the model's next coalesced batch.
      *
      * @param modelId the model ID to execute on
      * @param texts   the texts to embed
@@ -382,26 +1323,110 @@ public class MultiModelExecutor {
      */
     public CompletableFuture<ModelResult<List<float[]>>> executeEmbeddingsOnModelAsync(
             final String modelId, final List<String> texts) {
-        return httpExecutor.submitCompletable(() -> {
-            final String request = String.join(", ", texts);
-            try {
-                acquireRateLimit(modelId);
-            } catch (Exception e) {
-                log.warn("Embedding model {} rate limited: {}", modelId, e.getMessage());
-                return ModelResult.<List<float[]>>failure(modelId, Duration.ZERO, request, e);
+        if (callGraph != null) {
+            return withinDeadline(
+                    callGraph.embeddingsNode(
+                            modelId, texts, missing -> nodeExecutor().runEmbeddingsOnModelAsync(modelId, missing)),
+                    modelId,
+                    String.join(", ", texts));
+        }
+        return runEmbeddingsOnModelAsync(modelId, texts);
+    }
+
+    private CompletableFuture<ModelResult<List<float[]>>> runEmbeddingsOnModelAsync(
+            final String modelId, final List<String> texts) {
+        if (embeddingCache == null || embeddingModelStore == null) {
+            return embedTextsAsync(modelId, texts);
+        }
+        final Instant start = Instant.now();
+        final String request = String.join(", ", texts);
+        final float[][] vectors = new float[texts.size()][];
+        final List<String> missing = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            final Optional<float[]> cached = embeddingCache.get(modelId, texts.get(i));
+            if (cached.isPresent()) {
+                vectors[i] = cached.get();
+            } else {
+                missing.add(texts.get(i));
             }
+        }
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(ModelResult.fromCache(
+                    modelId, Arrays.asList(vectors), Duration.between(start, Instant.now()), request));
+        }
+        return embedTextsAsync(modelId, missing).thenApply(result -> {
+            if (result.isFailure()) {
+                return ModelResult.failure(modelId, result.duration(), request, result.error());
+            }
+            final Iterator<float[]> fetched = result.result().iterator();
+            for (int i = 0; i < vectors.length; i++) {
+                if (vectors[i] == null) {
+                    vectors[i] = fetched.next();
+                    embeddingCache.put(modelId, texts.get(i), vectors[i]);
+                }
+            }
+            return ModelResult.success(modelId, Arrays.asList(vectors), result.duration(), request);
+        });
+    }
+
+    private CompletableFuture<ModelResult<List<float[]>>> embedTextsAsync(
+            final String modelId, final List<String> texts) {
+        if (embeddingMicroBatcher != null && embeddingModelStore != null) {
+            return withinDeadline(
+                    embeddingMicroBatcher.submit(modelId, texts, batch -> embedInBatchesAsync(modelId, batch)),
+                    modelId,
+                    String.join(", ", texts));
+        }
+        return embedInBatchesAsync(modelId, texts);
+    }
+
+    /**
+     * Splits texts according to the {@link EmbeddingBatchPolicy} and sends every sub-batch as
+     * one rate-limited request.
+     */
+    private CompletableFuture<ModelResult<List<float[]>>> embedInBatchesAsync(
+            final String modelId, final List<String> texts) {
+        final String request = String.join(", ", texts);
+        final List<List<String>> batches = embeddingBatchPolicy.split(texts);
+        if (batches.isEmpty()) {
+            return CompletableFuture.completedFuture(ModelResult.success(modelId, List.of(), Duration.ZERO, request));
+        }
+        final List<CompletableFuture<ModelResult<List<float[]>>>> batchFutures = batches.stream()
+                .map(batch -> executeEmbeddingBatchAsync(modelId, batch))
+                .toList();
+        return CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> combineEmbeddingBatches(
+                        modelId,
+                        request,
+                        batchFutures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * Sends one sub-batch of texts as a single batched embedding request.
+     */
+    private CompletableFuture<ModelResult<List<float[]>>> executeEmbeddingBatchAsync(
+            final String modelId, final List<String> batch) {
+        final String request = String.join(", ", batch);
+        final long estimatedTokens =
+                batch.stream().mapToLong(TokenEstimator::estimateTokens).sum();
+        final Function<EmbeddingModel, List<float[]>> call = rateLimitFailover(model -> model.embed(batch));
+        final Supplier<List<float[]>> send = () -> embeddingModelStore.call(modelId, call);
+        return submitFailingOver(modelId, request, estimatedTokens, "Embedding model", null, send, attempt -> () -> {
             final Instant start = Instant.now();
             try {
                 if (embeddingModelStore == null) {
                     throw new IllegalStateException("EmbeddingModelStore not configured");
                 }
-                final EmbeddingModel embeddingModel = embeddingModelStore.get(modelId);
-                final List<float[]> embeddings = new ArrayList<>();
-                for (final String text : texts) {
-                    embeddings.add(embeddingModel.embed(text));
+                final List<float[]> embeddings = attempt.get();
+                if (embeddings == null || embeddings.size() != batch.size()) {
+                    throw new IllegalStateException("Embedding model returned "
+                            + (embeddings == null ? 0 : embeddings.size()) + " embeddings for "
+                            + batch.size() + " texts");
                 }
                 final Duration duration = Duration.between(start, Instant.now());
                 return ModelResult.success(modelId, embeddings, duration, request);
+            } catch (final FailoverPendingException e) {
+                return ModelResult.failure(modelId, Duration.between(start, Instant.now()), request, e);
             } catch (Exception e) {
                 final Duration duration = Duration.between(start, Instant.now());
                 log.warn("Embedding model {} failed: {}", modelId, e.getMessage());
@@ -410,6 +1435,30 @@ public class MultiModelExecutor {
         });
     }
 
+    /**
+     * Concatenates sub-batch results in order. The duration is that of the slowest sub-batch,
+     * as sub-batches run concurrently.
+     */
+    private static ModelResult<List<float[]>> combineEmbeddingBatches(
+            final String modelId, final String request, final List<ModelResult<List<float[]>>> batchResults) {
+        if (batchResults.size() == 1) {
+            final ModelResult<List<float[]>> single = batchResults.get(0);
+            return new ModelResult<>(modelId, single.result(), single.duration(), request, single.error());
+        }
+        Duration duration = Duration.ZERO;
+        final List<float[]> embeddings = new ArrayList<>();
+        for (final ModelResult<List<float[]>> batchResult : batchResults) {
+            if (batchResult.duration().compareTo(duration) > 0) {
+                duration = batchResult.duration();
+            }
+            if (batchResult.isFailure()) {
+                return ModelResult.failure(modelId, duration, request, batchResult.error());
+            }
+            embeddings.addAll(batchResult.result());
+        }
+        return ModelResult.success(modelId, embeddings, duration, request);
+    }
+
     // ============ Async Execution ============
 
     /**
@@ -426,10 +1475,28 @@ public class MultiModelExecutor {
      * @param <T>  the result type
      * @return future with the task result
      */
-    public <T> CompletableFuture<T> runAsync(final java.util.concurrent.Callable<T> task) {
+    public <T> CompletableFuture<T> runAsync(final Callable<T> task) {
         return metricExecutor.submitCompletable(task);
     }
 
+    /**
+     * Starts a non-blocking flow on the metric executor.
+     * <p>
+     * The flow only builds prompts and composes the futures returned by the async LLM and
+     * embedding methods; it must not call {@code join()} or the blocking variants. The metric
+     * thread is released as soon as the flow has returned its future, so no metric thread
+     * waits on I/O and metrics can safely nest other metrics on the same executor.
+     * <p>
+     * Exceptions thrown by the flow complete the returned future exceptionally.
+     *
+     * @param flow the flow returning the future of its final result
+     * @param <T>  the result type
+     * @return future completed with the result of the flow
+     */
+    public <T> CompletableFuture<T> composeAsync(final Callable<CompletableFuture<T>> flow) {
+        return metricExecutor.submitCompletable(flow).thenCompose(Function.identity());
+    }
+
     // ============ Utility Methods ============
 
     /**
@@ -452,17 +1519,413 @@ public class MultiModelExecutor {
 
     // ============ Rate Limiting ============
 
+    /**
+     * Submits an API call to the HTTP executor once a rate limit token has been granted.
+     * <p>
+     * Waiting for the token does not occupy an HTTP thread, so a throttled provider cannot
+     * starve calls to providers that still have quota. If the token cannot be acquired,
+     * the call is not submitted and a failed {@link ModelResult} with zero duration is returned.
+     *
+     * @param modelId         the model ID to acquire a rate limit token for
+     * @param request         the request recorded in a failed result
+     * @param estimatedTokens estimated token count charged against the provider's token budget
+     * @param label           model kind used in the log message
+     * @param call            the API call producing the model result
+     * @param <T>             the result type
+     * @return future with the result of the call
+     */
+    private <T> CompletableFuture<ModelResult<T>> submitRateLimited(
+            final String modelId,
+            final String request,
+            final long estimatedTokens,
+            final String label,
+            final Callable<ModelResult<T>> call) {
+        return submitRateLimited(modelId, request, estimatedTokens, label, null, call);
+    }
+
+    /**
+     * Submits a cancellable API call to the HTTP executor once a rate limit token has been granted.
+     * <p>
+     * Once the cancellation future completes, a call not submitted yet is skipped and a running
+     * call is cancelled, interrupting the thread running the request.
+     * <p>
+     * If the circuit of the model's provider is open, the call fails immediately with a
+     * {@link CircuitOpenException}, before acquiring a rate limit token. With a concurrency
+     * limiter, the call then waits for a free slot of its provider once the token is granted,
+     * so calls still waiting for a token do not hold slots.
+     */
+    private <T> CompletableFuture<ModelResult<T>> submitRateLimited(
+            final String modelId,
+            final String request,
+            final long estimatedTokens,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Callable<ModelResult<T>> call) {
+        if (circuitBreakerRegistry != null) {
+            try {
+                circuitBreakerRegistry.rejectIfOpen(modelId);
+            } catch (final CircuitOpenException e) {
+                log.debug("{} {} rejected: {}", label, modelId, e.getMessage());
+                return CompletableFuture.completedFuture(ModelResult.<T>failure(modelId, Duration.ZERO, request, e));
+            }
+        }
+        return acquireAndSubmit(modelId, request, estimatedTokens, label, cancellation, call);
+    }
+
+    private <T> CompletableFuture<ModelResult<T>> acquireAndSubmit(
+            final String modelId,
+            final String request,
+            final long estimatedTokens,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Callable<ModelResult<T>> call) {
+        return acquireRateLimit(modelId, estimatedTokens)
+                .handle((granted, error) -> error)
+                .thenCompose(error -> {
+                    if (error == null) {
+                        return limitAndSubmit(modelId, request, label, cancellation, call);
+                    }
+                    final Throwable cause =
+                            error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    log.warn("{} {} rate limited: {}", label, modelId, cause.getMessage());
+                    return CompletableFuture.completedFuture(ModelResult.<T>failure(modelId, Duration.ZERO, request, cause));
+                });
+    }
+
+    /**
+     * Acquires a concurrency slot of the model's provider, if limited, and reports the call's
+     * outcome and latency when the slot is released. A call rejected for want of a slot fails
+     * with zero duration.
+     */
+    private <T> CompletableFuture<ModelResult<T>> limitAndSubmit(
+            final String modelId,
+            final String request,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Callable<ModelResult<T>> call) {
+        if (concurrencyLimiter == null) {
+            return submitPermitted(modelId, request, label, cancellation, call);
+        }
+        return concurrencyLimiter
+                .acquire(modelId)
+                .handle((permit, error) -> {
+                    if (error != null) {
+                        final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        log.warn("{} {} concurrency limited: {}", label, modelId, cause.getMessage());
+                        return CompletableFuture.completedFuture(
+                                ModelResult.<T>failure(modelId, Duration.ZERO, request, cause));
+                    }
+                    return submitPermitted(modelId, request, label, cancellation, call)
+                            .whenComplete((result, callError) -> {
+                                if (callError != null) {
+                                    permit.onFailure(callError);
+                                } else if (result.isFailure()) {
+                                    permit.onFailure(result.error());
+                                } else {
+                                    permit.onSuccess(result.duration());
+                                }
+                            });
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Asks the circuit of the model's provider for permission right before the call is submitted,
+     * and reports the call's outcome to it.
+     * <p>
+     * Waiting for a slot or a token can take long: a call cancelled or whose circuit opened
+     * meanwhile is not sent, and the probes of a half-open circuit are not held by calls still waiting.
+     */
+    private <T> CompletableFuture<ModelResult<T>> submitPermitted(
+            final String modelId,
+            final String request,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Callable<ModelResult<T>> call) {
+        if (cancellation != null && cancellation.isDone()) {
+            return CompletableFuture.completedFuture(ModelResult.<T>failure(
+                    modelId, Duration.ZERO, request, new CancellationException(label + " cancelled")));
+        }
+        if (circuitBreakerRegistry == null) {
+            return submitWithTimeout(modelId, request, label, cancellation, call);
+        }
+        final ProviderCircuitBreakerRegistry.Permission permission;
+        try {
+            permission = circuitBreakerRegistry.acquire(modelId);
+        } catch (final CircuitOpenException e) {
+            log.debug("{} {} rejected: {}", label, modelId, e.getMessage());
+            return CompletableFuture.completedFuture(ModelResult.<T>failure(modelId, Duration.ZERO, request, e));
+        }
+        return submitWithTimeout(modelId, request, label, cancellation, call).whenComplete((result, error) -> {
+            if (error != null) {
+                permission.onFailure(error);
+            } else if (result.isFailure()) {
+                permission.onFailure(result.error());
+            } else {
+                permission.onSuccess();
+            }
+        });
+    }
+
+    /**
+     * Submits an API call to the HTTP executor, limited to the model's call timeout and the
+     * time left until the deadline.
+     * <p>
+     * When the limit expires, the HTTP task is cancelled (interrupting the thread running the
+     * request) and a failed {@link ModelResult} with a {@link ModelCallTimeoutException} is returned.
+     * The task is cancelled the same way once the optional cancellation future completes.
+     */
+    private <T> CompletableFuture<ModelResult<T>> submitWithTimeout(
+            final String modelId,
+            final String request,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Callable<ModelResult<T>> call) {
+        final Duration timeout = callTimeoutFor(modelId);
+        if (timeout == null && cancellation == null) {
+            return httpExecutor.submitCompletable(call);
+        }
+        if (timeout != null && timeout.isZero()) {
+            log.warn("{} {} skipped: evaluation deadline expired", label, modelId);
+            return CompletableFuture.completedFuture(
+                    ModelResult.failure(modelId, Duration.ZERO, request, deadlineExceeded(modelId)));
+        }
+        final CompletableFuture<ModelResult<T>> result = new CompletableFuture<>();
+        final Future<?> task = httpExecutor.submit(() -> {
+            try {
+                result.complete(call.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        if (cancellation != null) {
+            cancellation.thenRun(() -> {
+                task.cancel(true);
+                // A task cancelled before it started never completes the result itself
+                result.complete(ModelResult.failure(
+                        modelId, Duration.ZERO, request, new CancellationException(label + " cancelled")));
+            });
+        }
+        if (timeout == null) {
+            return result;
+        }
+        return result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).handle((value, error) -> {
+            if (error == null) {
+                return value;
+            }
+            if (!(error instanceof TimeoutException)) {
+                throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+            }
+            task.cancel(true);
+            final ModelCallTimeoutException cause = deadline != null && deadline.isExpired()
+                    ? deadlineExceeded(modelId)
+                    : new ModelCallTimeoutException(
+                            modelId, timeout, "Model " + modelId + " did not respond within " + timeout);
+            log.warn("{} {} timed out: {}", label, modelId, cause.getMessage());
+            return ModelResult.<T>failure(modelId, timeout, request, cause);
+        });
+    }
+
+    /**
+     * Fails a result that is not produced by this executor's own call, e.g. a shared in-flight
+     * call, once the deadline passes.
+     */
+    private <T> CompletableFuture<ModelResult<T>> withinDeadline(
+            final CompletableFuture<ModelResult<T>> future, final String modelId, final String request) {
+        if (deadline == null || future.isDone()) {
+            return future;
+        }
+        final Duration remaining = deadline.remaining();
+        return future.completeOnTimeout(
+                ModelResult.failure(modelId, remaining, request, deadlineExceeded(modelId)),
+                remaining.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the time a call to the model may take: its call timeout, capped by the deadline.
+     *
+     * @return the timeout, {@link Duration#ZERO} if the deadline has passed, or null if unlimited
+     */
+    @Nullable
+    private Duration callTimeoutFor(final String modelId) {
+        final Duration callTimeout = timeouts.callTimeoutFor(modelId);
+        if (deadline == null) {
+            return callTimeout;
+        }
+        final Duration remaining = deadline.remaining();
+        return callTimeout == null || remaining.compareTo(callTimeout) < 0 ? remaining : callTimeout;
+    }
+
+    private ModelCallTimeoutException deadlineExceeded(final String modelId) {
+        final Duration budget = deadline != null ? deadline.getBudget() : Duration.ZERO;
+        return new ModelCallTimeoutException(
+                modelId, budget, "Evaluation deadline of " + budget + " expired for model " + modelId, true);
+    }
+
     /**
      * Acquires a rate limit token for the given model before making an API call.
      * <p>
-     * If no rate limiter registry is configured, this method returns immediately.
+     * If no rate limiter registry is configured, the returned future is already completed.
      *
-     * @param modelId the model ID to acquire a rate limit token for
+     * @param modelId         the model ID to acquire a rate limit token for
+     * @param estimatedTokens estimated token count charged against the provider's token budget
+     * @return future completed when the token is granted
      */
-    private void acquireRateLimit(final String modelId) {
+    private CompletableFuture<Void> acquireRateLimit(final String modelId, final long estimatedTokens) {
         if (rateLimiterRegistry == null) {
-            return;
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return rateLimiterRegistry.acquireAsync(modelId, estimatedTokens);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Wraps a call run through the endpoint pool of a model so that every failover attempt
+     * acquires its own rate limit token, like a retry does.
+     * <p>
+     * With a rate limiter, the pool hands failover back to {@link #submitFailingOver}, which waits
+     * for the token of the next attempt without holding the HTTP thread of the failed one.
+     * Without a rate limiter, the pool fails over right away on the same thread.
+     *
+     * @param call the call to run against an endpoint
+     * @param <E>  the endpoint type
+     * @param <R>  the result type
+     * @return the call, deferring failover if calls are rate limited
+     */
+    private <E, R> Function<E, R> rateLimitFailover(final Function<E, R> call) {
+        return rateLimiterRegistry == null ? call : EndpointPool.deferFailover(call);
+    }
+
+    /**
+     * Submits a call run through the endpoint pool of a model like
+     * {@link #submitRateLimited(String, String, long, String, CompletableFuture, Callable)}, and
+     * sends each failover attempt handed back by the pool as a call of its own.
+     * <p>
+     * A failover attempt acquires its own rate limit token asynchronously, then goes through the
+     * circuit, the concurrency limit and the call timeout again, like a retry does. If it cannot
+     * be sent, the call fails with the reason, with the errors of the endpoints tried so far
+     * attached as suppressed exceptions.
+     *
+     * @param send    sends the request through the model's endpoint pool
+     * @param attempt turns a send into the API call producing the model result
+     */
+    private <T> CompletableFuture<ModelResult<T>> submitFailingOver(
+            final String modelId,
+            final String request,
+            final long estimatedTokens,
+            final String label,
+            @Nullable final CompletableFuture<Void> cancellation,
+            final Supplier<T> send,
+            final Function<Supplier<T>, Callable<ModelResult<T>>> attempt) {
+        return submitRateLimited(modelId, request, estimatedTokens, label, cancellation, attempt.apply(send))
+                .thenCompose(result -> {
+                    if (!(result.error() instanceof FailoverPendingException pending)) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    final AtomicBoolean resumed = new AtomicBoolean();
+                    final Supplier<T> failover = () -> {
+                        resumed.set(true);
+                        return pending.resume();
+                    };
+                    return submitFailingOver(
+                                    modelId, request, estimatedTokens, label, cancellation, failover, attempt)
+                            .thenApply(next -> {
+                                if (next.isFailure() && !resumed.get()) {
+                                    pending.getEndpointErrors().forEach(next.error()::addSuppressed);
+                                }
+                                return next;
+                            });
+                });
+    }
+
+    /**
+     * Calls the chat client, reconciling the estimated token charge with the reported usage
+     * when the model's provider has a token-per-minute budget.
+     */
+    private <R> R callLlm(
+            final ChatClient client,
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final long estimatedTokens) {
+        if (rateLimiterRegistry == null || !rateLimiterRegistry.isTokenLimited(modelId)) {
+            return client.prompt(prompt).call().entity(responseType);
+        }
+        final ResponseEntity<ChatResponse, R> response =
+                client.prompt(prompt).call().responseEntity(responseType);
+        rateLimiterRegistry.reconcile(modelId, estimatedTokens, totalTokens(response.response()));
+        return response.entity();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> ModelResult<R> castResult(final ModelResult<?> result) {
+        // Safe: calls are only shared between callers with the same response type
+        return (ModelResult<R>) result;
+    }
+
+    private static long totalTokens(@Nullable final ChatResponse response) {
+        if (response == null || response.getMetadata() == null || response.getMetadata().getUsage() == null) {
+            return 0;
+        }
+        final Integer totalTokens = response.getMetadata().getUsage().getTotalTokens();
+        return totalTokens != null ? totalTokens : 0;
+    }
+
+    /**
+     * Identity of an LLM call for single-flight deduplication; samples of one prompt stay apart.
+     */
+    private record InFlightKey(String modelId, String prompt, Class<?> responseType, int sample) {}
+
+    /**
+     * An LLM call shared by identical in-flight calls, with the number of callers still waiting
+     * for it. The call is cancelled once the last caller has cancelled.
+     */
+    private static final class InFlightCall {
+
+        private final CompletableFuture<ModelResult<?>> result = new CompletableFuture<>();
+        private final CompletableFuture<Void> cancellation = new CompletableFuture<>();
+        private int callers = 1;
+        private boolean permanent;
+        private boolean cancelled;
+
+        /**
+         * Adds a caller.
+         *
+         * @return false if the call has already been cancelled and cannot be joined
+         */
+        synchronized boolean join() {
+            if (cancelled) {
+                return false;
+            }
+            callers++;
+            return true;
+        }
+
+        /**
+         * Marks the call as needed by a caller that cannot cancel it.
+         */
+        synchronized void joinForever() {
+            permanent = true;
+        }
+
+        /**
+         * Removes a cancelling caller.
+         *
+         * @return true if it was the last caller and the call should be cancelled
+         */
+        synchronized boolean leave() {
+            callers--;
+            if (permanent || callers > 0 || result.isDone()) {
+                return false;
+            }
+            cancelled = true;
+            return true;
         }
-        rateLimiterRegistry.acquire(modelId);
     }
 }
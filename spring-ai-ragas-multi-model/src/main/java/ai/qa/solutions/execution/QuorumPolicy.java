@@ -0,0 +1,158 @@
+package ai.qa.solutions.execution;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Strategy deciding when enough models have answered an LLM call executed as a quorum.
+ * <p>
+ * Used by {@link MultiModelExecutor#executeLlmQuorumAsync}: the policy is checked after every
+ * model result, and once it is reached the calls still running are cancelled. Failed results are
+ * passed to the policy as well, so it can decide whether the remaining models can still change
+ * the outcome.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * // Stop as soon as more than half of the judges agree on the verdict
+ * QuorumPolicy<Verdict> policy = QuorumPolicy.majority(Verdict::verdict);
+ * List<ModelResult<Verdict>> results = executor.executeLlmQuorum(modelIds, prompt, Verdict.class, policy);
+ * }</pre>
+ *
+ * @param <R> the response type
+ */
+@FunctionalInterface
+public interface QuorumPolicy<R> {
+
+    /**
+     * Checks whether the results received so far settle the call.
+     *
+     * @param completed results of the models that have answered so far, successful or not
+     * @param total     number of models the call was sent to
+     * @return true if the remaining models need not be awaited
+     */
+    boolean isReached(List<ModelResult<R>> completed, int total);
+
+    /**
+     * @return human-readable name of this policy
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Adapts this policy to responses of another type, e.g. to vote on a field of a response DTO.
+     *
+     * @param mapper maps a response to the value this policy decides on
+     * @param <T>    the response type of the adapted policy
+     * @return policy deciding on the mapped results
+     */
+    default <T> QuorumPolicy<T> onResults(final Function<? super T, ? extends R> mapper) {
+        final QuorumPolicy<R> policy = this;
+        return new QuorumPolicy<>() {
+            @Override
+            public boolean isReached(final List<ModelResult<T>> completed, final int total) {
+                return policy.isReached(
+                        completed.stream()
+                                .map(result -> result.<R>map(mapper::apply))
+                                .toList(),
+                        total);
+            }
+
+            @Override
+            public String getName() {
+                return policy.getName();
+            }
+        };
+    }
+
+    // ========== Built-in policies ==========
+
+    /**
+     * Waits for all models, same as {@link MultiModelExecutor#executeLlmAsync}.
+     *
+     * @param <R> the response type
+     * @return policy reached once every model has answered
+     */
+    static <R> QuorumPolicy<R> all() {
+        return new QuorumPolicy<>() {
+            @Override
+            public boolean isReached(final List<ModelResult<R>> completed, final int total) {
+                return completed.size() >= total;
+            }
+
+            @Override
+            public String getName() {
+                return "ALL";
+            }
+        };
+    }
+
+    /**
+     * Completes after the first {@code k} successful responses.
+     *
+     * @param k   successful responses required
+     * @param <R> the response type
+     * @return policy reached after {@code k} successful responses
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    static <R> QuorumPolicy<R> responses(final int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive, got: " + k);
+        }
+        return new QuorumPolicy<>() {
+            @Override
+            public boolean isReached(final List<ModelResult<R>> completed, final int total) {
+                return completed.stream().filter(ModelResult::isSuccess).count() >= k;
+            }
+
+            @Override
+            public String getName() {
+                return "RESPONSES(k=" + k + ")";
+            }
+        };
+    }
+
+    /**
+     * Completes once more than half of all models returned the same response.
+     * <p>
+     * The remaining models can no longer outvote that response, so the outcome of a majority vote
+     * is settled.
+     *
+     * @param <R> the response type
+     * @return policy reached once one response holds an absolute majority
+     */
+    static <R> QuorumPolicy<R> majority() {
+        return majority(Function.identity());
+    }
+
+    /**
+     * Completes once more than half of all models cast the same vote.
+     *
+     * @param vote maps a response to the vote it casts, e.g. a verdict or an integer score
+     * @param <R>  the response type
+     * @return policy reached once one vote holds an absolute majority
+     */
+    static <R> QuorumPolicy<R> majority(final Function<? super R, ?> vote) {
+        Objects.requireNonNull(vote, "vote");
+        return new QuorumPolicy<>() {
+            @Override
+            public boolean isReached(final List<ModelResult<R>> completed, final int total) {
+                final Map<Object, Integer> votes = new HashMap<>();
+                for (final ModelResult<R> result : completed) {
+                    if (result.isSuccess() && votes.merge(vote.apply(result.result()), 1, Integer::sum) * 2 > total) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public String getName() {
+                return "MAJORITY";
+            }
+        };
+    }
+}
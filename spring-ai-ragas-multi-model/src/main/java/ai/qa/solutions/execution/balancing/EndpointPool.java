@@ -0,0 +1,256 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group of interchangeable endpoints serving one model ID.
+ * <p>
+ * Every call is routed to the endpoint chosen by the pool's {@link EndpointSelector}. While
+ * the call runs, the pool maintains the endpoint's {@link EndpointStats} (calls in flight,
+ * latency, failures) that the latency- and load-aware selectors rely on.
+ * <p>
+ * When a call fails with an error accepted by the failover policy (by default
+ * {@link FailoverPolicy#isEndpointFailure(Throwable)}), it is retried on one of the
+ * endpoints not tried yet. The last error is rethrown once every endpoint has failed, with
+ * the earlier failures attached as suppressed exceptions. A call whose thread is interrupted
+ * was cancelled by the caller: it is neither failed over nor counted as a failure.
+ * <p>
+ * A call wrapped with {@link #deferFailover(Function)} leaves failover to its caller: instead of
+ * running the next attempt right away on the same thread, the pool throws a
+ * {@link FailoverPendingException} that runs it on {@link FailoverPendingException#resume()}.
+ * Callers that must wait before each attempt, e.g. for a rate limit token, can then wait
+ * asynchronously instead of blocking the thread of the failed attempt.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * EndpointPool<ChatClient> pool = new EndpointPool<>(
+ *     List.of(replicaA, replicaB), LoadBalancingStrategy.LEAST_IN_FLIGHT.createSelector());
+ *
+ * String answer = pool.call(client -> client.prompt(prompt).call().content());
+ * }</pre>
+ *
+ * @param <T> the endpoint type, e.g. {@code ChatClient} or {@code EmbeddingModel}
+ */
+@Slf4j
+public class EndpointPool<T> {
+
+    private final List<Endpoint<T>> endpoints = new CopyOnWriteArrayList<>();
+    private final EndpointSelector selector;
+    private final Predicate<Throwable> failoverPolicy;
+
+    /**
+     * Creates a pool with the default failover policy.
+     *
+     * @param endpoints initial endpoints in registration order
+     * @param selector  selector owned by this pool
+     */
+    public EndpointPool(final List<T> endpoints, final EndpointSelector selector) {
+        this(endpoints, selector, FailoverPolicy::isEndpointFailure);
+    }
+
+    /**
+     * Creates a pool with a custom failover policy.
+     *
+     * @param endpoints      initial endpoints in registration order
+     * @param selector       selector owned by this pool
+     * @param failoverPolicy returns {@code true} for errors that should be retried on another endpoint
+     */
+    public EndpointPool(
+            final List<T> endpoints, final EndpointSelector selector, final Predicate<Throwable> failoverPolicy) {
+        this.selector = Objects.requireNonNull(selector, "selector");
+        this.failoverPolicy = Objects.requireNonNull(failoverPolicy, "failoverPolicy");
+        for (final T endpoint : endpoints) {
+            add(endpoint);
+        }
+    }
+
+    /**
+     * Adds an endpoint at the end of the pool.
+     *
+     * @param endpoint the endpoint to add
+     */
+    public synchronized void add(final T endpoint) {
+        endpoints.add(new Endpoint<>(Objects.requireNonNull(endpoint, "endpoint"), new EndpointStats(endpoints.size())));
+    }
+
+    /**
+     * Chooses an endpoint without tracking a call on it.
+     * <p>
+     * Prefer {@link #call(Function)}, which also feeds the statistics and performs failover.
+     *
+     * @return the endpoint chosen by the selector
+     * @throws IllegalStateException if the pool is empty
+     */
+    public T select() {
+        final List<Endpoint<T>> snapshot = List.copyOf(endpoints);
+        if (snapshot.isEmpty()) {
+            throw new IllegalStateException("Endpoint pool is empty");
+        }
+        return snapshot.get(selectIndex(snapshot)).endpoint();
+    }
+
+    /**
+     * Runs a call on the selected endpoint, failing over to the remaining endpoints on endpoint failures.
+     *
+     * @param call the call to run against an endpoint
+     * @param <R>  the result type
+     * @return the result of the first successful call
+     * @throws IllegalStateException if the pool is empty
+     * @throws RuntimeException      the error of the last attempted endpoint
+     */
+    public <R> R call(final Function<T, R> call) {
+        return call(call, false);
+    }
+
+    /**
+     * Runs a call on an endpoint with the fewest calls in flight, failing over like {@link #call(Function)}.
+     * <p>
+     * Used for hedged requests: the duplicate of a slow call should preferably not queue up
+     * behind the original on the same endpoint. Among equally busy endpoints the selector decides.
+     *
+     * @param call the call to run against an endpoint
+     * @param <R>  the result type
+     * @return the result of the first successful call
+     * @throws IllegalStateException if the pool is empty
+     * @throws RuntimeException      the error of the last attempted endpoint
+     */
+    public <R> R callPreferringIdle(final Function<T, R> call) {
+        return call(call, true);
+    }
+
+    /**
+     * Wraps a call so that the pool hands its failover attempts to the caller.
+     * <p>
+     * When an attempt of the wrapped call fails over, the pool throws a
+     * {@link FailoverPendingException} instead of trying the next endpoint itself. The caller
+     * runs the next attempt with {@link FailoverPendingException#resume()}, and handles the
+     * exceptions it throws the same way. All other failures and results are unchanged.
+     *
+     * @param call the call to run against an endpoint
+     * @param <T>  the endpoint type
+     * @param <R>  the result type
+     * @return the call, deferring failover
+     */
+    public static <T, R> Function<T, R> deferFailover(final Function<T, R> call) {
+        return new DeferredFailover<>(Objects.requireNonNull(call, "call"));
+    }
+
+    private <R> R call(final Function<T, R> call, final boolean preferIdle) {
+        final List<Endpoint<T>> remaining = new ArrayList<>(endpoints);
+        if (remaining.isEmpty()) {
+            throw new IllegalStateException("Endpoint pool is empty");
+        }
+        return call(call, remaining, new ArrayList<>(), preferIdle);
+    }
+
+    private <R> R call(
+            final Function<T, R> call,
+            final List<Endpoint<T>> remaining,
+            final List<RuntimeException> previousErrors,
+            final boolean preferIdle) {
+        boolean firstAttempt = true;
+        while (true) {
+            final int index = firstAttempt && preferIdle ? selectLeastBusyIndex(remaining) : selectIndex(remaining);
+            firstAttempt = false;
+            final Endpoint<T> endpoint = remaining.remove(index);
+            final EndpointStats stats = endpoint.stats();
+            final long start = System.nanoTime();
+            stats.onStart();
+            boolean succeeded = false;
+            boolean cancelled = false;
+            try {
+                final R result = call.apply(endpoint.endpoint());
+                succeeded = true;
+                stats.onSuccess(Duration.ofNanos(System.nanoTime() - start));
+                return result;
+            } catch (final RuntimeException e) {
+                // An interrupted call was cancelled by the caller (timeout, hedging), not failed by the endpoint
+                cancelled = Thread.currentThread().isInterrupted();
+                if (cancelled || remaining.isEmpty() || !failoverPolicy.test(e)) {
+                    previousErrors.forEach(e::addSuppressed);
+                    throw e;
+                }
+                log.warn(
+                        "Endpoint #{} failed: {}. Failing over ({} endpoints left)",
+                        stats.getIndex(),
+                        e.getMessage(),
+                        remaining.size());
+                previousErrors.add(e);
+                if (call instanceof DeferredFailover) {
+                    throw new FailoverPendingException(
+                            previousErrors, () -> call(call, remaining, previousErrors, false));
+                }
+            } finally {
+                if (cancelled) {
+                    stats.onCancel();
+                } else if (!succeeded) {
+                    stats.onFailure();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the endpoints in registration order.
+     *
+     * @return immutable list of endpoints
+     */
+    public List<T> getEndpoints() {
+        return endpoints.stream().map(Endpoint::endpoint).toList();
+    }
+
+    /**
+     * Gets the live statistics of the endpoints in registration order.
+     *
+     * @return immutable list of statistics
+     */
+    public List<EndpointStats> getStats() {
+        return endpoints.stream().map(Endpoint::stats).toList();
+    }
+
+    /**
+     * Returns the number of endpoints.
+     *
+     * @return endpoint count
+     */
+    public int size() {
+        return endpoints.size();
+    }
+
+    private int selectIndex(final List<Endpoint<T>> candidates) {
+        if (candidates.size() == 1) {
+            return 0;
+        }
+        final int index = selector.select(
+                candidates.stream().map(Endpoint::stats).toList());
+        return Math.floorMod(index, candidates.size());
+    }
+
+    private int selectLeastBusyIndex(final List<Endpoint<T>> candidates) {
+        final int minInFlight = candidates.stream()
+                .mapToInt(endpoint -> endpoint.stats().getInFlight())
+                .min()
+                .orElse(0);
+        final List<Endpoint<T>> leastBusy = candidates.stream()
+                .filter(endpoint -> endpoint.stats().getInFlight() == minInFlight)
+                .toList();
+        return candidates.indexOf(leastBusy.get(selectIndex(leastBusy)));
+    }
+
+    private record Endpoint<T>(T endpoint, EndpointStats stats) {}
+
+    private record DeferredFailover<T, R>(Function<T, R> call) implements Function<T, R> {
+
+        @Override
+        public R apply(final T endpoint) {
+            return call.apply(endpoint);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.util.List;
+
+/**
+ * Strategy choosing which endpoint of a model serves the next call.
+ * <p>
+ * A model ID can be served by several endpoints (the same model configured in several
+ * providers, or several replicas of one deployment). The selector receives the statistics
+ * of the endpoints that are still candidates for the call and returns the index of the
+ * chosen one within that list. During failover the list shrinks to the endpoints that
+ * have not been tried yet.
+ * <p>
+ * Implementations may keep state (e.g. a round-robin counter) and must be thread-safe.
+ * Every {@link EndpointPool} owns its own selector instance.
+ *
+ * @see LoadBalancingStrategy
+ * @see EndpointPool
+ */
+@FunctionalInterface
+public interface EndpointSelector {
+
+    /**
+     * Chooses the endpoint for the next call.
+     *
+     * @param candidates statistics of the candidate endpoints, never empty
+     * @return index of the chosen endpoint within {@code candidates}
+     */
+    int select(List<EndpointStats> candidates);
+}
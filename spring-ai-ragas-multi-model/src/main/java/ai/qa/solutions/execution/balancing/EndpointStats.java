@@ -0,0 +1,131 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live statistics of one endpoint of an {@link EndpointPool}.
+ * <p>
+ * Tracks the calls currently in flight, an exponentially weighted moving average (EWMA)
+ * of the latency of successful calls and failure counters. All updates are lock-free,
+ * so the statistics can be read by selectors on every call.
+ */
+public final class EndpointStats {
+
+    /**
+     * Weight of the newest sample in the latency EWMA.
+     */
+    static final double LATENCY_EWMA_ALPHA = 0.2;
+
+    private static final long NO_LATENCY = Double.doubleToLongBits(-1.0);
+
+    private final int index;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyBits = new AtomicLong(NO_LATENCY);
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    EndpointStats(final int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the position of the endpoint in registration order.
+     *
+     * @return zero-based endpoint index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the number of calls currently running on the endpoint.
+     *
+     * @return calls in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Checks whether at least one successful call has been observed.
+     *
+     * @return {@code true} if {@link #getLatencyMillis()} is backed by samples
+     */
+    public boolean hasLatency() {
+        return latencyBits.get() != NO_LATENCY;
+    }
+
+    /**
+     * Gets the moving average latency of successful calls.
+     *
+     * @return latency in milliseconds, or 0 if no call has succeeded yet
+     */
+    public double getLatencyMillis() {
+        final double latency = Double.longBitsToDouble(latencyBits.get());
+        return latency < 0 ? 0.0 : latency;
+    }
+
+    /**
+     * Gets the number of successful calls.
+     *
+     * @return successful call count
+     */
+    public long getSuccesses() {
+        return successes.get();
+    }
+
+    /**
+     * Gets the number of failed calls.
+     *
+     * @return failed call count
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Gets the number of failures since the last successful call.
+     *
+     * @return consecutive failure count
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    void onSuccess(final Duration latency) {
+        inFlight.decrementAndGet();
+        successes.incrementAndGet();
+        consecutiveFailures.set(0);
+        final double sample = latency.toNanos() / 1_000_000.0;
+        latencyBits.getAndUpdate(bits -> {
+            final double current = Double.longBitsToDouble(bits);
+            final double updated =
+                    current < 0 ? sample : LATENCY_EWMA_ALPHA * sample + (1 - LATENCY_EWMA_ALPHA) * current;
+            return Double.doubleToLongBits(updated);
+        });
+    }
+
+    void onCancel() {
+        inFlight.decrementAndGet();
+    }
+
+    void onFailure() {
+        inFlight.decrementAndGet();
+        failures.incrementAndGet();
+        consecutiveFailures.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "EndpointStats[#%d, inFlight=%d, latency=%.1fms, successes=%d, failures=%d]",
+                index, getInFlight(), getLatencyMillis(), getSuccesses(), getFailures());
+    }
+}
@@ -0,0 +1,60 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Thrown by a call made with {@link EndpointPool#deferFailover(Function)} when
+ * its endpoint failed and the call should be retried on one of the endpoints not tried yet.
+ * <p>
+ * The failover attempt is not run on the calling thread: the caller runs it with
+ * {@link #resume()} once it is ready, e.g. after a rate limit token was granted asynchronously,
+ * from whatever thread it likes. The error of the failed endpoint is the cause of this exception.
+ *
+ * @see EndpointPool
+ */
+public class FailoverPendingException extends RuntimeException {
+
+    private final transient Supplier<?> failover;
+    private final List<RuntimeException> endpointErrors;
+
+    /**
+     * Creates a new pending failover.
+     *
+     * @param endpointErrors errors of the endpoints tried so far, the latest last
+     * @param failover       runs the call on the remaining endpoints
+     */
+    FailoverPendingException(final List<RuntimeException> endpointErrors, final Supplier<?> failover) {
+        super(
+                "Endpoint failed, failover pending: "
+                        + endpointErrors.get(endpointErrors.size() - 1).getMessage(),
+                endpointErrors.get(endpointErrors.size() - 1));
+        this.endpointErrors = List.copyOf(endpointErrors);
+        this.failover = failover;
+    }
+
+    /**
+     * Runs the call on the remaining endpoints, failing over like {@link EndpointPool#call(Function)}.
+     * <p>
+     * Another endpoint failure ends in a new {@link FailoverPendingException}; the error of the
+     * last endpoint is thrown with the earlier ones attached as suppressed exceptions.
+     *
+     * @param <R> the result type of the call
+     * @return the result of the first successful attempt
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R resume() {
+        // Safe: the supplier runs the call this exception was thrown for
+        return (R) failover.get();
+    }
+
+    /**
+     * Gets the errors of the endpoints tried so far.
+     *
+     * @return the errors in attempt order, the latest last
+     */
+    public List<RuntimeException> getEndpointErrors() {
+        return endpointErrors;
+    }
+}
@@ -0,0 +1,41 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.io.IOException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Decides whether a failed call may be retried on another endpoint of the same model.
+ * <p>
+ * Only failures caused by the endpoint itself qualify: connection problems and server errors
+ * (HTTP 5xx). Client errors such as an invalid request or a response that cannot be parsed
+ * would fail the same way on every endpoint, so they are propagated immediately.
+ */
+public final class FailoverPolicy {
+
+    private FailoverPolicy() {}
+
+    /**
+     * Checks the exception and its causes for an endpoint-level failure.
+     *
+     * @param error the failure of the call
+     * @return {@code true} if the call should be retried on another endpoint
+     */
+    public static boolean isEndpointFailure(final Throwable error) {
+        Throwable current = error;
+        int depth = 0;
+        while (current != null && depth++ < 16) {
+            if (current instanceof IOException
+                    || current instanceof ResourceAccessException
+                    || current instanceof TransientAiException) {
+                return true;
+            }
+            if (current instanceof RestClientResponseException response) {
+                return response.getStatusCode().is5xxServerError();
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
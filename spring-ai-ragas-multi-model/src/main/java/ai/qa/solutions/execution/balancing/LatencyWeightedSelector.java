@@ -0,0 +1,53 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selector picking a candidate at random with a probability inversely proportional to its latency.
+ *
+ * @see LoadBalancingStrategy#LATENCY_WEIGHTED
+ */
+final class LatencyWeightedSelector implements EndpointSelector {
+
+    /**
+     * Floor for the latency used in weights, avoids infinite weights for near-zero samples.
+     */
+    private static final double MIN_LATENCY_MILLIS = 1.0;
+
+    @Override
+    public int select(final List<EndpointStats> candidates) {
+        if (candidates.size() == 1) {
+            return 0;
+        }
+
+        // Endpoints without samples are treated as the fastest known one, so they get probed
+        double fastest = Double.MAX_VALUE;
+        for (final EndpointStats stats : candidates) {
+            if (stats.hasLatency()) {
+                fastest = Math.min(fastest, stats.getLatencyMillis());
+            }
+        }
+        if (fastest == Double.MAX_VALUE) {
+            fastest = MIN_LATENCY_MILLIS;
+        }
+
+        final double[] weights = new double[candidates.size()];
+        double total = 0.0;
+        for (int i = 0; i < candidates.size(); i++) {
+            final EndpointStats stats = candidates.get(i);
+            final double latency = Math.max(MIN_LATENCY_MILLIS, stats.hasLatency() ? stats.getLatencyMillis() : fastest);
+            weights[i] = 1.0 / (latency * (1 + stats.getConsecutiveFailures()));
+            total += weights[i];
+        }
+
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (int i = 0; i < weights.length; i++) {
+            point -= weights[i];
+            if (point < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,26 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.util.List;
+
+/**
+ * Selector choosing the candidate with the fewest calls in flight.
+ *
+ * @see LoadBalancingStrategy#LEAST_IN_FLIGHT
+ */
+final class LeastInFlightSelector implements EndpointSelector {
+
+    @Override
+    public int select(final List<EndpointStats> candidates) {
+        int best = 0;
+        for (int i = 1; i < candidates.size(); i++) {
+            final EndpointStats current = candidates.get(i);
+            final EndpointStats chosen = candidates.get(best);
+            if (current.getInFlight() < chosen.getInFlight()
+                    || (current.getInFlight() == chosen.getInFlight()
+                            && current.getLatencyMillis() < chosen.getLatencyMillis())) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,52 @@
+package ai.qa.solutions.execution.balancing;
+
+/**
+ * Built-in strategies for spreading calls across the endpoints of one model ID.
+ *
+ * @see EndpointSelector
+ * @see EndpointPool
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Always use the first endpoint; the others only receive calls on failover.
+     * <p>
+     * This is the default and matches the behavior of single-endpoint configurations.
+     */
+    FIRST,
+
+    /**
+     * Rotate over the endpoints in registration order.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Use the endpoint with the fewest calls currently in flight.
+     * <p>
+     * Ties are broken by the lower observed latency.
+     */
+    LEAST_IN_FLIGHT,
+
+    /**
+     * Pick an endpoint at random, weighted by the inverse of its observed latency.
+     * <p>
+     * Faster endpoints receive proportionally more calls, endpoints without latency samples
+     * are treated as the fastest one so they get probed, and endpoints failing in a row are
+     * progressively de-prioritized.
+     */
+    LATENCY_WEIGHTED;
+
+    /**
+     * Creates a new selector instance implementing this strategy.
+     *
+     * @return a fresh selector, to be owned by a single {@link EndpointPool}
+     */
+    public EndpointSelector createSelector() {
+        return switch (this) {
+            case FIRST -> candidates -> 0;
+            case ROUND_ROBIN -> new RoundRobinSelector();
+            case LEAST_IN_FLIGHT -> new LeastInFlightSelector();
+            case LATENCY_WEIGHTED -> new LatencyWeightedSelector();
+        };
+    }
+}
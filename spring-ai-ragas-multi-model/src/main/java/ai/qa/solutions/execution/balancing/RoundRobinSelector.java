@@ -0,0 +1,19 @@
+package ai.qa.solutions.execution.balancing;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selector rotating over the candidate endpoints.
+ *
+ * @see LoadBalancingStrategy#ROUND_ROBIN
+ */
+final class RoundRobinSelector implements EndpointSelector {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public int select(final List<EndpointStats> candidates) {
+        return Math.floorMod(counter.getAndIncrement(), candidates.size());
+    }
+}
@@ -0,0 +1,110 @@
+package ai.qa.solutions.execution.batching;
+
+import ai.qa.solutions.execution.ratelimit.TokenEstimator;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Limits of a single batched embedding request.
+ * <p>
+ * Embedding providers accept many inputs per request but cap both the number of inputs and
+ * the total number of tokens. {@link #split(List)} cuts a list of texts into consecutive
+ * sub-batches that respect both limits, so each sub-batch can be sent as one
+ * {@code EmbeddingModel.embed(List)} call.
+ * <p>
+ * Token counts are estimated with {@link TokenEstimator}. A single text exceeding the token
+ * budget on its own is sent as a batch of one and left to the provider to accept or reject.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * EmbeddingBatchPolicy policy = EmbeddingBatchPolicy.builder()
+ *     .maxBatchSize(64)
+ *     .maxTokensPerBatch(50_000)
+ *     .build();
+ *
+ * List<List<String>> batches = policy.split(texts);
+ * }</pre>
+ */
+@Getter
+public class EmbeddingBatchPolicy {
+
+    /**
+     * Default maximum number of texts per request.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+    /**
+     * Default maximum estimated tokens per request.
+     */
+    public static final long DEFAULT_MAX_TOKENS_PER_BATCH = 100_000L;
+
+    /**
+     * Maximum number of texts per request.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Maximum estimated tokens per request.
+     */
+    private final long maxTokensPerBatch;
+
+    /**
+     * Creates a new batch policy.
+     *
+     * @param maxBatchSize      maximum number of texts per request, defaults to {@link #DEFAULT_MAX_BATCH_SIZE}
+     * @param maxTokensPerBatch maximum estimated tokens per request, defaults to {@link #DEFAULT_MAX_TOKENS_PER_BATCH}
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    @Builder
+    protected EmbeddingBatchPolicy(final Integer maxBatchSize, final Long maxTokensPerBatch) {
+        this.maxBatchSize = maxBatchSize != null ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE;
+        this.maxTokensPerBatch = maxTokensPerBatch != null ? maxTokensPerBatch : DEFAULT_MAX_TOKENS_PER_BATCH;
+        if (this.maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive, got: " + this.maxBatchSize);
+        }
+        if (this.maxTokensPerBatch <= 0) {
+            throw new IllegalArgumentException("maxTokensPerBatch must be positive, got: " + this.maxTokensPerBatch);
+        }
+    }
+
+    /**
+     * Creates a policy with default limits.
+     *
+     * @return default batch policy
+     */
+    public static EmbeddingBatchPolicy defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Splits texts into consecutive sub-batches within the configured limits.
+     * <p>
+     * The order of texts is preserved, so concatenating the embeddings of all sub-batches
+     * yields the embeddings of the input in order.
+     *
+     * @param texts the texts to split
+     * @return non-empty sub-batches, or an empty list for empty input
+     */
+    public List<List<String>> split(final List<String> texts) {
+        final List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        long currentTokens = 0;
+        for (final String text : texts) {
+            final long tokens = TokenEstimator.estimateTokens(text);
+            final boolean full = current.size() >= maxBatchSize || currentTokens + tokens > maxTokensPerBatch;
+            if (!current.isEmpty() && full) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(text);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,334 @@
+package ai.qa.solutions.execution.batching;
+
+import ai.qa.solutions.execution.ModelResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Coalesces concurrent embedding requests for the same model into one batched call.
+ * <p>
+ * Requests submitted for a model are collected until either the batch window elapses
+ * (measured from the first request of the batch) or the batch holds {@code maxBatchSize}
+ * texts. The collected texts are then sent with a single call of the supplied sender and
+ * the returned vectors are fanned back out to the waiting requests in submission order.
+ * If the batched call fails, every request of the batch fails with the same error.
+ * <p>
+ * The window and batch size can be overridden per embedding model ID. Achieved batch sizes
+ * are tracked per model and available via {@link #getStats(String)}.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+ *     .window(Duration.ofMillis(5))
+ *     .maxBatchSize(64)
+ *     .modelSettings(Map.of("text-embedding-3-large", new EmbeddingMicroBatcher.Settings(Duration.ofMillis(10), 256)))
+ *     .build();
+ *
+ * MultiModelExecutor executor = MultiModelExecutor.builder()
+ *     .chatClientStore(chatClientStore)
+ *     .embeddingModelStore(embeddingModelStore)
+ *     .metricExecutor(metricExecutor)
+ *     .httpExecutor(httpExecutor)
+ *     .embeddingMicroBatcher(batcher)
+ *     .build();
+ * }</pre>
+ */
+@Slf4j
+public class EmbeddingMicroBatcher implements AutoCloseable {
+
+    /**
+     * Default time to wait for more requests after the first request of a batch.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+
+    /**
+     * Default number of texts that triggers an immediate flush.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    private final Settings defaultSettings;
+    private final Map<String, Settings> modelSettings;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+
+    private final Object lock = new Object();
+    private final Map<String, PendingBatch> pending = new HashMap<>();
+    private final Map<String, BatchCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new micro-batcher.
+     *
+     * @param window        default batch window, defaults to {@link #DEFAULT_WINDOW}
+     * @param maxBatchSize  default number of texts that triggers a flush, defaults to {@link #DEFAULT_MAX_BATCH_SIZE}
+     * @param modelSettings per-model overrides of window and batch size (nullable)
+     * @param scheduler     scheduler firing batch windows (nullable, a daemon scheduler owned by the batcher if null)
+     * @throws IllegalArgumentException if a window or batch size is not positive
+     */
+    @Builder
+    protected EmbeddingMicroBatcher(
+            @Nullable final Duration window,
+            @Nullable final Integer maxBatchSize,
+            @Nullable final Map<String, Settings> modelSettings,
+            @Nullable final ScheduledExecutorService scheduler) {
+        this.defaultSettings = new Settings(
+                window != null ? window : DEFAULT_WINDOW, maxBatchSize != null ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE);
+        this.modelSettings = modelSettings != null ? Map.copyOf(modelSettings) : Map.of();
+        this.ownsScheduler = scheduler == null;
+        this.scheduler = scheduler != null ? scheduler : createScheduler();
+    }
+
+    /**
+     * Submits texts to be embedded as part of the next batch of the model.
+     * <p>
+     * All requests of one model are expected to use an equivalent sender; the sender of the
+     * first request of a batch is used for the whole batch.
+     *
+     * @param modelId the embedding model ID
+     * @param texts   the texts to embed
+     * @param sender  sends one batched call for the model and returns one vector per text in order
+     * @return future with the vectors of the submitted texts
+     */
+    public CompletableFuture<ModelResult<List<float[]>>> submit(
+            final String modelId,
+            final List<String> texts,
+            final Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> sender) {
+        final String request = String.join(", ", texts);
+        if (texts.isEmpty()) {
+            return CompletableFuture.completedFuture(ModelResult.success(modelId, List.of(), Duration.ZERO, request));
+        }
+        final Settings settings = settingsFor(modelId);
+        final Waiter waiter = new Waiter(texts, request, new CompletableFuture<>());
+        PendingBatch full = null;
+        synchronized (lock) {
+            PendingBatch batch = pending.get(modelId);
+            if (batch == null) {
+                batch = new PendingBatch(modelId, sender);
+                pending.put(modelId, batch);
+                final PendingBatch scheduled = batch;
+                batch.timer = scheduler.schedule(
+                        () -> flushIfPending(scheduled), settings.window().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            batch.waiters.add(waiter);
+            batch.textCount += texts.size();
+            if (batch.textCount >= settings.maxBatchSize()) {
+                pending.remove(modelId);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            full.timer.cancel(false);
+            flush(full);
+        }
+        return waiter.future();
+    }
+
+    /**
+     * Gets the batching statistics of a model.
+     *
+     * @param modelId the embedding model ID
+     * @return statistics of the batches flushed so far
+     */
+    public Stats getStats(final String modelId) {
+        final BatchCounter counter = counters.get(modelId);
+        return counter != null ? counter.snapshot() : new Stats(0, 0, 0, 0);
+    }
+
+    /**
+     * Gets the effective settings of a model.
+     *
+     * @param modelId the embedding model ID
+     * @return the model's override, or the default settings
+     */
+    public Settings settingsFor(final String modelId) {
+        return modelSettings.getOrDefault(modelId, defaultSettings);
+    }
+
+    /**
+     * Flushes all pending batches and shuts down the scheduler if owned by this batcher.
+     */
+    @Override
+    public void close() {
+        final List<PendingBatch> remaining;
+        synchronized (lock) {
+            remaining = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (final PendingBatch batch : remaining) {
+            batch.timer.cancel(false);
+            flush(batch);
+        }
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void flushIfPending(final PendingBatch batch) {
+        synchronized (lock) {
+            if (pending.get(batch.modelId) != batch) {
+                return;
+            }
+            pending.remove(batch.modelId);
+        }
+        flush(batch);
+    }
+
+    private void flush(final PendingBatch batch) {
+        final List<String> texts = new ArrayList<>(batch.textCount);
+        batch.waiters.forEach(waiter -> texts.addAll(waiter.texts()));
+        counters.computeIfAbsent(batch.modelId, id -> new BatchCounter())
+                .record(batch.waiters.size(), texts.size());
+        log.debug(
+                "Flushing embedding batch for {}: {} requests, {} texts",
+                batch.modelId,
+                batch.waiters.size(),
+                texts.size());
+
+        CompletableFuture<ModelResult<List<float[]>>> call;
+        try {
+            call = Objects.requireNonNull(batch.sender.apply(texts), "sender returned null");
+        } catch (RuntimeException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.whenComplete((result, error) -> fanOut(batch, result, error));
+    }
+
+    private static void fanOut(
+            final PendingBatch batch,
+            @Nullable final ModelResult<List<float[]>> result,
+            @Nullable final Throwable error) {
+        final Duration duration = result != null ? result.duration() : Duration.ZERO;
+        final Throwable failure = failureOf(batch, result, error);
+        int offset = 0;
+        for (final Waiter waiter : batch.waiters) {
+            if (failure != null) {
+                waiter.future().complete(ModelResult.failure(batch.modelId, duration, waiter.request(), failure));
+                continue;
+            }
+            final List<float[]> vectors =
+                    List.copyOf(result.result().subList(offset, offset + waiter.texts().size()));
+            offset += waiter.texts().size();
+            waiter.future().complete(ModelResult.success(batch.modelId, vectors, duration, waiter.request()));
+        }
+    }
+
+    @Nullable
+    private static Throwable failureOf(
+            final PendingBatch batch,
+            @Nullable final ModelResult<List<float[]>> result,
+            @Nullable final Throwable error) {
+        if (error != null) {
+            return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        }
+        if (result == null) {
+            return new IllegalStateException("Embedding batch returned no result");
+        }
+        if (result.isFailure()) {
+            return result.error();
+        }
+        if (result.result().size() != batch.textCount) {
+            return new IllegalStateException("Embedding batch returned " + result.result().size()
+                    + " embeddings for " + batch.textCount + " texts");
+        }
+        return null;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ragas-embedding-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Batch window and flush size of a model.
+     *
+     * @param window       time to wait for more requests after the first request of a batch
+     * @param maxBatchSize number of texts that triggers an immediate flush
+     */
+    public record Settings(Duration window, int maxBatchSize) {
+
+        public Settings {
+            Objects.requireNonNull(window, "window");
+            if (window.isZero() || window.isNegative()) {
+                throw new IllegalArgumentException("window must be positive, got: " + window);
+            }
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be positive, got: " + maxBatchSize);
+            }
+        }
+    }
+
+    /**
+     * Batching statistics of one model.
+     *
+     * @param batches       number of batched calls sent
+     * @param requests      number of submitted requests
+     * @param texts         number of texts sent
+     * @param maxBatchTexts largest number of texts sent in one call
+     */
+    public record Stats(long batches, long requests, long texts, long maxBatchTexts) {
+
+        /**
+         * Gets the average number of texts per batched call.
+         *
+         * @return average batch size, 0 if no batch was sent
+         */
+        public double averageBatchSize() {
+            return batches == 0 ? 0.0 : (double) texts / batches;
+        }
+    }
+
+    private record Waiter(
+            List<String> texts, String request, CompletableFuture<ModelResult<List<float[]>>> future) {}
+
+    private static final class PendingBatch {
+
+        private final String modelId;
+        private final Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> sender;
+        private final List<Waiter> waiters = new ArrayList<>();
+        private int textCount;
+        private ScheduledFuture<?> timer;
+
+        private PendingBatch(
+                final String modelId,
+                final Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> sender) {
+            this.modelId = modelId;
+            this.sender = sender;
+        }
+    }
+
+    private static final class BatchCounter {
+
+        private long batches;
+        private long requests;
+        private long texts;
+        private long maxBatchTexts;
+
+        private synchronized void record(final int batchRequests, final int batchTexts) {
+            batches++;
+            requests += batchRequests;
+            texts += batchTexts;
+            maxBatchTexts = Math.max(maxBatchTexts, batchTexts);
+        }
+
+        private synchronized Stats snapshot() {
+            return new Stats(batches, requests, texts, maxBatchTexts);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package ai.qa.solutions.execution.cache;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of cache entries with an in-memory hash index.
+ * <p>
+ * Every entry is one UTF-8 line {@code <key>\t<createdAtMillis>\t<json>\n}. The index maps
+ * each key to the position of its latest value in the file and is rebuilt by scanning the
+ * file on open, so a rewritten key simply shadows its older records. An incomplete trailing
+ * line left by an interrupted write is truncated on open.
+ * <p>
+ * Shadowed and expired records stay in the file until it is compacted: once the file holds
+ * twice {@code maxEntries} records, on open or on append, it is rewritten with only the newest
+ * {@code maxEntries} live entries and atomically replaces the old file. This bounds both the
+ * file and the index while keeping compaction amortized over at least {@code maxEntries} appends.
+ * <p>
+ * All methods are synchronized; reads use positional I/O and do not move the append position.
+ */
+@Slf4j
+final class AppendOnlyCacheLog implements Closeable {
+
+    private final Path file;
+    private final int maxEntries;
+    private final LongPredicate expired;
+    private final Map<String, Position> index = new HashMap<>();
+    private FileChannel channel;
+    private int records;
+
+    /**
+     * Opens or creates the log file and rebuilds its index.
+     *
+     * @param file       path of the log file, parent directories are created if missing
+     * @param maxEntries number of live entries kept by compaction
+     * @param expired    tells from its creation time whether an entry is expired
+     * @throws IOException if the file cannot be opened or read
+     */
+    AppendOnlyCacheLog(final Path file, final int maxEntries, final LongPredicate expired) throws IOException {
+        this.file = file;
+        this.maxEntries = maxEntries;
+        this.expired = expired;
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        load();
+        compactIfFull();
+    }
+
+    /**
+     * Reads the latest value stored for the key.
+     *
+     * @param key the cache key
+     * @return the stored entry, or null if the key is not in the log
+     * @throws IOException if the file cannot be read
+     */
+    synchronized StoredValue get(final String key) throws IOException {
+        final Position position = index.get(key);
+        if (position == null) {
+            return null;
+        }
+        return new StoredValue(new String(read(position), StandardCharsets.UTF_8), position.createdAtMillis());
+    }
+
+    /**
+     * Appends a value for the key, shadowing any earlier value.
+     *
+     * @param key             the cache key (must not contain tabs or line breaks)
+     * @param createdAtMillis creation time of the entry
+     * @param json            the value (must not contain line breaks)
+     * @throws IOException if the file cannot be written
+     */
+    synchronized void append(final String key, final long createdAtMillis, final String json) throws IOException {
+        final Position position =
+                write(channel, channel.size(), key, createdAtMillis, json.getBytes(StandardCharsets.UTF_8));
+        index.put(key, position);
+        records++;
+        compactIfFull();
+    }
+
+    /**
+     * Gets the number of distinct keys in the log.
+     *
+     * @return number of indexed keys
+     */
+    synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Gets the number of records in the file, including shadowed and expired ones.
+     *
+     * @return number of records
+     */
+    synchronized int records() {
+        return records;
+    }
+
+    /**
+     * Rewrites the file with only the newest {@code maxEntries} live entries.
+     *
+     * @throws IOException if the file cannot be rewritten
+     */
+    synchronized void compact() throws IOException {
+        final Comparator<Map.Entry<String, Position>> byAge =
+                Comparator.comparingLong(entry -> entry.getValue().createdAtMillis());
+        // Newest live entries, written oldest first like the original log
+        final List<Map.Entry<String, Position>> live = index.entrySet().stream()
+                .filter(entry -> !expired.test(entry.getValue().createdAtMillis()))
+                .sorted(byAge.reversed())
+                .limit(maxEntries)
+                .sorted(byAge)
+                .toList();
+        final Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        final Map<String, Position> compactedIndex = new HashMap<>();
+        try (FileChannel out = FileChannel.open(
+                compacted,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = 0;
+            for (final Map.Entry<String, Position> entry : live) {
+                final byte[] value = read(entry.getValue());
+                final Position position =
+                        write(out, offset, entry.getKey(), entry.getValue().createdAtMillis(), value);
+                compactedIndex.put(entry.getKey(), position);
+                offset = position.offset() + value.length + 1;
+            }
+            out.force(true);
+        }
+        final int before = records;
+        channel.close();
+        try {
+            replace(compacted);
+        } finally {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        index.clear();
+        index.putAll(compactedIndex);
+        records = compactedIndex.size();
+        log.debug("Compacted cache file {} from {} to {} records", file, before, records);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void compactIfFull() {
+        if (records < 2L * maxEntries) {
+            return;
+        }
+        try {
+            compact();
+        } catch (final IOException e) {
+            log.warn("Cannot compact cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void replace(final Path compacted) throws IOException {
+        try {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private byte[] read(final Position position) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(position.length());
+        long offset = position.offset();
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of cache file " + file);
+            }
+            offset += read;
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Writes one record at the offset and returns the position of its value.
+     */
+    private static Position write(
+            final FileChannel target,
+            final long start,
+            final String key,
+            final long createdAtMillis,
+            final byte[] value)
+            throws IOException {
+        final byte[] header = (key + '\t' + createdAtMillis + '\t').getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(header.length + value.length + 1);
+        buffer.put(header).put(value).put((byte) '\n').flip();
+        long offset = start;
+        while (buffer.hasRemaining()) {
+            offset += target.write(buffer, offset);
+        }
+        return new Position(start + header.length, value.length, createdAtMillis);
+    }
+
+    private void load() throws IOException {
+        long lineStart = 0;
+        long position = 0;
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    indexLine(line.toByteArray(), lineStart);
+                    line.reset();
+                    lineStart = position;
+                } else {
+                    line.write(b);
+                }
+            }
+        }
+        if (lineStart < channel.size()) {
+            log.warn("Discarding incomplete trailing record of cache file {}", file);
+            channel.truncate(lineStart);
+        }
+        log.debug("Loaded {} cache entries from {}", index.size(), file);
+    }
+
+    private void indexLine(final byte[] bytes, final long lineStart) {
+        // Key and timestamp are ASCII, so character positions equal byte positions up to the value
+        final String text = new String(bytes, StandardCharsets.UTF_8);
+        final int keyEnd = text.indexOf('\t');
+        final int timestampEnd = keyEnd < 0 ? -1 : text.indexOf('\t', keyEnd + 1);
+        if (timestampEnd < 0) {
+            log.warn("Skipping malformed record at offset {} of cache file {}", lineStart, file);
+            return;
+        }
+        try {
+            final long createdAtMillis = Long.parseLong(text.substring(keyEnd + 1, timestampEnd));
+            final int headerLength = timestampEnd + 1;
+            index.put(
+                    text.substring(0, keyEnd),
+                    new Position(lineStart + headerLength, bytes.length - headerLength, createdAtMillis));
+            records++;
+        } catch (final NumberFormatException e) {
+            log.warn("Skipping malformed record at offset {} of cache file {}", lineStart, file);
+        }
+    }
+
+    /**
+     * Value read from the log.
+     *
+     * @param json            the stored value
+     * @param createdAtMillis creation time of the entry
+     */
+    record StoredValue(String json, long createdAtMillis) {}
+
+    private record Position(long offset, int length, long createdAtMillis) {}
+}
@@ -0,0 +1,270 @@
+package ai.qa.solutions.execution.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Content-addressed cache of embedding vectors with compact float32 storage.
+ * <p>
+ * Entries are keyed by the SHA-256 of the embedding model ID, the model's configured
+ * dimensions and the text. Vectors are stored as float32 in off-heap arenas (one per vector
+ * length) instead of as individual heap arrays:
+ * <ul>
+ *   <li>In-memory tier: LRU bounded by {@code maxEntries}; evicted slots are reused</li>
+ *   <li>Disk tier (optional): append-only binary file with a hash index that survives
+ *       restarts; memory misses are served from disk and promoted to memory</li>
+ * </ul>
+ * Cache I/O problems are logged and treated as misses, so the cache can never fail an
+ * evaluation. Vectors are copied to a new {@code float[]} on every hit, callers may modify them.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * EmbeddingCache cache = EmbeddingCache.builder()
+ *     .maxEntries(500_000)
+ *     .file(Path.of(".ragas-cache/embeddings.bin"))
+ *     .dimensions(Map.of("text-embedding-3-large", 3072)::get)
+ *     .build();
+ *
+ * MultiModelExecutor executor = MultiModelExecutor.builder()
+ *     .chatClientStore(chatClientStore)
+ *     .embeddingModelStore(embeddingModelStore)
+ *     .metricExecutor(metricExecutor)
+ *     .httpExecutor(httpExecutor)
+ *     .embeddingCache(cache)
+ *     .build();
+ * }</pre>
+ */
+@Slf4j
+public class EmbeddingCache implements AutoCloseable {
+
+    /**
+     * Default maximum number of vectors kept in memory.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    /**
+     * Length of a cache key in bytes.
+     */
+    static final int KEY_BYTES = 32;
+
+    /**
+     * Maximum number of vectors per off-heap segment.
+     */
+    private static final int SLOTS_PER_SEGMENT = 1024;
+
+    private final int maxEntries;
+    private final Function<String, Integer> dimensions;
+    private final Map<Integer, FloatArena> arenas = new HashMap<>();
+    private final Map<Key, Slot> memory;
+
+    @Nullable
+    private final EmbeddingCacheFile diskFile;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new embedding cache.
+     *
+     * @param maxEntries maximum number of in-memory vectors, defaults to {@link #DEFAULT_MAX_ENTRIES}
+     * @param file       binary file of the disk tier (nullable, memory only if null)
+     * @param dimensions maps a model ID to its configured dimensions (nullable, or returning null if unknown)
+     * @throws UncheckedIOException if the cache file cannot be opened
+     */
+    @Builder
+    protected EmbeddingCache(
+            final Integer maxEntries, @Nullable final Path file, @Nullable final Function<String, Integer> dimensions) {
+        this.maxEntries = maxEntries != null ? maxEntries : DEFAULT_MAX_ENTRIES;
+        if (this.maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got: " + this.maxEntries);
+        }
+        this.dimensions = dimensions != null ? dimensions : modelId -> null;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true);
+        try {
+            this.diskFile = file != null ? new EmbeddingCacheFile(file) : null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot open embedding cache file " + file, e);
+        }
+    }
+
+    /**
+     * Looks up the vector of a text.
+     *
+     * @param modelId the embedding model ID
+     * @param text    the embedded text
+     * @return a copy of the cached vector, or empty on a miss
+     */
+    public Optional<float[]> get(final String modelId, final String text) {
+        final Key key = keyOf(modelId, text);
+        synchronized (memory) {
+            final Slot slot = memory.get(key);
+            if (slot != null) {
+                hits.incrementAndGet();
+                return Optional.of(slot.arena().read(slot.index()));
+            }
+        }
+        if (diskFile != null) {
+            try {
+                final float[] vector = diskFile.get(key);
+                if (vector != null) {
+                    storeInMemory(key, vector);
+                    hits.incrementAndGet();
+                    return Optional.of(vector);
+                }
+            } catch (final IOException e) {
+                log.warn("Cannot read embedding cache file: {}", e.getMessage());
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the vector of a text.
+     *
+     * @param modelId the embedding model ID
+     * @param text    the embedded text
+     * @param vector  the vector to store (copied)
+     */
+    public void put(final String modelId, final String text, final float[] vector) {
+        if (vector == null || vector.length == 0) {
+            return;
+        }
+        final Key key = keyOf(modelId, text);
+        storeInMemory(key, vector);
+        if (diskFile != null) {
+            try {
+                if (!diskFile.contains(key)) {
+                    diskFile.append(key, vector);
+                }
+            } catch (final IOException e) {
+                log.warn("Cannot write embedding of model {} to cache file: {}", modelId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups not served from the cache.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of vectors in the in-memory tier.
+     *
+     * @return in-memory entry count
+     */
+    public int getMemorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * Gets the off-heap memory reserved for in-memory vectors.
+     *
+     * @return allocated bytes
+     */
+    public long getOffHeapBytes() {
+        synchronized (memory) {
+            return arenas.values().stream().mapToLong(FloatArena::allocatedBytes).sum();
+        }
+    }
+
+    /**
+     * Closes the cache file of the disk tier, if any. Off-heap memory is released once the
+     * cache is garbage collected.
+     */
+    @Override
+    public void close() {
+        if (diskFile != null) {
+            try {
+                diskFile.close();
+            } catch (final IOException e) {
+                log.warn("Cannot close embedding cache file: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Computes the cache key of a text.
+     *
+     * @param modelId the embedding model ID
+     * @param text    the embedded text
+     * @return content-addressed key
+     */
+    Key keyOf(final String modelId, final String text) {
+        final Integer modelDimensions = dimensions.apply(modelId);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((modelId + '\n' + (modelDimensions != null ? modelDimensions : "") + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return Key.readFrom(ByteBuffer.wrap(digest.digest()));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void storeInMemory(final Key key, final float[] vector) {
+        synchronized (memory) {
+            final Slot existing = memory.remove(key);
+            if (existing != null) {
+                existing.arena().free(existing.index());
+            }
+            // Evict before storing so the new vector can reuse the evicted slot
+            if (memory.size() >= maxEntries) {
+                final Iterator<Slot> eldest = memory.values().iterator();
+                final Slot evicted = eldest.next();
+                eldest.remove();
+                evicted.arena().free(evicted.index());
+            }
+            final FloatArena arena = arenas.computeIfAbsent(
+                    vector.length, length -> new FloatArena(length, Math.min(maxEntries, SLOTS_PER_SEGMENT)));
+            memory.put(key, new Slot(arena, arena.store(vector)));
+        }
+    }
+
+    /**
+     * SHA-256 cache key held as four longs to avoid a byte array per entry.
+     */
+    record Key(long first, long second, long third, long fourth) {
+
+        static Key readFrom(final ByteBuffer buffer) {
+            return new Key(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        void writeTo(final ByteBuffer buffer) {
+            buffer.putLong(first).putLong(second).putLong(third).putLong(fourth);
+        }
+    }
+
+    private record Slot(FloatArena arena, int index) {}
+}
@@ -0,0 +1,165 @@
+package ai.qa.solutions.execution.cache;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only binary file of float32 vectors with an in-memory hash index.
+ * <p>
+ * Every record is {@code <32-byte key><int32 dimensions><dimensions x float32>} in little-endian
+ * order. The index maps each key to the position of its vector and is rebuilt by scanning the
+ * file on open; an incomplete trailing record left by an interrupted write is truncated.
+ * <p>
+ * All methods are synchronized; reads use positional I/O and do not move the append position.
+ */
+@Slf4j
+final class EmbeddingCacheFile implements Closeable {
+
+    private static final int HEADER_BYTES = EmbeddingCache.KEY_BYTES + Integer.BYTES;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<EmbeddingCache.Key, Position> index = new HashMap<>();
+
+    /**
+     * Opens or creates the file and rebuilds its index.
+     *
+     * @param file path of the file, parent directories are created if missing
+     * @throws IOException if the file cannot be opened or read
+     */
+    EmbeddingCacheFile(final Path file) throws IOException {
+        this.file = file;
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        load();
+    }
+
+    /**
+     * Checks whether a vector is stored for the key.
+     *
+     * @param key the cache key
+     * @return true if the key is in the file
+     */
+    synchronized boolean contains(final EmbeddingCache.Key key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Reads the vector stored for the key.
+     *
+     * @param key the cache key
+     * @return the vector, or null if the key is not in the file
+     * @throws IOException if the file cannot be read
+     */
+    synchronized float[] get(final EmbeddingCache.Key key) throws IOException {
+        final Position position = index.get(key);
+        if (position == null) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(position.dimensions() * Float.BYTES);
+        long offset = position.offset();
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of embedding cache file " + file);
+            }
+            offset += read;
+        }
+        buffer.flip();
+        final float[] vector = new float[position.dimensions()];
+        buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * Appends a vector for the key.
+     *
+     * @param key    the cache key
+     * @param vector the vector
+     * @throws IOException if the file cannot be written
+     */
+    synchronized void append(final EmbeddingCache.Key key, final float[] vector) throws IOException {
+        final ByteBuffer buffer =
+                ByteBuffer.allocate(HEADER_BYTES + vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        key.writeTo(buffer);
+        buffer.putInt(vector.length);
+        buffer.asFloatBuffer().put(vector);
+        buffer.position(buffer.limit()).flip();
+
+        final long start = channel.size();
+        long offset = start;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+        index.put(key, new Position(start + HEADER_BYTES, vector.length));
+    }
+
+    /**
+     * Gets the number of distinct keys in the file.
+     *
+     * @return number of indexed keys
+     */
+    synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void load() throws IOException {
+        final long size = channel.size();
+        long position = 0;
+        final byte[] header = new byte[HEADER_BYTES];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (position + HEADER_BYTES <= size) {
+                in.readFully(header);
+                final ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+                final EmbeddingCache.Key key = EmbeddingCache.Key.readFrom(headerBuffer);
+                final int dimensions = headerBuffer.getInt();
+                final long vectorBytes = (long) dimensions * Float.BYTES;
+                if (dimensions <= 0 || position + HEADER_BYTES + vectorBytes > size) {
+                    break;
+                }
+                skipFully(in, vectorBytes);
+                index.put(key, new Position(position + HEADER_BYTES, dimensions));
+                position += HEADER_BYTES + vectorBytes;
+            }
+        }
+        if (position < size) {
+            log.warn("Discarding incomplete trailing record of embedding cache file {}", file);
+            channel.truncate(position);
+        }
+        log.debug("Loaded {} cached embeddings from {}", index.size(), file);
+    }
+
+    private static void skipFully(final DataInputStream in, final long bytes) throws IOException {
+        long remaining = bytes;
+        while (remaining > 0) {
+            final long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private record Position(long offset, int dimensions) {}
+}
@@ -0,0 +1,94 @@
+package ai.qa.solutions.execution.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Off-heap storage of fixed-length float32 vectors.
+ * <p>
+ * Vectors live in direct buffers allocated in segments of {@code slotsPerSegment} slots, so a
+ * million cached vectors cost a handful of buffers instead of a million {@code float[]} objects
+ * on the heap. Freed slots are reused before a new segment is allocated.
+ * <p>
+ * Not thread-safe; callers synchronize access.
+ */
+final class FloatArena {
+
+    private final int dimensions;
+    private final int slotsPerSegment;
+    private final List<FloatBuffer> segments = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextSlot;
+
+    /**
+     * Creates an empty arena.
+     *
+     * @param dimensions      length of every stored vector
+     * @param slotsPerSegment number of vectors per allocated segment
+     */
+    FloatArena(final int dimensions, final int slotsPerSegment) {
+        this.dimensions = dimensions;
+        this.slotsPerSegment = slotsPerSegment;
+    }
+
+    /**
+     * Stores a vector in a free slot.
+     *
+     * @param vector the vector, of length {@link #dimensions()}
+     * @return the slot holding the vector
+     */
+    int store(final float[] vector) {
+        final int slot = !freeSlots.isEmpty() ? freeSlots.pop() : nextSlot++;
+        final int segment = slot / slotsPerSegment;
+        if (segment == segments.size()) {
+            segments.add(ByteBuffer.allocateDirect(slotsPerSegment * dimensions * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer());
+        }
+        segments.get(segment).put(offsetOf(slot), vector, 0, dimensions);
+        return slot;
+    }
+
+    /**
+     * Copies a stored vector to the heap.
+     *
+     * @param slot the slot returned by {@link #store(float[])}
+     * @return a copy of the vector
+     */
+    float[] read(final int slot) {
+        final float[] vector = new float[dimensions];
+        segments.get(slot / slotsPerSegment).get(offsetOf(slot), vector, 0, dimensions);
+        return vector;
+    }
+
+    /**
+     * Releases a slot for reuse.
+     *
+     * @param slot the slot to release
+     */
+    void free(final int slot) {
+        freeSlots.push(slot);
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Gets the off-heap memory reserved by this arena.
+     *
+     * @return allocated bytes
+     */
+    long allocatedBytes() {
+        return (long) segments.size() * slotsPerSegment * dimensions * Float.BYTES;
+    }
+
+    private int offsetOf(final int slot) {
+        return (slot % slotsPerSegment) * dimensions;
+    }
+}
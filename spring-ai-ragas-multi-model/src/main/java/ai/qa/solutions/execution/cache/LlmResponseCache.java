@@ -0,0 +1,350 @@
+package ai.qa.solutions.execution.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Two-tier cache of structured LLM responses.
+ * <p>
+ * Entries are keyed by the model ID, a fingerprint of the model's chat options, a hash of
+ * the rendered prompt, the response type and the sample index, and stored as JSON:
+ * <ul>
+ *   <li>In-memory tier: LRU map bounded by {@code maxEntries}</li>
+ *   <li>Disk tier (optional): append-only log with a hash index that survives restarts;
+ *       memory misses are served from disk and promoted to memory. The log is compacted to
+ *       the newest {@code maxDiskEntries} live entries once it holds twice as many records</li>
+ * </ul>
+ * The sample index tells apart repeated identical calls whose answers are meant to differ, such
+ * as the iterations of a self-consistency vote: each sample is cached on its own, so a rerun gets
+ * the same set of answers instead of one answer repeated.
+ * Both tiers honor the {@code ttl}, if set. Failed calls are never cached. Cache I/O or
+ * (de)serialization problems are logged and treated as misses, so the cache can never fail
+ * an evaluation.
+ * <p>
+ * Bump the {@code namespace} (or change the options fingerprint) to invalidate entries
+ * after changing prompts or judge settings that are not part of the key.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * LlmResponseCache cache = LlmResponseCache.builder()
+ *     .maxEntries(50_000)
+ *     .ttl(Duration.ofDays(7))
+ *     .file(Path.of(".ragas-cache/llm-responses.log"))
+ *     .build();
+ *
+ * MultiModelExecutor executor = new MultiModelExecutor(
+ *     chatClientStore, embeddingModelStore, metricExecutor, httpExecutor, rateLimiterRegistry, cache);
+ * }</pre>
+ *
+ * @see ai.qa.solutions.execution.ModelResult#cached()
+ */
+@Slf4j
+public class LlmResponseCache implements AutoCloseable {
+
+    /**
+     * Default maximum number of entries kept in memory.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * Default maximum number of entries kept in the disk tier.
+     */
+    public static final int DEFAULT_MAX_DISK_ENTRIES = 100_000;
+
+    private final int maxEntries;
+
+    @Nullable
+    private final Duration ttl;
+
+    private final String namespace;
+    private final Function<String, String> optionsFingerprint;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Map<String, MemoryEntry> memory;
+
+    @Nullable
+    private final AppendOnlyCacheLog diskLog;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new response cache.
+     *
+     * @param maxEntries         maximum number of in-memory entries, defaults to {@link #DEFAULT_MAX_ENTRIES}
+     * @param maxDiskEntries     maximum number of disk entries, defaults to {@link #DEFAULT_MAX_DISK_ENTRIES}
+     * @param ttl                time to live of entries (nullable, zero or null means no expiry)
+     * @param file               append-only log file of the disk tier (nullable, memory only if null)
+     * @param namespace          free-form key prefix used to invalidate all entries (nullable)
+     * @param optionsFingerprint maps a model ID to a fingerprint of its chat options (nullable)
+     * @param objectMapper       mapper used to store responses as JSON (nullable)
+     * @param clock              clock used for TTL checks (nullable, system clock if null)
+     * @throws UncheckedIOException if the cache file cannot be opened
+     */
+    @Builder
+    protected LlmResponseCache(
+            final Integer maxEntries,
+            final Integer maxDiskEntries,
+            @Nullable final Duration ttl,
+            @Nullable final Path file,
+            @Nullable final String namespace,
+            @Nullable final Function<String, String> optionsFingerprint,
+            @Nullable final ObjectMapper objectMapper,
+            @Nullable final Clock clock) {
+        this.maxEntries = maxEntries != null ? maxEntries : DEFAULT_MAX_ENTRIES;
+        if (this.maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got: " + this.maxEntries);
+        }
+        final int diskEntries = maxDiskEntries != null ? maxDiskEntries : DEFAULT_MAX_DISK_ENTRIES;
+        if (diskEntries <= 0) {
+            throw new IllegalArgumentException("maxDiskEntries must be positive, got: " + diskEntries);
+        }
+        this.ttl = ttl != null && !ttl.isZero() && !ttl.isNegative() ? ttl : null;
+        this.namespace = namespace != null ? namespace : "";
+        this.optionsFingerprint = optionsFingerprint != null ? optionsFingerprint : modelId -> "";
+        this.objectMapper = objectMapper != null ? objectMapper : createObjectMapper();
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, MemoryEntry> eldest) {
+                return size() > LlmResponseCache.this.maxEntries;
+            }
+        };
+        try {
+            this.diskLog = file != null ? new AppendOnlyCacheLog(file, diskEntries, this::isExpired) : null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot open LLM response cache file " + file, e);
+        }
+    }
+
+    /**
+     * Looks up a cached response.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the expected response type
+     * @param <R>          the response type
+     * @return the cached response, or empty on a miss
+     */
+    public <R> Optional<R> get(final String modelId, final String prompt, final Class<R> responseType) {
+        return get(modelId, prompt, responseType, 0);
+    }
+
+    /**
+     * Looks up a cached response of one sample of a repeated call.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the expected response type
+     * @param sample       index of the sample, 0 for a call that is not repeated
+     * @param <R>          the response type
+     * @return the cached response, or empty on a miss
+     */
+    public <R> Optional<R> get(
+            final String modelId, final String prompt, final Class<R> responseType, final int sample) {
+        final String key = keyOf(modelId, prompt, responseType, sample);
+        final String json = lookup(key);
+        if (json != null) {
+            try {
+                final R value = objectMapper.readValue(json, responseType);
+                hits.incrementAndGet();
+                return Optional.of(value);
+            } catch (final JsonProcessingException e) {
+                log.warn("Ignoring unreadable cached response of model {}: {}", modelId, e.getMessage());
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a successful response.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the response type
+     * @param response     the response to store
+     * @param <R>          the response type
+     */
+    public <R> void put(final String modelId, final String prompt, final Class<R> responseType, final R response) {
+        put(modelId, prompt, responseType, 0, response);
+    }
+
+    /**
+     * Stores a successful response of one sample of a repeated call.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the response type
+     * @param sample       index of the sample, 0 for a call that is not repeated
+     * @param response     the response to store
+     * @param <R>          the response type
+     */
+    public <R> void put(
+            final String modelId,
+            final String prompt,
+            final Class<R> responseType,
+            final int sample,
+            final R response) {
+        final String key = keyOf(modelId, prompt, responseType, sample);
+        final String json;
+        try {
+            // One line per entry in the disk tier: never indent
+            json = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsString(response);
+        } catch (final JsonProcessingException e) {
+            log.warn("Cannot cache response of model {}: {}", modelId, e.getMessage());
+            return;
+        }
+        final long now = clock.millis();
+        synchronized (memory) {
+            memory.put(key, new MemoryEntry(json, now));
+        }
+        if (diskLog != null) {
+            try {
+                diskLog.append(key, now, json);
+            } catch (final IOException e) {
+                log.warn("Cannot write response of model {} to cache file: {}", modelId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups not served from the cache.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of entries in the in-memory tier.
+     *
+     * @return in-memory entry count
+     */
+    public int getMemorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * Closes the cache file of the disk tier, if any.
+     */
+    @Override
+    public void close() {
+        if (diskLog != null) {
+            try {
+                diskLog.close();
+            } catch (final IOException e) {
+                log.warn("Cannot close LLM response cache file: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Computes the cache key of a request.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the response type
+     * @return hex-encoded SHA-256 key
+     */
+    String keyOf(final String modelId, final String prompt, final Class<?> responseType) {
+        return keyOf(modelId, prompt, responseType, 0);
+    }
+
+    /**
+     * Computes the cache key of one sample of a request; sample 0 keeps the key of a plain request,
+     * so entries written before samples were keyed stay valid.
+     *
+     * @param modelId      the model ID
+     * @param prompt       the rendered prompt
+     * @param responseType the response type
+     * @param sample       index of the sample
+     * @return hex-encoded SHA-256 key
+     */
+    String keyOf(final String modelId, final String prompt, final Class<?> responseType, final int sample) {
+        final String key = namespace + '\n' + modelId + '\n' + optionsFingerprint.apply(modelId) + '\n'
+                + responseType.getName() + '\n' + sha256(prompt);
+        return sha256(sample == 0 ? key : key + '\n' + "sample:" + sample);
+    }
+
+    @Nullable
+    private String lookup(final String key) {
+        synchronized (memory) {
+            final MemoryEntry entry = memory.get(key);
+            if (entry != null) {
+                if (!isExpired(entry.createdAtMillis())) {
+                    return entry.json();
+                }
+                memory.remove(key);
+            }
+        }
+        if (diskLog == null) {
+            return null;
+        }
+        try {
+            final AppendOnlyCacheLog.StoredValue stored = diskLog.get(key);
+            if (stored == null || isExpired(stored.createdAtMillis())) {
+                return null;
+            }
+            synchronized (memory) {
+                memory.put(key, new MemoryEntry(stored.json(), stored.createdAtMillis()));
+            }
+            return stored.json();
+        } catch (final IOException e) {
+            log.warn("Cannot read LLM response cache file: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isExpired(final long createdAtMillis) {
+        return ttl != null && clock.millis() - createdAtMillis > ttl.toMillis();
+    }
+
+    private static String sha256(final String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private record MemoryEntry(String json, long createdAtMillis) {}
+}
@@ -0,0 +1,36 @@
+package ai.qa.solutions.execution.cache;
+
+import java.util.Objects;
+
+/**
+ * Identifies the output of a reference-side metric step, e.g. the claims decomposed from a
+ * sample's reference.
+ * <p>
+ * Two artifacts are the same if they come from the same step of the same metric, rendered
+ * from the same template and the same reference-side input.
+ *
+ * @param metricName name of the metric
+ * @param stepName   name of the step within the metric
+ * @param template   prompt template of the step
+ * @param reference  reference-side input of the step, including any other sample field the
+ *                   prompt is rendered from
+ * @see ReferenceArtifactStore
+ */
+public record ReferenceArtifact(String metricName, String stepName, String template, String reference) {
+
+    public ReferenceArtifact {
+        Objects.requireNonNull(metricName, "metricName");
+        Objects.requireNonNull(stepName, "stepName");
+        Objects.requireNonNull(template, "template");
+        Objects.requireNonNull(reference, "reference");
+    }
+
+    /**
+     * Gets the text this artifact is keyed by; lengths keep template and reference apart.
+     *
+     * @return unambiguous description of the artifact
+     */
+    String descriptor() {
+        return metricName + '\n' + stepName + '\n' + template.length() + '\n' + template + reference;
+    }
+}
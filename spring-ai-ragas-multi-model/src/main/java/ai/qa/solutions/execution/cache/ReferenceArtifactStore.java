@@ -0,0 +1,122 @@
+package ai.qa.solutions.execution.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.Builder;
+import org.springframework.lang.Nullable;
+
+/**
+ * Store of reference-side LLM artifacts that outlives a single evaluation run.
+ * <p>
+ * Regression suites evaluate a fixed golden set of references against every new build, so
+ * reference-side steps (claims, statements or entities extracted from {@code Sample.reference})
+ * return the same artifacts on every run. Metrics look these steps up here before calling the
+ * judge, so each runs once per golden set and model instead of once per run.
+ * <p>
+ * Artifacts are keyed by metric, step, model, a fingerprint of the model's chat options, the
+ * step's prompt template and the reference-side input, and never expire: changing any of
+ * them changes the key. Storage works like {@link LlmResponseCache}, with a bounded
+ * in-memory tier and an optional append-only file that survives restarts. Failed calls are
+ * never stored, and storage problems are logged and treated as misses.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * ReferenceArtifactStore store = ReferenceArtifactStore.builder()
+ *     .file(Path.of(".ragas-cache/reference-artifacts.log"))
+ *     .build();
+ *
+ * MultiModelExecutor executor = MultiModelExecutor.builder()
+ *     ...
+ *     .referenceArtifactStore(store)
+ *     .build();
+ * }</pre>
+ *
+ * @see ai.qa.solutions.execution.MultiModelExecutor#executeReferenceLlmOnModelAsync
+ */
+public class ReferenceArtifactStore implements AutoCloseable {
+
+    private final LlmResponseCache artifacts;
+
+    /**
+     * Creates a new artifact store.
+     *
+     * @param maxEntries         maximum number of in-memory entries, defaults to
+     *                           {@link LlmResponseCache#DEFAULT_MAX_ENTRIES}
+     * @param file               append-only log file (nullable, memory only if null)
+     * @param namespace          free-form key prefix used to invalidate all entries (nullable)
+     * @param optionsFingerprint maps a model ID to a fingerprint of its chat options (nullable)
+     * @param objectMapper       mapper used to store artifacts as JSON (nullable)
+     * @throws UncheckedIOException if the store file cannot be opened
+     */
+    @Builder
+    protected ReferenceArtifactStore(
+            final Integer maxEntries,
+            @Nullable final Path file,
+            @Nullable final String namespace,
+            @Nullable final Function<String, String> optionsFingerprint,
+            @Nullable final ObjectMapper objectMapper) {
+        this.artifacts = LlmResponseCache.builder()
+                .maxEntries(maxEntries)
+                .file(file)
+                .namespace(namespace)
+                .optionsFingerprint(optionsFingerprint)
+                .objectMapper(objectMapper)
+                .build();
+    }
+
+    /**
+     * Looks up a stored artifact.
+     *
+     * @param modelId      the model ID that produced the artifact
+     * @param artifact     the artifact
+     * @param responseType the response type of the step
+     * @param <R>          the response type
+     * @return the stored artifact, or empty on a miss
+     */
+    public <R> Optional<R> get(final String modelId, final ReferenceArtifact artifact, final Class<R> responseType) {
+        return artifacts.get(modelId, artifact.descriptor(), responseType);
+    }
+
+    /**
+     * Stores an artifact.
+     *
+     * @param modelId      the model ID that produced the artifact
+     * @param artifact     the artifact
+     * @param responseType the response type of the step
+     * @param response     the step's response
+     * @param <R>          the response type
+     */
+    public <R> void put(
+            final String modelId, final ReferenceArtifact artifact, final Class<R> responseType, final R response) {
+        artifacts.put(modelId, artifact.descriptor(), responseType, response);
+    }
+
+    /**
+     * Gets the number of lookups served from the store.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return artifacts.getHitCount();
+    }
+
+    /**
+     * Gets the number of lookups not served from the store.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return artifacts.getMissCount();
+    }
+
+    /**
+     * Closes the store file, if any.
+     */
+    @Override
+    public void close() {
+        artifacts.close();
+    }
+}
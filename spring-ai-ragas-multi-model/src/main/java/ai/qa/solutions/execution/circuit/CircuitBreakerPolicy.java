@@ -0,0 +1,78 @@
+package ai.qa.solutions.execution.circuit;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Policy for per-provider circuit breakers.
+ * <p>
+ * A provider's circuit opens after consecutive failed calls and stops all calls to the
+ * provider's models for a while, then lets a few probe calls through:
+ * <ul>
+ *   <li><b>Failure threshold</b>: consecutive failed calls that open the circuit</li>
+ *   <li><b>Open duration</b>: time calls fail fast before the circuit lets probes through</li>
+ *   <li><b>Half-open probes</b>: successful probe calls needed to close the circuit again;
+ *       at most this many probes are in flight at once</li>
+ * </ul>
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder()
+ *     .failureThreshold(5)
+ *     .openDuration(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ *
+ * @see ProviderCircuitBreakerRegistry
+ */
+@Getter
+public class CircuitBreakerPolicy {
+
+    /**
+     * Default number of consecutive failures that open a circuit.
+     */
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+    /**
+     * Default time a circuit stays open before probing the provider.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    /**
+     * Default number of successful probes that close a half-open circuit.
+     */
+    public static final int DEFAULT_HALF_OPEN_PROBES = 1;
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+
+    /**
+     * Creates a new circuit breaker policy.
+     *
+     * @param failureThreshold consecutive failures that open a circuit (nullable, 5 if null)
+     * @param openDuration     time a circuit stays open (nullable, 30 s if null)
+     * @param halfOpenProbes   successful probes that close a circuit (nullable, 1 if null)
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    @Builder
+    protected CircuitBreakerPolicy(
+            @Nullable final Integer failureThreshold,
+            @Nullable final Duration openDuration,
+            @Nullable final Integer halfOpenProbes) {
+        this.failureThreshold = failureThreshold != null ? failureThreshold : DEFAULT_FAILURE_THRESHOLD;
+        this.openDuration = openDuration != null ? openDuration : DEFAULT_OPEN_DURATION;
+        this.halfOpenProbes = halfOpenProbes != null ? halfOpenProbes : DEFAULT_HALF_OPEN_PROBES;
+        if (this.failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive, got: " + this.failureThreshold);
+        }
+        if (this.openDuration.isNegative() || this.openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive, got: " + this.openDuration);
+        }
+        if (this.halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes must be positive, got: " + this.halfOpenProbes);
+        }
+    }
+}
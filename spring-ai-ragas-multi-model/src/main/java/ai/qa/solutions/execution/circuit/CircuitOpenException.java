@@ -0,0 +1,62 @@
+package ai.qa.solutions.execution.circuit;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a call is rejected because the circuit of the model's provider is open.
+ * <p>
+ * This exception is recorded as the error of the failed {@code ModelResult}, and therefore as
+ * the cause of the resulting {@code ModelExclusionEvent}. The call never reached the provider:
+ * it took neither a thread, a rate-limit token nor an HTTP connection.
+ *
+ * @see ProviderCircuitBreakerRegistry
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final String modelId;
+    private final String providerName;
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new circuit open exception.
+     *
+     * @param modelId      the model ID whose call was rejected
+     * @param providerName the provider whose circuit is open
+     * @param retryAfter   time until the circuit lets probe calls through
+     * @param message      the detail message
+     */
+    public CircuitOpenException(
+            final String modelId, final String providerName, final Duration retryAfter, final String message) {
+        super(message);
+        this.modelId = modelId;
+        this.providerName = providerName;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Gets the model ID whose call was rejected.
+     *
+     * @return the model ID
+     */
+    public String getModelId() {
+        return modelId;
+    }
+
+    /**
+     * Gets the provider whose circuit is open.
+     *
+     * @return the provider name
+     */
+    public String getProviderName() {
+        return providerName;
+    }
+
+    /**
+     * Gets the time until the circuit lets probe calls through.
+     *
+     * @return the remaining open time, {@link Duration#ZERO} if probes are already in flight
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
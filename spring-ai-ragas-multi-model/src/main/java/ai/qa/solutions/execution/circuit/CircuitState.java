@@ -0,0 +1,24 @@
+package ai.qa.solutions.execution.circuit;
+
+/**
+ * State of a provider's circuit breaker.
+ *
+ * @see ProviderCircuitBreakerRegistry
+ */
+public enum CircuitState {
+
+    /**
+     * Calls are sent normally; consecutive failures are counted.
+     */
+    CLOSED,
+
+    /**
+     * Calls fail fast with a {@link CircuitOpenException} without reaching the provider.
+     */
+    OPEN,
+
+    /**
+     * A limited number of probe calls is sent; their outcome closes or reopens the circuit.
+     */
+    HALF_OPEN
+}
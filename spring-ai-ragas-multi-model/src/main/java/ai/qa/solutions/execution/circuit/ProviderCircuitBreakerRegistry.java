@@ -0,0 +1,323 @@
+package ai.qa.solutions.execution.circuit;
+
+import ai.qa.solutions.execution.retry.FailureClassifier;
+import ai.qa.solutions.execution.retry.FailureType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Registry of per-provider circuit breakers for LLM and embedding API calls.
+ * <p>
+ * All models of one provider share a circuit, like they share a rate limiter in
+ * {@link ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry}; a model without a
+ * provider gets a circuit of its own. Each circuit moves between three states:
+ * <ul>
+ *   <li>{@link CircuitState#CLOSED}: calls are sent; {@code failureThreshold} consecutive
+ *       failures open the circuit</li>
+ *   <li>{@link CircuitState#OPEN}: calls are rejected with a {@link CircuitOpenException}
+ *       before taking a thread, a rate-limit token or an HTTP connection</li>
+ *   <li>{@link CircuitState#HALF_OPEN}: after {@code openDuration}, up to
+ *       {@code halfOpenProbes} calls are let through as probes; enough successful probes close
+ *       the circuit, a failed probe opens it again</li>
+ * </ul>
+ * Only failures that point at the provider count, as classified by {@link FailureClassifier}:
+ * server errors (5xx), connection errors and calls exceeding their per-call timeout. Client
+ * errors (4xx, including rate limits), responses that could not be parsed, cancelled calls,
+ * local rejections and expired evaluation deadlines do not.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * ProviderCircuitBreakerRegistry circuitBreakers = ProviderCircuitBreakerRegistry.builder()
+ *     .modelToProvider(Map.of("gpt-4o", "openai", "gpt-4o-mini", "openai"))
+ *     .policy(CircuitBreakerPolicy.builder().build())
+ *     .build();
+ *
+ * MultiModelExecutor executor = MultiModelExecutor.builder()
+ *     ...
+ *     .circuitBreakerRegistry(circuitBreakers)
+ *     .build();
+ * }</pre>
+ *
+ * @see CircuitBreakerPolicy
+ */
+@Slf4j
+public class ProviderCircuitBreakerRegistry {
+
+    private final Map<String, String> modelToProvider;
+    private final CircuitBreakerPolicy policy;
+    private final Clock clock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    /**
+     * Creates a new circuit breaker registry.
+     *
+     * @param modelToProvider maps model ID to provider name (nullable, one circuit per model if null)
+     * @param policy          circuit breaker policy (nullable, defaults if null)
+     * @param clock           clock for open durations (nullable, system clock if null)
+     */
+    @Builder
+    protected ProviderCircuitBreakerRegistry(
+            @Nullable final Map<String, String> modelToProvider,
+            @Nullable final CircuitBreakerPolicy policy,
+            @Nullable final Clock clock) {
+        this.modelToProvider = modelToProvider != null ? Map.copyOf(modelToProvider) : Map.of();
+        this.policy = policy != null ? policy : CircuitBreakerPolicy.builder().build();
+        this.clock = clock != null ? clock : Clock.systemUTC();
+    }
+
+    /**
+     * Asks the circuit of the model's provider for permission to send a call.
+     * <p>
+     * The outcome of the call must be reported through the returned permission.
+     *
+     * @param modelId the model ID to call
+     * @return permission to send the call
+     * @throws CircuitOpenException if the circuit is open, or half-open with all probes in flight
+     */
+    public Permission acquire(final String modelId) throws CircuitOpenException {
+        final String providerName = providerOf(modelId);
+        final Circuit circuit = circuits.computeIfAbsent(providerName, Circuit::new);
+        final Permission permission = circuit.tryAcquire(clock.instant());
+        if (permission == null) {
+            throw rejected(modelId, providerName, circuit);
+        }
+        return permission;
+    }
+
+    /**
+     * Fails fast if the circuit of the model's provider is open, without taking a permission.
+     * <p>
+     * Lets a call skip the waits before {@link #acquire(String)} when it would be rejected anyway.
+     * A half-open circuit passes, since only {@code acquire} hands out its probes.
+     *
+     * @param modelId the model ID to call
+     * @throws CircuitOpenException if the circuit is open
+     */
+    public void rejectIfOpen(final String modelId) throws CircuitOpenException {
+        final String providerName = providerOf(modelId);
+        final Circuit circuit = circuits.get(providerName);
+        if (circuit != null && circuit.state(clock.instant()) == CircuitState.OPEN) {
+            throw rejected(modelId, providerName, circuit);
+        }
+    }
+
+    /**
+     * Gets the state of the circuit of the model's provider.
+     *
+     * @param modelId the model ID
+     * @return the circuit state, {@link CircuitState#CLOSED} if no call was made yet
+     */
+    public CircuitState getState(final String modelId) {
+        final Circuit circuit = circuits.get(providerOf(modelId));
+        return circuit != null ? circuit.state(clock.instant()) : CircuitState.CLOSED;
+    }
+
+    /**
+     * Gets the number of calls rejected by open circuits.
+     *
+     * @return rejected call count
+     */
+    public long getRejectedCallCount() {
+        return rejectedCalls.get();
+    }
+
+    /**
+     * Gets the policy of all circuits.
+     *
+     * @return the circuit breaker policy
+     */
+    public CircuitBreakerPolicy getPolicy() {
+        return policy;
+    }
+
+    private String providerOf(final String modelId) {
+        return modelToProvider.getOrDefault(modelId, modelId);
+    }
+
+    /**
+     * Checks whether a call error points at the provider rather than at the caller or the response.
+     */
+    static boolean isProviderFailure(final Throwable error) {
+        final FailureType type = FailureClassifier.classify(error);
+        if (type == FailureType.TIMEOUT) {
+            return !FailureClassifier.isDeadlineExpired(error);
+        }
+        return type == FailureType.SERVER_ERROR;
+    }
+
+    private CircuitOpenException rejected(final String modelId, final String providerName, final Circuit circuit) {
+        rejectedCalls.incrementAndGet();
+        return new CircuitOpenException(
+                modelId,
+                providerName,
+                circuit.retryAfter(clock.instant()),
+                "Circuit open for provider " + providerName + ", call to " + modelId + " rejected");
+    }
+
+    /**
+     * Permission to send one call, through which its outcome is reported.
+     * <p>
+     * Only the first report counts. Outcomes of calls permitted before the circuit last
+     * changed state are ignored.
+     */
+    public static final class Permission {
+
+        private final Circuit circuit;
+        private final long generation;
+        private final boolean probe;
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Permission(final Circuit circuit, final long generation, final boolean probe) {
+            this.circuit = circuit;
+            this.generation = generation;
+            this.probe = probe;
+        }
+
+        /**
+         * Reports a successful call.
+         */
+        public void onSuccess() {
+            if (reported.compareAndSet(false, true)) {
+                circuit.onSuccess(this);
+            }
+        }
+
+        /**
+         * Reports a failed call; errors that do not point at the provider are not counted.
+         *
+         * @param error the error of the call
+         */
+        public void onFailure(final Throwable error) {
+            if (!reported.compareAndSet(false, true)) {
+                return;
+            }
+            if (isProviderFailure(error)) {
+                circuit.onFailure(this);
+            } else {
+                circuit.onIgnored(this);
+            }
+        }
+
+        /**
+         * Whether this call is a probe of a half-open circuit.
+         *
+         * @return true if the call is a probe
+         */
+        public boolean isProbe() {
+            return probe;
+        }
+    }
+
+    private final class Circuit {
+
+        private final String providerName;
+        private CircuitState state = CircuitState.CLOSED;
+        private long generation;
+        private int consecutiveFailures;
+        private Instant openedAt = Instant.EPOCH;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        private Circuit(final String providerName) {
+            this.providerName = Objects.requireNonNull(providerName, "providerName");
+        }
+
+        @Nullable
+        synchronized Permission tryAcquire(final Instant now) {
+            if (state(now) == CircuitState.CLOSED) {
+                return new Permission(this, generation, false);
+            }
+            if (state == CircuitState.OPEN) {
+                transition(CircuitState.HALF_OPEN);
+                log.info("Circuit of provider {} half-open, sending probe calls", providerName);
+            }
+            if (probesInFlight + probeSuccesses >= policy.getHalfOpenProbes()) {
+                return null;
+            }
+            probesInFlight++;
+            return new Permission(this, generation, true);
+        }
+
+        /**
+         * Gets the state, reporting an open circuit whose open duration has passed as half-open.
+         */
+        synchronized CircuitState state(final Instant now) {
+            if (state == CircuitState.OPEN && !now.isBefore(openedAt.plus(policy.getOpenDuration()))) {
+                return CircuitState.HALF_OPEN;
+            }
+            return state;
+        }
+
+        synchronized Duration retryAfter(final Instant now) {
+            if (state != CircuitState.OPEN) {
+                return Duration.ZERO;
+            }
+            final Duration remaining = Duration.between(now, openedAt.plus(policy.getOpenDuration()));
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+
+        synchronized void onSuccess(final Permission permission) {
+            if (permission.generation != generation) {
+                return;
+            }
+            if (!permission.probe) {
+                consecutiveFailures = 0;
+                return;
+            }
+            probesInFlight--;
+            probeSuccesses++;
+            if (probeSuccesses >= policy.getHalfOpenProbes()) {
+                transition(CircuitState.CLOSED);
+                log.info("Circuit of provider {} closed after {} successful probes", providerName, probeSuccesses);
+            }
+        }
+
+        synchronized void onFailure(final Permission permission) {
+            if (permission.generation != generation) {
+                return;
+            }
+            if (permission.probe) {
+                open("probe call failed");
+                return;
+            }
+            consecutiveFailures++;
+            if (consecutiveFailures >= policy.getFailureThreshold()) {
+                open(consecutiveFailures + " consecutive failures");
+            }
+        }
+
+        synchronized void onIgnored(final Permission permission) {
+            if (permission.generation == generation && permission.probe) {
+                probesInFlight--;
+            }
+        }
+
+        private void open(final String reason) {
+            transition(CircuitState.OPEN);
+            openedAt = clock.instant();
+            log.warn(
+                    "Circuit of provider {} opened ({}), failing calls fast for {}",
+                    providerName,
+                    reason,
+                    policy.getOpenDuration());
+        }
+
+        private void transition(final CircuitState next) {
+            state = next;
+            generation++;
+            consecutiveFailures = 0;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package ai.qa.solutions.execution.concurrency;
+
+import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import ai.qa.solutions.execution.retry.FailureClassifier;
+import ai.qa.solutions.execution.retry.FailureType;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Adaptive per-provider limits on the number of LLM and embedding calls in flight.
+ * <p>
+ * Fixed request rates in {@link ai.qa.solutions.execution.ratelimit.RateLimitConfig} are set once,
+ * while the capacity a provider grants changes over the day. This limiter caps concurrency instead
+ * and moves the cap with the provider's answers, like TCP congestion control:
+ * <ul>
+ *   <li>a successful call grows the limit by {@code 1 / limit} (one per window of calls) while
+ *       the limit is in use and latency stays within the policy's tolerance of its average</li>
+ *   <li>a successful call slower than that shrinks the limit by {@code 1 / limit}, since the
+ *       provider is queueing calls (the gradient signal of TCP Vegas)</li>
+ *   <li>a call rejected with HTTP 429 or exceeding its call timeout multiplies the limit by the
+ *       backoff ratio; calls already in flight at that moment cannot cut it again. An expired
+ *       evaluation deadline is no sign of overload and leaves the limit as it is</li>
+ * </ul>
+ * All models of one provider share a limit; a model without a provider gets a limit of its own.
+ * Calls above the limit wait for a free slot in arrival order, and are rejected with a
+ * {@link RateLimitExceededException} if the policy's max wait passes first.
+ * <p>
+ * The limiter sits behind the token buckets of
+ * {@link ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry}: a call asks for a slot
+ * once its token is granted, so buckets keep enforcing the provider's published rate limits, the
+ * limiter keeps calls from piling up below them, and calls still waiting for a token hold no slot.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+ *     .modelToProvider(Map.of("gpt-4o", "openai", "gpt-4o-mini", "openai"))
+ *     .policy(AdaptiveConcurrencyPolicy.builder().build())
+ *     .build();
+ *
+ * MultiModelExecutor executor = MultiModelExecutor.builder()
+ *     ...
+ *     .concurrencyLimiter(limiter)
+ *     .build();
+ * }</pre>
+ *
+ * @see AdaptiveConcurrencyPolicy
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final Map<String, String> modelToProvider;
+    private final AdaptiveConcurrencyPolicy policy;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    /**
+     * Creates a new adaptive concurrency limiter.
+     *
+     * @param modelToProvider maps model ID to provider name (nullable, one limit per model if null)
+     * @param policy          adaptive concurrency policy (nullable, defaults if null)
+     */
+    @Builder
+    protected AdaptiveConcurrencyLimiter(
+            @Nullable final Map<String, String> modelToProvider, @Nullable final AdaptiveConcurrencyPolicy policy) {
+        this.modelToProvider = modelToProvider != null ? Map.copyOf(modelToProvider) : Map.of();
+        this.policy = policy != null ? policy : AdaptiveConcurrencyPolicy.builder().build();
+    }
+
+    /**
+     * Asks for a slot to send a call to the model's provider.
+     * <p>
+     * The returned future completes once the provider has a free slot, or exceptionally with a
+     * {@link RateLimitExceededException} if the policy's max wait passes first. The outcome of
+     * the call must be reported through the permit.
+     *
+     * @param modelId the model ID to call
+     * @return future completed with a permit to send the call
+     */
+    public CompletableFuture<Permit> acquire(final String modelId) {
+        final String providerName = providerOf(modelId);
+        final Limit limit = limits.computeIfAbsent(providerName, Limit::new);
+        final CompletableFuture<Permit> waiter = limit.tryAcquire();
+        if (!waiter.isDone() && policy.getMaxWait() != null) {
+            CompletableFuture.delayedExecutor(policy.getMaxWait().toNanos(), TimeUnit.NANOSECONDS, Runnable::run)
+                    .execute(() -> {
+                        final RateLimitExceededException rejection = new RateLimitExceededException(
+                                modelId,
+                                providerName,
+                                "No free slot for provider " + providerName + " within " + policy.getMaxWait()
+                                        + ", call to " + modelId + " rejected");
+                        if (waiter.completeExceptionally(rejection)) {
+                            limit.reject(waiter);
+                            rejectedCalls.incrementAndGet();
+                        }
+                    });
+        }
+        return waiter;
+    }
+
+    /**
+     * Gets the current concurrency limit of the model's provider.
+     *
+     * @param modelId the model ID
+     * @return the limit, the initial limit if no call was made yet
+     */
+    public int getLimit(final String modelId) {
+        final Limit limit = limits.get(providerOf(modelId));
+        return limit != null ? limit.snapshot().limit() : policy.getInitialLimit();
+    }
+
+    /**
+     * Gets the number of calls in flight to the model's provider.
+     *
+     * @param modelId the model ID
+     * @return calls holding a slot
+     */
+    public int getInFlight(final String modelId) {
+        final Limit limit = limits.get(providerOf(modelId));
+        return limit != null ? limit.snapshot().inFlight() : 0;
+    }
+
+    /**
+     * Gets the state of all provider limits, ordered by provider name.
+     *
+     * @return one snapshot per provider called so far
+     */
+    public List<ConcurrencySnapshot> getSnapshots() {
+        final List<ConcurrencySnapshot> snapshots = new ArrayList<>();
+        for (final Limit limit : limits.values()) {
+            snapshots.add(limit.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(ConcurrencySnapshot::providerName));
+        return snapshots;
+    }
+
+    /**
+     * Gets the number of calls rejected after waiting the max wait for a slot.
+     *
+     * @return rejected call count
+     */
+    public long getRejectedCallCount() {
+        return rejectedCalls.get();
+    }
+
+    /**
+     * Gets the policy of all limits.
+     *
+     * @return the adaptive concurrency policy
+     */
+    public AdaptiveConcurrencyPolicy getPolicy() {
+        return policy;
+    }
+
+    private String providerOf(final String modelId) {
+        return modelToProvider.getOrDefault(modelId, modelId);
+    }
+
+    /**
+     * Checks whether a call error means the provider is over capacity: a rate limit, or a call
+     * exceeding its own timeout rather than the evaluation deadline.
+     */
+    static boolean isOverload(final Throwable error) {
+        final FailureType type = FailureClassifier.classify(error);
+        if (type == FailureType.TIMEOUT) {
+            return !FailureClassifier.isDeadlineExpired(error);
+        }
+        return type == FailureType.RATE_LIMITED;
+    }
+
+    /**
+     * Permit to send one call, through which its outcome is reported and its slot released.
+     * <p>
+     * Only the first report counts.
+     */
+    public static final class Permit {
+
+        private final Limit limit;
+        private final long sequence;
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Permit(final Limit limit, final long sequence) {
+            this.limit = limit;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Reports a successful call and releases its slot.
+         *
+         * @param latency time the provider took to answer
+         */
+        public void onSuccess(final Duration latency) {
+            if (reported.compareAndSet(false, true)) {
+                limit.release(this, latency, false);
+            }
+        }
+
+        /**
+         * Reports a failed call and releases its slot; only rate limits and call timeouts lower the limit.
+         *
+         * @param error the error of the call
+         */
+        public void onFailure(final Throwable error) {
+            if (reported.compareAndSet(false, true)) {
+                limit.release(this, null, isOverload(error));
+            }
+        }
+
+        /**
+         * Releases the slot without counting the call, e.g. when it was never sent.
+         */
+        public void release() {
+            if (reported.compareAndSet(false, true)) {
+                limit.release(this, null, false);
+            }
+        }
+    }
+
+    private final class Limit {
+
+        private final String providerName;
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+        private double limit = policy.getInitialLimit();
+        private int inFlight;
+        private long nextSequence;
+        private long recoverySequence;
+        private double averageLatencyNanos;
+        private long rejected;
+        private long decreases;
+
+        private Limit(final String providerName) {
+            this.providerName = Objects.requireNonNull(providerName, "providerName");
+        }
+
+        synchronized CompletableFuture<Permit> tryAcquire() {
+            if (waiters.isEmpty() && inFlight < slots()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(this, nextSequence++));
+            }
+            final CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiters.addLast(waiter);
+            return waiter;
+        }
+
+        synchronized void reject(final CompletableFuture<Permit> waiter) {
+            waiters.remove(waiter);
+            rejected++;
+        }
+
+        void release(final Permit permit, @Nullable final Duration latency, final boolean overload) {
+            final List<CompletableFuture<Permit>> admitted = new ArrayList<>();
+            final List<Permit> permits = new ArrayList<>();
+            synchronized (this) {
+                if (overload) {
+                    onOverload(permit);
+                } else if (latency != null) {
+                    onLatency(latency);
+                }
+                inFlight--;
+                while (!waiters.isEmpty() && inFlight < slots()) {
+                    admitted.add(waiters.pollFirst());
+                    permits.add(new Permit(this, nextSequence++));
+                    inFlight++;
+                }
+            }
+            // Waiters are completed outside the lock: their continuations send the next calls
+            for (int i = 0; i < admitted.size(); i++) {
+                if (!admitted.get(i).complete(permits.get(i))) {
+                    permits.get(i).release();
+                }
+            }
+        }
+
+        private void onOverload(final Permit permit) {
+            if (permit.sequence < recoverySequence) {
+                return;
+            }
+            final double previous = limit;
+            limit = Math.max(policy.getMinLimit(), limit * policy.getBackoffRatio());
+            recoverySequence = nextSequence;
+            decreases++;
+            log.info(
+                    "Concurrency limit of provider {} lowered from {} to {} after a rate limit or timeout",
+                    providerName,
+                    (int) previous,
+                    slots());
+        }
+
+        private void onLatency(final Duration latency) {
+            final double sample = latency.toNanos();
+            if (averageLatencyNanos == 0.0) {
+                averageLatencyNanos = sample;
+                return;
+            }
+            final boolean queued = sample > averageLatencyNanos * policy.getLatencyTolerance();
+            averageLatencyNanos += (sample - averageLatencyNanos) * policy.getSmoothing();
+            if (queued) {
+                limit = Math.max(policy.getMinLimit(), limit - 1.0 / limit);
+            } else if (inFlight * 2 >= limit) {
+                final int previous = slots();
+                limit = Math.min(policy.getMaxLimit(), limit + 1.0 / limit);
+                if (slots() > previous) {
+                    log.debug("Concurrency limit of provider {} raised to {}", providerName, slots());
+                }
+            }
+        }
+
+        private int slots() {
+            return (int) limit;
+        }
+
+        synchronized ConcurrencySnapshot snapshot() {
+            return new ConcurrencySnapshot(
+                    providerName,
+                    slots(),
+                    inFlight,
+                    waiters.size(),
+                    rejected,
+                    Duration.ofNanos(Math.round(averageLatencyNanos)),
+                    decreases);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ai.qa.solutions.execution.concurrency;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Policy for adaptive per-provider concurrency limits.
+ * <p>
+ * The number of calls in flight to a provider is capped by a limit that follows the
+ * provider's capacity (additive increase, multiplicative decrease):
+ * <ul>
+ *   <li><b>Initial, min and max limit</b>: start value and bounds of the limit</li>
+ *   <li><b>Backoff ratio</b>: factor applied to the limit when a call is rate limited (HTTP 429)
+ *       or times out; at most once per window of calls</li>
+ *   <li><b>Latency tolerance</b>: a successful call slower than this multiple of the provider's
+ *       average latency is taken as queueing at the provider and shrinks the limit slightly
+ *       instead of growing it</li>
+ *   <li><b>Smoothing</b>: weight of a new latency sample in the average</li>
+ *   <li><b>Max wait</b>: time a call may wait for a free slot before it is rejected</li>
+ * </ul>
+ * Every successful call with healthy latency grows the limit by {@code 1 / limit}, i.e. by one per
+ * window of {@code limit} calls, while the limit is actually used.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * AdaptiveConcurrencyPolicy policy = AdaptiveConcurrencyPolicy.builder()
+ *     .initialLimit(8)
+ *     .maxLimit(64)
+ *     .build();
+ * }</pre>
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+@Getter
+public class AdaptiveConcurrencyPolicy {
+
+    /**
+     * Default limit before any call has completed.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 10;
+
+    /**
+     * Default lower bound of the limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default upper bound of the limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 100;
+
+    /**
+     * Default factor applied to the limit on a rate limited or timed out call.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.5;
+
+    /**
+     * Default multiple of the average latency above which a call counts as queued.
+     */
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * Default weight of a new latency sample in the average.
+     */
+    public static final double DEFAULT_SMOOTHING = 0.05;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final double smoothing;
+
+    @Nullable
+    private final Duration maxWait;
+
+    /**
+     * Creates a new adaptive concurrency policy.
+     *
+     * @param initialLimit     limit before any call has completed (nullable, 10 if null)
+     * @param minLimit         lower bound of the limit, at least 1 (nullable, 1 if null)
+     * @param maxLimit         upper bound of the limit (nullable, 100 if null)
+     * @param backoffRatio     factor in (0, 1) applied on a rate limited call (nullable, 0.5 if null)
+     * @param latencyTolerance latency multiple above 1 counted as queueing (nullable, 2 if null)
+     * @param smoothing        weight in (0, 1] of a new latency sample (nullable, 0.05 if null)
+     * @param maxWait          time a call may wait for a slot (nullable, waits indefinitely if null)
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    @Builder
+    protected AdaptiveConcurrencyPolicy(
+            @Nullable final Integer initialLimit,
+            @Nullable final Integer minLimit,
+            @Nullable final Integer maxLimit,
+            @Nullable final Double backoffRatio,
+            @Nullable final Double latencyTolerance,
+            @Nullable final Double smoothing,
+            @Nullable final Duration maxWait) {
+        this.initialLimit = initialLimit != null ? initialLimit : DEFAULT_INITIAL_LIMIT;
+        this.minLimit = minLimit != null ? minLimit : DEFAULT_MIN_LIMIT;
+        this.maxLimit = maxLimit != null ? maxLimit : DEFAULT_MAX_LIMIT;
+        this.backoffRatio = backoffRatio != null ? backoffRatio : DEFAULT_BACKOFF_RATIO;
+        this.latencyTolerance = latencyTolerance != null ? latencyTolerance : DEFAULT_LATENCY_TOLERANCE;
+        this.smoothing = smoothing != null ? smoothing : DEFAULT_SMOOTHING;
+        this.maxWait = maxWait;
+        if (this.minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be positive, got: " + this.minLimit);
+        }
+        if (this.maxLimit < this.minLimit) {
+            throw new IllegalArgumentException("maxLimit must not be below minLimit, got: " + this.maxLimit);
+        }
+        if (this.initialLimit < this.minLimit || this.initialLimit > this.maxLimit) {
+            throw new IllegalArgumentException(
+                    "initialLimit must be within [minLimit, maxLimit], got: " + this.initialLimit);
+        }
+        if (this.backoffRatio <= 0.0 || this.backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1), got: " + this.backoffRatio);
+        }
+        if (this.latencyTolerance <= 1.0) {
+            throw new IllegalArgumentException("latencyTolerance must be above 1, got: " + this.latencyTolerance);
+        }
+        if (this.smoothing <= 0.0 || this.smoothing > 1.0) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1], got: " + this.smoothing);
+        }
+        if (this.maxWait != null && this.maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative, got: " + this.maxWait);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ai.qa.solutions.execution.concurrency;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Task executor running at most a fixed number of tasks at once on a delegate, without ever
+ * blocking the submitting thread.
+ * <p>
+ * Tasks above the limit wait in a FIFO queue and are handed to the delegate as running tasks
+ * finish. {@link org.springframework.core.task.SimpleAsyncTaskExecutor#setConcurrencyLimit}
+ * instead blocks the submitter until a slot is free, which stalls async call chains: their
+ * continuations submit the next task from threads that must not wait, such as an HTTP thread
+ * holding a slot of the same executor or the scheduler thread granting rate limit tokens.
+ * <p>
+ * Meant for executors starting a thread per task, e.g. virtual threads; closing this executor
+ * closes the delegate if it is {@link AutoCloseable}.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("ragas-http-");
+ * virtualThreads.setVirtualThreads(true);
+ * AsyncTaskExecutor httpExecutor = new BoundedAsyncTaskExecutor(virtualThreads, 256);
+ * }</pre>
+ */
+@Slf4j
+public class BoundedAsyncTaskExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final Executor delegate;
+    private final int concurrencyLimit;
+    private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Creates a new bounded executor.
+     *
+     * @param delegate         executor the tasks run on
+     * @param concurrencyLimit maximum number of tasks running at once
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public BoundedAsyncTaskExecutor(final Executor delegate, final int concurrencyLimit) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        if (concurrencyLimit < 1) {
+            throw new IllegalArgumentException("concurrencyLimit must be positive, got: " + concurrencyLimit);
+        }
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * Runs the task once a slot is free; returns immediately either way.
+     *
+     * @param task the task to run
+     */
+    @Override
+    public void execute(final Runnable task) {
+        queued.add(Objects.requireNonNull(task, "task"));
+        drain();
+    }
+
+    /**
+     * Gets the maximum number of tasks running at once.
+     *
+     * @return the concurrency limit
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Gets the number of tasks running on the delegate.
+     *
+     * @return running task count
+     */
+    public int getActiveCount() {
+        return running.get();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a slot.
+     *
+     * @return queued task count
+     */
+    public int getQueueSize() {
+        return queued.size();
+    }
+
+    /**
+     * Closes the delegate if it is {@link AutoCloseable}, e.g. to wait for running tasks.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (final Exception e) {
+                log.warn("Failed to close executor {}: {}", delegate, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts queued tasks while slots are free.
+     * <p>
+     * Called after every submission and after every finished task; since both first change the
+     * state and then drain, a queued task is never left behind with a free slot.
+     */
+    private void drain() {
+        while (!queued.isEmpty()) {
+            final int current = running.get();
+            if (current >= concurrencyLimit) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Runnable task = queued.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            start(task);
+        }
+    }
+
+    private void start(final Runnable task) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                    drain();
+                }
+            });
+        } catch (final RuntimeException e) {
+            running.decrementAndGet();
+            throw e;
+        }
+    }
+}
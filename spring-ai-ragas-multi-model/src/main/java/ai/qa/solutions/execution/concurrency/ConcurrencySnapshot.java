@@ -0,0 +1,23 @@
+package ai.qa.solutions.execution.concurrency;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time state of the concurrency limit of one provider.
+ *
+ * @param providerName    the provider name, or the model ID for a model without a provider
+ * @param limit           calls allowed in flight at once
+ * @param inFlight        calls holding a slot
+ * @param waiting         calls waiting for a slot
+ * @param rejected        calls rejected after waiting the max wait
+ * @param averageLatency  smoothed latency of successful calls, zero before the first one
+ * @param limitDecreases  times the limit was lowered after a rate limit or timeout
+ */
+public record ConcurrencySnapshot(
+        String providerName,
+        int limit,
+        int inFlight,
+        int waiting,
+        long rejected,
+        Duration averageLatency,
+        long limitDecreases) {}
@@ -0,0 +1,103 @@
+package ai.qa.solutions.execution.hedging;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Policy for hedged LLM requests.
+ * <p>
+ * A call that has not returned after the configured latency percentile of its model is
+ * duplicated; the first successful response wins and the other request is cancelled:
+ * <ul>
+ *   <li><b>Percentile</b>: latency percentile of recent successful calls of the model after
+ *       which the hedge is sent, e.g. {@code 0.95} for p95</li>
+ *   <li><b>Min delay</b>: lower bound of the hedge delay, so fast models are not hedged on noise</li>
+ *   <li><b>Max hedge ratio</b>: maximum share of calls that may be hedged, capping the extra load</li>
+ *   <li><b>Min samples</b>: latencies a model needs before its calls are hedged</li>
+ *   <li><b>Window size</b>: number of recent latencies kept per model</li>
+ * </ul>
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * HedgingPolicy policy = HedgingPolicy.builder()
+ *     .percentile(0.95)
+ *     .maxHedgeRatio(0.05)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+public class HedgingPolicy {
+
+    /**
+     * Default latency percentile after which a call is hedged.
+     */
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * Default lower bound of the hedge delay.
+     */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(100);
+
+    /**
+     * Default maximum share of hedged calls.
+     */
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+    /**
+     * Default number of latencies a model needs before its calls are hedged.
+     */
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+
+    /**
+     * Default number of recent latencies kept per model.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+
+    private final double percentile;
+    private final Duration minDelay;
+    private final double maxHedgeRatio;
+    private final int minSamples;
+    private final int windowSize;
+
+    /**
+     * Creates a new hedging policy.
+     *
+     * @param percentile    latency percentile in (0, 1) after which a call is hedged (nullable, 0.95 if null)
+     * @param minDelay      lower bound of the hedge delay (nullable, 100 ms if null)
+     * @param maxHedgeRatio maximum share of hedged calls in (0, 1] (nullable, 0.1 if null)
+     * @param minSamples    latencies needed before hedging a model (nullable, 20 if null)
+     * @param windowSize    recent latencies kept per model (nullable, 256 if null)
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    @Builder
+    protected HedgingPolicy(
+            @Nullable final Double percentile,
+            @Nullable final Duration minDelay,
+            @Nullable final Double maxHedgeRatio,
+            @Nullable final Integer minSamples,
+            @Nullable final Integer windowSize) {
+        this.percentile = percentile != null ? percentile : DEFAULT_PERCENTILE;
+        this.minDelay = minDelay != null ? minDelay : DEFAULT_MIN_DELAY;
+        this.maxHedgeRatio = maxHedgeRatio != null ? maxHedgeRatio : DEFAULT_MAX_HEDGE_RATIO;
+        this.minSamples = minSamples != null ? minSamples : DEFAULT_MIN_SAMPLES;
+        this.windowSize = windowSize != null ? windowSize : DEFAULT_WINDOW_SIZE;
+        if (this.percentile <= 0 || this.percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1), got: " + this.percentile);
+        }
+        if (this.minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay must not be negative, got: " + this.minDelay);
+        }
+        if (this.maxHedgeRatio <= 0 || this.maxHedgeRatio > 1) {
+            throw new IllegalArgumentException("maxHedgeRatio must be in (0, 1], got: " + this.maxHedgeRatio);
+        }
+        if (this.minSamples < 1) {
+            throw new IllegalArgumentException("minSamples must be positive, got: " + this.minSamples);
+        }
+        if (this.windowSize < this.minSamples) {
+            throw new IllegalArgumentException(
+                    "windowSize must be at least minSamples (" + this.minSamples + "), got: " + this.windowSize);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ai.qa.solutions.execution.hedging;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+
+/**
+ * Ring buffer of the most recent call latencies of one model.
+ */
+final class LatencyWindow {
+
+    private final long[] latencyNanos;
+    private int next;
+    private int size;
+
+    LatencyWindow(final int capacity) {
+        this.latencyNanos = new long[capacity];
+    }
+
+    synchronized void record(final Duration latency) {
+        latencyNanos[next] = latency.toNanos();
+        next = (next + 1) % latencyNanos.length;
+        size = Math.min(size + 1, latencyNanos.length);
+    }
+
+    /**
+     * Gets a latency percentile of the recorded calls (nearest-rank method).
+     *
+     * @param percentile  the percentile in (0, 1)
+     * @param minSamples  samples required for a meaningful estimate
+     * @return the percentile, or null if fewer than {@code minSamples} latencies are recorded
+     */
+    @Nullable
+    synchronized Duration percentile(final double percentile, final int minSamples) {
+        if (size < minSamples) {
+            return null;
+        }
+        final long[] sorted = Arrays.copyOf(latencyNanos, size);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile * size);
+        return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+    }
+}
@@ -0,0 +1,213 @@
+package ai.qa.solutions.execution.hedging;
+
+import ai.qa.solutions.execution.ModelResult;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+/**
+ * Sends a duplicate of a slow LLM call and keeps whichever response arrives first.
+ * <p>
+ * For every model the hedger tracks the latencies of recent successful calls, as measured by
+ * the attempts from sending the request to its response. A call whose request is still running
+ * after the {@link HedgingPolicy#getPercentile() percentile} of its model (but at least
+ * {@link HedgingPolicy#getMinDelay() min delay}) gets a hedge attempt. The delay counts from the
+ * moment the original attempt reports its request as sent, so time spent waiting for rate limits
+ * or a free thread never triggers a hedge. The first
+ * successful attempt completes the call and the other attempt is cancelled. If one attempt
+ * fails, the other one is awaited; if both fail, the failure of the original call is returned.
+ * <p>
+ * Hedges are capped to {@link HedgingPolicy#getMaxHedgeRatio() max hedge ratio} of all calls,
+ * so a model that slows down as a whole does not receive twice the load. Every attempt is sent
+ * through the caller's usual path, so rate limits apply to hedges as well.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * RequestHedger hedger = new RequestHedger(HedgingPolicy.builder().percentile(0.95).build());
+ *
+ * CompletableFuture<ModelResult<Response>> result = hedger.execute(modelId, (hedge, cancellation, sent) ->
+ *     sendRequest(modelId, prompt, hedge, cancellation, sent));
+ * }</pre>
+ */
+@Slf4j
+public class RequestHedger {
+
+    private final HedgingPolicy policy;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    /**
+     * Creates a new hedger.
+     *
+     * @param policy the hedging policy
+     */
+    public RequestHedger(final HedgingPolicy policy) {
+        this.policy = Objects.requireNonNull(policy, "policy");
+    }
+
+    /**
+     * One attempt of a hedged call.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface Attempt<T> {
+
+        /**
+         * Starts the attempt.
+         *
+         * @param hedge        whether this is the hedge rather than the original call
+         * @param cancellation completed when the attempt is no longer needed; the attempt should
+         *                     then cancel its outstanding request
+         * @param sent         to be completed by the attempt once its request is actually sent; the
+         *                     original call is never hedged before
+         * @return future with the result of the attempt
+         */
+        CompletableFuture<ModelResult<T>> start(
+                boolean hedge, CompletableFuture<Void> cancellation, CompletableFuture<Void> sent);
+    }
+
+    /**
+     * Executes a call, hedging it once its request runs longer than the model's latency percentile.
+     *
+     * @param modelId the model ID the call is sent to
+     * @param attempt starts an attempt of the call
+     * @param <T>     the result type
+     * @return future with the first successful result, or the original call's failure
+     */
+    public <T> CompletableFuture<ModelResult<T>> execute(final String modelId, final Attempt<T> attempt) {
+        calls.incrementAndGet();
+        final CompletableFuture<Void> primaryCancellation = new CompletableFuture<>();
+        final CompletableFuture<Void> primarySent = new CompletableFuture<>();
+        final CompletableFuture<ModelResult<T>> primary =
+                attempt.start(false, primaryCancellation, primarySent).thenApply(result -> record(result));
+        final Duration delay = hedgeDelay(modelId);
+        if (delay == null || primary.isDone()) {
+            return primary;
+        }
+
+        final CompletableFuture<ModelResult<T>> winner = new CompletableFuture<>();
+        final CompletableFuture<Void> hedgeCancellation = new CompletableFuture<>();
+        final AtomicBoolean hedgeDecided = new AtomicBoolean();
+        primary.whenComplete((result, error) -> {
+            if (error == null && result.isSuccess()) {
+                winner.complete(result);
+            } else if (hedgeDecided.compareAndSet(false, true)) {
+                // Failed before a hedge was sent
+                complete(winner, result, error);
+            }
+        });
+        final Runnable hedgeTimer = () -> {
+            if (!hedgeDecided.compareAndSet(false, true) || winner.isDone()) {
+                return;
+            }
+            if (!tryAcquireHedge()) {
+                primary.whenComplete((result, error) -> complete(winner, result, error));
+                return;
+            }
+            log.debug("Model {} has not responded within {}, sending hedged request", modelId, delay);
+            final CompletableFuture<ModelResult<T>> hedge =
+                    attempt.start(true, hedgeCancellation, new CompletableFuture<>()).thenApply(this::record);
+            hedge.whenComplete((result, error) -> {
+                if (error == null && result.isSuccess() && winner.complete(result)) {
+                    hedgeWins.incrementAndGet();
+                }
+            });
+            // Neither attempt succeeded: report the failure of the original call
+            primary.handle((result, error) -> hedge.handle((hedgeResult, hedgeError) -> {
+                complete(winner, result, error);
+                return null;
+            }));
+        };
+        primarySent.thenRun(() -> CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(hedgeTimer));
+        winner.whenComplete((result, error) -> {
+            primaryCancellation.complete(null);
+            hedgeCancellation.complete(null);
+        });
+        return winner;
+    }
+
+    /**
+     * Gets the number of calls executed through this hedger.
+     *
+     * @return call count
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * Gets the number of hedge attempts sent.
+     *
+     * @return hedge count
+     */
+    public long getHedgeCount() {
+        return hedges.get();
+    }
+
+    /**
+     * Gets the number of calls answered by the hedge attempt before the original call.
+     *
+     * @return hedge win count
+     */
+    public long getHedgeWinCount() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * Gets the current hedge delay of a model.
+     *
+     * @param modelId the model ID
+     * @return the delay, or null while the model has too few recorded latencies
+     */
+    @Nullable
+    public Duration hedgeDelay(final String modelId) {
+        final LatencyWindow window = latencies.get(modelId);
+        final Duration percentile =
+                window != null ? window.percentile(policy.getPercentile(), policy.getMinSamples()) : null;
+        if (percentile == null) {
+            return null;
+        }
+        return percentile.compareTo(policy.getMinDelay()) < 0 ? policy.getMinDelay() : percentile;
+    }
+
+    private <T> ModelResult<T> record(final ModelResult<T> result) {
+        if (result.isSuccess() && !result.cached()) {
+            latencies
+                    .computeIfAbsent(result.modelId(), id -> new LatencyWindow(policy.getWindowSize()))
+                    .record(result.duration());
+        }
+        return result;
+    }
+
+    private static <T> void complete(
+            final CompletableFuture<ModelResult<T>> future, final ModelResult<T> result, final Throwable error) {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    private boolean tryAcquireHedge() {
+        while (true) {
+            final long current = hedges.get();
+            if (current + 1 > policy.getMaxHedgeRatio() * calls.get()) {
+                return false;
+            }
+            if (hedges.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
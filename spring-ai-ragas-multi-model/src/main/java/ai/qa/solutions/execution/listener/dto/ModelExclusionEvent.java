@@ -1,5 +1,7 @@
 package ai.qa.solutions.execution.listener.dto;
 
+import ai.qa.solutions.execution.circuit.CircuitOpenException;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
 import lombok.Builder;
 import lombok.Value;
 
@@ -69,6 +71,8 @@ public class ModelExclusionEvent {
      * Contains the exception thrown during step execution.
      * Common causes:
      * <ul>
+     *   <li>Call timeouts and expired evaluation deadlines ({@link ModelCallTimeoutException})</li>
+     *   <li>Calls rejected because the provider's circuit is open ({@link CircuitOpenException})</li>
      *   <li>Network timeouts</li>
      *   <li>Rate limit errors</li>
      *   <li>Malformed JSON responses</li>
@@ -76,4 +80,24 @@ public class ModelExclusionEvent {
      * </ul>
      */
     Throwable cause;
+
+    /**
+     * Checks whether the model was excluded because its call timed out or the evaluation
+     * deadline expired.
+     *
+     * @return true if the cause is a {@link ModelCallTimeoutException}
+     */
+    public boolean isTimeout() {
+        return cause instanceof ModelCallTimeoutException;
+    }
+
+    /**
+     * Checks whether the model was excluded without being called because the circuit of its
+     * provider was open, i.e. the provider had been failing for other calls.
+     *
+     * @return true if the cause is a {@link CircuitOpenException}
+     */
+    public boolean isCircuitOpen() {
+        return cause instanceof CircuitOpenException;
+    }
 }
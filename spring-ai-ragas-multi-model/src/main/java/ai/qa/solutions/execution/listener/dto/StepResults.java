@@ -122,6 +122,35 @@ public class StepResults {
         return (int) results.stream().filter(ModelResult::isFailure).count();
     }
 
+    /**
+     * Gets the number of results served from a response cache.
+     * <p>
+     * Cached results only account for the cache lookup time in {@link #getTotalDuration()}.
+     *
+     * @return count of results where {@link ModelResult#cached()} is true
+     */
+    public int getCachedCount() {
+        return (int) results.stream().filter(ModelResult::cached).count();
+    }
+
+    /**
+     * Gets the number of results whose failed attempts were retried.
+     *
+     * @return count of results where {@link ModelResult#isRetried()} is true
+     */
+    public int getRetriedCount() {
+        return (int) results.stream().filter(ModelResult::isRetried).count();
+    }
+
+    /**
+     * Gets the number of calls sent to the models for this step, including retries.
+     *
+     * @return sum of {@link ModelResult#attempts()} over all results
+     */
+    public int getAttemptCount() {
+        return results.stream().mapToInt(ModelResult::attempts).sum();
+    }
+
     /**
      * Gets the success rate as a fraction between 0.0 and 1.0.
      *
@@ -150,6 +150,16 @@ public class LoggingMetricExecutionListener implements MetricExecutionListener {
                 if (step.getFailCount() > 0) {
                     sb.append(", ").append(step.getFailCount()).append(" FAILED");
                 }
+                if (step.getCachedCount() > 0) {
+                    sb.append(", ").append(step.getCachedCount()).append(" CACHED");
+                }
+                if (step.getRetriedCount() > 0) {
+                    sb.append(", ")
+                            .append(step.getRetriedCount())
+                            .append(" RETRIED (")
+                            .append(step.getAttemptCount())
+                            .append(" attempts)");
+                }
                 sb.append(" (").append(step.getTotalDuration().toMillis()).append("ms)\n");
 
                 // Timeline for LLM steps with multiple models
@@ -388,6 +398,9 @@ public class LoggingMetricExecutionListener implements MetricExecutionListener {
         if (event.getCause() == null) {
             return "unknown error";
         }
+        if (event.isCircuitOpen()) {
+            return "circuit open";
+        }
 
         final String message = event.getCause().getMessage();
         if (message == null || message.isBlank()) {
@@ -4,17 +4,33 @@ import io.github.bucket4j.Bucket;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.springframework.lang.Nullable;
 
 /**
  * Bucket4j-based implementation of {@link ProviderRateLimiterRegistry}.
  * <p>
- * Uses the token-bucket algorithm to enforce per-provider RPS limits. Each provider
+ * Uses the token-bucket algorithm to enforce per-provider RPS and TPM limits. Each provider
  * gets a separate {@link Bucket} instance, and all models belonging to the same provider
  * share that bucket.
  * <p>
  * Buckets are created lazily on first access and stored in a thread-safe
  * {@link ConcurrentHashMap}.
+ * <p>
+ * Providers with a token-per-minute budget get a second bucket holding that budget.
+ * Bucket4j charges every limit of one bucket the same amount, so requests and tokens
+ * cannot share a bucket: a request first takes one token from the request bucket and
+ * then its estimated token count from the token bucket. {@link #reconcile(String, long, long)}
+ * returns unused tokens to the token bucket or charges the excess as debt.
+ * <p>
+ * {@link #acquireAsync(String)} uses Bucket4j's scheduling API: when the bucket is empty,
+ * the returned future is completed by a {@link ScheduledExecutorService} once the token
+ * has been refilled, so no thread is parked while a provider is throttled. Unless a
+ * scheduler is passed in, a single daemon thread is created on first use and shut down
+ * by {@link #close()}.
  *
  * <h3>Important for non-starter users:</h3>
  * If you use {@code spring-ai-ragas-multi-model} directly (without the Spring Boot starter),
@@ -31,11 +47,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * @see ProviderRateLimiterRegistry
  * @see RateLimitConfig
  */
-public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterRegistry {
+public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterRegistry, AutoCloseable {
 
     private final Map<String, String> modelToProvider;
     private final Map<String, RateLimitConfig> providerConfigs;
     private final ConcurrentHashMap<String, Bucket> providerBuckets;
+    private final ConcurrentHashMap<String, Bucket> tokenBuckets;
+    private final boolean ownsScheduler;
+
+    @Nullable
+    private volatile ScheduledExecutorService scheduler;
 
     /**
      * Creates a new registry with the given model-to-provider mapping and provider configurations.
@@ -45,9 +66,27 @@ public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterR
      */
     public Bucket4jProviderRateLimiterRegistry(
             final Map<String, String> modelToProvider, final Map<String, RateLimitConfig> providerConfigs) {
+        this(modelToProvider, providerConfigs, null);
+    }
+
+    /**
+     * Creates a new registry that completes asynchronous acquisitions on the given scheduler.
+     *
+     * @param modelToProvider maps model ID to provider name (e.g., "gpt-4o" to "openai")
+     * @param providerConfigs maps provider name to rate limit configuration
+     * @param scheduler       scheduler completing delayed acquisitions (nullable, an internal
+     *                        daemon scheduler is created on demand if null)
+     */
+    public Bucket4jProviderRateLimiterRegistry(
+            final Map<String, String> modelToProvider,
+            final Map<String, RateLimitConfig> providerConfigs,
+            @Nullable final ScheduledExecutorService scheduler) {
         this.modelToProvider = Objects.requireNonNull(modelToProvider, "modelToProvider must not be null");
         this.providerConfigs = Objects.requireNonNull(providerConfigs, "providerConfigs must not be null");
         this.providerBuckets = new ConcurrentHashMap<>();
+        this.tokenBuckets = new ConcurrentHashMap<>();
+        this.scheduler = scheduler;
+        this.ownsScheduler = scheduler == null;
     }
 
     @Override
@@ -58,11 +97,11 @@ public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterR
         }
 
         final RateLimitConfig config = providerConfigs.get(providerName);
-        if (config == null) {
+        if (config == null || !config.hasRequestLimit()) {
             return;
         }
 
-        final Bucket bucket = providerBuckets.computeIfAbsent(providerName, k -> createBucket(config));
+        final Bucket bucket = providerBuckets.computeIfAbsent(providerName, k -> createRequestBucket(config));
 
         switch (config.strategy()) {
             case WAIT -> acquireWithWait(bucket, config, modelId, providerName);
@@ -70,6 +109,80 @@ public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterR
         }
     }
 
+    @Override
+    public CompletableFuture<Void> acquireAsync(final String modelId) {
+        return acquireAsync(modelId, 0);
+    }
+
+    @Override
+    public CompletableFuture<Void> acquireAsync(final String modelId, final long estimatedTokens) {
+        final String providerName = modelToProvider.get(modelId);
+        if (providerName == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final RateLimitConfig config = providerConfigs.get(providerName);
+        if (config == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> request = config.hasRequestLimit()
+                ? consumeAsync(
+                        providerBuckets.computeIfAbsent(providerName, k -> createRequestBucket(config)),
+                        1,
+                        config,
+                        modelId,
+                        providerName,
+                        "Rate limit")
+                : CompletableFuture.completedFuture(null);
+        if (!config.hasTokenLimit() || estimatedTokens <= 0) {
+            return request;
+        }
+
+        final Bucket tokenBucket = tokenBuckets.computeIfAbsent(providerName, k -> createTokenBucket(config));
+        final long tokens = chargedTokens(config, estimatedTokens);
+        return request.thenCompose(
+                granted -> consumeAsync(tokenBucket, tokens, config, modelId, providerName, "Token rate limit"));
+    }
+
+    @Override
+    public boolean isTokenLimited(final String modelId) {
+        final String providerName = modelToProvider.get(modelId);
+        final RateLimitConfig config = providerName != null ? providerConfigs.get(providerName) : null;
+        return config != null && config.hasTokenLimit();
+    }
+
+    @Override
+    public void reconcile(final String modelId, final long estimatedTokens, final long actualTokens) {
+        if (actualTokens <= 0 || !isTokenLimited(modelId)) {
+            // Usage not reported by the provider: keep the estimate
+            return;
+        }
+        final String providerName = modelToProvider.get(modelId);
+        final RateLimitConfig config = providerConfigs.get(providerName);
+        final Bucket tokenBucket = tokenBuckets.computeIfAbsent(providerName, k -> createTokenBucket(config));
+
+        final long difference = actualTokens - chargedTokens(config, estimatedTokens);
+        if (difference > 0) {
+            tokenBucket.consumeIgnoringRateLimits(difference);
+        } else if (difference < 0) {
+            tokenBucket.addTokens(-difference);
+        }
+    }
+
+    /**
+     * Shuts down the internal scheduler, if one was created.
+     * <p>
+     * A scheduler passed to the constructor is owned by the caller and left running.
+     */
+    @Override
+    public void close() {
+        final ScheduledExecutorService current = scheduler;
+        if (ownsScheduler && current != null) {
+            current.shutdownNow();
+        }
+    }
+
     private void acquireWithWait(
             final Bucket bucket, final RateLimitConfig config, final String modelId, final String providerName) {
         try {
@@ -96,9 +209,77 @@ public class Bucket4jProviderRateLimiterRegistry implements ProviderRateLimiterR
         }
     }
 
-    private Bucket createBucket(final RateLimitConfig config) {
+    private CompletableFuture<Void> consumeAsync(
+            final Bucket bucket,
+            final long tokens,
+            final RateLimitConfig config,
+            final String modelId,
+            final String providerName,
+            final String limitName) {
+        // Fast path: free tokens need neither the scheduler nor a future chain
+        if (bucket.tryConsume(tokens)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return switch (config.strategy()) {
+            case WAIT -> consumeWithWaitAsync(bucket, tokens, config, modelId, providerName, limitName);
+            case REJECT -> CompletableFuture.failedFuture(new RateLimitExceededException(
+                    modelId, providerName, limitName + " exceeded for provider: " + providerName));
+        };
+    }
+
+    private CompletableFuture<Void> consumeWithWaitAsync(
+            final Bucket bucket,
+            final long tokens,
+            final RateLimitConfig config,
+            final String modelId,
+            final String providerName,
+            final String limitName) {
+        if (config.timeout().isZero()) {
+            return bucket.asScheduler().consume(tokens, getScheduler());
+        }
+        return bucket.asScheduler().tryConsume(tokens, config.timeout(), getScheduler()).thenAccept(consumed -> {
+            if (!consumed) {
+                throw new RateLimitExceededException(
+                        modelId, providerName, limitName + " wait timeout exceeded for provider: " + providerName);
+            }
+        });
+    }
+
+    /**
+     * A single request may be estimated above the whole budget; it is charged the full
+     * budget up front and the rest as debt on reconciliation, instead of waiting forever.
+     */
+    private static long chargedTokens(final RateLimitConfig config, final long estimatedTokens) {
+        return Math.max(0, Math.min(estimatedTokens, config.tpm()));
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null) {
+            synchronized (this) {
+                current = scheduler;
+                if (current == null) {
+                    current = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "ragas-rate-limit-scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Bucket createRequestBucket(final RateLimitConfig config) {
         return Bucket.builder()
                 .addLimit(limit -> limit.capacity(config.rps()).refillGreedy(config.rps(), Duration.ofSeconds(1)))
                 .build();
     }
+
+    private Bucket createTokenBucket(final RateLimitConfig config) {
+        return Bucket.builder()
+                .addLimit(limit -> limit.capacity(config.tpm()).refillGreedy(config.tpm(), Duration.ofMinutes(1)))
+                .build();
+    }
 }
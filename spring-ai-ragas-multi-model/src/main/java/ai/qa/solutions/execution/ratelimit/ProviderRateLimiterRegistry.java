@@ -1,5 +1,7 @@
 package ai.qa.solutions.execution.ratelimit;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Registry that manages per-provider rate limiters for LLM and embedding API calls.
  * <p>
@@ -14,6 +16,10 @@ package ai.qa.solutions.execution.ratelimit;
  * // Acquire a token before making an API call
  * registry.acquire("gpt-4o");
  * chatClient.prompt(prompt).call();
+ *
+ * // Or without blocking the calling thread while waiting for the token
+ * registry.acquireAsync("gpt-4o")
+ *     .thenCompose(granted -> httpExecutor.submitCompletable(() -> chatClient.prompt(prompt).call()));
  * }</pre>
  *
  * @see Bucket4jProviderRateLimiterRegistry
@@ -40,4 +46,68 @@ public interface ProviderRateLimiterRegistry {
      * @throws RateLimitExceededException if the rate limit is exceeded and cannot be satisfied
      */
     void acquire(String modelId) throws RateLimitExceededException;
+
+    /**
+     * Acquires a rate limit token for the given model without blocking the calling thread.
+     * <p>
+     * The returned future completes once the token is granted, or completes exceptionally
+     * with a {@link RateLimitExceededException} under the same conditions in which
+     * {@link #acquire(String)} throws. The future may complete on an internal scheduler
+     * thread, so dependent stages doing real work should be moved to their own executor.
+     * <p>
+     * The default implementation calls {@link #acquire(String)} on the calling thread.
+     *
+     * @param modelId the model ID to acquire a token for
+     * @return future completed when the token is granted
+     */
+    default CompletableFuture<Void> acquireAsync(final String modelId) {
+        try {
+            acquire(modelId);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Acquires a request token and charges the estimated token count against the provider's
+     * token-per-minute budget, without blocking the calling thread.
+     * <p>
+     * Providers without a token budget only acquire a request token. The default
+     * implementation ignores the token count.
+     *
+     * @param modelId         the model ID to acquire tokens for
+     * @param estimatedTokens estimated number of tokens the request will consume
+     * @return future completed when both the request token and the token budget are granted
+     * @see TokenEstimator
+     */
+    default CompletableFuture<Void> acquireAsync(final String modelId, final long estimatedTokens) {
+        return acquireAsync(modelId);
+    }
+
+    /**
+     * Whether calls to the given model are charged against a token-per-minute budget.
+     * <p>
+     * Callers only need to collect the actual token usage and call
+     * {@link #reconcile(String, long, long)} when this returns true.
+     *
+     * @param modelId the model ID to check
+     * @return true if the model's provider has a token budget
+     */
+    default boolean isTokenLimited(final String modelId) {
+        return false;
+    }
+
+    /**
+     * Corrects an up-front token charge with the actual usage reported by the provider.
+     * <p>
+     * Unused tokens are returned to the budget; additional usage is charged immediately,
+     * even if that puts the budget into debt, so that following requests wait for it.
+     * The default implementation does nothing.
+     *
+     * @param modelId         the model ID the tokens were acquired for
+     * @param estimatedTokens the estimate passed to {@link #acquireAsync(String, long)}
+     * @param actualTokens    the total number of tokens reported by the provider
+     */
+    default void reconcile(final String modelId, final long estimatedTokens, final long actualTokens) {}
 }
@@ -7,7 +7,14 @@ import java.util.Objects;
  * Configuration for per-provider rate limiting.
  * <p>
  * Each provider can have its own rate limit configuration specifying the maximum
- * requests per second (RPS), the backpressure strategy, and an optional timeout.
+ * requests per second (RPS), an optional token-per-minute (TPM) budget, the backpressure
+ * strategy, and an optional timeout.
+ *
+ * <h3>Token budget:</h3>
+ * When {@code tpm} is positive, every request is charged its estimated prompt token count
+ * (see {@link TokenEstimator}) before it is sent, and the charge is corrected with the actual
+ * usage reported by the provider afterwards. Either limit may be disabled with {@code 0},
+ * but not both.
  *
  * <h3>Timeout semantics:</h3>
  * <ul>
@@ -26,25 +33,64 @@ import java.util.Objects;
  *
  * // WAIT with 30-second timeout
  * RateLimitConfig withTimeout = new RateLimitConfig(10, RateLimitStrategy.WAIT, Duration.ofSeconds(30));
+ *
+ * // 10 RPS and 200k tokens per minute
+ * RateLimitConfig withTpm = new RateLimitConfig(10, 200_000, RateLimitStrategy.WAIT, Duration.ZERO);
  * }</pre>
  *
- * @param rps      maximum requests per second (must be positive)
+ * @param rps      maximum requests per second; {@code 0} disables the request limit
+ * @param tpm      maximum tokens per minute; {@code 0} disables the token budget
  * @param strategy the backpressure strategy to apply when bucket is exhausted
  * @param timeout  maximum wait duration for WAIT strategy; {@link Duration#ZERO} means infinite
  */
-public record RateLimitConfig(int rps, RateLimitStrategy strategy, Duration timeout) {
+public record RateLimitConfig(int rps, int tpm, RateLimitStrategy strategy, Duration timeout) {
 
     /**
      * Compact constructor with validation.
      */
     public RateLimitConfig {
-        if (rps <= 0) {
-            throw new IllegalArgumentException("rps must be positive, got: " + rps);
+        if (rps < 0) {
+            throw new IllegalArgumentException("rps must not be negative, got: " + rps);
+        }
+        if (tpm < 0) {
+            throw new IllegalArgumentException("tpm must not be negative, got: " + tpm);
+        }
+        if (rps == 0 && tpm == 0) {
+            throw new IllegalArgumentException("rps must be positive when no tpm budget is set, got: " + rps);
         }
         Objects.requireNonNull(strategy, "strategy must not be null");
         Objects.requireNonNull(timeout, "timeout must not be null");
     }
 
+    /**
+     * Creates a request-only rate limit config without a token budget.
+     *
+     * @param rps      maximum requests per second (must be positive)
+     * @param strategy the backpressure strategy to apply when bucket is exhausted
+     * @param timeout  maximum wait duration for WAIT strategy; {@link Duration#ZERO} means infinite
+     */
+    public RateLimitConfig(final int rps, final RateLimitStrategy strategy, final Duration timeout) {
+        this(rps, 0, strategy, timeout);
+    }
+
+    /**
+     * Whether requests to this provider are limited per second.
+     *
+     * @return true if {@code rps} is positive
+     */
+    public boolean hasRequestLimit() {
+        return rps > 0;
+    }
+
+    /**
+     * Whether requests to this provider are charged against a token-per-minute budget.
+     *
+     * @return true if {@code tpm} is positive
+     */
+    public boolean hasTokenLimit() {
+        return tpm > 0;
+    }
+
     /**
      * Creates a rate limit config with default settings: WAIT strategy and infinite timeout.
      *
@@ -0,0 +1,43 @@
+package ai.qa.solutions.execution.ratelimit;
+
+/**
+ * Character-based heuristic for estimating the number of tokens in a text.
+ * <p>
+ * Used to charge token-per-minute budgets before a request is sent, when the actual
+ * token count reported by the provider is not known yet. The heuristic deliberately
+ * overestimates for typical English text (about 4 characters per token) so that the
+ * up-front charge rarely has to be topped up after the call.
+ *
+ * @see ProviderRateLimiterRegistry#acquireAsync(String, long)
+ */
+public final class TokenEstimator {
+
+    /** Default ratio of characters to tokens used by the estimation heuristic. */
+    public static final double CHARS_PER_TOKEN = 3.0;
+
+    private TokenEstimator() {}
+
+    /**
+     * Estimates the number of tokens in the given text using the default ratio.
+     *
+     * @param text the text to estimate
+     * @return estimated token count, 0 for null or empty text
+     */
+    public static int estimateTokens(final String text) {
+        return estimateTokens(text, CHARS_PER_TOKEN);
+    }
+
+    /**
+     * Estimates the number of tokens in the given text using the supplied characters-per-token ratio.
+     *
+     * @param text          the text to estimate
+     * @param charsPerToken ratio of characters to tokens used for estimation
+     * @return estimated token count, 0 for null or empty text
+     */
+    public static int estimateTokens(final String text, final double charsPerToken) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (int) Math.ceil(text.length() / charsPerToken);
+    }
+}
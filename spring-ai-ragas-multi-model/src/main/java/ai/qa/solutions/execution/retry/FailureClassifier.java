@@ -0,0 +1,187 @@
+package ai.qa.solutions.execution.retry;
+
+import ai.qa.solutions.execution.circuit.CircuitOpenException;
+import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import com.fasterxml.jackson.core.JacksonException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Classifies failed model calls and reads the {@code Retry-After} hint of rate-limited calls.
+ * <p>
+ * The exception and its causes are inspected from the outermost one. Spring AI reports HTTP
+ * errors as {@link TransientAiException} (5xx, or any code configured as transient) and
+ * {@link NonTransientAiException} (4xx), both with the status code at the start of the message;
+ * plain {@link RestClientResponseException}s are classified by their status code. Failures raised
+ * by this library itself (cancellation, local rate limit rejection, open circuit) are never retried.
+ * <p>
+ * Spring AI's exceptions do not carry the response headers, so the {@code Retry-After} hint is
+ * only available when the model's API keeps the HTTP error in the cause chain, e.g. through a
+ * {@link RetryAfterPreservingErrorHandler}.
+ */
+public final class FailureClassifier {
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private FailureClassifier() {}
+
+    /**
+     * Classifies a failed call.
+     *
+     * @param error the failure of the call
+     * @return the failure type, {@link FailureType#NON_RETRYABLE} if nothing points at a transient failure
+     */
+    public static FailureType classify(final Throwable error) {
+        FailureType type = FailureType.NON_RETRYABLE;
+        Throwable current = error;
+        int depth = 0;
+        while (current != null && depth++ < MAX_CAUSE_DEPTH) {
+            if (current instanceof CancellationException
+                    || current instanceof RateLimitExceededException
+                    || current instanceof CircuitOpenException) {
+                return FailureType.NON_RETRYABLE;
+            }
+            if (current instanceof ModelCallTimeoutException
+                    || current instanceof TimeoutException
+                    || current instanceof SocketTimeoutException
+                    || current instanceof HttpTimeoutException) {
+                return FailureType.TIMEOUT;
+            }
+            if (current instanceof JacksonException) {
+                return FailureType.PARSE_ERROR;
+            }
+            if (current instanceof RestClientResponseException response) {
+                return ofStatus(response.getStatusCode().value());
+            }
+            if (current instanceof NonTransientAiException) {
+                return ofStatus(statusOf(current.getMessage()));
+            }
+            if (current instanceof TransientAiException) {
+                return ofTransientStatus(statusOf(current.getMessage()));
+            }
+            if (current instanceof IOException || current instanceof ResourceAccessException) {
+                // A connection error, unless a cause shows it timed out
+                type = FailureType.SERVER_ERROR;
+            }
+            current = current.getCause();
+        }
+        return type;
+    }
+
+    /**
+     * Checks whether a call failed because the evaluation deadline expired, which says nothing
+     * about the provider, rather than because the call exceeded its own timeout.
+     *
+     * @param error the failure of the call
+     * @return true if a {@link ModelCallTimeoutException} for an expired deadline is in the cause chain
+     * @see ModelCallTimeoutException#isDeadlineExpired()
+     */
+    public static boolean isDeadlineExpired(final Throwable error) {
+        Throwable current = error;
+        int depth = 0;
+        while (current != null && depth++ < MAX_CAUSE_DEPTH) {
+            if (current instanceof ModelCallTimeoutException timeout) {
+                return timeout.isDeadlineExpired();
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Reads the delay the provider asked for before the next call, from the {@code retry-after-ms}
+     * or {@code Retry-After} header (seconds or an HTTP date) of an HTTP error response.
+     *
+     * @param error the failure of the call
+     * @return the requested delay, empty if the failure carries no such header
+     * @see RetryAfterPreservingErrorHandler
+     */
+    public static Optional<Duration> retryAfter(final Throwable error) {
+        Throwable current = error;
+        int depth = 0;
+        while (current != null && depth++ < MAX_CAUSE_DEPTH) {
+            if (current instanceof RestClientResponseException response && response.getResponseHeaders() != null) {
+                return retryAfter(response.getResponseHeaders());
+            }
+            current = current.getCause();
+        }
+        return Optional.empty();
+    }
+
+    static Optional<Duration> retryAfter(final HttpHeaders headers) {
+        final String millis = headers.getFirst("retry-after-ms");
+        if (millis != null) {
+            try {
+                return Optional.of(Duration.ofMillis(Math.max(0, Math.round(Double.parseDouble(millis.trim())))));
+            } catch (NumberFormatException e) {
+                // Fall back to Retry-After
+            }
+        }
+        final String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            final Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant();
+            final Duration delay = Duration.between(Instant.now(), date);
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Classifies a status Spring AI reported as transient, which is retryable whatever the code.
+     */
+    private static FailureType ofTransientStatus(final int status) {
+        if (status == 429) {
+            return FailureType.RATE_LIMITED;
+        }
+        return status == 408 ? FailureType.TIMEOUT : FailureType.SERVER_ERROR;
+    }
+
+    private static FailureType ofStatus(final int status) {
+        if (status == 429) {
+            return FailureType.RATE_LIMITED;
+        }
+        if (status == 408) {
+            return FailureType.TIMEOUT;
+        }
+        return status >= 500 && status < 600 ? FailureType.SERVER_ERROR : FailureType.NON_RETRYABLE;
+    }
+
+    /**
+     * Reads the status code Spring AI puts at the start of the message, as in {@code "429 - {...}"}.
+     */
+    private static int statusOf(final String message) {
+        if (message == null || message.length() < 3) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(message.substring(0, 3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ai.qa.solutions.execution.retry;
+
+/**
+ * Classification of a failed model call, deciding whether and how it is retried.
+ *
+ * @see FailureClassifier
+ * @see RetryPolicy
+ */
+public enum FailureType {
+
+    /**
+     * The provider rejected the call for exceeding its rate limit (HTTP 429).
+     */
+    RATE_LIMITED,
+
+    /**
+     * The provider failed to answer: HTTP 5xx responses and connection errors.
+     */
+    SERVER_ERROR,
+
+    /**
+     * The call timed out, on the client side or with HTTP 408.
+     */
+    TIMEOUT,
+
+    /**
+     * The model answered, but its response could not be parsed into the response type.
+     */
+    PARSE_ERROR,
+
+    /**
+     * Any other failure, e.g. an invalid request, a cancelled call or an open circuit;
+     * retrying would fail the same way.
+     */
+    NON_RETRYABLE
+}
@@ -0,0 +1,92 @@
+package ai.qa.solutions.execution.retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Response error handler keeping the {@code Retry-After} hint of failed calls.
+ * <p>
+ * Spring AI turns HTTP errors into {@link TransientAiException} and {@link NonTransientAiException},
+ * which carry the status and body in their message but drop the response headers. This handler
+ * lets the delegate classify the error as usual and, when the response asks for a delay, throws
+ * the same exception type with a {@link RestClientResponseException} holding the headers as its
+ * cause, where {@link FailureClassifier#retryAfter(Throwable)} finds it.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * OpenAiApi api = OpenAiApi.builder()
+ *     .apiKey(apiKey)
+ *     .responseErrorHandler(new RetryAfterPreservingErrorHandler())
+ *     .build();
+ * }</pre>
+ */
+public class RetryAfterPreservingErrorHandler implements ResponseErrorHandler {
+
+    private final ResponseErrorHandler delegate;
+
+    /**
+     * Creates a handler classifying errors like Spring AI's default handler.
+     */
+    public RetryAfterPreservingErrorHandler() {
+        this(RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER);
+    }
+
+    /**
+     * Creates a handler classifying errors with the given handler.
+     *
+     * @param delegate the handler deciding which exception an error response raises
+     */
+    public RetryAfterPreservingErrorHandler(final ResponseErrorHandler delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public boolean hasError(final ClientHttpResponse response) throws IOException {
+        return delegate.hasError(response);
+    }
+
+    @Override
+    public void handleError(final URI url, final HttpMethod method, final ClientHttpResponse response)
+            throws IOException {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        final HttpStatusCode status = response.getStatusCode();
+        final String statusText = response.getStatusText();
+        try {
+            delegate.handleError(url, method, response);
+        } catch (final NonTransientAiException e) {
+            if (FailureClassifier.retryAfter(headers).isEmpty()) {
+                throw e;
+            }
+            throw new NonTransientAiException(e.getMessage(), responseError(e, status, statusText, headers));
+        } catch (final TransientAiException e) {
+            if (FailureClassifier.retryAfter(headers).isEmpty()) {
+                throw e;
+            }
+            throw new TransientAiException(e.getMessage(), responseError(e, status, statusText, headers));
+        }
+    }
+
+    private static RestClientResponseException responseError(
+            final RuntimeException error,
+            final HttpStatusCode status,
+            final String statusText,
+            final HttpHeaders headers) {
+        final RestClientResponseException responseError =
+                new RestClientResponseException(error.getMessage(), status, statusText, headers, null, null);
+        if (error.getCause() != null) {
+            responseError.initCause(error.getCause());
+        }
+        return responseError;
+    }
+}
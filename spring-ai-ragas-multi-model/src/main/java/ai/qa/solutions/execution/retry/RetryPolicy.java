@@ -0,0 +1,149 @@
+package ai.qa.solutions.execution.retry;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Policy for retrying transient failures of LLM calls.
+ * <p>
+ * A failed call is classified by {@link FailureClassifier}; calls failing with a retryable
+ * {@link FailureType} are sent again after an exponential backoff with jitter:
+ * <ul>
+ *   <li><b>Max attempts</b>: calls sent for one request, including the first one</li>
+ *   <li><b>Initial backoff</b>: delay before the first retry, multiplied by the
+ *       <b>multiplier</b> for every further retry, up to the <b>max backoff</b></li>
+ *   <li><b>Jitter</b>: share of the delay that is randomized, so callers failing together do
+ *       not retry together; {@code 0.5} waits between half and the full delay</li>
+ *   <li><b>Retry on</b>: failure types that are retried</li>
+ *   <li><b>Repair parse errors</b>: whether a response that could not be parsed is asked
+ *       again right away, once, with a short note about the expected format</li>
+ * </ul>
+ * A {@code Retry-After} delay sent by the provider replaces the backoff; if it is longer than
+ * the max backoff, the call is not retried.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.builder()
+ *     .maxAttempts(4)
+ *     .initialBackoff(Duration.ofSeconds(1))
+ *     .repairParseErrors(true)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+public class RetryPolicy {
+
+    /**
+     * Default number of calls sent for one request.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * Default delay before the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(500);
+
+    /**
+     * Default upper bound of the delay between attempts.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(20);
+
+    /**
+     * Default growth factor of the delay per retry.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+
+    /**
+     * Default randomized share of the delay.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<FailureType> retryOn;
+    private final boolean repairParseErrors;
+
+    /**
+     * Creates a new retry policy.
+     *
+     * @param maxAttempts       calls sent for one request, at least 1 (nullable, 3 if null)
+     * @param initialBackoff    delay before the first retry (nullable, 500 ms if null)
+     * @param maxBackoff        upper bound of the delay (nullable, 20 s if null)
+     * @param multiplier        growth factor of the delay, at least 1 (nullable, 2 if null)
+     * @param jitter            randomized share of the delay in [0, 1] (nullable, 0.5 if null)
+     * @param retryOn           retried failure types (nullable, rate limits, server errors and timeouts if null)
+     * @param repairParseErrors whether unparseable responses are asked again (nullable, false if null)
+     * @throws IllegalArgumentException if any value is out of range
+     */
+    @Builder
+    protected RetryPolicy(
+            @Nullable final Integer maxAttempts,
+            @Nullable final Duration initialBackoff,
+            @Nullable final Duration maxBackoff,
+            @Nullable final Double multiplier,
+            @Nullable final Double jitter,
+            @Nullable final Set<FailureType> retryOn,
+            @Nullable final Boolean repairParseErrors) {
+        this.maxAttempts = maxAttempts != null ? maxAttempts : DEFAULT_MAX_ATTEMPTS;
+        this.initialBackoff = initialBackoff != null ? initialBackoff : DEFAULT_INITIAL_BACKOFF;
+        this.maxBackoff = maxBackoff != null ? maxBackoff : DEFAULT_MAX_BACKOFF;
+        this.multiplier = multiplier != null ? multiplier : DEFAULT_MULTIPLIER;
+        this.jitter = jitter != null ? jitter : DEFAULT_JITTER;
+        this.retryOn = retryOn != null
+                ? Set.copyOf(retryOn)
+                : Set.copyOf(EnumSet.of(FailureType.RATE_LIMITED, FailureType.SERVER_ERROR, FailureType.TIMEOUT));
+        this.repairParseErrors = repairParseErrors != null && repairParseErrors;
+        if (this.maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive, got: " + this.maxAttempts);
+        }
+        if (this.initialBackoff.isNegative()) {
+            throw new IllegalArgumentException("initialBackoff must not be negative, got: " + this.initialBackoff);
+        }
+        if (this.maxBackoff.compareTo(this.initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must not be below initialBackoff, got: " + this.maxBackoff);
+        }
+        if (this.multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be at least 1, got: " + this.multiplier);
+        }
+        if (this.jitter < 0.0 || this.jitter > 1.0) {
+            throw new IllegalArgumentException("jitter must be in [0, 1], got: " + this.jitter);
+        }
+    }
+
+    /**
+     * Checks whether a failure of the given type is retried.
+     *
+     * @param type the failure type
+     * @return true if the type is retried
+     */
+    public boolean isRetryable(final FailureType type) {
+        return retryOn.contains(type);
+    }
+
+    /**
+     * Computes the randomized delay before a retry.
+     *
+     * @param retry the retry number, 1 for the first retry
+     * @return the delay before the retry
+     */
+    public Duration backoff(final int retry) {
+        return backoff(retry, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Computes the delay before a retry for a given random value in [0, 1).
+     */
+    Duration backoff(final int retry, final double random) {
+        final double exponential = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, retry - 1));
+        final double capped = Math.min(exponential, maxBackoff.toNanos());
+        return Duration.ofNanos(Math.round(capped * (1.0 - jitter * random)));
+    }
+}
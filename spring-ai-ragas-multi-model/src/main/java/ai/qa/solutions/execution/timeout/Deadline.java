@@ -0,0 +1,86 @@
+package ai.qa.solutions.execution.timeout;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.lang.Nullable;
+
+/**
+ * Absolute point in time by which an evaluation must finish.
+ * <p>
+ * A deadline is created once when a metric evaluation starts and then shared by all of its
+ * steps, so a step started late only gets the budget that is left:
+ * <pre>{@code
+ * Deadline deadline = Deadline.after(Duration.ofSeconds(60));
+ * // ... step 1 takes 45 s ...
+ * deadline.remaining(); // ~15 s left for step 2
+ * }</pre>
+ * Based on {@link System#nanoTime()}, so it is not affected by wall-clock adjustments.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+    private final Duration budget;
+
+    private Deadline(final long deadlineNanos, final Duration budget) {
+        this.deadlineNanos = deadlineNanos;
+        this.budget = budget;
+    }
+
+    /**
+     * Creates a deadline that expires after the given budget, starting now.
+     *
+     * @param budget the time budget, must be positive
+     * @return a new deadline
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public static Deadline after(final Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Deadline budget must be positive, got: " + budget);
+        }
+        return new Deadline(System.nanoTime() + budget.toNanos(), budget);
+    }
+
+    /**
+     * Gets the time left until the deadline.
+     *
+     * @return remaining time, {@link Duration#ZERO} once expired
+     */
+    public Duration remaining() {
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     *
+     * @return true if no time is left
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Gets the budget the deadline was created with.
+     *
+     * @return the total budget
+     */
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the earlier of this deadline and the other one.
+     *
+     * @param other the other deadline (nullable)
+     * @return the deadline that expires first
+     */
+    public Deadline earliest(@Nullable final Deadline other) {
+        return other == null || deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[budget=" + budget + ", remaining=" + remaining() + "]";
+    }
+}
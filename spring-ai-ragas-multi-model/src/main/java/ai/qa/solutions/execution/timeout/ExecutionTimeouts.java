@@ -0,0 +1,106 @@
+package ai.qa.solutions.execution.timeout;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Timeouts applied by the {@code MultiModelExecutor}.
+ * <ul>
+ *   <li><b>Call timeout</b>: maximum duration of a single model call, per model with a global
+ *       default. Rate limit waiting is not included</li>
+ *   <li><b>Evaluation timeout</b>: budget of a whole metric evaluation, per metric with a global
+ *       default. It becomes a {@link Deadline} shared by all steps of the evaluation</li>
+ * </ul>
+ * A call is given the smaller of its call timeout and the time left until the deadline. Unset
+ * values mean no timeout.
+ *
+ * <h3>Usage Example:</h3>
+ * <pre>{@code
+ * ExecutionTimeouts timeouts = ExecutionTimeouts.builder()
+ *     .callTimeout(Duration.ofSeconds(30))
+ *     .modelCallTimeouts(Map.of("o1-preview", Duration.ofMinutes(2)))
+ *     .evaluationTimeout(Duration.ofMinutes(3))
+ *     .metricEvaluationTimeouts(Map.of("FaithfulnessMetric", Duration.ofMinutes(5)))
+ *     .build();
+ * }</pre>
+ */
+@Getter
+public class ExecutionTimeouts {
+
+    @Nullable
+    private final Duration callTimeout;
+
+    private final Map<String, Duration> modelCallTimeouts;
+
+    @Nullable
+    private final Duration evaluationTimeout;
+
+    private final Map<String, Duration> metricEvaluationTimeouts;
+
+    /**
+     * Creates new execution timeouts.
+     *
+     * @param callTimeout              default per-call timeout (nullable, no timeout if null)
+     * @param modelCallTimeouts        per-call timeouts by model ID, overriding the default (nullable)
+     * @param evaluationTimeout        default budget of a metric evaluation (nullable, no deadline if null)
+     * @param metricEvaluationTimeouts evaluation budgets by metric name, overriding the default (nullable)
+     * @throws IllegalArgumentException if any timeout is not positive
+     */
+    @Builder
+    protected ExecutionTimeouts(
+            @Nullable final Duration callTimeout,
+            @Nullable final Map<String, Duration> modelCallTimeouts,
+            @Nullable final Duration evaluationTimeout,
+            @Nullable final Map<String, Duration> metricEvaluationTimeouts) {
+        this.callTimeout = validate("callTimeout", callTimeout);
+        this.modelCallTimeouts = modelCallTimeouts != null ? Map.copyOf(modelCallTimeouts) : Map.of();
+        this.evaluationTimeout = validate("evaluationTimeout", evaluationTimeout);
+        this.metricEvaluationTimeouts =
+                metricEvaluationTimeouts != null ? Map.copyOf(metricEvaluationTimeouts) : Map.of();
+        this.modelCallTimeouts.forEach((modelId, timeout) -> validate("modelCallTimeouts." + modelId, timeout));
+        this.metricEvaluationTimeouts.forEach(
+                (metricName, timeout) -> validate("metricEvaluationTimeouts." + metricName, timeout));
+    }
+
+    /**
+     * Creates timeouts without any limit.
+     *
+     * @return timeouts that never expire
+     */
+    public static ExecutionTimeouts none() {
+        return builder().build();
+    }
+
+    /**
+     * Gets the call timeout of a model.
+     *
+     * @param modelId the model ID
+     * @return the model's timeout, the default timeout, or null if calls are not limited
+     */
+    @Nullable
+    public Duration callTimeoutFor(final String modelId) {
+        return modelCallTimeouts.getOrDefault(modelId, callTimeout);
+    }
+
+    /**
+     * Gets the evaluation budget of a metric.
+     *
+     * @param metricName the metric name
+     * @return the metric's budget, the default budget, or null if evaluations are not limited
+     */
+    @Nullable
+    public Duration evaluationTimeoutFor(final String metricName) {
+        return metricEvaluationTimeouts.getOrDefault(metricName, evaluationTimeout);
+    }
+
+    @Nullable
+    private static Duration validate(final String name, @Nullable final Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException(name + " must be positive, got: " + timeout);
+        }
+        return timeout;
+    }
+}
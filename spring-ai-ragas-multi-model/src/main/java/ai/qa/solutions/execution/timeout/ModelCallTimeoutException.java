@@ -0,0 +1,81 @@
+package ai.qa.solutions.execution.timeout;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a model call does not complete within its timeout.
+ * <p>
+ * This exception is recorded as the error of the failed {@code ModelResult}, and therefore as
+ * the cause of the resulting {@code ModelExclusionEvent}, in two scenarios:
+ * <ul>
+ *   <li>The call exceeded the per-call timeout of the model; the outstanding request is cancelled</li>
+ *   <li>The deadline of the metric evaluation expired before or during the call</li>
+ * </ul>
+ * Only the first one says something about the model; {@link #isDeadlineExpired()} tells them apart.
+ *
+ * @see ExecutionTimeouts
+ * @see Deadline
+ */
+public class ModelCallTimeoutException extends RuntimeException {
+
+    private final String modelId;
+    private final Duration timeout;
+    private final boolean deadlineExpired;
+
+    /**
+     * Creates a new model call timeout exception for a call exceeding its per-call timeout.
+     *
+     * @param modelId the model ID whose call timed out
+     * @param timeout the timeout that was exceeded
+     * @param message the detail message
+     */
+    public ModelCallTimeoutException(final String modelId, final Duration timeout, final String message) {
+        this(modelId, timeout, message, false);
+    }
+
+    /**
+     * Creates a new model call timeout exception.
+     *
+     * @param modelId         the model ID whose call timed out
+     * @param timeout         the timeout that was exceeded
+     * @param message         the detail message
+     * @param deadlineExpired whether the evaluation deadline expired rather than the per-call timeout
+     */
+    public ModelCallTimeoutException(
+            final String modelId, final Duration timeout, final String message, final boolean deadlineExpired) {
+        super(message);
+        this.modelId = modelId;
+        this.timeout = timeout;
+        this.deadlineExpired = deadlineExpired;
+    }
+
+    /**
+     * Gets the model ID whose call timed out.
+     *
+     * @return the model ID
+     */
+    public String getModelId() {
+        return modelId;
+    }
+
+    /**
+     * Gets the timeout that was exceeded.
+     *
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Checks whether the evaluation deadline expired, as opposed to the per-call timeout of the model.
+     * <p>
+     * An expired deadline is a property of the evaluation, not of the provider, so it is neither
+     * a provider failure nor a sign of overload.
+     *
+     * @return true if the deadline of the metric evaluation expired
+     */
+    public boolean isDeadlineExpired() {
+        return deadlineExpired;
+    }
+}
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
+import ai.qa.solutions.execution.balancing.EndpointStats;
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.web.client.ResourceAccessException;
 
 @DisplayName("ChatClientStore Unit Tests")
 class ChatClientStoreTest {
@@ -142,4 +146,50 @@ class ChatClientStoreTest {
         }
         assertThat(store.size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("Should return the first client of a multi-client model by default")
+    void shouldReturnFirstClientOfMultiClientModelByDefault() {
+        final ChatClientStore multiStore =
+                new ChatClientStore(Map.of("replicated", List.of(client1, client2)), defaultClient, true);
+
+        assertThat(multiStore.get("replicated")).isEqualTo(client1);
+        assertThat(multiStore.get("replicated")).isEqualTo(client1);
+    }
+
+    @Test
+    @DisplayName("Should spread calls across clients of one model with round-robin")
+    void shouldSpreadCallsWithRoundRobin() {
+        final ChatClientStore multiStore = new ChatClientStore(
+                Map.of("replicated", List.of(client1, client2)),
+                defaultClient,
+                LoadBalancingStrategy.ROUND_ROBIN::createSelector,
+                true);
+
+        final List<ChatClient> used = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            used.add(multiStore.call("replicated", client -> client));
+        }
+
+        assertThat(used).containsExactly(client1, client2, client1, client2);
+        assertThat(multiStore.getStats("replicated"))
+                .extracting(EndpointStats::getSuccesses)
+                .containsExactly(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should fail over to the next client on connection errors")
+    void shouldFailOverToNextClient() {
+        final ChatClientStore multiStore =
+                new ChatClientStore(Map.of("replicated", List.of(client1, client2)), defaultClient, true);
+
+        final ChatClient used = multiStore.call("replicated", client -> {
+            if (client == client1) {
+                throw new ResourceAccessException("Connection refused");
+            }
+            return client;
+        });
+
+        assertThat(used).isEqualTo(client2);
+    }
 }
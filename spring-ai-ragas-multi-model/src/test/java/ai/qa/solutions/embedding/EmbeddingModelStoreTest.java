@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.web.client.ResourceAccessException;
 
 @DisplayName("EmbeddingModelStore Unit Tests")
 class EmbeddingModelStoreTest {
@@ -143,4 +145,25 @@ class EmbeddingModelStoreTest {
         }
         assertThat(store.size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("Should balance and fail over across models of one ID")
+    void shouldBalanceAndFailOverAcrossModels() {
+        final EmbeddingModelStore multiStore = new EmbeddingModelStore(
+                Map.of("replicated", List.of(model1, model2)),
+                defaultModel,
+                LoadBalancingStrategy.ROUND_ROBIN::createSelector,
+                true);
+
+        assertThat(multiStore.call("replicated", model -> model)).isEqualTo(model1);
+        assertThat(multiStore.call("replicated", model -> model)).isEqualTo(model2);
+
+        final EmbeddingModel used = multiStore.call("replicated", model -> {
+            if (model == model1) {
+                throw new ResourceAccessException("Connection refused");
+            }
+            return model;
+        });
+        assertThat(used).isEqualTo(model2);
+    }
 }
@@ -0,0 +1,216 @@
+package ai.qa.solutions.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CallGraph Tests")
+class CallGraphTest {
+
+    private final CallGraph graph = new CallGraph();
+
+    @Nested
+    @DisplayName("LLM Nodes")
+    class LlmNodes {
+
+        @Test
+        @DisplayName("Should send identical calls once and share the running call")
+        void shouldMergeIdenticalCalls() {
+            // Given
+            final AtomicInteger calls = new AtomicInteger();
+            final CompletableFuture<ModelResult<String>> running = new CompletableFuture<>();
+
+            // When
+            final CompletableFuture<ModelResult<String>> first =
+                    graph.llmNode("model-1", "prompt", String.class, () -> {
+                        calls.incrementAndGet();
+                        return running;
+                    });
+            final CompletableFuture<ModelResult<String>> second =
+                    graph.llmNode("model-1", "prompt", String.class, () -> {
+                        calls.incrementAndGet();
+                        return running;
+                    });
+            running.complete(ModelResult.success("model-1", "answer", Duration.ofMillis(10), "prompt"));
+
+            // Then
+            assertThat(calls).hasValue(1);
+            assertThat(first.join().result()).isEqualTo("answer");
+            assertThat(second.join().result()).isEqualTo("answer");
+            assertThat(second.join().cached()).isFalse();
+            assertThat(graph.getCounts()).isEqualTo(new CallGraph.Counts(2, 1, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should mark results of completed nodes as cached")
+        void shouldMarkCompletedNodesAsCached() {
+            // Given
+            graph.llmNode("model-1", "prompt", String.class, () -> completed("answer")).join();
+
+            // When
+            final ModelResult<String> reused = graph.llmNode(
+                            "model-1", "prompt", String.class, () -> completed("other"))
+                    .join();
+
+            // Then
+            assertThat(reused.result()).isEqualTo("answer");
+            assertThat(reused.cached()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep calls with different models, prompts or response types apart")
+        void shouldKeepDifferentCallsApart() {
+            // When
+            graph.llmNode("model-1", "prompt", String.class, () -> completed("a"));
+            graph.llmNode("model-2", "prompt", String.class, () -> completed("b"));
+            graph.llmNode("model-1", "other prompt", String.class, () -> completed("c"));
+            graph.llmNode("model-1", "prompt", Integer.class, () -> CompletableFuture.completedFuture(
+                    ModelResult.success("model-1", 1, Duration.ZERO, "prompt")));
+
+            // Then
+            assertThat(graph.getCounts().executedLlmCalls()).isEqualTo(4);
+            assertThat(graph.getCounts().saved()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep samples of the same call apart")
+        void shouldKeepSamplesApart() {
+            // When
+            graph.llmNode("model-1", "prompt", String.class, () -> completed("a"));
+            graph.llmNode("model-1", "prompt", String.class, 1, () -> completed("b"));
+            graph.llmNode("model-1", "prompt", String.class, 2, () -> completed("c"));
+            final ModelResult<String> repeated = graph.llmNode(
+                            "model-1", "prompt", String.class, 1, () -> completed("d"))
+                    .join();
+
+            // Then
+            assertThat(repeated.result()).isEqualTo("b");
+            assertThat(graph.getCounts()).isEqualTo(new CallGraph.Counts(4, 3, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should not let one request complete the node for the others")
+        void shouldIsolateRequestsOfOneNode() {
+            // Given
+            final CompletableFuture<ModelResult<String>> running = new CompletableFuture<>();
+            final CompletableFuture<ModelResult<String>> first =
+                    graph.llmNode("model-1", "prompt", String.class, () -> running);
+            final CompletableFuture<ModelResult<String>> second =
+                    graph.llmNode("model-1", "prompt", String.class, () -> running);
+
+            // When - the first request gives up, e.g. on its metric's deadline
+            first.complete(ModelResult.failure(
+                    "model-1", Duration.ZERO, "prompt", new IllegalStateException("Deadline exceeded")));
+            running.complete(ModelResult.success("model-1", "answer", Duration.ofMillis(10), "prompt"));
+
+            // Then
+            assertThat(first.join().isFailure()).isTrue();
+            assertThat(second.join().result()).isEqualTo("answer");
+            assertThat(graph.llmNode("model-1", "prompt", String.class, () -> completed("other"))
+                            .join()
+                            .result())
+                    .isEqualTo("answer");
+        }
+
+        @Test
+        @DisplayName("Should turn a throwing call into a failed node")
+        void shouldFailNodeWhenCallThrows() {
+            // When
+            final CompletableFuture<ModelResult<String>> node =
+                    graph.llmNode("model-1", "prompt", String.class, () -> {
+                        throw new IllegalStateException("Not configured");
+                    });
+
+            // Then
+            assertThat(node).isCompletedExceptionally();
+        }
+    }
+
+    @Nested
+    @DisplayName("Embedding Nodes")
+    class EmbeddingNodes {
+
+        @Test
+        @DisplayName("Should only send texts not embedded yet, in one batch")
+        void shouldSendMissingTextsInOneBatch() {
+            // Given
+            final List<List<String>> batches = new ArrayList<>();
+            graph.embeddingNode("embed-1", "a", () -> CompletableFuture.completedFuture(
+                            ModelResult.success("embed-1", vector("a"), Duration.ZERO, "a")))
+                    .join();
+
+            // When
+            final ModelResult<List<float[]>> result = graph.embeddingsNode(
+                            "embed-1", List.of("a", "b", "c"), texts -> {
+                                batches.add(texts);
+                                return CompletableFuture.completedFuture(ModelResult.success(
+                                        "embed-1",
+                                        texts.stream().map(CallGraphTest::vector).toList(),
+                                        Duration.ZERO,
+                                        String.join(", ", texts)));
+                            })
+                    .join();
+
+            // Then
+            assertThat(batches).containsExactly(List.of("b", "c"));
+            assertThat(result.result()).containsExactly(vector("a"), vector("b"), vector("c"));
+            assertThat(result.request()).isEqualTo("a, b, c");
+            assertThat(result.cached()).isFalse();
+            assertThat(graph.getCounts()).isEqualTo(new CallGraph.Counts(0, 0, 4, 3));
+        }
+
+        @Test
+        @DisplayName("Should not let one request complete an embedding node for the others")
+        void shouldIsolateRequestsOfOneEmbeddingNode() {
+            // Given
+            final CompletableFuture<ModelResult<float[]>> running = new CompletableFuture<>();
+            final CompletableFuture<ModelResult<float[]>> first = graph.embeddingNode("embed-1", "a", () -> running);
+
+            // When
+            first.cancel(false);
+            running.complete(ModelResult.success("embed-1", vector("a"), Duration.ZERO, "a"));
+
+            // Then
+            assertThat(graph.embeddingsNode("embed-1", List.of("a"), texts -> new CompletableFuture<>())
+                            .join()
+                            .result())
+                    .containsExactly(vector("a"));
+        }
+
+        @Test
+        @DisplayName("Should fail every text of a failed batch")
+        void shouldPropagateBatchFailure() {
+            // When
+            final ModelResult<List<float[]>> result = graph.embeddingsNode(
+                            "embed-1",
+                            List.of("a", "b"),
+                            texts -> CompletableFuture.completedFuture(ModelResult.failure(
+                                    "embed-1", Duration.ZERO, "a, b", new RuntimeException("Provider down"))))
+                    .join();
+            final ModelResult<float[]> single = graph.embeddingNode(
+                            "embed-1", "b", () -> CompletableFuture.completedFuture(
+                                    ModelResult.success("embed-1", vector("b"), Duration.ZERO, "b")))
+                    .join();
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(single.isFailure()).isTrue();
+            assertThat(graph.getCounts().executedEmbeddings()).isEqualTo(2);
+        }
+    }
+
+    private static CompletableFuture<ModelResult<String>> completed(final String answer) {
+        return CompletableFuture.completedFuture(ModelResult.success("model-1", answer, Duration.ZERO, "prompt"));
+    }
+
+    private static float[] vector(final String text) {
+        return new float[] {text.charAt(0)};
+    }
+}
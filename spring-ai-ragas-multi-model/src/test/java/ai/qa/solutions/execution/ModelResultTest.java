@@ -36,6 +36,21 @@ class ModelResultTest {
             assertThat(modelResult.error()).isNull();
         }
 
+        @Test
+        @DisplayName("fromCache() should create successful result marked as cached")
+        void fromCacheShouldCreateCachedResult() {
+            // When
+            final ModelResult<String> modelResult = ModelResult.fromCache(MODEL_ID, "cached", Duration.ZERO, REQUEST);
+
+            // Then
+            assertThat(modelResult.isSuccess()).isTrue();
+            assertThat(modelResult.cached()).isTrue();
+            assertThat(modelResult.result()).isEqualTo("cached");
+            assertThat(modelResult.map(String::length).cached()).isTrue();
+            assertThat(ModelResult.success(MODEL_ID, "fresh", DURATION, REQUEST).cached())
+                    .isFalse();
+        }
+
         @Test
         @DisplayName("failure() should create failed result with error")
         void failureShouldCreateFailedResult() {
@@ -2,18 +2,33 @@ package ai.qa.solutions.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
+import ai.qa.solutions.execution.batching.EmbeddingBatchPolicy;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyLimiter;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyPolicy;
 import ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry;
 import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,10 +36,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ResponseEntity;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.retry.TransientAiException;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 
 @DisplayName("MultiModelExecutor Rate Limiting Tests")
 @ExtendWith(MockitoExtension.class)
@@ -53,7 +77,7 @@ class MultiModelExecutorRateLimitTest {
             // Given - 4-arg constructor (no registry)
             final var executor = new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor);
             final ChatClient mockClient = createMockClientWithScore(0.8);
-            when(chatClientStore.get("model-1")).thenReturn(mockClient);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
 
             // When
             final ModelResult<TestResponse> result =
@@ -71,8 +95,8 @@ class MultiModelExecutorRateLimitTest {
             final var executor =
                     new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor, rateLimiterRegistry);
             final ChatClient mockClient = createMockClientWithScore(0.9);
-            when(chatClientStore.get("model-1")).thenReturn(mockClient);
-            doNothing().when(rateLimiterRegistry).acquire("model-1");
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
 
             // When
             final ModelResult<TestResponse> result =
@@ -80,7 +104,7 @@ class MultiModelExecutorRateLimitTest {
 
             // Then
             assertThat(result.isSuccess()).isTrue();
-            verify(rateLimiterRegistry).acquire("model-1");
+            verify(rateLimiterRegistry).acquireAsync("model-1", 4L);
         }
 
         @Test
@@ -89,9 +113,9 @@ class MultiModelExecutorRateLimitTest {
             // Given
             final var executor =
                     new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor, rateLimiterRegistry);
-            doThrow(new RateLimitExceededException("model-1", "provider-1", "Rate limit exceeded"))
-                    .when(rateLimiterRegistry)
-                    .acquire("model-1");
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong()))
+                    .thenReturn(CompletableFuture.failedFuture(
+                            new RateLimitExceededException("model-1", "provider-1", "Rate limit exceeded")));
 
             // When
             final ModelResult<TestResponse> result =
@@ -101,6 +125,194 @@ class MultiModelExecutorRateLimitTest {
             assertThat(result.isFailure()).isTrue();
             assertThat(result.error()).isInstanceOf(RateLimitExceededException.class);
             assertThat(result.error().getMessage()).contains("Rate limit exceeded");
+            assertThat(result.duration()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should submit HTTP task only after rate limit token is granted")
+        void shouldSubmitHttpTaskOnlyAfterTokenIsGranted() {
+            // Given - counting HTTP executor and a token that is not yet granted
+            final AtomicInteger submitted = new AtomicInteger();
+            final AsyncTaskExecutor httpExecutor = new SimpleAsyncTaskExecutor() {
+                @Override
+                public <T> CompletableFuture<T> submitCompletable(final Callable<T> task) {
+                    submitted.incrementAndGet();
+                    return super.submitCompletable(task);
+                }
+            };
+            final var executor =
+                    new MultiModelExecutor(chatClientStore, null, taskExecutor, httpExecutor, rateLimiterRegistry);
+            final ChatClient mockClient = createMockClientWithScore(0.6);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
+            final CompletableFuture<Void> token = new CompletableFuture<>();
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong())).thenReturn(token);
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> future =
+                    executor.executeLlmOnModelAsync("model-1", "test prompt", TestResponse.class);
+
+            // Then - nothing runs on the HTTP executor while waiting for the token
+            assertThat(future).isNotDone();
+            assertThat(submitted).hasValue(0);
+
+            token.complete(null);
+
+            assertThat(future.join().isSuccess()).isTrue();
+            assertThat(submitted).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Should take a concurrency slot only once the rate limit token is granted")
+        void shouldTakeConcurrencySlotAfterToken() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                    .policy(AdaptiveConcurrencyPolicy.builder().initialLimit(1).build())
+                    .build();
+            final MultiModelExecutor executor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .rateLimiterRegistry(rateLimiterRegistry)
+                    .concurrencyLimiter(limiter)
+                    .build();
+            final ChatClient mockClient = createMockClientWithScore(0.6);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
+            final CompletableFuture<Void> token = new CompletableFuture<>();
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong())).thenReturn(token);
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> future =
+                    executor.executeLlmOnModelAsync("model-1", "test prompt", TestResponse.class);
+
+            // Then - the call waiting for its token holds no slot
+            assertThat(future).isNotDone();
+            assertThat(limiter.getInFlight("model-1")).isZero();
+
+            token.complete(null);
+
+            assertThat(future.join().isSuccess()).isTrue();
+            assertThat(limiter.getInFlight("model-1")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reconcile estimated tokens with reported usage for token-limited models")
+        void shouldReconcileEstimatedTokensWithReportedUsage() {
+            // Given - provider with a token budget, model reports 100 + 20 tokens
+            final var executor =
+                    new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor, rateLimiterRegistry);
+            final ChatClient mockClient = createMockClientWithUsage(0.5, 100, 20);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+            when(rateLimiterRegistry.isTokenLimited("model-1")).thenReturn(true);
+
+            // When
+            final ModelResult<TestResponse> result =
+                    executor.executeLlmOnModel("model-1", "test prompt", TestResponse.class);
+
+            // Then - "test prompt" is estimated at 4 tokens
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result().score()).isEqualTo(0.5);
+            verify(rateLimiterRegistry).acquireAsync("model-1", 4L);
+            verify(rateLimiterRegistry).reconcile("model-1", 4L, 120L);
+        }
+
+        @Test
+        @DisplayName("Should acquire a rate limit token for each failover attempt")
+        void shouldAcquireTokenPerFailoverAttempt() {
+            // Given - the first client of the model fails with a server error, the second answers
+            final ChatClient healthyClient = createMockClientWithScore(0.8);
+            final var executor = new MultiModelExecutor(
+                    pooledStore(createFailingMockClient(), healthyClient),
+                    null,
+                    taskExecutor,
+                    taskExecutor,
+                    rateLimiterRegistry);
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            // When
+            final ModelResult<TestResponse> result =
+                    executor.executeLlmOnModel("model-1", "test prompt", TestResponse.class);
+
+            // Then - one token for the first attempt and one for the failover
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result().score()).isEqualTo(0.8);
+            verify(rateLimiterRegistry, times(2)).acquireAsync("model-1", 4L);
+        }
+
+        @Test
+        @DisplayName("Should not fail over when the failover attempt is refused a token")
+        void shouldNotFailOverWithoutToken() {
+            // Given - the first token is granted, the second one is refused
+            final ChatClient healthyClient = createMockClientWithScore(0.8);
+            final var executor = new MultiModelExecutor(
+                    pooledStore(createFailingMockClient(), healthyClient),
+                    null,
+                    taskExecutor,
+                    taskExecutor,
+                    rateLimiterRegistry);
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong()))
+                    .thenReturn(
+                            CompletableFuture.completedFuture(null),
+                            CompletableFuture.failedFuture(
+                                    new RateLimitExceededException("model-1", "provider-1", "Rate limit exceeded")));
+
+            // When
+            final ModelResult<TestResponse> result =
+                    executor.executeLlmOnModel("model-1", "test prompt", TestResponse.class);
+
+            // Then - the server error of the first attempt is kept as suppressed
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).isInstanceOf(RateLimitExceededException.class);
+            assertThat(result.error().getSuppressed()).hasOnlyElementsOfType(TransientAiException.class);
+            verify(healthyClient, never()).prompt(any(String.class));
+        }
+
+        @Test
+        @DisplayName("Should free the HTTP thread while a failover attempt waits for its token")
+        void shouldNotBlockHttpThreadDuringFailover() throws Exception {
+            // Given - a single HTTP thread, and no token yet for the failover attempt of model-1
+            final ExecutorService httpThread = Executors.newSingleThreadExecutor();
+            final ChatClient healthyClient = createMockClientWithScore(0.8);
+            final ChatClientStore store = new ChatClientStore(
+                    Map.of(
+                            "model-1",
+                            List.of(createFailingMockClient(), healthyClient),
+                            "model-2",
+                            List.of(createMockClientWithScore(0.6))),
+                    healthyClient,
+                    LoadBalancingStrategy.FIRST::createSelector,
+                    true);
+            final var executor = new MultiModelExecutor(
+                    store, null, taskExecutor, new TaskExecutorAdapter(httpThread), rateLimiterRegistry);
+            final CompletableFuture<Void> failoverToken = new CompletableFuture<>();
+            when(rateLimiterRegistry.acquireAsync(eq("model-1"), anyLong()))
+                    .thenReturn(CompletableFuture.completedFuture(null), failoverToken);
+            when(rateLimiterRegistry.acquireAsync(eq("model-2"), anyLong()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            try {
+                // When
+                final CompletableFuture<ModelResult<TestResponse>> failingOver =
+                        executor.executeLlmOnModelAsync("model-1", "test prompt", TestResponse.class);
+                final ModelResult<TestResponse> other = executor.executeLlmOnModelAsync(
+                                "model-2", "test prompt", TestResponse.class)
+                        .get(5, TimeUnit.SECONDS);
+
+                // Then - model-2 was served by the only HTTP thread while model-1 waited for its token
+                assertThat(other.isSuccess()).isTrue();
+                assertThat(failingOver).isNotDone();
+                verify(healthyClient, never()).prompt(any(String.class));
+
+                failoverToken.complete(null);
+
+                final ModelResult<TestResponse> result = failingOver.get(5, TimeUnit.SECONDS);
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.result().score()).isEqualTo(0.8);
+            } finally {
+                httpThread.shutdownNow();
+            }
         }
 
         @Test
@@ -109,7 +321,7 @@ class MultiModelExecutorRateLimitTest {
             // Given - 4-arg constructor (null registry)
             final var executor = new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor);
             final ChatClient mockClient = createMockClientWithScore(0.7);
-            when(chatClientStore.get("model-1")).thenReturn(mockClient);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(mockClient));
 
             // When
             final ModelResult<TestResponse> result =
@@ -135,16 +347,70 @@ class MultiModelExecutorRateLimitTest {
             final var executor = new MultiModelExecutor(
                     chatClientStore, embeddingModelStore, taskExecutor, taskExecutor, rateLimiterRegistry);
             final EmbeddingModel mockModel = mock(EmbeddingModel.class);
-            when(embeddingModelStore.get("embed-1")).thenReturn(mockModel);
+            when(embeddingModelStore.call(eq("embed-1"), any())).thenAnswer(callWith(mockModel));
             when(mockModel.embed("test text")).thenReturn(new float[] {0.1f, 0.2f});
-            doNothing().when(rateLimiterRegistry).acquire("embed-1");
+            when(rateLimiterRegistry.acquireAsync(eq("embed-1"), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
 
             // When
             final ModelResult<float[]> result = executor.executeEmbeddingOnModel("embed-1", "test text");
 
             // Then
             assertThat(result.isSuccess()).isTrue();
-            verify(rateLimiterRegistry).acquire("embed-1");
+            verify(rateLimiterRegistry).acquireAsync("embed-1", 3L);
+        }
+
+        @Test
+        @DisplayName("Should acquire one rate limit token per embedding sub-batch")
+        void shouldAcquireOneTokenPerSubBatch() {
+            // Given
+            final var executor = new MultiModelExecutor(
+                    chatClientStore,
+                    embeddingModelStore,
+                    taskExecutor,
+                    taskExecutor,
+                    rateLimiterRegistry,
+                    null,
+                    EmbeddingBatchPolicy.builder().maxBatchSize(2).build());
+            final EmbeddingModel mockModel = mock(EmbeddingModel.class);
+            when(embeddingModelStore.call(eq("embed-1"), any())).thenAnswer(callWith(mockModel));
+            when(mockModel.embed(List.of("aaa", "bbb"))).thenReturn(List.of(new float[] {0.1f}, new float[] {0.2f}));
+            when(mockModel.embed(List.of("cccccc"))).thenReturn(List.<float[]>of(new float[] {0.3f}));
+            when(rateLimiterRegistry.acquireAsync(eq("embed-1"), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+
+            // When
+            final ModelResult<List<float[]>> result =
+                    executor.executeEmbeddingsOnModel("embed-1", List.of("aaa", "bbb", "cccccc"));
+
+            // Then - each sub-batch of 2 estimated tokens is charged separately
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result()).hasSize(3);
+            verify(rateLimiterRegistry, times(2)).acquireAsync("embed-1", 2L);
+        }
+
+        @Test
+        @DisplayName("Should acquire a rate limit token for each embedding failover attempt")
+        void shouldAcquireTokenPerEmbeddingFailoverAttempt() {
+            // Given - the first model fails with a server error, the second answers
+            final EmbeddingModel failingModel = mock(EmbeddingModel.class);
+            final EmbeddingModel healthyModel = mock(EmbeddingModel.class);
+            when(failingModel.embed("test text")).thenThrow(new TransientAiException("503 Service Unavailable"));
+            when(healthyModel.embed("test text")).thenReturn(new float[] {0.1f, 0.2f});
+            final EmbeddingModelStore pooledStore = new EmbeddingModelStore(
+                    Map.of("embed-1", List.of(failingModel, healthyModel)),
+                    healthyModel,
+                    LoadBalancingStrategy.FIRST::createSelector,
+                    true);
+            final var executor = new MultiModelExecutor(
+                    chatClientStore, pooledStore, taskExecutor, taskExecutor, rateLimiterRegistry);
+            when(rateLimiterRegistry.acquireAsync(eq("embed-1"), anyLong()))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            // When
+            final ModelResult<float[]> result = executor.executeEmbeddingOnModel("embed-1", "test text");
+
+            // Then - one token for the first attempt and one for the failover
+            assertThat(result.isSuccess()).isTrue();
+            verify(rateLimiterRegistry, times(2)).acquireAsync("embed-1", 3L);
         }
     }
 
@@ -162,5 +428,45 @@ class MultiModelExecutorRateLimitTest {
         return client;
     }
 
+    private ChatClient createFailingMockClient() {
+        final ChatClient client = mock(ChatClient.class);
+        final ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+
+        when(client.prompt(any(String.class))).thenReturn(requestSpec);
+        when(requestSpec.call()).thenThrow(new TransientAiException("503 Service Unavailable"));
+
+        return client;
+    }
+
+    private static ChatClientStore pooledStore(final ChatClient first, final ChatClient second) {
+        return new ChatClientStore(
+                Map.of("model-1", List.of(first, second)), second, LoadBalancingStrategy.FIRST::createSelector, true);
+    }
+
+    private ChatClient createMockClientWithUsage(
+            final double score, final int promptTokens, final int completionTokens) {
+        final ChatClient client = mock(ChatClient.class);
+        final ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+        final ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+        final ChatResponse chatResponse = ChatResponse.builder()
+                .generations(List.of(new Generation(new AssistantMessage("{}"))))
+                .metadata(ChatResponseMetadata.builder()
+                        .usage(new DefaultUsage(promptTokens, completionTokens))
+                        .build())
+                .build();
+
+        lenient().when(client.prompt(any(String.class))).thenReturn(requestSpec);
+        lenient().when(requestSpec.call()).thenReturn(callSpec);
+        lenient()
+                .when(callSpec.responseEntity(TestResponse.class))
+                .thenReturn(new ResponseEntity<>(chatResponse, new TestResponse(score)));
+
+        return client;
+    }
+
     record TestResponse(double score) {}
+
+    private static <T> Answer<Object> callWith(final T endpoint) {
+        return invocation -> invocation.<Function<T, Object>>getArgument(1).apply(endpoint);
+    }
 }
@@ -1,26 +1,61 @@
 package ai.qa.solutions.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
+import ai.qa.solutions.execution.batching.EmbeddingBatchPolicy;
+import ai.qa.solutions.execution.batching.EmbeddingMicroBatcher;
+import ai.qa.solutions.execution.cache.EmbeddingCache;
+import ai.qa.solutions.execution.cache.LlmResponseCache;
+import ai.qa.solutions.execution.cache.ReferenceArtifact;
+import ai.qa.solutions.execution.cache.ReferenceArtifactStore;
+import ai.qa.solutions.execution.circuit.CircuitBreakerPolicy;
+import ai.qa.solutions.execution.circuit.CircuitOpenException;
+import ai.qa.solutions.execution.circuit.CircuitState;
+import ai.qa.solutions.execution.circuit.ProviderCircuitBreakerRegistry;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyLimiter;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyPolicy;
+import ai.qa.solutions.execution.retry.RetryPolicy;
+import ai.qa.solutions.execution.timeout.Deadline;
+import ai.qa.solutions.execution.timeout.ExecutionTimeouts;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import com.fasterxml.jackson.core.JsonParseException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
@@ -77,8 +112,8 @@ class MultiModelExecutorTest {
             ChatClient failingClient = createFailingMockClient();
 
             when(chatClientStore.getModelIds()).thenReturn(List.of("success", "fail"));
-            when(chatClientStore.get("success")).thenReturn(successClient);
-            when(chatClientStore.get("fail")).thenReturn(failingClient);
+            when(chatClientStore.call(eq("success"), any())).thenAnswer(callWith(successClient));
+            when(chatClientStore.call(eq("fail"), any())).thenAnswer(callWith(failingClient));
 
             // When
             List<ModelResult<TestResponse>> results = executor.executeLlm("test", TestResponse.class);
@@ -228,7 +263,7 @@ class MultiModelExecutorTest {
         void shouldReturnFailureResultWhenModelFails() {
             // Given
             ChatClient failingClient = createFailingMockClient();
-            when(chatClientStore.get("failing-model")).thenReturn(failingClient);
+            when(chatClientStore.call(eq("failing-model"), any())).thenAnswer(callWith(failingClient));
 
             // When
             ModelResult<TestResponse> result =
@@ -274,15 +309,49 @@ class MultiModelExecutorTest {
             assertThat(result.isSuccess()).isTrue();
             assertThat(result.result().score()).isEqualTo(0.8);
         }
+
+        @Test
+        @DisplayName("Should compose async flow and return its final result")
+        void shouldComposeAsyncFlow() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.8));
+
+            // When
+            Double score = executor.composeAsync(() -> executor.executeLlmOnModelAsync(
+                                    "model-1", "test", TestResponse.class)
+                            .thenApply(result -> result.result().score()))
+                    .join();
+
+            // Then
+            assertThat(score).isEqualTo(0.8);
+        }
+
+        @Test
+        @DisplayName("Should complete exceptionally when composed flow throws")
+        void shouldCompleteExceptionallyWhenFlowThrows() {
+            // When
+            CompletableFuture<Double> future = executor.composeAsync(() -> {
+                throw new IllegalStateException("flow failure");
+            });
+
+            // Then
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
     }
 
     // ========== Helper Methods ==========
 
+    private static <T> Answer<Object> callWith(final T endpoint) {
+        return invocation -> invocation.<Function<T, Object>>getArgument(1).apply(endpoint);
+    }
+
     private void setupMockModels(Map<String, Double> modelScores) {
         lenient().when(chatClientStore.getModelIds()).thenReturn(new ArrayList<>(modelScores.keySet()));
         modelScores.forEach((modelId, score) -> {
             ChatClient client = createMockClientWithScore(score);
-            lenient().when(chatClientStore.get(modelId)).thenReturn(client);
+            lenient().when(chatClientStore.call(eq(modelId), any())).thenAnswer(callWith(client));
         });
     }
 
@@ -332,8 +401,8 @@ class MultiModelExecutorTest {
             final EmbeddingModel model2 = mock(EmbeddingModel.class);
 
             when(embeddingModelStore.getModelIds()).thenReturn(List.of("embed-1", "embed-2"));
-            when(embeddingModelStore.get("embed-1")).thenReturn(model1);
-            when(embeddingModelStore.get("embed-2")).thenReturn(model2);
+            when(embeddingModelStore.call(eq("embed-1"), any())).thenAnswer(callWith(model1));
+            when(embeddingModelStore.call(eq("embed-2"), any())).thenAnswer(callWith(model2));
             when(model1.embed(anyString())).thenReturn(new float[] {0.1f, 0.2f, 0.3f});
             when(model2.embed(anyString())).thenReturn(new float[] {0.4f, 0.5f, 0.6f});
 
@@ -352,7 +421,7 @@ class MultiModelExecutorTest {
             final EmbeddingModel model = mock(EmbeddingModel.class);
             final float[] expectedEmbedding = {0.1f, 0.2f, 0.3f};
 
-            when(embeddingModelStore.get("embed-model")).thenReturn(model);
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
             when(model.embed("test text")).thenReturn(expectedEmbedding);
 
             // When
@@ -371,7 +440,7 @@ class MultiModelExecutorTest {
             // Given
             final EmbeddingModel failingModel = mock(EmbeddingModel.class);
 
-            when(embeddingModelStore.get("failing-embed")).thenReturn(failingModel);
+            when(embeddingModelStore.call(eq("failing-embed"), any())).thenAnswer(callWith(failingModel));
             when(failingModel.embed(anyString())).thenThrow(new RuntimeException("Embedding failed"));
 
             // When
@@ -390,18 +459,162 @@ class MultiModelExecutorTest {
             final EmbeddingModel model = mock(EmbeddingModel.class);
             final List<String> texts = List.of("text1", "text2", "text3");
 
-            when(embeddingModelStore.get("embed-model")).thenReturn(model);
-            when(model.embed("text1")).thenReturn(new float[] {0.1f});
-            when(model.embed("text2")).thenReturn(new float[] {0.2f});
-            when(model.embed("text3")).thenReturn(new float[] {0.3f});
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(texts))
+                    .thenReturn(List.of(new float[] {0.1f}, new float[] {0.2f}, new float[] {0.3f}));
 
             // When
             final ModelResult<List<float[]>> result =
                     executorWithEmbeddings.executeEmbeddingsOnModel("embed-model", texts);
 
-            // Then
+            // Then - one batched request instead of one request per text
             assertThat(result.isSuccess()).isTrue();
             assertThat(result.result()).hasSize(3);
+            verify(model, never()).embed(anyString());
+        }
+
+        @Test
+        @DisplayName("Should split batch embeddings and keep input order")
+        void shouldSplitBatchEmbeddingsAndKeepInputOrder() {
+            // Given
+            final EmbeddingModel model = mock(EmbeddingModel.class);
+            final MultiModelExecutor batchingExecutor = new MultiModelExecutor(
+                    chatClientStore,
+                    embeddingModelStore,
+                    taskExecutor,
+                    taskExecutor,
+                    null,
+                    null,
+                    EmbeddingBatchPolicy.builder().maxBatchSize(2).build());
+
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(List.of("text1", "text2"))).thenReturn(List.of(new float[] {0.1f}, new float[] {0.2f}));
+            when(model.embed(List.of("text3"))).thenReturn(List.<float[]>of(new float[] {0.3f}));
+
+            // When
+            final ModelResult<List<float[]>> result =
+                    batchingExecutor.executeEmbeddingsOnModel("embed-model", List.of("text1", "text2", "text3"));
+
+            // Then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result())
+                    .extracting(embedding -> embedding[0])
+                    .containsExactly(0.1f, 0.2f, 0.3f);
+            verify(embeddingModelStore, times(2)).call(eq("embed-model"), any());
+        }
+
+        @Test
+        @DisplayName("Should fail batch embeddings when any sub-batch fails")
+        void shouldFailBatchEmbeddingsWhenAnySubBatchFails() {
+            // Given
+            final EmbeddingModel model = mock(EmbeddingModel.class);
+            final MultiModelExecutor batchingExecutor = new MultiModelExecutor(
+                    chatClientStore,
+                    embeddingModelStore,
+                    taskExecutor,
+                    taskExecutor,
+                    null,
+                    null,
+                    EmbeddingBatchPolicy.builder().maxBatchSize(1).build());
+
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(List.of("text1"))).thenReturn(List.<float[]>of(new float[] {0.1f}));
+            when(model.embed(List.of("text2"))).thenThrow(new RuntimeException("Batch failed"));
+
+            // When
+            final ModelResult<List<float[]>> result =
+                    batchingExecutor.executeEmbeddingsOnModel("embed-model", List.of("text1", "text2"));
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).hasMessageContaining("Batch failed");
+            assertThat(result.request()).isEqualTo("text1, text2");
+        }
+
+        @Test
+        @DisplayName("Should coalesce concurrent embedding requests with micro-batcher")
+        void shouldCoalesceConcurrentEmbeddingRequests() {
+            // Given
+            final EmbeddingModel model = mock(EmbeddingModel.class);
+            final EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMinutes(10))
+                    .maxBatchSize(3)
+                    .build();
+            final MultiModelExecutor batchingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .embeddingModelStore(embeddingModelStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .embeddingMicroBatcher(batcher)
+                    .build();
+
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(List.of("query", "text1", "text2")))
+                    .thenReturn(List.of(new float[] {0.1f}, new float[] {0.2f}, new float[] {0.3f}));
+
+            // When
+            final CompletableFuture<ModelResult<float[]>> single =
+                    batchingExecutor.executeEmbeddingOnModelAsync("embed-model", "query");
+            final CompletableFuture<ModelResult<List<float[]>>> multiple =
+                    batchingExecutor.executeEmbeddingsOnModelAsync("embed-model", List.of("text1", "text2"));
+
+            // Then - one provider call serves both requests
+            assertThat(single.join().result()).containsExactly(0.1f);
+            assertThat(multiple.join().result()).extracting(embedding -> embedding[0]).containsExactly(0.2f, 0.3f);
+            verify(embeddingModelStore, times(1)).call(eq("embed-model"), any());
+            assertThat(batcher.getStats("embed-model").averageBatchSize()).isEqualTo(3.0);
+            batcher.close();
+        }
+
+        @Test
+        @DisplayName("Should embed only texts missing from embedding cache")
+        void shouldEmbedOnlyTextsMissingFromEmbeddingCache() {
+            // Given
+            final EmbeddingModel model = mock(EmbeddingModel.class);
+            final EmbeddingCache cache = EmbeddingCache.builder().build();
+            cache.put("embed-model", "reference", new float[] {0.1f});
+            final MultiModelExecutor cachingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .embeddingModelStore(embeddingModelStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .embeddingCache(cache)
+                    .build();
+
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(List.of("response"))).thenReturn(List.<float[]>of(new float[] {0.2f}));
+
+            // When
+            final ModelResult<List<float[]>> first =
+                    cachingExecutor.executeEmbeddingsOnModel("embed-model", List.of("reference", "response"));
+            final ModelResult<List<float[]>> second =
+                    cachingExecutor.executeEmbeddingsOnModel("embed-model", List.of("reference", "response"));
+            final ModelResult<float[]> single = cachingExecutor.executeEmbeddingOnModel("embed-model", "response");
+
+            // Then - only "response" was sent, once
+            assertThat(first.cached()).isFalse();
+            assertThat(first.result()).extracting(embedding -> embedding[0]).containsExactly(0.1f, 0.2f);
+            assertThat(second.cached()).isTrue();
+            assertThat(second.result()).extracting(embedding -> embedding[0]).containsExactly(0.1f, 0.2f);
+            assertThat(single.cached()).isTrue();
+            verify(embeddingModelStore, times(1)).call(eq("embed-model"), any());
+        }
+
+        @Test
+        @DisplayName("Should fail when provider returns fewer embeddings than texts")
+        void shouldFailWhenProviderReturnsFewerEmbeddings() {
+            // Given
+            final EmbeddingModel model = mock(EmbeddingModel.class);
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
+            when(model.embed(List.of("text1", "text2"))).thenReturn(List.<float[]>of(new float[] {0.1f}));
+
+            // When
+            final ModelResult<List<float[]>> result =
+                    executorWithEmbeddings.executeEmbeddingsOnModel("embed-model", List.of("text1", "text2"));
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).isInstanceOf(IllegalStateException.class);
         }
 
         @Test
@@ -440,9 +653,8 @@ class MultiModelExecutorTest {
             final List<String> texts = List.of("text1", "text2");
 
             when(embeddingModelStore.getModelIds()).thenReturn(List.of("embed-1"));
-            when(embeddingModelStore.get("embed-1")).thenReturn(model1);
-            when(model1.embed("text1")).thenReturn(new float[] {0.1f});
-            when(model1.embed("text2")).thenReturn(new float[] {0.2f});
+            when(embeddingModelStore.call(eq("embed-1"), any())).thenAnswer(callWith(model1));
+            when(model1.embed(texts)).thenReturn(List.of(new float[] {0.1f}, new float[] {0.2f}));
 
             // When
             final List<ModelResult<List<float[]>>> results = executorWithEmbeddings.executeEmbeddings(texts);
@@ -459,7 +671,7 @@ class MultiModelExecutorTest {
             // Given
             final EmbeddingModel model = mock(EmbeddingModel.class);
 
-            when(embeddingModelStore.get("embed-model")).thenReturn(model);
+            when(embeddingModelStore.call(eq("embed-model"), any())).thenAnswer(callWith(model));
             when(model.embed("my query")).thenReturn(new float[] {0.1f});
 
             // When
@@ -544,6 +756,878 @@ class MultiModelExecutorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Response Cache")
+    class ResponseCache {
+
+        @Test
+        @DisplayName("Should serve repeated request from cache without calling the model")
+        void shouldServeRepeatedRequestFromCache() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+            final MultiModelExecutor cachingExecutor = new MultiModelExecutor(
+                    chatClientStore, null, taskExecutor, taskExecutor, null, LlmResponseCache.builder().build());
+
+            // When
+            final ModelResult<TestResponse> first =
+                    cachingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+            final ModelResult<TestResponse> second =
+                    cachingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(first.cached()).isFalse();
+            assertThat(second.cached()).isTrue();
+            assertThat(second.result()).isEqualTo(first.result());
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should cache each sample of a repeated call on its own")
+        void shouldCacheEachSampleOnItsOwn() {
+            // Given
+            final ChatClient client = mock(ChatClient.class);
+            final ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            final ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+            when(client.prompt(any(String.class))).thenReturn(requestSpec);
+            when(requestSpec.call()).thenReturn(callSpec);
+            when(callSpec.entity(TestResponse.class))
+                    .thenReturn(new TestResponse(0.1), new TestResponse(0.2), new TestResponse(0.3));
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(client));
+            final MultiModelExecutor cachingExecutor = new MultiModelExecutor(
+                    chatClientStore, null, taskExecutor, taskExecutor, null, LlmResponseCache.builder().build());
+            final List<ModelResult<TestResponse>> firstRun = new ArrayList<>();
+            for (int sample = 0; sample < 3; sample++) {
+                firstRun.add(cachingExecutor
+                        .executeLlmSampleOnModelAsync("model-1", "prompt", TestResponse.class, sample)
+                        .join());
+            }
+
+            // When
+            final List<ModelResult<TestResponse>> secondRun = new ArrayList<>();
+            for (int sample = 0; sample < 3; sample++) {
+                secondRun.add(cachingExecutor
+                        .executeLlmSampleOnModelAsync("model-1", "prompt", TestResponse.class, sample)
+                        .join());
+            }
+
+            // Then
+            assertThat(firstRun).noneMatch(ModelResult::cached);
+            assertThat(secondRun).allMatch(ModelResult::cached);
+            assertThat(secondRun)
+                    .extracting(result -> result.result().score())
+                    .containsExactly(0.1, 0.2, 0.3);
+            verify(chatClientStore, times(3)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should not cache failed responses")
+        void shouldNotCacheFailedResponses() {
+            // Given
+            final ChatClient failingClient = createFailingMockClient();
+            when(chatClientStore.call(eq("failing-model"), any())).thenAnswer(callWith(failingClient));
+            final MultiModelExecutor cachingExecutor = new MultiModelExecutor(
+                    chatClientStore, null, taskExecutor, taskExecutor, null, LlmResponseCache.builder().build());
+
+            // When
+            cachingExecutor.executeLlmOnModel("failing-model", "prompt", TestResponse.class);
+            final ModelResult<TestResponse> second =
+                    cachingExecutor.executeLlmOnModel("failing-model", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(second.isFailure()).isTrue();
+            assertThat(second.cached()).isFalse();
+            verify(chatClientStore, times(2)).call(eq("failing-model"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Reference Artifacts")
+    class ReferenceArtifacts {
+
+        private final ReferenceArtifact artifact =
+                new ReferenceArtifact("Metric", "DecomposeReference", "Decompose: {reference}", "reference");
+
+        @Test
+        @DisplayName("Should reuse a reference artifact for another prompt rendering of the same reference")
+        void shouldReuseStoredArtifact() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+            final MultiModelExecutor storingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .referenceArtifactStore(ReferenceArtifactStore.builder().build())
+                    .build();
+
+            // When
+            final ModelResult<TestResponse> first = storingExecutor
+                    .executeReferenceLlmOnModelAsync("model-1", artifact, "prompt", TestResponse.class, null)
+                    .join();
+            final List<ModelResult<TestResponse>> second = storingExecutor
+                    .executeReferenceLlmAsync(List.of("model-1"), artifact, "prompt", TestResponse.class)
+                    .join();
+
+            // Then
+            assertThat(first.cached()).isFalse();
+            assertThat(second).singleElement().satisfies(result -> {
+                assertThat(result.cached()).isTrue();
+                assertThat(result.result()).isEqualTo(first.result());
+            });
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should call the model every time without a store")
+        void shouldCallModelWithoutStore() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+            final MultiModelExecutor plainExecutor =
+                    new MultiModelExecutor(chatClientStore, null, taskExecutor, taskExecutor, null, null);
+
+            // When
+            plainExecutor
+                    .executeReferenceLlmOnModelAsync("model-1", artifact, "prompt A", TestResponse.class, null)
+                    .join();
+            plainExecutor
+                    .executeReferenceLlmOnModelAsync("model-1", artifact, "prompt B", TestResponse.class, null)
+                    .join();
+
+            // Then
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Call Graphs")
+    class CallGraphs {
+
+        @Test
+        @DisplayName("Should send identical calls of views bound to one graph once")
+        void shouldMergeCallsWithinGraph() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+            final CallGraph graph = new CallGraph();
+            final MultiModelExecutor first = executor.withCallGraph(graph);
+            final MultiModelExecutor second = executor.withDeadline(Deadline.after(Duration.ofMinutes(1)))
+                    .withCallGraph(graph);
+
+            // When
+            first.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class)
+                    .join();
+            final ModelResult<TestResponse> reused = second.executeLlmAsync(
+                            List.of("model-1"), "prompt", TestResponse.class)
+                    .join()
+                    .get(0);
+
+            // Then
+            assertThat(reused.cached()).isTrue();
+            assertThat(second.getCallGraph()).isSameAs(graph);
+            assertThat(second.getDeadline()).isNotNull();
+            assertThat(graph.getCounts()).isEqualTo(new CallGraph.Counts(2, 1, 0, 0));
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should keep a shorter evaluation budget from failing the node for other metrics")
+        void shouldApplyDeadlinePerView() {
+            // Given - two metrics of one suite share a slow node, only the first has a tight budget
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(invocation -> {
+                Thread.sleep(300);
+                return callWith(createMockClientWithScore(0.5)).answer(invocation);
+            });
+            final CallGraph graph = new CallGraph();
+            final MultiModelExecutor tight = executor.withDeadline(Deadline.after(Duration.ofMillis(50)))
+                    .withCallGraph(graph);
+            final MultiModelExecutor relaxed = executor.withDeadline(Deadline.after(Duration.ofSeconds(5)))
+                    .withCallGraph(graph);
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    tight.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    relaxed.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(first.join().error()).isInstanceOf(ModelCallTimeoutException.class);
+            assertThat(second.join().isSuccess()).isTrue();
+            assertThat(second.join().result().score()).isEqualTo(0.5);
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should call the model again outside the graph")
+        void shouldNotMergeOutsideGraph() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+            executor.withCallGraph(new CallGraph())
+                    .executeLlmOnModelAsync("model-1", "prompt", TestResponse.class)
+                    .join();
+
+            // When
+            executor.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class)
+                    .join();
+
+            // Then
+            assertThat(executor.getCallGraph()).isNull();
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Single-Flight")
+    class SingleFlight {
+
+        @Test
+        @DisplayName("Should share one request between identical in-flight calls")
+        void shouldShareRequestBetweenIdenticalCalls() {
+            // Given
+            final CountDownLatch release = new CountDownLatch(1);
+            blockCallsUntil("model-1", release, createMockClientWithScore(0.7));
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    executor.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    executor.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+            release.countDown();
+
+            // Then
+            assertThat(first.join().result().score()).isEqualTo(0.7);
+            assertThat(second.join().result().score()).isEqualTo(0.7);
+            assertThat(executor.getCoalescedCallCount()).isEqualTo(1);
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should not share requests between different prompts")
+        void shouldNotShareRequestsBetweenDifferentPrompts() {
+            // Given
+            final CountDownLatch release = new CountDownLatch(1);
+            blockCallsUntil("model-1", release, createMockClientWithScore(0.7));
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    executor.executeLlmOnModelAsync("model-1", "prompt A", TestResponse.class);
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    executor.executeLlmOnModelAsync("model-1", "prompt B", TestResponse.class);
+            release.countDown();
+            CompletableFuture.allOf(first, second).join();
+
+            // Then
+            assertThat(executor.getCoalescedCallCount()).isZero();
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should send a new request once the previous call completed")
+        void shouldSendNewRequestAfterCompletion() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.5));
+
+            // When
+            executor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+            executor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(executor.getCoalescedCallCount()).isZero();
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should share failures between identical in-flight calls")
+        void shouldShareFailures() {
+            // Given
+            final CountDownLatch release = new CountDownLatch(1);
+            blockCallsUntil("failing-model", release, createFailingMockClient());
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    executor.executeLlmOnModelAsync("failing-model", "prompt", TestResponse.class);
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    executor.executeLlmOnModelAsync("failing-model", "prompt", TestResponse.class);
+            release.countDown();
+
+            // Then
+            assertThat(first.join().isFailure()).isTrue();
+            assertThat(second.join().isFailure()).isTrue();
+            verify(chatClientStore, times(1)).call(eq("failing-model"), any());
+        }
+
+        @Test
+        @DisplayName("Should send every sample of a prompt as its own request")
+        void shouldNotMergeSamples() {
+            // Given
+            final CountDownLatch release = new CountDownLatch(1);
+            blockCallsUntil("model-1", release, createMockClientWithScore(0.7));
+
+            // When
+            final List<CompletableFuture<ModelResult<TestResponse>>> samples = new ArrayList<>();
+            for (int sample = 0; sample < 3; sample++) {
+                samples.add(executor.executeLlmSampleOnModelAsync("model-1", "prompt", TestResponse.class, sample));
+            }
+            final CompletableFuture<ModelResult<TestResponse>> repeated =
+                    executor.executeLlmSampleOnModelAsync("model-1", "prompt", TestResponse.class, 1);
+            release.countDown();
+            samples.forEach(CompletableFuture::join);
+            repeated.join();
+
+            // Then
+            assertThat(executor.getCoalescedCallCount()).isEqualTo(1);
+            verify(chatClientStore, times(3)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should send every call when single-flight is disabled")
+        void shouldSendEveryCallWhenDisabled() {
+            // Given
+            final CountDownLatch release = new CountDownLatch(1);
+            blockCallsUntil("model-1", release, createMockClientWithScore(0.7));
+            final MultiModelExecutor plainExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .singleFlight(false)
+                    .build();
+
+            // When
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    plainExecutor.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    plainExecutor.executeLlmOnModelAsync("model-1", "prompt", TestResponse.class);
+            release.countDown();
+            CompletableFuture.allOf(first, second).join();
+
+            // Then
+            assertThat(plainExecutor.getCoalescedCallCount()).isZero();
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+        }
+
+        private void blockCallsUntil(final String modelId, final CountDownLatch release, final ChatClient client) {
+            when(chatClientStore.call(eq(modelId), any())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return callWith(client).answer(invocation);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Quorum")
+    class Quorum {
+
+        @Test
+        @DisplayName("Should complete once a majority agrees and cancel the remaining calls")
+        void shouldCancelStragglersOnceMajorityAgrees() throws InterruptedException {
+            // Given
+            setupMockModels(Map.of("model-1", 1.0, "model-2", 1.0));
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            blockUntilInterrupted("slow-model", interrupted);
+
+            // When
+            final List<ModelResult<TestResponse>> results = executor.executeLlmQuorum(
+                    List.of("model-1", "model-2", "slow-model"),
+                    "prompt",
+                    TestResponse.class,
+                    QuorumPolicy.majority(TestResponse::score));
+
+            // Then
+            assertThat(results).extracting(ModelResult::modelId).containsExactly("model-1", "model-2", "slow-model");
+            assertThat(results.get(0).result().score()).isEqualTo(1.0);
+            assertThat(results.get(1).result().score()).isEqualTo(1.0);
+            assertThat(results.get(2).error()).isInstanceOf(CancellationException.class);
+            assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should complete after the first k successful responses")
+        void shouldCompleteAfterKResponses() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.2));
+            blockUntilInterrupted("slow-model", new CountDownLatch(1));
+
+            // When
+            final List<ModelResult<TestResponse>> results = executor.executeLlmQuorum(
+                    List.of("model-1", "slow-model"), "prompt", TestResponse.class, QuorumPolicy.responses(1));
+
+            // Then
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(1).error()).isInstanceOf(CancellationException.class);
+        }
+
+        @Test
+        @DisplayName("Should wait for all models while the policy is not reached")
+        void shouldWaitForAllModelsWithoutQuorum() {
+            // Given
+            setupMockModels(Map.of("model-1", 0.2, "model-2", 0.8));
+
+            // When
+            final List<ModelResult<TestResponse>> results = executor.executeLlmQuorum(
+                    List.of("model-1", "model-2"), "prompt", TestResponse.class, QuorumPolicy.majority());
+
+            // Then
+            assertThat(results).allMatch(ModelResult::isSuccess);
+            assertThat(results).extracting(result -> result.result().score()).containsExactly(0.2, 0.8);
+        }
+
+        @Test
+        @DisplayName("Should keep a shared in-flight call running for callers that still need it")
+        void shouldKeepSharedCallForOtherCallers() {
+            // Given
+            setupMockModels(Map.of("model-1", 1.0));
+            final CountDownLatch release = new CountDownLatch(1);
+            final ChatClient slowClient = createMockClientWithScore(0.5);
+            when(chatClientStore.call(eq("slow-model"), any())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return callWith(slowClient).answer(invocation);
+            });
+            final CompletableFuture<ModelResult<TestResponse>> plainCall =
+                    executor.executeLlmOnModelAsync("slow-model", "prompt", TestResponse.class);
+
+            // When
+            final List<ModelResult<TestResponse>> results = executor.executeLlmQuorum(
+                    List.of("model-1", "slow-model"), "prompt", TestResponse.class, QuorumPolicy.responses(1));
+            release.countDown();
+
+            // Then
+            assertThat(results.get(1).error()).isInstanceOf(CancellationException.class);
+            assertThat(plainCall.join().result().score()).isEqualTo(0.5);
+            verify(chatClientStore, times(1)).call(eq("slow-model"), any());
+        }
+
+        private void blockUntilInterrupted(final String modelId, final CountDownLatch interrupted) {
+            lenient().when(chatClientStore.call(eq(modelId), any())).thenAnswer(invocation -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return null;
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit Breakers")
+    class CircuitBreakers {
+
+        @Test
+        @DisplayName("Should reject calls to a failing provider without sending them")
+        void shouldFailFastWhileCircuitIsOpen() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any()))
+                    .thenThrow(new TransientAiException("503 - Service unavailable"));
+            final ProviderCircuitBreakerRegistry circuitBreakers = ProviderCircuitBreakerRegistry.builder()
+                    .modelToProvider(Map.of("model-1", "provider", "model-2", "provider"))
+                    .policy(CircuitBreakerPolicy.builder()
+                            .failureThreshold(2)
+                            .openDuration(Duration.ofMinutes(1))
+                            .build())
+                    .build();
+            final MultiModelExecutor breakingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .circuitBreakerRegistry(circuitBreakers)
+                    .build();
+            breakingExecutor.executeLlmOnModel("model-1", "first", TestResponse.class);
+            breakingExecutor.executeLlmOnModel("model-1", "second", TestResponse.class);
+
+            // When
+            final ModelResult<TestResponse> rejected =
+                    breakingExecutor.executeLlmOnModel("model-2", "third", TestResponse.class);
+
+            // Then
+            assertThat(rejected.isFailure()).isTrue();
+            assertThat(rejected.error()).isInstanceOf(CircuitOpenException.class);
+            assertThat(((CircuitOpenException) rejected.error()).getProviderName())
+                    .isEqualTo("provider");
+            assertThat(circuitBreakers.getState("model-2")).isEqualTo(CircuitState.OPEN);
+            assertThat(circuitBreakers.getRejectedCallCount()).isEqualTo(1);
+            verify(chatClientStore, times(2)).call(eq("model-1"), any());
+            verify(chatClientStore, never()).call(eq("model-2"), any());
+        }
+
+        @Test
+        @DisplayName("Should not send a call whose circuit opened while it waited for a slot")
+        void shouldRecheckCircuitAfterWaiting() throws Exception {
+            // Given
+            final CountDownLatch firstSent = new CountDownLatch(1);
+            final CountDownLatch failFirst = new CountDownLatch(1);
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(invocation -> {
+                firstSent.countDown();
+                failFirst.await(5, TimeUnit.SECONDS);
+                throw new TransientAiException("503 - Service unavailable");
+            });
+            final ProviderCircuitBreakerRegistry circuitBreakers = ProviderCircuitBreakerRegistry.builder()
+                    .policy(CircuitBreakerPolicy.builder()
+                            .failureThreshold(1)
+                            .openDuration(Duration.ofMinutes(1))
+                            .build())
+                    .build();
+            final MultiModelExecutor breakingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .circuitBreakerRegistry(circuitBreakers)
+                    .concurrencyLimiter(AdaptiveConcurrencyLimiter.builder()
+                            .policy(AdaptiveConcurrencyPolicy.builder()
+                                    .initialLimit(1)
+                                    .build())
+                            .build())
+                    .build();
+            final CompletableFuture<ModelResult<TestResponse>> first =
+                    breakingExecutor.executeLlmOnModelAsync("model-1", "first", TestResponse.class);
+            assertThat(firstSent.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When - the second call passes the circuit while it is closed, then waits for the slot
+            final CompletableFuture<ModelResult<TestResponse>> second =
+                    breakingExecutor.executeLlmOnModelAsync("model-1", "second", TestResponse.class);
+            failFirst.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).isFailure()).isTrue();
+            final ModelResult<TestResponse> rejected = second.get(5, TimeUnit.SECONDS);
+            assertThat(rejected.isFailure()).isTrue();
+            assertThat(rejected.error()).isInstanceOf(CircuitOpenException.class);
+            assertThat(circuitBreakers.getState("model-1")).isEqualTo(CircuitState.OPEN);
+            verify(chatClientStore, times(1)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should not open the circuit when the evaluation deadline expires during a call")
+        void shouldNotCountExpiredDeadline() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(invocation -> {
+                Thread.sleep(2_000);
+                return callWith(createMockClientWithScore(0.5)).answer(invocation);
+            });
+            final ProviderCircuitBreakerRegistry circuitBreakers = ProviderCircuitBreakerRegistry.builder()
+                    .policy(CircuitBreakerPolicy.builder()
+                            .failureThreshold(1)
+                            .openDuration(Duration.ofMinutes(1))
+                            .build())
+                    .build();
+            final MultiModelExecutor breakingExecutor = MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .circuitBreakerRegistry(circuitBreakers)
+                    .build();
+
+            // When
+            final ModelResult<TestResponse> result = breakingExecutor
+                    .withDeadline(Deadline.after(Duration.ofMillis(50)))
+                    .executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.error()).isInstanceOf(ModelCallTimeoutException.class);
+            assertThat(((ModelCallTimeoutException) result.error()).isDeadlineExpired())
+                    .isTrue();
+            assertThat(circuitBreakers.getState("model-1")).isEqualTo(CircuitState.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retries")
+    class Retries {
+
+        @Test
+        @DisplayName("Should retry a transient failure and record the attempts")
+        void shouldRetryTransientFailure() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any()))
+                    .thenThrow(new TransientAiException("503 - Overloaded"))
+                    .thenAnswer(callWith(createMockClientWithScore(0.9)));
+            final MultiModelExecutor retryingExecutor = retryingExecutor(RetryPolicy.builder()
+                    .initialBackoff(Duration.ofMillis(1))
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    retryingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result().score()).isEqualTo(0.9);
+            assertThat(result.attempts()).isEqualTo(2);
+            assertThat(result.isRetried()).isTrue();
+            assertThat(retryingExecutor.getRetryCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should give up after the max attempts")
+        void shouldGiveUpAfterMaxAttempts() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any())).thenThrow(new TransientAiException("503 - Overloaded"));
+            final MultiModelExecutor retryingExecutor = retryingExecutor(RetryPolicy.builder()
+                    .maxAttempts(3)
+                    .initialBackoff(Duration.ofMillis(1))
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    retryingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.attempts()).isEqualTo(3);
+            verify(chatClientStore, times(3)).call(eq("model-1"), any());
+        }
+
+        @Test
+        @DisplayName("Should not retry client errors")
+        void shouldNotRetryClientErrors() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any()))
+                    .thenThrow(new NonTransientAiException("400 - Invalid request"));
+            final MultiModelExecutor retryingExecutor = retryingExecutor(RetryPolicy.builder()
+                    .initialBackoff(Duration.ofMillis(1))
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    retryingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.attempts()).isEqualTo(1);
+            assertThat(retryingExecutor.getRetryCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should ask again with a repair note when the response cannot be parsed")
+        void shouldRepairUnparseableResponse() {
+            // Given
+            final ChatClient client = mock(ChatClient.class);
+            final ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            final ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+            when(client.prompt(any(String.class))).thenReturn(requestSpec);
+            when(requestSpec.call()).thenReturn(callSpec);
+            when(callSpec.entity(TestResponse.class))
+                    .thenThrow(new RuntimeException(new JsonParseException(null, "Unexpected character 'S'")))
+                    .thenReturn(new TestResponse(0.4));
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(callWith(client));
+            final MultiModelExecutor retryingExecutor = retryingExecutor(RetryPolicy.builder()
+                    .repairParseErrors(true)
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    retryingExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            final ArgumentCaptor<String> prompts = ArgumentCaptor.forClass(String.class);
+            verify(client, times(2)).prompt(prompts.capture());
+            assertThat(prompts.getAllValues().get(0)).isEqualTo("prompt");
+            assertThat(prompts.getAllValues().get(1))
+                    .startsWith("prompt")
+                    .contains("could not be parsed (Unexpected character 'S')");
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.request()).isEqualTo("prompt");
+            assertThat(result.attempts()).isEqualTo(2);
+        }
+
+        private MultiModelExecutor retryingExecutor(final RetryPolicy policy) {
+            return MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .retryPolicy(policy)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive Concurrency")
+    class AdaptiveConcurrency {
+
+        @Test
+        @DisplayName("Should keep calls to a provider within its concurrency limit")
+        void shouldKeepCallsWithinLimit() throws Exception {
+            // Given
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final ChatClient client = createMockClientWithScore(0.9);
+            when(chatClientStore.call(any(), any())).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return callWith(client).answer(invocation);
+            });
+            final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                    .modelToProvider(Map.of("model-1", "provider", "model-2", "provider"))
+                    .policy(AdaptiveConcurrencyPolicy.builder()
+                            .initialLimit(1)
+                            .maxLimit(1)
+                            .build())
+                    .build();
+            final MultiModelExecutor limitedExecutor = limitedExecutor(limiter);
+
+            // When
+            final List<CompletableFuture<ModelResult<TestResponse>>> calls = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                calls.add(limitedExecutor.executeLlmOnModelAsync(
+                        i % 2 == 0 ? "model-1" : "model-2", "prompt " + i, TestResponse.class));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(calls).allSatisfy(call -> assertThat(call.join().isSuccess()).isTrue());
+            assertThat(maxRunning.get()).isEqualTo(1);
+            assertThat(limiter.getInFlight("model-1")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should lower the limit when the provider answers with rate limits")
+        void shouldLowerLimitOnRateLimit() {
+            // Given
+            when(chatClientStore.call(eq("model-1"), any()))
+                    .thenThrow(new NonTransientAiException("429 - Rate limit reached"));
+            final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                    .policy(AdaptiveConcurrencyPolicy.builder().initialLimit(8).build())
+                    .build();
+
+            // When
+            final ModelResult<TestResponse> result =
+                    limitedExecutor(limiter).executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(limiter.getLimit("model-1")).isEqualTo(4);
+            assertThat(limiter.getInFlight("model-1")).isZero();
+        }
+
+        private MultiModelExecutor limitedExecutor(final AdaptiveConcurrencyLimiter limiter) {
+            return MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .concurrencyLimiter(limiter)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Timeouts")
+    class Timeouts {
+
+        @Test
+        @DisplayName("Should cancel a call exceeding the call timeout and fail with a timeout cause")
+        void shouldCancelCallExceedingCallTimeout() throws InterruptedException {
+            // Given
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            when(chatClientStore.call(eq("slow-model"), any())).thenAnswer(invocation -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return null;
+            });
+            final MultiModelExecutor timedExecutor = timedExecutor(ExecutionTimeouts.builder()
+                    .callTimeout(Duration.ofMillis(100))
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    timedExecutor.executeLlmOnModel("slow-model", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).isInstanceOf(ModelCallTimeoutException.class);
+            assertThat(((ModelCallTimeoutException) result.error()).getModelId())
+                    .isEqualTo("slow-model");
+            assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should apply per-model call timeouts over the default")
+        void shouldApplyPerModelCallTimeouts() {
+            // Given
+            when(chatClientStore.call(eq("reasoning-model"), any())).thenAnswer(invocation -> {
+                Thread.sleep(200);
+                return callWith(createMockClientWithScore(0.9)).answer(invocation);
+            });
+            final MultiModelExecutor timedExecutor = timedExecutor(ExecutionTimeouts.builder()
+                    .callTimeout(Duration.ofMillis(50))
+                    .modelCallTimeouts(Map.of("reasoning-model", Duration.ofSeconds(5)))
+                    .build());
+
+            // When
+            final ModelResult<TestResponse> result =
+                    timedExecutor.executeLlmOnModel("reasoning-model", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.result().score()).isEqualTo(0.9);
+        }
+
+        @Test
+        @DisplayName("Should fail calls without reaching the model once the deadline expired")
+        void shouldFailCallsAfterDeadlineExpired() throws InterruptedException {
+            // Given
+            final MultiModelExecutor deadlineExecutor = executor.withDeadline(Deadline.after(Duration.ofMillis(10)));
+            Thread.sleep(50);
+
+            // When
+            final ModelResult<TestResponse> result =
+                    deadlineExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).isInstanceOf(ModelCallTimeoutException.class);
+            verify(chatClientStore, never()).call(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should give a late call only the remaining evaluation budget")
+        void shouldGiveLateCallOnlyRemainingBudget() throws InterruptedException {
+            // Given
+            final AtomicBoolean completed = new AtomicBoolean();
+            when(chatClientStore.call(eq("model-1"), any())).thenAnswer(invocation -> {
+                Thread.sleep(400);
+                completed.set(true);
+                return callWith(createMockClientWithScore(0.5)).answer(invocation);
+            });
+            final MultiModelExecutor timedExecutor = timedExecutor(ExecutionTimeouts.builder()
+                    .callTimeout(Duration.ofSeconds(5))
+                    .metricEvaluationTimeouts(Map.of("TestMetric", Duration.ofMillis(300)))
+                    .build());
+            final MultiModelExecutor evaluationExecutor = timedExecutor.forMetric("TestMetric");
+            Thread.sleep(100);
+
+            // When
+            final ModelResult<TestResponse> result =
+                    evaluationExecutor.executeLlmOnModel("model-1", "prompt", TestResponse.class);
+
+            // Then
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).isInstanceOf(ModelCallTimeoutException.class);
+            assertThat(completed).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not bind a deadline for metrics without an evaluation timeout")
+        void shouldNotBindDeadlineWithoutEvaluationTimeout() {
+            // When
+            final MultiModelExecutor evaluationExecutor = executor.forMetric("TestMetric");
+
+            // Then
+            assertThat(evaluationExecutor).isSameAs(executor);
+            assertThat(evaluationExecutor.getDeadline()).isNull();
+        }
+
+        private MultiModelExecutor timedExecutor(final ExecutionTimeouts timeouts) {
+            return MultiModelExecutor.builder()
+                    .chatClientStore(chatClientStore)
+                    .metricExecutor(taskExecutor)
+                    .httpExecutor(taskExecutor)
+                    .timeouts(timeouts)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("Constructor Validation")
     class ConstructorValidation {
@@ -574,5 +1658,4 @@ class MultiModelExecutorTest {
             assertThat(fullExecutor.getModelIds()).containsExactly("llm-1");
             assertThat(fullExecutor.getEmbeddingModelIds()).containsExactly("embed-1");
         }
-    }
-}
+    }}
@@ -0,0 +1,83 @@
+package ai.qa.solutions.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QuorumPolicy Tests")
+class QuorumPolicyTest {
+
+    @Nested
+    @DisplayName("MAJORITY Policy")
+    class MajorityPolicy {
+
+        @Test
+        @DisplayName("Should be reached once more than half of all models agree")
+        void shouldBeReachedWithAbsoluteMajority() {
+            // Given
+            final QuorumPolicy<Integer> policy = QuorumPolicy.majority();
+
+            // Then
+            assertThat(policy.isReached(List.of(success(3), success(3)), 5)).isFalse();
+            assertThat(policy.isReached(List.of(success(3), success(3), success(3)), 5))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not count failed models as votes")
+        void shouldIgnoreFailures() {
+            // Given
+            final QuorumPolicy<Integer> policy = QuorumPolicy.majority();
+
+            // Then
+            assertThat(policy.isReached(List.of(success(1), failure(), failure()), 3))
+                    .isFalse();
+        }
+
+        @Test
+        @DisplayName("Should vote on the mapped value")
+        void shouldVoteOnMappedValue() {
+            // Given
+            final QuorumPolicy<Integer> policy = QuorumPolicy.<Boolean>majority().onResults(score -> score >= 3);
+
+            // Then
+            assertThat(policy.isReached(List.of(success(4), success(5)), 3)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("RESPONSES Policy")
+    class ResponsesPolicy {
+
+        @Test
+        @DisplayName("Should be reached after k successful responses")
+        void shouldBeReachedAfterKSuccesses() {
+            // Given
+            final QuorumPolicy<Integer> policy = QuorumPolicy.responses(2);
+
+            // Then
+            assertThat(policy.isReached(List.of(success(1), failure()), 3)).isFalse();
+            assertThat(policy.isReached(List.of(success(1), failure(), success(2)), 3))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive k")
+        void shouldRejectNonPositiveK() {
+            assertThatThrownBy(() -> QuorumPolicy.responses(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static ModelResult<Integer> success(final int score) {
+        return ModelResult.success("model", score, Duration.ZERO, "prompt");
+    }
+
+    private static ModelResult<Integer> failure() {
+        return ModelResult.failure("model", Duration.ZERO, "prompt", new IllegalStateException("boom"));
+    }
+}
@@ -0,0 +1,338 @@
+package ai.qa.solutions.execution.balancing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("EndpointPool Tests")
+class EndpointPoolTest {
+
+    @Nested
+    @DisplayName("Selection Strategies")
+    class SelectionStrategies {
+
+        @Test
+        @DisplayName("FIRST should always use the first endpoint")
+        void firstShouldAlwaysUseFirstEndpoint() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b", "c");
+
+            final List<String> used = callTimes(pool, 6);
+
+            assertThat(used).containsOnly("a");
+        }
+
+        @Test
+        @DisplayName("ROUND_ROBIN should rotate over all endpoints")
+        void roundRobinShouldRotateOverEndpoints() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.ROUND_ROBIN, "a", "b", "c");
+
+            final List<String> used = callTimes(pool, 6);
+
+            assertThat(used).containsExactly("a", "b", "c", "a", "b", "c");
+        }
+
+        @Test
+        @DisplayName("LEAST_IN_FLIGHT should avoid the busy endpoint")
+        void leastInFlightShouldAvoidBusyEndpoint() throws Exception {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.LEAST_IN_FLIGHT, "a", "b");
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            // Occupy endpoint "a" with a call that blocks until released
+            final CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> pool.call(endpoint -> {
+                started.countDown();
+                await(release);
+                return endpoint;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                assertThat(pool.getStats().get(0).getInFlight()).isEqualTo(1);
+                assertThat(callTimes(pool, 3)).containsOnly("b");
+            } finally {
+                release.countDown();
+            }
+            assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+            assertThat(pool.getStats().get(0).getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("LATENCY_WEIGHTED should favor the faster endpoint")
+        void latencyWeightedShouldFavorFasterEndpoint() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.LATENCY_WEIGHTED, "fast", "slow");
+            recordLatency(pool.getStats().get(0), Duration.ofMillis(10));
+            recordLatency(pool.getStats().get(1), Duration.ofMillis(1000));
+
+            final Map<String, Long> counts = IntStream.range(0, 1000)
+                    .mapToObj(i -> pool.select())
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+            assertThat(counts.getOrDefault("fast", 0L)).isGreaterThan(900L);
+        }
+
+        @Test
+        @DisplayName("Should accept a custom selector")
+        void shouldAcceptCustomSelector() {
+            final EndpointPool<String> pool =
+                    new EndpointPool<>(List.of("a", "b", "c"), candidates -> candidates.size() - 1);
+
+            assertThat(callTimes(pool, 2)).containsOnly("c");
+        }
+    }
+
+    @Nested
+    @DisplayName("Failover")
+    class Failover {
+
+        @Test
+        @DisplayName("Should fail over on connection errors")
+        void shouldFailOverOnConnectionErrors() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "down", "up");
+
+            final String result = pool.call(endpoint -> {
+                if (endpoint.equals("down")) {
+                    throw new ResourceAccessException("I/O error", new ConnectException("Connection refused"));
+                }
+                return endpoint;
+            });
+
+            assertThat(result).isEqualTo("up");
+            assertThat(pool.getStats().get(0).getFailures()).isEqualTo(1);
+            assertThat(pool.getStats().get(1).getSuccesses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should fail over on HTTP 5xx responses")
+        void shouldFailOverOnServerErrors() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "broken", "healthy");
+
+            final String result = pool.call(endpoint -> {
+                if (endpoint.equals("broken")) {
+                    throw HttpServerErrorException.create(
+                            HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", new HttpHeaders(), null, null);
+                }
+                return endpoint;
+            });
+
+            assertThat(result).isEqualTo("healthy");
+        }
+
+        @Test
+        @DisplayName("Should not fail over on client errors")
+        void shouldNotFailOverOnClientErrors() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b");
+            final List<String> attempted = new ArrayList<>();
+
+            assertThatThrownBy(() -> pool.call(endpoint -> {
+                        attempted.add(endpoint);
+                        throw HttpClientErrorException.create(
+                                HttpStatus.BAD_REQUEST, "Bad Request", new HttpHeaders(), null, null);
+                    }))
+                    .isInstanceOf(HttpClientErrorException.class);
+            assertThat(attempted).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("Should rethrow the last error when every endpoint fails")
+        void shouldRethrowLastErrorWhenAllEndpointsFail() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b", "c");
+
+            assertThatThrownBy(() -> pool.call(endpoint -> {
+                        throw new ResourceAccessException("down: " + endpoint);
+                    }))
+                    .isInstanceOf(ResourceAccessException.class)
+                    .hasMessage("down: c")
+                    .satisfies(error -> assertThat(error.getSuppressed()).hasSize(2));
+            assertThat(pool.getStats()).allSatisfy(stats -> {
+                assertThat(stats.getFailures()).isEqualTo(1);
+                assertThat(stats.getInFlight()).isZero();
+            });
+        }
+
+        @Test
+        @DisplayName("Should not fail over when the policy rejects the error")
+        void shouldNotFailOverWhenDisabled() {
+            final EndpointPool<String> pool =
+                    new EndpointPool<>(List.of("a", "b"), LoadBalancingStrategy.FIRST.createSelector(), error -> false);
+
+            assertThatThrownBy(() -> pool.call(endpoint -> {
+                        throw new ResourceAccessException("down: " + endpoint);
+                    }))
+                    .hasMessage("down: a");
+        }
+
+        @Test
+        @DisplayName("Should hand the failover attempt to the caller of a deferring call")
+        void shouldDeferFailover() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b", "c");
+            final List<String> attempted = new ArrayList<>();
+            final Function<String, String> call = EndpointPool.deferFailover(endpoint -> {
+                attempted.add(endpoint);
+                if (!endpoint.equals("c")) {
+                    throw new ResourceAccessException("down: " + endpoint);
+                }
+                return endpoint;
+            });
+
+            final Throwable first = catchThrowable(() -> pool.call(call));
+            assertThat(first)
+                    .isInstanceOf(FailoverPendingException.class)
+                    .hasCauseInstanceOf(ResourceAccessException.class);
+            assertThat(attempted).containsExactly("a");
+            assertThat(pool.getStats().get(0).getFailures()).isEqualTo(1);
+
+            final Throwable second = catchThrowable(((FailoverPendingException) first)::resume);
+            assertThat(second).isInstanceOf(FailoverPendingException.class);
+            final FailoverPendingException pending = (FailoverPendingException) second;
+            assertThat(pending.getEndpointErrors())
+                    .extracting(Throwable::getMessage)
+                    .containsExactly("down: a", "down: b");
+
+            assertThat(pending.<String>resume()).isEqualTo("c");
+            assertThat(attempted).containsExactly("a", "b", "c");
+            assertThat(pool.getStats()).allSatisfy(stats -> assertThat(stats.getInFlight()).isZero());
+        }
+    }
+
+    @Nested
+    @DisplayName("Hedging and Cancellation")
+    class HedgingAndCancellation {
+
+        @Test
+        @DisplayName("Should prefer an idle endpoint for hedged calls even with FIRST")
+        void shouldPreferIdleEndpoint() throws Exception {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b");
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            final CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> pool.call(endpoint -> {
+                started.countDown();
+                await(release);
+                return endpoint;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                assertThat(pool.callPreferringIdle(Function.identity())).isEqualTo("b");
+                assertThat(pool.call(Function.identity())).isEqualTo("a");
+            } finally {
+                release.countDown();
+            }
+            assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        }
+
+        @Test
+        @DisplayName("Should neither fail over nor count a failure when the call is interrupted")
+        void shouldNotFailOverInterruptedCalls() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.FIRST, "a", "b");
+            final List<String> attempted = new ArrayList<>();
+
+            try {
+                assertThatThrownBy(() -> pool.call(endpoint -> {
+                            attempted.add(endpoint);
+                            Thread.currentThread().interrupt();
+                            throw new ResourceAccessException("Request was interrupted");
+                        }))
+                        .isInstanceOf(ResourceAccessException.class);
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(attempted).containsExactly("a");
+            assertThat(pool.getStats().get(0).getFailures()).isZero();
+            assertThat(pool.getStats().get(0).getInFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics")
+    class Statistics {
+
+        @Test
+        @DisplayName("Should track latency as a moving average")
+        void shouldTrackLatencyAsMovingAverage() {
+            final EndpointStats stats = new EndpointStats(0);
+            assertThat(stats.hasLatency()).isFalse();
+
+            recordLatency(stats, Duration.ofMillis(100));
+            recordLatency(stats, Duration.ofMillis(200));
+
+            assertThat(stats.hasLatency()).isTrue();
+            assertThat(stats.getLatencyMillis()).isCloseTo(120.0, within(0.01));
+            assertThat(stats.getSuccesses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reset consecutive failures on success")
+        void shouldResetConsecutiveFailuresOnSuccess() {
+            final EndpointStats stats = new EndpointStats(0);
+            stats.onStart();
+            stats.onFailure();
+            stats.onStart();
+            stats.onFailure();
+            assertThat(stats.getConsecutiveFailures()).isEqualTo(2);
+
+            recordLatency(stats, Duration.ofMillis(5));
+
+            assertThat(stats.getConsecutiveFailures()).isZero();
+            assertThat(stats.getFailures()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject calls on an empty pool")
+        void shouldRejectCallsOnEmptyPool() {
+            final EndpointPool<String> pool = pool(LoadBalancingStrategy.ROUND_ROBIN);
+
+            assertThatThrownBy(pool::select).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> pool.call(Function.identity())).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private static EndpointPool<String> pool(final LoadBalancingStrategy strategy, final String... endpoints) {
+        return new EndpointPool<>(List.of(endpoints), strategy.createSelector());
+    }
+
+    private static List<String> callTimes(final EndpointPool<String> pool, final int times) {
+        final List<String> used = new ArrayList<>();
+        for (int i = 0; i < times; i++) {
+            used.add(pool.call(Function.identity()));
+        }
+        return used;
+    }
+
+    private static void recordLatency(final EndpointStats stats, final Duration latency) {
+        stats.onStart();
+        stats.onSuccess(latency);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
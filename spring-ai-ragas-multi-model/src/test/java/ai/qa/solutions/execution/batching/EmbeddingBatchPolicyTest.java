@@ -0,0 +1,102 @@
+package ai.qa.solutions.execution.batching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmbeddingBatchPolicy Tests")
+class EmbeddingBatchPolicyTest {
+
+    @Nested
+    @DisplayName("Splitting")
+    class Splitting {
+
+        @Test
+        @DisplayName("Should keep all texts in one batch within limits")
+        void shouldKeepAllTextsInOneBatch() {
+            // Given
+            final EmbeddingBatchPolicy policy = EmbeddingBatchPolicy.defaults();
+
+            // When
+            final List<List<String>> batches = policy.split(List.of("a", "b", "c"));
+
+            // Then
+            assertThat(batches).containsExactly(List.of("a", "b", "c"));
+        }
+
+        @Test
+        @DisplayName("Should split by max batch size preserving order")
+        void shouldSplitByMaxBatchSize() {
+            // Given
+            final EmbeddingBatchPolicy policy =
+                    EmbeddingBatchPolicy.builder().maxBatchSize(2).build();
+
+            // When
+            final List<List<String>> batches = policy.split(List.of("a", "b", "c", "d", "e"));
+
+            // Then
+            assertThat(batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        }
+
+        @Test
+        @DisplayName("Should split by token budget")
+        void shouldSplitByTokenBudget() {
+            // Given - 6 characters estimate to 2 tokens each
+            final EmbeddingBatchPolicy policy =
+                    EmbeddingBatchPolicy.builder().maxTokensPerBatch(4L).build();
+
+            // When
+            final List<List<String>> batches = policy.split(List.of("aaaaaa", "bbbbbb", "cccccc"));
+
+            // Then
+            assertThat(batches).containsExactly(List.of("aaaaaa", "bbbbbb"), List.of("cccccc"));
+        }
+
+        @Test
+        @DisplayName("Should send oversized text as a batch of one")
+        void shouldSendOversizedTextAlone() {
+            // Given
+            final EmbeddingBatchPolicy policy =
+                    EmbeddingBatchPolicy.builder().maxTokensPerBatch(1L).build();
+
+            // When
+            final List<List<String>> batches = policy.split(List.of("a", "oversized text", "b"));
+
+            // Then
+            assertThat(batches).containsExactly(List.of("a"), List.of("oversized text"), List.of("b"));
+        }
+
+        @Test
+        @DisplayName("Should return no batches for empty input")
+        void shouldReturnNoBatchesForEmptyInput() {
+            assertThat(EmbeddingBatchPolicy.defaults().split(List.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should use defaults when limits are not set")
+        void shouldUseDefaults() {
+            final EmbeddingBatchPolicy policy = EmbeddingBatchPolicy.builder().build();
+
+            assertThat(policy.getMaxBatchSize()).isEqualTo(EmbeddingBatchPolicy.DEFAULT_MAX_BATCH_SIZE);
+            assertThat(policy.getMaxTokensPerBatch()).isEqualTo(EmbeddingBatchPolicy.DEFAULT_MAX_TOKENS_PER_BATCH);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive limits")
+        void shouldRejectNonPositiveLimits() {
+            assertThatThrownBy(() -> EmbeddingBatchPolicy.builder().maxBatchSize(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> EmbeddingBatchPolicy.builder().maxTokensPerBatch(0L).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
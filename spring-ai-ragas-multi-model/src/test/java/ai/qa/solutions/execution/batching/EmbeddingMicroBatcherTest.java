@@ -0,0 +1,223 @@
+package ai.qa.solutions.execution.batching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.ModelResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmbeddingMicroBatcher Tests")
+class EmbeddingMicroBatcherTest {
+
+    private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        @DisplayName("Should send requests collected within the window as one call")
+        void shouldCoalesceRequestsWithinWindow() throws Exception {
+            // Given
+            try (EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMillis(50))
+                    .build()) {
+
+                // When
+                final CompletableFuture<ModelResult<List<float[]>>> first =
+                        batcher.submit("embed-1", List.of("a", "b"), echoSender());
+                final CompletableFuture<ModelResult<List<float[]>>> second =
+                        batcher.submit("embed-1", List.of("c"), echoSender());
+
+                // Then
+                assertThat(vectorsOf(first.get(5, TimeUnit.SECONDS))).containsExactly(1f, 2f);
+                assertThat(vectorsOf(second.get(5, TimeUnit.SECONDS))).containsExactly(3f);
+                assertThat(sentBatches).containsExactly(List.of("a", "b", "c"));
+                assertThat(second.join().request()).isEqualTo("c");
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush immediately when max batch size is reached")
+        void shouldFlushWhenMaxBatchSizeReached() {
+            // Given
+            try (EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMinutes(10))
+                    .maxBatchSize(3)
+                    .build()) {
+
+                // When
+                final CompletableFuture<ModelResult<List<float[]>>> first =
+                        batcher.submit("embed-1", List.of("a", "b"), echoSender());
+                final CompletableFuture<ModelResult<List<float[]>>> second =
+                        batcher.submit("embed-1", List.of("c"), echoSender());
+
+                // Then - completed without waiting for the window
+                assertThat(first).isDone();
+                assertThat(second).isDone();
+                assertThat(sentBatches).containsExactly(List.of("a", "b", "c"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep separate batches per model")
+        void shouldKeepSeparateBatchesPerModel() {
+            // Given
+            final EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMinutes(10))
+                    .build();
+            batcher.submit("embed-1", List.of("a"), echoSender());
+            batcher.submit("embed-2", List.of("b"), echoSender());
+
+            // When
+            batcher.close();
+
+            // Then
+            assertThat(sentBatches).containsExactlyInAnyOrder(List.of("a"), List.of("b"));
+        }
+
+        @Test
+        @DisplayName("Should apply per-model settings")
+        void shouldApplyPerModelSettings() {
+            // Given
+            try (EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMinutes(10))
+                    .maxBatchSize(100)
+                    .modelSettings(Map.of("small", new EmbeddingMicroBatcher.Settings(Duration.ofMinutes(10), 1)))
+                    .build()) {
+
+                // When
+                final CompletableFuture<ModelResult<List<float[]>>> small =
+                        batcher.submit("small", List.of("a"), echoSender());
+                final CompletableFuture<ModelResult<List<float[]>>> large =
+                        batcher.submit("large", List.of("b"), echoSender());
+
+                // Then
+                assertThat(small).isDone();
+                assertThat(large).isNotDone();
+                assertThat(batcher.settingsFor("large").maxBatchSize()).isEqualTo(100);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        @DisplayName("Should fail every request of a failed batch")
+        void shouldFailEveryRequestOfFailedBatch() {
+            // Given
+            final RuntimeException error = new RuntimeException("Provider down");
+            try (EmbeddingMicroBatcher batcher =
+                    EmbeddingMicroBatcher.builder().maxBatchSize(2).build()) {
+                final Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> failing =
+                        texts -> CompletableFuture.completedFuture(
+                                ModelResult.failure("embed-1", Duration.ZERO, String.join(", ", texts), error));
+
+                // When
+                final ModelResult<List<float[]>> first =
+                        batcher.submit("embed-1", List.of("a"), failing).join();
+                final ModelResult<List<float[]>> second =
+                        batcher.submit("embed-1", List.of("b"), failing).join();
+
+                // Then
+                assertThat(first.isFailure()).isTrue();
+                assertThat(first.error()).isSameAs(error);
+                assertThat(second.error()).isSameAs(error);
+                assertThat(first.request()).isEqualTo("a");
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail requests when the batch returns a wrong number of vectors")
+        void shouldFailOnVectorCountMismatch() {
+            // Given
+            try (EmbeddingMicroBatcher batcher =
+                    EmbeddingMicroBatcher.builder().maxBatchSize(1).build()) {
+
+                // When
+                final ModelResult<List<float[]>> result = batcher.submit(
+                                "embed-1",
+                                List.of("a"),
+                                texts -> CompletableFuture.completedFuture(
+                                        ModelResult.success("embed-1", List.of(), Duration.ZERO, "a")))
+                        .join();
+
+                // Then
+                assertThat(result.isFailure()).isTrue();
+                assertThat(result.error()).isInstanceOf(IllegalStateException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive settings")
+        void shouldRejectNonPositiveSettings() {
+            assertThatThrownBy(() -> new EmbeddingMicroBatcher.Settings(Duration.ZERO, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new EmbeddingMicroBatcher.Settings(Duration.ofMillis(1), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics")
+    class Statistics {
+
+        @Test
+        @DisplayName("Should track achieved batch sizes per model")
+        void shouldTrackAchievedBatchSizes() {
+            // Given
+            try (EmbeddingMicroBatcher batcher = EmbeddingMicroBatcher.builder()
+                    .window(Duration.ofMinutes(10))
+                    .maxBatchSize(4)
+                    .build()) {
+
+                // When - one full batch of 4 texts from 3 requests, then one batch of 2 flushed on close
+                batcher.submit("embed-1", List.of("a", "b"), echoSender());
+                batcher.submit("embed-1", List.of("c"), echoSender());
+                batcher.submit("embed-1", List.of("d"), echoSender());
+                batcher.submit("embed-1", List.of("e", "f"), echoSender());
+                batcher.close();
+
+                // Then
+                final EmbeddingMicroBatcher.Stats stats = batcher.getStats("embed-1");
+                assertThat(stats.batches()).isEqualTo(2);
+                assertThat(stats.requests()).isEqualTo(4);
+                assertThat(stats.texts()).isEqualTo(6);
+                assertThat(stats.maxBatchTexts()).isEqualTo(4);
+                assertThat(stats.averageBatchSize()).isEqualTo(3.0);
+                assertThat(batcher.getStats("unknown").batches()).isZero();
+            }
+        }
+    }
+
+    /**
+     * Sender returning a one-dimensional vector per text, numbered across the batch.
+     */
+    private Function<List<String>, CompletableFuture<ModelResult<List<float[]>>>> echoSender() {
+        return texts -> {
+            sentBatches.add(texts);
+            final List<float[]> vectors = new ArrayList<>();
+            for (int i = 0; i < texts.size(); i++) {
+                vectors.add(new float[] {i + 1});
+            }
+            return CompletableFuture.completedFuture(
+                    ModelResult.success("embed", vectors, Duration.ZERO, String.join(", ", texts)));
+        };
+    }
+
+    private static List<Float> vectorsOf(final ModelResult<List<float[]>> result) {
+        return result.result().stream().map(vector -> vector[0]).toList();
+    }
+}
@@ -0,0 +1,170 @@
+package ai.qa.solutions.execution.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("EmbeddingCache Tests")
+class EmbeddingCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("In-Memory Tier")
+    class InMemoryTier {
+
+        @Test
+        @DisplayName("Should return a copy of the stored vector")
+        void shouldReturnCopyOfStoredVector() {
+            // Given
+            final EmbeddingCache cache = EmbeddingCache.builder().build();
+            final float[] vector = {0.1f, -0.2f, 0.3f};
+            cache.put("embed-1", "text", vector);
+            vector[0] = 9f;
+
+            // When
+            final float[] cached = cache.get("embed-1", "text").orElseThrow();
+            cached[1] = 9f;
+
+            // Then
+            assertThat(cache.get("embed-1", "text")).hasValueSatisfying(value -> assertThat(value)
+                    .containsExactly(0.1f, -0.2f, 0.3f));
+            assertThat(cache.getHitCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should key entries by model, dimensions and text")
+        void shouldKeyEntriesByModelDimensionsAndText() {
+            // Given
+            final EmbeddingCache cache = EmbeddingCache.builder()
+                    .dimensions(Map.of("embed-1", 3)::get)
+                    .build();
+            cache.put("embed-1", "text", new float[] {1f, 2f, 3f});
+
+            // When / Then
+            assertThat(cache.get("embed-2", "text")).isEmpty();
+            assertThat(cache.get("embed-1", "other")).isEmpty();
+            assertThat(cache.getMissCount()).isEqualTo(2);
+            assertThat(cache.keyOf("embed-1", "text"))
+                    .isNotEqualTo(EmbeddingCache.builder()
+                            .dimensions(modelId -> 1536)
+                            .build()
+                            .keyOf("embed-1", "text"));
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used vectors and reuse their slots")
+        void shouldEvictLeastRecentlyUsedVectors() {
+            // Given
+            final EmbeddingCache cache = EmbeddingCache.builder().maxEntries(2).build();
+            cache.put("embed-1", "a", new float[] {1f, 1f});
+            cache.put("embed-1", "b", new float[] {2f, 2f});
+            cache.get("embed-1", "a");
+
+            // When
+            cache.put("embed-1", "c", new float[] {3f, 3f});
+
+            // Then - "b" was the least recently used, its slot holds "c"
+            assertThat(cache.getMemorySize()).isEqualTo(2);
+            assertThat(cache.get("embed-1", "b")).isEmpty();
+            assertThat(cache.get("embed-1", "c")).hasValueSatisfying(value -> assertThat(value)
+                    .containsExactly(3f, 3f));
+            assertThat(cache.getOffHeapBytes()).isEqualTo(2L * 2 * Float.BYTES);
+        }
+
+        @Test
+        @DisplayName("Should store vectors of different lengths")
+        void shouldStoreVectorsOfDifferentLengths() {
+            // Given
+            final EmbeddingCache cache = EmbeddingCache.builder().build();
+
+            // When
+            cache.put("small", "text", new float[] {1f});
+            cache.put("large", "text", new float[] {1f, 2f, 3f, 4f});
+
+            // Then
+            assertThat(cache.get("small", "text").orElseThrow()).hasSize(1);
+            assertThat(cache.get("large", "text").orElseThrow()).containsExactly(1f, 2f, 3f, 4f);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive maxEntries")
+        void shouldRejectNonPositiveMaxEntries() {
+            assertThatThrownBy(() -> EmbeddingCache.builder().maxEntries(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Disk Tier")
+    class DiskTier {
+
+        @Test
+        @DisplayName("Should serve vectors written by a previous cache instance")
+        void shouldSurviveRestart() {
+            // Given
+            final Path file = tempDir.resolve("cache/embeddings.bin");
+            try (EmbeddingCache first = EmbeddingCache.builder().file(file).build()) {
+                first.put("embed-1", "reference", new float[] {0.5f, -1.5f, Float.MIN_VALUE});
+            }
+
+            // When
+            try (EmbeddingCache second = EmbeddingCache.builder().file(file).build()) {
+
+                // Then
+                assertThat(second.getMemorySize()).isZero();
+                assertThat(second.get("embed-1", "reference").orElseThrow())
+                        .containsExactly(0.5f, -1.5f, Float.MIN_VALUE);
+                assertThat(second.getMemorySize()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Should serve vectors evicted from memory from disk")
+        void shouldServeEvictedVectorsFromDisk() {
+            // Given
+            try (EmbeddingCache cache = EmbeddingCache.builder()
+                    .maxEntries(1)
+                    .file(tempDir.resolve("embeddings.bin"))
+                    .build()) {
+                cache.put("embed-1", "a", new float[] {1f});
+                cache.put("embed-1", "b", new float[] {2f});
+
+                // When / Then
+                assertThat(cache.get("embed-1", "a").orElseThrow()).containsExactly(1f);
+            }
+        }
+
+        @Test
+        @DisplayName("Should discard an incomplete trailing record")
+        void shouldDiscardIncompleteTrailingRecord() throws IOException {
+            // Given - a record interrupted mid-write
+            final Path file = tempDir.resolve("embeddings.bin");
+            try (EmbeddingCache first = EmbeddingCache.builder().file(file).build()) {
+                first.put("embed-1", "a", new float[] {1f, 2f});
+            }
+            Files.write(file, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+            // When
+            try (EmbeddingCache second = EmbeddingCache.builder().file(file).build()) {
+                second.put("embed-1", "b", new float[] {3f, 4f});
+            }
+
+            // Then
+            try (EmbeddingCache third = EmbeddingCache.builder().file(file).build()) {
+                assertThat(third.get("embed-1", "a").orElseThrow()).containsExactly(1f, 2f);
+                assertThat(third.get("embed-1", "b").orElseThrow()).containsExactly(3f, 4f);
+            }
+        }
+    }
+}
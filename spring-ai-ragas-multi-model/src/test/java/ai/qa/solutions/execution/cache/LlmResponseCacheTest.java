@@ -0,0 +1,286 @@
+package ai.qa.solutions.execution.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("LlmResponseCache Tests")
+class LlmResponseCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("In-Memory Tier")
+    class InMemoryTier {
+
+        @Test
+        @DisplayName("Should return stored response for the same key")
+        void shouldReturnStoredResponse() {
+            // Given
+            final LlmResponseCache cache = LlmResponseCache.builder().build();
+            cache.put("model-1", "prompt", Verdict.class, new Verdict(1, List.of("a", "b")));
+
+            // When / Then
+            assertThat(cache.get("model-1", "prompt", Verdict.class)).contains(new Verdict(1, List.of("a", "b")));
+            assertThat(cache.getHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should key entries by model, prompt, response type and options")
+        void shouldKeyEntriesByAllComponents() {
+            // Given
+            final Map<String, String> options = Map.of("model-1", "t=0.0", "model-2", "t=0.7");
+            final LlmResponseCache cache =
+                    LlmResponseCache.builder().optionsFingerprint(options::get).build();
+            cache.put("model-1", "prompt", Verdict.class, new Verdict(1, List.of()));
+
+            // When / Then
+            assertThat(cache.get("model-2", "prompt", Verdict.class)).isEmpty();
+            assertThat(cache.get("model-1", "other prompt", Verdict.class)).isEmpty();
+            assertThat(cache.get("model-1", "prompt", Other.class)).isEmpty();
+            assertThat(cache.getMissCount()).isEqualTo(3);
+            assertThat(cache.keyOf("model-1", "prompt", Verdict.class))
+                    .isNotEqualTo(LlmResponseCache.builder()
+                            .optionsFingerprint(modelId -> "t=1.0")
+                            .build()
+                            .keyOf("model-1", "prompt", Verdict.class));
+        }
+
+        @Test
+        @DisplayName("Should keep the samples of a repeated call apart")
+        void shouldKeepSamplesApart() {
+            // Given
+            final LlmResponseCache cache = LlmResponseCache.builder().build();
+            cache.put("model-1", "prompt", Verdict.class, 0, new Verdict(0, List.of()));
+            cache.put("model-1", "prompt", Verdict.class, 1, new Verdict(1, List.of()));
+
+            // When / Then
+            assertThat(cache.get("model-1", "prompt", Verdict.class)).contains(new Verdict(0, List.of()));
+            assertThat(cache.get("model-1", "prompt", Verdict.class, 1)).contains(new Verdict(1, List.of()));
+            assertThat(cache.get("model-1", "prompt", Verdict.class, 2)).isEmpty();
+            assertThat(cache.keyOf("model-1", "prompt", Verdict.class, 0))
+                    .isEqualTo(cache.keyOf("model-1", "prompt", Verdict.class));
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used entries beyond maxEntries")
+        void shouldEvictLeastRecentlyUsedEntries() {
+            // Given
+            final LlmResponseCache cache = LlmResponseCache.builder().maxEntries(2).build();
+            cache.put("model-1", "p1", Verdict.class, new Verdict(1, List.of()));
+            cache.put("model-1", "p2", Verdict.class, new Verdict(2, List.of()));
+            cache.get("model-1", "p1", Verdict.class);
+
+            // When
+            cache.put("model-1", "p3", Verdict.class, new Verdict(3, List.of()));
+
+            // Then - p2 was the least recently used
+            assertThat(cache.getMemorySize()).isEqualTo(2);
+            assertThat(cache.get("model-1", "p2", Verdict.class)).isEmpty();
+            assertThat(cache.get("model-1", "p1", Verdict.class)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should expire entries after ttl")
+        void shouldExpireEntriesAfterTtl() {
+            // Given
+            final MutableClock clock = new MutableClock();
+            final LlmResponseCache cache = LlmResponseCache.builder()
+                    .ttl(Duration.ofMinutes(10))
+                    .clock(clock)
+                    .build();
+            cache.put("model-1", "prompt", Verdict.class, new Verdict(1, List.of()));
+
+            // When / Then
+            clock.advance(Duration.ofMinutes(5));
+            assertThat(cache.get("model-1", "prompt", Verdict.class)).isPresent();
+            clock.advance(Duration.ofMinutes(6));
+            assertThat(cache.get("model-1", "prompt", Verdict.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive maxEntries")
+        void shouldRejectNonPositiveMaxEntries() {
+            assertThatThrownBy(() -> LlmResponseCache.builder().maxEntries(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Disk Tier")
+    class DiskTier {
+
+        @Test
+        @DisplayName("Should serve entries written by a previous cache instance")
+        void shouldSurviveRestart() {
+            // Given
+            final Path file = tempDir.resolve("cache/llm.log");
+            try (LlmResponseCache first = LlmResponseCache.builder().file(file).build()) {
+                first.put("model-1", "prompt", Verdict.class, new Verdict(1, List.of()));
+                first.put("model-1", "prompt", Verdict.class, new Verdict(2, List.of()));
+            }
+
+            // When
+            try (LlmResponseCache second = LlmResponseCache.builder().file(file).build()) {
+
+                // Then - the latest record wins
+                assertThat(second.getMemorySize()).isZero();
+                assertThat(second.get("model-1", "prompt", Verdict.class)).contains(new Verdict(2, List.of()));
+                assertThat(second.getMemorySize()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep unicode and line breaks of stored values")
+        void shouldKeepUnicodeAndLineBreaks() {
+            // Given
+            final Path file = tempDir.resolve("llm.log");
+            final Verdict verdict = new Verdict(1, List.of("line\nbreak", "юникод", "tab\there"));
+            try (LlmResponseCache first = LlmResponseCache.builder().file(file).build()) {
+                first.put("model-1", "prompt", Verdict.class, verdict);
+            }
+
+            // When / Then
+            try (LlmResponseCache second = LlmResponseCache.builder().file(file).build()) {
+                assertThat(second.get("model-1", "prompt", Verdict.class)).contains(verdict);
+            }
+        }
+
+        @Test
+        @DisplayName("Should discard an incomplete trailing record")
+        void shouldDiscardIncompleteTrailingRecord() throws IOException {
+            // Given - a record interrupted mid-write
+            final Path file = tempDir.resolve("llm.log");
+            try (LlmResponseCache first = LlmResponseCache.builder().file(file).build()) {
+                first.put("model-1", "p1", Verdict.class, new Verdict(1, List.of()));
+            }
+            Files.writeString(file, "abc\t123\t{\"sco", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+            // When
+            try (LlmResponseCache second = LlmResponseCache.builder().file(file).build()) {
+                second.put("model-1", "p2", Verdict.class, new Verdict(2, List.of()));
+            }
+
+            // Then
+            try (LlmResponseCache third = LlmResponseCache.builder().file(file).build()) {
+                assertThat(third.get("model-1", "p1", Verdict.class)).contains(new Verdict(1, List.of()));
+                assertThat(third.get("model-1", "p2", Verdict.class)).contains(new Verdict(2, List.of()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should compact the file to the newest entries once it holds twice maxDiskEntries records")
+        void shouldCompactToNewestEntries() throws IOException {
+            // Given
+            final Path file = tempDir.resolve("llm.log");
+            final MutableClock clock = new MutableClock();
+            try (LlmResponseCache first =
+                    LlmResponseCache.builder().file(file).maxDiskEntries(2).clock(clock).build()) {
+                first.put("model-1", "p1", Verdict.class, new Verdict(1, List.of()));
+                clock.advance(Duration.ofSeconds(1));
+                first.put("model-1", "p2", Verdict.class, new Verdict(2, List.of()));
+                clock.advance(Duration.ofSeconds(1));
+                first.put("model-1", "p3", Verdict.class, new Verdict(3, List.of()));
+                assertThat(Files.readAllLines(file)).hasSize(3);
+
+                // When - the fourth record shadows p2 and triggers compaction
+                clock.advance(Duration.ofSeconds(1));
+                first.put("model-1", "p2", Verdict.class, new Verdict(4, List.of()));
+            }
+
+            // Then
+            assertThat(Files.readAllLines(file)).hasSize(2);
+            try (LlmResponseCache second =
+                    LlmResponseCache.builder().file(file).maxDiskEntries(2).clock(clock).build()) {
+                assertThat(second.get("model-1", "p1", Verdict.class)).isEmpty();
+                assertThat(second.get("model-1", "p2", Verdict.class)).contains(new Verdict(4, List.of()));
+                assertThat(second.get("model-1", "p3", Verdict.class)).contains(new Verdict(3, List.of()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop expired entries on compaction")
+        void shouldDropExpiredEntriesOnCompaction() throws IOException {
+            // Given
+            final Path file = tempDir.resolve("llm.log");
+            final MutableClock clock = new MutableClock();
+            try (LlmResponseCache cache = LlmResponseCache.builder()
+                    .file(file)
+                    .maxDiskEntries(3)
+                    .ttl(Duration.ofHours(1))
+                    .clock(clock)
+                    .build()) {
+                cache.put("model-1", "p1", Verdict.class, new Verdict(1, List.of()));
+                clock.advance(Duration.ofHours(2));
+
+                // When - five rewrites of p2 bring the file to six records
+                for (int i = 0; i < 5; i++) {
+                    cache.put("model-1", "p2", Verdict.class, new Verdict(2, List.of()));
+                }
+            }
+
+            // Then
+            assertThat(Files.readAllLines(file)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should treat unreadable entries as misses")
+        void shouldTreatUnreadableEntriesAsMisses() throws IOException {
+            // Given - a stored value that is not valid JSON for the response type
+            final Path file = tempDir.resolve("llm.log");
+            final String key = LlmResponseCache.builder().build().keyOf("model-1", "prompt", Verdict.class);
+            Files.writeString(file, key + "\t" + System.currentTimeMillis() + "\tnot-json\n", StandardCharsets.UTF_8);
+
+            // When / Then
+            try (LlmResponseCache cache = LlmResponseCache.builder().file(file).build()) {
+                assertThat(cache.get("model-1", "prompt", Verdict.class)).isEmpty();
+                assertThat(cache.getMissCount()).isEqualTo(1);
+            }
+        }
+    }
+
+    record Verdict(int score, List<String> reasons) {}
+
+    record Other(int score) {}
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ai.qa.solutions.execution.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ReferenceArtifactStore Tests")
+class ReferenceArtifactStoreTest {
+
+    private static final ReferenceArtifact CLAIMS =
+            new ReferenceArtifact("FactualCorrectness", "DecomposeReferenceClaims", "Decompose: {text}", "Paris.");
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Keys")
+    class Keys {
+
+        @Test
+        @DisplayName("Should return stored artifact for the same metric, step, model, template and reference")
+        void shouldReturnStoredArtifact() {
+            // Given
+            final ReferenceArtifactStore store = ReferenceArtifactStore.builder().build();
+            store.put("model-1", CLAIMS, Claims.class, new Claims(List.of("Paris is a city.")));
+
+            // When / Then
+            assertThat(store.get(
+                            "model-1",
+                            new ReferenceArtifact(
+                                    "FactualCorrectness", "DecomposeReferenceClaims", "Decompose: {text}", "Paris."),
+                            Claims.class))
+                    .contains(new Claims(List.of("Paris is a city.")));
+            assertThat(store.getHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should key artifacts by every component")
+        void shouldKeyArtifactsByEveryComponent() {
+            // Given
+            final Map<String, String> options = Map.of("model-1", "t=0.0", "model-2", "t=0.0");
+            final ReferenceArtifactStore store =
+                    ReferenceArtifactStore.builder().optionsFingerprint(options::get).build();
+            store.put("model-1", CLAIMS, Claims.class, new Claims(List.of("Paris is a city.")));
+
+            // When / Then
+            assertThat(store.get("model-2", CLAIMS, Claims.class)).isEmpty();
+            assertThat(store.get("model-1", withMetric("NoiseSensitivity"), Claims.class))
+                    .isEmpty();
+            assertThat(store.get("model-1", withStep("DecomposeResponseClaims"), Claims.class))
+                    .isEmpty();
+            assertThat(store.get("model-1", withTemplate("Split: {text}"), Claims.class))
+                    .isEmpty();
+            assertThat(store.get("model-1", withReference("Berlin."), Claims.class))
+                    .isEmpty();
+            assertThat(store.getMissCount()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not confuse template and reference boundaries")
+        void shouldNotConfuseTemplateAndReference() {
+            // Given
+            final ReferenceArtifactStore store = ReferenceArtifactStore.builder().build();
+            store.put("model-1", withTemplateAndReference("ab", "c"), Claims.class, new Claims(List.of("x")));
+
+            // When / Then
+            assertThat(store.get("model-1", withTemplateAndReference("a", "bc"), Claims.class))
+                    .isEmpty();
+        }
+
+        private static ReferenceArtifact withMetric(final String metricName) {
+            return new ReferenceArtifact(metricName, CLAIMS.stepName(), CLAIMS.template(), CLAIMS.reference());
+        }
+
+        private static ReferenceArtifact withStep(final String stepName) {
+            return new ReferenceArtifact(CLAIMS.metricName(), stepName, CLAIMS.template(), CLAIMS.reference());
+        }
+
+        private static ReferenceArtifact withTemplate(final String template) {
+            return withTemplateAndReference(template, CLAIMS.reference());
+        }
+
+        private static ReferenceArtifact withReference(final String reference) {
+            return withTemplateAndReference(CLAIMS.template(), reference);
+        }
+
+        private static ReferenceArtifact withTemplateAndReference(final String template, final String reference) {
+            return new ReferenceArtifact(CLAIMS.metricName(), CLAIMS.stepName(), template, reference);
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class Persistence {
+
+        @Test
+        @DisplayName("Should serve artifacts stored by a previous run")
+        void shouldServeArtifactsAcrossRuns() {
+            // Given
+            final Path file = tempDir.resolve("reference-artifacts.log");
+            try (ReferenceArtifactStore first =
+                    ReferenceArtifactStore.builder().file(file).build()) {
+                first.put("model-1", CLAIMS, Claims.class, new Claims(List.of("Paris is a city.")));
+            }
+
+            // When
+            try (ReferenceArtifactStore second =
+                    ReferenceArtifactStore.builder().file(file).build()) {
+
+                // Then
+                assertThat(second.get("model-1", CLAIMS, Claims.class))
+                        .contains(new Claims(List.of("Paris is a city.")));
+            }
+        }
+
+        @Test
+        @DisplayName("Should miss artifacts stored under another namespace")
+        void shouldMissOtherNamespace() {
+            // Given
+            final Path file = tempDir.resolve("reference-artifacts.log");
+            try (ReferenceArtifactStore first =
+                    ReferenceArtifactStore.builder().file(file).namespace("v1").build()) {
+                first.put("model-1", CLAIMS, Claims.class, new Claims(List.of("Paris is a city.")));
+            }
+
+            // When
+            try (ReferenceArtifactStore second =
+                    ReferenceArtifactStore.builder().file(file).namespace("v2").build()) {
+
+                // Then
+                assertThat(second.get("model-1", CLAIMS, Claims.class)).isEmpty();
+            }
+        }
+    }
+
+    record Claims(List<String> claims) {}
+}
@@ -0,0 +1,274 @@
+package ai.qa.solutions.execution.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import com.fasterxml.jackson.core.JsonParseException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("ProviderCircuitBreakerRegistry Tests")
+class ProviderCircuitBreakerRegistryTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final ProviderCircuitBreakerRegistry registry = ProviderCircuitBreakerRegistry.builder()
+            .modelToProvider(Map.of("gpt-4o", "openai", "gpt-4o-mini", "openai"))
+            .policy(CircuitBreakerPolicy.builder()
+                    .failureThreshold(3)
+                    .openDuration(Duration.ofSeconds(30))
+                    .halfOpenProbes(1)
+                    .build())
+            .clock(clock)
+            .build();
+
+    @Nested
+    @DisplayName("Closed Circuit")
+    class ClosedCircuit {
+
+        @Test
+        @DisplayName("Should open the provider's circuit after consecutive failures")
+        void shouldOpenAfterConsecutiveFailures() {
+            // When
+            fail("gpt-4o", 3);
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.OPEN);
+            assertThat(registry.getState("gpt-4o-mini")).isEqualTo(CircuitState.OPEN);
+            assertThat(registry.getState("claude")).isEqualTo(CircuitState.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should reset the failure count on success")
+        void shouldResetFailuresOnSuccess() {
+            // Given
+            fail("gpt-4o", 2);
+            registry.acquire("gpt-4o").onSuccess();
+
+            // When
+            fail("gpt-4o", 2);
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should not count cancelled calls, local rejections and parse errors")
+        void shouldIgnoreFailuresNotCausedByProvider() {
+            // When
+            registry.acquire("gpt-4o").onFailure(new CancellationException());
+            registry.acquire("gpt-4o").onFailure(new RuntimeException(new JsonParseException(null, "Bad JSON")));
+            registry.acquire("gpt-4o").onFailure(new CircuitOpenException("gpt-4o", "openai", Duration.ZERO, "open"));
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should not count client errors, local errors and expired deadlines")
+        void shouldIgnoreClientErrorsAndExpiredDeadlines() {
+            // When
+            registry.acquire("gpt-4o").onFailure(new NonTransientAiException("400 - Bad request"));
+            registry.acquire("gpt-4o").onFailure(new NonTransientAiException("429 - Rate limit reached"));
+            registry.acquire("gpt-4o").onFailure(new IllegalStateException("No client for gpt-4o"));
+            registry.acquire("gpt-4o").onFailure(new RateLimitExceededException("gpt-4o", "openai", "Rate limited"));
+            registry.acquire("gpt-4o")
+                    .onFailure(new ModelCallTimeoutException(
+                            "gpt-4o", Duration.ofSeconds(30), "Evaluation deadline of PT30S expired", true));
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Should count connection errors and calls exceeding their own timeout")
+        void shouldCountConnectionErrorsAndCallTimeouts() {
+            // When
+            registry.acquire("gpt-4o").onFailure(new ResourceAccessException("I/O error", new IOException("reset")));
+            registry.acquire("gpt-4o")
+                    .onFailure(new ModelCallTimeoutException("gpt-4o", Duration.ofSeconds(5), "Timed out"));
+            registry.acquire("gpt-4o").onFailure(new TransientAiException("503 - Service unavailable"));
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.OPEN);
+        }
+
+        @Test
+        @DisplayName("Should count only the first outcome reported for a call")
+        void shouldCountFirstOutcomeOnly() {
+            // Given
+            final ProviderCircuitBreakerRegistry.Permission permission = registry.acquire("gpt-4o");
+
+            // When
+            permission.onFailure(new TransientAiException("500 - Server error"));
+            permission.onFailure(new TransientAiException("500 - Server error"));
+            permission.onFailure(new TransientAiException("500 - Server error"));
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Open Circuit")
+    class OpenCircuit {
+
+        @Test
+        @DisplayName("Should reject calls with the remaining open time")
+        void shouldRejectCalls() {
+            // Given
+            fail("gpt-4o", 3);
+            clock.advance(Duration.ofSeconds(10));
+
+            // When / Then
+            assertThatThrownBy(() -> registry.acquire("gpt-4o-mini"))
+                    .isInstanceOf(CircuitOpenException.class)
+                    .satisfies(e -> {
+                        final CircuitOpenException open = (CircuitOpenException) e;
+                        assertThat(open.getModelId()).isEqualTo("gpt-4o-mini");
+                        assertThat(open.getProviderName()).isEqualTo("openai");
+                        assertThat(open.getRetryAfter()).isEqualTo(Duration.ofSeconds(20));
+                    });
+            assertThat(registry.getRejectedCallCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore late outcomes of calls sent before the circuit opened")
+        void shouldIgnoreLateOutcomes() {
+            // Given
+            final ProviderCircuitBreakerRegistry.Permission late = registry.acquire("gpt-4o");
+            fail("gpt-4o", 3);
+
+            // When
+            late.onSuccess();
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.OPEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Half-Open Circuit")
+    class HalfOpenCircuit {
+
+        @Test
+        @DisplayName("Should let a limited number of probes through after the open duration")
+        void shouldLimitProbes() {
+            // Given
+            fail("gpt-4o", 3);
+            clock.advance(Duration.ofSeconds(30));
+
+            // When
+            final ProviderCircuitBreakerRegistry.Permission probe = registry.acquire("gpt-4o");
+
+            // Then
+            assertThat(probe.isProbe()).isTrue();
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.HALF_OPEN);
+            assertThatThrownBy(() -> registry.acquire("gpt-4o-mini"))
+                    .isInstanceOf(CircuitOpenException.class)
+                    .satisfies(e -> assertThat(((CircuitOpenException) e).getRetryAfter())
+                            .isZero());
+        }
+
+        @Test
+        @DisplayName("Should close the circuit when the probe succeeds")
+        void shouldCloseOnProbeSuccess() {
+            // Given
+            fail("gpt-4o", 3);
+            clock.advance(Duration.ofSeconds(30));
+
+            // When
+            registry.acquire("gpt-4o").onSuccess();
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.CLOSED);
+            assertThat(registry.acquire("gpt-4o").isProbe()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should open the circuit again when the probe fails")
+        void shouldReopenOnProbeFailure() {
+            // Given
+            fail("gpt-4o", 3);
+            clock.advance(Duration.ofSeconds(30));
+
+            // When
+            registry.acquire("gpt-4o").onFailure(new TransientAiException("500 - Server error"));
+
+            // Then
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.OPEN);
+            clock.advance(Duration.ofSeconds(29));
+            assertThat(registry.getState("gpt-4o")).isEqualTo(CircuitState.OPEN);
+        }
+
+        @Test
+        @DisplayName("Should free the probe slot when the probe is cancelled")
+        void shouldFreeProbeSlotOnCancellation() {
+            // Given
+            fail("gpt-4o", 3);
+            clock.advance(Duration.ofSeconds(30));
+
+            // When
+            registry.acquire("gpt-4o").onFailure(new CancellationException());
+
+            // Then
+            assertThat(registry.acquire("gpt-4o").isProbe()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid policies")
+    void shouldRejectInvalidPolicies() {
+        assertThatThrownBy(() -> CircuitBreakerPolicy.builder().failureThreshold(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() ->
+                        CircuitBreakerPolicy.builder().openDuration(Duration.ZERO).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CircuitBreakerPolicy.builder().halfOpenProbes(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void fail(final String modelId, final int times) {
+        for (int i = 0; i < times; i++) {
+            registry.acquire(modelId).onFailure(new TransientAiException("500 - Server error"));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
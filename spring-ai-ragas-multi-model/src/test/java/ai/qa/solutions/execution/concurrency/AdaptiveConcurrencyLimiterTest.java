@@ -0,0 +1,327 @@
+package ai.qa.solutions.execution.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration LATENCY = Duration.ofSeconds(1);
+
+    private static final NonTransientAiException RATE_LIMITED = new NonTransientAiException("429 - Rate limit reached");
+
+    @Nested
+    @DisplayName("Slots")
+    class Slots {
+
+        @Test
+        @DisplayName("Should queue calls above the limit and admit them as slots free up")
+        void shouldQueueCallsAboveLimit() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(2);
+            final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> first = limiter.acquire("gpt-4o");
+            final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> second = limiter.acquire("gpt-4o-mini");
+
+            // When
+            final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> third = limiter.acquire("gpt-4o");
+
+            // Then
+            assertThat(first).isDone();
+            assertThat(second).isDone();
+            assertThat(third).isNotDone();
+            assertThat(limiter.getInFlight("gpt-4o")).isEqualTo(2);
+            assertThat(limiter.getSnapshots())
+                    .singleElement()
+                    .satisfies(snapshot -> {
+                        assertThat(snapshot.providerName()).isEqualTo("openai");
+                        assertThat(snapshot.waiting()).isEqualTo(1);
+                    });
+
+            // When
+            first.join().release();
+
+            // Then
+            assertThat(third).isDone();
+            assertThat(limiter.getInFlight("gpt-4o")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep separate limits per provider")
+        void shouldKeepSeparateLimitsPerProvider() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(1);
+            limiter.acquire("gpt-4o");
+
+            // When / Then
+            assertThat(limiter.acquire("claude")).isDone();
+            assertThat(limiter.acquire("gpt-4o-mini")).isNotDone();
+        }
+
+        @Test
+        @DisplayName("Should reject calls that wait longer than the max wait")
+        void shouldRejectAfterMaxWait() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                    .policy(AdaptiveConcurrencyPolicy.builder()
+                            .initialLimit(1)
+                            .maxWait(Duration.ofMillis(10))
+                            .build())
+                    .build();
+            limiter.acquire("gpt-4o");
+
+            // When
+            final CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = limiter.acquire("gpt-4o");
+
+            // Then
+            assertThatThrownBy(waiting::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RateLimitExceededException.class);
+            assertThat(limiter.getRejectedCallCount()).isEqualTo(1);
+            assertThat(limiter.getSnapshots())
+                    .singleElement()
+                    .satisfies(snapshot -> {
+                        assertThat(snapshot.waiting()).isZero();
+                        assertThat(snapshot.rejected()).isEqualTo(1);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit Adjustment")
+    class LimitAdjustment {
+
+        @Test
+        @DisplayName("Should grow the limit while healthy calls use it")
+        void shouldGrowLimitOnHealthyCalls() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(4);
+            final List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> calls = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                calls.add(limiter.acquire("gpt-4o"));
+            }
+
+            // When
+            calls.forEach(call -> call.join().onSuccess(LATENCY));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit while it is not used")
+        void shouldNotGrowUnusedLimit() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+            // When
+            for (int i = 0; i < 20; i++) {
+                limiter.acquire("gpt-4o").join().onSuccess(LATENCY);
+            }
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit while latency rises")
+        void shouldShrinkLimitOnQueueing() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(4);
+            acquireAll(limiter, "gpt-4o", 4).forEach(permit -> permit.onSuccess(LATENCY));
+
+            // When
+            acquireAll(limiter, "gpt-4o", 4).forEach(permit -> permit.onSuccess(LATENCY.multipliedBy(3)));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should cut the limit once per window on rate limits and timeouts")
+        void shouldCutLimitOncePerWindow() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(8);
+            final List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(limiter, "gpt-4o", 8);
+
+            // When
+            permits.forEach(permit -> permit.onFailure(RATE_LIMITED));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(4);
+            assertThat(limiter.getSnapshots().get(0).limitDecreases()).isEqualTo(1);
+            assertThat(limiter.getInFlight("gpt-4o")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not cut the limit on failures that do not signal overload")
+        void shouldIgnoreOtherFailures() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+            // When
+            limiter.acquire("gpt-4o").join().onFailure(new NonTransientAiException("400 - Invalid request"));
+            limiter.acquire("gpt-4o").join().onFailure(new RuntimeException("Model error"));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Should cut the limit on call timeouts but not on expired evaluation deadlines")
+        void shouldIgnoreExpiredDeadlines() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+            // When
+            limiter.acquire("gpt-4o")
+                    .join()
+                    .onFailure(new CompletionException(new ModelCallTimeoutException(
+                            "gpt-4o", Duration.ofSeconds(30), "Evaluation deadline of PT30S expired", true)));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(8);
+            assertThat(limiter.getInFlight("gpt-4o")).isZero();
+
+            // When
+            limiter.acquire("gpt-4o")
+                    .join()
+                    .onFailure(new ModelCallTimeoutException("gpt-4o", Duration.ofSeconds(5), "Timed out"));
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should count only the first outcome reported for a call")
+        void shouldCountFirstOutcomeOnly() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(8);
+            final AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire("gpt-4o").join();
+
+            // When
+            permit.release();
+            permit.onFailure(RATE_LIMITED);
+
+            // Then
+            assertThat(limiter.getLimit("gpt-4o")).isEqualTo(8);
+            assertThat(limiter.getInFlight("gpt-4o")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Simulation")
+    class Simulation {
+
+        @Test
+        @DisplayName("Should follow a provider whose capacity changes over time")
+        void shouldTrackVaryingCapacity() {
+            // Given
+            final AdaptiveConcurrencyLimiter limiter = limiter(10);
+            final SyntheticProvider provider = new SyntheticProvider(limiter, "gpt-4o", 200);
+
+            // When / Then
+            final Phase busy = provider.run(20, 60);
+            assertThat(busy.finalLimit()).isBetween(10, 21);
+            assertThat(busy.tailSuccessesPerRound()).isGreaterThanOrEqualTo(10.0);
+
+            final Phase degraded = provider.run(6, 60);
+            assertThat(degraded.finalLimit()).isBetween(3, 7);
+            assertThat(degraded.tailSuccessesPerRound()).isGreaterThanOrEqualTo(3.0);
+
+            final Phase recovered = provider.run(40, 100);
+            assertThat(recovered.finalLimit()).isBetween(20, 41);
+            assertThat(recovered.tailSuccessesPerRound()).isGreaterThanOrEqualTo(20.0);
+
+            assertThat(provider.rateLimited()).isLessThan(provider.succeeded() / 20);
+            assertThat(limiter.getRejectedCallCount()).isZero();
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(final int initialLimit) {
+        return AdaptiveConcurrencyLimiter.builder()
+                .modelToProvider(Map.of("gpt-4o", "openai", "gpt-4o-mini", "openai"))
+                .policy(AdaptiveConcurrencyPolicy.builder()
+                        .initialLimit(initialLimit)
+                        .build())
+                .build();
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquireAll(
+            final AdaptiveConcurrencyLimiter limiter, final String modelId, final int count) {
+        final List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire(modelId).join());
+        }
+        return permits;
+    }
+
+    private record Phase(int finalLimit, double tailSuccessesPerRound) {}
+
+    /**
+     * Provider serving calls in rounds: of the calls in flight in a round, as many as its current
+     * capacity succeed and the rest are rejected with HTTP 429. Callers keep a fixed backlog of
+     * calls waiting for the limiter, so the provider is always offered more than it can take.
+     */
+    private static final class SyntheticProvider {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final String modelId;
+        private final int backlog;
+        private final List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> calls = new ArrayList<>();
+        private long succeeded;
+        private long rateLimited;
+
+        private SyntheticProvider(final AdaptiveConcurrencyLimiter limiter, final String modelId, final int backlog) {
+            this.limiter = limiter;
+            this.modelId = modelId;
+            this.backlog = backlog;
+        }
+
+        Phase run(final int capacity, final int rounds) {
+            final int tail = rounds / 3;
+            long tailSuccesses = 0;
+            for (int round = 0; round < rounds; round++) {
+                while (calls.size() < backlog) {
+                    calls.add(limiter.acquire(modelId));
+                }
+                final List<AdaptiveConcurrencyLimiter.Permit> inFlight = new ArrayList<>();
+                calls.removeIf(call -> call.isDone() && inFlight.add(call.join()));
+                final int served = Math.min(capacity, inFlight.size());
+                for (int i = 0; i < inFlight.size(); i++) {
+                    if (i < served) {
+                        inFlight.get(i).onSuccess(LATENCY);
+                    } else {
+                        inFlight.get(i).onFailure(RATE_LIMITED);
+                    }
+                }
+                succeeded += served;
+                rateLimited += inFlight.size() - served;
+                if (round >= rounds - tail) {
+                    tailSuccesses += served;
+                }
+            }
+            return new Phase(limiter.getLimit(modelId), (double) tailSuccesses / tail);
+        }
+
+        long succeeded() {
+            return succeeded;
+        }
+
+        long rateLimited() {
+            return rateLimited;
+        }
+    }
+}
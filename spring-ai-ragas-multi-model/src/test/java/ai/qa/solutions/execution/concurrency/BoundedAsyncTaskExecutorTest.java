@@ -0,0 +1,207 @@
+package ai.qa.solutions.execution.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ai.qa.solutions.chatclient.ChatClientStore;
+import ai.qa.solutions.execution.ModelResult;
+import ai.qa.solutions.execution.MultiModelExecutor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@DisplayName("BoundedAsyncTaskExecutor Tests")
+class BoundedAsyncTaskExecutorTest {
+
+    @Nested
+    @DisplayName("Bounding")
+    class Bounding {
+
+        @Test
+        @DisplayName("Should queue tasks above the limit without blocking the submitter")
+        void shouldQueueTasksWithoutBlocking() throws Exception {
+            // Given
+            final BoundedAsyncTaskExecutor executor = new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor(), 2);
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                tasks.add(executor.submitCompletable(() -> {
+                    release.await();
+                    return null;
+                }));
+            }
+
+            // Then
+            assertThat(executor.getActiveCount()).isEqualTo(2);
+            assertThat(executor.getQueueSize()).isEqualTo(3);
+
+            // When
+            release.countDown();
+
+            // Then
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            assertThat(executor.getQueueSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should never run more tasks at once than the limit")
+        void shouldNeverExceedLimit() throws Exception {
+            // Given
+            final BoundedAsyncTaskExecutor executor = new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor(), 3);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+
+            // When
+            final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                tasks.add(executor.submitCompletable(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(maxRunning.get()).isBetween(1, 3);
+        }
+
+        @Test
+        @DisplayName("Should start queued tasks in submission order")
+        void shouldStartQueuedTasksInOrder() throws Exception {
+            // Given
+            final BoundedAsyncTaskExecutor executor = new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor(), 1);
+            final List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+
+            // When
+            final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final int index = i;
+                tasks.add(executor.submitCompletable(() -> {
+                    started.add(index);
+                    return null;
+                }));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(started).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+
+        @Test
+        @DisplayName("Should accept a task submitted from the task holding the only slot")
+        void shouldAcceptTaskFromRunningTask() throws Exception {
+            // Given
+            final BoundedAsyncTaskExecutor executor = new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor(), 1);
+
+            // When
+            final CompletableFuture<String> outer = executor.submitCompletable(() -> {
+                final CompletableFuture<String> inner = executor.submitCompletable(() -> "inner");
+                // A blocking limit would park this thread here while it holds the only slot
+                assertThat(inner).isNotDone();
+                return "outer";
+            });
+
+            // Then
+            assertThat(outer.get(5, TimeUnit.SECONDS)).isEqualTo("outer");
+        }
+
+        @Test
+        @DisplayName("Should free the slot when the delegate rejects a task")
+        void shouldFreeSlotOnRejection() {
+            // Given
+            final BoundedAsyncTaskExecutor executor = new BoundedAsyncTaskExecutor(
+                    task -> {
+                        throw new IllegalStateException("rejected");
+                    },
+                    1);
+
+            // When / Then
+            assertThatThrownBy(() -> executor.execute(() -> {}))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("rejected");
+            assertThat(executor.getActiveCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject a limit below one")
+        void shouldRejectNonPositiveLimit() {
+            assertThatThrownBy(() -> new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor(), 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("concurrencyLimit must be positive");
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Call Chains")
+    class AsyncCallChains {
+
+        @Test
+        @DisplayName("Should complete chained LLM calls far beyond the limit")
+        void shouldCompleteChainsBeyondLimit() throws Exception {
+            // Given
+            final AtomicInteger calls = new AtomicInteger();
+            final AtomicInteger inFlight = new AtomicInteger();
+            final AtomicInteger maxInFlight = new AtomicInteger();
+            final ChatClient client = mock(ChatClient.class);
+            final ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            final ChatClient.CallResponseSpec callSpec = mock(ChatClient.CallResponseSpec.class);
+            when(client.prompt(any(String.class))).thenReturn(requestSpec);
+            when(requestSpec.call()).thenReturn(callSpec);
+            when(callSpec.entity(Verdict.class)).thenAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                    return new Verdict(calls.incrementAndGet());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+            final ChatClientStore chatClientStore = mock(ChatClientStore.class);
+            when(chatClientStore.call(eq("model-1"), any()))
+                    .thenAnswer(invocation -> invocation.<Function<ChatClient, Object>>getArgument(1)
+                            .apply(client));
+
+            final BoundedAsyncTaskExecutor metricExecutor =
+                    new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor("metric-"), 2);
+            final BoundedAsyncTaskExecutor httpExecutor =
+                    new BoundedAsyncTaskExecutor(new SimpleAsyncTaskExecutor("http-"), 2);
+            final MultiModelExecutor executor =
+                    new MultiModelExecutor(chatClientStore, null, metricExecutor, httpExecutor);
+
+            // When - each evaluation sends its second call from the continuation of the first
+            final List<CompletableFuture<ModelResult<Verdict>>> evaluations = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String prompt = "Evaluate sample " + i;
+                evaluations.add(executor.executeLlmOnModelAsync("model-1", prompt, Verdict.class)
+                        .thenCompose(first ->
+                                executor.executeLlmOnModelAsync("model-1", prompt + " again", Verdict.class)));
+            }
+            CompletableFuture.allOf(evaluations.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(evaluations).allMatch(evaluation -> evaluation.join().isSuccess());
+            assertThat(calls.get()).isEqualTo(200);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    record Verdict(int id) {}
+}
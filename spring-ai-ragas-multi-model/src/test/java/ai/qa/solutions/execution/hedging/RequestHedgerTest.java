@@ -0,0 +1,193 @@
+package ai.qa.solutions.execution.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.qa.solutions.execution.ModelResult;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+
+    private static final String MODEL = "model-1";
+
+    @Nested
+    @DisplayName("Hedging")
+    class Hedging {
+
+        @Test
+        @DisplayName("Should not hedge before the model has enough latency samples")
+        void shouldNotHedgeWithoutSamples() {
+            final RequestHedger hedger = hedger(1.0);
+            final AtomicInteger attempts = new AtomicInteger();
+
+            final ModelResult<String> result = hedger.execute(MODEL, (hedge, cancellation, sent) -> {
+                        attempts.incrementAndGet();
+                        return sentNow(sent, slow(success("slow", 200), 200));
+                    })
+                    .join();
+
+            assertThat(result.result()).isEqualTo("slow");
+            assertThat(attempts).hasValue(1);
+            assertThat(hedger.getHedgeCount()).isZero();
+            assertThat(hedger.hedgeDelay(MODEL)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should send a hedge for a slow call and use the first response")
+        void shouldUseHedgeWhenItAnswersFirst() {
+            final RequestHedger hedger = hedger(1.0);
+            warmUp(hedger, 10);
+            final CompletableFuture<Void> primaryCancellation = new CompletableFuture<>();
+
+            final ModelResult<String> result = hedger.execute(MODEL, (hedge, cancellation, sent) -> {
+                        if (hedge) {
+                            return CompletableFuture.completedFuture(success("hedge", 5));
+                        }
+                        cancellation.thenRun(() -> primaryCancellation.complete(null));
+                        return sentNow(sent, slow(success("primary", 2_000), 2_000));
+                    })
+                    .join();
+
+            assertThat(result.result()).isEqualTo("hedge");
+            assertThat(hedger.getHedgeCount()).isEqualTo(1);
+            assertThat(hedger.getHedgeWinCount()).isEqualTo(1);
+            assertThat(primaryCancellation).isDone();
+        }
+
+        @Test
+        @DisplayName("Should count the hedge delay from sending the request, not from a rate limit wait")
+        void shouldStartHedgeDelayWhenRequestIsSent() {
+            final RequestHedger hedger = hedger(1.0);
+            warmUp(hedger, 10);
+
+            // Waits 200ms for a rate limit token, then answers 20ms after sending the request
+            final ModelResult<String> result = hedger.execute(MODEL, (hedge, cancellation, sent) -> hedge
+                            ? CompletableFuture.completedFuture(success("hedge", 5))
+                            : CompletableFuture.runAsync(() -> {}, delayed(200))
+                                    .thenCompose(ignored -> sentNow(sent, slow(success("primary", 20), 20))))
+                    .join();
+
+            assertThat(result.result()).isEqualTo("primary");
+            assertThat(hedger.getHedgeCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep waiting for the original call when the hedge fails")
+        void shouldFallBackToPrimaryWhenHedgeFails() {
+            final RequestHedger hedger = hedger(1.0);
+            warmUp(hedger, 10);
+
+            final ModelResult<String> result = hedger.execute(MODEL, (hedge, cancellation, sent) -> hedge
+                            ? CompletableFuture.completedFuture(failure())
+                            : sentNow(sent, slow(success("primary", 300), 300)))
+                    .join();
+
+            assertThat(result.result()).isEqualTo("primary");
+            assertThat(hedger.getHedgeWinCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should return the original failure when both attempts fail")
+        void shouldReturnPrimaryFailureWhenBothFail() {
+            final RequestHedger hedger = hedger(1.0);
+            warmUp(hedger, 10);
+
+            final ModelResult<String> result = hedger.execute(MODEL, (hedge, cancellation, sent) -> hedge
+                            ? CompletableFuture.completedFuture(failure())
+                            : sentNow(sent, slow(failure(), 300)))
+                    .join();
+
+            assertThat(result.isFailure()).isTrue();
+            assertThat(hedger.getHedgeCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should cap hedges to the configured share of calls")
+        void shouldCapHedgesToMaxRatio() {
+            final RequestHedger hedger = hedger(0.1);
+            warmUp(hedger, 10);
+
+            for (int i = 0; i < 5; i++) {
+                hedger.execute(MODEL, (hedge, cancellation, sent) -> hedge
+                                ? CompletableFuture.completedFuture(success("hedge", 5))
+                                : sentNow(sent, slow(success("primary", 150), 150)))
+                        .join();
+            }
+
+            // 15 calls allow at most one hedge at a 10% ratio
+            assertThat(hedger.getCallCount()).isEqualTo(15);
+            assertThat(hedger.getHedgeCount()).isEqualTo(1);
+        }
+
+        private ModelResult<String> failure() {
+            return ModelResult.failure(MODEL, Duration.ofMillis(5), "prompt", new IllegalStateException("boom"));
+        }
+
+        private void warmUp(final RequestHedger hedger, final int calls) {
+            for (int i = 0; i < calls; i++) {
+                hedger.execute(MODEL, (hedge, cancellation, sent) -> sentNow(sent, success("ok", 10)))
+                        .join();
+            }
+            assertThat(hedger.hedgeDelay(MODEL)).isEqualTo(Duration.ofMillis(50));
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy Validation")
+    class PolicyValidation {
+
+        @Test
+        @DisplayName("Should reject percentiles outside (0, 1)")
+        void shouldRejectInvalidPercentile() {
+            assertThatThrownBy(() -> HedgingPolicy.builder().percentile(1.0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject hedge ratios outside (0, 1]")
+        void shouldRejectInvalidHedgeRatio() {
+            assertThatThrownBy(() -> HedgingPolicy.builder().maxHedgeRatio(0.0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static RequestHedger hedger(final double maxHedgeRatio) {
+        return new RequestHedger(HedgingPolicy.builder()
+                .percentile(0.9)
+                .minDelay(Duration.ofMillis(50))
+                .maxHedgeRatio(maxHedgeRatio)
+                .minSamples(10)
+                .build());
+    }
+
+    private static ModelResult<String> success(final String value, final long millis) {
+        return ModelResult.success(MODEL, value, Duration.ofMillis(millis), "prompt");
+    }
+
+    private static Executor delayed(final long millis) {
+        return CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS);
+    }
+
+    private static CompletableFuture<ModelResult<String>> slow(final ModelResult<String> result, final long millis) {
+        return CompletableFuture.supplyAsync(() -> result, delayed(millis));
+    }
+
+    private static CompletableFuture<ModelResult<String>> sentNow(
+            final CompletableFuture<Void> sent, final ModelResult<String> result) {
+        return sentNow(sent, CompletableFuture.completedFuture(result));
+    }
+
+    private static CompletableFuture<ModelResult<String>> sentNow(
+            final CompletableFuture<Void> sent, final CompletableFuture<ModelResult<String>> result) {
+        sent.complete(null);
+        return result;
+    }
+}
@@ -175,6 +175,44 @@ class StepResultsTest {
             assertThat(stepResults.getFailCount()).isEqualTo(1);
         }
 
+        @Test
+        @DisplayName("Should count cached results")
+        void shouldCountCachedResults() {
+            // Given
+            final StepResults stepResults = StepResults.builder()
+                    .stepName("Step")
+                    .stepIndex(0)
+                    .totalSteps(1)
+                    .results(List.of(
+                            ModelResult.fromCache("m1", "ok", Duration.ZERO, "req"),
+                            ModelResult.success("m2", "ok", DURATION_100MS, "req")))
+                    .stepType(StepType.LLM)
+                    .build();
+
+            // When/Then
+            assertThat(stepResults.getSuccessCount()).isEqualTo(2);
+            assertThat(stepResults.getCachedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count retried results and attempts")
+        void shouldCountRetriedResultsAndAttempts() {
+            // Given
+            final StepResults stepResults = StepResults.builder()
+                    .stepName("Step")
+                    .stepIndex(0)
+                    .totalSteps(1)
+                    .results(List.of(
+                            new ModelResult<>("m1", "ok", DURATION_300MS, "req", null, false, 3),
+                            ModelResult.success("m2", "ok", DURATION_100MS, "req")))
+                    .stepType(StepType.LLM)
+                    .build();
+
+            // When/Then
+            assertThat(stepResults.getRetriedCount()).isEqualTo(1);
+            assertThat(stepResults.getAttemptCount()).isEqualTo(4);
+        }
+
         @Test
         @DisplayName("Should return zero for empty results")
         void shouldReturnZeroForEmptyResults() {
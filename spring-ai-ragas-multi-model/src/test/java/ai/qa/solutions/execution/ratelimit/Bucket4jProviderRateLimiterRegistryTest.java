@@ -6,7 +6,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
@@ -163,6 +165,184 @@ class Bucket4jProviderRateLimiterRegistryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Async Acquisition")
+    class AsyncAcquisition {
+
+        @Test
+        @DisplayName("Should complete immediately when bucket has capacity")
+        void shouldCompleteImmediatelyWhenBucketHasCapacity() {
+            // Given
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(10, RateLimitStrategy.WAIT, Duration.ZERO)))) {
+
+                // When
+                final CompletableFuture<Void> future = registry.acquireAsync("model-a");
+
+                // Then
+                assertThat(future).isCompleted();
+            }
+        }
+
+        @Test
+        @DisplayName("Should complete on scheduler after refill without blocking caller")
+        void shouldCompleteAfterRefillWithoutBlockingCaller() {
+            // Given - RPS=1, WAIT with infinite timeout
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(1, RateLimitStrategy.WAIT, Duration.ZERO)))) {
+                registry.acquire("model-a");
+
+                // When - the bucket is empty
+                final long startMs = System.currentTimeMillis();
+                final CompletableFuture<Void> future = registry.acquireAsync("model-a");
+                final long returnedAfterMs = System.currentTimeMillis() - startMs;
+
+                // Then - the call returns at once and the token is granted after the refill
+                assertThat(returnedAfterMs).isLessThan(500);
+                assertThat(future).isNotDone();
+                assertThat(future).succeedsWithin(Duration.ofSeconds(3));
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail when wait timeout cannot be satisfied")
+        void shouldFailWhenWaitTimeoutCannotBeSatisfied() {
+            // Given - RPS=1, WAIT with 50ms timeout
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(1, RateLimitStrategy.WAIT, Duration.ofMillis(50))))) {
+                registry.acquire("model-a");
+
+                // When / Then
+                assertThat(registry.acquireAsync("model-a"))
+                        .failsWithin(Duration.ofSeconds(1))
+                        .withThrowableOfType(ExecutionException.class)
+                        .withCauseInstanceOf(RateLimitExceededException.class)
+                        .withMessageContaining("timeout");
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail immediately for reject strategy when bucket exhausted")
+        void shouldFailImmediatelyForRejectStrategy() {
+            // Given - RPS=1, REJECT strategy
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(1, RateLimitStrategy.REJECT, Duration.ZERO)))) {
+                registry.acquire("model-a");
+
+                // When
+                final CompletableFuture<Void> future = registry.acquireAsync("model-a");
+
+                // Then
+                assertThat(future).isCompletedExceptionally();
+                assertThatThrownBy(future::join).hasCauseInstanceOf(RateLimitExceededException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("Should complete immediately when model not registered")
+        void shouldCompleteImmediatelyWhenModelNotRegistered() {
+            // Given
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(1, RateLimitStrategy.REJECT, Duration.ZERO)))) {
+
+                // When / Then
+                assertThat(registry.acquireAsync("unknown-model")).isCompleted();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Token Budget")
+    class TokenBudget {
+
+        @Test
+        @DisplayName("Should reject when estimated tokens exceed remaining budget")
+        void shouldRejectWhenEstimatedTokensExceedBudget() {
+            // Given - high RPS, 100 tokens per minute, REJECT strategy
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(100, 100, RateLimitStrategy.REJECT, Duration.ZERO)))) {
+
+                // When / Then - RPS still has capacity, the token budget does not
+                assertThat(registry.acquireAsync("model-a", 60)).isCompleted();
+                assertThatThrownBy(() -> registry.acquireAsync("model-a", 60).join())
+                        .hasCauseInstanceOf(RateLimitExceededException.class)
+                        .hasMessageContaining("Token rate limit exceeded");
+            }
+        }
+
+        @Test
+        @DisplayName("Should return unused tokens on reconciliation")
+        void shouldReturnUnusedTokensOnReconciliation() {
+            // Given
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(100, 100, RateLimitStrategy.REJECT, Duration.ZERO)))) {
+                registry.acquireAsync("model-a", 80).join();
+
+                // When - the call actually used 30 tokens
+                registry.reconcile("model-a", 80, 30);
+
+                // Then - 70 tokens are available again
+                assertThat(registry.acquireAsync("model-a", 60)).isCompleted();
+            }
+        }
+
+        @Test
+        @DisplayName("Should charge excess usage as debt on reconciliation")
+        void shouldChargeExcessUsageAsDebt() {
+            // Given
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1"),
+                    Map.of("provider-1", new RateLimitConfig(100, 100, RateLimitStrategy.REJECT, Duration.ZERO)))) {
+                registry.acquireAsync("model-a", 50).join();
+
+                // When - the call actually used 150 tokens
+                registry.reconcile("model-a", 50, 150);
+
+                // Then - the budget is in debt
+                assertThat(registry.acquireAsync("model-a", 10)).isCompletedExceptionally();
+            }
+        }
+
+        @Test
+        @DisplayName("Should support token budget without request limit")
+        void shouldSupportTokenBudgetWithoutRequestLimit() {
+            // Given - TPM only
+            try (var registry = new Bucket4jProviderRateLimiterRegistry(
+                    Map.of("model-a", "provider-1", "model-b", "provider-2"),
+                    Map.of(
+                            "provider-1", new RateLimitConfig(0, 1000, RateLimitStrategy.REJECT, Duration.ZERO),
+                            "provider-2", RateLimitConfig.withDefaults(1)))) {
+
+                // When / Then - requests are not counted, tokens are
+                for (int i = 0; i < 10; i++) {
+                    assertThatCode(() -> registry.acquire("model-a")).doesNotThrowAnyException();
+                    assertThat(registry.acquireAsync("model-a", 10)).isCompleted();
+                }
+                assertThat(registry.isTokenLimited("model-a")).isTrue();
+                assertThat(registry.isTokenLimited("model-b")).isFalse();
+                assertThat(registry.isTokenLimited("unknown-model")).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("Should require either a request limit or a token budget")
+        void shouldRequireEitherRequestLimitOrTokenBudget() {
+            assertThatThrownBy(() -> new RateLimitConfig(0, 0, RateLimitStrategy.WAIT, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rps must be positive");
+            assertThatThrownBy(() -> new RateLimitConfig(1, -1, RateLimitStrategy.WAIT, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("tpm");
+        }
+    }
+
     @Nested
     @DisplayName("Provider Isolation")
     class ProviderIsolation {
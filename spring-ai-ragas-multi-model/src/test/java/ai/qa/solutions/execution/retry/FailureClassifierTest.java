@@ -0,0 +1,176 @@
+package ai.qa.solutions.execution.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.qa.solutions.execution.circuit.CircuitOpenException;
+import ai.qa.solutions.execution.ratelimit.RateLimitExceededException;
+import ai.qa.solutions.execution.timeout.ModelCallTimeoutException;
+import com.fasterxml.jackson.core.JsonParseException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@DisplayName("FailureClassifier Tests")
+class FailureClassifierTest {
+
+    @Nested
+    @DisplayName("Classification")
+    class Classification {
+
+        @Test
+        @DisplayName("Should classify HTTP errors by status code")
+        void shouldClassifyHttpErrors() {
+            assertThat(FailureClassifier.classify(httpError(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders())))
+                    .isEqualTo(FailureType.RATE_LIMITED);
+            assertThat(FailureClassifier.classify(
+                            HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null)))
+                    .isEqualTo(FailureType.SERVER_ERROR);
+            assertThat(FailureClassifier.classify(httpError(HttpStatus.REQUEST_TIMEOUT, null)))
+                    .isEqualTo(FailureType.TIMEOUT);
+            assertThat(FailureClassifier.classify(httpError(HttpStatus.BAD_REQUEST, null)))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+        }
+
+        @Test
+        @DisplayName("Should classify Spring AI errors")
+        void shouldClassifySpringAiErrors() {
+            assertThat(FailureClassifier.classify(new NonTransientAiException("429 - Rate limit reached")))
+                    .isEqualTo(FailureType.RATE_LIMITED);
+            assertThat(FailureClassifier.classify(new NonTransientAiException("401 - Invalid API key")))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+            assertThat(FailureClassifier.classify(new TransientAiException("503 - Overloaded")))
+                    .isEqualTo(FailureType.SERVER_ERROR);
+        }
+
+        @Test
+        @DisplayName("Should read the status of transient Spring AI errors")
+        void shouldReadStatusOfTransientErrors() {
+            // 429 and 408 become transient through spring.ai.retry.on-http-codes
+            assertThat(FailureClassifier.classify(new TransientAiException("429 - Rate limit reached")))
+                    .isEqualTo(FailureType.RATE_LIMITED);
+            assertThat(FailureClassifier.classify(new TransientAiException("408 - Request timeout")))
+                    .isEqualTo(FailureType.TIMEOUT);
+            assertThat(FailureClassifier.classify(new TransientAiException("400 - Bad request")))
+                    .isEqualTo(FailureType.SERVER_ERROR);
+            assertThat(FailureClassifier.classify(new TransientAiException("Connection reset")))
+                    .isEqualTo(FailureType.SERVER_ERROR);
+        }
+
+        @Test
+        @DisplayName("Should tell timeouts from other connection errors")
+        void shouldClassifyConnectionErrors() {
+            assertThat(FailureClassifier.classify(
+                            new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"))))
+                    .isEqualTo(FailureType.TIMEOUT);
+            assertThat(FailureClassifier.classify(
+                            new ResourceAccessException("I/O error", new ConnectException("Connection refused"))))
+                    .isEqualTo(FailureType.SERVER_ERROR);
+            assertThat(FailureClassifier.classify(
+                            new ModelCallTimeoutException("model-1", Duration.ofSeconds(1), "Timed out")))
+                    .isEqualTo(FailureType.TIMEOUT);
+        }
+
+        @Test
+        @DisplayName("Should classify unparseable responses as parse errors")
+        void shouldClassifyParseErrors() {
+            assertThat(FailureClassifier.classify(
+                            new RuntimeException(new JsonParseException(null, "Unexpected character"))))
+                    .isEqualTo(FailureType.PARSE_ERROR);
+        }
+
+        @Test
+        @DisplayName("Should never retry failures raised by the executor itself")
+        void shouldNotRetryOwnFailures() {
+            assertThat(FailureClassifier.classify(new CancellationException("Model cancelled")))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+            assertThat(FailureClassifier.classify(
+                            new RateLimitExceededException("model-1", "openai", "Rate limit exceeded")))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+            assertThat(FailureClassifier.classify(
+                            new CircuitOpenException("model-1", "openai", Duration.ZERO, "Circuit open")))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+            assertThat(FailureClassifier.classify(new IllegalStateException("Not configured")))
+                    .isEqualTo(FailureType.NON_RETRYABLE);
+        }
+
+        @Test
+        @DisplayName("Should tell expired deadlines from call timeouts")
+        void shouldDetectExpiredDeadlines() {
+            assertThat(FailureClassifier.isDeadlineExpired(new CompletionException(new ModelCallTimeoutException(
+                            "model-1", Duration.ofSeconds(30), "Evaluation deadline expired", true))))
+                    .isTrue();
+            assertThat(FailureClassifier.isDeadlineExpired(
+                            new ModelCallTimeoutException("model-1", Duration.ofSeconds(1), "Timed out")))
+                    .isFalse();
+            assertThat(FailureClassifier.isDeadlineExpired(new TimeoutException()))
+                    .isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry-After")
+    class RetryAfter {
+
+        @Test
+        @DisplayName("Should read Retry-After in seconds")
+        void shouldReadRetryAfterSeconds() {
+            // Given
+            final HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+            // When / Then
+            assertThat(FailureClassifier.retryAfter(
+                            new RuntimeException(httpError(HttpStatus.TOO_MANY_REQUESTS, headers))))
+                    .contains(Duration.ofSeconds(7));
+        }
+
+        @Test
+        @DisplayName("Should prefer retry-after-ms")
+        void shouldPreferRetryAfterMillis() {
+            // Given
+            final HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "2");
+            headers.set("retry-after-ms", "1500");
+
+            // When / Then
+            assertThat(FailureClassifier.retryAfter(headers)).contains(Duration.ofMillis(1500));
+        }
+
+        @Test
+        @DisplayName("Should read Retry-After as an HTTP date")
+        void shouldReadRetryAfterDate() {
+            // Given
+            final HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+            // When / Then
+            assertThat(FailureClassifier.retryAfter(headers)).contains(Duration.ZERO);
+        }
+
+        @Test
+        @DisplayName("Should return empty without the header")
+        void shouldReturnEmptyWithoutHeader() {
+            assertThat(FailureClassifier.retryAfter(httpError(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders())))
+                    .isEmpty();
+            assertThat(FailureClassifier.retryAfter(new TransientAiException("503 - Overloaded")))
+                    .isEmpty();
+        }
+    }
+
+    private static HttpClientErrorException httpError(final HttpStatus status, final HttpHeaders headers) {
+        return HttpClientErrorException.create(status, status.getReasonPhrase(), headers, null, null);
+    }
+}
@@ -0,0 +1,75 @@
+package ai.qa.solutions.execution.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@DisplayName("RetryAfterPreservingErrorHandler Tests")
+class RetryAfterPreservingErrorHandlerTest {
+
+    private static final URI URL = URI.create("https://api.example.com/v1/chat/completions");
+
+    private final RetryAfterPreservingErrorHandler handler = new RetryAfterPreservingErrorHandler();
+
+    @Test
+    @DisplayName("Should keep Retry-After of a rate-limited response")
+    void shouldKeepRetryAfterOfRateLimitedResponse() {
+        // Given
+        final MockClientHttpResponse response = response(HttpStatus.TOO_MANY_REQUESTS, "Rate limit reached");
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "7");
+
+        // When / Then
+        assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+                .isInstanceOf(NonTransientAiException.class)
+                .hasMessage("429 - Rate limit reached")
+                .satisfies(error -> {
+                    assertThat(FailureClassifier.classify(error)).isEqualTo(FailureType.RATE_LIMITED);
+                    assertThat(FailureClassifier.retryAfter(error)).contains(Duration.ofSeconds(7));
+                });
+    }
+
+    @Test
+    @DisplayName("Should keep retry-after-ms of a server error")
+    void shouldKeepRetryAfterOfServerError() {
+        // Given
+        final MockClientHttpResponse response = response(HttpStatus.SERVICE_UNAVAILABLE, "Overloaded");
+        response.getHeaders().set("retry-after-ms", "1500");
+
+        // When / Then
+        assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+                .isInstanceOf(TransientAiException.class)
+                .hasMessage("503 - Overloaded")
+                .satisfies(error -> {
+                    assertThat(FailureClassifier.classify(error)).isEqualTo(FailureType.SERVER_ERROR);
+                    assertThat(FailureClassifier.retryAfter(error)).contains(Duration.ofMillis(1500));
+                });
+    }
+
+    @Test
+    @DisplayName("Should throw the delegate's exception unchanged without a hint")
+    void shouldThrowUnchangedWithoutHint() {
+        // Given
+        final MockClientHttpResponse response = response(HttpStatus.UNAUTHORIZED, "Invalid API key");
+
+        // When / Then
+        assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+                .isInstanceOf(NonTransientAiException.class)
+                .hasMessage("401 - Invalid API key")
+                .hasNoCause();
+    }
+
+    private static MockClientHttpResponse response(final HttpStatus status, final String body) {
+        return new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+    }
+}
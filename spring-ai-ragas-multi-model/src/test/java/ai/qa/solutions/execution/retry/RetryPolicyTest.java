@@ -0,0 +1,77 @@
+package ai.qa.solutions.execution.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RetryPolicy Tests")
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("Should grow the backoff exponentially up to the max backoff")
+    void shouldGrowBackoffExponentially() {
+        // Given
+        final RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(500))
+                .multiplier(2.0)
+                .jitter(0.0)
+                .build();
+
+        // When / Then
+        assertThat(policy.backoff(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(policy.backoff(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(policy.backoff(3)).isEqualTo(Duration.ofMillis(400));
+        assertThat(policy.backoff(4)).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("Should randomize the jittered share of the backoff")
+    void shouldApplyJitter() {
+        // Given
+        final RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(1000))
+                .jitter(0.5)
+                .build();
+
+        // When / Then
+        assertThat(policy.backoff(1, 0.0)).isEqualTo(Duration.ofMillis(1000));
+        assertThat(policy.backoff(1, 0.5)).isEqualTo(Duration.ofMillis(750));
+        assertThat(policy.backoff(1)).isBetween(Duration.ofMillis(500), Duration.ofMillis(1000));
+    }
+
+    @Test
+    @DisplayName("Should retry rate limits, server errors and timeouts by default")
+    void shouldUseDefaultRetryableTypes() {
+        // When
+        final RetryPolicy policy = RetryPolicy.builder().build();
+
+        // Then
+        assertThat(policy.getRetryOn())
+                .containsExactlyInAnyOrder(FailureType.RATE_LIMITED, FailureType.SERVER_ERROR, FailureType.TIMEOUT);
+        assertThat(policy.isRetryable(FailureType.PARSE_ERROR)).isFalse();
+        assertThat(policy.isRepairParseErrors()).isFalse();
+        assertThat(RetryPolicy.builder().retryOn(Set.of()).build().isRetryable(FailureType.TIMEOUT))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid values")
+    void shouldRejectInvalidValues() {
+        assertThatThrownBy(() -> RetryPolicy.builder().maxAttempts(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder()
+                        .initialBackoff(Duration.ofSeconds(5))
+                        .maxBackoff(Duration.ofSeconds(1))
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().multiplier(0.5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().jitter(1.5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
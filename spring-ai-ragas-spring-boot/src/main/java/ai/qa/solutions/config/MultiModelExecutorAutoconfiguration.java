@@ -3,14 +3,34 @@ package ai.qa.solutions.config;
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.batching.EmbeddingBatchPolicy;
+import ai.qa.solutions.execution.batching.EmbeddingMicroBatcher;
+import ai.qa.solutions.execution.cache.EmbeddingCache;
+import ai.qa.solutions.execution.cache.LlmResponseCache;
+import ai.qa.solutions.execution.cache.ReferenceArtifactStore;
+import ai.qa.solutions.execution.circuit.ProviderCircuitBreakerRegistry;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyLimiter;
+import ai.qa.solutions.execution.concurrency.BoundedAsyncTaskExecutor;
+import ai.qa.solutions.execution.hedging.HedgingPolicy;
 import ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry;
+import ai.qa.solutions.execution.retry.RetryPolicy;
+import ai.qa.solutions.execution.timeout.ExecutionTimeouts;
+import ai.qa.solutions.properties.MultiProviderProperties;
+import ai.qa.solutions.properties.RagasMetricsProperties;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
@@ -25,9 +45,40 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  * <b>Note:</b> The executor is now stateless - all listeners should be registered
  * at the metric level.
  * <p>
+ * <b>Virtual Threads:</b> With {@code spring.ai.ragas.metrics.executor.virtual-threads=true}
+ * both executors run every task on its own virtual thread (Java 21+). Concurrency is then
+ * bounded by the configured concurrency limits and the {@link ProviderRateLimiterRegistry}
+ * instead of by pool and queue sizes. On older runtimes the thread pools are used.
+ * <p>
+ * <b>Response Cache:</b> With {@code spring.ai.ragas.metrics.cache.enabled=true} identical
+ * LLM requests are answered from an {@link LlmResponseCache} instead of calling the model.
+ * <p>
+ * <b>Reference Artifacts:</b> With {@code spring.ai.ragas.metrics.reference-cache.enabled=true}
+ * claims, statements and entities extracted from sample references are kept in a
+ * {@link ReferenceArtifactStore}, so a fixed golden set is decomposed once per model across runs.
+ * <p>
+ * <b>Timeouts:</b> {@code spring.ai.ragas.metrics.timeouts} limits single model calls and whole
+ * metric evaluations. Calls exceeding their limit are cancelled and the model is excluded.
+ * <p>
+ * <b>Hedging:</b> With {@code spring.ai.ragas.metrics.hedging.enabled=true} an LLM call slower
+ * than the model's latency percentile is duplicated, preferably on another client of the model,
+ * and the first response is used.
+ * <p>
+ * <b>Retries:</b> With {@code spring.ai.ragas.metrics.retry.enabled=true} LLM calls failing with
+ * a rate limit, server error or timeout are retried with exponential backoff and jitter.
+ * <p>
+ * <b>Circuit Breakers:</b> With {@code spring.ai.ragas.providers.circuit-breaker.enabled=true}
+ * calls to a provider that keeps failing are rejected without being sent, until probe calls
+ * show that it has recovered.
+ * <p>
+ * <b>Adaptive Concurrency:</b> With {@code spring.ai.ragas.providers.adaptive-concurrency.enabled=true}
+ * calls in flight to each provider are capped by a limit that grows while the provider keeps up
+ * and is cut when it answers with rate limits or timeouts.
+ * <p>
  * <b>Conditional Activation:</b> This configuration is only active when
  * {@code org.springframework.ai.chat.client.ChatClient} is available on the classpath.
  */
+@Slf4j
 @ConditionalOnClass(ChatClient.class)
 @AutoConfiguration(after = MultiProviderAutoConfiguration.class)
 @ConditionalOnProperty(
@@ -35,8 +86,19 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
         name = "enabled",
         havingValue = "true",
         matchIfMissing = true)
+@EnableConfigurationProperties(RagasMetricsProperties.class)
 public class MultiModelExecutorAutoconfiguration {
 
+    /**
+     * First Java feature release with virtual threads.
+     */
+    static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    /**
+     * Maximum time to wait for running tasks of a virtual-thread executor on shutdown.
+     */
+    private static final long VIRTUAL_THREADS_TERMINATION_TIMEOUT_MS = 120_000L;
+
     /**
      * Creates a task executor for RAGAS metric-level operations.
      * <p>
@@ -46,10 +108,15 @@ public class MultiModelExecutorAutoconfiguration {
      * <p>
      * Configure this pool based on how many metrics you want to evaluate in parallel.
      *
+     * @param properties metrics configuration properties
      * @return a configured task executor for metric operations
      */
     @Bean(name = "ragasMetricExecutor")
-    public AsyncTaskExecutor ragasMetricExecutor() {
+    public AsyncTaskExecutor ragasMetricExecutor(final RagasMetricsProperties properties) {
+        final RagasMetricsProperties.Executor executorProperties = properties.getExecutor();
+        if (useVirtualThreads(executorProperties)) {
+            return createVirtualThreadExecutor("ragas-metric-", executorProperties.getMetricConcurrencyLimit());
+        }
         final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(32);
@@ -71,10 +138,15 @@ public class MultiModelExecutorAutoconfiguration {
      * Configure this pool based on how many concurrent LLM API requests
      * your infrastructure can handle.
      *
+     * @param properties metrics configuration properties
      * @return a configured task executor for HTTP operations
      */
     @Bean(name = "ragasHttpExecutor")
-    public AsyncTaskExecutor ragasHttpExecutor() {
+    public AsyncTaskExecutor ragasHttpExecutor(final RagasMetricsProperties properties) {
+        final RagasMetricsProperties.Executor executorProperties = properties.getExecutor();
+        if (useVirtualThreads(executorProperties)) {
+            return createVirtualThreadExecutor("ragas-http-", executorProperties.getHttpConcurrencyLimit());
+        }
         final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(8);
         executor.setMaxPoolSize(64);
@@ -86,6 +158,124 @@ public class MultiModelExecutorAutoconfiguration {
         return executor;
     }
 
+    /**
+     * Creates the LLM response cache.
+     * <p>
+     * The chat options of each configured model (temperature, max tokens, top-p) are part of
+     * the cache key, so changing them in {@link MultiProviderProperties} never serves responses
+     * generated with the old settings.
+     *
+     * @param properties         metrics configuration properties
+     * @param providerProperties provider configuration used for the options fingerprint (optional)
+     * @return a configured response cache
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.ragas.metrics.cache", name = "enabled", havingValue = "true")
+    public LlmResponseCache llmResponseCache(
+            final RagasMetricsProperties properties,
+            final ObjectProvider<MultiProviderProperties> providerProperties) {
+        final RagasMetricsProperties.Cache cacheProperties = properties.getCache();
+        log.info(
+                "LLM response cache enabled (max entries: {}, ttl: {}, file: {})",
+                cacheProperties.getMaxEntries(),
+                cacheProperties.getTtl(),
+                cacheProperties.getFile());
+        return LlmResponseCache.builder()
+                .maxEntries(cacheProperties.getMaxEntries())
+                .maxDiskEntries(cacheProperties.getMaxDiskEntries())
+                .ttl(cacheProperties.getTtl())
+                .file(cacheProperties.getFile())
+                .namespace(cacheProperties.getNamespace())
+                .optionsFingerprint(optionsFingerprint(providerProperties.getIfAvailable()))
+                .build();
+    }
+
+    /**
+     * Creates the store of reference-side artifacts reused across samples and runs.
+     * <p>
+     * Like the response cache, the chat options of each configured model are part of the key.
+     *
+     * @param properties         metrics configuration properties
+     * @param providerProperties provider configuration used for the options fingerprint (optional)
+     * @return a configured reference artifact store
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.ragas.metrics.reference-cache", name = "enabled", havingValue = "true")
+    public ReferenceArtifactStore referenceArtifactStore(
+            final RagasMetricsProperties properties,
+            final ObjectProvider<MultiProviderProperties> providerProperties) {
+        final RagasMetricsProperties.ReferenceCache cacheProperties = properties.getReferenceCache();
+        log.info(
+                "Reference artifact store enabled (max entries: {}, file: {})",
+                cacheProperties.getMaxEntries(),
+                cacheProperties.getFile());
+        return ReferenceArtifactStore.builder()
+                .maxEntries(cacheProperties.getMaxEntries())
+                .file(cacheProperties.getFile())
+                .namespace(cacheProperties.getNamespace())
+                .optionsFingerprint(optionsFingerprint(providerProperties.getIfAvailable()))
+                .build();
+    }
+
+    /**
+     * Creates the embedding vector cache.
+     * <p>
+     * The configured dimensions of each embedding model are part of the cache key, so changing
+     * them in {@link MultiProviderProperties} never serves vectors of the old size.
+     *
+     * @param properties         metrics configuration properties
+     * @param providerProperties provider configuration used for the dimensions (optional)
+     * @return a configured embedding cache
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.ragas.metrics.embedding-cache", name = "enabled", havingValue = "true")
+    public EmbeddingCache embeddingCache(
+            final RagasMetricsProperties properties,
+            final ObjectProvider<MultiProviderProperties> providerProperties) {
+        final RagasMetricsProperties.EmbeddingCache cacheProperties = properties.getEmbeddingCache();
+        log.info(
+                "Embedding cache enabled (max entries: {}, file: {})",
+                cacheProperties.getMaxEntries(),
+                cacheProperties.getFile());
+        return EmbeddingCache.builder()
+                .maxEntries(cacheProperties.getMaxEntries())
+                .file(cacheProperties.getFile())
+                .dimensions(embeddingDimensions(providerProperties.getIfAvailable()))
+                .build();
+    }
+
+    /**
+     * Creates the embedding micro-batcher coalescing concurrent embedding requests per model.
+     *
+     * @param properties metrics configuration properties
+     * @return a configured micro-batcher
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "spring.ai.ragas.metrics.embedding-batch.micro-batching",
+            name = "enabled",
+            havingValue = "true")
+    public EmbeddingMicroBatcher embeddingMicroBatcher(final RagasMetricsProperties properties) {
+        final RagasMetricsProperties.MicroBatching microBatching =
+                properties.getEmbeddingBatch().getMicroBatching();
+        final Map<String, EmbeddingMicroBatcher.Settings> modelSettings = new HashMap<>();
+        microBatching.getModels().forEach((modelId, model) -> modelSettings.put(
+                modelId,
+                new EmbeddingMicroBatcher.Settings(
+                        model.getWindow() != null ? model.getWindow() : microBatching.getWindow(),
+                        model.getMaxBatchSize() != null ? model.getMaxBatchSize() : microBatching.getMaxBatchSize())));
+        log.info(
+                "Embedding micro-batching enabled (window: {}, max batch size: {}, model overrides: {})",
+                microBatching.getWindow(),
+                microBatching.getMaxBatchSize(),
+                modelSettings.keySet());
+        return EmbeddingMicroBatcher.builder()
+                .window(microBatching.getWindow())
+                .maxBatchSize(microBatching.getMaxBatchSize())
+                .modelSettings(modelSettings)
+                .build();
+    }
+
     /**
      * Creates the main {@link MultiModelExecutor} bean.
      * <p>
@@ -98,22 +288,219 @@ public class MultiModelExecutorAutoconfiguration {
      * <p>
      * When a {@link ProviderRateLimiterRegistry} bean is available, it is injected into the executor
      * to enforce per-provider rate limiting on all LLM and embedding API calls.
+     * When an {@link LlmResponseCache} bean is available, repeated LLM requests are served from it.
+     * When a {@link ReferenceArtifactStore} bean is available, reference-side metric steps are reused from it.
+     * When a {@link ProviderCircuitBreakerRegistry} bean is available, calls to failing providers fail fast.
+     * When an {@link AdaptiveConcurrencyLimiter} bean is available, calls in flight per provider are limited by it.
+     * Batched embedding requests are split according to {@code spring.ai.ragas.metrics.embedding-batch}
+     * and, when an {@link EmbeddingMicroBatcher} bean is available, coalesced across concurrent evaluations.
      *
+     * @param properties            metrics configuration properties
      * @param chatClientStore       store of configured AI model clients
      * @param embeddingModelStore   store of configured embedding models (optional)
      * @param ragasMetricExecutor   executor for metric-level async operations
      * @param ragasHttpExecutor     executor for HTTP/LLM API calls
      * @param rateLimiterRegistry   per-provider rate limiter registry (optional, no rate limiting if absent)
+     * @param responseCache         LLM response cache (optional, no caching if absent)
+     * @param embeddingMicroBatcher embedding micro-batcher (optional, no coalescing if absent)
+     * @param embeddingCache        embedding vector cache (optional, no caching if absent)
+     * @param referenceStore        reference artifact store (optional, no reuse across runs if absent)
+     * @param circuitBreakers       per-provider circuit breakers (optional, no circuit breaking if absent)
+     * @param concurrencyLimiter    adaptive per-provider concurrency limits (optional, no limits if absent)
      * @return a configured multi-model executor
      */
     @Bean
     public MultiModelExecutor multiModelExecutor(
+            final RagasMetricsProperties properties,
             final ChatClientStore chatClientStore,
             @Autowired(required = false) final EmbeddingModelStore embeddingModelStore,
             final AsyncTaskExecutor ragasMetricExecutor,
             final AsyncTaskExecutor ragasHttpExecutor,
-            @Autowired(required = false) final ProviderRateLimiterRegistry rateLimiterRegistry) {
-        return new MultiModelExecutor(
-                chatClientStore, embeddingModelStore, ragasMetricExecutor, ragasHttpExecutor, rateLimiterRegistry);
+            @Autowired(required = false) final ProviderRateLimiterRegistry rateLimiterRegistry,
+            @Autowired(required = false) final LlmResponseCache responseCache,
+            @Autowired(required = false) final EmbeddingMicroBatcher embeddingMicroBatcher,
+            @Autowired(required = false) final EmbeddingCache embeddingCache,
+            @Autowired(required = false) final ReferenceArtifactStore referenceStore,
+            @Autowired(required = false) final ProviderCircuitBreakerRegistry circuitBreakers,
+            @Autowired(required = false) final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return MultiModelExecutor.builder()
+                .chatClientStore(chatClientStore)
+                .embeddingModelStore(embeddingModelStore)
+                .metricExecutor(ragasMetricExecutor)
+                .httpExecutor(ragasHttpExecutor)
+                .rateLimiterRegistry(rateLimiterRegistry)
+                .responseCache(responseCache)
+                .embeddingBatchPolicy(EmbeddingBatchPolicy.builder()
+                        .maxBatchSize(properties.getEmbeddingBatch().getMaxBatchSize())
+                        .maxTokensPerBatch(properties.getEmbeddingBatch().getMaxTokensPerBatch())
+                        .build())
+                .embeddingMicroBatcher(embeddingMicroBatcher)
+                .embeddingCache(embeddingCache)
+                .singleFlight(properties.getExecutor().isSingleFlight())
+                .timeouts(executionTimeouts(properties.getTimeouts()))
+                .hedgingPolicy(hedgingPolicy(properties.getHedging()))
+                .referenceArtifactStore(referenceStore)
+                .circuitBreakerRegistry(circuitBreakers)
+                .retryPolicy(retryPolicy(properties.getRetry()))
+                .concurrencyLimiter(concurrencyLimiter)
+                .build();
+    }
+
+    /**
+     * Converts the timeout properties into {@link ExecutionTimeouts}.
+     *
+     * @param timeouts timeout configuration
+     * @return the execution timeouts
+     */
+    static ExecutionTimeouts executionTimeouts(final RagasMetricsProperties.Timeouts timeouts) {
+        return ExecutionTimeouts.builder()
+                .callTimeout(timeouts.getCallTimeout())
+                .modelCallTimeouts(timeouts.getModels())
+                .evaluationTimeout(timeouts.getEvaluationTimeout())
+                .metricEvaluationTimeouts(timeouts.getMetrics())
+                .build();
+    }
+
+    /**
+     * Converts the hedging properties into a {@link HedgingPolicy}.
+     *
+     * @param hedging hedging configuration
+     * @return the hedging policy, or null if hedging is disabled
+     */
+    static HedgingPolicy hedgingPolicy(final RagasMetricsProperties.Hedging hedging) {
+        if (!hedging.isEnabled()) {
+            return null;
+        }
+        log.info(
+                "LLM request hedging enabled (percentile: {}, min delay: {}, max hedge ratio: {})",
+                hedging.getPercentile(),
+                hedging.getMinDelay(),
+                hedging.getMaxHedgeRatio());
+        return HedgingPolicy.builder()
+                .percentile(hedging.getPercentile())
+                .minDelay(hedging.getMinDelay())
+                .maxHedgeRatio(hedging.getMaxHedgeRatio())
+                .minSamples(hedging.getMinSamples())
+                .build();
+    }
+
+    /**
+     * Converts the retry properties into a {@link RetryPolicy}.
+     *
+     * @param retry retry configuration
+     * @return the retry policy, or null if retries are disabled
+     */
+    static RetryPolicy retryPolicy(final RagasMetricsProperties.Retry retry) {
+        if (!retry.isEnabled()) {
+            return null;
+        }
+        log.info(
+                "LLM call retries enabled (max attempts: {}, initial backoff: {}, repair parse errors: {})",
+                retry.getMaxAttempts(),
+                retry.getInitialBackoff(),
+                retry.isRepairParseErrors());
+        return RetryPolicy.builder()
+                .maxAttempts(retry.getMaxAttempts())
+                .initialBackoff(retry.getInitialBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .multiplier(retry.getMultiplier())
+                .jitter(retry.getJitter())
+                .repairParseErrors(retry.isRepairParseErrors())
+                .build();
+    }
+
+    /**
+     * Builds the chat-options fingerprint of each configured model.
+     * <p>
+     * Models not configured through {@link MultiProviderProperties} (e.g. auto-detected beans)
+     * fall back to the fingerprint of the global default options.
+     *
+     * @param providerProperties provider configuration (nullable)
+     * @return function mapping a model ID to its options fingerprint
+     */
+    static Function<String, String> optionsFingerprint(final MultiProviderProperties providerProperties) {
+        if (providerProperties == null) {
+            return modelId -> "";
+        }
+        final MultiProviderProperties.DefaultOptions defaults = providerProperties.getDefaultOptions();
+        final Map<String, String> fingerprints = new HashMap<>();
+        providerProperties.getDefaultProvider().getModels().forEach(model -> fingerprints.put(
+                model.getId(), fingerprintOf(model.getOptions(), defaults)));
+        providerProperties.getOpenaiCompatible().forEach(provider -> provider.getChatModels()
+                .forEach(model -> fingerprints.put(model.getId(), fingerprintOf(model.getOptions(), defaults))));
+        final String defaultFingerprint = fingerprintOf(null, defaults);
+        return modelId -> fingerprints.getOrDefault(modelId, defaultFingerprint);
+    }
+
+    /**
+     * Builds the configured dimensions of each OpenAI-compatible embedding model.
+     * <p>
+     * Auto-detected embedding models have no configured dimensions and map to null.
+     *
+     * @param providerProperties provider configuration (nullable)
+     * @return function mapping a model ID to its dimensions, or null if unknown
+     */
+    static Function<String, Integer> embeddingDimensions(final MultiProviderProperties providerProperties) {
+        if (providerProperties == null) {
+            return modelId -> null;
+        }
+        final Integer defaultDimensions =
+                providerProperties.getEmbeddingDefaultOptions().getDimensions();
+        final Map<String, Integer> dimensions = new HashMap<>();
+        providerProperties.getOpenaiCompatible().forEach(provider -> provider.getEmbeddingModels()
+                .forEach(model -> dimensions.put(
+                        model.getId(), model.getDimensions() != null ? model.getDimensions() : defaultDimensions)));
+        return dimensions::get;
+    }
+
+    private static String fingerprintOf(
+            final MultiProviderProperties.ModelOptions options, final MultiProviderProperties.DefaultOptions defaults) {
+        final boolean hasOptions = options != null;
+        return "temperature="
+                + (hasOptions && options.getTemperature() != null ? options.getTemperature() : defaults.getTemperature())
+                + ",maxTokens="
+                + (hasOptions && options.getMaxTokens() != null ? options.getMaxTokens() : defaults.getMaxTokens())
+                + ",topP=" + (hasOptions && options.getTopP() != null ? options.getTopP() : defaults.getTopP());
+    }
+
+    /**
+     * Checks whether virtual threads are requested and supported by the running JVM.
+     *
+     * @param executorProperties executor configuration
+     * @return true if the executors should use virtual threads
+     */
+    static boolean useVirtualThreads(final RagasMetricsProperties.Executor executorProperties) {
+        if (!executorProperties.isVirtualThreads()) {
+            return false;
+        }
+        final int javaVersion = Runtime.version().feature();
+        if (javaVersion < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+            log.warn(
+                    "Virtual threads requested but not supported on Java {} (requires {}+), using thread pools",
+                    javaVersion,
+                    VIRTUAL_THREADS_MIN_JAVA_VERSION);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread per task.
+     * <p>
+     * Once the concurrency limit is reached, further tasks are queued and started as running
+     * tasks finish. Submitting never blocks: async continuations submit from HTTP threads and
+     * from the rate limiter's scheduler, which must not wait for a slot.
+     *
+     * @param threadNamePrefix prefix of the virtual thread names
+     * @param concurrencyLimit maximum number of tasks running concurrently
+     * @return a virtual-thread task executor
+     */
+    private static AsyncTaskExecutor createVirtualThreadExecutor(
+            final String threadNamePrefix, final int concurrencyLimit) {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(VIRTUAL_THREADS_TERMINATION_TIMEOUT_MS);
+        log.info("Using virtual threads for {}* tasks (concurrency limit: {})", threadNamePrefix, concurrencyLimit);
+        return new BoundedAsyncTaskExecutor(executor, concurrencyLimit);
     }
 }
@@ -5,14 +5,22 @@ import ai.qa.solutions.config.detector.ExternalChatModelDetector;
 import ai.qa.solutions.config.detector.ExternalEmbeddingModelDetector;
 import ai.qa.solutions.config.factory.OpenAiCompatibleModelFactory;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
+import ai.qa.solutions.execution.circuit.CircuitBreakerPolicy;
+import ai.qa.solutions.execution.circuit.ProviderCircuitBreakerRegistry;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyLimiter;
+import ai.qa.solutions.execution.concurrency.AdaptiveConcurrencyPolicy;
 import ai.qa.solutions.execution.ratelimit.Bucket4jProviderRateLimiterRegistry;
 import ai.qa.solutions.execution.ratelimit.ProviderRateLimiterRegistry;
 import ai.qa.solutions.execution.ratelimit.RateLimitConfig;
 import ai.qa.solutions.execution.ratelimit.RateLimitStrategy;
+import ai.qa.solutions.execution.retry.RetryAfterPreservingErrorHandler;
 import ai.qa.solutions.properties.MultiProviderProperties;
+import ai.qa.solutions.properties.MultiProviderProperties.AdaptiveConcurrency;
+import ai.qa.solutions.properties.MultiProviderProperties.CircuitBreaker;
 import ai.qa.solutions.properties.MultiProviderProperties.DefaultOptions;
 import ai.qa.solutions.properties.MultiProviderProperties.EmbeddingModelConfig;
 import ai.qa.solutions.properties.MultiProviderProperties.ExternalStarterConfig;
+import ai.qa.solutions.properties.MultiProviderProperties.LoadBalancing;
 import ai.qa.solutions.properties.MultiProviderProperties.ModelConfig;
 import ai.qa.solutions.properties.MultiProviderProperties.OpenAiCompatibleProvider;
 import ai.qa.solutions.properties.MultiProviderProperties.ProviderRateLimitConfig;
@@ -34,6 +42,7 @@ import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiEmbeddingModel;
 import org.springframework.ai.openai.OpenAiEmbeddingOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.RetryUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -43,6 +52,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.lang.Nullable;
+import org.springframework.web.client.ResponseErrorHandler;
 
 /**
  * Autoconfiguration for multi-provider ChatClientStore and EmbeddingModelStore.
@@ -85,6 +95,7 @@ public class MultiProviderAutoConfiguration {
             final ObjectProvider<OpenAiApi> openAiApiProvider,
             final ObjectProvider<OpenAiChatModel> openAiChatModelProvider,
             final ObjectProvider<ChatClient.Builder> chatClientBuilderProvider,
+            final ObjectProvider<ResponseErrorHandler> responseErrorHandlerProvider,
             final MultiProviderProperties properties,
             @Autowired(required = false) final SimpleLoggerAdvisor simpleLoggerAdvisor) {
 
@@ -109,7 +120,11 @@ public class MultiProviderAutoConfiguration {
                 && !properties.getOpenaiCompatible().isEmpty()) {
             log.info("Layer 2: Creating OpenAI-compatible chat models via mutate()...");
             final Map<String, List<ChatClient>> openAiCompatibleClients = openAiCompatibleFactory.createModels(
-                    openAiApi, openAiChatModel, properties.getOpenaiCompatible(), properties.getDefaultOptions());
+                    openAiApi,
+                    openAiChatModel,
+                    properties.getOpenaiCompatible(),
+                    properties.getDefaultOptions(),
+                    providerErrorHandler(responseErrorHandlerProvider));
             mergeClients(allClients, openAiCompatibleClients);
         }
 
@@ -132,7 +147,9 @@ public class MultiProviderAutoConfiguration {
                 allClients.size(),
                 countTotalClients(allClients));
 
-        return new ChatClientStore(allClients, defaultClient, true);
+        final LoadBalancing loadBalancing = properties.getLoadBalancing();
+        return new ChatClientStore(
+                allClients, defaultClient, loadBalancing.getStrategy()::createSelector, loadBalancing.isFailover());
     }
 
     /**
@@ -143,9 +160,10 @@ public class MultiProviderAutoConfiguration {
     public EmbeddingModelStore embeddingModelStore(
             final ObjectProvider<Map<String, EmbeddingModel>> embeddingModelsProvider,
             final ObjectProvider<OpenAiApi> openAiApiProvider,
+            final ObjectProvider<ResponseErrorHandler> responseErrorHandlerProvider,
             final MultiProviderProperties properties) {
 
-        final Map<String, EmbeddingModel> allModels = new HashMap<>();
+        final Map<String, List<EmbeddingModel>> allModels = new LinkedHashMap<>();
         final OpenAiApi openAiApi = openAiApiProvider.getIfAvailable();
 
         // Layer 1: External EmbeddingModel beans (GigaChat, Ollama, etc.)
@@ -155,7 +173,9 @@ public class MultiProviderAutoConfiguration {
                 log.info("Layer 1: Detecting external EmbeddingModel beans...");
                 final Map<String, EmbeddingModel> externalModels =
                         externalEmbeddingModelDetector.detect(embeddingModels);
-                allModels.putAll(externalModels);
+                externalModels.forEach((modelId, model) -> allModels
+                        .computeIfAbsent(modelId, k -> new ArrayList<>())
+                        .add(model));
             }
         }
 
@@ -180,6 +200,7 @@ public class MultiProviderAutoConfiguration {
                         .mutate()
                         .baseUrl(provider.getBaseUrl())
                         .apiKey(provider.getApiKey())
+                        .responseErrorHandler(providerErrorHandler(responseErrorHandlerProvider))
                         .build();
 
                 for (final EmbeddingModelConfig modelConfig : provider.getEmbeddingModels()) {
@@ -196,7 +217,9 @@ public class MultiProviderAutoConfiguration {
                         final OpenAiEmbeddingModel providerModel =
                                 new OpenAiEmbeddingModel(providerApi, MetadataMode.EMBED, options);
 
-                        allModels.put(modelConfig.getId(), providerModel);
+                        allModels
+                                .computeIfAbsent(modelConfig.getId(), k -> new ArrayList<>())
+                                .add(providerModel);
                         log.debug(
                                 "Created EmbeddingModel for model '{}' from provider '{}'",
                                 modelConfig.getId(),
@@ -213,10 +236,12 @@ public class MultiProviderAutoConfiguration {
 
         // Resolve default embedding model from the first available
         final EmbeddingModel defaultEmbeddingModel =
-                allModels.isEmpty() ? null : allModels.values().iterator().next();
+                allModels.isEmpty() ? null : allModels.values().iterator().next().get(0);
 
         log.info("EmbeddingModelStore initialized with {} models", allModels.size());
-        return new EmbeddingModelStore(allModels, defaultEmbeddingModel);
+        final LoadBalancing loadBalancing = properties.getLoadBalancing();
+        return new EmbeddingModelStore(
+                allModels, defaultEmbeddingModel, loadBalancing.getStrategy()::createSelector, loadBalancing.isFailover());
     }
 
     /**
@@ -236,7 +261,7 @@ public class MultiProviderAutoConfiguration {
     @ConditionalOnClass(name = "io.github.bucket4j.Bucket")
     @Nullable
     public ProviderRateLimiterRegistry providerRateLimiterRegistry(final MultiProviderProperties properties) {
-        final Map<String, String> modelToProvider = new HashMap<>();
+        final Map<String, String> modelToProvider = buildModelToProvider(properties);
         final Map<String, RateLimitConfig> providerConfigs = new HashMap<>();
         final RateLimitDefaults defaults = properties.getRateLimit();
 
@@ -248,12 +273,6 @@ public class MultiProviderAutoConfiguration {
             if (!starterConfig.isEnabled()) {
                 continue;
             }
-            for (final String chatModelId : starterConfig.getChatModels()) {
-                modelToProvider.put(chatModelId, starterName);
-            }
-            for (final String embeddingModelId : starterConfig.getEmbeddingModels()) {
-                modelToProvider.put(embeddingModelId, starterName);
-            }
             final RateLimitConfig resolved = resolveRateLimitConfig(starterConfig.getRateLimit(), defaults);
             if (resolved != null) {
                 providerConfigs.put(starterName, resolved);
@@ -266,12 +285,6 @@ public class MultiProviderAutoConfiguration {
             if (providerName == null) {
                 continue;
             }
-            for (final ModelConfig modelConfig : provider.getChatModels()) {
-                modelToProvider.put(modelConfig.getId(), providerName);
-            }
-            for (final EmbeddingModelConfig modelConfig : provider.getEmbeddingModels()) {
-                modelToProvider.put(modelConfig.getId(), providerName);
-            }
             final RateLimitConfig resolved = resolveRateLimitConfig(provider.getRateLimit(), defaults);
             if (resolved != null) {
                 providerConfigs.put(providerName, resolved);
@@ -279,9 +292,6 @@ public class MultiProviderAutoConfiguration {
         }
 
         // Layer 3: Default provider
-        for (final ModelConfig modelConfig : properties.getDefaultProvider().getModels()) {
-            modelToProvider.put(modelConfig.getId(), "default");
-        }
         final RateLimitConfig defaultResolved =
                 resolveRateLimitConfig(properties.getDefaultProvider().getRateLimit(), defaults);
         if (defaultResolved != null) {
@@ -300,6 +310,114 @@ public class MultiProviderAutoConfiguration {
         return new Bucket4jProviderRateLimiterRegistry(modelToProvider, providerConfigs);
     }
 
+    /**
+     * Creates a {@link ProviderCircuitBreakerRegistry} bean when circuit breakers are enabled.
+     * <p>
+     * Uses the same model-to-provider mapping as the rate limiter registry, so all models of a
+     * provider share one circuit.
+     *
+     * @param properties the multi-provider configuration properties
+     * @return a circuit breaker registry with the configured policy
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "spring.ai.ragas.providers.circuit-breaker", name = "enabled", havingValue = "true")
+    public ProviderCircuitBreakerRegistry providerCircuitBreakerRegistry(final MultiProviderProperties properties) {
+        final CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        final Map<String, String> modelToProvider = buildModelToProvider(properties);
+        log.info(
+                "ProviderCircuitBreakerRegistry initialized with {} model mappings, failure threshold {}, "
+                        + "open duration {}",
+                modelToProvider.size(),
+                circuitBreaker.getFailureThreshold(),
+                circuitBreaker.getOpenDuration());
+        return ProviderCircuitBreakerRegistry.builder()
+                .modelToProvider(modelToProvider)
+                .policy(CircuitBreakerPolicy.builder()
+                        .failureThreshold(circuitBreaker.getFailureThreshold())
+                        .openDuration(circuitBreaker.getOpenDuration())
+                        .halfOpenProbes(circuitBreaker.getHalfOpenProbes())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Creates an {@link AdaptiveConcurrencyLimiter} bean when adaptive concurrency is enabled.
+     * <p>
+     * Uses the same model-to-provider mapping as the rate limiter registry, so all models of a
+     * provider share one concurrency limit.
+     *
+     * @param properties the multi-provider configuration properties
+     * @return a concurrency limiter with the configured policy
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "spring.ai.ragas.providers.adaptive-concurrency",
+            name = "enabled",
+            havingValue = "true")
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(final MultiProviderProperties properties) {
+        final AdaptiveConcurrency concurrency = properties.getAdaptiveConcurrency();
+        final Map<String, String> modelToProvider = buildModelToProvider(properties);
+        log.info(
+                "AdaptiveConcurrencyLimiter initialized with {} model mappings, limit {} within [{}, {}]",
+                modelToProvider.size(),
+                concurrency.getInitialLimit(),
+                concurrency.getMinLimit(),
+                concurrency.getMaxLimit());
+        return AdaptiveConcurrencyLimiter.builder()
+                .modelToProvider(modelToProvider)
+                .policy(AdaptiveConcurrencyPolicy.builder()
+                        .initialLimit(concurrency.getInitialLimit())
+                        .minLimit(concurrency.getMinLimit())
+                        .maxLimit(concurrency.getMaxLimit())
+                        .backoffRatio(concurrency.getBackoffRatio())
+                        .latencyTolerance(concurrency.getLatencyTolerance())
+                        .maxWait(concurrency.getMaxWait())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Maps every configured model ID to the name of its provider across all three provider layers.
+     */
+    private Map<String, String> buildModelToProvider(final MultiProviderProperties properties) {
+        final Map<String, String> modelToProvider = new HashMap<>();
+
+        // Layer 1: External starters
+        for (final Map.Entry<String, ExternalStarterConfig> entry :
+                properties.getExternalStarters().entrySet()) {
+            if (!entry.getValue().isEnabled()) {
+                continue;
+            }
+            for (final String chatModelId : entry.getValue().getChatModels()) {
+                modelToProvider.put(chatModelId, entry.getKey());
+            }
+            for (final String embeddingModelId : entry.getValue().getEmbeddingModels()) {
+                modelToProvider.put(embeddingModelId, entry.getKey());
+            }
+        }
+
+        // Layer 2: OpenAI-compatible providers
+        for (final OpenAiCompatibleProvider provider : properties.getOpenaiCompatible()) {
+            if (provider.getName() == null) {
+                continue;
+            }
+            for (final ModelConfig modelConfig : provider.getChatModels()) {
+                modelToProvider.put(modelConfig.getId(), provider.getName());
+            }
+            for (final EmbeddingModelConfig modelConfig : provider.getEmbeddingModels()) {
+                modelToProvider.put(modelConfig.getId(), provider.getName());
+            }
+        }
+
+        // Layer 3: Default provider
+        for (final ModelConfig modelConfig : properties.getDefaultProvider().getModels()) {
+            modelToProvider.put(modelConfig.getId(), "default");
+        }
+        return modelToProvider;
+    }
+
     /**
      * Creates ChatClients for default OpenAI models using ChatClient.Builder.
      */
@@ -361,6 +479,17 @@ public class MultiProviderAutoConfiguration {
         }
     }
 
+    /**
+     * Creates the error handler of the OpenAI-compatible providers: errors are classified by the
+     * application's {@link ResponseErrorHandler} (Spring AI's default if there is none), and the
+     * {@code Retry-After} hint of the response is kept for the retry backoff.
+     */
+    private ResponseErrorHandler providerErrorHandler(
+            final ObjectProvider<ResponseErrorHandler> responseErrorHandlerProvider) {
+        return new RetryAfterPreservingErrorHandler(
+                responseErrorHandlerProvider.getIfUnique(() -> RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER));
+    }
+
     /**
      * Resolves the effective rate limit configuration for a provider by merging
      * provider-specific settings with global defaults.
@@ -375,7 +504,10 @@ public class MultiProviderAutoConfiguration {
         final int rps = providerConfig != null && providerConfig.getRps() != null
                 ? providerConfig.getRps()
                 : (defaults.getDefaultRps() != null ? defaults.getDefaultRps() : 0);
-        if (rps <= 0) {
+        final int tpm = providerConfig != null && providerConfig.getTpm() != null
+                ? providerConfig.getTpm()
+                : (defaults.getDefaultTpm() != null ? defaults.getDefaultTpm() : 0);
+        if (rps <= 0 && tpm <= 0) {
             return null;
         }
         final RateLimitStrategy strategy = providerConfig != null && providerConfig.getStrategy() != null
@@ -384,7 +516,7 @@ public class MultiProviderAutoConfiguration {
         final Duration timeout = providerConfig != null && providerConfig.getTimeout() != null
                 ? providerConfig.getTimeout()
                 : defaults.getDefaultTimeout();
-        return new RateLimitConfig(rps, strategy, timeout);
+        return new RateLimitConfig(Math.max(rps, 0), Math.max(tpm, 0), strategy, timeout);
     }
 
     private Double resolveTemperature(final ModelConfig modelConfig, final DefaultOptions defaultOptions) {
@@ -3,6 +3,7 @@ package ai.qa.solutions.config;
 import ai.qa.solutions.execution.MultiModelExecutor;
 import ai.qa.solutions.execution.listener.MetricExecutionListener;
 import ai.qa.solutions.execution.listener.impl.LoggingMetricExecutionListener;
+import ai.qa.solutions.metric.decomposition.DecompositionStore;
 import ai.qa.solutions.metrics.agent.AgentGoalAccuracyMetric;
 import ai.qa.solutions.metrics.agent.ToolCallAccuracyMetric;
 import ai.qa.solutions.metrics.agent.TopicAdherenceMetric;
@@ -30,6 +31,7 @@ import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestClientCustomizer;
@@ -123,6 +125,26 @@ public class RagasMetricsAutoconfiguration {
         };
     }
 
+    /**
+     * Creates the store sharing response decompositions between Faithfulness, NoiseSensitivity and
+     * FactualCorrectness evaluated on the same sample.
+     *
+     * @param properties the RAGAS metrics properties
+     * @return configured decomposition store
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "spring.ai.ragas.metrics.shared-decomposition",
+            name = "enabled",
+            havingValue = "true")
+    public DecompositionStore decompositionStore(final RagasMetricsProperties properties) {
+        final RagasMetricsProperties.SharedDecomposition sharedDecomposition = properties.getSharedDecomposition();
+        log.info("Shared response decomposition enabled (max entries: {})", sharedDecomposition.getMaxEntries());
+        return DecompositionStore.builder()
+                .maxEntries(sharedDecomposition.getMaxEntries())
+                .build();
+    }
+
     // ==================== Metric Beans ====================
 
     @Bean
@@ -163,14 +185,26 @@ public class RagasMetricsAutoconfiguration {
 
     @Bean
     public NoiseSensitivityMetric noiseSensitivityMetric(
-            final MultiModelExecutor executor, final List<MetricExecutionListener> listeners) {
-        return NoiseSensitivityMetric.builder().executor(executor).build().withListeners(listeners);
+            final MultiModelExecutor executor,
+            final List<MetricExecutionListener> listeners,
+            @Autowired(required = false) final DecompositionStore decompositionStore) {
+        return NoiseSensitivityMetric.builder()
+                .executor(executor)
+                .decompositionStore(decompositionStore)
+                .build()
+                .withListeners(listeners);
     }
 
     @Bean
     public FaithfulnessMetric faithfulnessMetric(
-            final MultiModelExecutor executor, final List<MetricExecutionListener> listeners) {
-        return FaithfulnessMetric.builder().executor(executor).build().withListeners(listeners);
+            final MultiModelExecutor executor,
+            final List<MetricExecutionListener> listeners,
+            @Autowired(required = false) final DecompositionStore decompositionStore) {
+        return FaithfulnessMetric.builder()
+                .executor(executor)
+                .decompositionStore(decompositionStore)
+                .build()
+                .withListeners(listeners);
     }
 
     @Bean
@@ -187,8 +221,14 @@ public class RagasMetricsAutoconfiguration {
 
     @Bean
     public FactualCorrectnessMetric factualCorrectnessMetric(
-            final MultiModelExecutor executor, final List<MetricExecutionListener> listeners) {
-        return FactualCorrectnessMetric.builder().executor(executor).build().withListeners(listeners);
+            final MultiModelExecutor executor,
+            final List<MetricExecutionListener> listeners,
+            @Autowired(required = false) final DecompositionStore decompositionStore) {
+        return FactualCorrectnessMetric.builder()
+                .executor(executor)
+                .decompositionStore(decompositionStore)
+                .build()
+                .withListeners(listeners);
     }
 
     @Bean
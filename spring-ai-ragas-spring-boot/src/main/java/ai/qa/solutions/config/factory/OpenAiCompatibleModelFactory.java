@@ -13,6 +13,7 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.web.client.ResponseErrorHandler;
 
 /**
  * Factory for creating ChatClients from OpenAI-compatible API providers.
@@ -30,7 +31,7 @@ import org.springframework.ai.openai.api.OpenAiApi;
  * <pre>{@code
  * OpenAiCompatibleModelFactory factory = new OpenAiCompatibleModelFactory();
  * Map<String, List<ChatClient>> clients = factory.createModels(
- *     baseApi, baseModel, providers, defaultOptions);
+ *     baseApi, baseModel, providers, defaultOptions, errorHandler);
  * }</pre>
  */
 @Slf4j
@@ -43,13 +44,15 @@ public class OpenAiCompatibleModelFactory {
      * @param baseModel      base OpenAiChatModel to mutate
      * @param providers      list of OpenAI-compatible provider configurations
      * @param defaultOptions default options for models
+     * @param errorHandler   handler turning error responses of the providers into exceptions
      * @return map of model ID to list of ChatClients (supports multiple providers per model)
      */
     public Map<String, List<ChatClient>> createModels(
             final OpenAiApi baseApi,
             final OpenAiChatModel baseModel,
             final List<OpenAiCompatibleProvider> providers,
-            final DefaultOptions defaultOptions) {
+            final DefaultOptions defaultOptions,
+            final ResponseErrorHandler errorHandler) {
 
         final Map<String, List<ChatClient>> result = new LinkedHashMap<>();
 
@@ -64,7 +67,7 @@ public class OpenAiCompatibleModelFactory {
                     provider.getName(),
                     provider.getChatModels().size());
 
-            final OpenAiApi providerApi = createProviderApi(baseApi, provider);
+            final OpenAiApi providerApi = createProviderApi(baseApi, provider, errorHandler);
 
             for (final ModelConfig modelConfig : provider.getChatModels()) {
                 final ChatClient client = createClientForModel(baseModel, providerApi, modelConfig, defaultOptions);
@@ -84,14 +87,17 @@ public class OpenAiCompatibleModelFactory {
     /**
      * Creates a provider-specific OpenAiApi using the mutate() pattern.
      *
-     * @param baseApi  base API to mutate
-     * @param provider provider configuration
+     * @param baseApi      base API to mutate
+     * @param provider     provider configuration
+     * @param errorHandler handler turning error responses into exceptions
      * @return new OpenAiApi configured for this provider
      */
-    private OpenAiApi createProviderApi(final OpenAiApi baseApi, final OpenAiCompatibleProvider provider) {
+    private OpenAiApi createProviderApi(
+            final OpenAiApi baseApi, final OpenAiCompatibleProvider provider, final ResponseErrorHandler errorHandler) {
         return baseApi.mutate()
                 .baseUrl(provider.getBaseUrl())
                 .apiKey(provider.getApiKey())
+                .responseErrorHandler(errorHandler)
                 .build();
     }
 
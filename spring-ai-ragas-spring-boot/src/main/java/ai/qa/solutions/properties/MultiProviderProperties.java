@@ -1,5 +1,6 @@
 package ai.qa.solutions.properties;
 
+import ai.qa.solutions.execution.balancing.LoadBalancingStrategy;
 import ai.qa.solutions.execution.ratelimit.RateLimitStrategy;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -31,12 +32,24 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *           default-rps: 10
  *           default-strategy: WAIT
  *           default-timeout: 0
+ *         load-balancing:
+ *           strategy: ROUND_ROBIN
+ *           failover: true
+ *         circuit-breaker:
+ *           enabled: true
+ *           failure-threshold: 5
+ *           open-duration: 30s
+ *         adaptive-concurrency:
+ *           enabled: true
+ *           initial-limit: 10
+ *           max-limit: 100
  *         openai-compatible:
  *           - name: openrouter-premium
  *             base-url: https://openrouter.ai/api
  *             api-key: ${OPENROUTER_API_KEY}
  *             rate-limit:
  *               rps: 5
+ *               tpm: 200000
  *               strategy: WAIT
  *               timeout: 0
  *             chat-models:
@@ -104,6 +117,21 @@ public class MultiProviderProperties {
      */
     private RateLimitDefaults rateLimit = new RateLimitDefaults();
 
+    /**
+     * Load balancing and failover across several chat or embedding models registered for the same model ID.
+     */
+    private LoadBalancing loadBalancing = new LoadBalancing();
+
+    /**
+     * Per-provider circuit breakers that fail calls fast while a provider keeps failing.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Per-provider concurrency limits that follow the capacity each provider grants.
+     */
+    private AdaptiveConcurrency adaptiveConcurrency = new AdaptiveConcurrency();
+
     /**
      * Configuration for external Spring AI starters (GigaChat, Anthropic, Ollama, etc.).
      * Allows overriding model IDs, enabling/disabling specific starters.
@@ -328,6 +356,12 @@ public class MultiProviderProperties {
          */
         private Integer defaultRps;
 
+        /**
+         * Default tokens per minute budget for all providers.
+         * If null, no token budget is applied by default.
+         */
+        private Integer defaultTpm;
+
         /**
          * Default rate limiting strategy.
          * WAIT blocks until a token is available; REJECT fails immediately.
@@ -356,6 +390,14 @@ public class MultiProviderProperties {
          */
         private Integer rps;
 
+        /**
+         * Tokens per minute budget for this provider.
+         * Each request is charged its estimated prompt tokens up front and corrected with
+         * the usage reported by the provider afterwards.
+         * If null, uses the global default TPM or no token budget.
+         */
+        private Integer tpm;
+
         /**
          * Rate limiting strategy for this provider.
          * If null, uses the global default strategy.
@@ -368,4 +410,106 @@ public class MultiProviderProperties {
          */
         private Duration timeout;
     }
+
+    /**
+     * Load balancing configuration for model IDs served by several providers or replicas.
+     * <p>
+     * When the same model ID is configured more than once (e.g. two OpenAI-compatible
+     * providers exposing the same model), the models form a pool and each call is routed
+     * to one of them by the strategy.
+     */
+    @Getter
+    @Setter
+    public static class LoadBalancing {
+
+        /**
+         * Strategy choosing the model instance for each call.
+         * FIRST keeps all traffic on the first registered instance.
+         */
+        private LoadBalancingStrategy strategy = LoadBalancingStrategy.FIRST;
+
+        /**
+         * Whether calls failing with connection errors or HTTP 5xx responses are retried
+         * on the other instances of the same model ID.
+         */
+        private boolean failover = true;
+    }
+
+    /**
+     * Circuit breaker configuration shared by all providers.
+     * <p>
+     * Each provider has its own circuit: after consecutive failed calls it opens and calls to the
+     * provider's models fail fast, until probe calls show that the provider has recovered.
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Whether circuit breakers are enabled.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of consecutive failed calls that open the circuit of a provider.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * Time an open circuit fails calls fast before letting probe calls through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /**
+         * Number of successful probe calls that close a half-open circuit.
+         */
+        private int halfOpenProbes = 1;
+    }
+
+    /**
+     * Adaptive concurrency configuration shared by all providers.
+     * <p>
+     * Each provider has its own limit on calls in flight: it grows while calls succeed with
+     * steady latency and is cut multiplicatively when the provider answers with HTTP 429 or a
+     * call times out. Applies on top of the rate limits.
+     */
+    @Getter
+    @Setter
+    public static class AdaptiveConcurrency {
+
+        /**
+         * Whether adaptive concurrency limits are enabled.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrency limit of a provider before any call has completed.
+         */
+        private int initialLimit = 10;
+
+        /**
+         * Lower bound of the concurrency limit.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Upper bound of the concurrency limit.
+         */
+        private int maxLimit = 100;
+
+        /**
+         * Factor applied to the limit when a call is rate limited or times out.
+         */
+        private double backoffRatio = 0.5;
+
+        /**
+         * Multiple of the average latency above which a successful call counts as queued by the provider.
+         */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * Time a call may wait for a free slot before it is rejected (null waits indefinitely).
+         */
+        private Duration maxWait;
+    }
 }
@@ -1,5 +1,9 @@
 package ai.qa.solutions.properties;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -18,6 +22,46 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *           enabled: true
  *           level: verbose    # minimal | normal | verbose
  *           chart-width: 100
+ *         executor:
+ *           virtual-threads: true       # Java 21+, falls back to thread pools on older runtimes
+ *           metric-concurrency-limit: 1024
+ *           http-concurrency-limit: 256
+ *         hedging:
+ *           enabled: true
+ *           percentile: 0.95
+ *           max-hedge-ratio: 0.1
+ *         retry:
+ *           enabled: true
+ *           max-attempts: 3
+ *           initial-backoff: 500ms
+ *           repair-parse-errors: true
+ *         timeouts:
+ *           call-timeout: 30s
+ *           models:
+ *             o1-preview: 2m
+ *           evaluation-timeout: 3m
+ *           metrics:
+ *             FaithfulnessMetric: 5m
+ *         embedding-batch:
+ *           max-batch-size: 128
+ *           max-tokens-per-batch: 100000
+ *           micro-batching:
+ *             enabled: true
+ *             window: 5ms
+ *             max-batch-size: 64
+ *             models:
+ *               text-embedding-3-large: { window: 10ms, max-batch-size: 256 }
+ *         embedding-cache:
+ *           enabled: true
+ *           max-entries: 100000
+ *           file: .ragas-cache/embeddings.bin
+ *         cache:
+ *           enabled: true
+ *           max-entries: 10000
+ *           max-disk-entries: 100000
+ *           ttl: 7d
+ *           file: .ragas-cache/llm-responses.log
+ *           namespace: v1
  * }</pre>
  */
 @Getter
@@ -35,6 +79,51 @@ public class RagasMetricsProperties {
      */
     private Logging logging = new Logging();
 
+    /**
+     * Threading configuration of the metric and HTTP executors.
+     */
+    private Executor executor = new Executor();
+
+    /**
+     * Limits of batched embedding requests.
+     */
+    private EmbeddingBatch embeddingBatch = new EmbeddingBatch();
+
+    /**
+     * Cache of structured LLM responses.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Cache of embedding vectors.
+     */
+    private EmbeddingCache embeddingCache = new EmbeddingCache();
+
+    /**
+     * Store of reference-side artifacts reused across samples and runs.
+     */
+    private ReferenceCache referenceCache = new ReferenceCache();
+
+    /**
+     * Response decompositions shared by metrics evaluated on the same sample.
+     */
+    private SharedDecomposition sharedDecomposition = new SharedDecomposition();
+
+    /**
+     * Per-call and per-evaluation timeouts.
+     */
+    private Timeouts timeouts = new Timeouts();
+
+    /**
+     * Hedging of slow LLM calls.
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Retries of LLM calls failing with a transient error.
+     */
+    private Retry retry = new Retry();
+
     @Getter
     @Setter
     public static class Logging {
@@ -81,4 +170,284 @@ public class RagasMetricsProperties {
             VERBOSE
         }
     }
+
+    @Getter
+    @Setter
+    public static class Executor {
+
+        /**
+         * Whether to back {@code ragasMetricExecutor} and {@code ragasHttpExecutor} with virtual threads.
+         * <p>
+         * Requires Java 21+. On older runtimes the bounded thread pools are used instead.
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * Maximum number of metric evaluations running concurrently in virtual-thread mode.
+         */
+        private int metricConcurrencyLimit = 1024;
+
+        /**
+         * Maximum number of LLM/embedding calls in flight in virtual-thread mode.
+         * <p>
+         * Provider rate limits still apply on top of this limit.
+         */
+        private int httpConcurrencyLimit = 256;
+
+        /**
+         * Whether identical in-flight LLM calls (same model, prompt and response type) share one request.
+         * Self-consistency samples of one prompt are never merged with each other.
+         */
+        private boolean singleFlight = true;
+    }
+
+    @Getter
+    @Setter
+    public static class EmbeddingBatch {
+
+        /**
+         * Maximum number of texts sent in one embedding request; larger inputs are split.
+         */
+        private int maxBatchSize = 128;
+
+        /**
+         * Maximum estimated tokens sent in one embedding request; larger inputs are split.
+         */
+        private long maxTokensPerBatch = 100_000L;
+
+        /**
+         * Coalescing of concurrent embedding requests into shared batched calls.
+         */
+        private MicroBatching microBatching = new MicroBatching();
+    }
+
+    @Getter
+    @Setter
+    public static class MicroBatching {
+
+        /**
+         * Whether embedding requests of concurrent evaluations are coalesced per model.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time to wait for more requests after the first request of a batch.
+         */
+        private Duration window = Duration.ofMillis(5);
+
+        /**
+         * Number of collected texts that triggers an immediate flush.
+         */
+        private int maxBatchSize = 64;
+
+        /**
+         * Per-model overrides keyed by embedding model ID.
+         */
+        private Map<String, MicroBatchingModel> models = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class MicroBatchingModel {
+
+        /**
+         * Batch window of the model (null for the global window).
+         */
+        private Duration window;
+
+        /**
+         * Flush size of the model (null for the global size).
+         */
+        private Integer maxBatchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether identical LLM requests (same model, options, prompt and response type) are served from cache.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of responses kept in memory.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Maximum number of responses kept in the cache file; older and expired ones are dropped on compaction.
+         */
+        private int maxDiskEntries = 100_000;
+
+        /**
+         * Time to live of cached responses (null for no expiry).
+         */
+        private Duration ttl;
+
+        /**
+         * Append-only file persisting responses across runs (null for memory only).
+         */
+        private Path file;
+
+        /**
+         * Key prefix; change it to invalidate all cached responses, e.g. after editing prompts.
+         */
+        private String namespace;
+    }
+
+    @Getter
+    @Setter
+    public static class EmbeddingCache {
+
+        /**
+         * Whether vectors of already embedded texts (per model and dimensions) are served from cache.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of vectors kept in off-heap memory.
+         */
+        private int maxEntries = 100_000;
+
+        /**
+         * Binary file persisting vectors across runs (null for memory only).
+         */
+        private Path file;
+    }
+
+    @Getter
+    @Setter
+    public static class ReferenceCache {
+
+        /**
+         * Whether claims, statements and entities extracted from sample references are reused across runs.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of artifacts kept in memory.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Append-only file persisting artifacts across runs (null for memory only).
+         */
+        private Path file;
+
+        /**
+         * Key prefix; change it to invalidate all stored artifacts.
+         */
+        private String namespace;
+    }
+
+    @Getter
+    @Setter
+    public static class SharedDecomposition {
+
+        /**
+         * Whether Faithfulness, NoiseSensitivity and FactualCorrectness decompose each response once per model.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of decompositions kept; should cover the samples evaluated concurrently.
+         */
+        private int maxEntries = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Timeouts {
+
+        /**
+         * Maximum duration of a single model call (null for no limit).
+         */
+        private Duration callTimeout;
+
+        /**
+         * Per-model call timeouts keyed by model ID, overriding the default.
+         */
+        private Map<String, Duration> models = new HashMap<>();
+
+        /**
+         * Budget of one metric evaluation shared by all of its steps (null for no limit).
+         */
+        private Duration evaluationTimeout;
+
+        /**
+         * Per-metric evaluation budgets keyed by metric name, overriding the default.
+         */
+        private Map<String, Duration> metrics = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * Whether LLM calls slower than the model's latency percentile are duplicated.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Latency percentile of the model after which a hedged request is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Lower bound of the hedge delay.
+         */
+        private Duration minDelay = Duration.ofMillis(100);
+
+        /**
+         * Maximum share of calls that may be hedged.
+         */
+        private double maxHedgeRatio = 0.1;
+
+        /**
+         * Number of recorded latencies a model needs before its calls are hedged.
+         */
+        private int minSamples = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * Whether LLM calls failing with a rate limit, server error or timeout are retried.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of calls sent for one request, including the first one.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Delay before the first retry.
+         */
+        private Duration initialBackoff = Duration.ofMillis(500);
+
+        /**
+         * Upper bound of the delay between attempts; a longer Retry-After ends the retries.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(20);
+
+        /**
+         * Growth factor of the delay per retry.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * Randomized share of the delay in [0, 1].
+         */
+        private double jitter = 0.5;
+
+        /**
+         * Whether a response that cannot be parsed is asked again once with a note on the expected format.
+         */
+        private boolean repairParseErrors = false;
+    }
 }
@@ -6,10 +6,21 @@ import static org.mockito.Mockito.mock;
 import ai.qa.solutions.chatclient.ChatClientStore;
 import ai.qa.solutions.embedding.EmbeddingModelStore;
 import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.batching.EmbeddingMicroBatcher;
+import ai.qa.solutions.execution.cache.EmbeddingCache;
+import ai.qa.solutions.execution.cache.LlmResponseCache;
+import ai.qa.solutions.execution.concurrency.BoundedAsyncTaskExecutor;
+import ai.qa.solutions.properties.MultiProviderProperties;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -17,6 +28,7 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @DisplayName("MultiModelExecutorAutoconfiguration Tests")
 class MultiModelExecutorAutoconfigurationTest {
@@ -102,6 +114,184 @@ class MultiModelExecutorAutoconfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Virtual Threads")
+    class VirtualThreads {
+
+        @Test
+        @DisplayName("Should use thread pools by default")
+        void shouldUseThreadPoolsByDefault() {
+            contextRunner.withUserConfiguration(FullDependenciesConfig.class).run(context -> {
+                assertThat(context.getBean("ragasMetricExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+                assertThat(context.getBean("ragasHttpExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+            });
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        @DisplayName("Should run tasks on virtual threads when enabled on Java 21+")
+        void shouldUseVirtualThreadsWhenEnabled() {
+            contextRunner
+                    .withPropertyValues(
+                            "spring.ai.ragas.metrics.executor.virtual-threads=true",
+                            "spring.ai.ragas.metrics.executor.http-concurrency-limit=16")
+                    .withUserConfiguration(FullDependenciesConfig.class)
+                    .run(context -> {
+                        BoundedAsyncTaskExecutor httpExecutor =
+                                context.getBean("ragasHttpExecutor", BoundedAsyncTaskExecutor.class);
+                        assertThat(httpExecutor.getConcurrencyLimit()).isEqualTo(16);
+                        assertThat(context.getBean("ragasMetricExecutor")).isInstanceOf(BoundedAsyncTaskExecutor.class);
+
+                        // Thread#isVirtual is resolved reflectively to keep the sources Java 17 compatible
+                        Method isVirtual = Thread.class.getMethod("isVirtual");
+                        Boolean virtual = httpExecutor
+                                .submitCompletable(() -> (Boolean) isVirtual.invoke(Thread.currentThread()))
+                                .get(5, TimeUnit.SECONDS);
+                        assertThat(virtual).isTrue();
+                    });
+        }
+
+        @Test
+        @EnabledForJreRange(max = JRE.JAVA_20)
+        @DisplayName("Should fall back to thread pools when virtual threads are unsupported")
+        void shouldFallBackBeforeJava21() {
+            contextRunner
+                    .withPropertyValues("spring.ai.ragas.metrics.executor.virtual-threads=true")
+                    .withUserConfiguration(FullDependenciesConfig.class)
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(MultiModelExecutor.class);
+                        assertThat(context.getBean("ragasMetricExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+                        assertThat(context.getBean("ragasHttpExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("Response Cache")
+    class ResponseCache {
+
+        @Test
+        @DisplayName("Should not create response cache by default")
+        void shouldNotCreateCacheByDefault() {
+            contextRunner.withUserConfiguration(FullDependenciesConfig.class).run(context -> {
+                assertThat(context).doesNotHaveBean(LlmResponseCache.class);
+                assertThat(context).hasSingleBean(MultiModelExecutor.class);
+            });
+        }
+
+        @Test
+        @DisplayName("Should create response cache when enabled")
+        void shouldCreateCacheWhenEnabled() {
+            contextRunner
+                    .withPropertyValues(
+                            "spring.ai.ragas.metrics.cache.enabled=true",
+                            "spring.ai.ragas.metrics.cache.max-entries=5")
+                    .withUserConfiguration(FullDependenciesConfig.class)
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(LlmResponseCache.class);
+                        assertThat(context).hasSingleBean(MultiModelExecutor.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("Should fingerprint configured model options with defaults as fallback")
+        void shouldFingerprintModelOptions() {
+            // Given
+            MultiProviderProperties providerProperties = new MultiProviderProperties();
+            MultiProviderProperties.ModelOptions options = new MultiProviderProperties.ModelOptions();
+            options.setTemperature(0.7);
+            MultiProviderProperties.ModelConfig model = new MultiProviderProperties.ModelConfig();
+            model.setId("creative-model");
+            model.setOptions(options);
+            providerProperties.getDefaultProvider().getModels().add(model);
+
+            // When
+            Function<String, String> fingerprint =
+                    MultiModelExecutorAutoconfiguration.optionsFingerprint(providerProperties);
+
+            // Then
+            assertThat(fingerprint.apply("creative-model")).isEqualTo("temperature=0.7,maxTokens=1000,topP=1.0");
+            assertThat(fingerprint.apply("unknown-model")).isEqualTo("temperature=0.0,maxTokens=1000,topP=1.0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Embedding Cache")
+    class EmbeddingCacheConfiguration {
+
+        @Test
+        @DisplayName("Should create embedding cache only when enabled")
+        void shouldCreateEmbeddingCacheWhenEnabled() {
+            contextRunner.withUserConfiguration(FullDependenciesConfig.class).run(context -> {
+                assertThat(context).doesNotHaveBean(EmbeddingCache.class);
+            });
+            contextRunner
+                    .withPropertyValues("spring.ai.ragas.metrics.embedding-cache.enabled=true")
+                    .withUserConfiguration(FullDependenciesConfig.class)
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(EmbeddingCache.class);
+                        assertThat(context).hasSingleBean(MultiModelExecutor.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("Should resolve configured embedding dimensions with defaults as fallback")
+        void shouldResolveEmbeddingDimensions() {
+            // Given
+            MultiProviderProperties providerProperties = new MultiProviderProperties();
+            MultiProviderProperties.OpenAiCompatibleProvider provider =
+                    new MultiProviderProperties.OpenAiCompatibleProvider();
+            MultiProviderProperties.EmbeddingModelConfig large = new MultiProviderProperties.EmbeddingModelConfig();
+            large.setId("large");
+            large.setDimensions(3072);
+            MultiProviderProperties.EmbeddingModelConfig small = new MultiProviderProperties.EmbeddingModelConfig();
+            small.setId("small");
+            provider.getEmbeddingModels().add(large);
+            provider.getEmbeddingModels().add(small);
+            providerProperties.getOpenaiCompatible().add(provider);
+
+            // When
+            Function<String, Integer> dimensions =
+                    MultiModelExecutorAutoconfiguration.embeddingDimensions(providerProperties);
+
+            // Then
+            assertThat(dimensions.apply("large")).isEqualTo(3072);
+            assertThat(dimensions.apply("small")).isEqualTo(1024);
+            assertThat(dimensions.apply("auto-detected")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Embedding Micro-Batching")
+    class EmbeddingMicroBatching {
+
+        @Test
+        @DisplayName("Should not create micro-batcher by default")
+        void shouldNotCreateMicroBatcherByDefault() {
+            contextRunner.withUserConfiguration(FullDependenciesConfig.class).run(context -> {
+                assertThat(context).doesNotHaveBean(EmbeddingMicroBatcher.class);
+            });
+        }
+
+        @Test
+        @DisplayName("Should create micro-batcher with per-model settings when enabled")
+        void shouldCreateMicroBatcherWithPerModelSettings() {
+            contextRunner
+                    .withPropertyValues(
+                            "spring.ai.ragas.metrics.embedding-batch.micro-batching.enabled=true",
+                            "spring.ai.ragas.metrics.embedding-batch.micro-batching.window=20ms",
+                            "spring.ai.ragas.metrics.embedding-batch.micro-batching.models.embed-1.max-batch-size=8")
+                    .withUserConfiguration(FullDependenciesConfig.class)
+                    .run(context -> {
+                        EmbeddingMicroBatcher batcher = context.getBean(EmbeddingMicroBatcher.class);
+                        assertThat(batcher.settingsFor("embed-1"))
+                                .isEqualTo(new EmbeddingMicroBatcher.Settings(Duration.ofMillis(20), 8));
+                        assertThat(batcher.settingsFor("other").maxBatchSize()).isEqualTo(64);
+                        assertThat(context).hasSingleBean(MultiModelExecutor.class);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("Bean Dependencies")
     class BeanDependencies {
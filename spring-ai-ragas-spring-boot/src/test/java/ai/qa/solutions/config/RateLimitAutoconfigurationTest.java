@@ -67,6 +67,26 @@ class RateLimitAutoconfigurationTest {
                     });
         }
 
+        @Test
+        @DisplayName("Should create token-limited registry from provider TPM budget")
+        void shouldCreateTokenLimitedRegistryFromProviderTpm() {
+            contextRunner
+                    .withUserConfiguration(MockConfig.class)
+                    .withPropertyValues(
+                            "spring.ai.ragas.providers.auto-detect-beans=false",
+                            "spring.ai.ragas.providers.openai-compatible[0].name=openrouter",
+                            "spring.ai.ragas.providers.openai-compatible[0].base-url=https://openrouter.ai/api",
+                            "spring.ai.ragas.providers.openai-compatible[0].api-key=test-key",
+                            "spring.ai.ragas.providers.openai-compatible[0].rate-limit.tpm=200000",
+                            "spring.ai.ragas.providers.openai-compatible[0].chat-models[0].id=claude-3.5-sonnet")
+                    .run(context -> {
+                        // TPM alone is enough to enable rate limiting for the provider
+                        final ProviderRateLimiterRegistry registry =
+                                context.getBean(ProviderRateLimiterRegistry.class);
+                        assertThat(registry.isTokenLimited("claude-3.5-sonnet")).isTrue();
+                    });
+        }
+
         @Test
         @DisplayName("Should not create registry when no rate limit configured")
         void shouldNotCreateRegistryWhenNoRateLimitConfigured() {
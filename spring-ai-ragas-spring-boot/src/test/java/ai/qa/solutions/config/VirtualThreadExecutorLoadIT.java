@@ -0,0 +1,191 @@
+package ai.qa.solutions.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.qa.solutions.chatclient.ChatClientStore;
+import ai.qa.solutions.execution.ModelResult;
+import ai.qa.solutions.execution.MultiModelExecutor;
+import ai.qa.solutions.execution.concurrency.BoundedAsyncTaskExecutor;
+import ai.qa.solutions.properties.RagasMetricsProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Load test comparing the thread-pool and virtual-thread executor modes.
+ * <p>
+ * Runs 1000 concurrent two-step evaluations against a fake {@link ChatModel} with a fixed
+ * latency, through the executors and the {@link MultiModelExecutor} of
+ * {@link MultiModelExecutorAutoconfiguration}. Each step is chained on the previous one, so
+ * the next LLM call is submitted from the HTTP thread that finished the first. The thread pools
+ * reject work once their queues are full, while the virtual-thread executors are wrapped in
+ * {@link BoundedAsyncTaskExecutor}: they queue every evaluation, never block the submitting
+ * thread and never run more model calls at once than the HTTP concurrency limit.
+ */
+@Slf4j
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Virtual Thread Executor Load Test")
+class VirtualThreadExecutorLoadIT {
+
+    private static final int CONCURRENT_EVALUATIONS = 1000;
+    private static final Duration MODEL_LATENCY = Duration.ofMillis(50);
+
+    @Test
+    @DisplayName("Virtual threads should complete 1k concurrent evaluations with higher throughput")
+    void virtualThreadsShouldOutperformThreadPools() throws Exception {
+        final LoadResult pooled = runLoad(false);
+        final LoadResult virtual = runLoad(true);
+
+        log.info("Thread pools:    {}", pooled);
+        log.info("Virtual threads: {}", virtual);
+
+        final int httpConcurrencyLimit = new RagasMetricsProperties().getExecutor().getHttpConcurrencyLimit();
+        assertThat(virtual.succeeded()).isEqualTo(CONCURRENT_EVALUATIONS);
+        assertThat(virtual.failed()).isZero();
+        assertThat(virtual.peakModelCalls()).isLessThanOrEqualTo(httpConcurrencyLimit);
+        assertThat(virtual.throughput()).isGreaterThan(pooled.throughput());
+    }
+
+    private LoadResult runLoad(final boolean virtualThreads) throws Exception {
+        final RagasMetricsProperties properties = new RagasMetricsProperties();
+        properties.getExecutor().setVirtualThreads(virtualThreads);
+
+        final MultiModelExecutorAutoconfiguration configuration = new MultiModelExecutorAutoconfiguration();
+        final AsyncTaskExecutor metricExecutor = configuration.ragasMetricExecutor(properties);
+        final AsyncTaskExecutor httpExecutor = configuration.ragasHttpExecutor(properties);
+        if (virtualThreads) {
+            assertThat(httpExecutor).isInstanceOf(BoundedAsyncTaskExecutor.class);
+        }
+        final FakeChatModel model = new FakeChatModel(MODEL_LATENCY);
+        final ChatClient client = ChatClient.create(model);
+        final MultiModelExecutor executor = configuration.multiModelExecutor(
+                properties,
+                new ChatClientStore(Map.of("model-1", client), client),
+                null,
+                metricExecutor,
+                httpExecutor,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+
+        try {
+            final AtomicInteger failed = new AtomicInteger();
+            final List<CompletableFuture<Boolean>> evaluations = new ArrayList<>();
+            final long start = System.nanoTime();
+            for (int i = 0; i < CONCURRENT_EVALUATIONS; i++) {
+                final String prompt = "Evaluate sample " + i;
+                try {
+                    // Same shape as an LLM metric: a metric task chaining two sequential LLM steps
+                    evaluations.add(executor.runAsync(() -> prompt)
+                            .thenCompose(p -> executor.executeLlmAsync(List.of("model-1"), p, Verdict.class))
+                            .thenCompose(first -> isSuccess(first)
+                                    ? executor.executeLlmAsync(List.of("model-1"), prompt, Verdict.class)
+                                    : CompletableFuture.completedFuture(first))
+                            .thenApply(VirtualThreadExecutorLoadIT::isSuccess));
+                } catch (final RuntimeException e) {
+                    failed.incrementAndGet();
+                }
+            }
+
+            int succeeded = 0;
+            for (final CompletableFuture<Boolean> evaluation : evaluations) {
+                try {
+                    if (evaluation.get(2, TimeUnit.MINUTES)) {
+                        succeeded++;
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                } catch (final Exception e) {
+                    failed.incrementAndGet();
+                }
+            }
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return new LoadResult(virtualThreads, succeeded, failed.get(), model.getPeakCalls(), elapsed);
+        } finally {
+            shutdown(metricExecutor);
+            shutdown(httpExecutor);
+        }
+    }
+
+    private static boolean isSuccess(final List<ModelResult<Verdict>> results) {
+        return !results.isEmpty() && results.stream().allMatch(ModelResult::isSuccess);
+    }
+
+    private static void shutdown(final AsyncTaskExecutor executor) throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    record Verdict(Integer score) {}
+
+    record LoadResult(boolean virtualThreads, int succeeded, int failed, int peakModelCalls, Duration elapsed) {
+
+        double throughput() {
+            return succeeded * 1000.0 / Math.max(1, elapsed.toMillis());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%d succeeded, %d failed in %d ms (%.1f evaluations/s, peak %d model calls)",
+                    succeeded, failed, elapsed.toMillis(), throughput(), peakModelCalls);
+        }
+    }
+
+    /**
+     * Chat model answering every prompt with the same JSON after a fixed latency, recording the
+     * highest number of calls in flight at once.
+     */
+    static class FakeChatModel implements ChatModel {
+
+        private final Duration latency;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakCalls = new AtomicInteger();
+
+        FakeChatModel(final Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public ChatResponse call(final Prompt prompt) {
+            peakCalls.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("{\"score\": 1}"))));
+        }
+
+        int getPeakCalls() {
+            return peakCalls.get();
+        }
+    }
+}
@@ -52,6 +52,44 @@ class RagasMetricsPropertiesTest {
             RagasMetricsProperties properties = new RagasMetricsProperties();
             assertThat(properties.getLogging().getChartHeight()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("Should have virtual threads disabled by default")
+        void shouldHaveVirtualThreadsDisabled() {
+            RagasMetricsProperties properties = new RagasMetricsProperties();
+            assertThat(properties.getExecutor().isVirtualThreads()).isFalse();
+            assertThat(properties.getExecutor().getMetricConcurrencyLimit()).isEqualTo(1024);
+            assertThat(properties.getExecutor().getHttpConcurrencyLimit()).isEqualTo(256);
+            assertThat(properties.getExecutor().isSingleFlight()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should have no timeouts by default")
+        void shouldHaveNoTimeoutsByDefault() {
+            RagasMetricsProperties properties = new RagasMetricsProperties();
+            assertThat(properties.getTimeouts().getCallTimeout()).isNull();
+            assertThat(properties.getTimeouts().getEvaluationTimeout()).isNull();
+            assertThat(properties.getTimeouts().getModels()).isEmpty();
+            assertThat(properties.getTimeouts().getMetrics()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should have hedging disabled by default")
+        void shouldHaveHedgingDisabledByDefault() {
+            RagasMetricsProperties properties = new RagasMetricsProperties();
+            assertThat(properties.getHedging().isEnabled()).isFalse();
+            assertThat(properties.getHedging().getPercentile()).isEqualTo(0.95);
+            assertThat(properties.getHedging().getMaxHedgeRatio()).isEqualTo(0.1);
+        }
+
+        @Test
+        @DisplayName("Should have retries disabled by default")
+        void shouldHaveRetriesDisabledByDefault() {
+            RagasMetricsProperties properties = new RagasMetricsProperties();
+            assertThat(properties.getRetry().isEnabled()).isFalse();
+            assertThat(properties.getRetry().getMaxAttempts()).isEqualTo(3);
+            assertThat(properties.getRetry().isRepairParseErrors()).isFalse();
+        }
     }
 
     @Nested